@@ -230,6 +230,8 @@ public class DefaultSyncServiceFactory implements SyncServiceFactory {
               syncPreImportBlockChannel,
               syncConfig.getForwardSyncBatchSize(),
               syncConfig.getForwardSyncMaxPendingBatches(),
+              syncConfig.getForwardSyncExecutionPayloadLookAhead(),
+              syncConfig.isForwardSyncThroughputAwareEnabled(),
               syncConfig.getForwardSyncMaxBlocksPerMinute(),
               syncConfig.getForwardSyncMaxBlobSidecarsPerMinute(),
               syncConfig.getForwardSyncMaxDistanceFromHead(),
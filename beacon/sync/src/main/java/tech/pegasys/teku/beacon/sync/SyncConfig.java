@@ -27,6 +27,8 @@ public class SyncConfig {
   public static final int DEFAULT_HISTORICAL_SYNC_BATCH_SIZE = 50;
   public static final int DEFAULT_FORWARD_SYNC_BATCH_SIZE = 25;
   public static final int DEFAULT_FORWARD_SYNC_MAX_PENDING_BATCHES = 5;
+  public static final int DEFAULT_FORWARD_SYNC_EXECUTION_PAYLOAD_LOOK_AHEAD = 0;
+  public static final boolean DEFAULT_FORWARD_SYNC_THROUGHPUT_AWARE_ENABLED = false;
 
   /**
    * Must be >= FORWARD_SYNC_BATCH_SIZE * FORWARD_SYNC_MAX_PENDING_BATCHES to avoid evicting
@@ -46,6 +48,8 @@ public class SyncConfig {
   private final int historicalSyncBatchSize;
   private final int forwardSyncBatchSize;
   private final int forwardSyncMaxPendingBatches;
+  private final int forwardSyncExecutionPayloadLookAhead;
+  private final boolean forwardSyncThroughputAwareEnabled;
   private final int forwardSyncMaxBlocksPerMinute;
   private final int forwardSyncMaxBlobSidecarsPerMinute;
   private final int maxRecentlySampledBlocks;
@@ -59,6 +63,8 @@ public class SyncConfig {
       final int historicalSyncBatchSize,
       final int forwardSyncBatchSize,
       final int forwardSyncMaxPendingBatches,
+      final int forwardSyncExecutionPayloadLookAhead,
+      final boolean forwardSyncThroughputAwareEnabled,
       final int forwardSyncMaxBlocksPerMinute,
       final int forwardSyncMaxBlobSidecarsPerMinute,
       final int maxRecentlySampledBlocks,
@@ -70,6 +76,8 @@ public class SyncConfig {
     this.historicalSyncBatchSize = historicalSyncBatchSize;
     this.forwardSyncBatchSize = forwardSyncBatchSize;
     this.forwardSyncMaxPendingBatches = forwardSyncMaxPendingBatches;
+    this.forwardSyncExecutionPayloadLookAhead = forwardSyncExecutionPayloadLookAhead;
+    this.forwardSyncThroughputAwareEnabled = forwardSyncThroughputAwareEnabled;
     this.forwardSyncMaxBlocksPerMinute = forwardSyncMaxBlocksPerMinute;
     this.forwardSyncMaxBlobSidecarsPerMinute = forwardSyncMaxBlobSidecarsPerMinute;
     this.maxRecentlySampledBlocks = maxRecentlySampledBlocks;
@@ -108,6 +116,14 @@ public class SyncConfig {
     return forwardSyncMaxPendingBatches;
   }
 
+  public int getForwardSyncExecutionPayloadLookAhead() {
+    return forwardSyncExecutionPayloadLookAhead;
+  }
+
+  public boolean isForwardSyncThroughputAwareEnabled() {
+    return forwardSyncThroughputAwareEnabled;
+  }
+
   public int getForwardSyncMaxBlocksPerMinute() {
     return forwardSyncMaxBlocksPerMinute;
   }
@@ -132,6 +148,10 @@ public class SyncConfig {
     private Integer historicalSyncBatchSize = DEFAULT_HISTORICAL_SYNC_BATCH_SIZE;
     private Integer forwardSyncBatchSize = DEFAULT_FORWARD_SYNC_BATCH_SIZE;
     private Integer forwardSyncMaxPendingBatches = DEFAULT_FORWARD_SYNC_MAX_PENDING_BATCHES;
+    private Integer forwardSyncExecutionPayloadLookAhead =
+        DEFAULT_FORWARD_SYNC_EXECUTION_PAYLOAD_LOOK_AHEAD;
+    private Boolean forwardSyncThroughputAwareEnabled =
+        DEFAULT_FORWARD_SYNC_THROUGHPUT_AWARE_ENABLED;
     private Integer forwardSyncMaxBlocksPerMinute = DEFAULT_FORWARD_SYNC_MAX_BLOCKS_PER_MINUTE;
     private Integer forwardSyncMaxBlobSidecarsPerMinute =
         DEFAULT_FORWARD_SYNC_MAX_BLOB_SIDECARS_PER_MINUTE;
@@ -150,6 +170,8 @@ public class SyncConfig {
           historicalSyncBatchSize,
           forwardSyncBatchSize,
           forwardSyncMaxPendingBatches,
+          forwardSyncExecutionPayloadLookAhead,
+          forwardSyncThroughputAwareEnabled,
           forwardSyncMaxBlocksPerMinute,
           forwardSyncMaxBlobSidecarsPerMinute,
           maxRecentlySampledBlocks,
@@ -199,6 +221,20 @@ public class SyncConfig {
       return this;
     }
 
+    public Builder forwardSyncExecutionPayloadLookAhead(
+        final Integer forwardSyncExecutionPayloadLookAhead) {
+      checkNotNull(forwardSyncExecutionPayloadLookAhead);
+      this.forwardSyncExecutionPayloadLookAhead = forwardSyncExecutionPayloadLookAhead;
+      return this;
+    }
+
+    public Builder forwardSyncThroughputAwareEnabled(
+        final Boolean forwardSyncThroughputAwareEnabled) {
+      checkNotNull(forwardSyncThroughputAwareEnabled);
+      this.forwardSyncThroughputAwareEnabled = forwardSyncThroughputAwareEnabled;
+      return this;
+    }
+
     public Builder forwardSyncMaxDistanceFromHead(final Integer forwardSyncMaxDistanceFromHead) {
       if (forwardSyncMaxDistanceFromHead == null) {
         this.forwardSyncMaxDistanceFromHead = OptionalInt.empty();
@@ -71,8 +71,8 @@ public class BatchDataRequester {
         i < maxPendingBatches && nextBatchStart.isLessThanOrEqualTo(targetSlot);
         i++) {
       final UInt64 remainingSlots = targetSlot.minus(nextBatchStart).plus(1);
-      final UInt64 count = remainingSlots.min(batchSize);
-      final Batch batch = batchFactory.createBatch(targetChain, nextBatchStart, count);
+      final Batch batch =
+          batchFactory.createNextBatch(targetChain, nextBatchStart, batchSize, remainingSlots);
       activeBatches.add(batch);
       requestMoreBlocks(batch, requestCompleteCallback);
       nextBatchStart = batch.getLastSlot().plus(1);
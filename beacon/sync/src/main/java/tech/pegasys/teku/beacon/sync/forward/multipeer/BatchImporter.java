@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.beacon.sync.forward.multipeer;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 
 import java.util.ArrayList;
@@ -43,16 +44,30 @@ public class BatchImporter {
   private final BlockBlobSidecarsTrackersPool blockBlobSidecarsTrackersPool;
   private final ExecutionPayloadManager executionPayloadManager;
   private final AsyncRunner asyncRunner;
+  private final int executionPayloadLookAhead;
 
+  /**
+   * Creates a batch importer.
+   *
+   * @param executionPayloadLookAhead the number of blocks after the one being imported whose
+   *     execution payloads may already have been sent to the execution layer, or 0 to send each
+   *     payload only when its block is imported
+   */
   public BatchImporter(
       final BlockImporter blockImporter,
       final BlockBlobSidecarsTrackersPool blockBlobSidecarsTrackersPool,
       final ExecutionPayloadManager executionPayloadManager,
-      final AsyncRunner asyncRunner) {
+      final AsyncRunner asyncRunner,
+      final int executionPayloadLookAhead) {
+    checkArgument(
+        executionPayloadLookAhead >= 0,
+        "Execution payload look-ahead must not be negative but was %s",
+        executionPayloadLookAhead);
     this.blockImporter = blockImporter;
     this.blockBlobSidecarsTrackersPool = blockBlobSidecarsTrackersPool;
     this.executionPayloadManager = executionPayloadManager;
     this.asyncRunner = asyncRunner;
+    this.executionPayloadLookAhead = executionPayloadLookAhead;
   }
 
   /**
@@ -60,6 +75,11 @@ public class BatchImporter {
    *
    * <p>Guaranteed to return immediately and perform the import on worker threads.
    *
+   * <p>Blocks are always imported one at a time and in order. If execution payload look-ahead is
+   * enabled, the payloads of the following blocks are sent to the execution layer in order while
+   * earlier blocks are still being imported, and each block uses the result for its payload when
+   * it is imported.
+   *
    * @param batch the batch to import
    * @return a future reporting the result of the import
    */
@@ -76,6 +96,8 @@ public class BatchImporter {
     checkState(!blocks.isEmpty(), "Batch has no blocks to import");
     return asyncRunner.runAsync(
         () -> {
+          final ExecutionPayloadSubmitter payloadSubmitter = new ExecutionPayloadSubmitter(blocks);
+          payloadSubmitter.submitAheadOf(0);
           final SignedBeaconBlock firstBlock = blocks.getFirst();
           SafeFuture<SingleImportResult> importResult =
               importBlock(
@@ -84,11 +106,13 @@ public class BatchImporter {
                   executionPayloadsByBlockRoot,
                   source.orElseThrow());
           for (int i = 1; i < blocks.size(); i++) {
+            final int blockIndex = i;
             final SignedBeaconBlock block = blocks.get(i);
             importResult =
                 importResult.thenCompose(
                     previousResult -> {
                       if (previousResult.isSuccessful()) {
+                        payloadSubmitter.submitAheadOf(blockIndex);
                         return importBlock(
                             block,
                             blobSidecarsByBlockRoot,
@@ -99,22 +123,24 @@ public class BatchImporter {
                       }
                     });
           }
-          return importResult.thenApply(
-              lastImportResult -> {
-                if (lastImportResult.isSuccessful()) {
-                  return BatchImportResult.IMPORTED_ALL_BLOCKS;
-                } else if (lastImportResult.failedPayloadExecution()) {
-                  return BatchImportResult.EXECUTION_CLIENT_OFFLINE;
-                } else if (lastImportResult.dataNotAvailable) {
-                  return BatchImportResult.DATA_NOT_AVAILABLE;
-                }
-                LOG.debug(
-                    "Failed to import batch {}: {}",
-                    batch,
-                    lastImportResult.failureReason(),
-                    lastImportResult.failureCause().orElse(null));
-                return BatchImportResult.IMPORT_FAILED;
-              });
+          return importResult
+              .alwaysRun(payloadSubmitter::discardUnused)
+              .thenApply(
+                  lastImportResult -> {
+                    if (lastImportResult.isSuccessful()) {
+                      return BatchImportResult.IMPORTED_ALL_BLOCKS;
+                    } else if (lastImportResult.failedPayloadExecution()) {
+                      return BatchImportResult.EXECUTION_CLIENT_OFFLINE;
+                    } else if (lastImportResult.dataNotAvailable) {
+                      return BatchImportResult.DATA_NOT_AVAILABLE;
+                    }
+                    LOG.debug(
+                        "Failed to import batch {}: {}",
+                        batch,
+                        lastImportResult.failureReason(),
+                        lastImportResult.failureCause().orElse(null));
+                    return BatchImportResult.IMPORT_FAILED;
+                  });
         });
   }
 
@@ -188,6 +214,42 @@ public class BatchImporter {
             });
   }
 
+  /**
+   * Sends the execution payloads of a batch's blocks to the execution layer in block order, staying
+   * at most {@link #executionPayloadLookAhead} blocks ahead of the block being imported.
+   */
+  private class ExecutionPayloadSubmitter {
+    private final List<SignedBeaconBlock> blocks;
+    private SafeFuture<Void> previousSubmission = SafeFuture.COMPLETE;
+    private int nextBlockIndex = 0;
+
+    private ExecutionPayloadSubmitter(final List<SignedBeaconBlock> blocks) {
+      this.blocks = blocks;
+    }
+
+    /** Called before the block at {@code blockIndex} is imported. */
+    void submitAheadOf(final int blockIndex) {
+      if (executionPayloadLookAhead == 0) {
+        return;
+      }
+      final int lastBlockIndex =
+          Math.min(blockIndex + executionPayloadLookAhead, blocks.size() - 1);
+      while (nextBlockIndex <= lastBlockIndex) {
+        previousSubmission =
+            blockImporter.submitExecutionPayloadAhead(
+                blocks.get(nextBlockIndex), previousSubmission);
+        nextBlockIndex++;
+      }
+    }
+
+    /** Drops results which were not used because the batch stopped before their block. */
+    void discardUnused() {
+      if (nextBlockIndex > 0) {
+        blockImporter.discardExecutionPayloadsSubmittedAhead(blocks.subList(0, nextBlockIndex));
+      }
+    }
+  }
+
   public record SingleImportResult(
       boolean isSuccessful,
       boolean failedPayloadExecution,
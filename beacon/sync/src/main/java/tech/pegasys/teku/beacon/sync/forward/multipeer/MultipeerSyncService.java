@@ -22,8 +22,10 @@ import tech.pegasys.teku.beacon.sync.forward.ForwardSyncService;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.Sync.SyncProgress;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.batches.BatchFactory;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.batches.PeerScoringConflictResolutionStrategy;
+import tech.pegasys.teku.beacon.sync.forward.multipeer.batches.ThroughputAwareSourceSelector;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.PeerChainTracker;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.SyncSourceFactory;
+import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.SyncSourceThroughputMetrics;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.TargetChains;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
@@ -39,6 +41,7 @@ import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.p2p.network.P2PNetwork;
 import tech.pegasys.teku.service.serviceutils.Service;
 import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.config.NetworkingSpecConfigDeneb;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.statetransition.blobs.BlobSidecarManager;
 import tech.pegasys.teku.statetransition.blobs.BlockBlobSidecarsTrackersPool;
@@ -82,11 +85,30 @@ public class MultipeerSyncService extends Service implements ForwardSyncService
       final SyncPreImportBlockChannel syncPreImportBlockChannel,
       final int batchSize,
       final int maxPendingBatches,
+      final int executionPayloadLookAhead,
+      final boolean throughputAwareEnabled,
       final int maxBlocksPerMinute,
       final int maxBlobSidecarsPerMinute,
       final OptionalInt maxDistanceFromHeadReached,
       final Spec spec) {
     final EventThread eventThread = new AsyncRunnerEventThread("sync", asyncRunnerFactory);
+    final Optional<ThroughputAwareSourceSelector> throughputAwareSourceSelector;
+    final Optional<SyncSourceThroughputMetrics> throughputMetrics;
+    final int maxBatchSize;
+    if (throughputAwareEnabled) {
+      final int maxRequestBlocks =
+          spec.getNetworkingConfigDeneb()
+              .map(NetworkingSpecConfigDeneb::getMaxRequestBlocksDeneb)
+              .orElse(spec.getNetworkingConfig().getMaxRequestBlocks());
+      maxBatchSize =
+          ThroughputAwareSourceSelector.calculateMaxBatchSize(batchSize, maxRequestBlocks);
+      throughputAwareSourceSelector = Optional.of(new ThroughputAwareSourceSelector(maxBatchSize));
+      throughputMetrics = Optional.of(new SyncSourceThroughputMetrics(metricsSystem));
+    } else {
+      maxBatchSize = batchSize;
+      throughputAwareSourceSelector = Optional.empty();
+      throughputMetrics = Optional.empty();
+    }
     final SettableLabelledGauge targetChainCountGauge =
         SettableLabelledGauge.create(
             metricsSystem,
@@ -103,9 +125,17 @@ public class MultipeerSyncService extends Service implements ForwardSyncService
             asyncRunner,
             recentChainData,
             new BatchImporter(
-                blockImporter, blockBlobSidecarsTrackersPool, executionPayloadManager, asyncRunner),
+                blockImporter,
+                blockBlobSidecarsTrackersPool,
+                executionPayloadManager,
+                asyncRunner,
+                executionPayloadLookAhead),
             new BatchFactory(
-                eventThread, spec, blobSidecarManager, new PeerScoringConflictResolutionStrategy()),
+                eventThread,
+                spec,
+                blobSidecarManager,
+                new PeerScoringConflictResolutionStrategy(),
+                throughputAwareSourceSelector),
             batchSize,
             maxPendingBatches,
             MultipeerCommonAncestorFinder.create(
@@ -131,7 +161,12 @@ public class MultipeerSyncService extends Service implements ForwardSyncService
             eventThread,
             p2pNetwork,
             new SyncSourceFactory(
-                asyncRunner, timeProvider, batchSize, maxBlocksPerMinute, maxBlobSidecarsPerMinute),
+                asyncRunner,
+                timeProvider,
+                maxBatchSize,
+                maxBlocksPerMinute,
+                maxBlobSidecarsPerMinute,
+                throughputMetrics),
             finalizedTargetChains,
             nonfinalizedTargetChains);
     peerChainTracker.subscribeToTargetChainUpdates(syncController::onTargetChainsUpdated);
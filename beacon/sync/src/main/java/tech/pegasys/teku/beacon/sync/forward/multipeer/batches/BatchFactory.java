@@ -13,9 +13,11 @@
 
 package tech.pegasys.teku.beacon.sync.forward.multipeer.batches;
 
+import java.util.Optional;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.TargetChain;
 import tech.pegasys.teku.infrastructure.async.eventthread.EventThread;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.peers.SyncSource;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.statetransition.blobs.BlobSidecarManager;
 
@@ -25,21 +27,73 @@ public class BatchFactory {
   private final Spec spec;
   private final BlobSidecarManager blobSidecarManager;
   private final ConflictResolutionStrategy conflictResolutionStrategy;
+  private final Optional<ThroughputAwareSourceSelector> throughputAwareSourceSelector;
 
   public BatchFactory(
       final EventThread eventThread,
       final Spec spec,
       final BlobSidecarManager blobSidecarManager,
       final ConflictResolutionStrategy conflictResolutionStrategy) {
+    this(eventThread, spec, blobSidecarManager, conflictResolutionStrategy, Optional.empty());
+  }
+
+  public BatchFactory(
+      final EventThread eventThread,
+      final Spec spec,
+      final BlobSidecarManager blobSidecarManager,
+      final ConflictResolutionStrategy conflictResolutionStrategy,
+      final Optional<ThroughputAwareSourceSelector> throughputAwareSourceSelector) {
     this.eventThread = eventThread;
     this.spec = spec;
     this.blobSidecarManager = blobSidecarManager;
     this.conflictResolutionStrategy = conflictResolutionStrategy;
+    this.throughputAwareSourceSelector = throughputAwareSourceSelector;
+  }
+
+  /**
+   * Creates the next batch to request from {@code chain}, covering at most {@code remainingSlots}.
+   *
+   * <p>When throughput aware selection is enabled, the sync source is selected up front so the
+   * batch can be sized according to that source's observed throughput. Otherwise the batch covers
+   * {@code batchSize} slots and a random source is selected when blocks are first requested.
+   */
+  public Batch createNextBatch(
+      final TargetChain chain,
+      final UInt64 start,
+      final UInt64 batchSize,
+      final UInt64 remainingSlots) {
+    if (throughputAwareSourceSelector.isEmpty()) {
+      return createBatch(chain, start, remainingSlots.min(batchSize));
+    }
+    eventThread.checkOnEventThread();
+    final ThroughputAwareSourceSelector selector = throughputAwareSourceSelector.get();
+    final Optional<SyncSource> source = selector.selectSource(chain);
+    final UInt64 count =
+        source
+            .map(selectedSource -> selector.getBatchSize(chain, selectedSource, batchSize))
+            .orElse(batchSize)
+            .min(remainingSlots);
+    return createBatch(chain, start, count, source);
   }
 
   public Batch createBatch(final TargetChain chain, final UInt64 start, final UInt64 count) {
     eventThread.checkOnEventThread();
-    final SyncSourceSelector syncSourceProvider = chain::selectRandomPeer;
+    return createBatch(chain, start, count, Optional.empty());
+  }
+
+  private Batch createBatch(
+      final TargetChain chain,
+      final UInt64 start,
+      final UInt64 count,
+      final Optional<SyncSource> initialSource) {
+    final SyncSourceSelector chainSourceSelector =
+        throughputAwareSourceSelector
+            .<SyncSourceSelector>map(selector -> () -> selector.selectSource(chain))
+            .orElse(chain::selectRandomPeer);
+    final SyncSourceSelector syncSourceProvider =
+        initialSource.isPresent()
+            ? new InitialSyncSourceSelector(initialSource, chainSourceSelector)
+            : chainSourceSelector;
     return new EventThreadOnlyBatch(
         eventThread,
         new SyncSourceBatch(
@@ -52,4 +106,26 @@ public class BatchFactory {
             start,
             count));
   }
+
+  /** Returns the source selected when the batch was created, then falls back to the chain. */
+  private static class InitialSyncSourceSelector implements SyncSourceSelector {
+    private Optional<SyncSource> initialSource;
+    private final SyncSourceSelector fallback;
+
+    private InitialSyncSourceSelector(
+        final Optional<SyncSource> initialSource, final SyncSourceSelector fallback) {
+      this.initialSource = initialSource;
+      this.fallback = fallback;
+    }
+
+    @Override
+    public Optional<SyncSource> selectSource() {
+      if (initialSource.isPresent()) {
+        final Optional<SyncSource> source = initialSource;
+        initialSource = Optional.empty();
+        return source;
+      }
+      return fallback.selectSource();
+    }
+  }
 }
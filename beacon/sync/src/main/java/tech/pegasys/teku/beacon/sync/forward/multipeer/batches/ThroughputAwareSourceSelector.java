@@ -0,0 +1,118 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.forward.multipeer.batches;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Random;
+import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.SyncSourceThroughput;
+import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.TargetChain;
+import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.ThrottlingSyncSource;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.peers.SyncSource;
+
+/**
+ * Selects sync sources with a probability proportional to their observed throughput and sizes
+ * batches to match, so faster peers are given more and larger batches.
+ *
+ * <p>Sources which have not yet completed a request are treated as having the mean throughput of
+ * the measured sources so that they are tried. Every source keeps a small minimum weight so a peer
+ * which was slow once is still occasionally selected and can recover.
+ */
+public class ThroughputAwareSourceSelector {
+  static final double MIN_WEIGHT_RATIO = 0.05;
+
+  private final UInt64 maxBatchSize;
+  private final Random random;
+
+  public ThroughputAwareSourceSelector(final int maxBatchSize) {
+    this(maxBatchSize, new Random());
+  }
+
+  @VisibleForTesting
+  ThroughputAwareSourceSelector(final int maxBatchSize, final Random random) {
+    this.maxBatchSize = UInt64.valueOf(maxBatchSize);
+    this.random = random;
+  }
+
+  /**
+   * Calculates the largest batch which may be requested from a single source. Batches may grow to
+   * twice the configured size but never beyond the number of blocks a peer will serve in one
+   * request.
+   */
+  public static int calculateMaxBatchSize(final int batchSize, final int maxRequestBlocks) {
+    return Math.max(batchSize, Math.min(batchSize * 2, maxRequestBlocks));
+  }
+
+  public Optional<SyncSource> selectSource(final TargetChain chain) {
+    final List<SyncSource> sources = new ArrayList<>(chain.getPeers());
+    if (sources.isEmpty()) {
+      return Optional.empty();
+    }
+    final double defaultThroughput = getMeanThroughput(sources).orElse(1d);
+    final double minWeight = defaultThroughput * MIN_WEIGHT_RATIO;
+    final double[] weights = new double[sources.size()];
+    double totalWeight = 0;
+    for (int i = 0; i < sources.size(); i++) {
+      weights[i] = Math.max(minWeight, getThroughput(sources.get(i)).orElse(defaultThroughput));
+      totalWeight += weights[i];
+    }
+    double remainingWeight = random.nextDouble() * totalWeight;
+    for (int i = 0; i < sources.size(); i++) {
+      remainingWeight -= weights[i];
+      if (remainingWeight < 0) {
+        return Optional.of(sources.get(i));
+      }
+    }
+    return Optional.of(sources.getLast());
+  }
+
+  /**
+   * Scales {@code batchSize} by the ratio of the source's throughput to the mean throughput of the
+   * sources on the chain, within a quarter of the batch size and the maximum batch size.
+   */
+  public UInt64 getBatchSize(
+      final TargetChain chain, final SyncSource source, final UInt64 batchSize) {
+    final Optional<Double> sourceThroughput = getThroughput(source);
+    final OptionalDouble meanThroughput = getMeanThroughput(chain.getPeers());
+    if (sourceThroughput.isEmpty()
+        || meanThroughput.isEmpty()
+        || meanThroughput.getAsDouble() <= 0) {
+      return batchSize;
+    }
+    final long scaledBatchSize =
+        Math.round(batchSize.longValue() * sourceThroughput.get() / meanThroughput.getAsDouble());
+    final UInt64 minBatchSize = batchSize.dividedBy(4).max(UInt64.ONE);
+    return UInt64.valueOf(scaledBatchSize).max(minBatchSize).min(maxBatchSize.max(batchSize));
+  }
+
+  private static OptionalDouble getMeanThroughput(final Collection<SyncSource> sources) {
+    return sources.stream()
+        .map(ThroughputAwareSourceSelector::getThroughput)
+        .flatMap(Optional::stream)
+        .mapToDouble(Double::doubleValue)
+        .average();
+  }
+
+  private static Optional<Double> getThroughput(final SyncSource source) {
+    if (source instanceof ThrottlingSyncSource throttlingSyncSource) {
+      return throttlingSyncSource.getThroughput().flatMap(SyncSourceThroughput::getBytesPerSecond);
+    }
+    return Optional.empty();
+  }
+}
@@ -29,6 +29,7 @@ public class SyncSourceFactory {
   private final int batchSize;
   private final int maxBlocksPerMinute;
   private final int maxBlobSidecarsPerMinute;
+  private final Optional<SyncSourceThroughputMetrics> throughputMetrics;
 
   private final Map<Eth2Peer, SyncSource> syncSourcesByPeer = new HashMap<>();
 
@@ -37,12 +38,14 @@ public class SyncSourceFactory {
       final TimeProvider timeProvider,
       final int batchSize,
       final int maxBlocksPerMinute,
-      final int maxBlobSidecarsPerMinute) {
+      final int maxBlobSidecarsPerMinute,
+      final Optional<SyncSourceThroughputMetrics> throughputMetrics) {
     this.asyncRunner = asyncRunner;
     this.timeProvider = timeProvider;
     this.batchSize = batchSize;
     this.maxBlocksPerMinute = maxBlocksPerMinute;
     this.maxBlobSidecarsPerMinute = maxBlobSidecarsPerMinute;
+    this.throughputMetrics = throughputMetrics;
   }
 
   public SyncSource getOrCreateSyncSource(final Eth2Peer peer, final Spec spec) {
@@ -69,7 +72,8 @@ public class SyncSourceFactory {
                 maybeMaxBlobsPerBlock,
                 maybeMaxBlobSidecarsPerMinute,
                 maybeMaxDataColumnSidecarsPerMinute,
-                maybeMaxExecutionPayloadEnvelopesPerMinute));
+                maybeMaxExecutionPayloadEnvelopesPerMinute,
+                throughputMetrics.map(SyncSourceThroughput::new)));
   }
 
   public void onPeerDisconnected(final Eth2Peer peer) {
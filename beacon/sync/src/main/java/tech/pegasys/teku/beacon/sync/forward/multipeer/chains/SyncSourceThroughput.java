@@ -0,0 +1,76 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.forward.multipeer.chains;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Tracks an exponentially weighted moving average of the throughput and latency observed for
+ * requests made to a single sync source, both overall and per RPC method.
+ */
+public class SyncSourceThroughput {
+  public static final String BLOCKS_BY_RANGE = "blocks_by_range";
+  public static final String BLOB_SIDECARS_BY_RANGE = "blob_sidecars_by_range";
+  public static final String DATA_COLUMN_SIDECARS_BY_RANGE = "data_column_sidecars_by_range";
+  public static final String EXECUTION_PAYLOAD_ENVELOPES_BY_RANGE =
+      "execution_payload_envelopes_by_range";
+
+  static final double SMOOTHING_FACTOR = 0.3;
+
+  private final SyncSourceThroughputMetrics metrics;
+  private Optional<Double> bytesPerSecond = Optional.empty();
+  private final Map<String, Double> bytesPerSecondByMethod = new HashMap<>();
+  private final Map<String, Double> latencyMillisByMethod = new HashMap<>();
+
+  public SyncSourceThroughput(final SyncSourceThroughputMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * Records a completed request.
+   *
+   * @param method the RPC method the request was made with
+   * @param bytes the total SSZ size of the responses received
+   * @param latencyMillis the time until the first response was received
+   * @param durationMillis the time until the request completed
+   */
+  public synchronized void recordRequest(
+      final String method, final long bytes, final long latencyMillis, final long durationMillis) {
+    final double sample = bytes * 1000d / Math.max(1, durationMillis);
+    bytesPerSecond =
+        Optional.of(bytesPerSecond.map(current -> average(current, sample)).orElse(sample));
+    bytesPerSecondByMethod.merge(method, sample, SyncSourceThroughput::average);
+    latencyMillisByMethod.merge(method, (double) latencyMillis, SyncSourceThroughput::average);
+    metrics.recordRequest(method, sample, latencyMillis);
+  }
+
+  /** Returns the average throughput across all methods or empty if no request has completed. */
+  public synchronized Optional<Double> getBytesPerSecond() {
+    return bytesPerSecond;
+  }
+
+  public synchronized Optional<Double> getBytesPerSecond(final String method) {
+    return Optional.ofNullable(bytesPerSecondByMethod.get(method));
+  }
+
+  public synchronized Optional<Double> getLatencyMillis(final String method) {
+    return Optional.ofNullable(latencyMillisByMethod.get(method));
+  }
+
+  private static double average(final double current, final double sample) {
+    return current + SMOOTHING_FACTOR * (sample - current);
+  }
+}
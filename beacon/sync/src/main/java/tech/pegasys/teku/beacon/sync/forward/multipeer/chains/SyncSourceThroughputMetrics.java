@@ -0,0 +1,56 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.forward.multipeer.chains;
+
+import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.LIBP2P;
+
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Histogram;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+
+/**
+ * Records the throughput and latency of each request made to sync sources. Samples are labelled by
+ * RPC method rather than by peer to keep the number of series bounded as peers come and go.
+ */
+public class SyncSourceThroughputMetrics {
+  private static final double[] BYTES_PER_SECOND_BUCKETS =
+      new double[] {16_384, 131_072, 524_288, 1_048_576, 4_194_304, 16_777_216, 67_108_864};
+  private static final double[] LATENCY_BUCKETS =
+      new double[] {0.01, 0.05, 0.1, 0.25, 0.5, 1.0, 2.5, 5.0, 10.0, 30.0};
+
+  private final LabelledMetric<Histogram> throughput;
+  private final LabelledMetric<Histogram> latency;
+
+  public SyncSourceThroughputMetrics(final MetricsSystem metricsSystem) {
+    this.throughput =
+        metricsSystem.createLabelledHistogram(
+            LIBP2P,
+            "sync_source_throughput_bytes_per_second",
+            "Throughput of requests made to sync sources",
+            BYTES_PER_SECOND_BUCKETS,
+            "method");
+    this.latency =
+        metricsSystem.createLabelledHistogram(
+            LIBP2P,
+            "sync_source_latency_seconds",
+            "Time until the first response was received for requests made to sync sources",
+            LATENCY_BUCKETS,
+            "method");
+  }
+
+  void recordRequest(final String method, final double bytesPerSecond, final long latencyMillis) {
+    throughput.labels(method).observe(bytesPerSecond);
+    latency.labels(method).observe(latencyMillis / 1000d);
+  }
+}
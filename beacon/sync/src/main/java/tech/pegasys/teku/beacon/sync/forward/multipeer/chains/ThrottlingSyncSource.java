@@ -18,10 +18,13 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.RateTracker;
@@ -41,7 +44,9 @@ public class ThrottlingSyncSource implements SyncSource {
   public static final Duration PEER_REQUEST_DELAY = Duration.ofSeconds(3);
 
   private final AsyncRunner asyncRunner;
+  private final TimeProvider timeProvider;
   private final SyncSource delegate;
+  private final Optional<SyncSourceThroughput> maybeThroughput;
 
   private final RateTracker blocksRateTracker;
   private final Optional<Integer> maybeMaxBlobsPerBlock;
@@ -57,9 +62,12 @@ public class ThrottlingSyncSource implements SyncSource {
       final Optional<Integer> maybeMaxBlobsPerBlock,
       final Optional<Integer> maybeMaxBlobSidecarsPerMinute,
       final Optional<Integer> maybeMaxDataColumnSidecarsPerMinute,
-      final Optional<Integer> maybeMaxExecutionPayloadEnvelopesPerMinute) {
+      final Optional<Integer> maybeMaxExecutionPayloadEnvelopesPerMinute,
+      final Optional<SyncSourceThroughput> maybeThroughput) {
     this.asyncRunner = asyncRunner;
+    this.timeProvider = timeProvider;
     this.delegate = delegate;
+    this.maybeThroughput = maybeThroughput;
     this.blocksRateTracker =
         RateTracker.create(maxBlocksPerMinute, TIMEOUT_SECONDS, timeProvider, "throttling-blocks");
     this.maybeMaxBlobsPerBlock = maybeMaxBlobsPerBlock;
@@ -107,8 +115,11 @@ public class ThrottlingSyncSource implements SyncSource {
               LOG.debug("Sending request for {} blocks", count);
               final RpcResponseListenerWithCount<SignedBeaconBlock> listenerWithCount =
                   new RpcResponseListenerWithCount<>(listener);
-              return delegate
-                  .requestBlocksByRange(startSlot, count, listenerWithCount)
+              return requestMeasured(
+                      SyncSourceThroughput.BLOCKS_BY_RANGE,
+                      listenerWithCount,
+                      measuredListener ->
+                          delegate.requestBlocksByRange(startSlot, count, measuredListener))
                   .alwaysRun(
                       () ->
                           // adjust for slots with empty blocks
@@ -137,8 +148,11 @@ public class ThrottlingSyncSource implements SyncSource {
               LOG.debug("Sending request for approximately {} blob sidecars", blobSidecarsCount);
               final RpcResponseListenerWithCount<BlobSidecar> listenerWithCount =
                   new RpcResponseListenerWithCount<>(listener);
-              return delegate
-                  .requestBlobSidecarsByRange(startSlot, count, listenerWithCount)
+              return requestMeasured(
+                      SyncSourceThroughput.BLOB_SIDECARS_BY_RANGE,
+                      listenerWithCount,
+                      measuredListener ->
+                          delegate.requestBlobSidecarsByRange(startSlot, count, measuredListener))
                   .alwaysRun(
                       () ->
                           // adjust for slots with empty blocks and slots with blobs <
@@ -166,7 +180,12 @@ public class ThrottlingSyncSource implements SyncSource {
     final long maxColumnsSidecarsCount = count.times(columns.size()).longValue();
     if (dataColumnSidecarsRateTracker.generateRequestKey(maxColumnsSidecarsCount).isPresent()) {
       LOG.debug("Sending request for {} data column sidecars on {} columns", count, columns.size());
-      return delegate.requestDataColumnSidecarsByRange(startSlot, count, columns, listener);
+      return requestMeasured(
+          SyncSourceThroughput.DATA_COLUMN_SIDECARS_BY_RANGE,
+          listener,
+          measuredListener ->
+              delegate.requestDataColumnSidecarsByRange(
+                  startSlot, count, columns, measuredListener));
     } else {
       return asyncRunner.runAfterDelay(
           () -> requestDataColumnSidecarsByRange(startSlot, count, columns, listener),
@@ -186,8 +205,12 @@ public class ThrottlingSyncSource implements SyncSource {
               LOG.debug("Sending request for {} execution payload envelopes", count);
               final RpcResponseListenerWithCount<SignedExecutionPayloadEnvelope> listenerWithCount =
                   new RpcResponseListenerWithCount<>(listener);
-              return delegate
-                  .requestExecutionPayloadEnvelopesByRange(startSlot, count, listenerWithCount)
+              return requestMeasured(
+                      SyncSourceThroughput.EXECUTION_PAYLOAD_ENVELOPES_BY_RANGE,
+                      listenerWithCount,
+                      measuredListener ->
+                          delegate.requestExecutionPayloadEnvelopesByRange(
+                              startSlot, count, measuredListener))
                   .alwaysRun(
                       () ->
                           // adjust for slots with NO execution payload envelopes
@@ -206,6 +229,26 @@ public class ThrottlingSyncSource implements SyncSource {
             });
   }
 
+  /** Returns the throughput observed for this source, if throughput is being measured. */
+  public Optional<SyncSourceThroughput> getThroughput() {
+    return maybeThroughput;
+  }
+
+  private <T extends SszData> SafeFuture<Void> requestMeasured(
+      final String method,
+      final RpcResponseListener<T> listener,
+      final Function<RpcResponseListener<T>, SafeFuture<Void>> request) {
+    if (maybeThroughput.isEmpty()) {
+      return request.apply(listener);
+    }
+    final SyncSourceThroughput throughput = maybeThroughput.get();
+    final RpcResponseListenerWithThroughput<T> measuredListener =
+        new RpcResponseListenerWithThroughput<>(listener, timeProvider);
+    return request
+        .apply(measuredListener)
+        .whenComplete((__, error) -> measuredListener.record(throughput, method, error));
+  }
+
   @Override
   public SafeFuture<Void> disconnectCleanly(final DisconnectReason reason) {
     return delegate.disconnectCleanly(reason);
@@ -238,4 +281,43 @@ public class ThrottlingSyncSource implements SyncSource {
       return delegate.onResponse(response);
     }
   }
+
+  private static class RpcResponseListenerWithThroughput<T extends SszData>
+      implements RpcResponseListener<T> {
+
+    private final RpcResponseListener<T> delegate;
+    private final TimeProvider timeProvider;
+    private final long startTimeMillis;
+    private final AtomicInteger count = new AtomicInteger(0);
+    private final AtomicLong bytes = new AtomicLong(0);
+    private volatile long firstResponseTimeMillis = -1;
+
+    private RpcResponseListenerWithThroughput(
+        final RpcResponseListener<T> delegate, final TimeProvider timeProvider) {
+      this.delegate = delegate;
+      this.timeProvider = timeProvider;
+      this.startTimeMillis = timeProvider.getTimeInMillis().longValue();
+    }
+
+    @Override
+    public SafeFuture<?> onResponse(final T response) {
+      if (count.getAndIncrement() == 0) {
+        firstResponseTimeMillis = timeProvider.getTimeInMillis().longValue();
+      }
+      bytes.addAndGet(response.getSchema().getSszSize(response.getBackingNode()));
+      return delegate.onResponse(response);
+    }
+
+    private void record(
+        final SyncSourceThroughput throughput, final String method, final Throwable error) {
+      if (error == null && count.get() == 0) {
+        // An empty range tells us nothing about how quickly the peer can serve data
+        return;
+      }
+      final long endTimeMillis = timeProvider.getTimeInMillis().longValue();
+      final long latencyMillis =
+          (firstResponseTimeMillis < 0 ? endTimeMillis : firstResponseTimeMillis) - startTimeMillis;
+      throughput.recordRequest(method, bytes.get(), latencyMillis, endTimeMillis - startTimeMillis);
+    }
+  }
 }
@@ -15,6 +15,7 @@ package tech.pegasys.teku.beacon.sync.forward.multipeer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -65,7 +66,7 @@ class BatchImporterTest {
 
   private final BatchImporter importer =
       new BatchImporter(
-          blockImporter, blockBlobSidecarsTrackersPool, executionPayloadManager, asyncRunner);
+          blockImporter, blockBlobSidecarsTrackersPool, executionPayloadManager, asyncRunner, 0);
 
   @BeforeEach
   public void setup() {
@@ -113,6 +114,47 @@ class BatchImporterTest {
     verifyNoMoreInteractions(batch);
   }
 
+  @Test
+  void shouldSubmitExecutionPayloadsAheadOfImport() {
+    final BatchImporter lookAheadImporter =
+        new BatchImporter(
+            blockImporter, blockBlobSidecarsTrackersPool, executionPayloadManager, asyncRunner, 1);
+    final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
+    final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
+    final SignedBeaconBlock block3 = dataStructureUtil.randomSignedBeaconBlock(3);
+    final SafeFuture<BlockImportResult> importResult1 = new SafeFuture<>();
+    final SafeFuture<BlockImportResult> importResult2 = new SafeFuture<>();
+    final SafeFuture<BlockImportResult> importResult3 = new SafeFuture<>();
+    final SafeFuture<Void> submitted1 = new SafeFuture<>();
+    final SafeFuture<Void> submitted2 = new SafeFuture<>();
+    final List<SignedBeaconBlock> blocks = new ArrayList<>(List.of(block1, block2, block3));
+    when(batch.getBlocks()).thenReturn(blocks);
+    when(blockImporter.importBlock(block1)).thenReturn(importResult1);
+    when(blockImporter.importBlock(block2)).thenReturn(importResult2);
+    when(blockImporter.importBlock(block3)).thenReturn(importResult3);
+    when(blockImporter.submitExecutionPayloadAhead(block1, SafeFuture.COMPLETE))
+        .thenReturn(submitted1);
+    when(blockImporter.submitExecutionPayloadAhead(block2, submitted1)).thenReturn(submitted2);
+    when(blockImporter.submitExecutionPayloadAhead(block3, submitted2))
+        .thenReturn(new SafeFuture<>());
+
+    final SafeFuture<BatchImportResult> result = lookAheadImporter.importBatch(batch);
+    asyncRunner.executeQueuedActions();
+
+    // The payload of the next block is sent while the first block is imported
+    ignoreFuture(verify(blockImporter).submitExecutionPayloadAhead(block1, SafeFuture.COMPLETE));
+    ignoreFuture(verify(blockImporter).submitExecutionPayloadAhead(block2, submitted1));
+    ignoreFuture(verify(blockImporter, never()).submitExecutionPayloadAhead(eq(block3), any()));
+    blockImportedSuccessfully(block1, importResult1);
+
+    ignoreFuture(verify(blockImporter).submitExecutionPayloadAhead(block3, submitted2));
+    blockImportedSuccessfully(block2, importResult2);
+    blockImportedSuccessfully(block3, importResult3);
+
+    assertThat(result).isCompletedWithValue(BatchImportResult.IMPORTED_ALL_BLOCKS);
+    verify(blockImporter).discardExecutionPayloadsSubmittedAhead(blocks);
+  }
+
   @Test
   void shouldImportBlobSidecarsAndBlocksInOrder() {
     final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
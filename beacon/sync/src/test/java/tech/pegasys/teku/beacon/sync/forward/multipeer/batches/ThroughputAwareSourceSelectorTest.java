@@ -0,0 +1,194 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.forward.multipeer.batches;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static tech.pegasys.teku.beacon.sync.forward.multipeer.chains.SyncSourceThroughput.BLOCKS_BY_RANGE;
+import static tech.pegasys.teku.beacon.sync.forward.multipeer.chains.TargetChainTestUtil.chainWith;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.SyncSourceThroughput;
+import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.SyncSourceThroughputMetrics;
+import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.TargetChain;
+import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.ThrottlingSyncSource;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.peers.SyncSource;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+
+class ThroughputAwareSourceSelectorTest {
+  private static final UInt64 BATCH_SIZE = UInt64.valueOf(20);
+  private static final int MAX_BATCH_SIZE = 40;
+  private static final long BLOCK_SIZE_BYTES = 100_000;
+
+  private final SyncSourceThroughputMetrics metrics =
+      new SyncSourceThroughputMetrics(new NoOpMetricsSystem());
+  private final ThroughputAwareSourceSelector selector =
+      new ThroughputAwareSourceSelector(MAX_BATCH_SIZE, new Random(1));
+
+  @Test
+  void shouldNotSelectSourceWhenChainHasNoPeers() {
+    assertThat(selector.selectSource(createChain())).isEmpty();
+  }
+
+  @Test
+  void shouldUseDefaultBatchSizeForUnmeasuredSources() {
+    final ThrottlingSyncSource measured = createSource();
+    final ThrottlingSyncSource unmeasured = createSource();
+    recordThroughput(measured, 1_000_000);
+    final TargetChain chain = createChain(measured, unmeasured);
+
+    assertThat(selector.getBatchSize(chain, unmeasured, BATCH_SIZE)).isEqualTo(BATCH_SIZE);
+  }
+
+  @Test
+  void shouldScaleBatchSizeByRelativeThroughput() {
+    final ThrottlingSyncSource fast = createSource();
+    final ThrottlingSyncSource slow = createSource();
+    recordThroughput(fast, 1_500_000);
+    recordThroughput(slow, 500_000);
+    final TargetChain chain = createChain(fast, slow);
+
+    assertThat(selector.getBatchSize(chain, fast, BATCH_SIZE)).isEqualTo(UInt64.valueOf(30));
+    assertThat(selector.getBatchSize(chain, slow, BATCH_SIZE)).isEqualTo(UInt64.valueOf(10));
+  }
+
+  @Test
+  void shouldLimitBatchSizeToBounds() {
+    final ThrottlingSyncSource fast = createSource();
+    final ThrottlingSyncSource slow = createSource();
+    recordThroughput(fast, 10_000_000);
+    recordThroughput(slow, 1_000);
+    final TargetChain chain = createChain(fast, slow);
+
+    assertThat(selector.getBatchSize(chain, fast, BATCH_SIZE))
+        .isEqualTo(UInt64.valueOf(MAX_BATCH_SIZE));
+    assertThat(selector.getBatchSize(chain, slow, BATCH_SIZE)).isEqualTo(UInt64.valueOf(5));
+  }
+
+  @Test
+  void shouldNotLimitMaxBatchSizeBelowConfiguredBatchSize() {
+    assertThat(ThroughputAwareSourceSelector.calculateMaxBatchSize(50, 1024)).isEqualTo(100);
+    assertThat(ThroughputAwareSourceSelector.calculateMaxBatchSize(100, 128)).isEqualTo(128);
+    assertThat(ThroughputAwareSourceSelector.calculateMaxBatchSize(200, 128)).isEqualTo(200);
+  }
+
+  @Test
+  void shouldSelectSourcesProportionallyToThroughput() {
+    final ThrottlingSyncSource fast = createSource();
+    final ThrottlingSyncSource slow = createSource();
+    recordThroughput(fast, 3_000_000);
+    recordThroughput(slow, 1_000_000);
+    final TargetChain chain = createChain(fast, slow);
+
+    final Map<SyncSource, Integer> selections = new HashMap<>();
+    for (int i = 0; i < 4_000; i++) {
+      selections.merge(selector.selectSource(chain).orElseThrow(), 1, Integer::sum);
+    }
+
+    assertThat(selections.get(fast)).isBetween(2_800, 3_200);
+    assertThat(selections.get(slow)).isBetween(800, 1_200);
+  }
+
+  @Test
+  void shouldStillOccasionallySelectSourcesWithNoThroughput() {
+    final ThrottlingSyncSource working = createSource();
+    final ThrottlingSyncSource failing = createSource();
+    recordThroughput(working, 1_000_000);
+    recordThroughput(failing, 0);
+    final TargetChain chain = createChain(working, failing);
+
+    final Map<SyncSource, Integer> selections = new HashMap<>();
+    for (int i = 0; i < 2_000; i++) {
+      selections.merge(selector.selectSource(chain).orElseThrow(), 1, Integer::sum);
+    }
+
+    assertThat(selections.get(failing)).isPositive().isLessThan(200);
+  }
+
+  @Test
+  void shouldFinishSimulatedSyncFasterThanRandomFixedSizeBatches() {
+    // Peers which can serve 8MB/s, 2MB/s and 500KB/s respectively
+    final Map<ThrottlingSyncSource, Long> capacities = new HashMap<>();
+    final ThrottlingSyncSource fast = createSource();
+    final ThrottlingSyncSource medium = createSource();
+    final ThrottlingSyncSource slow = createSource();
+    capacities.put(fast, 8_000_000L);
+    capacities.put(medium, 2_000_000L);
+    capacities.put(slow, 500_000L);
+    final TargetChain chain = createChain(fast, medium, slow);
+    final long slotsToSync = 10_000;
+
+    final Map<SyncSource, Long> slotsBySource = new HashMap<>();
+    final Map<SyncSource, Long> batchesBySource = new HashMap<>();
+    final Map<SyncSource, Long> busyMillisBySource = new HashMap<>();
+    long remainingSlots = slotsToSync;
+    while (remainingSlots > 0) {
+      final ThrottlingSyncSource source =
+          (ThrottlingSyncSource) selector.selectSource(chain).orElseThrow();
+      final long count =
+          Math.min(remainingSlots, selector.getBatchSize(chain, source, BATCH_SIZE).longValue());
+      final long bytes = count * BLOCK_SIZE_BYTES;
+      final long durationMillis = bytes * 1000 / capacities.get(source);
+      source.getThroughput().orElseThrow().recordRequest(BLOCKS_BY_RANGE, bytes, 0, durationMillis);
+      slotsBySource.merge(source, count, Long::sum);
+      batchesBySource.merge(source, 1L, Long::sum);
+      busyMillisBySource.merge(source, durationMillis, Long::sum);
+      remainingSlots -= count;
+    }
+
+    // Peers download in parallel so the sync takes as long as the busiest peer
+    final long throughputAwareMillis =
+        busyMillisBySource.values().stream().mapToLong(Long::longValue).max().orElseThrow();
+    // Selecting peers uniformly gives each a third of the slots, leaving the slowest as the limit
+    final long uniformMillis = (slotsToSync / 3) * BLOCK_SIZE_BYTES * 1000 / capacities.get(slow);
+
+    assertThat(slotsBySource.get(fast)).isGreaterThan(slotsBySource.get(medium));
+    assertThat(slotsBySource.get(medium)).isGreaterThan(slotsBySource.get(slow));
+    assertThat(slotsBySource.get(fast) / (double) batchesBySource.get(fast))
+        .isGreaterThan(BATCH_SIZE.longValue());
+    assertThat(slotsBySource.get(slow) / (double) batchesBySource.get(slow))
+        .isLessThan(BATCH_SIZE.longValue());
+    assertThat(throughputAwareMillis).isLessThan(uniformMillis / 2);
+  }
+
+  private ThrottlingSyncSource createSource() {
+    return new ThrottlingSyncSource(
+        new StubAsyncRunner(),
+        StubTimeProvider.withTimeInSeconds(0),
+        mock(SyncSource.class),
+        1000,
+        Optional.empty(),
+        Optional.empty(),
+        Optional.empty(),
+        Optional.empty(),
+        Optional.of(new SyncSourceThroughput(metrics)));
+  }
+
+  private void recordThroughput(final ThrottlingSyncSource source, final long bytesPerSecond) {
+    source.getThroughput().orElseThrow().recordRequest(BLOCKS_BY_RANGE, bytesPerSecond, 0, 1000);
+  }
+
+  private TargetChain createChain(final SyncSource... sources) {
+    return chainWith(new SlotAndBlockRoot(UInt64.valueOf(1000), Bytes32.ZERO), sources);
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.forward.multipeer.chains;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static tech.pegasys.teku.beacon.sync.forward.multipeer.chains.SyncSourceThroughput.BLOB_SIDECARS_BY_RANGE;
+import static tech.pegasys.teku.beacon.sync.forward.multipeer.chains.SyncSourceThroughput.BLOCKS_BY_RANGE;
+import static tech.pegasys.teku.beacon.sync.forward.multipeer.chains.SyncSourceThroughput.SMOOTHING_FACTOR;
+
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.Test;
+
+class SyncSourceThroughputTest {
+
+  private final SyncSourceThroughput throughput =
+      new SyncSourceThroughput(new SyncSourceThroughputMetrics(new NoOpMetricsSystem()));
+
+  @Test
+  void shouldBeEmptyBeforeAnyRequestCompletes() {
+    assertThat(throughput.getBytesPerSecond()).isEmpty();
+    assertThat(throughput.getBytesPerSecond(BLOCKS_BY_RANGE)).isEmpty();
+    assertThat(throughput.getLatencyMillis(BLOCKS_BY_RANGE)).isEmpty();
+  }
+
+  @Test
+  void shouldUseFirstSampleAsInitialAverage() {
+    throughput.recordRequest(BLOCKS_BY_RANGE, 2_000, 50, 500);
+
+    assertThat(throughput.getBytesPerSecond()).contains(4_000d);
+    assertThat(throughput.getBytesPerSecond(BLOCKS_BY_RANGE)).contains(4_000d);
+    assertThat(throughput.getLatencyMillis(BLOCKS_BY_RANGE)).contains(50d);
+  }
+
+  @Test
+  void shouldMoveAverageTowardsNewSamples() {
+    throughput.recordRequest(BLOCKS_BY_RANGE, 1_000, 100, 1_000);
+    throughput.recordRequest(BLOCKS_BY_RANGE, 3_000, 300, 1_000);
+
+    final double expectedBytesPerSecond = 1_000 + SMOOTHING_FACTOR * 2_000;
+    final double expectedLatency = 100 + SMOOTHING_FACTOR * 200;
+    assertThat(throughput.getBytesPerSecond().orElseThrow())
+        .isCloseTo(expectedBytesPerSecond, within(0.001));
+    assertThat(throughput.getLatencyMillis(BLOCKS_BY_RANGE).orElseThrow())
+        .isCloseTo(expectedLatency, within(0.001));
+  }
+
+  @Test
+  void shouldTrackMethodsSeparately() {
+    throughput.recordRequest(BLOCKS_BY_RANGE, 1_000, 100, 1_000);
+    throughput.recordRequest(BLOB_SIDECARS_BY_RANGE, 5_000, 200, 1_000);
+
+    assertThat(throughput.getBytesPerSecond(BLOCKS_BY_RANGE)).contains(1_000d);
+    assertThat(throughput.getBytesPerSecond(BLOB_SIDECARS_BY_RANGE)).contains(5_000d);
+    assertThat(throughput.getLatencyMillis(BLOB_SIDECARS_BY_RANGE)).contains(200d);
+    assertThat(throughput.getBytesPerSecond().orElseThrow())
+        .isCloseTo(1_000 + SMOOTHING_FACTOR * 4_000, within(0.001));
+  }
+
+  @Test
+  void shouldTreatInstantRequestsAsTakingOneMillisecond() {
+    throughput.recordRequest(BLOCKS_BY_RANGE, 1_000, 0, 0);
+
+    assertThat(throughput.getBytesPerSecond()).contains(1_000_000d);
+  }
+}
@@ -16,13 +16,17 @@ package tech.pegasys.teku.beacon.sync.forward.multipeer.chains;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.async.FutureUtil.ignoreFuture;
 
+import java.util.List;
 import java.util.Optional;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.ThrottlingSyncSource.RpcResponseListenerWithCount;
@@ -33,9 +37,11 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.SyncSource;
 import tech.pegasys.teku.networking.p2p.peer.DisconnectReason;
 import tech.pegasys.teku.networking.p2p.rpc.RpcResponseListener;
+import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.epbs.versions.gloas.SignedExecutionPayloadEnvelope;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
 
 @SuppressWarnings("unchecked")
 class ThrottlingSyncSourceTest {
@@ -67,7 +73,8 @@ class ThrottlingSyncSourceTest {
           Optional.of(MAX_BLOBS_PER_BLOCK),
           Optional.of(MAX_BLOB_SIDECARS_PER_MINUTE),
           Optional.empty(),
-          Optional.of(MAX_EXECUTION_PAYLOAD_ENVELOPES_PER_MINUTE));
+          Optional.of(MAX_EXECUTION_PAYLOAD_ENVELOPES_PER_MINUTE),
+          Optional.empty());
 
   @BeforeEach
   void setup() {
@@ -322,4 +329,84 @@ class ThrottlingSyncSourceTest {
             .requestExecutionPayloadEnvelopesByRange(
                 eq(count), eq(count), any(RpcResponseListenerWithCount.class)));
   }
+
+  @Test
+  void shouldRecordThroughputOfBlocksByRangeRequests() {
+    final DataStructureUtil dataStructureUtil =
+        new DataStructureUtil(TestSpecFactory.createMinimalPhase0());
+    final List<SignedBeaconBlock> blocks =
+        List.of(
+            dataStructureUtil.randomSignedBeaconBlock(1),
+            dataStructureUtil.randomSignedBeaconBlock(2));
+    final SafeFuture<Void> response = new SafeFuture<>();
+    doAnswer(
+            invocationOnMock -> {
+              final RpcResponseListener<SignedBeaconBlock> listener =
+                  invocationOnMock.getArgument(2);
+              timeProvider.advanceTimeByMillis(100);
+              blocks.forEach(block -> ignoreFuture(listener.onResponse(block)));
+              timeProvider.advanceTimeByMillis(400);
+              return response;
+            })
+        .when(delegate)
+        .requestBlocksByRange(any(), any(), any());
+    final SyncSourceThroughput throughput =
+        new SyncSourceThroughput(new SyncSourceThroughputMetrics(new NoOpMetricsSystem()));
+    final ThrottlingSyncSource measuredSource = createSourceWithThroughput(throughput);
+
+    ignoreFuture(
+        measuredSource.requestBlocksByRange(UInt64.ONE, UInt64.valueOf(2), blocksListener));
+    assertThat(throughput.getBytesPerSecond()).isEmpty();
+
+    response.complete(null);
+
+    final long totalBytes = blocks.stream().mapToLong(block -> block.sszSerialize().size()).sum();
+    verify(blocksListener).onResponse(blocks.get(0));
+    verify(blocksListener).onResponse(blocks.get(1));
+    assertThat(throughput.getBytesPerSecond()).contains(totalBytes * 2d);
+    assertThat(throughput.getBytesPerSecond(SyncSourceThroughput.BLOCKS_BY_RANGE))
+        .contains(totalBytes * 2d);
+    assertThat(throughput.getLatencyMillis(SyncSourceThroughput.BLOCKS_BY_RANGE)).contains(100d);
+  }
+
+  @Test
+  void shouldNotRecordThroughputForEmptyResponses() {
+    doReturn(SafeFuture.COMPLETE).when(delegate).requestBlocksByRange(any(), any(), any());
+    final SyncSourceThroughput throughput =
+        new SyncSourceThroughput(new SyncSourceThroughputMetrics(new NoOpMetricsSystem()));
+    final ThrottlingSyncSource measuredSource = createSourceWithThroughput(throughput);
+
+    ignoreFuture(
+        measuredSource.requestBlocksByRange(UInt64.ONE, UInt64.valueOf(2), blocksListener));
+
+    assertThat(throughput.getBytesPerSecond()).isEmpty();
+  }
+
+  @Test
+  void shouldRecordZeroThroughputForFailedRequests() {
+    doReturn(SafeFuture.failedFuture(new RuntimeException("Oops")))
+        .when(delegate)
+        .requestBlocksByRange(any(), any(), any());
+    final SyncSourceThroughput throughput =
+        new SyncSourceThroughput(new SyncSourceThroughputMetrics(new NoOpMetricsSystem()));
+    final ThrottlingSyncSource measuredSource = createSourceWithThroughput(throughput);
+
+    ignoreFuture(
+        measuredSource.requestBlocksByRange(UInt64.ONE, UInt64.valueOf(2), blocksListener));
+
+    assertThat(throughput.getBytesPerSecond()).contains(0d);
+  }
+
+  private ThrottlingSyncSource createSourceWithThroughput(final SyncSourceThroughput throughput) {
+    return new ThrottlingSyncSource(
+        asyncRunner,
+        timeProvider,
+        delegate,
+        MAX_BLOCKS_PER_MINUTE,
+        Optional.of(MAX_BLOBS_PER_BLOCK),
+        Optional.of(MAX_BLOB_SIDECARS_PER_MINUTE),
+        Optional.empty(),
+        Optional.of(MAX_EXECUTION_PAYLOAD_ENVELOPES_PER_MINUTE),
+        Optional.of(throughput));
+  }
 }
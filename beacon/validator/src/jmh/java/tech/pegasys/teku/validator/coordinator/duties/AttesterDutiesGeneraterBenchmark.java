@@ -20,6 +20,8 @@ import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.BYTES32_TYPE
 import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.INTEGER_TYPE;
 import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.UINT64_TYPE;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import java.util.List;
@@ -44,8 +46,11 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.interop.GenesisStateBuilder;
+import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.bellatrix.BeaconStateBellatrix;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.bellatrix.MutableBeaconStateBellatrix;
+import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
 
 @Fork(1)
 @State(Scope.Thread)
@@ -128,6 +133,44 @@ public class AttesterDutiesGeneraterBenchmark {
     bh.consume(attesterDutiesFromIndicesAndState);
   }
 
+  @Benchmark
+  @Warmup(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10)
+  public void computeAttesterDutiesFirstQueryInEpoch(Blackhole bh) {
+    BeaconStateCache.getTransitionCaches(state).getCommitteeAssignments().clear();
+    final AttesterDuties attesterDutiesFromIndicesAndState = computeAttesterDuties();
+
+    bh.consume(attesterDutiesFromIndicesAndState);
+  }
+
+  /** The previous approach of building a map of assignments for each duties request. */
+  @Benchmark
+  @Warmup(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10)
+  public void computeAssignmentsWithPerRequestMap(Blackhole bh) {
+    final BeaconStateAccessors beaconStateAccessors = spec.atEpoch(epoch).beaconStateAccessors();
+    final int committeeCountPerSlot =
+        beaconStateAccessors.getCommitteeCountPerSlot(state, epoch).intValue();
+    final Int2ObjectMap<CommitteeAssignment> assignmentMap = new Int2ObjectOpenHashMap<>();
+    final UInt64 startSlot = spec.computeStartSlotAtEpoch(epoch);
+    for (int slotOffset = 0; slotOffset < spec.slotsPerEpoch(epoch); slotOffset++) {
+      final UInt64 slot = startSlot.plus(slotOffset);
+      for (int i = 0; i < committeeCountPerSlot; i++) {
+        final UInt64 committeeIndex = UInt64.valueOf(i);
+        final IntList committee =
+            beaconStateAccessors.getBeaconCommittee(state, slot, committeeIndex);
+        committee.forEach(
+            j -> assignmentMap.put(j, new CommitteeAssignment(committee, committeeIndex, slot)));
+      }
+    }
+    for (final int validatorIndex : validatorIndices) {
+      final CommitteeAssignment assignment = assignmentMap.get(validatorIndex);
+      if (assignment != null) {
+        bh.consume(assignment.committee().indexOf(validatorIndex));
+      }
+    }
+  }
+
   private AttesterDuties computeAttesterDuties() {
     return attesterDutiesGenerator.getAttesterDutiesFromIndicesAndState(
         state, epoch, validatorIndices, false);
@@ -30,6 +30,7 @@ public class BeaconRestApiConfig {
 
   public static final int DEFAULT_REST_API_PORT = 5051;
   public static final int DEFAULT_MAX_EVENT_QUEUE_SIZE = 250;
+  public static final long DEFAULT_MAX_PENDING_EVENT_BYTES = 32 * 1024 * 1024;
   public static final int DEFAULT_MAX_URL_LENGTH = 65535;
   public static final String DEFAULT_REST_API_INTERFACE = "127.0.0.1";
   public static final List<String> DEFAULT_REST_API_HOST_ALLOWLIST =
@@ -56,6 +57,7 @@ public class BeaconRestApiConfig {
   private final Eth1Address eth1DepositContractAddress;
   private final int maxUrlLength;
   private final int maxPendingEvents;
+  private final long maxPendingEventBytes;
   private final Optional<Integer> validatorThreads;
   private final boolean restApiVirtualThreadsEnabled;
   private final int restApiVirtualThreadsMaxConcurrentTasks;
@@ -71,6 +73,7 @@ public class BeaconRestApiConfig {
       final Eth1Address eth1DepositContractAddress,
       final int maxUrlLength,
       final int maxPendingEvents,
+      final long maxPendingEventBytes,
       final Optional<Integer> validatorThreads,
       final boolean beaconLivenessTrackingEnabled,
       final boolean getBlobsSidecarsDownloadEnabled,
@@ -87,6 +90,7 @@ public class BeaconRestApiConfig {
     this.eth1DepositContractAddress = eth1DepositContractAddress;
     this.maxUrlLength = maxUrlLength;
     this.maxPendingEvents = maxPendingEvents;
+    this.maxPendingEventBytes = maxPendingEventBytes;
     this.validatorThreads = validatorThreads;
     this.beaconLivenessTrackingEnabled = beaconLivenessTrackingEnabled;
     this.getBlobsSidecarsDownloadEnabled = getBlobsSidecarsDownloadEnabled;
@@ -143,6 +147,10 @@ public class BeaconRestApiConfig {
     return maxPendingEvents;
   }
 
+  public long getMaxPendingEventBytes() {
+    return maxPendingEventBytes;
+  }
+
   public int getMaxUrlLength() {
     return maxUrlLength;
   }
@@ -188,6 +196,7 @@ public class BeaconRestApiConfig {
     private List<String> restApiHostAllowlist = DEFAULT_REST_API_HOST_ALLOWLIST;
     private List<String> restApiCorsAllowedOrigins = DEFAULT_REST_API_CORS_ALLOWED_ORIGINS;
     private int maxPendingEvents = DEFAULT_MAX_EVENT_QUEUE_SIZE;
+    private long maxPendingEventBytes = DEFAULT_MAX_PENDING_EVENT_BYTES;
     private int maxUrlLength = DEFAULT_MAX_URL_LENGTH;
     private Optional<Integer> validatorThreads = Optional.empty();
     private boolean restApiVirtualThreadsEnabled = DEFAULT_REST_API_VIRTUAL_THREADS_ENABLED;
@@ -263,6 +272,15 @@ public class BeaconRestApiConfig {
       return this;
     }
 
+    public BeaconRestApiConfigBuilder maxPendingEventBytes(final long maxPendingEventBytes) {
+      if (maxPendingEventBytes <= 0) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid maxPendingEventBytes: %d", maxPendingEventBytes));
+      }
+      this.maxPendingEventBytes = maxPendingEventBytes;
+      return this;
+    }
+
     public BeaconRestApiConfigBuilder beaconLivenessTrackingEnabled(
         final boolean beaconLivenessTrackingEnabled) {
       this.beaconLivenessTrackingEnabled = beaconLivenessTrackingEnabled;
@@ -337,6 +355,7 @@ public class BeaconRestApiConfig {
           eth1DepositContractAddress,
           maxUrlLength,
           maxPendingEvents,
+          maxPendingEventBytes,
           validatorThreads,
           beaconLivenessTrackingEnabled,
           getBlobsSidecarsDownloadEnabled,
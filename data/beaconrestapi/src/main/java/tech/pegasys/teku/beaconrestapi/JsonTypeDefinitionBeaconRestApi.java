@@ -280,7 +280,8 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
                     eventChannels,
                     asyncRunner,
                     timeProvider,
-                    config.getMaxPendingEvents()))
+                    config.getMaxPendingEvents(),
+                    config.getMaxPendingEventBytes()))
             // Node Handlers
             .endpoint(new GetHealth(dataProvider))
             .endpoint(new GetIdentity(dataProvider, spec.getNetworkingConfig()))
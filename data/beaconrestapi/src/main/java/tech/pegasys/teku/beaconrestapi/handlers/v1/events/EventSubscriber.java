@@ -16,7 +16,8 @@ package tech.pegasys.teku.beaconrestapi.handlers.v1.events;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.base.Throwables;
 import io.javalin.http.sse.SseClient;
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Duration;
 import java.util.List;
 import java.util.Queue;
@@ -42,6 +43,12 @@ public class EventSubscriber {
   private final Queue<QueuedEvent> queuedEvents;
   private final TimeProvider timeProvider;
   private final int maxPendingEvents;
+  private final long maxPendingEventBytes;
+  // Tracked separately as ConcurrentLinkedQueue.size() has to walk the whole queue
+  private final AtomicInteger queuedEventCount = new AtomicInteger(0);
+  private final AtomicLong queuedEventBytes = new AtomicLong(0);
+  // Guards writes to the response so that comments are never interleaved with a batch of events
+  private final Object writeLock = new Object();
   private final AtomicBoolean processingQueue;
   private final AsyncRunner asyncRunner;
   private final AtomicLong excessiveQueueingDisconnectionTime = new AtomicLong(Long.MAX_VALUE);
@@ -53,11 +60,13 @@ public class EventSubscriber {
       final Runnable closeCallback,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
-      final int maxPendingEvents) {
+      final int maxPendingEvents,
+      final long maxPendingEventBytes) {
     this.eventTypes = EventType.getTopics(eventTypes);
     this.sseClient = sseClient;
     this.timeProvider = timeProvider;
     this.maxPendingEvents = maxPendingEvents;
+    this.maxPendingEventBytes = maxPendingEventBytes;
     this.queuedEvents = new ConcurrentLinkedQueue<>();
     this.processingQueue = new AtomicBoolean(false);
     this.asyncRunner = asyncRunner;
@@ -70,17 +79,18 @@ public class EventSubscriber {
     keepAlive();
   }
 
-  public void onEvent(final EventType eventType, final EventSource<?> message)
-      throws JsonProcessingException {
-    if (!eventTypes.contains(eventType)) {
+  public void onEvent(final EventSource<?> message) throws JsonProcessingException {
+    if (!eventTypes.contains(message.getEventType())) {
       return;
     }
-    final boolean queueSizeBelowLimit = queuedEvents.size() < maxPendingEvents;
+    final boolean queueSizeBelowLimit =
+        queuedEventCount.get() < maxPendingEvents
+            && queuedEventBytes.get() < maxPendingEventBytes;
     final long now = timeProvider.getTimeInMillis().longValue();
     final long queuingDisconnectTime = excessiveQueueingDisconnectionTime.get();
     if (queueSizeBelowLimit) {
       excessiveQueueingDisconnectionTime.set(Long.MAX_VALUE);
-      addEventToQueue(eventType, message);
+      addEventToQueue(message);
     } else if (queuingDisconnectTime <= now) {
       // Had excessive queuing for too long, disconnect.
       if (stopped.compareAndSet(false, true)) {
@@ -91,7 +101,7 @@ public class EventSubscriber {
       if (now + EXCESSIVE_QUEUING_TOLERANCE_MS < queuingDisconnectTime) {
         excessiveQueueingDisconnectionTime.set(now + EXCESSIVE_QUEUING_TOLERANCE_MS);
       }
-      addEventToQueue(eventType, message);
+      addEventToQueue(message);
     }
   }
 
@@ -101,12 +111,23 @@ public class EventSubscriber {
     sseClient.close();
   }
 
-  private void addEventToQueue(final EventType eventType, final EventSource<?> message)
-      throws JsonProcessingException {
-    queuedEvents.add(QueuedEvent.of(eventType, message.get()));
+  private void addEventToQueue(final EventSource<?> message) throws JsonProcessingException {
+    final QueuedEvent event = QueuedEvent.of(message.getEventType(), message.getSseFrame());
+    queuedEventCount.incrementAndGet();
+    queuedEventBytes.addAndGet(event.getSize());
+    queuedEvents.add(event);
     processEventQueue();
   }
 
+  private QueuedEvent pollQueuedEvent() {
+    final QueuedEvent event = queuedEvents.poll();
+    if (event != null) {
+      queuedEventCount.decrementAndGet();
+      queuedEventBytes.addAndGet(-event.getSize());
+    }
+    return event;
+  }
+
   public SseClient getSseClient() {
     return sseClient;
   }
@@ -121,15 +142,9 @@ public class EventSubscriber {
             () -> {
               LOG.trace(
                   "Processing queue with {} elements for event client {}",
-                  queuedEvents.size(),
-                  sseClient.hashCode());
-              QueuedEvent event = queuedEvents.poll();
-              while (event != null && !stopped.get()) {
-                sseClient.sendEvent(
-                    event.getEventType().name(),
-                    new ByteArrayInputStream(event.getMessageData().toArrayUnsafe()));
-                event = queuedEvents.poll();
-              }
+                  queuedEventCount::get,
+                  sseClient::hashCode);
+              writeQueuedEvents();
               successiveFailureCounter.set(0);
             })
         .alwaysRun(
@@ -141,12 +156,22 @@ public class EventSubscriber {
             })
         .finish(
             error -> {
+              if (Throwables.getRootCause(error) instanceof IOException) {
+                LOG.debug(
+                    "Closing event connection for client {} as it could not be written to",
+                    sseClient.hashCode(),
+                    error);
+                if (stopped.compareAndSet(false, true)) {
+                  terminateSseClient();
+                }
+                return;
+              }
               final int counter = successiveFailureCounter.incrementAndGet();
               if (error.getCause() instanceof IllegalStateException && counter > SANITY_LIMIT) {
                 LOG.warn(
                     "Failed to process event queue for client {}, terminating connection with {} queued events after {} failed attempts to send events.",
                     sseClient::hashCode,
-                    queuedEvents::size,
+                    queuedEventCount::get,
                     () -> counter);
                 terminateSseClient();
               } else {
@@ -161,6 +186,36 @@ public class EventSubscriber {
             });
   }
 
+  /**
+   * Writes all queued events directly to the response and flushes once at the end, rather than
+   * once per event. Each event is already a complete SSE frame shared with other subscribers, so
+   * no per-subscriber copying or framing is required.
+   */
+  private void writeQueuedEvents() throws IOException {
+    synchronized (writeLock) {
+      if (stopped.get()) {
+        return;
+      }
+      final OutputStream outputStream = sseClient.ctx().res().getOutputStream();
+      int eventsWritten = 0;
+      QueuedEvent event = pollQueuedEvent();
+      while (event != null && !stopped.get()) {
+        outputStream.write(event.getSseFrame().toArrayUnsafe());
+        eventsWritten++;
+        event = pollQueuedEvent();
+      }
+      if (eventsWritten > 0) {
+        sseClient.ctx().res().flushBuffer();
+      }
+    }
+  }
+
+  private void sendComment(final String comment) {
+    synchronized (writeLock) {
+      sseClient.sendComment(comment);
+    }
+  }
+
   @SuppressWarnings("FutureReturnValueIgnored")
   private void keepAlive() {
     final int retryInSeconds = 30;
@@ -170,7 +225,7 @@ public class EventSubscriber {
               () -> {
                 // Don't send a keep alive if we already have messages to send
                 if (!stopped.get() && queuedEvents.isEmpty() && !processingQueue.get()) {
-                  sseClient.sendComment("");
+                  sendComment("");
                 }
               },
               Duration.ofSeconds(retryInSeconds))
@@ -202,7 +257,7 @@ public class EventSubscriber {
   */
   public void sendReadyComment() {
     if (!stopped.get()) {
-      asyncRunner.runAsync(() -> sseClient.sendComment("ready")).finishStackTrace();
+      asyncRunner.runAsync(() -> sendComment("ready")).finishStackTrace();
     }
   }
 }
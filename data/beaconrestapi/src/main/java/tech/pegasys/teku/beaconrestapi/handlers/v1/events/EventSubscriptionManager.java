@@ -18,6 +18,7 @@ import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TOPICS;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.javalin.http.sse.SseClient;
+import java.io.ByteArrayOutputStream;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -78,6 +79,7 @@ public class EventSubscriptionManager
   private final AsyncRunner asyncRunner;
   private final TimeProvider timeProvider;
   private final int maxPendingEvents;
+  private final long maxPendingEventBytes;
   // collection of subscribers
   private final Collection<EventSubscriber> eventSubscribers;
 
@@ -90,12 +92,14 @@ public class EventSubscriptionManager
       final AsyncRunner asyncRunner,
       final EventChannels eventChannels,
       final TimeProvider timeProvider,
-      final int maxPendingEvents) {
+      final int maxPendingEvents,
+      final long maxPendingEventBytes) {
     this.spec = spec;
     this.provider = chainDataProvider;
     this.asyncRunner = asyncRunner;
     this.timeProvider = timeProvider;
     this.maxPendingEvents = maxPendingEvents;
+    this.maxPendingEventBytes = maxPendingEventBytes;
     this.eventSubscribers = new ConcurrentLinkedQueue<>();
     this.configProvider = configProvider;
     eventChannels.subscribe(ChainHeadChannel.class, this);
@@ -132,7 +136,8 @@ public class EventSubscriptionManager
             },
             asyncRunner,
             timeProvider,
-            maxPendingEvents);
+            maxPendingEvents,
+            maxPendingEventBytes);
     eventSubscribers.add(subscriber);
     subscriber.sendReadyComment();
   }
@@ -370,31 +375,45 @@ public class EventSubscriptionManager
   }
 
   private void notifySubscribersOfEvent(final EventType eventType, final Event<?> event) {
-    final EventSource<?> eventSource = new EventSource<>(event);
+    final EventSource<?> eventSource = new EventSource<>(eventType, event);
     try {
       for (EventSubscriber subscriber : eventSubscribers) {
-        subscriber.onEvent(eventType, eventSource);
+        subscriber.onEvent(eventSource);
       }
     } catch (final JsonProcessingException e) {
       LOG.error("Failed to serialize event", e);
     }
   }
 
+  /**
+   * Lazily encodes an event as a complete SSE frame, so that it is serialized at most once no
+   * matter how many subscribers it is sent to.
+   */
   public static class EventSource<T> {
+    private static final byte[] FRAME_END = "\n\n".getBytes(UTF_8);
+
+    private final EventType eventType;
     private final Event<T> event;
-    private Bytes value;
+    private Bytes sseFrame;
 
-    public EventSource(final Event<T> event) {
+    public EventSource(final EventType eventType, final Event<T> event) {
+      this.eventType = eventType;
       this.event = event;
     }
 
-    public Bytes get() throws JsonProcessingException {
-      if (value == null) {
-        value =
-            Bytes.wrap(
-                JsonUtil.serialize(event.getData(), event.getJsonTypeDefinition()).getBytes(UTF_8));
+    public EventType getEventType() {
+      return eventType;
+    }
+
+    public Bytes getSseFrame() throws JsonProcessingException {
+      if (sseFrame == null) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(("event: " + eventType.name() + "\ndata: ").getBytes(UTF_8));
+        JsonUtil.serializeToBytes(event.getData(), event.getJsonTypeDefinition(), out);
+        out.writeBytes(FRAME_END);
+        sseFrame = Bytes.wrap(out.toByteArray());
       }
-      return value;
+      return sseFrame;
     }
   }
 }
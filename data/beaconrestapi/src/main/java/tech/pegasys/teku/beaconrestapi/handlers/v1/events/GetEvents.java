@@ -43,7 +43,8 @@ public class GetEvents extends RestApiEndpoint {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
-      final int maxPendingEvents) {
+      final int maxPendingEvents,
+      final long maxPendingEventBytes) {
     this(
         spec,
         dataProvider.getNodeDataProvider(),
@@ -53,7 +54,8 @@ public class GetEvents extends RestApiEndpoint {
         eventChannels,
         asyncRunner,
         timeProvider,
-        maxPendingEvents);
+        maxPendingEvents,
+        maxPendingEventBytes);
   }
 
   GetEvents(
@@ -65,7 +67,8 @@ public class GetEvents extends RestApiEndpoint {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
-      final int maxPendingEvents) {
+      final int maxPendingEvents,
+      final long maxPendingEventBytes) {
     super(
         EndpointMetadata.get(ROUTE)
             .operationId("getEvents")
@@ -92,7 +95,8 @@ public class GetEvents extends RestApiEndpoint {
             asyncRunner,
             eventChannels,
             timeProvider,
-            maxPendingEvents);
+            maxPendingEvents,
+            maxPendingEventBytes);
   }
 
   @Override
@@ -17,17 +17,21 @@ import java.util.Objects;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.api.response.EventType;
 
+/**
+ * An event waiting to be sent to a subscriber. The SSE frame is shared by every subscriber the
+ * event is sent to and must not be modified.
+ */
 public class QueuedEvent {
   private final EventType eventType;
-  private final Bytes messageData;
+  private final Bytes sseFrame;
 
-  private QueuedEvent(final EventType eventType, final Bytes messageData) {
+  private QueuedEvent(final EventType eventType, final Bytes sseFrame) {
     this.eventType = eventType;
-    this.messageData = messageData;
+    this.sseFrame = sseFrame;
   }
 
-  public static QueuedEvent of(final EventType eventType, final Bytes messageData) {
-    return new QueuedEvent(eventType, messageData);
+  public static QueuedEvent of(final EventType eventType, final Bytes sseFrame) {
+    return new QueuedEvent(eventType, sseFrame);
   }
 
   @Override
@@ -39,19 +43,23 @@ public class QueuedEvent {
       return false;
     }
     final QueuedEvent that = (QueuedEvent) o;
-    return eventType == that.eventType && Objects.equals(messageData, that.messageData);
+    return eventType == that.eventType && Objects.equals(sseFrame, that.sseFrame);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(eventType, messageData);
+    return Objects.hash(eventType, sseFrame);
   }
 
   public EventType getEventType() {
     return eventType;
   }
 
-  public Bytes getMessageData() {
-    return messageData;
+  public Bytes getSseFrame() {
+    return sseFrame;
+  }
+
+  public int getSize() {
+    return sseFrame.size();
   }
 }
@@ -13,12 +13,13 @@
 
 package tech.pegasys.teku.beaconrestapi.handlers.v1.events;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -32,6 +33,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -43,6 +45,7 @@ import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 
 public class EventSubscriberTest {
   private static final int MAX_PENDING_EVENTS = 10;
+  private static final long MAX_PENDING_EVENT_BYTES = 1024 * 1024;
   private final AsyncContext asyncContext = mock(AsyncContext.class);
   private final HttpServletRequest req = mock(HttpServletRequest.class);
   private final HttpServletResponse res = mock(HttpServletResponse.class);
@@ -76,11 +79,11 @@ public class EventSubscriberTest {
 
     for (int i = 0; i < MAX_PENDING_EVENTS + 1; i++) {
       verify(onCloseCallback, never()).run();
-      eventSubscriber.onEvent(EventType.head, event("test"));
+      eventSubscriber.onEvent(event(EventType.head, "test"));
     }
     verifyNoInteractions(onCloseCallback);
     timeProvider.advanceTimeByMillis(EventSubscriber.EXCESSIVE_QUEUING_TOLERANCE_MS);
-    eventSubscriber.onEvent(EventType.head, event("foo"));
+    eventSubscriber.onEvent(event(EventType.head, "foo"));
     verify(onCloseCallback).run();
   }
 
@@ -91,7 +94,7 @@ public class EventSubscriberTest {
     // Max size exceeded
     for (int i = 0; i < MAX_PENDING_EVENTS + 1; i++) {
       verify(onCloseCallback, never()).run();
-      eventSubscriber.onEvent(EventType.head, event("test"));
+      eventSubscriber.onEvent(event(EventType.head, "test"));
     }
     verifyNoInteractions(onCloseCallback);
 
@@ -102,7 +105,7 @@ public class EventSubscriberTest {
 
     // And so we shouldn't get disconnected
     timeProvider.advanceTimeByMillis(1);
-    eventSubscriber.onEvent(EventType.head, event("head"));
+    eventSubscriber.onEvent(event(EventType.head, "head"));
     verifyNoInteractions(onCloseCallback);
   }
 
@@ -112,10 +115,10 @@ public class EventSubscriberTest {
 
     for (int i = 0; i < MAX_PENDING_EVENTS + 1; i++) {
       verify(onCloseCallback, never()).run();
-      eventSubscriber.onEvent(EventType.head, event("test"));
+      eventSubscriber.onEvent(event(EventType.head, "test"));
     }
     timeProvider.advanceTimeByMillis(EventSubscriber.EXCESSIVE_QUEUING_TOLERANCE_MS);
-    eventSubscriber.onEvent(EventType.head, event("test"));
+    eventSubscriber.onEvent(event(EventType.head, "test"));
 
     verify(onCloseCallback).run();
     verify(asyncContext, never()).complete();
@@ -130,15 +133,15 @@ public class EventSubscriberTest {
 
     for (int i = 0; i < MAX_PENDING_EVENTS + 1; i++) {
       verify(onCloseCallback, never()).run();
-      eventSubscriber.onEvent(EventType.head, event("test"));
+      eventSubscriber.onEvent(event(EventType.head, "test"));
     }
     timeProvider.advanceTimeByMillis(EventSubscriber.EXCESSIVE_QUEUING_TOLERANCE_MS);
 
     // Multiple events are delivered before the close callback can actually run and unsubscribe
     // but we should only disconnect once
-    eventSubscriber.onEvent(EventType.head, event("test"));
-    eventSubscriber.onEvent(EventType.head, event("test"));
-    eventSubscriber.onEvent(EventType.head, event("test"));
+    eventSubscriber.onEvent(event(EventType.head, "test"));
+    eventSubscriber.onEvent(event(EventType.head, "test"));
+    eventSubscriber.onEvent(event(EventType.head, "test"));
 
     verify(onCloseCallback, atMostOnce()).run();
     verify(asyncContext, never()).complete();
@@ -146,15 +149,72 @@ public class EventSubscriberTest {
   }
 
   @Test
-  void shouldTerminateConnectionIfSendKeepsFailing() throws JsonProcessingException {
+  void shouldDisconnectWhenQueuedBytesTooLargeForTooLong() throws Exception {
+    final int frameSize = event(EventType.head, "test").getSseFrame().size();
+    final EventSubscriber eventSubscriber =
+        new EventSubscriber(
+            List.of("head"),
+            sseClient,
+            onCloseCallback,
+            asyncRunner,
+            timeProvider,
+            Integer.MAX_VALUE,
+            3L * frameSize);
+
+    for (int i = 0; i < 4; i++) {
+      eventSubscriber.onEvent(event(EventType.head, "test"));
+    }
+    verifyNoInteractions(onCloseCallback);
+
+    timeProvider.advanceTimeByMillis(EventSubscriber.EXCESSIVE_QUEUING_TOLERANCE_MS);
+    eventSubscriber.onEvent(event(EventType.head, "test"));
+    verify(onCloseCallback).run();
+  }
+
+  @Test
+  void shouldWriteQueuedEventsAsSingleBatch() throws IOException {
+    final SseClient mockSseClient = mock(SseClient.class);
+    final Context ctx = mock(Context.class);
+    when(mockSseClient.ctx()).thenReturn(ctx);
+    when(ctx.res()).thenReturn(res);
+    final EventSubscriber eventSubscriber =
+        new EventSubscriber(
+            List.of("head"),
+            mockSseClient,
+            onCloseCallback,
+            asyncRunner,
+            timeProvider,
+            MAX_PENDING_EVENTS,
+            MAX_PENDING_EVENT_BYTES);
+
+    for (int i = 0; i < 5; i++) {
+      eventSubscriber.onEvent(event(EventType.head, "test"));
+    }
+    asyncRunner.executeQueuedActions();
+
+    assertThat(outputStream.countEvents()).isEqualTo(5);
+    verify(res, times(1)).flushBuffer();
+  }
+
+  @Test
+  void shouldSerializeEventOnceAsSseFrame() throws JsonProcessingException {
+    final EventSource<String> event = event(EventType.head, "test");
+
+    final Bytes frame = event.getSseFrame();
+    assertThat(new String(frame.toArrayUnsafe(), UTF_8)).isEqualTo("event: head\ndata: {}\n\n");
+    assertThat(event.getSseFrame()).isSameAs(frame);
+  }
+
+  @Test
+  void shouldTerminateConnectionIfSendKeepsFailing() throws IOException {
     final SseClient failingSseClient = mock(SseClient.class);
     final Context ctx = mock(Context.class);
+    final HttpServletResponse failingResponse = mock(HttpServletResponse.class);
     when(failingSseClient.ctx()).thenReturn(ctx);
     when(ctx.req()).thenReturn(req);
+    when(ctx.res()).thenReturn(failingResponse);
     when(req.getAsyncContext()).thenReturn(asyncContext);
-    doThrow(new IllegalStateException("computer says no"))
-        .when(failingSseClient)
-        .sendEvent(any(), any());
+    doThrow(new IllegalStateException("computer says no")).when(failingResponse).getOutputStream();
     final EventSubscriber eventSubscriber =
         new EventSubscriber(
             List.of("head"),
@@ -162,10 +222,11 @@ public class EventSubscriberTest {
             onCloseCallback,
             asyncRunner,
             timeProvider,
-            MAX_PENDING_EVENTS);
+            MAX_PENDING_EVENTS,
+            MAX_PENDING_EVENT_BYTES);
 
     for (int i = 0; i < MAX_PENDING_EVENTS; i++) {
-      eventSubscriber.onEvent(EventType.head, event("test"));
+      eventSubscriber.onEvent(event(EventType.head, "test"));
     }
 
     assertThat(asyncRunner.countDelayedActions()).isEqualTo(2);
@@ -181,7 +242,7 @@ public class EventSubscriberTest {
     final EventSubscriber eventSubscriber =
         createSubscriber(allEventTypes.stream().map(EventType::name).toArray(String[]::new));
     for (EventType eventType : allEventTypes) {
-      eventSubscriber.onEvent(eventType, event("test"));
+      eventSubscriber.onEvent(event(eventType, "test"));
     }
     assertThat(asyncRunner.countDelayedActions()).isEqualTo(2);
     asyncRunner.executeQueuedActions();
@@ -194,13 +255,13 @@ public class EventSubscriberTest {
     final EventSubscriber eventSubscriber = createSubscriber("head");
 
     for (int i = 0; i < MAX_PENDING_EVENTS; i++) {
-      eventSubscriber.onEvent(EventType.head, event("test"));
+      eventSubscriber.onEvent(event(EventType.head, "test"));
     }
     asyncRunner.executeQueuedActions();
     assertThat(outputStream.countEvents()).isEqualTo(10);
 
     for (int i = 0; i < MAX_PENDING_EVENTS; i++) {
-      eventSubscriber.onEvent(EventType.head, event("test"));
+      eventSubscriber.onEvent(event(EventType.head, "test"));
     }
 
     verify(onCloseCallback, never()).run();
@@ -212,7 +273,7 @@ public class EventSubscriberTest {
     final EventSubscriber subscriber = createSubscriber(eventType.name());
     for (EventType val : allEventTypes) {
       if (val.compareTo(eventType) != 0) {
-        subscriber.onEvent(val, event("test"));
+        subscriber.onEvent(event(val, "test"));
       }
     }
 
@@ -227,7 +288,7 @@ public class EventSubscriberTest {
   void shouldSendEventsIfSubscribed(final EventType eventType) throws IOException {
     final EventSubscriber subscriber = createSubscriber(eventType.name());
 
-    subscriber.onEvent(eventType, event("test"));
+    subscriber.onEvent(event(eventType, "test"));
 
     assertThat(asyncRunner.countDelayedActions()).isEqualTo(2);
     asyncRunner.executeQueuedActions();
@@ -260,8 +321,8 @@ public class EventSubscriberTest {
     assertThat(asyncRunner.countDelayedActions()).isZero();
   }
 
-  private EventSource<String> event(final String message) {
-    return new EventSource<>(new TestEvent(message));
+  private EventSource<String> event(final EventType eventType, final String message) {
+    return new EventSource<>(eventType, new TestEvent(message));
   }
 
   private EventSubscriber createSubscriber(final String... eventTypes) {
@@ -271,6 +332,7 @@ public class EventSubscriberTest {
         onCloseCallback,
         asyncRunner,
         timeProvider,
-        MAX_PENDING_EVENTS);
+        MAX_PENDING_EVENTS,
+        MAX_PENDING_EVENT_BYTES);
   }
 }
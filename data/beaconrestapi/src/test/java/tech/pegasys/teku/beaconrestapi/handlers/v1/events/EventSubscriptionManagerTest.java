@@ -24,6 +24,7 @@ import jakarta.servlet.AsyncContext;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
@@ -192,10 +193,41 @@ public class EventSubscriptionManagerTest {
             asyncRunner,
             channels,
             StubTimeProvider.withTimeInMillis(1000),
-            10);
+            10,
+            1024 * 1024);
     client1 = new SseClient(ctx);
   }
 
+  @Test
+  void shouldDeliverEventsToManySubscribers() throws IOException {
+    final int subscriberCount = 100;
+    final int eventCount = 50;
+    final List<TestServletOutputStream> outputStreams = new ArrayList<>();
+    for (int i = 0; i < subscriberCount; i++) {
+      final TestServletOutputStream subscriberOutputStream = new TestServletOutputStream();
+      final HttpServletRequest subscriberRequest = mock(HttpServletRequest.class);
+      final HttpServletResponse subscriberResponse = mock(HttpServletResponse.class);
+      final AsyncContext subscriberAsync = mock(AsyncContext.class);
+      when(subscriberRequest.getAsyncContext()).thenReturn(subscriberAsync);
+      when(subscriberRequest.getQueryString()).thenReturn("&topics=head,attestation");
+      when(subscriberAsync.getResponse()).thenReturn(subscriberResponse);
+      when(subscriberResponse.getOutputStream()).thenReturn(subscriberOutputStream);
+      manager.registerClient(
+          new SseClient(new StubContext(subscriberRequest, subscriberResponse)));
+      outputStreams.add(subscriberOutputStream);
+    }
+
+    for (int i = 0; i < eventCount; i++) {
+      manager.onNewAttestation(ValidatableAttestation.from(spec, sampleAttestation));
+      triggerHeadEvent();
+    }
+
+    final String expected = outputStreams.getFirst().getString();
+    assertThat(outputStreams.getFirst().countEvents()).isEqualTo(eventCount * 2);
+    assertThat(outputStreams)
+        .allSatisfy(stream -> assertThat(stream.getString()).isEqualTo(expected));
+  }
+
   @Test
   void shouldPropagateReorgMessages() throws IOException {
     when(req.getQueryString()).thenReturn("&topics=chain_reorg");
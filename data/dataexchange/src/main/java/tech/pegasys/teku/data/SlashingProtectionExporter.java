@@ -39,12 +39,15 @@ import tech.pegasys.teku.data.slashinginterchange.SlashingProtectionInterchangeF
 import tech.pegasys.teku.ethereum.signingrecord.ValidatorSigningRecord;
 import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
 import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.spec.signatures.SigningRecordLog;
 
 public class SlashingProtectionExporter {
   private final List<SigningHistory> signingHistoryList = new ArrayList<>();
   private Optional<Bytes32> genesisValidatorsRoot = Optional.empty();
   private final SyncDataAccessor syncDataAccessor;
   protected final Path slashProtectionPath;
+  private Optional<Map<BLSPublicKey, ValidatorSigningRecord>> signingRecordLogRecords =
+      Optional.empty();
 
   public SlashingProtectionExporter(final Path slashProtectionPath) {
     this.slashProtectionPath = slashProtectionPath;
@@ -56,6 +59,9 @@ public class SlashingProtectionExporter {
     final File slashingProtectionRecords = slashProtectionPath.toFile();
     final Map<BLSPublicKey, String> importErrors = new HashMap<>();
     for (File currentFile : slashingProtectionRecords.listFiles()) {
+      if (currentFile.getName().startsWith(SigningRecordLog.LOG_FILE_NAME)) {
+        continue;
+      }
       final Optional<String> maybeError = readSlashProtectionFile(currentFile, infoLogger);
       maybeError.ifPresent(
           error -> {
@@ -65,9 +71,58 @@ public class SlashingProtectionExporter {
             importErrors.put(key, error);
           });
     }
+    try {
+      // Validators that have only ever been signed for with the group commit slashing protector
+      final Map<BLSPublicKey, ValidatorSigningRecord> remainingLogRecords =
+          new HashMap<>(getSigningRecordLogRecords());
+      signingHistoryList.forEach(history -> remainingLogRecords.remove(history.pubkey()));
+      remainingLogRecords.forEach(
+          (publicKey, record) ->
+              addSigningHistory(publicKey, SigningRecordLog.LOG_FILE_NAME, record, infoLogger)
+                  .ifPresent(error -> importErrors.put(publicKey, error)));
+    } catch (final IOException e) {
+      infoLogger.accept("Failed to read " + SigningRecordLog.LOG_FILE_NAME);
+    }
     return importErrors;
   }
 
+  private Map<BLSPublicKey, ValidatorSigningRecord> getSigningRecordLogRecords()
+      throws IOException {
+    if (signingRecordLogRecords.isEmpty()) {
+      signingRecordLogRecords = Optional.of(SigningRecordLog.readRecords(slashProtectionPath));
+    }
+    return signingRecordLogRecords.get();
+  }
+
+  protected Optional<ValidatorSigningRecord> getSigningRecordLogRecord(final BLSPublicKey publicKey)
+      throws IOException {
+    return Optional.ofNullable(getSigningRecordLogRecords().get(publicKey));
+  }
+
+  // returns an error if there was one
+  protected Optional<String> addSigningHistory(
+      final BLSPublicKey publicKey,
+      final String source,
+      final ValidatorSigningRecord validatorSigningRecord,
+      final Consumer<String> infoLogger) {
+    if (validatorSigningRecord.genesisValidatorsRoot().isPresent()) {
+      if (genesisValidatorsRoot.isEmpty()) {
+        this.genesisValidatorsRoot = validatorSigningRecord.genesisValidatorsRoot();
+      } else if (!genesisValidatorsRoot
+          .get()
+          .equals(validatorSigningRecord.genesisValidatorsRoot().get())) {
+        return Optional.of(
+            "The genesisValidatorsRoot of "
+                + source
+                + " does not match the expected "
+                + genesisValidatorsRoot.get().toHexString());
+      }
+    }
+    infoLogger.accept("Exporting " + publicKey.toBytesCompressed().toUnprefixedHexString());
+    signingHistoryList.add(SigningHistory.createSigningHistory(publicKey, validatorSigningRecord));
+    return Optional.empty();
+  }
+
   // returns an error if there was one
   Optional<String> readSlashProtectionFile(final File file, final Consumer<String> infoLogger) {
     try {
@@ -76,27 +131,13 @@ public class SlashingProtectionExporter {
       if (maybeRecord.isEmpty()) {
         return Optional.of("Failed to read from file " + file.getName());
       }
-      final ValidatorSigningRecord validatorSigningRecord = maybeRecord.get();
-
-      if (validatorSigningRecord.genesisValidatorsRoot().isPresent()) {
-        if (genesisValidatorsRoot.isEmpty()) {
-          this.genesisValidatorsRoot = validatorSigningRecord.genesisValidatorsRoot();
-        } else if (!genesisValidatorsRoot
-            .get()
-            .equals(validatorSigningRecord.genesisValidatorsRoot().get())) {
-          return Optional.of(
-              "The genesisValidatorsRoot of "
-                  + file.getName()
-                  + " does not match the expected "
-                  + genesisValidatorsRoot.get().toHexString());
-        }
-      }
-
       final String pubkey = file.getName().substring(0, file.getName().length() - ".yml".length());
-      infoLogger.accept("Exporting " + pubkey);
-      signingHistoryList.add(
-          SigningHistory.createSigningHistory(parsePublicKey(pubkey), validatorSigningRecord));
-      return Optional.empty();
+      final BLSPublicKey publicKey = parsePublicKey(pubkey);
+      final ValidatorSigningRecord validatorSigningRecord =
+          getSigningRecordLogRecord(publicKey)
+              .map(logRecord -> SigningRecordLog.mergeRecords(logRecord, maybeRecord.get()))
+              .orElse(maybeRecord.get());
+      return addSigningHistory(publicKey, file.getName(), validatorSigningRecord, infoLogger);
     } catch (UncheckedIOException | IOException e) {
       return Optional.of("Failed to read from file " + file);
     } catch (PublicKeyException e) {
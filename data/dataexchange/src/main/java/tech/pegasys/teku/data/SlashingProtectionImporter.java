@@ -42,12 +42,14 @@ import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
 import tech.pegasys.teku.infrastructure.json.JsonUtil;
 import tech.pegasys.teku.infrastructure.json.exceptions.MissingRequiredFieldException;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.signatures.SigningRecordLog;
 
 public class SlashingProtectionImporter {
   private final Path slashingProtectionPath;
   private List<SigningHistory> data = new ArrayList<>();
   private Metadata metadata;
   private final SyncDataAccessor syncDataAccessor;
+  private Map<BLSPublicKey, ValidatorSigningRecord> signingRecordLogRecords = Map.of();
 
   public SlashingProtectionImporter(final Path slashingProtectionPath) {
     this.slashingProtectionPath = slashingProtectionPath;
@@ -77,6 +79,7 @@ public class SlashingProtectionImporter {
       }
 
       data = summariseCompleteInterchangeFormat(interchangeFormat.data());
+      signingRecordLogRecords = SigningRecordLog.readRecords(slashingProtectionPath);
 
     } catch (JsonMappingException | MissingRequiredFieldException e) {
       final String cause = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
@@ -178,6 +181,15 @@ public class SlashingProtectionImporter {
         return Optional.of("unable to load existing record.");
       }
     }
+    // Records written by the group commit slashing protector are more recent than the file
+    final ValidatorSigningRecord logRecord = signingRecordLogRecords.get(signingHistory.pubkey());
+    if (logRecord != null) {
+      existingRecord =
+          Optional.of(
+              existingRecord
+                  .map(fileRecord -> SigningRecordLog.mergeRecords(logRecord, fileRecord))
+                  .orElse(logRecord));
+    }
     if (existingRecord.isPresent()
         && existingRecord.get().genesisValidatorsRoot().isPresent()
         && metadata.genesisValidatorsRoot().isPresent()
@@ -15,10 +15,14 @@ package tech.pegasys.teku.data;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.function.Consumer;
 import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.ethereum.signingrecord.ValidatorSigningRecord;
+import tech.pegasys.teku.spec.signatures.SigningRecordLog;
 
 public class SlashingProtectionIncrementalExporter extends SlashingProtectionExporter {
   public SlashingProtectionIncrementalExporter(final Path slashProtectionPath) {
@@ -26,7 +30,8 @@ public class SlashingProtectionIncrementalExporter extends SlashingProtectionExp
   }
 
   public boolean haveSlashingProtectionData(final BLSPublicKey publicKey) {
-    return getSlashingProtectionFileForKey(publicKey).exists();
+    return getSlashingProtectionFileForKey(publicKey).exists()
+        || getLogRecordForKey(publicKey).isPresent();
   }
 
   // returns an error on failure to read, otherwise empty string.
@@ -36,13 +41,24 @@ public class SlashingProtectionIncrementalExporter extends SlashingProtectionExp
     if (slashingProtectionFile.exists()) {
       return readSlashProtectionFile(slashingProtectionFile, infoLogger);
     }
-    return Optional.empty();
+    return getLogRecordForKey(publicKey)
+        .flatMap(
+            record ->
+                addSigningHistory(publicKey, SigningRecordLog.LOG_FILE_NAME, record, infoLogger));
   }
 
   public String finalise() throws JsonProcessingException {
     return getJson();
   }
 
+  private Optional<ValidatorSigningRecord> getLogRecordForKey(final BLSPublicKey publicKey) {
+    try {
+      return getSigningRecordLogRecord(publicKey);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   private File getSlashingProtectionFileForKey(final BLSPublicKey publicKey) {
     return slashProtectionPath.resolve(slashingFileNameForKey(publicKey)).toFile();
   }
@@ -0,0 +1,122 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.signatures.GroupCommitSlashingProtector;
+import tech.pegasys.teku.spec.signatures.LocalSlashingProtectorConcurrentAccess;
+import tech.pegasys.teku.spec.signatures.SigningRecordLog;
+import tech.pegasys.teku.spec.signatures.SlashingProtector;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+/** Measures the time taken for every validator to sign one attestation, as happens each epoch. */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 10)
+public class SlashingProtectorBenchmark {
+  private static final Bytes32 GENESIS_VALIDATORS_ROOT = Bytes32.fromHexString("0x1234");
+  private static final int SIGNING_THREADS = 16;
+
+  @Param({"1000", "10000"})
+  int validatorCount;
+
+  @Param({"concurrent", "groupCommit"})
+  String protectorType;
+
+  private final List<BLSPublicKey> validators = new ArrayList<>();
+  private Path baseDir;
+  private SigningRecordLog signingRecordLog;
+  private SlashingProtector slashingProtector;
+  private ExecutorService executor;
+  private UInt64 epoch = UInt64.ZERO;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    final DataStructureUtil dataStructureUtil =
+        new DataStructureUtil(TestSpecFactory.createMinimalPhase0());
+    for (int i = 0; i < validatorCount; i++) {
+      validators.add(dataStructureUtil.randomPublicKey());
+    }
+    baseDir = Files.createTempDirectory("slashing-protection");
+    final SyncDataAccessor dataAccessor = SyncDataAccessor.create(baseDir);
+    if (protectorType.equals("groupCommit")) {
+      signingRecordLog = SigningRecordLog.open(baseDir);
+      slashingProtector = new GroupCommitSlashingProtector(dataAccessor, baseDir, signingRecordLog);
+    } else {
+      slashingProtector = new LocalSlashingProtectorConcurrentAccess(dataAccessor, baseDir);
+    }
+    executor = Executors.newFixedThreadPool(SIGNING_THREADS);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    executor.shutdownNow();
+    if (signingRecordLog != null) {
+      signingRecordLog.close();
+    }
+    FileUtils.deleteDirectory(baseDir.toFile());
+  }
+
+  @Benchmark
+  public void attestationRound() {
+    final UInt64 sourceEpoch = epoch;
+    final UInt64 targetEpoch = epoch.increment();
+    epoch = targetEpoch;
+    CompletableFuture.allOf(
+            validators.stream()
+                .map(
+                    validator ->
+                        CompletableFuture.supplyAsync(
+                            () -> attest(validator, sourceEpoch, targetEpoch), executor))
+                .toArray(CompletableFuture[]::new))
+        .join();
+  }
+
+  private boolean attest(
+      final BLSPublicKey validator, final UInt64 sourceEpoch, final UInt64 targetEpoch) {
+    return slashingProtector
+        .maySignAttestation(validator, GENESIS_VALIDATORS_ROOT, sourceEpoch, targetEpoch)
+        .join();
+  }
+}
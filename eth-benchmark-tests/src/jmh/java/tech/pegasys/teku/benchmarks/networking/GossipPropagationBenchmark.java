@@ -0,0 +1,291 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks.networking;
+
+import com.sun.management.OperatingSystemMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.SynchronizedHistogram;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.bls.BLSKeyGenerator;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.DelayedExecutorAsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.bytes.Bytes4;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.network.p2p.jvmlibp2p.LinkConditioner;
+import tech.pegasys.teku.networking.eth2.Eth2P2PNetwork;
+import tech.pegasys.teku.networking.eth2.Eth2P2PNetworkFactory;
+import tech.pegasys.teku.networking.eth2.NodeManager;
+import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
+import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopicName;
+import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopics;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.statetransition.validation.InternalValidationResult;
+
+/**
+ * Measures end-to-end gossip propagation across a network of in-process Eth2 nodes connected over
+ * loopback.
+ *
+ * <p>Each node runs a full libp2p and Eth2 gossip stack. Links are conditioned with a one-way
+ * latency and bandwidth limit and message processors accept everything, so the results reflect
+ * encoding, gossipsub and topic handling costs plus the simulated network rather than message
+ * validation.
+ *
+ * <p>The benchmark time is how long it takes a message published by one node to reach every other
+ * node. Per-node arrival latency percentiles and process CPU time per message are printed at the
+ * end of each iteration. Run with {@code ./gradlew :eth-benchmark-tests:jmh
+ * --args=GossipPropagationBenchmark}.
+ *
+ * <p>Comparing runs with and without {@code pooledDirectBuffersEnabled} at zero latency and
+ * unlimited bandwidth shows the throughput and CPU effect of the connection buffer allocator.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class GossipPropagationBenchmark {
+  private static final GossipEncoding GOSSIP_ENCODING = GossipEncoding.SSZ_SNAPPY;
+  private static final int SUBNET_ID = 0;
+  // Allow time for the gossipsub mesh to form after subscribing
+  private static final Duration MESH_FORMATION_DELAY = Duration.ofSeconds(5);
+  private static final long PROPAGATION_TIMEOUT_SECONDS = 30;
+
+  public enum MessageType {
+    BLOCK,
+    ATTESTATION,
+    DATA_COLUMN_SIDECAR
+  }
+
+  @Param({"16"})
+  private int nodeCount;
+
+  @Param({"4"})
+  private int peersPerNode;
+
+  @Param({"0", "50"})
+  private int latencyMillis;
+
+  @Param({"0", "12500000"})
+  private long bandwidthBytesPerSecond;
+
+  @Param({"BLOCK", "ATTESTATION", "DATA_COLUMN_SIDECAR"})
+  private MessageType messageType;
+
+  @Param({"false", "true"})
+  private boolean pooledDirectBuffersEnabled;
+
+  private final Spec spec = TestSpecFactory.createMinimalFulu();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final AsyncRunner asyncRunner = DelayedExecutorAsyncRunner.create();
+  private final Eth2P2PNetworkFactory networkFactory = new Eth2P2PNetworkFactory();
+  private final List<NodeManager> nodes = new ArrayList<>();
+  private final SynchronizedHistogram arrivalLatencyNanos =
+      new SynchronizedHistogram(TimeUnit.MINUTES.toNanos(1), 3);
+  private final OperatingSystemMXBean operatingSystem =
+      ManagementFactory.getPlatformMXBean(OperatingSystemMXBean.class);
+
+  private volatile PendingMessage pendingMessage;
+  private String topic;
+  private Bytes encodedMessage;
+  private Bytes32 messageRoot;
+  private long slot = 1;
+  private int publisherIndex;
+  private long messageCount;
+  private long iterationStartCpuNanos;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    final LinkConditioner linkConditioner =
+        new LinkConditioner(Duration.ofMillis(latencyMillis), bandwidthBytesPerSecond);
+    final Random random = new Random(1);
+    for (int i = 0; i < nodeCount; i++) {
+      final int nodeIndex = i;
+      final List<Eth2P2PNetwork> peers = selectPeers(random);
+      nodes.add(
+          NodeManager.create(
+              spec,
+              asyncRunner,
+              networkFactory,
+              BLSKeyGenerator.generateKeyPairs(spec.getSlotsPerEpoch(UInt64.ZERO)),
+              builder -> {
+                peers.forEach(builder::peer);
+                builder
+                    .gossipEncoding(GOSSIP_ENCODING)
+                    .linkConditioner(linkConditioner)
+                    .pooledDirectBuffersEnabled(pooledDirectBuffersEnabled)
+                    .gossipedBlockProcessor((block, __) -> onMessageReceived(nodeIndex, block))
+                    .gossipedAttestationProcessor(
+                        (attestation, __) ->
+                            onMessageReceived(nodeIndex, attestation.getUnconvertedAttestation()))
+                    .gossipedDataColumnSidecarOperationProcessor(
+                        (sidecar, __) -> onMessageReceived(nodeIndex, sidecar));
+              }));
+    }
+    for (NodeManager node : nodes) {
+      switch (messageType) {
+        case ATTESTATION -> node.network().subscribeToAttestationSubnetId(SUBNET_ID);
+        case DATA_COLUMN_SIDECAR -> node.network().subscribeToDataColumnSidecarSubnetId(SUBNET_ID);
+        case BLOCK -> {
+          // Block topics are always subscribed
+        }
+      }
+    }
+    Thread.sleep(MESH_FORMATION_DELAY.toMillis());
+
+    final Bytes4 forkDigest = nodes.get(0).storageClient().getCurrentForkDigest().orElseThrow();
+    topic =
+        switch (messageType) {
+          case BLOCK ->
+              GossipTopics.getTopic(forkDigest, GossipTopicName.BEACON_BLOCK, GOSSIP_ENCODING);
+          case ATTESTATION ->
+              GossipTopics.getAttestationSubnetTopic(forkDigest, SUBNET_ID, GOSSIP_ENCODING);
+          case DATA_COLUMN_SIDECAR ->
+              GossipTopics.getDataColumnSidecarSubnetTopic(forkDigest, SUBNET_ID, GOSSIP_ENCODING);
+        };
+  }
+
+  private List<Eth2P2PNetwork> selectPeers(final Random random) {
+    final List<Eth2P2PNetwork> existing =
+        new ArrayList<>(nodes.stream().map(NodeManager::network).toList());
+    final List<Eth2P2PNetwork> selected = new ArrayList<>();
+    while (!existing.isEmpty() && selected.size() < peersPerNode) {
+      selected.add(existing.remove(random.nextInt(existing.size())));
+    }
+    return selected;
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    networkFactory.stopAll();
+  }
+
+  @Setup(Level.Iteration)
+  public void startIteration() {
+    arrivalLatencyNanos.reset();
+    messageCount = 0;
+    iterationStartCpuNanos = operatingSystem.getProcessCpuTime();
+  }
+
+  @TearDown(Level.Iteration)
+  public void reportIteration() {
+    if (messageCount == 0) {
+      return;
+    }
+    final long cpuNanos = operatingSystem.getProcessCpuTime() - iterationStartCpuNanos;
+    final Histogram latencies = arrivalLatencyNanos.copy();
+    System.out.printf(
+        "%n%s: %d messages, arrival latency p50=%.2fms p90=%.2fms p99=%.2fms max=%.2fms, "
+            + "CPU per message=%.2fms%n",
+        messageType,
+        messageCount,
+        toMillis(latencies.getValueAtPercentile(50)),
+        toMillis(latencies.getValueAtPercentile(90)),
+        toMillis(latencies.getValueAtPercentile(99)),
+        toMillis(latencies.getMaxValue()),
+        toMillis(cpuNanos / messageCount));
+  }
+
+  @Setup(Level.Invocation)
+  public void createMessage() {
+    // Every message must be unique or gossipsub drops it as a duplicate
+    final SszData message =
+        switch (messageType) {
+          case BLOCK -> dataStructureUtil.randomSignedBeaconBlock(slot++);
+          case ATTESTATION -> dataStructureUtil.randomSingleAttestation(UInt64.valueOf(slot++));
+          case DATA_COLUMN_SIDECAR -> {
+            final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(slot++);
+            yield dataStructureUtil.randomDataColumnSidecar(block, UInt64.valueOf(SUBNET_ID));
+          }
+        };
+    encodedMessage = GOSSIP_ENCODING.encode(message);
+    messageRoot = message.hashTreeRoot();
+    publisherIndex = (publisherIndex + 1) % nodeCount;
+  }
+
+  @Benchmark
+  public void propagateToAllNodes() throws Exception {
+    final PendingMessage message = new PendingMessage(messageRoot, nodeCount - 1);
+    pendingMessage = message;
+    message.publishedNanos.set(System.nanoTime());
+    nodes.get(publisherIndex).network().gossip(topic, encodedMessage).join();
+    if (!message.remaining.await(PROPAGATION_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+      throw new IllegalStateException(
+          "Message reached only "
+              + (nodeCount - 1 - message.remaining.getCount())
+              + " of "
+              + (nodeCount - 1)
+              + " nodes");
+    }
+    messageCount++;
+  }
+
+  private SafeFuture<InternalValidationResult> onMessageReceived(
+      final int nodeIndex, final SszData received) {
+    final long arrivalNanos = System.nanoTime();
+    final PendingMessage message = pendingMessage;
+    if (message != null
+        && message.root.equals(received.hashTreeRoot())
+        && message.receivedBy.add(nodeIndex)) {
+      arrivalLatencyNanos.recordValue(arrivalNanos - message.publishedNanos.get());
+      message.remaining.countDown();
+    }
+    return SafeFuture.completedFuture(InternalValidationResult.ACCEPT);
+  }
+
+  private static double toMillis(final long nanos) {
+    return nanos / 1_000_000d;
+  }
+
+  private static class PendingMessage {
+    private final Bytes32 root;
+    private final AtomicLong publishedNanos = new AtomicLong();
+    private final Set<Integer> receivedBy = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch remaining;
+
+    private PendingMessage(final Bytes32 root, final int recipients) {
+      this.root = root;
+      this.remaining = new CountDownLatch(recipients);
+    }
+  }
+}
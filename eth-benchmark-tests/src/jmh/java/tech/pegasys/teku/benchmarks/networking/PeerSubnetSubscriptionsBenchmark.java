@@ -0,0 +1,230 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks.networking;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.networking.eth2.SubnetSubscriptionService;
+import tech.pegasys.teku.networking.eth2.gossip.subnets.AttestationSubnetTopicProvider;
+import tech.pegasys.teku.networking.eth2.gossip.subnets.DataColumnSidecarSubnetTopicProvider;
+import tech.pegasys.teku.networking.eth2.gossip.subnets.NodeIdToDataColumnSidecarSubnetsCalculator;
+import tech.pegasys.teku.networking.eth2.gossip.subnets.PeerSubnetSubscriptions;
+import tech.pegasys.teku.networking.eth2.gossip.subnets.PeerSubnetSubscriptionsTracker;
+import tech.pegasys.teku.networking.eth2.gossip.subnets.SyncCommitteeSubnetTopicProvider;
+import tech.pegasys.teku.networking.eth2.peers.PeerScorer;
+import tech.pegasys.teku.networking.p2p.gossip.GossipNetwork;
+import tech.pegasys.teku.networking.p2p.gossip.TopicChannel;
+import tech.pegasys.teku.networking.p2p.gossip.TopicHandler;
+import tech.pegasys.teku.networking.p2p.gossip.config.GossipTopicsScoringConfig;
+import tech.pegasys.teku.networking.p2p.mock.MockNodeId;
+import tech.pegasys.teku.networking.p2p.peer.NodeId;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.SpecVersion;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.config.SpecConfigFulu;
+
+/**
+ * Compares rebuilding {@link PeerSubnetSubscriptions} from scratch with the incrementally
+ * maintained {@link PeerSubnetSubscriptionsTracker}, including scoring every connected peer as the
+ * peer selection strategy does.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class PeerSubnetSubscriptionsBenchmark {
+  private static final int ATTESTATION_SUBNETS_PER_PEER = 2;
+  private static final int DATA_COLUMN_SIDECAR_SUBNETS_PER_PEER = 8;
+
+  @Param({"200"})
+  private int peerCount;
+
+  private final Spec spec = TestSpecFactory.createMainnetFulu();
+  private final SpecVersion specVersion = spec.getGenesisSpec();
+  private final SettableLabelledGauge gauge =
+      SettableLabelledGauge.create(
+          new NoOpMetricsSystem(), TekuMetricCategory.NETWORK, "subnet_peer_count", "", "subnet");
+  private final AttestationSubnetTopicProvider attestationTopicProvider =
+      new AttestationSubnetTopicProvider(null, null) {
+        @Override
+        public String getTopicForSubnet(final int subnetId) {
+          return "/eth2/01020304/beacon_attestation_" + subnetId + "/ssz_snappy";
+        }
+      };
+  private final SyncCommitteeSubnetTopicProvider syncCommitteeTopicProvider =
+      new SyncCommitteeSubnetTopicProvider(null, null) {
+        @Override
+        public String getTopicForSubnet(final int subnetId) {
+          return "/eth2/01020304/sync_committee_" + subnetId + "/ssz_snappy";
+        }
+      };
+  private final DataColumnSidecarSubnetTopicProvider dataColumnSidecarTopicProvider =
+      new DataColumnSidecarSubnetTopicProvider(null, null) {
+        @Override
+        public String getTopicForSubnet(final int subnetId) {
+          return "/eth2/01020304/data_column_sidecar_" + subnetId + "/ssz_snappy";
+        }
+      };
+  private final SubnetSubscriptionService syncCommitteeSubnetService =
+      new SubnetSubscriptionService();
+  private final SubnetSubscriptionService dataColumnSidecarSubnetService =
+      new SubnetSubscriptionService();
+
+  private List<NodeId> peers;
+  private Map<String, Collection<NodeId>> subscribersByTopic;
+  private Map<String, Collection<NodeId>> subscribersByTopicWithOnePeerChanged;
+  private Map<String, Collection<NodeId>> currentSubscribersByTopic;
+  private PeerSubnetSubscriptionsTracker tracker;
+  private final GossipNetwork gossipNetwork =
+      new GossipNetwork() {
+        @Override
+        public SafeFuture<?> gossip(final String topic, final Bytes data) {
+          throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TopicChannel subscribe(final String topic, final TopicHandler topicHandler) {
+          throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Map<String, Collection<NodeId>> getSubscribersByTopic() {
+          return currentSubscribersByTopic;
+        }
+
+        @Override
+        public void updateGossipTopicScoring(final GossipTopicsScoringConfig config) {}
+      };
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(1);
+    final int attestationSubnetCount = spec.getNetworkingConfig().getAttestationSubnetCount();
+    final int syncCommitteeSubnetCount =
+        specVersion.getSchemaDefinitions().getSyncnetsENRFieldSchema().getLength();
+    final int dataColumnSidecarSubnetCount =
+        SpecConfigFulu.required(specVersion.getConfig()).getDataColumnSidecarSubnetCount();
+    syncCommitteeSubnetService.setSubscriptions(
+        IntStream.range(0, syncCommitteeSubnetCount).boxed().toList());
+    dataColumnSidecarSubnetService.setSubscriptions(
+        IntStream.range(0, dataColumnSidecarSubnetCount).boxed().toList());
+
+    peers = IntStream.range(0, peerCount).<NodeId>mapToObj(MockNodeId::new).toList();
+    subscribersByTopic = new HashMap<>();
+    for (NodeId peer : peers) {
+      for (int i = 0; i < ATTESTATION_SUBNETS_PER_PEER; i++) {
+        subscribe(
+            subscribersByTopic,
+            attestationTopicProvider.getTopicForSubnet(random.nextInt(attestationSubnetCount)),
+            peer);
+      }
+      subscribe(
+          subscribersByTopic,
+          syncCommitteeTopicProvider.getTopicForSubnet(random.nextInt(syncCommitteeSubnetCount)),
+          peer);
+      for (int i = 0; i < DATA_COLUMN_SIDECAR_SUBNETS_PER_PEER; i++) {
+        subscribe(
+            subscribersByTopic,
+            dataColumnSidecarTopicProvider.getTopicForSubnet(
+                random.nextInt(dataColumnSidecarSubnetCount)),
+            peer);
+      }
+    }
+    subscribersByTopicWithOnePeerChanged = new HashMap<>();
+    subscribersByTopic.forEach(
+        (topic, subscribers) ->
+            subscribersByTopicWithOnePeerChanged.put(topic, new HashSet<>(subscribers)));
+    subscribersByTopicWithOnePeerChanged.values().forEach(peerSet -> peerSet.remove(peers.get(0)));
+
+    currentSubscribersByTopic = subscribersByTopic;
+    tracker =
+        new PeerSubnetSubscriptionsTracker(
+            () -> specVersion,
+            NodeIdToDataColumnSidecarSubnetsCalculator.NOOP,
+            attestationTopicProvider,
+            syncCommitteeTopicProvider,
+            syncCommitteeSubnetService,
+            dataColumnSidecarTopicProvider,
+            dataColumnSidecarSubnetService,
+            2,
+            gauge);
+    tracker.create(gossipNetwork);
+  }
+
+  @Benchmark
+  public int createFromScratch() {
+    return scoreAllPeers(
+        PeerSubnetSubscriptions.create(
+            specVersion,
+            NodeIdToDataColumnSidecarSubnetsCalculator.NOOP,
+            gossipNetwork,
+            attestationTopicProvider,
+            syncCommitteeTopicProvider,
+            syncCommitteeSubnetService,
+            dataColumnSidecarTopicProvider,
+            dataColumnSidecarSubnetService,
+            2,
+            gauge));
+  }
+
+  @Benchmark
+  public int trackerUnchanged() {
+    return scoreAllPeers(tracker.create(gossipNetwork));
+  }
+
+  @Benchmark
+  public int trackerOnePeerChanged() {
+    // Alternate between two views which differ only in the subscriptions of a single peer
+    currentSubscribersByTopic =
+        currentSubscribersByTopic == subscribersByTopic
+            ? subscribersByTopicWithOnePeerChanged
+            : subscribersByTopic;
+    return scoreAllPeers(tracker.create(gossipNetwork));
+  }
+
+  private int scoreAllPeers(final PeerSubnetSubscriptions subscriptions) {
+    final PeerScorer scorer = subscriptions.createScorer();
+    int total = 0;
+    for (NodeId peer : peers) {
+      total += scorer.scoreExistingPeer(peer);
+    }
+    return total;
+  }
+
+  private static void subscribe(
+      final Map<String, Collection<NodeId>> subscribersByTopic,
+      final String topic,
+      final NodeId peer) {
+    subscribersByTopic.computeIfAbsent(topic, __ -> new HashSet<>()).add(peer);
+  }
+}
@@ -23,6 +23,7 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntSupplier;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
@@ -49,6 +50,7 @@ public class CachingTaskQueue<K, V> {
   private final MetricsSystem metricsSystem;
   private final String metricsPrefix;
   private final IntSupplier activeTaskLimit;
+  private final UnaryOperator<V> resultMapper;
 
   CachingTaskQueue(
       final AsyncRunner asyncRunner,
@@ -56,10 +58,27 @@ public class CachingTaskQueue<K, V> {
       final String metricsPrefix,
       final IntSupplier activeTaskLimit,
       final int maxCacheSize) {
+    this(
+        asyncRunner,
+        metricsSystem,
+        metricsPrefix,
+        activeTaskLimit,
+        maxCacheSize,
+        UnaryOperator.identity());
+  }
+
+  CachingTaskQueue(
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final String metricsPrefix,
+      final IntSupplier activeTaskLimit,
+      final int maxCacheSize,
+      final UnaryOperator<V> resultMapper) {
     this.asyncRunner = asyncRunner;
     this.metricsSystem = metricsSystem;
     this.metricsPrefix = metricsPrefix;
     this.activeTaskLimit = activeTaskLimit;
+    this.resultMapper = resultMapper;
     this.cache = LimitedMap.createSoft(maxCacheSize);
 
     final LabelledMetric<Counter> labelledCounter =
@@ -79,12 +98,27 @@ public class CachingTaskQueue<K, V> {
       final MetricsSystem metricsSystem,
       final String metricsPrefix,
       final int maxCacheSize) {
+    return create(
+        asyncRunner, metricsSystem, metricsPrefix, maxCacheSize, UnaryOperator.identity());
+  }
+
+  /**
+   * Creates a queue which applies {@code resultMapper} to the result of each task before it is
+   * cached and returned. The mapper runs on the task's thread and must return an equivalent value.
+   */
+  public static <K, V> CachingTaskQueue<K, V> create(
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final String metricsPrefix,
+      final int maxCacheSize,
+      final UnaryOperator<V> resultMapper) {
     return new CachingTaskQueue<>(
         asyncRunner,
         metricsSystem,
         metricsPrefix,
         () -> Math.max(2, Runtime.getRuntime().availableProcessors()),
-        maxCacheSize);
+        maxCacheSize,
+        resultMapper);
   }
 
   public void startMetrics() {
@@ -171,6 +205,7 @@ public class CachingTaskQueue<K, V> {
     activeTasks.incrementAndGet();
     asyncRunner
         .runAsync(task::performTask)
+        .thenApply(result -> result.map(resultMapper))
         .thenPeek(result -> result.ifPresent(value -> cache(task.getKey(), value)))
         .handle(
             (result, error) -> {
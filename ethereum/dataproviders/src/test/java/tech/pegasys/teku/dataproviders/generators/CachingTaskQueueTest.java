@@ -63,6 +63,24 @@ class CachingTaskQueueTest {
     assertThat(result).isCompletedWithValue(task.getExpectedValue());
   }
 
+  @Test
+  void shouldCacheAndReturnMappedResult() {
+    final CachingTaskQueue<Integer, String> mappingTaskQueue =
+        new CachingTaskQueue<>(
+            SYNC_RUNNER,
+            metricsSystem,
+            "mapping",
+            () -> MAX_CONCURRENT_TASKS,
+            MAX_CACHE_SIZE,
+            value -> value + "-mapped");
+    final StubTask task = new StubTask(4);
+    final SafeFuture<Optional<String>> result = mappingTaskQueue.perform(task);
+    task.completeTask();
+
+    assertThat(result).isCompletedWithValue(Optional.of("4-mapped"));
+    assertThat(mappingTaskQueue.getIfAvailable(4)).contains("4-mapped");
+  }
+
   @Test
   void shouldCacheResultOfPreviousTask() {
     final StubTask task1 = new StubTask(4);
@@ -104,6 +104,7 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.BeaconStat
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.gloas.BeaconStateGloas;
 import tech.pegasys.teku.spec.datastructures.util.AttestationProcessingResult;
+import tech.pegasys.teku.spec.datastructures.util.EpochCommitteeAssignments;
 import tech.pegasys.teku.spec.datastructures.util.ForkAndSpecMilestone;
 import tech.pegasys.teku.spec.genesis.GenesisGenerator;
 import tech.pegasys.teku.spec.logic.StateTransition;
@@ -1243,11 +1244,9 @@ public class Spec {
     return atEpoch(epoch).getValidatorsUtil().getCommitteeAssignment(state, epoch, validatorIndex);
   }
 
-  public Int2ObjectMap<CommitteeAssignment> getValidatorIndexToCommitteeAssignmentMap(
+  public EpochCommitteeAssignments getEpochCommitteeAssignments(
       final BeaconState state, final UInt64 epoch) {
-    return atEpoch(epoch)
-        .getValidatorsUtil()
-        .getValidatorIndexToCommitteeAssignmentMap(state, epoch);
+    return atEpoch(epoch).getValidatorsUtil().getEpochCommitteeAssignments(state, epoch);
   }
 
   // get_ptc_assignment
@@ -25,6 +25,7 @@ import tech.pegasys.teku.infrastructure.collections.cache.Cache;
 import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
 import tech.pegasys.teku.infrastructure.collections.cache.NoOpCache;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.util.EpochCommitteeAssignments;
 import tech.pegasys.teku.spec.datastructures.util.SyncSubcommitteeAssignments;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ProgressiveTotalBalancesUpdates;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
@@ -36,6 +37,7 @@ public class TransitionCaches {
   private static final int MAX_BEACON_PROPOSER_INDEX_CACHE = 1;
   private static final int MAX_BEACON_COMMITTEE_CACHE = 64 * 64;
   private static final int MAX_BEACON_COMMITTEES_SIZE_CACHE = 64;
+  private static final int MAX_COMMITTEE_ASSIGNMENTS_CACHE = 3;
   private static final int MAX_TOTAL_ACTIVE_BALANCE_CACHE = 2;
   private static final int MAX_COMMITTEE_SHUFFLE_CACHE = 3;
   private static final int MAX_EFFECTIVE_BALANCE_CACHE = 1;
@@ -56,6 +58,7 @@ public class TransitionCaches {
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
+          NoOpCache.getNoOpCache(),
           ProgressiveTotalBalancesUpdates.NOOP,
           NoOpCache.getNoOpCache(),
           BuilderIndexCache.NO_OP_INSTANCE) {
@@ -80,6 +83,7 @@ public class TransitionCaches {
   private final Cache<UInt64, Integer> beaconProposerIndex;
   private final Cache<TekuPair<UInt64, UInt64>, IntList> beaconCommittee;
   private final Cache<UInt64, Int2IntMap> beaconCommitteesSize;
+  private final Cache<UInt64, EpochCommitteeAssignments> committeeAssignments;
   private final Cache<UInt64, UInt64> attestersTotalBalance;
   private final Cache<UInt64, UInt64> totalActiveBalance;
   private final Cache<UInt64, BLSPublicKey> validatorsPubKeys;
@@ -100,6 +104,7 @@ public class TransitionCaches {
     beaconProposerIndex = LRUCache.create(MAX_BEACON_PROPOSER_INDEX_CACHE);
     beaconCommittee = LRUCache.create(MAX_BEACON_COMMITTEE_CACHE);
     beaconCommitteesSize = LRUCache.create(MAX_BEACON_COMMITTEES_SIZE_CACHE);
+    committeeAssignments = LRUCache.create(MAX_COMMITTEE_ASSIGNMENTS_CACHE);
     attestersTotalBalance = LRUCache.create(MAX_BEACON_COMMITTEE_CACHE);
     totalActiveBalance = LRUCache.create(MAX_TOTAL_ACTIVE_BALANCE_CACHE);
     validatorsPubKeys = LRUCache.create(Integer.MAX_VALUE - 1);
@@ -126,6 +131,7 @@ public class TransitionCaches {
       final Cache<UInt64, List<UInt64>> effectiveBalances,
       final Cache<UInt64, Map<UInt64, SyncSubcommitteeAssignments>> syncCommitteeCache,
       final Cache<UInt64, UInt64> baseRewardPerIncrement,
+      final Cache<UInt64, EpochCommitteeAssignments> committeeAssignments,
       final ProgressiveTotalBalancesUpdates progressiveTotalBalances,
       final Cache<UInt64, BLSPublicKey> buildersPubKeys,
       final BuilderIndexCache builderIndexCache) {
@@ -141,6 +147,7 @@ public class TransitionCaches {
     this.effectiveBalances = effectiveBalances;
     this.syncCommitteeCache = syncCommitteeCache;
     this.baseRewardPerIncrement = baseRewardPerIncrement;
+    this.committeeAssignments = committeeAssignments;
     this.progressiveTotalBalances = progressiveTotalBalances;
     this.buildersPubKeys = buildersPubKeys;
     this.builderIndexCache = builderIndexCache;
@@ -183,6 +190,11 @@ public class TransitionCaches {
     return beaconCommitteesSize;
   }
 
+  /** (epoch) -> (beacon committee assignment of every validator in the epoch) */
+  public Cache<UInt64, EpochCommitteeAssignments> getCommitteeAssignments() {
+    return committeeAssignments;
+  }
+
   /** (slot) -> (total effective balance of attesters in slot) */
   public Cache<UInt64, UInt64> getAttestersTotalBalance() {
     return attestersTotalBalance;
@@ -262,6 +274,7 @@ public class TransitionCaches {
         effectiveBalances.copy(),
         syncCommitteeCache.copy(),
         baseRewardPerIncrement.copy(),
+        committeeAssignments.copy(),
         progressiveTotalBalances.copy(),
         // Unlike validators, builder indices can be reassigned, so the builder caches must be
         // copied to prevent invalidations in one branch from corrupting lookups in another.
@@ -0,0 +1,151 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.MoreObjects;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.Arrays;
+import java.util.Optional;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
+
+/**
+ * Holds the beacon committee assignment of every validator for an epoch, indexed by validator
+ * index, so that the assignment for any number of validators can be looked up without scanning the
+ * committees.
+ */
+public class EpochCommitteeAssignments {
+  private static final int NOT_ASSIGNED = -1;
+
+  private final UInt64 startSlot;
+  private final int committeeCountPerSlot;
+  private final IntList[] committees;
+  // Indexed by validator index
+  private final int[] validatorCommittees;
+  private final int[] validatorCommitteePositions;
+
+  private EpochCommitteeAssignments(
+      final UInt64 startSlot,
+      final int committeeCountPerSlot,
+      final IntList[] committees,
+      final int[] validatorCommittees,
+      final int[] validatorCommitteePositions) {
+    this.startSlot = startSlot;
+    this.committeeCountPerSlot = committeeCountPerSlot;
+    this.committees = committees;
+    this.validatorCommittees = validatorCommittees;
+    this.validatorCommitteePositions = validatorCommitteePositions;
+  }
+
+  public static Builder builder(
+      final UInt64 startSlot,
+      final int slotsPerEpoch,
+      final int committeeCountPerSlot,
+      final int validatorCount) {
+    return new Builder(startSlot, slotsPerEpoch, committeeCountPerSlot, validatorCount);
+  }
+
+  public int getCommitteeCountPerSlot() {
+    return committeeCountPerSlot;
+  }
+
+  public Optional<CommitteeAssignment> getCommitteeAssignment(final int validatorIndex) {
+    final int committee = getCommittee(validatorIndex);
+    if (committee == NOT_ASSIGNED) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        new CommitteeAssignment(
+            committees[committee],
+            UInt64.valueOf(committee % committeeCountPerSlot),
+            startSlot.plus(committee / committeeCountPerSlot)));
+  }
+
+  /**
+   * Returns the position of the validator within its assigned committee, or -1 if the validator has
+   * no assignment in this epoch.
+   */
+  public int getCommitteePosition(final int validatorIndex) {
+    if (getCommittee(validatorIndex) == NOT_ASSIGNED) {
+      return NOT_ASSIGNED;
+    }
+    return validatorCommitteePositions[validatorIndex];
+  }
+
+  private int getCommittee(final int validatorIndex) {
+    if (validatorIndex < 0 || validatorIndex >= validatorCommittees.length) {
+      return NOT_ASSIGNED;
+    }
+    return validatorCommittees[validatorIndex];
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("startSlot", startSlot)
+        .add("committeeCountPerSlot", committeeCountPerSlot)
+        .add("validatorCount", validatorCommittees.length)
+        .toString();
+  }
+
+  public static class Builder {
+    private final UInt64 startSlot;
+    private final int committeeCountPerSlot;
+    private final IntList[] committees;
+    private final int[] validatorCommittees;
+    private final int[] validatorCommitteePositions;
+
+    private Builder(
+        final UInt64 startSlot,
+        final int slotsPerEpoch,
+        final int committeeCountPerSlot,
+        final int validatorCount) {
+      this.startSlot = startSlot;
+      this.committeeCountPerSlot = committeeCountPerSlot;
+      this.committees = new IntList[slotsPerEpoch * committeeCountPerSlot];
+      this.validatorCommittees = new int[validatorCount];
+      this.validatorCommitteePositions = new int[validatorCount];
+      Arrays.fill(validatorCommittees, NOT_ASSIGNED);
+    }
+
+    public Builder add(final UInt64 slot, final int committeeIndex, final IntList committee) {
+      checkArgument(
+          committeeIndex >= 0 && committeeIndex < committeeCountPerSlot,
+          "Committee index %s out of range",
+          committeeIndex);
+      checkArgument(slot.isGreaterThanOrEqualTo(startSlot), "Slot %s is not in the epoch", slot);
+      final int committeeNumber =
+          slot.minus(startSlot).intValue() * committeeCountPerSlot + committeeIndex;
+      checkArgument(committeeNumber < committees.length, "Slot %s is not in the epoch", slot);
+      committees[committeeNumber] = committee;
+      for (int position = 0; position < committee.size(); position++) {
+        final int validatorIndex = committee.getInt(position);
+        validatorCommittees[validatorIndex] = committeeNumber;
+        validatorCommitteePositions[validatorIndex] = position;
+      }
+      return this;
+    }
+
+    public EpochCommitteeAssignments build() {
+      return new EpochCommitteeAssignments(
+          startSlot,
+          committeeCountPerSlot,
+          committees,
+          validatorCommittees,
+          validatorCommitteePositions);
+    }
+  }
+}
@@ -16,6 +16,7 @@ package tech.pegasys.teku.spec.logic.common.block;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import java.util.Optional;
 import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignatureVerifier;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
@@ -152,6 +153,16 @@ public interface BlockProcessor {
   NewPayloadRequest computeNewPayloadRequest(BeaconState state, BeaconBlockBody beaconBlockBody)
       throws BlockProcessingException;
 
+  /**
+   * Computes the request to execute the payload of a block from the block alone, allowing the
+   * payload to be sent to the execution layer before the block's pre-state is available.
+   *
+   * @param parentBeaconBlockRoot the parent root of the block containing {@code beaconBlockBody}
+   */
+  NewPayloadRequest computeNewPayloadRequest(
+      Bytes32 parentBeaconBlockRoot, BeaconBlockBody beaconBlockBody)
+      throws BlockProcessingException;
+
   void validateExecutionPayloadHeader(
       BeaconState state, ExecutionPayloadHeader executionPayloadHeader)
       throws BlockProcessingException;
@@ -32,6 +32,7 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.electra.BeaconStateElectra;
 import tech.pegasys.teku.spec.datastructures.state.versions.electra.PendingPartialWithdrawal;
+import tech.pegasys.teku.spec.datastructures.util.EpochCommitteeAssignments;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
 import tech.pegasys.teku.spec.logic.common.helpers.MiscHelpers;
 
@@ -75,67 +76,46 @@ public class ValidatorsUtil {
    */
   public Optional<CommitteeAssignment> getCommitteeAssignment(
       final BeaconState state, final UInt64 epoch, final int validatorIndex) {
-    return getCommitteeAssignment(
-        state, epoch, validatorIndex, beaconStateAccessors.getCommitteeCountPerSlot(state, epoch));
+    final UInt64 nextEpoch = beaconStateAccessors.getCurrentEpoch(state).plus(UInt64.ONE);
+    checkArgument(
+        epoch.compareTo(nextEpoch) <= 0, "get_committee_assignment: Epoch number too high");
+    return getEpochCommitteeAssignments(state, epoch).getCommitteeAssignment(validatorIndex);
   }
 
-  public Int2ObjectMap<CommitteeAssignment> getValidatorIndexToCommitteeAssignmentMap(
+  /**
+   * Return the committee assignments of all validators in the ``epoch``. The assignments are
+   * computed once and then cached with the state's transition caches, so repeated duty queries for
+   * the same epoch only cost a lookup per validator.
+   *
+   * @param state the BeaconState.
+   * @param epoch either on or between previous or current epoch.
+   * @return the committee assignments for the epoch.
+   */
+  public EpochCommitteeAssignments getEpochCommitteeAssignments(
       final BeaconState state, final UInt64 epoch) {
-    final Int2ObjectMap<CommitteeAssignment> assignmentMap = new Int2ObjectOpenHashMap<>();
+    return BeaconStateCache.getTransitionCaches(state)
+        .getCommitteeAssignments()
+        .get(epoch, __ -> computeEpochCommitteeAssignments(state, epoch));
+  }
 
+  private EpochCommitteeAssignments computeEpochCommitteeAssignments(
+      final BeaconState state, final UInt64 epoch) {
     final int slotsPerEpoch = specConfig.getSlotsPerEpoch();
     final int committeeCountPerSlot =
         beaconStateAccessors.getCommitteeCountPerSlot(state, epoch).intValue();
     final UInt64 startSlot = miscHelpers.computeStartSlotAtEpoch(epoch);
+    final EpochCommitteeAssignments.Builder builder =
+        EpochCommitteeAssignments.builder(
+            startSlot, slotsPerEpoch, committeeCountPerSlot, state.getValidators().size());
     for (int slotOffset = 0; slotOffset < slotsPerEpoch; slotOffset++) {
       final UInt64 slot = startSlot.plus(slotOffset);
       for (int i = 0; i < committeeCountPerSlot; i++) {
-        final UInt64 committeeIndex = UInt64.valueOf(i);
         final IntList committee =
-            beaconStateAccessors.getBeaconCommittee(state, slot, committeeIndex);
-        committee.forEach(
-            j -> assignmentMap.put(j, new CommitteeAssignment(committee, committeeIndex, slot)));
+            beaconStateAccessors.getBeaconCommittee(state, slot, UInt64.valueOf(i));
+        builder.add(slot, i, committee);
       }
     }
-    return assignmentMap;
-  }
-
-  /**
-   * Return the committee assignment in the ``epoch`` for ``validator_index``. ``assignment``
-   * returned is a tuple of the following form: ``assignment[0]`` is the list of validators in the
-   * committee ``assignment[1]`` is the index to which the committee is assigned ``assignment[2]``
-   * is the slot at which the committee is assigned Return None if no assignment.
-   *
-   * @param state the BeaconState.
-   * @param epoch either on or between previous or current epoch.
-   * @param validatorIndex the validator that is calling this function.
-   * @param committeeCountPerSlot the number of committees for the target epoch
-   * @return Optional.of(CommitteeAssignment).
-   */
-  private Optional<CommitteeAssignment> getCommitteeAssignment(
-      final BeaconState state,
-      final UInt64 epoch,
-      final int validatorIndex,
-      final UInt64 committeeCountPerSlot) {
-    final UInt64 nextEpoch = beaconStateAccessors.getCurrentEpoch(state).plus(UInt64.ONE);
-    checkArgument(
-        epoch.compareTo(nextEpoch) <= 0, "get_committee_assignment: Epoch number too high");
-
-    final UInt64 startSlot = miscHelpers.computeStartSlotAtEpoch(epoch);
-    final UInt64 endSlotExclusive = startSlot.plus(specConfig.getSlotsPerEpoch());
-
-    for (UInt64 slot = startSlot; slot.isLessThan(endSlotExclusive); slot = slot.plus(UInt64.ONE)) {
-
-      for (UInt64 index = UInt64.ZERO;
-          index.compareTo(committeeCountPerSlot) < 0;
-          index = index.plus(UInt64.ONE)) {
-        final IntList committee = beaconStateAccessors.getBeaconCommittee(state, slot, index);
-        if (committee.contains(validatorIndex)) {
-          return Optional.of(new CommitteeAssignment(committee, index, slot));
-        }
-      }
-    }
-    return Optional.empty();
+    return builder.build();
   }
 
   public Optional<UInt64> getPtcAssignment(
@@ -349,6 +349,13 @@ public class BlockProcessorAltair extends AbstractBlockProcessor {
     throw new UnsupportedOperationException("No NewPayloadRequest in Altair");
   }
 
+  @Override
+  public NewPayloadRequest computeNewPayloadRequest(
+      final Bytes32 parentBeaconBlockRoot, final BeaconBlockBody beaconBlockBody)
+      throws BlockProcessingException {
+    throw new UnsupportedOperationException("No NewPayloadRequest in Altair");
+  }
+
   @Override
   public boolean isOptimistic() {
     return false;
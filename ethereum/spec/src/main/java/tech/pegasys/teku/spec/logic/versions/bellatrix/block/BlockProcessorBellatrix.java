@@ -15,6 +15,7 @@ package tech.pegasys.teku.spec.logic.versions.bellatrix.block;
 
 import java.util.Optional;
 import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSSignatureVerifier;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.spec.cache.IndexedAttestationCache;
@@ -209,6 +210,13 @@ public class BlockProcessorBellatrix extends BlockProcessorAltair {
   public NewPayloadRequest computeNewPayloadRequest(
       final BeaconState state, final BeaconBlockBody beaconBlockBody)
       throws BlockProcessingException {
+    return computeNewPayloadRequest(state.getLatestBlockHeader().getParentRoot(), beaconBlockBody);
+  }
+
+  @Override
+  public NewPayloadRequest computeNewPayloadRequest(
+      final Bytes32 parentBeaconBlockRoot, final BeaconBlockBody beaconBlockBody)
+      throws BlockProcessingException {
     final ExecutionPayload executionPayload = extractExecutionPayload(beaconBlockBody);
     return new NewPayloadRequest(executionPayload);
   }
@@ -94,7 +94,7 @@ public class BlockProcessorDeneb extends BlockProcessorCapella {
 
   @Override
   public NewPayloadRequest computeNewPayloadRequest(
-      final BeaconState state, final BeaconBlockBody beaconBlockBody)
+      final Bytes32 parentBeaconBlockRoot, final BeaconBlockBody beaconBlockBody)
       throws BlockProcessingException {
     final ExecutionPayload executionPayload = extractExecutionPayload(beaconBlockBody);
     final SszList<SszKZGCommitment> blobKzgCommitments = extractBlobKzgCommitments(beaconBlockBody);
@@ -103,7 +103,6 @@ public class BlockProcessorDeneb extends BlockProcessorCapella {
             .map(SszKZGCommitment::getKZGCommitment)
             .map(miscHelpers::kzgCommitmentToVersionedHash)
             .toList();
-    final Bytes32 parentBeaconBlockRoot = state.getLatestBlockHeader().getParentRoot();
     return new NewPayloadRequest(executionPayload, versionedHashes, parentBeaconBlockRoot);
   }
 
@@ -114,7 +114,7 @@ public class BlockProcessorElectra extends BlockProcessorDeneb {
 
   @Override
   public NewPayloadRequest computeNewPayloadRequest(
-      final BeaconState state, final BeaconBlockBody beaconBlockBody)
+      final Bytes32 parentBeaconBlockRoot, final BeaconBlockBody beaconBlockBody)
       throws BlockProcessingException {
     final ExecutionPayload executionPayload = extractExecutionPayload(beaconBlockBody);
     final SszList<SszKZGCommitment> blobKzgCommitments = extractBlobKzgCommitments(beaconBlockBody);
@@ -123,7 +123,6 @@ public class BlockProcessorElectra extends BlockProcessorDeneb {
             .map(SszKZGCommitment::getKZGCommitment)
             .map(miscHelpers::kzgCommitmentToVersionedHash)
             .toList();
-    final Bytes32 parentBeaconBlockRoot = state.getLatestBlockHeader().getParentRoot();
     final ExecutionRequests executionRequests =
         beaconBlockBody
             .getOptionalExecutionRequests()
@@ -15,6 +15,7 @@ package tech.pegasys.teku.spec.logic.versions.phase0.block;
 
 import java.util.Optional;
 import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSSignatureVerifier;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -137,6 +138,13 @@ public final class BlockProcessorPhase0 extends AbstractBlockProcessor {
     throw new UnsupportedOperationException("No NewPayloadRequest in phase0");
   }
 
+  @Override
+  public NewPayloadRequest computeNewPayloadRequest(
+      final Bytes32 parentBeaconBlockRoot, final BeaconBlockBody beaconBlockBody)
+      throws BlockProcessingException {
+    throw new UnsupportedOperationException("No NewPayloadRequest in phase0");
+  }
+
   @Override
   public void validateExecutionPayloadHeader(
       final BeaconState state, final ExecutionPayloadHeader executionPayloadHeader)
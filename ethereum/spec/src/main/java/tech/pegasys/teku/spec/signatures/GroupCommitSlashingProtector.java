@@ -0,0 +1,212 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.signatures;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.ethereum.signingrecord.ValidatorSigningRecord;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Slashing protector which stores the signing records of all validators in a single {@link
+ * SigningRecordLog}, so that signing records updated concurrently share a single fsync.
+ *
+ * <p>Per-validator YAML files written by {@link LocalSlashingProtector} or imported from the
+ * interchange format are still read, and merged with the log entry, the first time a validator is
+ * used. Updates are only written to the log, so {@link #moveLogRecordsToFiles(SyncDataAccessor,
+ * Path)} must be used before switching back to a file based slashing protector.
+ */
+public class GroupCommitSlashingProtector implements SlashingProtector {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Map<BLSPublicKey, Record> records = new ConcurrentHashMap<>();
+  private final SyncDataAccessor dataAccessor;
+  private final Path slashingProtectionBaseDir;
+  private final SigningRecordLog signingRecordLog;
+
+  public GroupCommitSlashingProtector(
+      final SyncDataAccessor dataAccessor,
+      final Path slashingProtectionBaseDir,
+      final SigningRecordLog signingRecordLog) {
+    this.dataAccessor = dataAccessor;
+    this.slashingProtectionBaseDir = slashingProtectionBaseDir;
+    this.signingRecordLog = signingRecordLog;
+  }
+
+  public static GroupCommitSlashingProtector create(
+      final SyncDataAccessor dataAccessor, final Path slashingProtectionBaseDir) {
+    try {
+      final SigningRecordLog signingRecordLog = SigningRecordLog.open(slashingProtectionBaseDir);
+      return new GroupCommitSlashingProtector(
+          dataAccessor, slashingProtectionBaseDir, signingRecordLog);
+    } catch (final IOException e) {
+      throw new IllegalStateException(
+          "Unable to open slashing protection log in " + slashingProtectionBaseDir, e);
+    }
+  }
+
+  /**
+   * Merges the records in any existing {@link SigningRecordLog} into the per-validator YAML files
+   * and then deletes the log, so that file based slashing protectors enforce records which were
+   * only written to the log.
+   *
+   * @param dataAccessor the accessor used to read and write the YAML files
+   * @param slashingProtectionBaseDir the slashing protection directory
+   * @throws IOException if the log can't be read, is corrupt or the records can't be written
+   */
+  public static void moveLogRecordsToFiles(
+      final SyncDataAccessor dataAccessor, final Path slashingProtectionBaseDir)
+      throws IOException {
+    if (!SigningRecordLog.exists(slashingProtectionBaseDir)) {
+      return;
+    }
+    final Map<BLSPublicKey, ValidatorSigningRecord> logRecords =
+        SigningRecordLog.readRecords(slashingProtectionBaseDir);
+    LOG.info(
+        "Moving {} slashing protection records from {} to per-validator files",
+        logRecords.size(),
+        SigningRecordLog.LOG_FILE_NAME);
+    for (Map.Entry<BLSPublicKey, ValidatorSigningRecord> entry : logRecords.entrySet()) {
+      final Path recordFile = recordFilePath(slashingProtectionBaseDir, entry.getKey());
+      final ValidatorSigningRecord record =
+          dataAccessor
+              .read(recordFile)
+              .map(ValidatorSigningRecord::fromBytes)
+              .map(fileRecord -> SigningRecordLog.mergeRecords(entry.getValue(), fileRecord))
+              .orElse(entry.getValue());
+      dataAccessor.syncedWrite(recordFile, record.toBytes());
+    }
+    // Only remove the log once every record is durable in its file. If interrupted the next
+    // start merges the same records again.
+    Files.delete(slashingProtectionBaseDir.resolve(SigningRecordLog.LOG_FILE_NAME));
+  }
+
+  @Override
+  public SafeFuture<Boolean> maySignBlock(
+      final BLSPublicKey validator, final Bytes32 genesisValidatorsRoot, final UInt64 slot) {
+    return SafeFuture.of(
+        () ->
+            updateRecord(
+                validator,
+                genesisValidatorsRoot,
+                signingRecord -> signingRecord.maySignBlock(genesisValidatorsRoot, slot)));
+  }
+
+  @Override
+  public SafeFuture<Boolean> maySignAttestation(
+      final BLSPublicKey validator,
+      final Bytes32 genesisValidatorsRoot,
+      final UInt64 sourceEpoch,
+      final UInt64 targetEpoch) {
+    return SafeFuture.of(
+        () ->
+            updateRecord(
+                validator,
+                genesisValidatorsRoot,
+                signingRecord ->
+                    signingRecord.maySignAttestation(
+                        genesisValidatorsRoot, sourceEpoch, targetEpoch)));
+  }
+
+  @Override
+  public Optional<ValidatorSigningRecord> getSigningRecord(final BLSPublicKey validator) {
+    final Record record = records.get(validator);
+    if (record == null) {
+      return loadSigningRecord(validator);
+    }
+    record.lock.lock();
+    try {
+      return Optional.of(record.signingRecord);
+    } finally {
+      record.lock.unlock();
+    }
+  }
+
+  private boolean updateRecord(
+      final BLSPublicKey validator,
+      final Bytes32 genesisValidatorsRoot,
+      final Function<ValidatorSigningRecord, Optional<ValidatorSigningRecord>> update)
+      throws IOException {
+    final Record record =
+        records.computeIfAbsent(
+            validator, __ -> loadOrCreateRecord(validator, genesisValidatorsRoot));
+    record.lock.lock();
+    try {
+      final Optional<ValidatorSigningRecord> maybeNewRecord = update.apply(record.signingRecord);
+      if (maybeNewRecord.isEmpty()) {
+        return false;
+      }
+      // Hold the validator's lock until the record is durable so later requests for the same
+      // validator are checked against it, while other validators join the same fsync batch.
+      signingRecordLog.append(validator, maybeNewRecord.get());
+      record.signingRecord = maybeNewRecord.get();
+      return true;
+    } finally {
+      record.lock.unlock();
+    }
+  }
+
+  private Record loadOrCreateRecord(
+      final BLSPublicKey validator, final Bytes32 genesisValidatorsRoot) {
+    return new Record(
+        loadSigningRecord(validator)
+            .orElseGet(() -> ValidatorSigningRecord.emptySigningRecord(genesisValidatorsRoot)));
+  }
+
+  private Optional<ValidatorSigningRecord> loadSigningRecord(final BLSPublicKey validator) {
+    final Optional<ValidatorSigningRecord> logRecord = signingRecordLog.getLoadedRecord(validator);
+    final Optional<ValidatorSigningRecord> fileRecord = readSigningRecordFile(validator);
+    if (logRecord.isPresent() && fileRecord.isPresent()) {
+      return Optional.of(SigningRecordLog.mergeRecords(logRecord.get(), fileRecord.get()));
+    }
+    return logRecord.or(() -> fileRecord);
+  }
+
+  private Optional<ValidatorSigningRecord> readSigningRecordFile(final BLSPublicKey validator) {
+    final Path slashingProtectedPath = recordFilePath(slashingProtectionBaseDir, validator);
+    try {
+      return dataAccessor.read(slashingProtectedPath).map(ValidatorSigningRecord::fromBytes);
+    } catch (final IOException e) {
+      LOG.error("Failed to load validator signing record {}", validator, e);
+      return Optional.empty();
+    }
+  }
+
+  private static Path recordFilePath(
+      final Path slashingProtectionBaseDir, final BLSPublicKey validator) {
+    return slashingProtectionBaseDir.resolve(
+        validator.toBytesCompressed().toUnprefixedHexString() + ".yml");
+  }
+
+  private static class Record {
+    private final ReentrantLock lock = new ReentrantLock();
+    private ValidatorSigningRecord signingRecord;
+
+    private Record(final ValidatorSigningRecord signingRecord) {
+      this.signingRecord = signingRecord;
+    }
+  }
+}
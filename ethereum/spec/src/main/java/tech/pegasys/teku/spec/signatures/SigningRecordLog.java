@@ -0,0 +1,412 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.signatures;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.CRC32C;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes48;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.ethereum.signingrecord.ValidatorSigningRecord;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * An append-only, checksummed log of {@link ValidatorSigningRecord}s for all validators stored in
+ * a single file.
+ *
+ * <p>Each entry is written as {@code [payload length][crc32c][public key][signing record]}. When
+ * the log is opened the entries are replayed in order so the last entry for a public key wins. A
+ * torn entry at the end of the file (e.g. from a crash part way through a write) is discarded, but
+ * an invalid entry followed by valid entries means the log is corrupt and it fails to open rather
+ * than silently dropping records that may be protecting against slashable signing.
+ *
+ * <p>Appends use group commit: concurrent callers queue their entries and whichever caller holds
+ * the write lock writes every queued entry and performs a single fsync for the whole batch. A call
+ * to {@link #append(BLSPublicKey, ValidatorSigningRecord)} only returns once its entry is durable.
+ */
+public class SigningRecordLog implements AutoCloseable {
+  private static final Logger LOG = LogManager.getLogger();
+
+  public static final String LOG_FILE_NAME = "signing-records.log";
+
+  private static final int HEADER_SIZE = Integer.BYTES * 2;
+  private static final int PUBLIC_KEY_SIZE = BLSPublicKey.SSZ_BLS_PUBKEY_SIZE;
+  private static final int MAX_PAYLOAD_SIZE = 64 * 1024;
+  // Compact on open once the log holds this many times more entries than live records
+  private static final int COMPACTION_RATIO = 4;
+  private static final int MIN_ENTRIES_BEFORE_COMPACTION = 1024;
+
+  private final Path logFile;
+  private final FileChannel channel;
+  private final Map<BLSPublicKey, ValidatorSigningRecord> loadedRecords;
+
+  private final Queue<PendingWrite> pendingWrites = new ConcurrentLinkedQueue<>();
+  private final Object writeLock = new Object();
+  private final Runnable beforeBatchWrite;
+
+  private long batchCount = 0;
+  private long entryCount = 0;
+  private IOException writeFailure;
+
+  private SigningRecordLog(
+      final Path logFile,
+      final FileChannel channel,
+      final Map<BLSPublicKey, ValidatorSigningRecord> loadedRecords,
+      final Runnable beforeBatchWrite) {
+    this.logFile = logFile;
+    this.channel = channel;
+    this.loadedRecords = loadedRecords;
+    this.beforeBatchWrite = beforeBatchWrite;
+  }
+
+  /**
+   * Opens (creating if required) the signing record log in the specified slashing protection
+   * directory.
+   *
+   * @param slashingProtectionBaseDir the slashing protection directory
+   * @return the opened log, with all existing entries replayed
+   * @throws IOException if the log can't be read or created, or is corrupt
+   */
+  public static SigningRecordLog open(final Path slashingProtectionBaseDir) throws IOException {
+    return open(slashingProtectionBaseDir, () -> {});
+  }
+
+  @VisibleForTesting
+  static SigningRecordLog open(
+      final Path slashingProtectionBaseDir, final Runnable beforeBatchWrite) throws IOException {
+    final Path logFile = slashingProtectionBaseDir.resolve(LOG_FILE_NAME);
+    Files.createDirectories(slashingProtectionBaseDir);
+    final ReplayResult replay = replay(logFile);
+    if (replay.entryCount() > MIN_ENTRIES_BEFORE_COMPACTION
+        && replay.entryCount() > (long) replay.records().size() * COMPACTION_RATIO) {
+      compact(logFile, replay.records());
+    }
+    final FileChannel channel =
+        FileChannel.open(
+            logFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    if (channel.size() > replay.validLength()) {
+      LOG.warn(
+          "Discarding {} bytes of incomplete slashing protection data at end of {}",
+          channel.size() - replay.validLength(),
+          logFile);
+      channel.truncate(replay.validLength());
+      channel.force(true);
+    }
+    channel.position(channel.size());
+    return new SigningRecordLog(logFile, channel, replay.records(), beforeBatchWrite);
+  }
+
+  /**
+   * Reads the latest signing record for each validator from the log in the specified directory
+   * without opening it for writing.
+   *
+   * @param slashingProtectionBaseDir the slashing protection directory
+   * @return the latest record for each validator, or an empty map if there is no log
+   * @throws IOException if the log can't be read or is corrupt
+   */
+  public static Map<BLSPublicKey, ValidatorSigningRecord> readRecords(
+      final Path slashingProtectionBaseDir) throws IOException {
+    return replay(slashingProtectionBaseDir.resolve(LOG_FILE_NAME)).records();
+  }
+
+  public static boolean exists(final Path slashingProtectionBaseDir) {
+    return Files.exists(slashingProtectionBaseDir.resolve(LOG_FILE_NAME));
+  }
+
+  /**
+   * Combines two records for the same validator, keeping the most restrictive values so that
+   * signing is only permitted if it would be permitted by both.
+   */
+  public static ValidatorSigningRecord mergeRecords(
+      final ValidatorSigningRecord existing, final ValidatorSigningRecord other) {
+    return new ValidatorSigningRecord(
+        existing.genesisValidatorsRoot().or(other::genesisValidatorsRoot),
+        existing.blockSlot().max(other.blockSlot()),
+        nullSafeMax(existing.attestationSourceEpoch(), other.attestationSourceEpoch()),
+        nullSafeMax(existing.attestationTargetEpoch(), other.attestationTargetEpoch()));
+  }
+
+  /** Returns the record for the validator as it was when the log was opened. */
+  public Optional<ValidatorSigningRecord> getLoadedRecord(final BLSPublicKey validator) {
+    return Optional.ofNullable(loadedRecords.get(validator));
+  }
+
+  public Map<BLSPublicKey, ValidatorSigningRecord> getLoadedRecords() {
+    return Collections.unmodifiableMap(loadedRecords);
+  }
+
+  /**
+   * Appends a record to the log, returning only once it has been flushed to disk.
+   *
+   * @param validator the validator the record belongs to
+   * @param record the new signing record
+   * @throws IOException if the record could not be durably written
+   */
+  public void append(final BLSPublicKey validator, final ValidatorSigningRecord record)
+      throws IOException {
+    final PendingWrite write = new PendingWrite(encodeEntry(validator, record));
+    pendingWrites.add(write);
+    synchronized (writeLock) {
+      // Another caller may have already written this entry as part of its batch
+      if (!write.isComplete()) {
+        writePendingBatch();
+      }
+    }
+    write.checkResult();
+  }
+
+  long getBatchCount() {
+    synchronized (writeLock) {
+      return batchCount;
+    }
+  }
+
+  long getEntryCount() {
+    synchronized (writeLock) {
+      return entryCount;
+    }
+  }
+
+  int getPendingWriteCount() {
+    return pendingWrites.size();
+  }
+
+  @Override
+  public void close() throws IOException {
+    synchronized (writeLock) {
+      channel.close();
+    }
+  }
+
+  private void writePendingBatch() {
+    final List<PendingWrite> batch = new ArrayList<>();
+    PendingWrite next;
+    while ((next = pendingWrites.poll()) != null) {
+      batch.add(next);
+    }
+    if (batch.isEmpty()) {
+      return;
+    }
+    if (writeFailure != null) {
+      batch.forEach(write -> write.fail(writeFailure));
+      return;
+    }
+    beforeBatchWrite.run();
+    final long startPosition;
+    try {
+      startPosition = channel.position();
+    } catch (final IOException e) {
+      batch.forEach(write -> write.fail(e));
+      return;
+    }
+    try {
+      final ByteBuffer buffer =
+          ByteBuffer.allocate(batch.stream().mapToInt(write -> write.entry().size()).sum());
+      batch.forEach(write -> buffer.put(write.entry().toArrayUnsafe()));
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(false);
+      batchCount++;
+      entryCount += batch.size();
+      batch.forEach(PendingWrite::succeed);
+    } catch (final IOException e) {
+      LOG.error("Failed to write slashing protection records to {}", logFile, e);
+      discardPartialWrite(startPosition);
+      batch.forEach(write -> write.fail(e));
+    }
+  }
+
+  private void discardPartialWrite(final long startPosition) {
+    try {
+      channel.truncate(startPosition);
+      channel.position(startPosition);
+    } catch (final IOException e) {
+      // Writing more entries after the torn one would leave the log corrupt rather than just torn
+      // at the end, so refuse any further writes until the log is reopened
+      LOG.error("Failed to discard partially written slashing protection records", e);
+      writeFailure = e;
+    }
+  }
+
+  static Bytes encodeEntry(final BLSPublicKey validator, final ValidatorSigningRecord record) {
+    final Bytes payload = Bytes.concatenate(validator.toBytesCompressed(), record.toBytes());
+    final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    header.putInt(payload.size());
+    header.putInt(checksum(payload));
+    return Bytes.concatenate(Bytes.wrap(header.array()), payload);
+  }
+
+  private static ReplayResult replay(final Path logFile) throws IOException {
+    final Map<BLSPublicKey, ValidatorSigningRecord> records = new HashMap<>();
+    if (!Files.exists(logFile)) {
+      return new ReplayResult(records, 0, 0);
+    }
+    final Bytes data = Bytes.wrap(Files.readAllBytes(logFile));
+    int position = 0;
+    long entryCount = 0;
+    while (position < data.size()) {
+      final Optional<Bytes> maybePayload = readPayload(data, position);
+      if (maybePayload.isEmpty()) {
+        // Only the last write can be torn by a crash. Anything valid after an invalid entry means
+        // records have been lost or damaged, so don't guess at which records are still correct.
+        if (containsValidEntry(data, position + 1)) {
+          throw new IOException(
+              "Slashing protection log "
+                  + logFile
+                  + " is corrupt: invalid entry at offset "
+                  + position
+                  + " is followed by valid entries. Restore the slashing protection data from a"
+                  + " backup or interchange export before restarting.");
+        }
+        break;
+      }
+      final Bytes payload = maybePayload.get();
+      position += HEADER_SIZE + payload.size();
+      try {
+        final BLSPublicKey validator =
+            BLSPublicKey.fromBytesCompressed(Bytes48.wrap(payload.slice(0, PUBLIC_KEY_SIZE)));
+        final ValidatorSigningRecord record =
+            ValidatorSigningRecord.fromBytes(payload.slice(PUBLIC_KEY_SIZE));
+        records.put(validator, record);
+        entryCount++;
+      } catch (final RuntimeException e) {
+        // A checksummed entry that can't be parsed is corruption we can't safely skip over
+        throw new IOException("Invalid slashing protection record in " + logFile, e);
+      }
+    }
+    return new ReplayResult(records, position, entryCount);
+  }
+
+  private static Optional<Bytes> readPayload(final Bytes data, final int entryStart) {
+    if (data.size() - entryStart < HEADER_SIZE) {
+      return Optional.empty();
+    }
+    final int payloadSize = data.getInt(entryStart);
+    final int payloadStart = entryStart + HEADER_SIZE;
+    if (payloadSize <= PUBLIC_KEY_SIZE
+        || payloadSize > MAX_PAYLOAD_SIZE
+        || payloadSize > data.size() - payloadStart) {
+      return Optional.empty();
+    }
+    final Bytes payload = data.slice(payloadStart, payloadSize);
+    if (checksum(payload) != data.getInt(entryStart + Integer.BYTES)) {
+      return Optional.empty();
+    }
+    return Optional.of(payload);
+  }
+
+  private static boolean containsValidEntry(final Bytes data, final int fromPosition) {
+    for (int position = fromPosition; position <= data.size() - HEADER_SIZE; position++) {
+      if (readPayload(data, position).isPresent()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void compact(
+      final Path logFile, final Map<BLSPublicKey, ValidatorSigningRecord> records)
+      throws IOException {
+    LOG.info("Compacting slashing protection log {} to {} records", logFile, records.size());
+    final Path tmpFile = logFile.resolveSibling(LOG_FILE_NAME + ".tmp");
+    try (FileChannel tmpChannel =
+        FileChannel.open(
+            tmpFile,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      for (Map.Entry<BLSPublicKey, ValidatorSigningRecord> entry : records.entrySet()) {
+        final ByteBuffer buffer =
+            ByteBuffer.wrap(encodeEntry(entry.getKey(), entry.getValue()).toArrayUnsafe());
+        while (buffer.hasRemaining()) {
+          tmpChannel.write(buffer);
+        }
+      }
+      tmpChannel.force(true);
+    }
+    Files.move(
+        tmpFile, logFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  private static int checksum(final Bytes payload) {
+    final CRC32C crc = new CRC32C();
+    crc.update(payload.toArrayUnsafe());
+    return (int) crc.getValue();
+  }
+
+  private static UInt64 nullSafeMax(final UInt64 a, final UInt64 b) {
+    if (a == null) {
+      return b;
+    } else if (b == null) {
+      return a;
+    }
+    return a.max(b);
+  }
+
+  private record ReplayResult(
+      Map<BLSPublicKey, ValidatorSigningRecord> records, long validLength, long entryCount) {}
+
+  private static class PendingWrite {
+    private final Bytes entry;
+    private boolean complete = false;
+    private IOException error;
+
+    private PendingWrite(final Bytes entry) {
+      this.entry = entry;
+    }
+
+    Bytes entry() {
+      return entry;
+    }
+
+    // Completion state is only modified and read while holding the log's write lock
+    boolean isComplete() {
+      return complete;
+    }
+
+    void succeed() {
+      complete = true;
+    }
+
+    void fail(final IOException error) {
+      this.error = error;
+      complete = true;
+    }
+
+    void checkResult() throws IOException {
+      if (error != null) {
+        throw new IOException("Failed to write slashing protection record", error);
+      }
+    }
+  }
+}
@@ -15,6 +15,7 @@ package tech.pegasys.teku.spec.logic.common.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import it.unimi.dsi.fastutil.ints.IntList;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
@@ -26,8 +27,12 @@ import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.interop.GenesisStateBuilder;
+import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.util.EpochCommitteeAssignments;
+import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 
 class ValidatorsUtilTest {
@@ -95,6 +100,72 @@ class ValidatorsUtilTest {
         .contains(nextState.getValidators().size() - 1);
   }
 
+  @Test
+  void getEpochCommitteeAssignments_shouldMatchBeaconCommittees() {
+    final BeaconState state = createStateWithActiveValidators();
+    final UInt64 epoch = spec.getCurrentEpoch(state);
+    final EpochCommitteeAssignments assignments =
+        validatorsUtil.getEpochCommitteeAssignments(state, epoch);
+    final BeaconStateAccessors beaconStateAccessors =
+        spec.getGenesisSpec().beaconStateAccessors();
+    final UInt64 committeeCountPerSlot =
+        beaconStateAccessors.getCommitteeCountPerSlot(state, epoch);
+    final UInt64 startSlot = spec.computeStartSlotAtEpoch(epoch);
+
+    int assignedValidators = 0;
+    for (int slotOffset = 0; slotOffset < spec.getSlotsPerEpoch(startSlot); slotOffset++) {
+      final UInt64 slot = startSlot.plus(slotOffset);
+      for (UInt64 index = UInt64.ZERO;
+          index.isLessThan(committeeCountPerSlot);
+          index = index.increment()) {
+        final IntList committee = beaconStateAccessors.getBeaconCommittee(state, slot, index);
+        for (int position = 0; position < committee.size(); position++) {
+          final int validatorIndex = committee.getInt(position);
+          assertThat(assignments.getCommitteeAssignment(validatorIndex))
+              .contains(new CommitteeAssignment(committee, index, slot));
+          assertThat(assignments.getCommitteePosition(validatorIndex)).isEqualTo(position);
+          assignedValidators++;
+        }
+      }
+    }
+    assertThat(assignedValidators).isGreaterThan(0);
+    assertThat(assignments.getCommitteeCountPerSlot())
+        .isEqualTo(committeeCountPerSlot.intValue());
+  }
+
+  @Test
+  void getEpochCommitteeAssignments_shouldReturnEmptyForUnknownValidator() {
+    final BeaconState state = createStateWithActiveValidators();
+    final EpochCommitteeAssignments assignments =
+        validatorsUtil.getEpochCommitteeAssignments(state, spec.getCurrentEpoch(state));
+    final int unknownValidator = state.getValidators().size();
+
+    assertThat(assignments.getCommitteeAssignment(unknownValidator)).isEmpty();
+    assertThat(assignments.getCommitteePosition(unknownValidator)).isEqualTo(-1);
+  }
+
+  @Test
+  void getEpochCommitteeAssignments_shouldReuseCachedAssignments() {
+    final BeaconState state = createStateWithActiveValidators();
+    final UInt64 epoch = spec.getCurrentEpoch(state);
+
+    assertThat(validatorsUtil.getEpochCommitteeAssignments(state, epoch))
+        .isSameAs(validatorsUtil.getEpochCommitteeAssignments(state, epoch));
+  }
+
+  @Test
+  void getCommitteeAssignment_shouldMatchEpochCommitteeAssignments() {
+    final BeaconState state = createStateWithActiveValidators();
+    final UInt64 epoch = spec.getCurrentEpoch(state);
+
+    final EpochCommitteeAssignments assignments =
+        validatorsUtil.getEpochCommitteeAssignments(state, epoch);
+
+    assertThat(validatorsUtil.getCommitteeAssignment(state, epoch, 0))
+        .isPresent()
+        .isEqualTo(assignments.getCommitteeAssignment(0));
+  }
+
   @Test
   void testIsAggregatorReturnsFalseOnARealCase() {
     Bytes signingRoot =
@@ -137,4 +208,8 @@ class ValidatorsUtilTest {
     assertThat(validatorsUtil.getAggregatorModulo(16000)).isEqualTo(1000);
     assertThat(validatorsUtil.getAggregatorModulo(Integer.MAX_VALUE)).isEqualTo(134217727);
   }
+
+  private BeaconState createStateWithActiveValidators() {
+    return new GenesisStateBuilder().spec(spec).addMockValidators(64).build();
+  }
 }
@@ -0,0 +1,286 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.signatures;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.ethereum.signingrecord.ValidatorSigningRecord;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.Waiter;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class GroupCommitSlashingProtectorTest {
+  private static final Bytes32 GENESIS_VALIDATORS_ROOT = Bytes32.fromHexString("0x561234");
+
+  private final DataStructureUtil dataStructureUtil =
+      new DataStructureUtil(TestSpecFactory.createDefault());
+  private final BLSPublicKey validator = dataStructureUtil.randomPublicKey();
+
+  @TempDir Path baseDir;
+
+  private SigningRecordLog signingRecordLog;
+  private GroupCommitSlashingProtector slashingProtector;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    signingRecordLog = SigningRecordLog.open(baseDir);
+    slashingProtector = createProtector(signingRecordLog);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    signingRecordLog.close();
+  }
+
+  @Test
+  void shouldRejectSlashableAttestations() {
+    assertThat(attest(validator, 1, 2)).isCompletedWithValue(true);
+    assertThat(attest(validator, 1, 2)).isCompletedWithValue(false);
+    assertThat(attest(validator, 0, 3)).isCompletedWithValue(false);
+    assertThat(attest(validator, 2, 3)).isCompletedWithValue(true);
+  }
+
+  @Test
+  void shouldRejectSlashableBlocks() {
+    assertThat(signBlock(validator, 5)).isCompletedWithValue(true);
+    assertThat(signBlock(validator, 5)).isCompletedWithValue(false);
+    assertThat(signBlock(validator, 4)).isCompletedWithValue(false);
+    assertThat(signBlock(validator, 6)).isCompletedWithValue(true);
+  }
+
+  @Test
+  void shouldPersistRecordsAcrossRestart() throws IOException {
+    assertThat(attest(validator, 3, 4)).isCompletedWithValue(true);
+    assertThat(signBlock(validator, 10)).isCompletedWithValue(true);
+    restart();
+
+    assertThat(slashingProtector.getSigningRecord(validator))
+        .contains(
+            new ValidatorSigningRecord(
+                Optional.of(GENESIS_VALIDATORS_ROOT),
+                UInt64.valueOf(10),
+                UInt64.valueOf(3),
+                UInt64.valueOf(4)));
+    assertThat(attest(validator, 3, 4)).isCompletedWithValue(false);
+    assertThat(signBlock(validator, 10)).isCompletedWithValue(false);
+  }
+
+  @Test
+  void shouldMergeLegacyFileRecordWithLogRecord() throws IOException {
+    assertThat(attest(validator, 3, 4)).isCompletedWithValue(true);
+    SyncDataAccessor.create(baseDir)
+        .syncedWrite(
+            baseDir.resolve(validator.toBytesCompressed().toUnprefixedHexString() + ".yml"),
+            new ValidatorSigningRecord(
+                    Optional.of(GENESIS_VALIDATORS_ROOT),
+                    UInt64.valueOf(20),
+                    UInt64.valueOf(1),
+                    UInt64.valueOf(2))
+                .toBytes());
+    restart();
+
+    assertThat(signBlock(validator, 20)).isCompletedWithValue(false);
+    assertThat(attest(validator, 3, 4)).isCompletedWithValue(false);
+    assertThat(attest(validator, 3, 5)).isCompletedWithValue(true);
+  }
+
+  @Test
+  void shouldMoveLogRecordsToFilesForFileBasedSlashingProtector() throws IOException {
+    final BLSPublicKey validator2 = dataStructureUtil.randomPublicKey();
+    assertThat(attest(validator, 3, 4)).isCompletedWithValue(true);
+    assertThat(signBlock(validator2, 10)).isCompletedWithValue(true);
+    final SyncDataAccessor dataAccessor = SyncDataAccessor.create(baseDir);
+    dataAccessor.syncedWrite(
+        baseDir.resolve(validator.toBytesCompressed().toUnprefixedHexString() + ".yml"),
+        new ValidatorSigningRecord(
+                Optional.of(GENESIS_VALIDATORS_ROOT),
+                UInt64.valueOf(20),
+                UInt64.valueOf(1),
+                UInt64.valueOf(2))
+            .toBytes());
+    signingRecordLog.close();
+
+    GroupCommitSlashingProtector.moveLogRecordsToFiles(dataAccessor, baseDir);
+
+    assertThat(SigningRecordLog.exists(baseDir)).isFalse();
+    final LocalSlashingProtector fileProtector = new LocalSlashingProtector(dataAccessor, baseDir);
+    assertThat(fileProtector.getSigningRecord(validator))
+        .contains(
+            new ValidatorSigningRecord(
+                Optional.of(GENESIS_VALIDATORS_ROOT),
+                UInt64.valueOf(20),
+                UInt64.valueOf(3),
+                UInt64.valueOf(4)));
+    assertThat(fileProtector.getSigningRecord(validator2).orElseThrow().blockSlot())
+        .isEqualTo(UInt64.valueOf(10));
+  }
+
+  @Test
+  void shouldDiscardTornEntryAtEndOfLog() throws IOException {
+    assertThat(attest(validator, 3, 4)).isCompletedWithValue(true);
+    signingRecordLog.close();
+    final Bytes32 partialEntry = Bytes32.random();
+    Files.write(
+        baseDir.resolve(SigningRecordLog.LOG_FILE_NAME),
+        partialEntry.toArrayUnsafe(),
+        StandardOpenOption.APPEND);
+    restart();
+
+    assertThat(attest(validator, 3, 4)).isCompletedWithValue(false);
+    assertThat(attest(validator, 4, 5)).isCompletedWithValue(true);
+    restart();
+    assertThat(signingRecordLog.getLoadedRecord(validator).orElseThrow().attestationTargetEpoch())
+        .isEqualTo(UInt64.valueOf(5));
+  }
+
+  @Test
+  void shouldFailToOpenWhenEntryFollowedByValidEntriesIsCorrupt() throws IOException {
+    final ValidatorSigningRecord record =
+        new ValidatorSigningRecord(
+            Optional.of(GENESIS_VALIDATORS_ROOT),
+            UInt64.valueOf(10),
+            UInt64.valueOf(3),
+            UInt64.valueOf(4));
+    signingRecordLog.append(validator, record);
+    signingRecordLog.append(dataStructureUtil.randomPublicKey(), record);
+    signingRecordLog.append(dataStructureUtil.randomPublicKey(), record);
+    signingRecordLog.close();
+
+    final Path logFile = baseDir.resolve(SigningRecordLog.LOG_FILE_NAME);
+    final byte[] data = Files.readAllBytes(logFile);
+    final int entrySize = SigningRecordLog.encodeEntry(validator, record).size();
+    // Corrupt the last byte of the second entry's payload
+    data[entrySize * 2 - 1] ^= 1;
+    Files.write(logFile, data);
+
+    assertThatThrownBy(() -> SigningRecordLog.open(baseDir))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("is corrupt");
+    assertThatThrownBy(() -> SigningRecordLog.readRecords(baseDir))
+        .isInstanceOf(IOException.class);
+    // The valid entries after the corruption must not have been truncated
+    assertThat(Files.readAllBytes(logFile)).isEqualTo(data);
+  }
+
+  @Test
+  void shouldBatchUpdatesQueuedWhileFlushInProgress() throws Exception {
+    final int validatorCount = 32;
+    final CountDownLatch firstBatchStarted = new CountDownLatch(1);
+    final CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+    final AtomicBoolean isFirstBatch = new AtomicBoolean(true);
+    signingRecordLog.close();
+    signingRecordLog =
+        SigningRecordLog.open(
+            baseDir,
+            () -> {
+              if (isFirstBatch.compareAndSet(true, false)) {
+                firstBatchStarted.countDown();
+                awaitUninterruptibly(releaseFirstBatch);
+              }
+            });
+    slashingProtector = createProtector(signingRecordLog);
+
+    final List<BLSPublicKey> validators = new ArrayList<>();
+    for (int i = 0; i < validatorCount; i++) {
+      validators.add(dataStructureUtil.randomPublicKey());
+    }
+    final ExecutorService executor = Executors.newCachedThreadPool();
+    try {
+      final List<SafeFuture<Boolean>> results = new ArrayList<>();
+      results.add(attestAsync(executor, validators.get(0)));
+      assertThat(firstBatchStarted.await(30, TimeUnit.SECONDS)).isTrue();
+
+      // Queue every other update while the first batch is blocked before its flush
+      for (BLSPublicKey publicKey : validators.subList(1, validatorCount)) {
+        results.add(attestAsync(executor, publicKey));
+      }
+      Waiter.waitFor(
+          () ->
+              assertThat(signingRecordLog.getPendingWriteCount()).isEqualTo(validatorCount - 1));
+      releaseFirstBatch.countDown();
+
+      SafeFuture.allOf(results.toArray(SafeFuture[]::new)).get(30, TimeUnit.SECONDS);
+      assertThat(results).allSatisfy(result -> assertThat(result).isCompletedWithValue(true));
+    } finally {
+      releaseFirstBatch.countDown();
+      executor.shutdownNow();
+    }
+
+    assertThat(signingRecordLog.getEntryCount()).isEqualTo(validatorCount);
+    // The first update flushed alone and everything queued behind it shared a single flush
+    assertThat(signingRecordLog.getBatchCount()).isEqualTo(2);
+    restart();
+    assertThat(signingRecordLog.getLoadedRecords()).hasSize(validatorCount);
+  }
+
+  private void restart() throws IOException {
+    signingRecordLog.close();
+    signingRecordLog = SigningRecordLog.open(baseDir);
+    slashingProtector = createProtector(signingRecordLog);
+  }
+
+  private GroupCommitSlashingProtector createProtector(final SigningRecordLog log) {
+    return new GroupCommitSlashingProtector(SyncDataAccessor.create(baseDir), baseDir, log);
+  }
+
+  private SafeFuture<Boolean> attest(
+      final BLSPublicKey publicKey, final int sourceEpoch, final int targetEpoch) {
+    return slashingProtector.maySignAttestation(
+        publicKey,
+        GENESIS_VALIDATORS_ROOT,
+        UInt64.valueOf(sourceEpoch),
+        UInt64.valueOf(targetEpoch));
+  }
+
+  private SafeFuture<Boolean> attestAsync(
+      final ExecutorService executor, final BLSPublicKey publicKey) {
+    final SafeFuture<Boolean> result = new SafeFuture<>();
+    executor.execute(() -> attest(publicKey, 1, 2).propagateTo(result));
+    return result;
+  }
+
+  private static void awaitUninterruptibly(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private SafeFuture<Boolean> signBlock(final BLSPublicKey publicKey, final int slot) {
+    return slashingProtector.maySignBlock(publicKey, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(slot));
+  }
+}
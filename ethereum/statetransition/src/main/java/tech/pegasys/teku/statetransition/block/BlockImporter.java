@@ -54,7 +54,7 @@ public class BlockImporter {
   private final RecentChainData recentChainData;
   private final ForkChoice forkChoice;
   private final WeakSubjectivityValidator weakSubjectivityValidator;
-  private final ExecutionLayerChannel executionLayer;
+  private final LookAheadExecutionLayerChannel executionLayer;
 
   private final Subscribers<VerifiedBlockAttestationListener> attestationSubscribers =
       Subscribers.create(true);
@@ -86,7 +86,7 @@ public class BlockImporter {
     this.recentChainData = recentChainData;
     this.forkChoice = forkChoice;
     this.weakSubjectivityValidator = weakSubjectivityValidator;
-    this.executionLayer = executionLayer;
+    this.executionLayer = new LookAheadExecutionLayerChannel(spec, executionLayer);
     if (spec.getGenesisSpecConfig()
         .getGenesisForkVersion()
         .equals(Bytes4.fromHexString("0x01017000"))) {
@@ -109,6 +109,23 @@ public class BlockImporter {
 
   private static final List<Bytes32> BAD_BLOCKS = new ArrayList<>();
 
+  /**
+   * Sends the execution payload of a block which is about to be imported to the execution layer
+   * once {@code previous} completes. The result is used when the block is imported rather than
+   * sending the payload again.
+   *
+   * @return a future which completes when the execution layer has responded to the payload
+   */
+  public SafeFuture<Void> submitExecutionPayloadAhead(
+      final SignedBeaconBlock block, final SafeFuture<Void> previous) {
+    return executionLayer.submit(block, previous);
+  }
+
+  /** Drops any results submitted ahead for the given blocks which were not used by an import. */
+  public void discardExecutionPayloadsSubmittedAhead(final List<SignedBeaconBlock> blocks) {
+    blocks.forEach(executionLayer::discard);
+  }
+
   @CheckReturnValue
   public SafeFuture<BlockImportResult> importBlock(
       final SignedBeaconBlock block,
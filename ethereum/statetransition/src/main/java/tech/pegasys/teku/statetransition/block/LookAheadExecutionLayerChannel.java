@@ -0,0 +1,194 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.block;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.ethereum.performance.trackers.BlockProductionPerformance;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.builder.SignedValidatorRegistration;
+import tech.pegasys.teku.spec.datastructures.execution.BlobAndCellProofs;
+import tech.pegasys.teku.spec.datastructures.execution.BlobAndProof;
+import tech.pegasys.teku.spec.datastructures.execution.BuilderBidOrFallbackData;
+import tech.pegasys.teku.spec.datastructures.execution.BuilderPayloadOrFallbackData;
+import tech.pegasys.teku.spec.datastructures.execution.ClientVersion;
+import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayload;
+import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayloadBody;
+import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayloadContext;
+import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayloadResult;
+import tech.pegasys.teku.spec.datastructures.execution.GetPayloadResponse;
+import tech.pegasys.teku.spec.datastructures.execution.NewPayloadRequest;
+import tech.pegasys.teku.spec.datastructures.execution.PowBlock;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.executionlayer.ExecutionLayerChannel;
+import tech.pegasys.teku.spec.executionlayer.ForkChoiceState;
+import tech.pegasys.teku.spec.executionlayer.ForkChoiceUpdatedResult;
+import tech.pegasys.teku.spec.executionlayer.PayloadBuildingAttributes;
+import tech.pegasys.teku.spec.executionlayer.PayloadStatus;
+import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.BlockProcessingException;
+import tech.pegasys.teku.spec.logic.versions.deneb.types.VersionedHash;
+
+/**
+ * Allows the execution payloads of upcoming blocks to be sent to the execution layer before those
+ * blocks are imported, so the execution layer can validate one payload while the beacon node runs
+ * the state transition for another.
+ *
+ * <p>When a block is later imported, its request to execute the same payload is answered with the
+ * result of the earlier call instead of sending the payload again. All other calls are passed
+ * straight to the delegate.
+ */
+class LookAheadExecutionLayerChannel implements ExecutionLayerChannel {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Spec spec;
+  private final ExecutionLayerChannel delegate;
+  private final Map<Bytes32, PendingPayload> pendingPayloads = new ConcurrentHashMap<>();
+
+  LookAheadExecutionLayerChannel(final Spec spec, final ExecutionLayerChannel delegate) {
+    this.spec = spec;
+    this.delegate = delegate;
+  }
+
+  /**
+   * Sends the execution payload of {@code block} to the execution layer once {@code previous} has
+   * completed successfully, so payloads reach the execution layer in the order they are submitted.
+   *
+   * @return a future which completes when the execution layer has responded, or {@code previous} if
+   *     the block has no execution payload to send
+   */
+  SafeFuture<Void> submit(final SignedBeaconBlock block, final SafeFuture<Void> previous) {
+    final Optional<ExecutionPayload> executionPayload =
+        block.getMessage().getBody().getOptionalExecutionPayload();
+    if (executionPayload.isEmpty() || executionPayload.get().isDefault()) {
+      return previous;
+    }
+    final NewPayloadRequest request;
+    try {
+      request =
+          spec.getBlockProcessor(block.getSlot())
+              .computeNewPayloadRequest(block.getParentRoot(), block.getMessage().getBody());
+    } catch (final BlockProcessingException e) {
+      LOG.debug("Unable to submit execution payload ahead for block {}", block.toLogString(), e);
+      return previous;
+    }
+    final SafeFuture<PayloadStatus> result =
+        previous.thenCompose(__ -> delegate.engineNewPayload(request, block.getSlot()));
+    pendingPayloads.put(executionPayload.get().getBlockHash(), new PendingPayload(request, result));
+    return result.toVoid();
+  }
+
+  /** Drops any result for {@code block} which was submitted ahead but never used by its import. */
+  void discard(final SignedBeaconBlock block) {
+    block
+        .getMessage()
+        .getBody()
+        .getOptionalExecutionPayload()
+        .ifPresent(payload -> pendingPayloads.remove(payload.getBlockHash()));
+  }
+
+  @Override
+  public SafeFuture<PayloadStatus> engineNewPayload(
+      final NewPayloadRequest newPayloadRequest, final UInt64 slot) {
+    final PendingPayload pendingPayload =
+        pendingPayloads.remove(newPayloadRequest.getExecutionPayload().getBlockHash());
+    if (pendingPayload == null || !pendingPayload.request().equals(newPayloadRequest)) {
+      return delegate.engineNewPayload(newPayloadRequest, slot);
+    }
+    // If the earlier call failed, give the execution layer another chance now it is needed
+    return pendingPayload
+        .result()
+        .exceptionallyCompose(__ -> delegate.engineNewPayload(newPayloadRequest, slot));
+  }
+
+  @Override
+  public SafeFuture<Optional<PowBlock>> eth1GetPowBlock(final Bytes32 blockHash) {
+    return delegate.eth1GetPowBlock(blockHash);
+  }
+
+  @Override
+  public SafeFuture<PowBlock> eth1GetPowChainHead() {
+    return delegate.eth1GetPowChainHead();
+  }
+
+  @Override
+  public SafeFuture<ForkChoiceUpdatedResult> engineForkChoiceUpdated(
+      final ForkChoiceState forkChoiceState,
+      final Optional<PayloadBuildingAttributes> payloadBuildingAttributes) {
+    return delegate.engineForkChoiceUpdated(forkChoiceState, payloadBuildingAttributes);
+  }
+
+  @Override
+  public SafeFuture<List<ClientVersion>> engineGetClientVersion(final ClientVersion clientVersion) {
+    return delegate.engineGetClientVersion(clientVersion);
+  }
+
+  @Override
+  public SafeFuture<List<Optional<BlobAndProof>>> engineGetBlobAndProofs(
+      final List<VersionedHash> blobVersionedHashes, final UInt64 slot) {
+    return delegate.engineGetBlobAndProofs(blobVersionedHashes, slot);
+  }
+
+  @Override
+  public SafeFuture<List<BlobAndCellProofs>> engineGetBlobAndCellProofsList(
+      final List<VersionedHash> blobVersionedHashes, final UInt64 slot) {
+    return delegate.engineGetBlobAndCellProofsList(blobVersionedHashes, slot);
+  }
+
+  @Override
+  public SafeFuture<List<ExecutionPayloadBody>> engineGetPayloadBodiesByHash(
+      final List<Bytes32> blockHashes) {
+    return delegate.engineGetPayloadBodiesByHash(blockHashes);
+  }
+
+  @Override
+  public SafeFuture<GetPayloadResponse> engineGetPayload(
+      final ExecutionPayloadContext executionPayloadContext, final BeaconState state) {
+    return delegate.engineGetPayload(executionPayloadContext, state);
+  }
+
+  @Override
+  public SafeFuture<Void> builderRegisterValidators(
+      final SszList<SignedValidatorRegistration> signedValidatorRegistrations, final UInt64 slot) {
+    return delegate.builderRegisterValidators(signedValidatorRegistrations, slot);
+  }
+
+  @Override
+  public SafeFuture<BuilderPayloadOrFallbackData> builderGetPayload(
+      final SignedBeaconBlock signedBeaconBlock,
+      final Function<UInt64, Optional<ExecutionPayloadResult>> getCachedPayloadResultFunction) {
+    return delegate.builderGetPayload(signedBeaconBlock, getCachedPayloadResultFunction);
+  }
+
+  @Override
+  public SafeFuture<BuilderBidOrFallbackData> builderGetHeader(
+      final ExecutionPayloadContext executionPayloadContext,
+      final BeaconState state,
+      final Optional<UInt64> requestedBuilderBoostFactor,
+      final BlockProductionPerformance blockProductionPerformance) {
+    return delegate.builderGetHeader(
+        executionPayloadContext, state, requestedBuilderBoostFactor, blockProductionPerformance);
+  }
+
+  private record PendingPayload(NewPayloadRequest request, SafeFuture<PayloadStatus> result) {}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.datacolumns.retriever;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.BiPredicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Plans which peers to request missing data column sidecars from, treating the assignment as a
+ * set cover: each peer covers the (block, column) pairs it custodies, bounded by its available
+ * request capacity.
+ *
+ * <p>Peers with the best response score are always preferred. Among equally scored peers the
+ * one which can serve the most still uncovered requests is chosen greedily, so that the missing
+ * sidecars are gathered from as few peers as possible. As requests to the same peer are batched
+ * into a single by-root RPC, this minimizes the number of round trips. When a chosen peer can
+ * serve more requests than its capacity allows, the requests with the fewest remaining candidate
+ * peers are assigned first, so capacity is not spent on sidecars which other peers could provide
+ * instead.
+ *
+ * <p>The plan is a snapshot: requests which could not be assigned, or whose RPC later fails or
+ * times out, are simply planned again in the next round against the then current peer state.
+ */
+class DataColumnRetrievalPlanner {
+
+  private DataColumnRetrievalPlanner() {}
+
+  /**
+   * @param requests the unassigned requests, in the order they should be preferred
+   * @param peers the candidate peers
+   * @param canServe whether the peer custodies and can serve the request
+   * @param capacity the number of requests the peer can currently accept
+   * @param responseScore the peer response score, higher is better
+   * @return the requests to send to each peer, ordered by peer selection
+   */
+  static <P, R> Map<P, List<R>> plan(
+      final List<R> requests,
+      final Collection<P> peers,
+      final BiPredicate<P, R> canServe,
+      final ToIntFunction<P> capacity,
+      final ToIntFunction<P> responseScore) {
+    final int[] candidateCounts = new int[requests.size()];
+    final PriorityQueue<Candidate<P>> queue = new PriorityQueue<>(Candidate.PRIORITY);
+    for (final P peer : peers) {
+      final int peerCapacity = capacity.applyAsInt(peer);
+      if (peerCapacity <= 0) {
+        continue;
+      }
+      final int[] servable = new int[requests.size()];
+      int servableCount = 0;
+      for (int i = 0; i < requests.size(); i++) {
+        if (canServe.test(peer, requests.get(i))) {
+          servable[servableCount++] = i;
+          candidateCounts[i]++;
+        }
+      }
+      if (servableCount > 0) {
+        final Candidate<P> candidate =
+            new Candidate<>(
+                peer,
+                Arrays.copyOf(servable, servableCount),
+                peerCapacity,
+                responseScore.applyAsInt(peer));
+        candidate.gain = Math.min(peerCapacity, servableCount);
+        queue.add(candidate);
+      }
+    }
+
+    final boolean[] covered = new boolean[requests.size()];
+    final Map<P, List<R>> plan = new LinkedHashMap<>();
+    while (!queue.isEmpty()) {
+      final Candidate<P> candidate = queue.poll();
+      final int gain = candidate.computeGain(covered);
+      if (gain == 0) {
+        continue;
+      }
+      if (gain < candidate.gain) {
+        // other peers have covered some of its requests since it was queued
+        candidate.gain = gain;
+        queue.add(candidate);
+        continue;
+      }
+
+      final List<Integer> uncovered =
+          Arrays.stream(candidate.servable)
+              .filter(i -> !covered[i])
+              .boxed()
+              .sorted(Comparator.comparingInt(i -> candidateCounts[i]))
+              .limit(candidate.capacity)
+              .sorted()
+              .toList();
+      final List<R> assigned = new ArrayList<>(uncovered.size());
+      for (final int i : uncovered) {
+        covered[i] = true;
+        assigned.add(requests.get(i));
+      }
+      for (final int i : candidate.servable) {
+        candidateCounts[i]--;
+      }
+      plan.put(candidate.peer, assigned);
+    }
+    return plan;
+  }
+
+  private static class Candidate<P> {
+    static final Comparator<Candidate<?>> PRIORITY =
+        Comparator.<Candidate<?>>comparingInt(c -> c.responseScore)
+            .thenComparingInt(c -> c.gain)
+            .thenComparingInt(c -> c.capacity)
+            .reversed();
+
+    final P peer;
+    final int[] servable;
+    final int capacity;
+    final int responseScore;
+    int gain;
+
+    Candidate(final P peer, final int[] servable, final int capacity, final int responseScore) {
+      this.peer = peer;
+      this.servable = servable;
+      this.capacity = capacity;
+      this.responseScore = responseScore;
+    }
+
+    int computeGain(final boolean[] covered) {
+      int uncovered = 0;
+      for (final int i : servable) {
+        if (!covered[i] && ++uncovered == capacity) {
+          break;
+        }
+      }
+      return uncovered;
+    }
+  }
+}
@@ -16,6 +16,7 @@ package tech.pegasys.teku.statetransition.datacolumns.retriever;
 import com.google.common.annotations.VisibleForTesting;
 import java.time.Duration;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -125,18 +126,35 @@ public class SimpleSidecarRetriever
   @Override
   public void stop() {}
 
+  /**
+   * Plans all unassigned requests at once so that the columns missing across blocks are fetched
+   * from as few peers as possible, see {@link DataColumnRetrievalPlanner}. Requests which fail or
+   * time out are released in {@link #reqRespCompleted} and planned again in the next round.
+   */
   private Stream<RequestMatch> matchRequestsAndPeers() {
     final RequestTracker ongoingRequestsTracker = createFromCurrentPendingRequests();
-    return pendingRequests.entrySet().stream()
-        .filter(entry -> entry.getValue().activeRpcRequest == null)
-        .sorted(Comparator.comparing(entry -> entry.getKey().slot()))
+    final List<RetrieveRequest> unassignedRequests =
+        pendingRequests.values().stream()
+            .filter(request -> request.activeRpcRequest == null)
+            .sorted(Comparator.comparing(request -> request.columnId.slot()))
+            .toList();
+    if (unassignedRequests.isEmpty()) {
+      return Stream.empty();
+    }
+    final Map<ConnectedPeer, List<RetrieveRequest>> plan =
+        DataColumnRetrievalPlanner.plan(
+            unassignedRequests,
+            connectedPeers.values(),
+            (peer, request) ->
+                peer.isCustodyFor(request.columnId)
+                    && peer.hasSlotAvailable(request.columnId.slot()),
+            peer -> ongoingRequestsTracker.getAvailableRequestCount(peer.nodeId),
+            ConnectedPeer::getResponseScore);
+    return plan.entrySet().stream()
         .flatMap(
-            entry -> {
-              final RetrieveRequest request = entry.getValue();
-              return findBestMatchingPeer(request, ongoingRequestsTracker).stream()
-                  .peek(peer -> ongoingRequestsTracker.decreaseAvailableRequests(peer.nodeId))
-                  .map(peer -> new RequestMatch(peer, request));
-            });
+            entry ->
+                entry.getValue().stream()
+                    .map(request -> new RequestMatch(entry.getKey(), request)));
   }
 
   private boolean activateMatchedRequest(final RequestMatch match) {
@@ -173,27 +191,6 @@ public class SimpleSidecarRetriever
     return true;
   }
 
-  private Optional<ConnectedPeer> findBestMatchingPeer(
-      final RetrieveRequest request, final RequestTracker ongoingRequestsTracker) {
-    final Stream<ConnectedPeer> matchingPeers = findMatchingPeers(request, ongoingRequestsTracker);
-
-    // Preferring peers with the best response rate, then preferring less busy peers among equals
-    final Comparator<ConnectedPeer> comparator =
-        Comparator.comparing(ConnectedPeer::getResponseScore)
-            .thenComparing(
-                (ConnectedPeer peer) ->
-                    ongoingRequestsTracker.getAvailableRequestCount(peer.nodeId));
-    return matchingPeers.max(comparator);
-  }
-
-  private Stream<ConnectedPeer> findMatchingPeers(
-      final RetrieveRequest request, final RequestTracker ongoingRequestsTracker) {
-    return connectedPeers.values().stream()
-        .filter(peer -> peer.isCustodyFor(request.columnId))
-        .filter(peer -> peer.hasSlotAvailable(request.columnId.slot()))
-        .filter(peer -> ongoingRequestsTracker.hasAvailableRequests(peer.nodeId));
-  }
-
   private void disposeCompletedRequests() {
     pendingRequests
         .entrySet()
@@ -419,13 +416,5 @@ public class SimpleSidecarRetriever
       return Integer.min(maxRequestCount, reqResp.getCurrentRequestLimit(nodeId))
           - pendingRequestsCount.getOrDefault(nodeId, 0);
     }
-
-    boolean hasAvailableRequests(final UInt256 nodeId) {
-      return getAvailableRequestCount(nodeId) > 0;
-    }
-
-    void decreaseAvailableRequests(final UInt256 nodeId) {
-      pendingRequestsCount.compute(nodeId, (__, cnt) -> cnt == null ? 1 : cnt + 1);
-    }
   }
 }
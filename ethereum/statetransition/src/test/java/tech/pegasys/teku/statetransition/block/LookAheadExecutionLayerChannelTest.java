@@ -0,0 +1,107 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.block;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.FutureUtil.ignoreFuture;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.execution.NewPayloadRequest;
+import tech.pegasys.teku.spec.executionlayer.ExecutionLayerChannel;
+import tech.pegasys.teku.spec.executionlayer.PayloadStatus;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class LookAheadExecutionLayerChannelTest {
+  private final Spec spec = TestSpecFactory.createMinimalDeneb();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final ExecutionLayerChannel delegate = mock(ExecutionLayerChannel.class);
+  private final LookAheadExecutionLayerChannel channel =
+      new LookAheadExecutionLayerChannel(spec, delegate);
+
+  private final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(1);
+  private final SafeFuture<PayloadStatus> delegateResult = new SafeFuture<>();
+
+  @Test
+  void shouldUseResultOfPayloadSubmittedAhead() throws Exception {
+    final NewPayloadRequest request = computeNewPayloadRequest();
+    when(delegate.engineNewPayload(request, block.getSlot())).thenReturn(delegateResult);
+
+    final SafeFuture<Void> submitted = channel.submit(block, SafeFuture.COMPLETE);
+    ignoreFuture(verify(delegate).engineNewPayload(request, block.getSlot()));
+
+    final SafeFuture<PayloadStatus> result = channel.engineNewPayload(request, block.getSlot());
+    assertThat(result).isNotDone();
+
+    delegateResult.complete(PayloadStatus.VALID);
+    assertThat(submitted).isCompleted();
+    assertThat(result).isCompletedWithValue(PayloadStatus.VALID);
+    ignoreFuture(verify(delegate, times(1)).engineNewPayload(any(), any()));
+  }
+
+  @Test
+  void shouldNotSendPayloadUntilPreviousSubmissionCompletes() throws Exception {
+    final NewPayloadRequest request = computeNewPayloadRequest();
+    when(delegate.engineNewPayload(request, block.getSlot())).thenReturn(delegateResult);
+    final SafeFuture<Void> previous = new SafeFuture<>();
+
+    channel.submit(block, previous);
+    ignoreFuture(verify(delegate, never()).engineNewPayload(any(), any()));
+
+    previous.complete(null);
+    ignoreFuture(verify(delegate).engineNewPayload(request, block.getSlot()));
+  }
+
+  @Test
+  void shouldSendPayloadAgainWhenSubmissionAheadFailed() throws Exception {
+    final NewPayloadRequest request = computeNewPayloadRequest();
+    when(delegate.engineNewPayload(request, block.getSlot()))
+        .thenReturn(SafeFuture.failedFuture(new RuntimeException("Offline")))
+        .thenReturn(delegateResult);
+
+    assertThat(channel.submit(block, SafeFuture.COMPLETE)).isCompletedExceptionally();
+
+    final SafeFuture<PayloadStatus> result = channel.engineNewPayload(request, block.getSlot());
+    delegateResult.complete(PayloadStatus.VALID);
+
+    assertThat(result).isCompletedWithValue(PayloadStatus.VALID);
+    ignoreFuture(verify(delegate, times(2)).engineNewPayload(request, block.getSlot()));
+  }
+
+  @Test
+  void shouldSendPayloadAgainAfterSubmissionWasDiscarded() throws Exception {
+    final NewPayloadRequest request = computeNewPayloadRequest();
+    when(delegate.engineNewPayload(request, block.getSlot())).thenReturn(delegateResult);
+
+    channel.submit(block, SafeFuture.COMPLETE);
+    channel.discard(block);
+    ignoreFuture(channel.engineNewPayload(request, block.getSlot()));
+
+    ignoreFuture(verify(delegate, times(2)).engineNewPayload(request, block.getSlot()));
+  }
+
+  private NewPayloadRequest computeNewPayloadRequest() throws Exception {
+    return spec.getBlockProcessor(block.getSlot())
+        .computeNewPayloadRequest(block.getParentRoot(), block.getMessage().getBody());
+  }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.datacolumns.retriever;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class DataColumnRetrievalPlannerTest {
+  private static final int COLUMN_COUNT = 128;
+
+  @Test
+  void shouldPreferPeerCoveringMostRequests() {
+    final SimulatedPeer fullPeer = new SimulatedPeer("full", columns(0, 1, 2, 3), 100, 10);
+    final SimulatedPeer lowerPeer = new SimulatedPeer("lower", columns(0, 1), 100, 10);
+    final SimulatedPeer upperPeer = new SimulatedPeer("upper", columns(2, 3), 100, 10);
+    final List<Request> requests = requests(2, columns(0, 1, 2, 3));
+
+    final Map<SimulatedPeer, List<Request>> plan = plan(requests, lowerPeer, fullPeer, upperPeer);
+
+    assertThat(plan).containsOnlyKeys(fullPeer);
+    assertThat(plan.get(fullPeer)).containsExactlyElementsOf(requests);
+  }
+
+  @Test
+  void shouldSplitRequestsWhenPeerCapacityIsExceeded() {
+    final SimulatedPeer fullPeer = new SimulatedPeer("full", columns(0, 1, 2, 3), 3, 10);
+    final SimulatedPeer otherPeer = new SimulatedPeer("other", columns(0, 1, 2, 3), 100, 10);
+    final List<Request> requests = requests(1, columns(0, 1, 2, 3));
+
+    final Map<SimulatedPeer, List<Request>> plan = plan(requests, fullPeer, otherPeer);
+
+    assertThat(plan).containsOnlyKeys(otherPeer);
+
+    final Map<SimulatedPeer, List<Request>> limitedPlan =
+        plan(requests, fullPeer, new SimulatedPeer("other", columns(0, 1, 2, 3), 2, 10));
+    assertThat(limitedPlan.get(fullPeer)).hasSize(3);
+    assertThat(limitedPlan.values().stream().mapToInt(List::size).sum()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldSpendCapacityOnRequestsWithFewestCandidates() {
+    final SimulatedPeer widePeer = new SimulatedPeer("wide", columns(0, 1, 2), 2, 10);
+    final SimulatedPeer narrowPeer = new SimulatedPeer("narrow", columns(0), 1, 10);
+    final List<Request> requests = requests(1, columns(0, 1, 2));
+
+    final Map<SimulatedPeer, List<Request>> plan = plan(requests, widePeer, narrowPeer);
+
+    assertThat(plan.get(widePeer)).containsExactly(requests.get(1), requests.get(2));
+    assertThat(plan.get(narrowPeer)).containsExactly(requests.get(0));
+  }
+
+  @Test
+  void shouldPreferPeersWithBetterResponseScore() {
+    final SimulatedPeer goodPeer = new SimulatedPeer("good", columns(0, 1), 100, 10);
+    final SimulatedPeer badPeer = new SimulatedPeer("bad", columns(0, 1, 2), 100, 2);
+    final List<Request> requests = requests(1, columns(0, 1, 2));
+
+    final Map<SimulatedPeer, List<Request>> plan = plan(requests, badPeer, goodPeer);
+
+    assertThat(plan.get(goodPeer)).containsExactly(requests.get(0), requests.get(1));
+    assertThat(plan.get(badPeer)).containsExactly(requests.get(2));
+  }
+
+  @Test
+  void shouldSkipPeersWithoutCapacityAndUnservableRequests() {
+    final SimulatedPeer busyPeer = new SimulatedPeer("busy", columns(0, 1), 0, 10);
+    final SimulatedPeer freePeer = new SimulatedPeer("free", columns(0), 100, 10);
+    final List<Request> requests = requests(1, columns(0, 1));
+
+    final Map<SimulatedPeer, List<Request>> plan = plan(requests, busyPeer, freePeer);
+
+    assertThat(plan).containsOnlyKeys(freePeer);
+    assertThat(plan.get(freePeer)).containsExactly(requests.get(0));
+  }
+
+  @Test
+  void simulatedRetrievalShouldUseFewerRoundTripsThanPerColumnMatching() {
+    final List<SimulatedPeer> peers = createSimulatedPeers(1000, 1000);
+    final List<Request> requests = requests(4, IntStream.range(0, COLUMN_COUNT).boxed().toList());
+
+    final SimulationResult perColumn = simulate(requests, peers, false);
+    final SimulationResult planned = simulate(requests, peers, true);
+
+    // every peer custodying some of the columns is contacted when matching column by column
+    assertThat(perColumn.rounds()).isEqualTo(1);
+    assertThat(perColumn.roundTrips()).isEqualTo(peers.size());
+    // while a single supernode can serve all of them in one batched request
+    assertThat(planned.rounds()).isEqualTo(1);
+    assertThat(planned.roundTrips()).isEqualTo(1);
+  }
+
+  @Test
+  void simulatedRetrievalShouldMakeColumnsAvailableSoonerWhenRateLimited() {
+    final List<SimulatedPeer> peers = createSimulatedPeers(64, 11);
+    final List<Request> requests = requests(4, IntStream.range(0, COLUMN_COUNT).boxed().toList());
+
+    final SimulationResult perColumn = simulate(requests, peers, false);
+    final SimulationResult planned = simulate(requests, peers, true);
+
+    assertThat(planned.rounds()).isEqualTo(1);
+    assertThat(perColumn.rounds()).isGreaterThan(planned.rounds());
+    assertThat(planned.roundTrips()).isLessThan(perColumn.roundTrips());
+  }
+
+  /**
+   * Two supernodes custodying all columns and 40 peers custodying 8 random columns each. Requests
+   * to the same peer within a round are batched into a single round trip and peers accept up to
+   * their request limit per round, as with the retriever rounds and peer rate limits.
+   */
+  private List<SimulatedPeer> createSimulatedPeers(final int supernodeLimit, final int peerLimit) {
+    final Random random = new Random(1);
+    final List<SimulatedPeer> peers = new ArrayList<>();
+    final Set<Integer> allColumns =
+        new HashSet<>(IntStream.range(0, COLUMN_COUNT).boxed().toList());
+    peers.add(new SimulatedPeer("supernode-0", allColumns, supernodeLimit, 10));
+    peers.add(new SimulatedPeer("supernode-1", allColumns, supernodeLimit, 10));
+    for (int i = 0; i < 40; i++) {
+      final Set<Integer> custody = new HashSet<>();
+      while (custody.size() < 8) {
+        custody.add(random.nextInt(COLUMN_COUNT));
+      }
+      peers.add(new SimulatedPeer("peer-" + i, custody, peerLimit, 10));
+    }
+    return peers;
+  }
+
+  private SimulationResult simulate(
+      final List<Request> requests, final List<SimulatedPeer> peers, final boolean usePlanner) {
+    final List<Request> pending = new ArrayList<>(requests);
+    int rounds = 0;
+    int roundTrips = 0;
+    while (!pending.isEmpty() && rounds < 10) {
+      rounds++;
+      final Map<SimulatedPeer, List<Request>> plan =
+          usePlanner
+              ? plan(pending, peers.toArray(SimulatedPeer[]::new))
+              : matchPerColumn(pending, peers);
+      roundTrips += plan.size();
+      plan.values().forEach(pending::removeAll);
+    }
+    return new SimulationResult(rounds, roundTrips);
+  }
+
+  /** Matches each request to its individually best peer, as the retriever did before planning. */
+  private Map<SimulatedPeer, List<Request>> matchPerColumn(
+      final List<Request> requests, final List<SimulatedPeer> peers) {
+    final Map<SimulatedPeer, Integer> availableRequests = new HashMap<>();
+    peers.forEach(peer -> availableRequests.put(peer, peer.capacity()));
+    final Map<SimulatedPeer, List<Request>> plan = new LinkedHashMap<>();
+    for (final Request request : requests) {
+      SimulatedPeer best = null;
+      for (final SimulatedPeer peer : peers) {
+        if (peer.canServe(request)
+            && availableRequests.get(peer) > 0
+            && (best == null || availableRequests.get(peer) > availableRequests.get(best))) {
+          best = peer;
+        }
+      }
+      if (best != null) {
+        availableRequests.merge(best, -1, Integer::sum);
+        plan.computeIfAbsent(best, __ -> new ArrayList<>()).add(request);
+      }
+    }
+    return plan;
+  }
+
+  private Map<SimulatedPeer, List<Request>> plan(
+      final List<Request> requests, final SimulatedPeer... peers) {
+    return DataColumnRetrievalPlanner.plan(
+        requests,
+        List.of(peers),
+        SimulatedPeer::canServe,
+        SimulatedPeer::capacity,
+        SimulatedPeer::score);
+  }
+
+  private static Set<Integer> columns(final Integer... columns) {
+    return Set.of(columns);
+  }
+
+  private static List<Request> requests(final int blockCount, final Collection<Integer> columns) {
+    final List<Integer> sortedColumns = columns.stream().sorted().toList();
+    final List<Request> requests = new ArrayList<>();
+    for (int slot = 0; slot < blockCount; slot++) {
+      for (final int column : sortedColumns) {
+        requests.add(new Request(slot, column));
+      }
+    }
+    return requests;
+  }
+
+  private record Request(int slot, int column) {}
+
+  private record SimulatedPeer(String name, Set<Integer> custody, int capacity, int score) {
+    boolean canServe(final Request request) {
+      return custody.contains(request.column());
+    }
+  }
+
+  private record SimulationResult(int rounds, int roundTrips) {}
+}
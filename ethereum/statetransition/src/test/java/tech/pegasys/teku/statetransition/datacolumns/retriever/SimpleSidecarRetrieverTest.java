@@ -284,6 +284,37 @@ public class SimpleSidecarRetrieverTest {
     assertThat(goodScoreCustodyPeer.getAvailableRequestCount()).isEqualTo(0);
   }
 
+  @Test
+  void shouldRequestMissingColumnsFromFewestPeers() {
+    final TestPeer custodyPeer1 = createCustodyPeer();
+    final TestPeer custodyPeer2 = createCustodyPeer();
+    final TestPeer fullCustodyPeer = createCustodyPeer();
+    custodyCountSupplier.setCustomCount(fullCustodyPeer.getNodeId(), columnCount);
+
+    final Supplier<List<Integer>> allRequestCountsFunc =
+        connectPeers(custodyPeer1, custodyPeer2, fullCustodyPeer);
+
+    IntStream.range(0, 2)
+        .mapToObj(UInt64::valueOf)
+        .flatMap(
+            slot ->
+                IntStream.range(0, columnCount)
+                    .mapToObj(UInt64::valueOf)
+                    .map(colIdx -> new DataColumnSlotAndIdentifier(slot, Bytes32.ZERO, colIdx)))
+        .forEach(columnId -> simpleSidecarRetriever.retrieve(columnId).finishDebug(LOG));
+
+    // all columns of both blocks are requested from the single peer custodying all of them
+    advanceTimeGradually(retrieverRound);
+    assertThat(allRequestCountsFunc.get()).isEqualTo(List.of(0, 0, 2 * columnCount));
+
+    // the peer has none of them, so the failed requests are planned again preferring other peers
+    advanceTimeGradually(retrieverRound);
+    final List<Integer> requestCounts = allRequestCountsFunc.get();
+    assertThat(requestCounts.get(0) + requestCounts.get(1)).isPositive();
+    assertThat(requestCounts.stream().mapToInt(Integer::intValue).sum())
+        .isEqualTo(4 * columnCount);
+  }
+
   @Test
   void cancellingRequestShouldRemoveItFromPending() {
     final TestPeer custodyPeer = createCustodyPeer();
@@ -134,7 +134,7 @@ public class ThrottlingTaskQueue implements TaskQueue {
     // Loop to ensure we start as many tasks as possible up to the concurrent limit.
     while (true) {
       final int currentInflight = inflightTaskCount.get();
-      if (currentInflight >= maximumConcurrentTasks) {
+      if (currentInflight >= getMaximumConcurrentTasks()) {
         // Already at capacity, no need to do anything.
         return;
       }
@@ -157,6 +157,10 @@ public class ThrottlingTaskQueue implements TaskQueue {
     }
   }
 
+  protected int getMaximumConcurrentTasks() {
+    return maximumConcurrentTasks;
+  }
+
   @Override
   public int getQueuedTasksCount() {
     return queuedTasks.size();
@@ -22,9 +22,9 @@ import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedMetric;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 
 public class ThrottlingTaskQueueWithPriority extends ThrottlingTaskQueue {
-  private final Queue<Runnable> queuedPrioritizedTasks;
+  protected final Queue<Runnable> queuedPrioritizedTasks;
 
-  private final AtomicLong rejectedPrioritizedTaskCount = new AtomicLong(0);
+  protected final AtomicLong rejectedPrioritizedTaskCount = new AtomicLong(0);
 
   public static ThrottlingTaskQueueWithPriority create(
       final int maximumConcurrentTasks,
@@ -33,13 +33,25 @@ public class ThrottlingTaskQueueWithPriority extends ThrottlingTaskQueue {
       final TekuMetricCategory metricCategory,
       final String metricName,
       final String rejectedMetricName) {
-    final ThrottlingTaskQueueWithPriority taskQueue =
-        new ThrottlingTaskQueueWithPriority(maximumConcurrentTasks, maximumQueueSize);
+    return registerMetrics(
+        new ThrottlingTaskQueueWithPriority(maximumConcurrentTasks, maximumQueueSize),
+        metricsSystem,
+        metricCategory,
+        metricName,
+        rejectedMetricName);
+  }
+
+  protected static <T extends ThrottlingTaskQueueWithPriority> T registerMetrics(
+      final T queue,
+      final MetricsSystem metricsSystem,
+      final TekuMetricCategory metricCategory,
+      final String metricName,
+      final String rejectedMetricName) {
     final LabelledSuppliedMetric taskQueueGauge =
         metricsSystem.createLabelledSuppliedGauge(
             metricCategory, metricName, "Number of tasks queued", "priority");
-    taskQueueGauge.labels(taskQueue.queuedTasks::size, "normal");
-    taskQueueGauge.labels(taskQueue.queuedPrioritizedTasks::size, "high");
+    taskQueueGauge.labels(queue.queuedTasks::size, "normal");
+    taskQueueGauge.labels(queue.queuedPrioritizedTasks::size, "high");
     final LabelledSuppliedMetric labelledCounter =
         metricsSystem.createLabelledSuppliedCounter(
             metricCategory,
@@ -47,9 +59,9 @@ public class ThrottlingTaskQueueWithPriority extends ThrottlingTaskQueue {
             "Number of tasks rejected by the queue",
             "priority");
 
-    labelledCounter.labels(taskQueue.rejectedTaskCount::get, "normal");
-    labelledCounter.labels(taskQueue.rejectedPrioritizedTaskCount::get, "high");
-    return taskQueue;
+    labelledCounter.labels(queue.rejectedTaskCount::get, "normal");
+    labelledCounter.labels(queue.rejectedPrioritizedTaskCount::get, "high");
+    return queue;
   }
 
   protected ThrottlingTaskQueueWithPriority(
@@ -58,6 +58,18 @@ public interface AsyncStream<T> extends AsyncStreamBase<T> {
     return new FutureAsyncIteratorImpl<>(future);
   }
 
+  /**
+   * Creates a stream from elements loaded a page at a time, loading the next page while the
+   * current one is consumed.
+   *
+   * @param pageLoader given the last element of the previous page, or empty for the first page,
+   *     loads the next page. The stream completes when an empty page is returned.
+   */
+  static <T> AsyncStream<T> createPaged(
+      final Function<Optional<T>, SafeFuture<List<T>>> pageLoader) {
+    return new PagedAsyncIteratorImpl<>(pageLoader);
+  }
+
   static <T> AsyncStreamPublisher<T> createPublisher(final int maxBufferSize) {
     return new BufferingStreamPublisher<>(maxBufferSize);
   }
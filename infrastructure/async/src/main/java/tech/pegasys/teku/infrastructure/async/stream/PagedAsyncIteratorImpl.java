@@ -0,0 +1,75 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.async.stream;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+
+/**
+ * Streams elements which are loaded a page at a time. The next page is requested as soon as the
+ * current page is available, so it is loaded while the current page is being consumed. At most one
+ * page is loaded ahead of the consumer and no further pages are requested once the consumer stops
+ * accepting elements.
+ */
+class PagedAsyncIteratorImpl<T> extends AsyncIterator<T> {
+
+  private final Function<Optional<T>, SafeFuture<List<T>>> pageLoader;
+
+  PagedAsyncIteratorImpl(final Function<Optional<T>, SafeFuture<List<T>>> pageLoader) {
+    this.pageLoader = pageLoader;
+  }
+
+  @Override
+  void iterate(final AsyncStreamHandler<T> callback) {
+    final AtomicReference<SafeFuture<List<T>>> nextPage =
+        new AtomicReference<>(loadPage(Optional.empty()));
+    SafeFuture.asyncDoWhile(
+            () ->
+                nextPage
+                    .get()
+                    .thenCompose(
+                        page -> {
+                          if (page.isEmpty()) {
+                            return AsyncStreamHandler.FALSE_FUTURE;
+                          }
+                          nextPage.set(loadPage(Optional.of(page.getLast())));
+                          return deliver(page.iterator(), callback);
+                        }))
+        .finish(callback::onComplete, callback::onError);
+  }
+
+  private SafeFuture<List<T>> loadPage(final Optional<T> lastElement) {
+    return SafeFuture.of(() -> pageLoader.apply(lastElement));
+  }
+
+  private SafeFuture<Boolean> deliver(
+      final Iterator<T> elements, final AsyncStreamHandler<T> callback) {
+    // Iterate while the consumer completes immediately to avoid recursing for each element
+    while (elements.hasNext()) {
+      final SafeFuture<Boolean> shouldContinue = callback.onNext(elements.next());
+      if (!shouldContinue.isCompletedNormally()) {
+        return shouldContinue.thenCompose(
+            result -> result ? deliver(elements, callback) : AsyncStreamHandler.FALSE_FUTURE);
+      }
+      if (!shouldContinue.getImmediately()) {
+        return AsyncStreamHandler.FALSE_FUTURE;
+      }
+    }
+    return AsyncStreamHandler.TRUE_FUTURE;
+  }
+}
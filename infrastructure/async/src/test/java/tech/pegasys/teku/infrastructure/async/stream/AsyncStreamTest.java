@@ -18,9 +18,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -256,4 +258,68 @@ public class AsyncStreamTest {
     assertThat(AsyncStream.of(0, 1, 2).merge(AsyncStream.of(2)).toList().join())
         .containsExactlyInAnyOrder(0, 1, 2, 2);
   }
+
+  @Test
+  void createPaged_shouldLoadNextPageWhileCurrentPageIsConsumed() {
+    final List<SafeFuture<List<Integer>>> pages = new ArrayList<>();
+    final List<Optional<Integer>> requestedAfter = new ArrayList<>();
+    final SafeFuture<Void> consumerReady = new SafeFuture<>();
+    final SafeFuture<List<Integer>> result =
+        AsyncStream.<Integer>createPaged(
+                lastElement -> {
+                  requestedAfter.add(lastElement);
+                  final SafeFuture<List<Integer>> page = new SafeFuture<>();
+                  pages.add(page);
+                  return page;
+                })
+            .mapAsync(i -> consumerReady.thenApply(__ -> i))
+            .toList();
+
+    assertThat(requestedAfter).containsExactly(Optional.empty());
+    pages.get(0).complete(List.of(0, 1));
+
+    // Second page is requested before the consumer has handled the first
+    assertThat(requestedAfter).containsExactly(Optional.empty(), Optional.of(1));
+    pages.get(1).complete(List.of(2));
+    assertThat(requestedAfter).hasSize(2);
+
+    consumerReady.complete(null);
+    assertThat(requestedAfter).containsExactly(Optional.empty(), Optional.of(1), Optional.of(2));
+    pages.get(2).complete(List.of());
+
+    assertThat(result).isCompletedWithValue(List.of(0, 1, 2));
+  }
+
+  @Test
+  void createPaged_shouldStopLoadingPagesWhenConsumerStops() {
+    final AtomicInteger pagesLoaded = new AtomicInteger();
+    final SafeFuture<List<Integer>> result =
+        AsyncStream.<Integer>createPaged(
+                lastElement -> {
+                  pagesLoaded.incrementAndGet();
+                  final int start = lastElement.map(i -> i + 1).orElse(0);
+                  return SafeFuture.completedFuture(List.of(start, start + 1, start + 2));
+                })
+            .limit(4)
+            .toList();
+
+    assertThat(result).isCompletedWithValue(List.of(0, 1, 2, 3));
+    // The first two pages were needed and one more was read ahead
+    assertThat(pagesLoaded).hasValue(3);
+  }
+
+  @Test
+  void createPaged_shouldFailStreamWhenPageFailsToLoad() {
+    final RuntimeException error = new RuntimeException("Nope");
+    final SafeFuture<List<Integer>> result =
+        AsyncStream.<Integer>createPaged(
+                lastElement ->
+                    lastElement.isEmpty()
+                        ? SafeFuture.completedFuture(List.of(0))
+                        : SafeFuture.failedFuture(error))
+            .toList();
+
+    assertThat(result).isCompletedExceptionally();
+    assertThat(ExceptionUtils.getRootCause(result.exceptionNow())).isSameAs(error);
+  }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.infrastructure.events.RingBufferDeliveryConfig.WaitStrategy;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Benchmark)
+public class EventDelivererBenchmark {
+  private static final int EVENTS_PER_INVOCATION = 10_000;
+
+  @Param({"ASYNC", "RING_BUFFER_BLOCKING", "RING_BUFFER_SLEEPING", "RING_BUFFER_YIELDING"})
+  private String deliverer;
+
+  private final NoOpMetricsSystem metricsSystem = new NoOpMetricsSystem();
+  private final CountingSubscriber subscriber = new CountingSubscriber();
+  private ExecutorService executor;
+  private EventChannel<BenchmarkChannel> channel;
+  private BenchmarkChannel publisher;
+
+  @Setup
+  public void setup() {
+    executor = Executors.newCachedThreadPool();
+    channel =
+        switch (deliverer) {
+          case "ASYNC" -> EventChannel.createAsync(BenchmarkChannel.class, executor, metricsSystem);
+          case "RING_BUFFER_BLOCKING" -> createRingBuffer(WaitStrategy.BLOCKING);
+          case "RING_BUFFER_SLEEPING" -> createRingBuffer(WaitStrategy.SLEEPING);
+          case "RING_BUFFER_YIELDING" -> createRingBuffer(WaitStrategy.YIELDING);
+          default -> throw new IllegalArgumentException("Unknown deliverer " + deliverer);
+        };
+    channel.subscribe(subscriber);
+    publisher = channel.getPublisher(Optional.empty());
+  }
+
+  private EventChannel<BenchmarkChannel> createRingBuffer(final WaitStrategy waitStrategy) {
+    return EventChannel.createRingBuffer(
+        BenchmarkChannel.class,
+        executor,
+        RingBufferDeliveryConfig.builder().waitStrategy(waitStrategy).build(),
+        LoggingChannelExceptionHandler.LOGGING_EXCEPTION_HANDLER,
+        metricsSystem);
+  }
+
+  @TearDown
+  public void tearDown() {
+    channel.stop().join();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EVENTS_PER_INVOCATION)
+  public void publishAndDeliver() throws InterruptedException {
+    final CountDownLatch delivered = new CountDownLatch(EVENTS_PER_INVOCATION);
+    for (int i = 0; i < EVENTS_PER_INVOCATION; i++) {
+      publisher.onEvent(delivered);
+    }
+    if (!delivered.await(1, TimeUnit.MINUTES)) {
+      throw new IllegalStateException("Events were not delivered");
+    }
+  }
+
+  public interface BenchmarkChannel extends VoidReturningChannelInterface {
+    void onEvent(CountDownLatch delivered);
+  }
+
+  private static class CountingSubscriber implements BenchmarkChannel {
+    @Override
+    public void onEvent(final CountDownLatch delivered) {
+      delivered.countDown();
+    }
+  }
+}
@@ -28,6 +28,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
@@ -101,7 +102,11 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
   public SafeFuture<Void> stop() {
     stopped.set(true);
     executor.shutdownNow();
-    return SafeFuture.allOf(queueReaders.stream().map(reader -> reader.readerStopped))
+    return awaitReadersStopped(queueReaders.stream().map(reader -> reader.readerStopped));
+  }
+
+  static SafeFuture<Void> awaitReadersStopped(final Stream<SafeFuture<?>> readersStopped) {
+    return SafeFuture.allOf(readersStopped)
         .exceptionally(
             err -> {
               final Throwable rootCause = Throwables.getRootCause(err);
@@ -0,0 +1,182 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+
+/**
+ * A bounded, lock-free ring buffer of pending event deliveries which may be written to by any
+ * number of publisher threads and read by any number of subscriber threads.
+ *
+ * <p>Slots are allocated up front and reused, so queueing an event does not allocate. Each slot has
+ * a sequence number which records whether it is free to write or ready to read for the current lap
+ * of the buffer, allowing publishers and subscribers to claim slots with a single CAS.
+ */
+class DeliveryRingBuffer {
+  private final Slot[] slots;
+  private final AtomicLongArray sequences;
+  private final int mask;
+  private final AtomicLong writePosition = new AtomicLong();
+  private final AtomicLong readPosition = new AtomicLong();
+
+  DeliveryRingBuffer(final int requestedCapacity) {
+    final int capacity = roundUpToPowerOfTwo(requestedCapacity);
+    this.mask = capacity - 1;
+    this.slots = new Slot[capacity];
+    this.sequences = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      slots[i] = new Slot();
+      sequences.set(i, i);
+    }
+  }
+
+  /**
+   * Adds an event to the buffer.
+   *
+   * @return false if the buffer is full
+   */
+  boolean offer(
+      final Method method,
+      final Object[] args,
+      final PendingResponse response,
+      final long publishedTimeNanos) {
+    long position = writePosition.get();
+    while (true) {
+      final int index = (int) (position & mask);
+      final long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (writePosition.compareAndSet(position, position + 1)) {
+          slots[index].set(method, args, response, publishedTimeNanos);
+          sequences.set(index, position + 1);
+          return true;
+        }
+        position = writePosition.get();
+      } else if (difference < 0) {
+        return false;
+      } else {
+        position = writePosition.get();
+      }
+    }
+  }
+
+  /**
+   * Removes the oldest event from the buffer, copying it into {@code target}.
+   *
+   * @return false if the buffer is empty
+   */
+  boolean poll(final Slot target) {
+    return poll(target, false);
+  }
+
+  /**
+   * Removes the oldest event from the buffer, copying it into {@code target}, unless a publisher is
+   * waiting for its response.
+   *
+   * @return false if the buffer is empty or the oldest event has a pending response
+   */
+  boolean pollWithoutResponse(final Slot target) {
+    return poll(target, true);
+  }
+
+  private boolean poll(final Slot target, final boolean skipPendingResponse) {
+    long position = readPosition.get();
+    while (true) {
+      final int index = (int) (position & mask);
+      final long difference = sequences.get(index) - (position + 1);
+      if (difference == 0) {
+        // If another reader takes the slot first this may be stale, but a spurious false only
+        // makes the caller retry
+        if (skipPendingResponse && slots[index].response != null) {
+          return false;
+        }
+        if (readPosition.compareAndSet(position, position + 1)) {
+          final Slot slot = slots[index];
+          target.set(slot.method, slot.args, slot.response, slot.publishedTimeNanos);
+          slot.clear();
+          sequences.set(index, position + mask + 1);
+          return true;
+        }
+        position = readPosition.get();
+      } else if (difference < 0) {
+        return false;
+      } else {
+        position = readPosition.get();
+      }
+    }
+  }
+
+  boolean isEmpty() {
+    return size() == 0;
+  }
+
+  int size() {
+    final long size = writePosition.get() - readPosition.get();
+    return (int) Math.max(0, Math.min(size, mask + 1));
+  }
+
+  int capacity() {
+    return mask + 1;
+  }
+
+  private static int roundUpToPowerOfTwo(final int value) {
+    return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+  }
+
+  /**
+   * The delivery for a channel method which returns a result, along with the future returned to the
+   * publisher so it can be failed if the event is discarded.
+   */
+  record PendingResponse(Runnable delivery, SafeFuture<?> result) {}
+
+  static class Slot {
+    private Method method;
+    private Object[] args;
+    private PendingResponse response;
+    private long publishedTimeNanos;
+
+    Method getMethod() {
+      return method;
+    }
+
+    Object[] getArgs() {
+      return args;
+    }
+
+    PendingResponse getResponse() {
+      return response;
+    }
+
+    long getPublishedTimeNanos() {
+      return publishedTimeNanos;
+    }
+
+    void set(
+        final Method method,
+        final Object[] args,
+        final PendingResponse response,
+        final long publishedTimeNanos) {
+      this.method = method;
+      this.args = args;
+      this.response = response;
+      this.publishedTimeNanos = publishedTimeNanos;
+    }
+
+    void clear() {
+      set(null, null, null, 0);
+    }
+  }
+}
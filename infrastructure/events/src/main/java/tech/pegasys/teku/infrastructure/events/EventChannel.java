@@ -64,20 +64,50 @@ class EventChannel<T> {
       final ChannelExceptionHandler exceptionHandler,
       final MetricsSystem metricsSystem,
       final boolean eventChannelVirtualThreadsEnabled) {
-    final ExecutorService executor;
+    return createAsync(
+        channelInterface,
+        createExecutor(channelInterface, eventChannelVirtualThreadsEnabled),
+        exceptionHandler,
+        metricsSystem);
+  }
+
+  static <T> EventChannel<T> createRingBuffer(
+      final Class<T> channelInterface,
+      final RingBufferDeliveryConfig config,
+      final ChannelExceptionHandler exceptionHandler,
+      final MetricsSystem metricsSystem,
+      final boolean eventChannelVirtualThreadsEnabled) {
+    return createRingBuffer(
+        channelInterface,
+        createExecutor(channelInterface, eventChannelVirtualThreadsEnabled),
+        config,
+        exceptionHandler,
+        metricsSystem);
+  }
+
+  static <T> EventChannel<T> createRingBuffer(
+      final Class<T> channelInterface,
+      final ExecutorService executor,
+      final RingBufferDeliveryConfig config,
+      final ChannelExceptionHandler exceptionHandler,
+      final MetricsSystem metricsSystem) {
+    return create(
+        channelInterface,
+        new RingBufferEventDeliverer<>(
+            channelInterface.getSimpleName(), executor, config, exceptionHandler, metricsSystem));
+  }
+
+  private static ExecutorService createExecutor(
+      final Class<?> channelInterface, final boolean eventChannelVirtualThreadsEnabled) {
     if (eventChannelVirtualThreadsEnabled) {
-      executor =
-          Executors.newThreadPerTaskExecutor(
-              Thread.ofVirtual().name(channelInterface.getSimpleName() + "-", 0).factory());
-    } else {
-      executor =
-          Executors.newCachedThreadPool(
-              new ThreadFactoryBuilder()
-                  .setDaemon(true)
-                  .setNameFormat(channelInterface.getSimpleName() + "-%d")
-                  .build());
+      return Executors.newThreadPerTaskExecutor(
+          Thread.ofVirtual().name(channelInterface.getSimpleName() + "-", 0).factory());
     }
-    return createAsync(channelInterface, executor, exceptionHandler, metricsSystem);
+    return Executors.newCachedThreadPool(
+        new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat(channelInterface.getSimpleName() + "-%d")
+            .build());
   }
 
   static <T> EventChannel<T> createAsync(
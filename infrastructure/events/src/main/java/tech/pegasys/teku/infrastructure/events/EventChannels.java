@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.infrastructure.events;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -30,13 +31,36 @@ public class EventChannels {
       final ChannelExceptionHandler exceptionHandler,
       final MetricsSystem metricsSystem,
       final boolean eventChannelVirtualThreadsEnabled) {
+    this(exceptionHandler, metricsSystem, eventChannelVirtualThreadsEnabled, Map.of());
+  }
+
+  /**
+   * Creates async event channels where the channels named in {@code ringBufferDeliveryConfigs}
+   * deliver events via a {@link RingBufferEventDeliverer} rather than the default blocking queues.
+   *
+   * @param ringBufferDeliveryConfigs the delivery config to use, keyed by the simple name of the
+   *     channel interface
+   */
+  public EventChannels(
+      final ChannelExceptionHandler exceptionHandler,
+      final MetricsSystem metricsSystem,
+      final boolean eventChannelVirtualThreadsEnabled,
+      final Map<String, RingBufferDeliveryConfig> ringBufferDeliveryConfigs) {
     this(
-        channelInterface ->
-            EventChannel.createAsync(
+        channelInterface -> {
+          final RingBufferDeliveryConfig ringBufferDeliveryConfig =
+              ringBufferDeliveryConfigs.get(channelInterface.getSimpleName());
+          if (ringBufferDeliveryConfig != null) {
+            return EventChannel.createRingBuffer(
                 channelInterface,
+                ringBufferDeliveryConfig,
                 exceptionHandler,
                 metricsSystem,
-                eventChannelVirtualThreadsEnabled));
+                eventChannelVirtualThreadsEnabled);
+          }
+          return EventChannel.createAsync(
+              channelInterface, exceptionHandler, metricsSystem, eventChannelVirtualThreadsEnabled);
+        });
   }
 
   public static EventChannels createSyncChannels(
@@ -0,0 +1,157 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+
+/** Configures how an event channel delivers events when using {@link RingBufferEventDeliverer}. */
+public class RingBufferDeliveryConfig {
+  public static final int DEFAULT_CAPACITY = 1024;
+  public static final int DEFAULT_BATCH_SIZE = 64;
+  public static final WaitStrategy DEFAULT_WAIT_STRATEGY = WaitStrategy.BLOCKING;
+  public static final BackpressurePolicy DEFAULT_BACKPRESSURE_POLICY = BackpressurePolicy.BLOCK;
+
+  /** How subscriber threads wait for new events when their ring buffer is empty. */
+  public enum WaitStrategy {
+    /** Park until a publisher signals a new event. Lowest CPU use. */
+    BLOCKING,
+    /** Spin briefly then sleep for short periods. Avoids signalling cost for publishers. */
+    SLEEPING,
+    /** Yield the thread while waiting. Lowest latency but keeps a core busy. */
+    YIELDING
+  }
+
+  /** What a publisher does when a subscriber's ring buffer is full. */
+  public enum BackpressurePolicy {
+    /** Wait until the subscriber has made space, matching the default event channel behaviour. */
+    BLOCK,
+    /** Discard the oldest pending event to make space for the new one. */
+    DROP_OLDEST,
+    /**
+     * Keep at most one pending event per channel method, replacing its arguments with the latest
+     * published values. Suitable for channels where only the most recent state matters.
+     */
+    COALESCE
+  }
+
+  private final int capacity;
+  private final int batchSize;
+  private final WaitStrategy waitStrategy;
+  private final BackpressurePolicy backpressurePolicy;
+
+  private RingBufferDeliveryConfig(
+      final int capacity,
+      final int batchSize,
+      final WaitStrategy waitStrategy,
+      final BackpressurePolicy backpressurePolicy) {
+    this.capacity = capacity;
+    this.batchSize = batchSize;
+    this.waitStrategy = waitStrategy;
+    this.backpressurePolicy = backpressurePolicy;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static RingBufferDeliveryConfig createDefault() {
+    return builder().build();
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public WaitStrategy getWaitStrategy() {
+    return waitStrategy;
+  }
+
+  public BackpressurePolicy getBackpressurePolicy() {
+    return backpressurePolicy;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final RingBufferDeliveryConfig that = (RingBufferDeliveryConfig) o;
+    return capacity == that.capacity
+        && batchSize == that.batchSize
+        && waitStrategy == that.waitStrategy
+        && backpressurePolicy == that.backpressurePolicy;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(capacity, batchSize, waitStrategy, backpressurePolicy);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("capacity", capacity)
+        .add("batchSize", batchSize)
+        .add("waitStrategy", waitStrategy)
+        .add("backpressurePolicy", backpressurePolicy)
+        .toString();
+  }
+
+  public static class Builder {
+    private int capacity = DEFAULT_CAPACITY;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private WaitStrategy waitStrategy = DEFAULT_WAIT_STRATEGY;
+    private BackpressurePolicy backpressurePolicy = DEFAULT_BACKPRESSURE_POLICY;
+
+    private Builder() {}
+
+    /** The number of pending events per subscriber. Rounded up to the next power of two. */
+    public Builder capacity(final int capacity) {
+      checkArgument(capacity > 0 && capacity <= 1 << 30, "Invalid capacity %s", capacity);
+      this.capacity = capacity;
+      return this;
+    }
+
+    /** The maximum number of events a subscriber thread handles before checking for shutdown. */
+    public Builder batchSize(final int batchSize) {
+      checkArgument(batchSize > 0, "Batch size must be positive but was %s", batchSize);
+      this.batchSize = batchSize;
+      return this;
+    }
+
+    public Builder waitStrategy(final WaitStrategy waitStrategy) {
+      this.waitStrategy = waitStrategy;
+      return this;
+    }
+
+    public Builder backpressurePolicy(final BackpressurePolicy backpressurePolicy) {
+      this.backpressurePolicy = backpressurePolicy;
+      return this;
+    }
+
+    public RingBufferDeliveryConfig build() {
+      return new RingBufferDeliveryConfig(capacity, batchSize, waitStrategy, backpressurePolicy);
+    }
+  }
+}
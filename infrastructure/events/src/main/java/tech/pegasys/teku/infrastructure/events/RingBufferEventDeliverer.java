@@ -0,0 +1,368 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Collections.synchronizedMap;
+import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.EVENTBUS;
+
+import java.lang.reflect.Method;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.Histogram;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedMetric;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.events.DeliveryRingBuffer.PendingResponse;
+import tech.pegasys.teku.infrastructure.events.DeliveryRingBuffer.Slot;
+import tech.pegasys.teku.infrastructure.events.RingBufferDeliveryConfig.BackpressurePolicy;
+import tech.pegasys.teku.infrastructure.events.RingBufferDeliveryConfig.WaitStrategy;
+
+/**
+ * Delivers events to each subscriber via a pre-allocated {@link DeliveryRingBuffer} rather than a
+ * blocking queue, with subscriber threads draining events in batches.
+ *
+ * <p>How subscriber threads wait for events and what publishers do when a subscriber falls behind
+ * are set by the channel's {@link RingBufferDeliveryConfig}. Methods which return a result are
+ * always delivered, blocking the publisher if required, regardless of the backpressure policy. When
+ * dropping the oldest events, publishers wait rather than drop an event with a pending response.
+ */
+public class RingBufferEventDeliverer<T> extends DirectEventDeliverer<T> {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final Object[] NO_ARGS = new Object[0];
+  // Marks a slot whose arguments should be taken from the coalesced arguments for its method
+  private static final Object[] COALESCED_ARGS = new Object[0];
+  private static final int SPIN_ATTEMPTS = 100;
+  private static final long PUBLISHER_BACKOFF_NANOS = 50_000;
+  private static final long READER_SLEEP_NANOS = 100_000;
+  private static final double[] LATENCY_BUCKETS =
+      new double[] {0.00001, 0.0001, 0.0005, 0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1.0, 5.0};
+
+  private final Map<T, SubscriberQueue> queuesBySubscriber =
+      synchronizedMap(new IdentityHashMap<>());
+  private final List<QueueReader> queueReaders = new CopyOnWriteArrayList<>();
+  private final AtomicBoolean stopped = new AtomicBoolean(false);
+  private final String channelName;
+  private final ExecutorService executor;
+  private final RingBufferDeliveryConfig config;
+  private final Histogram deliveryLatency;
+  private final LabelledMetric<Counter> discardedEventCounter;
+  private final LabelledSuppliedMetric occupancyGauge;
+
+  public RingBufferEventDeliverer(
+      final String channelName,
+      final ExecutorService executor,
+      final RingBufferDeliveryConfig config,
+      final ChannelExceptionHandler exceptionHandler,
+      final MetricsSystem metricsSystem) {
+    super(exceptionHandler, metricsSystem);
+    this.channelName = channelName;
+    this.executor = executor;
+    this.config = config;
+    this.deliveryLatency =
+        metricsSystem
+            .createLabelledHistogram(
+                EVENTBUS,
+                "event_delivery_latency_seconds",
+                "Time from an event being published until a subscriber starts processing it",
+                LATENCY_BUCKETS,
+                "channel")
+            .labels(channelName);
+    this.discardedEventCounter =
+        metricsSystem.createLabelledCounter(
+            EVENTBUS,
+            "event_discarded_count_total",
+            "Number of events discarded or merged because a subscriber was falling behind",
+            "channel",
+            "subscriber",
+            "policy");
+    this.occupancyGauge =
+        metricsSystem.createLabelledSuppliedGauge(
+            EVENTBUS,
+            "event_ring_buffer_occupancy",
+            "Number of events waiting to be processed by a subscriber",
+            "channel",
+            "subscriber");
+  }
+
+  @Override
+  void subscribe(final T subscriber, final int numberOfThreads) {
+    final SubscriberQueue queue = new SubscriberQueue(subscriber);
+    queuesBySubscriber.put(subscriber, queue);
+    occupancyGauge.labels(queue.ringBuffer::size, channelName, queue.subscriberName);
+    super.subscribe(subscriber, numberOfThreads);
+    for (int i = 0; i < numberOfThreads; i++) {
+      final QueueReader reader = new QueueReader(queue);
+      queueReaders.add(reader);
+      executor.execute(reader);
+    }
+  }
+
+  @Override
+  protected void deliverTo(final T subscriber, final Method method, final Object[] args) {
+    final SubscriberQueue queue = checkNotNull(queuesBySubscriber.get(subscriber));
+    if (stopped.get()) {
+      LOG.debug("Discarding event {} as event channel is stopped", method::getName);
+      return;
+    }
+    switch (config.getBackpressurePolicy()) {
+      case BLOCK -> queue.publish(method, args, null);
+      case DROP_OLDEST -> queue.publishDroppingOldest(method, args);
+      case COALESCE -> queue.publishCoalesced(method, args);
+    }
+  }
+
+  @Override
+  protected <X> SafeFuture<X> deliverToWithResponse(
+      final T subscriber,
+      final Method method,
+      final Object[] args,
+      final AsyncRunner responseRunner) {
+    final SubscriberQueue queue = checkNotNull(queuesBySubscriber.get(subscriber));
+    final SafeFuture<X> result = new SafeFuture<>();
+    if (stopped.get()) {
+      result.completeExceptionally(stoppedException());
+      return result;
+    }
+    queue.publish(
+        method,
+        args,
+        new PendingResponse(
+            () ->
+                super.<X>deliverToWithResponse(subscriber, method, args, responseRunner)
+                    .propagateToAsync(result, responseRunner),
+            result));
+    return result;
+  }
+
+  private void deliverDirectly(final T subscriber, final Method method, final Object[] args) {
+    super.deliverTo(subscriber, method, args);
+  }
+
+  @Override
+  public SafeFuture<Void> stop() {
+    stopped.set(true);
+    queuesBySubscriber.values().forEach(SubscriberQueue::wakeReaders);
+    executor.shutdownNow();
+    return AsyncEventDeliverer.awaitReadersStopped(
+        queueReaders.stream().map(reader -> reader.readerStopped));
+  }
+
+  private class SubscriberQueue {
+    private final T subscriber;
+    private final String subscriberName;
+    private final DeliveryRingBuffer ringBuffer;
+    private final Map<Method, AtomicReference<Object[]>> coalescedArgs =
+        new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final AtomicInteger waitingReaders = new AtomicInteger();
+    private final Counter droppedEvents;
+    private final Counter coalescedEvents;
+
+    private SubscriberQueue(final T subscriber) {
+      this.subscriber = subscriber;
+      this.subscriberName = subscriber.getClass().getSimpleName();
+      this.ringBuffer = new DeliveryRingBuffer(config.getCapacity());
+      this.droppedEvents =
+          discardedEventCounter.labels(
+              channelName, subscriberName, BackpressurePolicy.DROP_OLDEST.name());
+      this.coalescedEvents =
+          discardedEventCounter.labels(
+              channelName, subscriberName, BackpressurePolicy.COALESCE.name());
+    }
+
+    void publish(final Method method, final Object[] args, final PendingResponse response) {
+      final long publishedTimeNanos = System.nanoTime();
+      int attempts = 0;
+      while (!ringBuffer.offer(method, args, response, publishedTimeNanos)) {
+        if (stopped.get()) {
+          LOG.debug("Discarding event {} as event channel is stopped", method::getName);
+          if (response != null) {
+            response.result().completeExceptionally(stoppedException());
+          }
+          return;
+        }
+        backOff(attempts++, PUBLISHER_BACKOFF_NANOS);
+      }
+      signalReaders();
+    }
+
+    void publishDroppingOldest(final Method method, final Object[] args) {
+      final long publishedTimeNanos = System.nanoTime();
+      final Slot dropped = new Slot();
+      int attempts = 0;
+      while (!ringBuffer.offer(method, args, null, publishedTimeNanos)) {
+        if (stopped.get()) {
+          LOG.debug("Discarding event {} as event channel is stopped", method::getName);
+          return;
+        }
+        if (ringBuffer.pollWithoutResponse(dropped)) {
+          droppedEvents.inc();
+          dropped.clear();
+        } else {
+          // The oldest event has a caller waiting on its result so wait for the subscriber instead
+          backOff(attempts++, PUBLISHER_BACKOFF_NANOS);
+        }
+      }
+      signalReaders();
+    }
+
+    void publishCoalesced(final Method method, final Object[] args) {
+      final AtomicReference<Object[]> pendingArgs =
+          coalescedArgs.computeIfAbsent(method, __ -> new AtomicReference<>());
+      if (pendingArgs.getAndSet(args == null ? NO_ARGS : args) != null) {
+        // An event for this method is already queued and will now use the latest arguments
+        coalescedEvents.inc();
+        return;
+      }
+      publish(method, COALESCED_ARGS, null);
+    }
+
+    Object[] takeCoalescedArgs(final Method method) {
+      return coalescedArgs.get(method).getAndSet(null);
+    }
+
+    private void signalReaders() {
+      if (config.getWaitStrategy() == WaitStrategy.BLOCKING && waitingReaders.get() > 0) {
+        lock.lock();
+        try {
+          notEmpty.signal();
+        } finally {
+          lock.unlock();
+        }
+      }
+    }
+
+    void awaitEvents() throws InterruptedException {
+      lock.lock();
+      try {
+        waitingReaders.incrementAndGet();
+        try {
+          while (ringBuffer.isEmpty() && !stopped.get()) {
+            notEmpty.await();
+          }
+        } finally {
+          waitingReaders.decrementAndGet();
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    void wakeReaders() {
+      lock.lock();
+      try {
+        notEmpty.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  private static void backOff(final int attempts, final long parkNanos) {
+    if (attempts < SPIN_ATTEMPTS) {
+      Thread.onSpinWait();
+    } else {
+      LockSupport.parkNanos(parkNanos);
+    }
+  }
+
+  private static RejectedExecutionException stoppedException() {
+    return new RejectedExecutionException("Event channel stopped");
+  }
+
+  class QueueReader implements Runnable {
+    private final SafeFuture<Void> readerStopped = new SafeFuture<>();
+    private final SubscriberQueue queue;
+    private final Slot slot = new Slot();
+    private int idleAttempts = 0;
+
+    QueueReader(final SubscriberQueue queue) {
+      this.queue = queue;
+    }
+
+    @Override
+    public void run() {
+      while (!stopped.get() || !queue.ringBuffer.isEmpty()) {
+        try {
+          if (deliverNextBatch() > 0) {
+            idleAttempts = 0;
+          } else {
+            waitForEvents();
+          }
+        } catch (final InterruptedException e) {
+          LOG.debug("Interrupted while waiting for next event", e);
+        }
+      }
+      readerStopped.complete(null);
+    }
+
+    int deliverNextBatch() {
+      int delivered = 0;
+      while (delivered < config.getBatchSize() && queue.ringBuffer.poll(slot)) {
+        try {
+          deliver(slot);
+        } finally {
+          slot.clear();
+        }
+        delivered++;
+      }
+      return delivered;
+    }
+
+    private void deliver(final Slot slot) {
+      deliveryLatency.observe((System.nanoTime() - slot.getPublishedTimeNanos()) / 1_000_000_000d);
+      if (slot.getResponse() != null) {
+        slot.getResponse().delivery().run();
+        return;
+      }
+      if (slot.getArgs() != COALESCED_ARGS) {
+        deliverDirectly(queue.subscriber, slot.getMethod(), slot.getArgs());
+        return;
+      }
+      final Object[] args = queue.takeCoalescedArgs(slot.getMethod());
+      if (args != null) {
+        deliverDirectly(queue.subscriber, slot.getMethod(), args);
+      }
+    }
+
+    private void waitForEvents() throws InterruptedException {
+      switch (config.getWaitStrategy()) {
+        case BLOCKING -> queue.awaitEvents();
+        case SLEEPING -> {
+          backOff(idleAttempts, READER_SLEEP_NANOS);
+          idleAttempts = Math.min(idleAttempts + 1, SPIN_ATTEMPTS);
+        }
+        case YIELDING -> Thread.yield();
+      }
+    }
+  }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.events.RingBufferDeliveryConfig.BackpressurePolicy;
+import tech.pegasys.teku.infrastructure.events.RingBufferDeliveryConfig.WaitStrategy;
+import tech.pegasys.teku.infrastructure.events.RingBufferEventDeliverer.QueueReader;
+
+@SuppressWarnings("rawtypes")
+class RingBufferEventDelivererTest {
+  private final MetricsSystem metricsSystem = new NoOpMetricsSystem();
+  private final ChannelExceptionHandler exceptionHandler = mock(ChannelExceptionHandler.class);
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final ExecutorService mockExecutor = mock(ExecutorService.class);
+  private ExecutorService executor;
+
+  @AfterEach
+  public void tearDown() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void shouldDeliverEventsInOrder() {
+    final EventChannel<EventWithArgument> channel =
+        createChannel(RingBufferDeliveryConfig.createDefault());
+    final EventWithArgument subscriber = mock(EventWithArgument.class);
+    channel.subscribe(subscriber);
+
+    channel.getPublisher(Optional.empty()).method1("Event1");
+    channel.getPublisher(Optional.empty()).method2("Event2");
+    channel.getPublisher(Optional.empty()).method1("Event3");
+
+    verifyNoInteractions(subscriber);
+
+    assertThat(captureQueueReader().deliverNextBatch()).isEqualTo(3);
+
+    final InOrder inOrder = inOrder(subscriber);
+    inOrder.verify(subscriber).method1("Event1");
+    inOrder.verify(subscriber).method2("Event2");
+    inOrder.verify(subscriber).method1("Event3");
+    inOrder.verifyNoMoreInteractions();
+  }
+
+  @Test
+  void shouldLimitEventsDeliveredPerBatch() {
+    final EventChannel<EventWithArgument> channel =
+        createChannel(RingBufferDeliveryConfig.builder().batchSize(2).build());
+    final EventWithArgument subscriber = mock(EventWithArgument.class);
+    channel.subscribe(subscriber);
+
+    channel.getPublisher(Optional.empty()).method1("Event1");
+    channel.getPublisher(Optional.empty()).method1("Event2");
+    channel.getPublisher(Optional.empty()).method1("Event3");
+
+    final QueueReader reader = captureQueueReader();
+    assertThat(reader.deliverNextBatch()).isEqualTo(2);
+    assertThat(reader.deliverNextBatch()).isEqualTo(1);
+    assertThat(reader.deliverNextBatch()).isZero();
+  }
+
+  @Test
+  void shouldDropOldestEventsWhenFull() {
+    final EventChannel<EventWithArgument> channel =
+        createChannel(
+            RingBufferDeliveryConfig.builder()
+                .capacity(2)
+                .backpressurePolicy(BackpressurePolicy.DROP_OLDEST)
+                .build());
+    final EventWithArgument subscriber = mock(EventWithArgument.class);
+    channel.subscribe(subscriber);
+
+    channel.getPublisher(Optional.empty()).method1("Event1");
+    channel.getPublisher(Optional.empty()).method1("Event2");
+    channel.getPublisher(Optional.empty()).method1("Event3");
+
+    captureQueueReader().deliverNextBatch();
+
+    final InOrder inOrder = inOrder(subscriber);
+    inOrder.verify(subscriber).method1("Event2");
+    inOrder.verify(subscriber).method1("Event3");
+    inOrder.verifyNoMoreInteractions();
+  }
+
+  @Test
+  void shouldNotDropEventsWithPendingResponseWhenSubscriberIsSlow() throws Exception {
+    final EventChannel<WithFutureAndEvent> channel =
+        EventChannel.createRingBuffer(
+            WithFutureAndEvent.class,
+            mockExecutor,
+            RingBufferDeliveryConfig.builder()
+                .capacity(2)
+                .backpressurePolicy(BackpressurePolicy.DROP_OLDEST)
+                .build(),
+            exceptionHandler,
+            metricsSystem);
+    final WithFutureAndEvent subscriber = mock(WithFutureAndEvent.class);
+    when(subscriber.getFutureString()).thenReturn(SafeFuture.completedFuture("Yay"));
+    channel.subscribe(subscriber);
+    final WithFutureAndEvent publisher = channel.getPublisher(Optional.of(asyncRunner));
+
+    publisher.onEvent("Event1");
+    final SafeFuture<String> result = publisher.getFutureString();
+    // Buffer is full so the oldest event, which has no response, is dropped
+    publisher.onEvent("Event2");
+
+    // The oldest event now has a pending response so the publisher must wait for the subscriber
+    executor = Executors.newSingleThreadExecutor();
+    final Future<?> blockedPublish = executor.submit(() -> publisher.onEvent("Event3"));
+    assertThatThrownBy(() -> blockedPublish.get(100, TimeUnit.MILLISECONDS))
+        .isInstanceOf(TimeoutException.class);
+    assertThat(result).isNotDone();
+
+    final QueueReader reader = captureQueueReader();
+    reader.deliverNextBatch();
+    blockedPublish.get(5, TimeUnit.SECONDS);
+    reader.deliverNextBatch();
+
+    asyncRunner.executeQueuedActions();
+    assertThat(result).isCompletedWithValue("Yay");
+    final InOrder inOrder = inOrder(subscriber);
+    inOrder.verify(subscriber).getFutureString();
+    inOrder.verify(subscriber).onEvent("Event2");
+    inOrder.verify(subscriber).onEvent("Event3");
+    inOrder.verifyNoMoreInteractions();
+  }
+
+  @Test
+  void shouldCoalescePendingEventsForTheSameMethod() {
+    final EventChannel<EventWithArgument> channel =
+        createChannel(
+            RingBufferDeliveryConfig.builder()
+                .backpressurePolicy(BackpressurePolicy.COALESCE)
+                .build());
+    final EventWithArgument subscriber = mock(EventWithArgument.class);
+    channel.subscribe(subscriber);
+
+    channel.getPublisher(Optional.empty()).method1("Event1");
+    channel.getPublisher(Optional.empty()).method2("Event2");
+    channel.getPublisher(Optional.empty()).method1("Event3");
+
+    final QueueReader reader = captureQueueReader();
+    reader.deliverNextBatch();
+
+    final InOrder inOrder = inOrder(subscriber);
+    inOrder.verify(subscriber).method1("Event3");
+    inOrder.verify(subscriber).method2("Event2");
+    inOrder.verifyNoMoreInteractions();
+
+    // Events published after delivery are queued again
+    channel.getPublisher(Optional.empty()).method1("Event4");
+    reader.deliverNextBatch();
+    verify(subscriber).method1("Event4");
+  }
+
+  @Test
+  void shouldReturnFutureResults() {
+    final EventChannel<WithFuture> channel =
+        EventChannel.createRingBuffer(
+            WithFuture.class,
+            mockExecutor,
+            RingBufferDeliveryConfig.builder()
+                .backpressurePolicy(BackpressurePolicy.COALESCE)
+                .build(),
+            exceptionHandler,
+            metricsSystem);
+    final WithFuture subscriber = () -> SafeFuture.completedFuture("Yay");
+    channel.subscribe(subscriber);
+
+    final SafeFuture<String> result =
+        channel.getPublisher(Optional.of(asyncRunner)).getFutureString();
+    assertThat(result).isNotDone();
+
+    captureQueueReader().deliverNextBatch();
+    // Should complete the future via the responseExecutor, not immediately
+    assertThat(result).isNotDone();
+
+    asyncRunner.executeQueuedActions();
+    assertThat(result).isCompletedWithValue("Yay");
+  }
+
+  @Test
+  void shouldProcessAlreadyPublishedEventsBeforeStopping() {
+    final EventChannel<EventWithArgument> channel =
+        createChannel(RingBufferDeliveryConfig.createDefault());
+    final EventWithArgument subscriber = mock(EventWithArgument.class);
+    channel.subscribe(subscriber);
+
+    channel.getPublisher(Optional.empty()).method1("Event1");
+    channel.getPublisher(Optional.empty()).method2("Event2");
+
+    final SafeFuture<Void> stopFuture = channel.stop();
+    assertThat(stopFuture).isNotDone();
+
+    channel.getPublisher(Optional.empty()).method1("Event3");
+
+    captureQueueReader().run();
+
+    final InOrder inOrder = inOrder(subscriber);
+    inOrder.verify(subscriber).method1("Event1");
+    inOrder.verify(subscriber).method2("Event2");
+    inOrder.verifyNoMoreInteractions();
+    assertThat(stopFuture).isCompleted();
+  }
+
+  @Test
+  void shouldDeliverEventsOnRealThreadsWithEachWaitStrategy() throws Exception {
+    for (WaitStrategy waitStrategy : WaitStrategy.values()) {
+      executor =
+          Executors.newCachedThreadPool(
+              new ThreadFactoryBuilder()
+                  .setDaemon(true)
+                  .setNameFormat("ring-buffer-" + waitStrategy + "-%d")
+                  .build());
+      final EventChannel<EventWithArgument> channel =
+          EventChannel.createRingBuffer(
+              EventWithArgument.class,
+              executor,
+              RingBufferDeliveryConfig.builder().capacity(4).waitStrategy(waitStrategy).build(),
+              exceptionHandler,
+              metricsSystem);
+      final int eventCount = 100;
+      final List<String> received = new CopyOnWriteArrayList<>();
+      final CountDownLatch allReceived = new CountDownLatch(eventCount);
+      channel.subscribe(
+          new EventWithArgument() {
+            @Override
+            public void method1(final String value) {
+              received.add(value);
+              allReceived.countDown();
+            }
+
+            @Override
+            public void method2(final String value) {}
+          });
+
+      for (int i = 0; i < eventCount; i++) {
+        channel.getPublisher(Optional.empty()).method1(Integer.toString(i));
+      }
+
+      assertThat(allReceived.await(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(received).hasSize(eventCount).startsWith("0", "1").endsWith("99");
+      assertThat(channel.stop()).succeedsWithin(5, TimeUnit.SECONDS);
+    }
+  }
+
+  private EventChannel<EventWithArgument> createChannel(final RingBufferDeliveryConfig config) {
+    return EventChannel.createRingBuffer(
+        EventWithArgument.class, mockExecutor, config, exceptionHandler, metricsSystem);
+  }
+
+  private QueueReader captureQueueReader() {
+    final ArgumentCaptor<QueueReader> consumerCaptor = ArgumentCaptor.forClass(QueueReader.class);
+    verify(mockExecutor).execute(consumerCaptor.capture());
+    return consumerCaptor.getValue();
+  }
+
+  private interface EventWithArgument {
+    void method1(String value);
+
+    void method2(String value);
+  }
+
+  private interface WithFuture {
+    SafeFuture<String> getFutureString();
+  }
+
+  private interface WithFutureAndEvent {
+    SafeFuture<String> getFutureString();
+
+    void onEvent(String value);
+  }
+}
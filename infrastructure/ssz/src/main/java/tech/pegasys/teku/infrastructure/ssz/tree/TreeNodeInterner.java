@@ -0,0 +1,102 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * Deduplicates identical subtrees across trees which were built independently, for example a
+ * state loaded from disk and a state regenerated from blocks, so they share the memory for the
+ * parts they have in common.
+ *
+ * <p>Branch nodes with at least {@code minHeight} levels below them are recorded by hash root and
+ * replaced with the recorded instance when an identical subtree is interned later. Smaller
+ * subtrees and leaves are not recorded as an entry would cost more than the nodes it saves.
+ * Recorded nodes are only weakly referenced so interning never keeps a tree alive. Lazily loaded
+ * branches are left as they are so that interning does not force them to load.
+ *
+ * <p>A recorded subtree is reused whenever its hash root and node type match, without comparing
+ * the nodes below it, as walking every matched subtree would cost as much as the interning saves.
+ */
+public class TreeNodeInterner {
+  public static final int DEFAULT_MIN_HEIGHT = 4;
+
+  private final Cache<Bytes32, TreeNode> nodes = CacheBuilder.newBuilder().weakValues().build();
+  private final AtomicLong deduplicatedSubtreeCount = new AtomicLong();
+  private final int minHeight;
+
+  public TreeNodeInterner(final int minHeight) {
+    checkArgument(minHeight > 0, "Minimum height must be positive but was %s", minHeight);
+    this.minHeight = minHeight;
+  }
+
+  public static TreeNodeInterner create() {
+    return new TreeNodeInterner(DEFAULT_MIN_HEIGHT);
+  }
+
+  /**
+   * Returns a tree identical to {@code root} which reuses any previously interned subtrees, and
+   * records its own subtrees for reuse by later trees.
+   */
+  public TreeNode intern(final TreeNode root) {
+    return internNode(root).node();
+  }
+
+  /** The approximate number of subtrees currently available for reuse. */
+  public long getInternedNodeCount() {
+    return nodes.size();
+  }
+
+  /**
+   * The total number of subtrees which have been replaced by an existing identical subtree. Each of
+   * these can be garbage collected once nothing else refers to the tree it came from.
+   */
+  public long getDeduplicatedSubtreeCount() {
+    return deduplicatedSubtreeCount.get();
+  }
+
+  private InternedNode internNode(final TreeNode node) {
+    if (!(node instanceof SimpleBranchNode branch)) {
+      return new InternedNode(node, 0);
+    }
+    final Bytes32 root = node.hashTreeRoot();
+    final TreeNode existing = nodes.getIfPresent(root);
+    if (existing != null && existing.getClass() == node.getClass()) {
+      if (existing != node) {
+        deduplicatedSubtreeCount.incrementAndGet();
+      }
+      // Only branches at least minHeight tall are recorded, which is all the caller needs to know
+      return new InternedNode(existing, minHeight);
+    }
+
+    final InternedNode left = internNode(branch.left());
+    final InternedNode right = internNode(branch.right());
+    final TreeNode result =
+        left.node() == branch.left() && right.node() == branch.right()
+            ? node
+            : new SimpleBranchNode(left.node(), right.node());
+    final int height = Math.max(left.height(), right.height()) + 1;
+    if (height >= minHeight) {
+      nodes.put(root, result);
+    }
+    return new InternedNode(result, height);
+  }
+
+  private record InternedNode(TreeNode node, int height) {}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.ssz.tree.TreeTest.newTestLeaf;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class TreeNodeInternerTest {
+
+  private final TreeNodeInterner interner = TreeNodeInterner.create();
+
+  @Test
+  void shouldReuseIdenticalTreeBuiltIndependently() {
+    final TreeNode first = createTree(64, 1);
+    final TreeNode second = createTree(64, 1);
+
+    assertThat(interner.intern(first)).isSameAs(first);
+    assertThat(interner.getDeduplicatedSubtreeCount()).isZero();
+
+    assertThat(interner.intern(second)).isSameAs(first);
+    assertThat(interner.getDeduplicatedSubtreeCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldShareUnchangedSubtreesOfDifferentTrees() {
+    final TreeNode first = createTree(64, 1);
+    final TreeNode second = createTree(64, 2);
+
+    interner.intern(first);
+    final TreeNode interned = interner.intern(second);
+
+    assertThat(interned).isNotSameAs(first).isNotSameAs(second);
+    assertThat(interned.hashTreeRoot()).isEqualTo(second.hashTreeRoot());
+    assertThat(interned.get(0b11)).isSameAs(first.get(0b11));
+    assertThat(interned.get(0b101)).isSameAs(first.get(0b101));
+    assertThat(interned.get(0b100)).isSameAs(second.get(0b100));
+  }
+
+  @Test
+  void shouldNotRecordSubtreesBelowMinimumHeight() {
+    final TreeNode first = createTree(8, 1);
+    final TreeNode second = createTree(8, 1);
+
+    interner.intern(first);
+
+    assertThat(interner.intern(second)).isSameAs(second);
+    assertThat(interner.getInternedNodeCount()).isZero();
+  }
+
+  @Test
+  void shouldNotReplaceLeafWithSameRootAsInternedSubtree() {
+    final TreeNode tree = createTree(64, 1);
+    final TreeNode leaf = LeafNode.create(tree.hashTreeRoot());
+
+    interner.intern(tree);
+
+    assertThat(interner.intern(leaf)).isSameAs(leaf);
+    assertThat(interner.getDeduplicatedSubtreeCount()).isZero();
+  }
+
+  private TreeNode createTree(final int leafCount, final long firstLeafValue) {
+    final List<LeafNode> leaves =
+        IntStream.range(0, leafCount)
+            .mapToObj(i -> newTestLeaf(i == 0 ? firstLeafValue : i + 100))
+            .toList();
+    return TreeUtil.createTree(leaves);
+  }
+}
@@ -15,6 +15,7 @@ package tech.pegasys.teku.networking.eth2;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -46,6 +47,7 @@ import tech.pegasys.teku.networking.p2p.peer.NodeId;
 import tech.pegasys.teku.networking.p2p.peer.PeerConnectedSubscriber;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.datastructures.blobs.DataColumnSidecar;
 import tech.pegasys.teku.spec.datastructures.epbs.versions.gloas.PayloadAttestationMessage;
 import tech.pegasys.teku.spec.datastructures.epbs.versions.gloas.SignedProposerPreferences;
 import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.metadata.MetadataMessage;
@@ -58,6 +60,7 @@ import tech.pegasys.teku.spec.datastructures.operations.versions.altair.Validata
 import tech.pegasys.teku.spec.datastructures.state.Fork;
 import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
 import tech.pegasys.teku.spec.logic.versions.fulu.helpers.BlobParameters;
+import tech.pegasys.teku.statetransition.blobs.RemoteOrigin;
 import tech.pegasys.teku.storage.client.ChainHead;
 import tech.pegasys.teku.storage.client.RecentChainData;
 
@@ -147,7 +150,19 @@ public class ActiveEth2P2PNetwork extends DelegatingP2PNetwork<Eth2Peer> impleme
     eventChannels.subscribe(BlobSidecarGossipChannel.class, gossipForkManager::publishBlobSidecar);
     eventChannels.subscribe(
         DataColumnSidecarGossipChannel.class,
-        (sidecar, __) -> gossipForkManager.publishDataColumnSidecar(sidecar));
+        new DataColumnSidecarGossipChannel() {
+          @Override
+          public void publishDataColumnSidecars(
+              final List<DataColumnSidecar> dataColumnSidecars, final RemoteOrigin origin) {
+            gossipForkManager.publishDataColumnSidecars(dataColumnSidecars);
+          }
+
+          @Override
+          public void publishDataColumnSidecar(
+              final DataColumnSidecar dataColumnSidecar, final RemoteOrigin remoteOrigin) {
+            gossipForkManager.publishDataColumnSidecar(dataColumnSidecar);
+          }
+        });
     eventChannels.subscribe(
         ExecutionProofGossipChannel.class, gossipForkManager::publishExecutionProof);
     eventChannels.subscribe(
@@ -32,6 +32,8 @@ import tech.pegasys.teku.infrastructure.events.EventChannels;
 import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.networking.eth2.gossip.DataColumnSidecarPublishScheduler;
+import tech.pegasys.teku.networking.eth2.gossip.PacedDataColumnSidecarPublishScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
 import tech.pegasys.teku.networking.eth2.gossip.forks.GossipForkManager;
 import tech.pegasys.teku.networking.eth2.gossip.forks.GossipForkSubscriptions;
@@ -48,7 +50,7 @@ import tech.pegasys.teku.networking.eth2.gossip.forks.versions.GossipForkSubscri
 import tech.pegasys.teku.networking.eth2.gossip.subnets.AttestationSubnetTopicProvider;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.DataColumnSidecarSubnetTopicProvider;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.NodeIdToDataColumnSidecarSubnetsCalculator;
-import tech.pegasys.teku.networking.eth2.gossip.subnets.PeerSubnetSubscriptions;
+import tech.pegasys.teku.networking.eth2.gossip.subnets.PeerSubnetSubscriptionsTracker;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.SyncCommitteeSubnetTopicProvider;
 import tech.pegasys.teku.networking.eth2.gossip.topics.Eth2GossipTopicFilter;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
@@ -59,6 +61,8 @@ import tech.pegasys.teku.networking.eth2.peers.Eth2PeerSelectionStrategy;
 import tech.pegasys.teku.networking.eth2.peers.LibP2PDiscoveryNodeIdExtractor;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.MetadataMessagesFactory;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.StatusMessageFactory;
+import tech.pegasys.teku.networking.eth2.rpc.core.FairQueueInboundRequestScheduler;
+import tech.pegasys.teku.networking.eth2.rpc.core.InboundRequestScheduler;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
 import tech.pegasys.teku.networking.p2p.connection.PeerPools;
 import tech.pegasys.teku.networking.p2p.connection.TargetPeerRange;
@@ -118,6 +122,7 @@ public class Eth2P2PNetworkBuilder {
   public static final Duration DEFAULT_ETH2_RPC_PING_INTERVAL = Duration.ofSeconds(10);
   public static final int DEFAULT_ETH2_RPC_OUTSTANDING_PING_THRESHOLD = 2;
   public static final Duration DEFAULT_ETH2_STATUS_UPDATE_INTERVAL = Duration.ofMinutes(5);
+  private static final long BYTES_PER_SECOND_PER_MBPS = 125_000L;
 
   protected P2PConfig config;
   protected EventChannels eventChannels;
@@ -212,13 +217,15 @@ public class Eth2P2PNetworkBuilder {
             spec,
             discoveryNodeIdExtractor,
             dataColumnSidecarArchiveReconstructor,
-            dasReqRespLogger);
+            dasReqRespLogger,
+            createInboundRequestScheduler());
     final Collection<RpcMethod<?, ?, ?>> eth2RpcMethods =
         eth2PeerManager.getBeaconChainMethods().all();
     rpcMethods.addAll(eth2RpcMethods);
     peerHandlers.add(eth2PeerManager);
 
-    final GossipEncoding gossipEncoding = config.getGossipEncoding();
+    final GossipEncoding gossipEncoding =
+        config.getGossipEncoding().forNetwork(metricsSystem, timeProvider);
     // Build core network and inject eth2 handlers
     final DiscoveryNetwork<?> network =
         buildNetwork(gossipEncoding, syncCommitteeSubnetService, dataColumnSidecarSubnetService);
@@ -249,10 +256,17 @@ public class Eth2P2PNetworkBuilder {
         GossipForkManager.builder()
             .spec(spec)
             .recentChainData(combinedChainDataClient.getRecentChainData());
+    // Shared across forks as they all publish over the same uplink
+    final DataColumnSidecarPublishScheduler dataColumnSidecarPublishScheduler =
+        createDataColumnSidecarPublishScheduler();
     spec.getEnabledMilestones().stream()
         .map(
             forkAndSpecMilestone ->
-                createSubscriptions(forkAndSpecMilestone, network, gossipEncoding))
+                createSubscriptions(
+                    forkAndSpecMilestone,
+                    network,
+                    gossipEncoding,
+                    dataColumnSidecarPublishScheduler))
         .forEach(gossipForkManagerBuilder::fork);
     // BPO
     spec.getBpoForks().stream()
@@ -263,17 +277,42 @@ public class Eth2P2PNetworkBuilder {
                   spec.getForkSchedule().getSpecMilestoneAtEpoch(bpo.epoch());
               final ForkAndSpecMilestone forkAndSpecMilestone =
                   new ForkAndSpecMilestone(fork, milestone);
-              return createBpoSubscriptions(forkAndSpecMilestone, network, gossipEncoding, bpo);
+              return createBpoSubscriptions(
+                  forkAndSpecMilestone,
+                  network,
+                  gossipEncoding,
+                  bpo,
+                  dataColumnSidecarPublishScheduler);
             })
         .forEach(gossipForkManagerBuilder::bpoFork);
 
     return gossipForkManagerBuilder.build();
   }
 
+  private InboundRequestScheduler createInboundRequestScheduler() {
+    if (config.getInboundRequestMaxConcurrency() == 0) {
+      return InboundRequestScheduler.NOOP;
+    }
+    return new FairQueueInboundRequestScheduler(
+        config.getInboundRequestMaxConcurrency(), metricsSystem, timeProvider);
+  }
+
+  private DataColumnSidecarPublishScheduler createDataColumnSidecarPublishScheduler() {
+    if (config.getDasPublishUploadBandwidthMbps() == 0) {
+      return DataColumnSidecarPublishScheduler.NOOP;
+    }
+    return new PacedDataColumnSidecarPublishScheduler(
+        asyncRunner,
+        timeProvider,
+        config.getDasPublishUploadBandwidthMbps() * BYTES_PER_SECOND_PER_MBPS,
+        config.getNetworkConfig().getGossipConfig().getD());
+  }
+
   private GossipForkSubscriptions createSubscriptions(
       final ForkAndSpecMilestone forkAndSpecMilestone,
       final DiscoveryNetwork<?> network,
-      final GossipEncoding gossipEncoding) {
+      final GossipEncoding gossipEncoding,
+      final DataColumnSidecarPublishScheduler dataColumnSidecarPublishScheduler) {
     return switch (forkAndSpecMilestone.getSpecMilestone()) {
       case PHASE0 ->
           new GossipForkSubscriptionsPhase0(
@@ -412,7 +451,8 @@ public class Eth2P2PNetworkBuilder {
               dasGossipLogger,
               executionProofOperationProcessor,
               config.isExecutionProofTopicEnabled(),
-              isSuperNodeSupplier);
+              isSuperNodeSupplier,
+              dataColumnSidecarPublishScheduler);
       case GLOAS, HEZE ->
           new GossipForkSubscriptionsGloas(
               forkAndSpecMilestone.getFork(),
@@ -441,7 +481,8 @@ public class Eth2P2PNetworkBuilder {
               dasGossipLogger,
               executionProofOperationProcessor,
               config.isExecutionProofTopicEnabled(),
-              isSuperNodeSupplier);
+              isSuperNodeSupplier,
+              dataColumnSidecarPublishScheduler);
     };
   }
 
@@ -449,7 +490,8 @@ public class Eth2P2PNetworkBuilder {
       final ForkAndSpecMilestone forkAndSpecMilestone,
       final DiscoveryNetwork<?> network,
       final GossipEncoding gossipEncoding,
-      final BlobParameters bpo) {
+      final BlobParameters bpo,
+      final DataColumnSidecarPublishScheduler dataColumnSidecarPublishScheduler) {
     return switch (forkAndSpecMilestone.getSpecMilestone()) {
       case FULU ->
           new GossipForkSubscriptionsFuluBpo(
@@ -476,7 +518,8 @@ public class Eth2P2PNetworkBuilder {
               dasGossipLogger,
               bpo,
               config.isExecutionProofTopicEnabled(),
-              isSuperNodeSupplier);
+              isSuperNodeSupplier,
+              dataColumnSidecarPublishScheduler);
       case GLOAS, HEZE ->
           new GossipForkSubscriptionsGloasBpo(
               forkAndSpecMilestone.getFork(),
@@ -506,7 +549,8 @@ public class Eth2P2PNetworkBuilder {
               dasGossipLogger,
               bpo,
               config.isExecutionProofTopicEnabled(),
-              isSuperNodeSupplier);
+              isSuperNodeSupplier,
+              dataColumnSidecarPublishScheduler);
       default ->
           throw new IllegalStateException(
               "BPO is not supported for: " + forkAndSpecMilestone.getSpecMilestone());
@@ -585,18 +629,16 @@ public class Eth2P2PNetworkBuilder {
         .peerSelectionStrategy(
             new Eth2PeerSelectionStrategy(
                 targetPeerRange,
-                network ->
-                    PeerSubnetSubscriptions.create(
-                        combinedChainDataClient.getRecentChainData().getCurrentSpec(),
-                        nodeIdToDataColumnSidecarSubnetsCalculator,
-                        network,
-                        attestationSubnetTopicProvider,
-                        syncCommitteeSubnetTopicProvider,
-                        syncCommitteeSubnetService,
-                        dataColumnSidecarSubnetTopicProvider,
-                        dataColumnSidecarSubnetService,
-                        config.getTargetSubnetSubscriberCount(),
-                        subnetPeerCountGauge),
+                new PeerSubnetSubscriptionsTracker(
+                    () -> combinedChainDataClient.getRecentChainData().getCurrentSpec(),
+                    nodeIdToDataColumnSidecarSubnetsCalculator,
+                    attestationSubnetTopicProvider,
+                    syncCommitteeSubnetTopicProvider,
+                    syncCommitteeSubnetService,
+                    dataColumnSidecarSubnetTopicProvider,
+                    dataColumnSidecarSubnetService,
+                    config.getTargetSubnetSubscriberCount(),
+                    subnetPeerCountGauge),
                 reputationManager,
                 Collections::shuffle))
         .discoveryConfig(discoConfig)
@@ -38,6 +38,8 @@ public class P2PConfig {
   public static final int DEFAULT_PEER_BLOB_SIDECARS_RATE_LIMIT = 2000;
 
   public static final int DEFAULT_PEER_REQUEST_LIMIT = 100;
+  // 0 disables fair-queue scheduling of inbound requests so they are served as they arrive
+  public static final int DEFAULT_INBOUND_REQUEST_MAX_CONCURRENCY = 0;
 
   public static final boolean DEFAULT_PEER_ALL_TOPIC_FILTER_ENABLED = true;
   public static final int DEFAULT_P2P_TARGET_SUBNET_SUBSCRIBER_COUNT = 2;
@@ -45,6 +47,8 @@ public class P2PConfig {
   public static final boolean DEFAULT_GOSSIP_SCORING_ENABLED = true;
   public static final boolean DEFAULT_GOSSIP_BLOBS_AFTER_BLOCK_ENABLED = true;
   public static final boolean DEFAULT_DAS_DISABLE_EL_RECOVERY = false;
+  // 0 publishes data column sidecars as fast as libp2p accepts them
+  public static final int DEFAULT_DAS_PUBLISH_UPLOAD_BANDWIDTH_MBPS = 0;
   public static final boolean DEFAULT_COLUMNS_DATA_AVAILABILITY_HALF_CHECK_ENABLED = true;
   public static final int DEFAULT_BATCH_VERIFY_MAX_THREADS =
       Math.max(4, Runtime.getRuntime().availableProcessors() / 2);
@@ -82,12 +86,14 @@ public class P2PConfig {
   private final boolean subscribeAllSubnetsEnabled;
   private final int custodyGroupCountOverride;
   private final OptionalInt dasPublishWithholdColumnsEverySlots;
+  private final int dasPublishUploadBandwidthMbps;
   private final boolean dasDisableElRecovery;
   private final int historicalDataMaxConcurrentQueries;
   private final int historicalDataMaxQueryQueueSize;
   private final int peerBlocksRateLimit;
   private final int peerBlobSidecarsRateLimit;
   private final int peerRequestLimit;
+  private final int inboundRequestMaxConcurrency;
   private final int batchVerifyMaxThreads;
   private final int batchVerifyQueueCapacity;
   private final int batchVerifyMaxBatchSize;
@@ -113,12 +119,14 @@ public class P2PConfig {
       final boolean subscribeAllSubnetsEnabled,
       final int custodyGroupCountOverride,
       final OptionalInt dasPublishWithholdColumnsEverySlots,
+      final int dasPublishUploadBandwidthMbps,
       final boolean dasDisableElRecovery,
       final int historicalDataMaxConcurrentQueries,
       final int historicalDataMaxQueryQueueSize,
       final int peerBlocksRateLimit,
       final int peerBlobSidecarsRateLimit,
       final int peerRequestLimit,
+      final int inboundRequestMaxConcurrency,
       final int batchVerifyMaxThreads,
       final int batchVerifyQueueCapacity,
       final int batchVerifyMaxBatchSize,
@@ -142,12 +150,14 @@ public class P2PConfig {
     this.subscribeAllSubnetsEnabled = subscribeAllSubnetsEnabled;
     this.custodyGroupCountOverride = custodyGroupCountOverride;
     this.dasPublishWithholdColumnsEverySlots = dasPublishWithholdColumnsEverySlots;
+    this.dasPublishUploadBandwidthMbps = dasPublishUploadBandwidthMbps;
     this.dasDisableElRecovery = dasDisableElRecovery;
     this.historicalDataMaxConcurrentQueries = historicalDataMaxConcurrentQueries;
     this.historicalDataMaxQueryQueueSize = historicalDataMaxQueryQueueSize;
     this.peerBlocksRateLimit = peerBlocksRateLimit;
     this.peerBlobSidecarsRateLimit = peerBlobSidecarsRateLimit;
     this.peerRequestLimit = peerRequestLimit;
+    this.inboundRequestMaxConcurrency = inboundRequestMaxConcurrency;
     this.batchVerifyMaxThreads = batchVerifyMaxThreads;
     this.batchVerifyQueueCapacity = batchVerifyQueueCapacity;
     this.batchVerifyMaxBatchSize = batchVerifyMaxBatchSize;
@@ -209,6 +219,10 @@ public class P2PConfig {
     return dasPublishWithholdColumnsEverySlots;
   }
 
+  public int getDasPublishUploadBandwidthMbps() {
+    return dasPublishUploadBandwidthMbps;
+  }
+
   public boolean isDasDisableElRecovery() {
     return dasDisableElRecovery;
   }
@@ -233,6 +247,10 @@ public class P2PConfig {
     return peerRequestLimit;
   }
 
+  public int getInboundRequestMaxConcurrency() {
+    return inboundRequestMaxConcurrency;
+  }
+
   public int getBatchVerifyMaxThreads() {
     return batchVerifyMaxThreads;
   }
@@ -306,12 +324,14 @@ public class P2PConfig {
     private int custodyGroupCountOverride = DEFAULT_CUSTODY_GROUP_COUNT_OVERRIDE;
     private int dasPublishWithholdColumnsEverySlots =
         DEFAULT_DAS_PUBLISH_WITHHOLD_COLUMNS_EVERY_SLOTS;
+    private int dasPublishUploadBandwidthMbps = DEFAULT_DAS_PUBLISH_UPLOAD_BANDWIDTH_MBPS;
     private boolean dasDisableElRecovery = DEFAULT_DAS_DISABLE_EL_RECOVERY;
     private int historicalDataMaxConcurrentQueries = DEFAULT_HISTORICAL_DATA_MAX_CONCURRENT_QUERIES;
     private int historicalDataMaxQueryQueueSize = DEFAULT_HISTORICAL_MAX_QUERY_QUEUE_SIZE;
     private Integer peerBlocksRateLimit = DEFAULT_PEER_BLOCKS_RATE_LIMIT;
     private Integer peerBlobSidecarsRateLimit = DEFAULT_PEER_BLOB_SIDECARS_RATE_LIMIT;
     private Integer peerRequestLimit = DEFAULT_PEER_REQUEST_LIMIT;
+    private int inboundRequestMaxConcurrency = DEFAULT_INBOUND_REQUEST_MAX_CONCURRENCY;
     private int batchVerifyMaxThreads = DEFAULT_BATCH_VERIFY_MAX_THREADS;
     private OptionalInt batchVerifyQueueCapacity = OptionalInt.empty();
     private int batchVerifyMaxBatchSize = DEFAULT_BATCH_VERIFY_MAX_BATCH_SIZE;
@@ -383,12 +403,14 @@ public class P2PConfig {
           subscribeAllSubnetsEnabled,
           custodyGroupCountOverride,
           dasPublishWithholdColumnsEverySlotsOptional,
+          dasPublishUploadBandwidthMbps,
           dasDisableElRecovery,
           historicalDataMaxConcurrentQueries,
           historicalDataMaxQueryQueueSize,
           peerBlocksRateLimit,
           peerBlobSidecarsRateLimit,
           peerRequestLimit,
+          inboundRequestMaxConcurrency,
           batchVerifyMaxThreads,
           batchVerifyQueueCapacity.orElse(DEFAULT_BATCH_VERIFY_QUEUE_CAPACITY),
           batchVerifyMaxBatchSize,
@@ -458,6 +480,16 @@ public class P2PConfig {
       return this;
     }
 
+    public Builder dasPublishUploadBandwidthMbps(final int dasPublishUploadBandwidthMbps) {
+      if (dasPublishUploadBandwidthMbps < 0) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid dasPublishUploadBandwidthMbps: %d", dasPublishUploadBandwidthMbps));
+      }
+      this.dasPublishUploadBandwidthMbps = dasPublishUploadBandwidthMbps;
+      return this;
+    }
+
     public Builder dasDisableElRecovery(final boolean dasDisableElRecovery) {
       this.dasDisableElRecovery = dasDisableElRecovery;
       return this;
@@ -511,6 +543,16 @@ public class P2PConfig {
       return this;
     }
 
+    public Builder inboundRequestMaxConcurrency(final int inboundRequestMaxConcurrency) {
+      if (inboundRequestMaxConcurrency < 0) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid inboundRequestMaxConcurrency: %d", inboundRequestMaxConcurrency));
+      }
+      this.inboundRequestMaxConcurrency = inboundRequestMaxConcurrency;
+      return this;
+    }
+
     public Builder floodPublishMaxMessageSizeThreshold(
         final int floodPublishMaxMessageSizeThreshold) {
       this.floodPublishMaxMessageSizeThreshold = floodPublishMaxMessageSizeThreshold;
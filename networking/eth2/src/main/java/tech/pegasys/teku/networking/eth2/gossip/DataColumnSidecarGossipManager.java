@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.networking.eth2.gossip;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.DataColumnSidecarSubnetSubscriptions;
@@ -23,14 +24,17 @@ public class DataColumnSidecarGossipManager implements GossipManager {
   private final DataColumnSidecarSubnetSubscriptions subnetSubscriptions;
   private final DasGossipLogger dasGossipLogger;
   private final Supplier<Boolean> isSuperNodeSupplier;
+  private final DataColumnSidecarPublishScheduler publishScheduler;
 
   public DataColumnSidecarGossipManager(
       final DataColumnSidecarSubnetSubscriptions dataColumnSidecarSubnetSubscriptions,
       final DasGossipLogger dasGossipLogger,
-      final Supplier<Boolean> isSuperNodeSupplier) {
+      final Supplier<Boolean> isSuperNodeSupplier,
+      final DataColumnSidecarPublishScheduler publishScheduler) {
     this.subnetSubscriptions = dataColumnSidecarSubnetSubscriptions;
     this.dasGossipLogger = dasGossipLogger;
     this.isSuperNodeSupplier = isSuperNodeSupplier;
+    this.publishScheduler = publishScheduler;
   }
 
   public void publish(final DataColumnSidecar dataColumnSidecar) {
@@ -41,6 +45,11 @@ public class DataColumnSidecarGossipManager implements GossipManager {
             error -> dasGossipLogger.onPublish(dataColumnSidecar, Optional.of(error)));
   }
 
+  public void publish(final List<DataColumnSidecar> dataColumnSidecars) {
+    publishScheduler.schedule(
+        dataColumnSidecars, subnetSubscriptions.getSubnetSubscriberCounts(), this::publish);
+  }
+
   public void subscribeToSubnetId(final int subnetId) {
     subnetSubscriptions.subscribeToSubnetId(subnetId);
     dasGossipLogger.onDataColumnSubnetSubscribe(subnetId);
@@ -0,0 +1,36 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import tech.pegasys.teku.spec.datastructures.blobs.DataColumnSidecar;
+
+/** Decides when each of a batch of locally produced data column sidecars is published. */
+public interface DataColumnSidecarPublishScheduler {
+
+  DataColumnSidecarPublishScheduler NOOP =
+      (sidecars, subnetSubscriberCount, publisher) -> sidecars.forEach(publisher);
+
+  /**
+   * @param sidecars the sidecars to publish
+   * @param subnetSubscriberCount the number of peers subscribed to the subnet of a sidecar
+   * @param publisher publishes a single sidecar to gossip
+   */
+  void schedule(
+      List<DataColumnSidecar> sidecars,
+      ToIntFunction<DataColumnSidecar> subnetSubscriberCount,
+      Consumer<DataColumnSidecar> publisher);
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.spec.datastructures.blobs.DataColumnSidecar;
+
+/**
+ * Orders and paces the publication of data column sidecars so that on a constrained uplink every
+ * column reaches the network as early as possible.
+ *
+ * <p>Publishing a sidecar sends a copy to each mesh peer of its subnet, so the upload cost of a
+ * column grows with the number of peers on its subnet, up to the mesh degree. Sidecars are
+ * published starting with the subnets having the fewest subscribed peers: those columns are the
+ * cheapest to send and have the fewest other nodes able to relay them.
+ *
+ * <p>Handing all sidecars to libp2p at once makes every copy share the uplink, so all columns
+ * arrive at about the same time, at the very end. Instead, each sidecar is held back until the
+ * estimated upload of the previous ones has completed within the configured upload bandwidth, so
+ * columns arrive one after another and the half of them peers need to reconstruct the rest is out
+ * in about half the time.
+ */
+public class PacedDataColumnSidecarPublishScheduler implements DataColumnSidecarPublishScheduler {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final long MICROS_PER_SECOND = 1_000_000;
+
+  private final AsyncRunner asyncRunner;
+  private final TimeProvider timeProvider;
+  private final long uploadBytesPerSecond;
+  private final int meshDegree;
+
+  private final Queue<PendingPublish> pendingPublishes = new ArrayDeque<>();
+  private long nextPublishTimeMicros = 0;
+  private boolean publishScheduled = false;
+
+  public PacedDataColumnSidecarPublishScheduler(
+      final AsyncRunner asyncRunner,
+      final TimeProvider timeProvider,
+      final long uploadBytesPerSecond,
+      final int meshDegree) {
+    this.asyncRunner = asyncRunner;
+    this.timeProvider = timeProvider;
+    this.uploadBytesPerSecond = uploadBytesPerSecond;
+    this.meshDegree = meshDegree;
+  }
+
+  @Override
+  public void schedule(
+      final List<DataColumnSidecar> sidecars,
+      final ToIntFunction<DataColumnSidecar> subnetSubscriberCount,
+      final Consumer<DataColumnSidecar> publisher) {
+    final List<PendingPublish> ordered =
+        sidecars.stream()
+            .map(
+                sidecar ->
+                    new PendingPublish(
+                        sidecar, subnetSubscriberCount.applyAsInt(sidecar), publisher))
+            .sorted(
+                Comparator.comparingInt(PendingPublish::subnetSubscriberCount)
+                    .thenComparing(pending -> pending.sidecar().getIndex()))
+            .toList();
+    synchronized (this) {
+      pendingPublishes.addAll(ordered);
+    }
+    publishDue();
+  }
+
+  private void publishDue() {
+    final List<PendingPublish> due = new ArrayList<>();
+    synchronized (this) {
+      final long nowMicros = timeProvider.getTimeInMillis().longValue() * 1000;
+      while (!pendingPublishes.isEmpty() && nextPublishTimeMicros <= nowMicros) {
+        final PendingPublish pending = pendingPublishes.remove();
+        nextPublishTimeMicros =
+            Math.max(nextPublishTimeMicros, nowMicros) + getUploadTimeMicros(pending);
+        due.add(pending);
+      }
+      if (!pendingPublishes.isEmpty() && !publishScheduled) {
+        publishScheduled = true;
+        final long delayMillis = (nextPublishTimeMicros - nowMicros + 999) / 1000;
+        asyncRunner
+            .runAfterDelay(this::onScheduledPublish, Duration.ofMillis(delayMillis))
+            .finish(error -> LOG.error("Failed to publish data column sidecars", error));
+      }
+    }
+    due.forEach(PendingPublish::publish);
+  }
+
+  private void onScheduledPublish() {
+    synchronized (this) {
+      publishScheduled = false;
+    }
+    publishDue();
+  }
+
+  private long getUploadTimeMicros(final PendingPublish pending) {
+    final DataColumnSidecar sidecar = pending.sidecar();
+    final long sizeInBytes = sidecar.getSchema().getSszSize(sidecar.getBackingNode());
+    final int fanout = Math.min(meshDegree, pending.subnetSubscriberCount());
+    return sizeInBytes * fanout * MICROS_PER_SECOND / uploadBytesPerSecond;
+  }
+
+  @VisibleForTesting
+  synchronized int getPendingPublishCount() {
+    return pendingPublishes.size();
+  }
+
+  private record PendingPublish(
+      DataColumnSidecar sidecar,
+      int subnetSubscriberCount,
+      Consumer<DataColumnSidecar> publisher) {
+
+    void publish() {
+      publisher.accept(sidecar);
+    }
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.encoding;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.spec.SpecMilestone;
+
+/**
+ * Shares a {@link SnappyGossipPayload} between gossip messages with the same topic and compressed
+ * payload.
+ *
+ * <p>Gossipsub calculates the 'message-id' of every copy of a message it receives before it can
+ * tell the message has already been seen, and for Eth2 topics that requires uncompressing the
+ * payload. With a mesh of several peers each message arrives a number of times in quick
+ * succession, so recent payloads are kept to uncompress, hash and decode each message only once.
+ * Keys compare the full compressed payload, so a hash collision can never return the payload of a
+ * different message.
+ *
+ * <p>A payload holds on to its uncompressed bytes and decoded value, so entries are dropped once
+ * they are older than the maximum age as well as when the cache is full. Duplicate copies arrive
+ * within moments of each other, so expired payloads are very unlikely to be asked for again.
+ */
+class GossipDecodeCache {
+  static final int DEFAULT_CAPACITY = 1024;
+  static final Duration DEFAULT_MAX_AGE = Duration.ofSeconds(3);
+
+  // Entries are never moved on access, so iteration order is also the order they expire in
+  private final Map<Key, CachedPayload> payloads = new LinkedHashMap<>();
+  private final TimeProvider timeProvider;
+  private final int capacity;
+  private final long maxAgeMillis;
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  GossipDecodeCache(
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider,
+      final int capacity,
+      final Duration maxAge) {
+    this.timeProvider = timeProvider;
+    this.capacity = capacity;
+    this.maxAgeMillis = maxAge.toMillis();
+    this.hitCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.NETWORK,
+            "gossip_decode_cache_hits_total",
+            "Number of received gossip messages whose payload was already uncompressed for an"
+                + " earlier copy");
+    this.missCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.NETWORK,
+            "gossip_decode_cache_misses_total",
+            "Number of received gossip messages whose payload had to be uncompressed");
+    metricsSystem.createIntegerGauge(
+        TekuMetricCategory.NETWORK,
+        "gossip_decode_cache_size",
+        "Number of gossip message payloads held in the decode cache",
+        this::size);
+  }
+
+  static GossipDecodeCache create(
+      final MetricsSystem metricsSystem, final TimeProvider timeProvider) {
+    return new GossipDecodeCache(metricsSystem, timeProvider, DEFAULT_CAPACITY, DEFAULT_MAX_AGE);
+  }
+
+  synchronized SnappyGossipPayload get(
+      final String topic,
+      final SpecMilestone milestone,
+      final SszSchema<?> valueType,
+      final int maxPayloadSize,
+      final Bytes compressedData,
+      final Supplier<SnappyGossipPayload> payloadFactory) {
+    final long now = timeProvider.getTimeInMillis().longValue();
+    removeExpired(now);
+    final Key key = new Key(topic, milestone, valueType, maxPayloadSize, compressedData);
+    final CachedPayload cached = payloads.get(key);
+    if (cached != null) {
+      hitCounter.inc();
+      return cached.payload();
+    }
+    missCounter.inc();
+    // Payloads decode lazily so creating one while holding the lock is cheap
+    final SnappyGossipPayload payload = payloadFactory.get();
+    payloads.put(key, new CachedPayload(payload, now));
+    if (payloads.size() > capacity) {
+      final Iterator<CachedPayload> oldest = payloads.values().iterator();
+      oldest.next();
+      oldest.remove();
+    }
+    return payload;
+  }
+
+  synchronized int size() {
+    return payloads.size();
+  }
+
+  private void removeExpired(final long now) {
+    final Iterator<CachedPayload> iterator = payloads.values().iterator();
+    while (iterator.hasNext() && now - iterator.next().createdAtMillis() >= maxAgeMillis) {
+      iterator.remove();
+    }
+  }
+
+  private record CachedPayload(SnappyGossipPayload payload, long createdAtMillis) {}
+
+  private static final class Key {
+    private final String topic;
+    private final SpecMilestone milestone;
+    private final SszSchema<?> valueType;
+    private final int maxPayloadSize;
+    private final Bytes compressedData;
+    private final int hashCode;
+
+    private Key(
+        final String topic,
+        final SpecMilestone milestone,
+        final SszSchema<?> valueType,
+        final int maxPayloadSize,
+        final Bytes compressedData) {
+      this.topic = topic;
+      this.milestone = milestone;
+      this.valueType = valueType;
+      this.maxPayloadSize = maxPayloadSize;
+      this.compressedData = compressedData;
+      // Schemas are compared by identity as their own hashCode may walk the whole type
+      this.hashCode =
+          31 * (31 * topic.hashCode() + System.identityHashCode(valueType))
+              + compressedData.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key that)) {
+        return false;
+      }
+      return hashCode == that.hashCode
+          && maxPayloadSize == that.maxPayloadSize
+          && milestone == that.milestone
+          && valueType == that.valueType
+          && topic.equals(that.topic)
+          && compressedData.equals(that.compressedData);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
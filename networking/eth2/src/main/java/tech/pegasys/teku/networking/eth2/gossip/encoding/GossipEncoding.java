@@ -16,9 +16,11 @@ package tech.pegasys.teku.networking.eth2.gossip.encoding;
 import java.util.Map;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.config.NetworkingSpecConfig;
@@ -61,6 +63,20 @@ public interface GossipEncoding {
   <T extends SszData> T decodeMessage(PreparedGossipMessage message, SszSchema<T> valueType)
       throws DecodingException;
 
+  /**
+   * Creates an instance of this encoding for a single network. The instance may keep state across
+   * the messages that network receives, such as a cache of decoded payloads, so it must not be
+   * shared with other networks.
+   *
+   * @param metricsSystem The metrics system to report any such state to
+   * @param timeProvider The time provider used to expire any such state
+   * @return The encoding to use for the network
+   */
+  default GossipEncoding forNetwork(
+      final MetricsSystem metricsSystem, final TimeProvider timeProvider) {
+    return this;
+  }
+
   interface ForkDigestToMilestone {
     static ForkDigestToMilestone fromMap(final Map<Bytes4, SpecMilestone> map) {
       return (forkDigest) -> Optional.ofNullable(map.get(forkDigest));
@@ -0,0 +1,125 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.encoding;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.bytes.Bytes4;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding.ForkDigestToMilestone;
+import tech.pegasys.teku.networking.eth2.gossip.encoding.SnappyPreparedGossipMessage.Uncompressor;
+import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopics;
+import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage.DecodedMessageResult;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.config.NetworkingSpecConfig;
+
+/**
+ * The compressed payload of a gossip message on a topic, along with its uncompressed content,
+ * 'message-id' and decoded value. These are calculated lazily and at most once, so a payload can
+ * be shared by every copy of the same message received from different peers.
+ */
+class SnappyGossipPayload {
+  private final Bytes compressedData;
+  private final SszSchema<?> valueType;
+  private final Uncompressor snappyCompressor;
+  private final MessageIdCalculator messageIdCalculator;
+  private final long maxUncompressedLength;
+
+  private final Supplier<DecodedMessageResult> decodedResult =
+      Suppliers.memoize(this::uncompressPayload);
+  private final Supplier<Bytes> messageId = Suppliers.memoize(this::calculateMessageId);
+  private volatile SszData decodedValue;
+
+  SnappyGossipPayload(
+      final String topic,
+      final Bytes compressedData,
+      final SpecMilestone milestone,
+      final SszSchema<?> valueType,
+      final Uncompressor snappyCompressor,
+      final NetworkingSpecConfig networkingConfig) {
+    this.compressedData = compressedData;
+    this.valueType = valueType;
+    this.snappyCompressor = snappyCompressor;
+    this.maxUncompressedLength = networkingConfig.getMaxPayloadSize();
+    this.messageIdCalculator =
+        switch (milestone) {
+          case PHASE0 -> new MessageIdCalculatorPhase0(compressedData, networkingConfig);
+          default -> new MessageIdCalculatorAltair(compressedData, topic, networkingConfig);
+        };
+  }
+
+  static SpecMilestone getMilestone(
+      final String topic, final ForkDigestToMilestone forkDigestToMilestone) {
+    final Bytes4 forkDigest = GossipTopics.extractForkDigest(topic);
+    return forkDigestToMilestone
+        .getMilestone(forkDigest)
+        .orElseThrow(
+            () ->
+                new IllegalStateException(
+                    "Failed to associate a milestone with the forkDigest in topic: " + topic));
+  }
+
+  Bytes getCompressedData() {
+    return compressedData;
+  }
+
+  DecodedMessageResult getDecodedMessage() {
+    return decodedResult.get();
+  }
+
+  Bytes getMessageId() {
+    return messageId.get();
+  }
+
+  /**
+   * Decodes the uncompressed payload, reusing the value decoded for an earlier copy of the message
+   * when it was decoded to the same type.
+   */
+  @SuppressWarnings("unchecked")
+  <T extends SszData> T decodeValue(final SszSchema<T> schema, final SszGossipCodec codec)
+      throws DecodingException {
+    final Bytes uncompressed = getDecodedMessage().getDecodedMessageOrElseThrow();
+    if (schema != valueType) {
+      return codec.decode(uncompressed, schema);
+    }
+    SszData value = decodedValue;
+    if (value == null) {
+      value = codec.decode(uncompressed, schema);
+      decodedValue = value;
+    }
+    return (T) value;
+  }
+
+  private DecodedMessageResult uncompressPayload() {
+    if (valueType == null) {
+      return DecodedMessageResult.failed();
+    }
+    try {
+      return DecodedMessageResult.successful(
+          snappyCompressor.uncompress(
+              compressedData, valueType.getSszLengthBounds(), maxUncompressedLength));
+    } catch (DecodingException e) {
+      return DecodedMessageResult.failed(e);
+    }
+  }
+
+  private Bytes calculateMessageId() {
+    return getDecodedMessage()
+        .getDecodedMessage()
+        .map(messageIdCalculator::getValidMessageId)
+        .orElseGet(messageIdCalculator::getInvalidMessageId);
+  }
+}
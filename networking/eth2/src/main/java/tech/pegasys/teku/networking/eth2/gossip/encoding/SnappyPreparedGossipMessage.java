@@ -13,16 +13,13 @@
 
 package tech.pegasys.teku.networking.eth2.gossip.encoding;
 
-import com.google.common.base.Supplier;
-import com.google.common.base.Suppliers;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
-import tech.pegasys.teku.infrastructure.bytes.Bytes4;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszLengthBounds;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding.ForkDigestToMilestone;
-import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopics;
 import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.config.NetworkingSpecConfig;
@@ -33,25 +30,21 @@ import tech.pegasys.teku.spec.config.NetworkingSpecConfig;
  *   SHA256(MESSAGE_DOMAIN_VALID_SNAPPY + snappy_decompress(message.data))[:20]
  * </code> The message payload is uncompressed lazily and cached for the final message handling:
  * {@link tech.pegasys.teku.networking.p2p.gossip.TopicHandler#handleMessage(PreparedGossipMessage)}
+ *
+ * <p>Messages created with a {@link GossipDecodeCache} share their {@link SnappyGossipPayload}
+ * with other copies of the same message, so each copy is only uncompressed and decoded once.
  */
 class SnappyPreparedGossipMessage implements PreparedGossipMessage {
-  private final Bytes compressedData;
-  private final SszSchema<?> valueType;
-  private final Uncompressor snappyCompressor;
-  private final MessageIdCalculator messageIdCalculator;
-  private final NetworkingSpecConfig networkingConfig;
+  private final SnappyGossipPayload payload;
   private final Optional<UInt64> arrivalTimestamp;
 
-  private final Supplier<DecodedMessageResult> decodedResult =
-      Suppliers.memoize(this::getDecodedMessage);
-
   static SnappyPreparedGossipMessage createUnknown(
       final String topic,
       final Bytes compressedData,
       final ForkDigestToMilestone forkDigestToMilestone,
       final NetworkingSpecConfig networkingConfig,
       final Optional<UInt64> arrivalTimestamp) {
-    return new SnappyPreparedGossipMessage(
+    return create(
         topic,
         compressedData,
         forkDigestToMilestone,
@@ -69,17 +62,15 @@ class SnappyPreparedGossipMessage implements PreparedGossipMessage {
       final Uncompressor snappyCompressor,
       final NetworkingSpecConfig networkingConfig,
       final Optional<UInt64> arrivalTimestamp) {
+    final SpecMilestone milestone = SnappyGossipPayload.getMilestone(topic, forkDigestToMilestone);
     return new SnappyPreparedGossipMessage(
-        topic,
-        compressedData,
-        forkDigestToMilestone,
-        valueType,
-        snappyCompressor,
-        networkingConfig,
+        new SnappyGossipPayload(
+            topic, compressedData, milestone, valueType, snappyCompressor, networkingConfig),
         arrivalTimestamp);
   }
 
-  private SnappyPreparedGossipMessage(
+  static SnappyPreparedGossipMessage create(
+      final GossipDecodeCache decodeCache,
       final String topic,
       final Bytes compressedData,
       final ForkDigestToMilestone forkDigestToMilestone,
@@ -87,70 +78,44 @@ class SnappyPreparedGossipMessage implements PreparedGossipMessage {
       final Uncompressor snappyCompressor,
       final NetworkingSpecConfig networkingConfig,
       final Optional<UInt64> arrivalTimestamp) {
-    this.compressedData = compressedData;
-    this.valueType = valueType;
-    this.snappyCompressor = snappyCompressor;
-    this.networkingConfig = networkingConfig;
-    this.messageIdCalculator =
-        createMessageIdCalculator(topic, compressedData, forkDigestToMilestone);
-    this.arrivalTimestamp = arrivalTimestamp;
+    final SpecMilestone milestone = SnappyGossipPayload.getMilestone(topic, forkDigestToMilestone);
+    final SnappyGossipPayload payload =
+        decodeCache.get(
+            topic,
+            milestone,
+            valueType,
+            networkingConfig.getMaxPayloadSize(),
+            compressedData,
+            () ->
+                new SnappyGossipPayload(
+                    topic,
+                    compressedData,
+                    milestone,
+                    valueType,
+                    snappyCompressor,
+                    networkingConfig));
+    return new SnappyPreparedGossipMessage(payload, arrivalTimestamp);
   }
 
-  private MessageIdCalculator createMessageIdCalculator(
-      final String topic,
-      final Bytes compressedData,
-      final ForkDigestToMilestone forkDigestToMilestone) {
-    final Bytes4 forkDigest = GossipTopics.extractForkDigest(topic);
-    final SpecMilestone milestone =
-        forkDigestToMilestone
-            .getMilestone(forkDigest)
-            .orElseThrow(
-                () ->
-                    new IllegalStateException(
-                        "Failed to associate a milestone with the forkDigest in topic: " + topic));
-
-    switch (milestone) {
-      case PHASE0:
-        return new MessageIdCalculatorPhase0(compressedData, networkingConfig);
-      case ALTAIR:
-      default:
-        return new MessageIdCalculatorAltair(compressedData, topic, networkingConfig);
-    }
+  private SnappyPreparedGossipMessage(
+      final SnappyGossipPayload payload, final Optional<UInt64> arrivalTimestamp) {
+    this.payload = payload;
+    this.arrivalTimestamp = arrivalTimestamp;
   }
 
   @Override
   public DecodedMessageResult getDecodedMessage() {
-    try {
-      if (valueType == null) {
-        return DecodedMessageResult.failed();
-      } else {
-        final Bytes decodedMessage = uncompressPayload(networkingConfig.getMaxPayloadSize());
-        return DecodedMessageResult.successful(decodedMessage);
-      }
-    } catch (DecodingException e) {
-      return DecodedMessageResult.failed(e);
-    }
+    return payload.getDecodedMessage();
   }
 
   @Override
   public Bytes getOriginalMessage() {
-    return compressedData;
-  }
-
-  private Optional<Bytes> getUncompressed() {
-    return decodedResult.get().getDecodedMessage();
-  }
-
-  private Bytes uncompressPayload(final long maxUncompressedLength) throws DecodingException {
-    return snappyCompressor.uncompress(
-        compressedData, valueType.getSszLengthBounds(), maxUncompressedLength);
+    return payload.getCompressedData();
   }
 
   @Override
   public Bytes getMessageId() {
-    return getUncompressed()
-        .map(messageIdCalculator::getValidMessageId)
-        .orElseGet(messageIdCalculator::getInvalidMessageId);
+    return payload.getMessageId();
   }
 
   @Override
@@ -158,6 +123,11 @@ class SnappyPreparedGossipMessage implements PreparedGossipMessage {
     return arrivalTimestamp;
   }
 
+  <T extends SszData> T decodeValue(final SszSchema<T> valueType, final SszGossipCodec codec)
+      throws DecodingException {
+    return payload.decodeValue(valueType, codec);
+  }
+
   @FunctionalInterface
   interface Uncompressor {
 
@@ -26,12 +26,15 @@ public class SnappyPreparedGossipMessageFactory implements Eth2PreparedGossipMes
 
   private final SnappyBlockCompressor snappyCompressor;
   private final ForkDigestToMilestone forkDigestToMilestone;
+  private final Optional<GossipDecodeCache> decodeCache;
 
-  public SnappyPreparedGossipMessageFactory(
+  SnappyPreparedGossipMessageFactory(
       final SnappyBlockCompressor snappyCompressor,
-      final ForkDigestToMilestone forkDigestToMilestone) {
+      final ForkDigestToMilestone forkDigestToMilestone,
+      final Optional<GossipDecodeCache> decodeCache) {
     this.snappyCompressor = snappyCompressor;
     this.forkDigestToMilestone = forkDigestToMilestone;
+    this.decodeCache = decodeCache;
   }
 
   @Override
@@ -41,7 +44,18 @@ public class SnappyPreparedGossipMessageFactory implements Eth2PreparedGossipMes
       final SszSchema<T> valueType,
       final NetworkingSpecConfig networkingConfig,
       final Optional<UInt64> arrivalTimestamp) {
+    if (decodeCache.isEmpty()) {
+      return SnappyPreparedGossipMessage.create(
+          topic,
+          data,
+          forkDigestToMilestone,
+          valueType,
+          snappyCompressor::uncompress,
+          networkingConfig,
+          arrivalTimestamp);
+    }
     return SnappyPreparedGossipMessage.create(
+        decodeCache.get(),
         topic,
         data,
         forkDigestToMilestone,
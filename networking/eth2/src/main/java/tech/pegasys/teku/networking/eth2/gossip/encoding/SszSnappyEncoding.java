@@ -13,9 +13,12 @@
 
 package tech.pegasys.teku.networking.eth2.gossip.encoding;
 
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage;
 import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage.GossipDecodingException;
 
@@ -23,9 +26,16 @@ class SszSnappyEncoding implements GossipEncoding {
   private static final String NAME = "ssz_snappy";
   private final SnappyBlockCompressor snappyCompressor;
   private final SszGossipCodec sszCodec = new SszGossipCodec();
+  private final Optional<GossipDecodeCache> decodeCache;
 
   public SszSnappyEncoding(final SnappyBlockCompressor snappyCompressor) {
+    this(snappyCompressor, Optional.empty());
+  }
+
+  private SszSnappyEncoding(
+      final SnappyBlockCompressor snappyCompressor, final Optional<GossipDecodeCache> decodeCache) {
     this.snappyCompressor = snappyCompressor;
+    this.decodeCache = decodeCache;
   }
 
   @Override
@@ -42,6 +52,9 @@ class SszSnappyEncoding implements GossipEncoding {
   public <T extends SszData> T decodeMessage(
       final PreparedGossipMessage message, final SszSchema<T> valueType) throws DecodingException {
     try {
+      if (message instanceof SnappyPreparedGossipMessage snappyMessage) {
+        return snappyMessage.decodeValue(valueType, sszCodec);
+      }
       return sszCodec.decode(message.getDecodedMessage().getDecodedMessageOrElseThrow(), valueType);
     } catch (GossipDecodingException e) {
       throw new DecodingException("Failed to decode gossip message", e);
@@ -51,6 +64,14 @@ class SszSnappyEncoding implements GossipEncoding {
   @Override
   public Eth2PreparedGossipMessageFactory createPreparedGossipMessageFactory(
       final ForkDigestToMilestone forkDigestToMilestone) {
-    return new SnappyPreparedGossipMessageFactory(snappyCompressor, forkDigestToMilestone);
+    return new SnappyPreparedGossipMessageFactory(
+        snappyCompressor, forkDigestToMilestone, decodeCache);
+  }
+
+  @Override
+  public GossipEncoding forNetwork(
+      final MetricsSystem metricsSystem, final TimeProvider timeProvider) {
+    return new SszSnappyEncoding(
+        snappyCompressor, Optional.of(GossipDecodeCache.create(metricsSystem, timeProvider)));
   }
 }
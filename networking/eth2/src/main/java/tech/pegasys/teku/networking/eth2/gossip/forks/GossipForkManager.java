@@ -19,6 +19,7 @@ import static com.google.common.base.Preconditions.checkState;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
@@ -193,6 +194,17 @@ public class GossipForkManager {
         GossipForkSubscriptions::publishDataColumnSidecar);
   }
 
+  public void publishDataColumnSidecars(final List<DataColumnSidecar> dataColumnSidecars) {
+    if (dataColumnSidecars.isEmpty()) {
+      return;
+    }
+    publishMessage(
+        dataColumnSidecars.getFirst().getSlot(),
+        dataColumnSidecars,
+        "data column sidecars",
+        GossipForkSubscriptions::publishDataColumnSidecars);
+  }
+
   public void publishExecutionProof(final ExecutionProof executionProof) {
     // for now we don't have a slot in the message data (execution proof) to use
     // I believe it's safe to just check the current epoch
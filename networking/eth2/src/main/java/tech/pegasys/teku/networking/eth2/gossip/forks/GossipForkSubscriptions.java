@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.networking.eth2.gossip.forks;
 
+import java.util.List;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -87,6 +88,10 @@ public interface GossipForkSubscriptions {
     // since Fulu
   }
 
+  default void publishDataColumnSidecars(final List<DataColumnSidecar> dataColumnSidecars) {
+    dataColumnSidecars.forEach(this::publishDataColumnSidecar);
+  }
+
   default void subscribeToDataColumnSidecarSubnet(final int subnetId) {
     // since Fulu
   }
@@ -13,12 +13,14 @@
 
 package tech.pegasys.teku.networking.eth2.gossip.forks.versions;
 
+import java.util.List;
 import java.util.function.Supplier;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.networking.eth2.gossip.DataColumnSidecarGossipManager;
+import tech.pegasys.teku.networking.eth2.gossip.DataColumnSidecarPublishScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.DataColumnSidecarSubnetSubscriptions;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
@@ -47,6 +49,7 @@ public class GossipForkSubscriptionsFulu extends GossipForkSubscriptionsElectra
   private DataColumnSidecarGossipManager dataColumnSidecarGossipManager;
   public DasGossipLogger dasGossipLogger;
   private final Supplier<Boolean> isSuperNodeSupplier;
+  private final DataColumnSidecarPublishScheduler dataColumnSidecarPublishScheduler;
 
   public GossipForkSubscriptionsFulu(
       final Fork fork,
@@ -74,7 +77,8 @@ public class GossipForkSubscriptionsFulu extends GossipForkSubscriptionsElectra
       final DasGossipLogger dasGossipLogger,
       final OperationProcessor<ExecutionProof> executionProofOperationProcessor,
       final boolean isExecutionProofTopicEnabled,
-      final Supplier<Boolean> isSuperNodeSupplier) {
+      final Supplier<Boolean> isSuperNodeSupplier,
+      final DataColumnSidecarPublishScheduler dataColumnSidecarPublishScheduler) {
     super(
         fork,
         spec,
@@ -99,6 +103,7 @@ public class GossipForkSubscriptionsFulu extends GossipForkSubscriptionsElectra
     this.dataColumnSidecarOperationProcessor = dataColumnSidecarOperationProcessor;
     this.dasGossipLogger = dasGossipLogger;
     this.isSuperNodeSupplier = isSuperNodeSupplier;
+    this.dataColumnSidecarPublishScheduler = dataColumnSidecarPublishScheduler;
   }
 
   @Override
@@ -122,7 +127,10 @@ public class GossipForkSubscriptionsFulu extends GossipForkSubscriptionsElectra
 
     this.dataColumnSidecarGossipManager =
         new DataColumnSidecarGossipManager(
-            dataColumnSidecarSubnetSubscriptions, dasGossipLogger, isSuperNodeSupplier);
+            dataColumnSidecarSubnetSubscriptions,
+            dasGossipLogger,
+            isSuperNodeSupplier,
+            dataColumnSidecarPublishScheduler);
 
     addGossipManager(dataColumnSidecarGossipManager);
   }
@@ -143,6 +151,11 @@ public class GossipForkSubscriptionsFulu extends GossipForkSubscriptionsElectra
     dataColumnSidecarGossipManager.publish(blobSidecar);
   }
 
+  @Override
+  public void publishDataColumnSidecars(final List<DataColumnSidecar> dataColumnSidecars) {
+    dataColumnSidecarGossipManager.publish(dataColumnSidecars);
+  }
+
   @Override
   public void subscribeToDataColumnSidecarSubnet(final int subnetId) {
     dataColumnSidecarGossipManager.subscribeToSubnetId(subnetId);
@@ -18,6 +18,7 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
+import tech.pegasys.teku.networking.eth2.gossip.DataColumnSidecarPublishScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.ExecutionPayloadBidGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.ExecutionPayloadGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.PayloadAttestationMessageGossipManager;
@@ -90,7 +91,8 @@ public class GossipForkSubscriptionsGloas extends GossipForkSubscriptionsFulu {
       final DasGossipLogger dasGossipLogger,
       final OperationProcessor<ExecutionProof> executionProcessorOperationProcessor,
       final boolean isExecutionProofTopicEnabled,
-      final Supplier<Boolean> isSuperNodeSupplier) {
+      final Supplier<Boolean> isSuperNodeSupplier,
+      final DataColumnSidecarPublishScheduler dataColumnSidecarPublishScheduler) {
     super(
         fork,
         spec,
@@ -114,7 +116,8 @@ public class GossipForkSubscriptionsGloas extends GossipForkSubscriptionsFulu {
         dasGossipLogger,
         executionProcessorOperationProcessor,
         isExecutionProofTopicEnabled,
-        isSuperNodeSupplier);
+        isSuperNodeSupplier,
+        dataColumnSidecarPublishScheduler);
     this.executionPayloadProcessor = executionPayloadOperationProcessor;
     this.payloadAttestationMessageProcessor = payloadAttestationMessageOperationProcessor;
     this.executionPayloadBidProcessor = executionPayloadBidOperationProcessor;
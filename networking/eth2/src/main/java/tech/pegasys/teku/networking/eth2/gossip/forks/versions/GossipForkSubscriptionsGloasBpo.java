@@ -17,6 +17,7 @@ import java.util.function.Supplier;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.gossip.DataColumnSidecarPublishScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryNetwork;
@@ -78,7 +79,8 @@ public class GossipForkSubscriptionsGloasBpo extends GossipForkSubscriptionsGloa
       final DasGossipLogger dasGossipLogger,
       final BlobParameters bpo,
       final boolean isExecutionProofTopicEnabled,
-      final Supplier<Boolean> isSuperNodeSupplier) {
+      final Supplier<Boolean> isSuperNodeSupplier,
+      final DataColumnSidecarPublishScheduler dataColumnSidecarPublishScheduler) {
     super(
         fork,
         spec,
@@ -106,7 +108,8 @@ public class GossipForkSubscriptionsGloasBpo extends GossipForkSubscriptionsGloa
         dasGossipLogger,
         executionProofOperationProcessor,
         isExecutionProofTopicEnabled,
-        isSuperNodeSupplier);
+        isSuperNodeSupplier,
+        dataColumnSidecarPublishScheduler);
     this.bpo = bpo;
   }
 
@@ -13,6 +13,10 @@
 
 package tech.pegasys.teku.networking.eth2.gossip.subnets;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
@@ -23,6 +27,7 @@ import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
 import tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers.DataColumnSidecarTopicHandler;
 import tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers.Eth2TopicHandler;
 import tech.pegasys.teku.networking.p2p.gossip.GossipNetwork;
+import tech.pegasys.teku.networking.p2p.peer.NodeId;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.SpecVersion;
@@ -78,6 +83,21 @@ public class DataColumnSidecarSubnetSubscriptions extends CommitteeSubnetSubscri
     return gossipNetwork.gossip(topic, gossipEncoding.encode(sidecar));
   }
 
+  /**
+   * Takes a snapshot of the peers subscribed to each subnet topic, to look up the number of peers
+   * a sidecar would be gossiped to.
+   */
+  public ToIntFunction<DataColumnSidecar> getSubnetSubscriberCounts() {
+    final Map<String, Collection<NodeId>> subscribersByTopic =
+        gossipNetwork.getSubscribersByTopic();
+    return sidecar -> {
+      final String topic =
+          GossipTopics.getDataColumnSidecarSubnetTopic(
+              forkDigest, computeSubnetForSidecar(sidecar), gossipEncoding);
+      return subscribersByTopic.getOrDefault(topic, List.of()).size();
+    };
+  }
+
   @Override
   protected Eth2TopicHandler<?> createTopicHandler(final int subnetId) {
     final String topicName = GossipTopicName.getDataColumnSidecarSubnetTopicName(subnetId);
@@ -25,7 +25,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.tuweni.units.bigints.UInt256;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
@@ -34,6 +36,7 @@ import tech.pegasys.teku.infrastructure.ssz.collections.SszBitvector;
 import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszBitvectorSchema;
 import tech.pegasys.teku.networking.eth2.SubnetSubscriptionService;
 import tech.pegasys.teku.networking.eth2.peers.PeerScorer;
+import tech.pegasys.teku.networking.p2p.discovery.DiscoveryPeerQuery;
 import tech.pegasys.teku.networking.p2p.gossip.GossipNetwork;
 import tech.pegasys.teku.networking.p2p.peer.NodeId;
 import tech.pegasys.teku.spec.SpecVersion;
@@ -49,7 +52,7 @@ public class PeerSubnetSubscriptions {
       nodeIdToDataColumnSidecarSubnetsCalculator;
   private final int targetSubnetSubscriberCount;
 
-  private PeerSubnetSubscriptions(
+  PeerSubnetSubscriptions(
       final SubnetSubscriptions attestationSubnetSubscriptions,
       final SubnetSubscriptions syncCommitteeSubnetSubscriptions,
       final SubnetSubscriptions dataColumnSidecarSubnetSubscriptions,
@@ -252,6 +255,28 @@ public class PeerSubnetSubscriptions {
     }
   }
 
+  /**
+   * Creates a query for discovered peers which would bring each relevant subnet up to the target
+   * subscriber count, or empty if every relevant subnet already has enough subscribers.
+   */
+  public Optional<DiscoveryPeerQuery> createDiscoveryPeerQuery() {
+    if (targetSubnetSubscriberCount == 0) {
+      return Optional.empty();
+    }
+    final DiscoveryPeerQuery query =
+        new DiscoveryPeerQuery(
+            attestationSubnetSubscriptions.getSubnetsBelowSubscriberCount(
+                targetSubnetSubscriberCount),
+            syncCommitteeSubnetSubscriptions.getSubnetsBelowSubscriberCount(
+                targetSubnetSubscriberCount),
+            dataColumnSidecarSubnetSubscriptions
+                    .getSubnetsBelowSubscriberCount(targetSubnetSubscriberCount)
+                    .size()
+                * targetSubnetSubscriberCount,
+            targetSubnetSubscriberCount);
+    return query.isEmpty() ? Optional.empty() : Optional.of(query);
+  }
+
   private OptionalInt getMinSubscriberCount() {
     return optionalMin(
         List.of(
@@ -282,7 +307,7 @@ public class PeerSubnetSubscriptions {
     private final Int2IntMap subscriberCountBySubnetId;
     private final Map<NodeId, SszBitvector> subscriptionsByPeer;
 
-    private SubnetSubscriptions(
+    SubnetSubscriptions(
         final SszBitvectorSchema<?> subscriptionSchema,
         final IntSet relevantSubnets,
         final Int2IntMap subscriberCountBySubnetId,
@@ -317,6 +342,13 @@ public class PeerSubnetSubscriptions {
       return subscriberCountBySubnetId.getOrDefault(subnetId, 0);
     }
 
+    public Set<Integer> getSubnetsBelowSubscriberCount(final int subscriberCount) {
+      return streamRelevantSubnets()
+          .filter(subnetId -> getSubscriberCountForSubnet(subnetId) < subscriberCount)
+          .boxed()
+          .collect(Collectors.toSet());
+    }
+
     public SszBitvector getSubnetSubscriptions(final NodeId peerId) {
       return subscriptionsByPeer.getOrDefault(peerId, subscriptionSchema.getDefault());
     }
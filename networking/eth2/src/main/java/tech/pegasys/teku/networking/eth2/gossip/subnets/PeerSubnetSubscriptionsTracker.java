@@ -0,0 +1,313 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.subnets;
+
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszBitvector;
+import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszBitvectorSchema;
+import tech.pegasys.teku.networking.eth2.SubnetSubscriptionService;
+import tech.pegasys.teku.networking.eth2.gossip.subnets.PeerSubnetSubscriptions.SubnetSubscriptions;
+import tech.pegasys.teku.networking.p2p.gossip.GossipNetwork;
+import tech.pegasys.teku.networking.p2p.peer.NodeId;
+import tech.pegasys.teku.spec.SpecVersion;
+import tech.pegasys.teku.spec.config.SpecConfigFulu;
+
+/**
+ * A long-lived {@link PeerSubnetSubscriptions.Factory} which keeps the subnet subscriptions of each
+ * peer between calls.
+ *
+ * <p>{@link PeerSubnetSubscriptions#create} formats every subnet topic name, builds a bitvector for
+ * every subscription of every peer and sets every subnet peer count gauge each time it is called.
+ * This tracker instead maps topic names to subnets once per fork digest, only rebuilds the
+ * bitvectors and subscriber counts of peers whose subscriptions changed, and only updates the
+ * gauges of subnets whose subscriber count changed. If nothing changed since the previous call the
+ * previous snapshot is returned.
+ */
+public class PeerSubnetSubscriptionsTracker implements PeerSubnetSubscriptions.Factory {
+
+  private final Supplier<SpecVersion> currentVersionSupplier;
+  private final NodeIdToDataColumnSidecarSubnetsCalculator
+      nodeIdToDataColumnSidecarSubnetsCalculator;
+  private final AttestationSubnetTopicProvider attestationTopicProvider;
+  private final SyncCommitteeSubnetTopicProvider syncCommitteeSubnetTopicProvider;
+  private final SubnetSubscriptionService syncCommitteeSubnetService;
+  private final DataColumnSidecarSubnetTopicProvider dataColumnSidecarSubnetTopicProvider;
+  private final SubnetSubscriptionService dataColumnSidecarSubnetService;
+  private final int targetSubnetSubscriberCount;
+  private final SettableLabelledGauge subnetPeerCountGauge;
+
+  private SpecVersion indexedVersion;
+  private String indexedAttestationTopic;
+  private Map<String, SubnetTopic> subnetTopics = Map.of();
+  private SubnetIndex[] subnetIndices = new SubnetIndex[0];
+  private IntSet syncCommitteeRelevantSubnets = new IntOpenHashSet();
+  private IntSet dataColumnSidecarRelevantSubnets = new IntOpenHashSet();
+  private PeerSubnetSubscriptions snapshot;
+
+  public PeerSubnetSubscriptionsTracker(
+      final Supplier<SpecVersion> currentVersionSupplier,
+      final NodeIdToDataColumnSidecarSubnetsCalculator nodeIdToDataColumnSidecarSubnetsCalculator,
+      final AttestationSubnetTopicProvider attestationTopicProvider,
+      final SyncCommitteeSubnetTopicProvider syncCommitteeSubnetTopicProvider,
+      final SubnetSubscriptionService syncCommitteeSubnetService,
+      final DataColumnSidecarSubnetTopicProvider dataColumnSidecarSubnetTopicProvider,
+      final SubnetSubscriptionService dataColumnSidecarSubnetService,
+      final int targetSubnetSubscriberCount,
+      final SettableLabelledGauge subnetPeerCountGauge) {
+    this.currentVersionSupplier = currentVersionSupplier;
+    this.nodeIdToDataColumnSidecarSubnetsCalculator = nodeIdToDataColumnSidecarSubnetsCalculator;
+    this.attestationTopicProvider = attestationTopicProvider;
+    this.syncCommitteeSubnetTopicProvider = syncCommitteeSubnetTopicProvider;
+    this.syncCommitteeSubnetService = syncCommitteeSubnetService;
+    this.dataColumnSidecarSubnetTopicProvider = dataColumnSidecarSubnetTopicProvider;
+    this.dataColumnSidecarSubnetService = dataColumnSidecarSubnetService;
+    this.targetSubnetSubscriberCount = targetSubnetSubscriberCount;
+    this.subnetPeerCountGauge = subnetPeerCountGauge;
+  }
+
+  @Override
+  public synchronized PeerSubnetSubscriptions create(final GossipNetwork gossipNetwork) {
+    boolean changed = updateTopicIndex(currentVersionSupplier.get());
+
+    final Map<NodeId, BitSet[]> subnetsByPeer = new HashMap<>();
+    for (Map.Entry<String, Collection<NodeId>> entry :
+        gossipNetwork.getSubscribersByTopic().entrySet()) {
+      final SubnetTopic subnetTopic = subnetTopics.get(entry.getKey());
+      if (subnetTopic == null) {
+        continue;
+      }
+      for (NodeId peer : entry.getValue()) {
+        subnetsByPeer
+            .computeIfAbsent(peer, __ -> createEmptySubnets())[subnetTopic.type().ordinal()]
+            .set(subnetTopic.subnetId());
+      }
+    }
+    for (SubnetType type : SubnetType.values()) {
+      final SubnetIndex index = subnetIndices[type.ordinal()];
+      index.removePeersNotIn(subnetsByPeer.keySet());
+      subnetsByPeer.forEach((peer, subnets) -> index.update(peer, subnets[type.ordinal()]));
+      index.publishChangedSubnetCounts(subnetPeerCountGauge);
+      changed |= index.clearModified();
+    }
+
+    final IntSet syncCommitteeSubnets = new IntOpenHashSet(syncCommitteeSubnetService.getSubnets());
+    final IntSet dataColumnSidecarSubnets =
+        new IntOpenHashSet(dataColumnSidecarSubnetService.getSubnets());
+    if (!syncCommitteeSubnets.equals(syncCommitteeRelevantSubnets)
+        || !dataColumnSidecarSubnets.equals(dataColumnSidecarRelevantSubnets)) {
+      syncCommitteeRelevantSubnets = syncCommitteeSubnets;
+      dataColumnSidecarRelevantSubnets = dataColumnSidecarSubnets;
+      changed = true;
+    }
+
+    if (changed || snapshot == null) {
+      snapshot =
+          new PeerSubnetSubscriptions(
+              subnetIndices[SubnetType.ATTESTATION.ordinal()].createSubscriptions(
+                  subnetIndices[SubnetType.ATTESTATION.ordinal()].getAllSubnets()),
+              subnetIndices[SubnetType.SYNC_COMMITTEE.ordinal()].createSubscriptions(
+                  syncCommitteeRelevantSubnets),
+              subnetIndices[SubnetType.DATA_COLUMN_SIDECAR.ordinal()].createSubscriptions(
+                  dataColumnSidecarRelevantSubnets),
+              nodeIdToDataColumnSidecarSubnetsCalculator,
+              targetSubnetSubscriberCount);
+    }
+    return snapshot;
+  }
+
+  /**
+   * Rebuilds the topic name lookup and discards all tracked subscriptions when the spec version or
+   * fork digest has changed, since topic names and subnet counts may differ.
+   */
+  private boolean updateTopicIndex(final SpecVersion currentVersion) {
+    final String attestationTopic = attestationTopicProvider.getTopicForSubnet(0);
+    if (currentVersion.equals(indexedVersion) && attestationTopic.equals(indexedAttestationTopic)) {
+      return false;
+    }
+    final int dataColumnSidecarSubnetCount =
+        currentVersion
+            .getConfig()
+            .toVersionFulu()
+            .map(SpecConfigFulu::getDataColumnSidecarSubnetCount)
+            // SszBitvectorSchema.create will throw with 0
+            .orElse(1);
+    final SubnetIndex[] indices = new SubnetIndex[SubnetType.values().length];
+    indices[SubnetType.ATTESTATION.ordinal()] =
+        new SubnetIndex(
+            SubnetType.ATTESTATION,
+            currentVersion.getSchemaDefinitions().getAttnetsENRFieldSchema());
+    indices[SubnetType.SYNC_COMMITTEE.ordinal()] =
+        new SubnetIndex(
+            SubnetType.SYNC_COMMITTEE,
+            currentVersion.getSchemaDefinitions().getSyncnetsENRFieldSchema());
+    indices[SubnetType.DATA_COLUMN_SIDECAR.ordinal()] =
+        new SubnetIndex(
+            SubnetType.DATA_COLUMN_SIDECAR,
+            SszBitvectorSchema.create(dataColumnSidecarSubnetCount));
+
+    final Map<String, SubnetTopic> topics = new HashMap<>();
+    for (SubnetIndex index : indices) {
+      index
+          .getAllSubnets()
+          .forEach(
+              subnetId ->
+                  topics.put(
+                      getTopicForSubnet(index.type, subnetId),
+                      new SubnetTopic(index.type, subnetId)));
+      index.publishAllSubnetCounts(subnetPeerCountGauge);
+    }
+    subnetTopics = topics;
+    subnetIndices = indices;
+    indexedVersion = currentVersion;
+    indexedAttestationTopic = attestationTopic;
+    return true;
+  }
+
+  private String getTopicForSubnet(final SubnetType type, final int subnetId) {
+    return switch (type) {
+      case ATTESTATION -> attestationTopicProvider.getTopicForSubnet(subnetId);
+      case SYNC_COMMITTEE -> syncCommitteeSubnetTopicProvider.getTopicForSubnet(subnetId);
+      case DATA_COLUMN_SIDECAR -> dataColumnSidecarSubnetTopicProvider.getTopicForSubnet(subnetId);
+    };
+  }
+
+  private static BitSet[] createEmptySubnets() {
+    final BitSet[] subnets = new BitSet[SubnetType.values().length];
+    for (int i = 0; i < subnets.length; i++) {
+      subnets[i] = new BitSet();
+    }
+    return subnets;
+  }
+
+  private enum SubnetType {
+    ATTESTATION("attestation_"),
+    SYNC_COMMITTEE("sync_committee_"),
+    DATA_COLUMN_SIDECAR("data_column_sidecar_");
+
+    private final String metricLabelPrefix;
+
+    SubnetType(final String metricLabelPrefix) {
+      this.metricLabelPrefix = metricLabelPrefix;
+    }
+  }
+
+  private record SubnetTopic(SubnetType type, int subnetId) {}
+
+  /** The subscriptions of every peer to one type of subnet. */
+  private static class SubnetIndex {
+    private final SubnetType type;
+    private final SszBitvectorSchema<?> schema;
+    private final int[] subscriberCounts;
+    private final Map<NodeId, BitSet> subnetsByPeer = new HashMap<>();
+    private final Map<NodeId, SszBitvector> subscriptionsByPeer = new HashMap<>();
+    private final BitSet changedSubnets = new BitSet();
+    private boolean modified;
+
+    private SubnetIndex(final SubnetType type, final SszBitvectorSchema<?> schema) {
+      this.type = type;
+      this.schema = schema;
+      this.subscriberCounts = new int[schema.getLength()];
+    }
+
+    private IntStream getAllSubnets() {
+      return IntStream.range(0, subscriberCounts.length);
+    }
+
+    private void update(final NodeId peer, final BitSet subnets) {
+      final BitSet previousSubnets = subnetsByPeer.getOrDefault(peer, new BitSet());
+      if (previousSubnets.equals(subnets)) {
+        return;
+      }
+      final BitSet removedSubnets = (BitSet) previousSubnets.clone();
+      removedSubnets.andNot(subnets);
+      removedSubnets.stream().forEach(subnetId -> adjustSubscriberCount(subnetId, -1));
+      final BitSet addedSubnets = (BitSet) subnets.clone();
+      addedSubnets.andNot(previousSubnets);
+      addedSubnets.stream().forEach(subnetId -> adjustSubscriberCount(subnetId, 1));
+      modified = true;
+      if (subnets.isEmpty()) {
+        subnetsByPeer.remove(peer);
+        subscriptionsByPeer.remove(peer);
+      } else {
+        subnetsByPeer.put(peer, subnets);
+        // The bitset is never mutated after being stored so can be shared with the bitvector
+        subscriptionsByPeer.put(peer, schema.wrapBitSet(subscriberCounts.length, subnets));
+      }
+    }
+
+    private void removePeersNotIn(final Set<NodeId> peers) {
+      final Iterator<Map.Entry<NodeId, BitSet>> iterator = subnetsByPeer.entrySet().iterator();
+      while (iterator.hasNext()) {
+        final Map.Entry<NodeId, BitSet> entry = iterator.next();
+        if (!peers.contains(entry.getKey())) {
+          entry.getValue().stream().forEach(subnetId -> adjustSubscriberCount(subnetId, -1));
+          subscriptionsByPeer.remove(entry.getKey());
+          iterator.remove();
+          modified = true;
+        }
+      }
+    }
+
+    private void adjustSubscriberCount(final int subnetId, final int delta) {
+      subscriberCounts[subnetId] += delta;
+      changedSubnets.set(subnetId);
+    }
+
+    /** Returns true if any peer's subscriptions changed since the last call. */
+    private boolean clearModified() {
+      final boolean wasModified = modified;
+      modified = false;
+      return wasModified;
+    }
+
+    private void publishChangedSubnetCounts(final SettableLabelledGauge gauge) {
+      changedSubnets.stream().forEach(subnetId -> publishSubnetCount(gauge, subnetId));
+      changedSubnets.clear();
+    }
+
+    private void publishAllSubnetCounts(final SettableLabelledGauge gauge) {
+      getAllSubnets().forEach(subnetId -> publishSubnetCount(gauge, subnetId));
+    }
+
+    private void publishSubnetCount(final SettableLabelledGauge gauge, final int subnetId) {
+      gauge.set(subscriberCounts[subnetId], type.metricLabelPrefix + subnetId);
+    }
+
+    private SubnetSubscriptions createSubscriptions(final IntSet relevantSubnets) {
+      return createSubscriptions(relevantSubnets.intStream());
+    }
+
+    private SubnetSubscriptions createSubscriptions(final IntStream relevantSubnets) {
+      final IntSet relevant = new IntOpenHashSet();
+      relevantSubnets.forEach(relevant::add);
+      final Int2IntMap counts = new Int2IntOpenHashMap();
+      getAllSubnets()
+          .filter(subnetId -> subscriberCounts[subnetId] > 0)
+          .forEach(subnetId -> counts.put(subnetId, subscriberCounts[subnetId]));
+      return new SubnetSubscriptions(schema, relevant, counts, Map.copyOf(subscriptionsByPeer));
+    }
+  }
+}
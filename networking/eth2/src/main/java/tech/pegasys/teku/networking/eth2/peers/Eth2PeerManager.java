@@ -33,6 +33,7 @@ import tech.pegasys.teku.networking.eth2.SubnetSubscriptionService;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.BeaconChainMethods;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.MetadataMessagesFactory;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.StatusMessageFactory;
+import tech.pegasys.teku.networking.eth2.rpc.core.InboundRequestScheduler;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
 import tech.pegasys.teku.networking.p2p.network.PeerHandler;
@@ -87,7 +88,8 @@ public class Eth2PeerManager implements PeerLookup, PeerHandler {
       final int eth2RpcOutstandingPingThreshold,
       final Duration eth2StatusUpdateInterval,
       final DataColumnSidecarArchiveReconstructor dataColumnSidecarArchiveReconstructor,
-      final DasReqRespLogger dasLogger) {
+      final DasReqRespLogger dasLogger,
+      final InboundRequestScheduler inboundRequestScheduler) {
     this.asyncRunner = asyncRunner;
     this.recentChainData = recentChainData;
     this.eth2PeerFactory = eth2PeerFactory;
@@ -105,7 +107,8 @@ public class Eth2PeerManager implements PeerLookup, PeerHandler {
             metadataMessagesFactory,
             rpcEncoding,
             dataColumnSidecarArchiveReconstructor,
-            dasLogger);
+            dasLogger,
+            inboundRequestScheduler);
     this.eth2RpcPingInterval = eth2RpcPingInterval;
     this.eth2RpcOutstandingPingThreshold = eth2RpcOutstandingPingThreshold;
     this.eth2StatusUpdateInterval = eth2StatusUpdateInterval;
@@ -133,7 +136,8 @@ public class Eth2PeerManager implements PeerLookup, PeerHandler {
       final Spec spec,
       final DiscoveryNodeIdExtractor discoveryNodeIdExtractor,
       final DataColumnSidecarArchiveReconstructor dataColumnSidecarArchiveReconstructor,
-      final DasReqRespLogger dasLogger) {
+      final DasReqRespLogger dasLogger,
+      final InboundRequestScheduler inboundRequestScheduler) {
     attestationSubnetService.subscribeToUpdates(
         metadataMessagesFactory::updateAttestationSubnetIds);
     syncCommitteeSubnetService.subscribeToUpdates(
@@ -166,7 +170,8 @@ public class Eth2PeerManager implements PeerLookup, PeerHandler {
         eth2RpcOutstandingPingThreshold,
         eth2StatusUpdateInterval,
         dataColumnSidecarArchiveReconstructor,
-        dasLogger);
+        dasLogger,
+        inboundRequestScheduler);
   }
 
   public MetadataMessage getMetadataMessage() {
@@ -36,6 +36,7 @@ import tech.pegasys.teku.networking.p2p.connection.PeerPools;
 import tech.pegasys.teku.networking.p2p.connection.PeerSelectionStrategy;
 import tech.pegasys.teku.networking.p2p.connection.TargetPeerRange;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryPeer;
+import tech.pegasys.teku.networking.p2p.discovery.DiscoveryPeerQuery;
 import tech.pegasys.teku.networking.p2p.network.P2PNetwork;
 import tech.pegasys.teku.networking.p2p.network.PeerAddress;
 import tech.pegasys.teku.networking.p2p.peer.Peer;
@@ -99,6 +100,11 @@ public class Eth2PeerSelectionStrategy implements PeerSelectionStrategy {
     return unmodifiableList(selectedPeers); // Unmodifiable to make errorprone happy
   }
 
+  @Override
+  public Optional<DiscoveryPeerQuery> createCachedPeerQuery(final P2PNetwork<?> network) {
+    return peerSubnetSubscriptionsFactory.create(network).createDiscoveryPeerQuery();
+  }
+
   private List<PeerAddress> selectAndRemoveRandomPeers(
       final P2PNetwork<?> network,
       final PeerPools peerPools,
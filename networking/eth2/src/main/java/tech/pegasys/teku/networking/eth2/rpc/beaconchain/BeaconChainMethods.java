@@ -38,6 +38,7 @@ import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.MetadataMessage
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.PingMessageHandler;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.StatusMessageFactory;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.StatusMessageHandler;
+import tech.pegasys.teku.networking.eth2.rpc.core.InboundRequestScheduler;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.context.ForkDigestPayloadContext;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.context.RpcContextCodec;
@@ -170,7 +171,8 @@ public class BeaconChainMethods {
       final MetadataMessagesFactory metadataMessagesFactory,
       final RpcEncoding rpcEncoding,
       final DataColumnSidecarArchiveReconstructor dataColumnSidecarArchiveReconstructor,
-      final DasReqRespLogger dasLogger) {
+      final DasReqRespLogger dasLogger,
+      final InboundRequestScheduler inboundRequestScheduler) {
     return new BeaconChainMethods(
         createStatus(spec, asyncRunner, statusMessageFactory, peerLookup, rpcEncoding),
         createGoodBye(asyncRunner, metricsSystem, peerLookup, rpcEncoding),
@@ -182,6 +184,7 @@ public class BeaconChainMethods {
             asyncRunner,
             recentChainData,
             combinedChainDataClient,
+            inboundRequestScheduler,
             peerLookup,
             rpcEncoding),
         createBlobSidecarsByRoot(
@@ -206,6 +209,7 @@ public class BeaconChainMethods {
             asyncRunner,
             combinedChainDataClient,
             custodyGroupCountManagerSupplier,
+            inboundRequestScheduler,
             peerLookup,
             rpcEncoding,
             recentChainData,
@@ -216,6 +220,7 @@ public class BeaconChainMethods {
             metricsSystem,
             asyncRunner,
             combinedChainDataClient,
+            inboundRequestScheduler,
             peerLookup,
             rpcEncoding,
             recentChainData,
@@ -355,10 +360,12 @@ public class BeaconChainMethods {
           final AsyncRunner asyncRunner,
           final RecentChainData recentChainData,
           final CombinedChainDataClient combinedChainDataClient,
+          final InboundRequestScheduler inboundRequestScheduler,
           final PeerLookup peerLookup,
           final RpcEncoding rpcEncoding) {
     final BeaconBlocksByRangeMessageHandler beaconBlocksByRangeHandler =
-        new BeaconBlocksByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+        new BeaconBlocksByRangeMessageHandler(
+            spec, metricsSystem, combinedChainDataClient, inboundRequestScheduler);
 
     final BeaconBlocksByRangeRequestMessageSchema requestType =
         BeaconBlocksByRangeRequestMessage.SSZ_SCHEMA;
@@ -464,6 +471,7 @@ public class BeaconChainMethods {
           final AsyncRunner asyncRunner,
           final CombinedChainDataClient combinedChainDataClient,
           final Supplier<CustodyGroupCountManager> custodyGroupCountManagerSupplier,
+          final InboundRequestScheduler inboundRequestScheduler,
           final PeerLookup peerLookup,
           final RpcEncoding rpcEncoding,
           final RecentChainData recentChainData,
@@ -483,6 +491,7 @@ public class BeaconChainMethods {
             metricsSystem,
             combinedChainDataClient,
             custodyGroupCountManagerSupplier,
+            inboundRequestScheduler,
             dataColumnSidecarArchiveReconstructor,
             dasLogger);
     final DataColumnSidecarsByRootRequestMessageSchema
@@ -510,6 +519,7 @@ public class BeaconChainMethods {
           final MetricsSystem metricsSystem,
           final AsyncRunner asyncRunner,
           final CombinedChainDataClient combinedChainDataClient,
+          final InboundRequestScheduler inboundRequestScheduler,
           final PeerLookup peerLookup,
           final RpcEncoding rpcEncoding,
           final RecentChainData recentChainData,
@@ -535,6 +545,7 @@ public class BeaconChainMethods {
             spec,
             metricsSystem,
             combinedChainDataClient,
+            inboundRequestScheduler,
             dataColumnSidecarArchiveReconstructor,
             dasLogger);
 
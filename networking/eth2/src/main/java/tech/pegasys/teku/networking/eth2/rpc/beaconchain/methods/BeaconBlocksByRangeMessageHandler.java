@@ -34,6 +34,7 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.eth2.peers.RequestKey;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.BeaconChainMethodIds;
+import tech.pegasys.teku.networking.eth2.rpc.core.InboundRequestScheduler;
 import tech.pegasys.teku.networking.eth2.rpc.core.PeerRequiredLocalMessageHandler;
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
@@ -51,15 +52,18 @@ public class BeaconBlocksByRangeMessageHandler
 
   private final Spec spec;
   private final CombinedChainDataClient combinedChainDataClient;
+  private final InboundRequestScheduler inboundRequestScheduler;
   private final LabelledMetric<Counter> requestCounter;
   private final Counter totalBlocksRequestedCounter;
 
   public BeaconBlocksByRangeMessageHandler(
       final Spec spec,
       final MetricsSystem metricsSystem,
-      final CombinedChainDataClient combinedChainDataClient) {
+      final CombinedChainDataClient combinedChainDataClient,
+      final InboundRequestScheduler inboundRequestScheduler) {
     this.spec = spec;
     this.combinedChainDataClient = combinedChainDataClient;
+    this.inboundRequestScheduler = inboundRequestScheduler;
     requestCounter =
         metricsSystem.createLabelledCounter(
             TekuMetricCategory.NETWORK,
@@ -144,7 +148,13 @@ public class BeaconBlocksByRangeMessageHandler
 
     requestCounter.labels("ok").inc();
     totalBlocksRequestedCounter.inc(message.getCount().longValue());
-    sendMatchingBlocks(message, callback)
+    inboundRequestScheduler
+        .schedule(
+            protocolId,
+            peer,
+            message.getCount().longValue(),
+            callback,
+            scheduledCallback -> sendMatchingBlocks(message, scheduledCallback))
         .finish(
             requestState -> {
               if (requestState.sentBlocks.get() != message.getCount().longValue()) {
@@ -177,8 +187,10 @@ public class BeaconBlocksByRangeMessageHandler
                       .getChainHead()
                       .map(MinimalBeaconBlockSummary::getSlot)
                       .orElse(ZERO);
+              final boolean allBlocksFinalized =
+                  combinedChainDataClient.isFinalized(message.getMaxSlot());
               final NavigableMap<UInt64, Bytes32> hotRoots;
-              if (combinedChainDataClient.isFinalized(message.getMaxSlot())) {
+              if (allBlocksFinalized) {
                 // All blocks are finalized so skip scanning the protoarray
                 hotRoots = new TreeMap<>();
               } else {
@@ -197,10 +209,27 @@ public class BeaconBlocksByRangeMessageHandler
               if (initialState.isComplete()) {
                 return SafeFuture.completedFuture(initialState);
               }
+              if (allBlocksFinalized && step.equals(ONE)) {
+                return sendFinalizedBlocks(
+                    initialState, startSlot, message.getMaxSlot().min(headSlot));
+              }
               return sendNextBlock(initialState);
             });
   }
 
+  /**
+   * Sends a range of finalized blocks by streaming them from storage, which loads the following
+   * blocks while earlier ones are being sent rather than looking up each slot in turn.
+   */
+  private SafeFuture<RequestState> sendFinalizedBlocks(
+      final RequestState requestState, final UInt64 startSlot, final UInt64 endSlot) {
+    return combinedChainDataClient
+        .streamFinalizedBlocks(startSlot, endSlot)
+        .mapAsync(block -> requestState.sendBlock(block).thenApply(__ -> block))
+        .forEach(__ -> {})
+        .thenApply(__ -> requestState);
+  }
+
   private SafeFuture<RequestState> sendNextBlock(final RequestState requestState) {
     SafeFuture<Boolean> blockFuture = processNextBlock(requestState);
     // Avoid risk of StackOverflowException by iterating when the block future is already complete
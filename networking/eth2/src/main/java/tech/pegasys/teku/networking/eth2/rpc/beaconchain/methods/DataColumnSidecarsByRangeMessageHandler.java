@@ -37,6 +37,7 @@ import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.eth2.peers.RequestKey;
+import tech.pegasys.teku.networking.eth2.rpc.core.InboundRequestScheduler;
 import tech.pegasys.teku.networking.eth2.rpc.core.PeerRequiredLocalMessageHandler;
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
@@ -61,6 +62,7 @@ public class DataColumnSidecarsByRangeMessageHandler
 
   private final Spec spec;
   private final CombinedChainDataClient combinedChainDataClient;
+  private final InboundRequestScheduler inboundRequestScheduler;
   private final LabelledMetric<Counter> requestCounter;
   private final Counter totalDataColumnSidecarsRequestedCounter;
   private final DataColumnSidecarArchiveReconstructor dataColumnSidecarArchiveReconstructor;
@@ -70,10 +72,12 @@ public class DataColumnSidecarsByRangeMessageHandler
       final Spec spec,
       final MetricsSystem metricsSystem,
       final CombinedChainDataClient combinedChainDataClient,
+      final InboundRequestScheduler inboundRequestScheduler,
       final DataColumnSidecarArchiveReconstructor dataColumnSidecarArchiveReconstructor,
       final DasReqRespLogger dasLogger) {
     this.spec = spec;
     this.combinedChainDataClient = combinedChainDataClient;
+    this.inboundRequestScheduler = inboundRequestScheduler;
     requestCounter =
         metricsSystem.createLabelledCounter(
             TekuMetricCategory.NETWORK,
@@ -121,10 +125,6 @@ public class DataColumnSidecarsByRangeMessageHandler
       final Eth2Peer peer,
       final DataColumnSidecarsByRangeRequestMessage message,
       final ResponseCallback<DataColumnSidecar> callback) {
-    final UInt64 startSlot = message.getStartSlot();
-    final UInt64 endSlot = message.getMaxSlot();
-    final List<UInt64> columns = message.getColumns();
-
     final ReqRespResponseLogger<DataColumnSidecar> responseLogger =
         dasLogger
             .getDataColumnSidecarsByRangeLogger()
@@ -149,6 +149,40 @@ public class DataColumnSidecarsByRangeMessageHandler
     requestCounter.labels("ok").inc();
     totalDataColumnSidecarsRequestedCounter.inc(message.getCount().longValue());
 
+    final int messageId = dataColumnSidecarArchiveReconstructor.onRequest();
+    final CompletionAwareResponseCallback<DataColumnSidecar> completionCallback =
+        new CompletionAwareResponseCallback<>(callbackWithLogging);
+    completionCallback.onCompletion(
+        () -> dataColumnSidecarArchiveReconstructor.onRequestCompleted(messageId));
+
+    final SafeFuture<RequestState> response =
+        inboundRequestScheduler.schedule(
+            protocolId,
+            peer,
+            requestedCount,
+            completionCallback,
+            scheduledCallback ->
+                startRequest(message, requestedCount, messageId, scheduledCallback));
+
+    response.finish(
+        requestState -> {
+          final int sentDataColumnSidecars = requestState.sentDataColumnSidecars.get();
+          if (sentDataColumnSidecars != requestedCount) {
+            peer.adjustDataColumnSidecarsRequest(maybeRequestKey.get(), sentDataColumnSidecars);
+          }
+          completionCallback.completeSuccessfully();
+        },
+        error -> handleError(error, completionCallback, "data column sidecars by range"));
+  }
+
+  private SafeFuture<RequestState> startRequest(
+      final DataColumnSidecarsByRangeRequestMessage message,
+      final int requestedCount,
+      final int messageId,
+      final ResponseCallback<DataColumnSidecar> callback) {
+    final UInt64 startSlot = message.getStartSlot();
+    final UInt64 endSlot = message.getMaxSlot();
+
     UInt64 finalizedSlot = combinedChainDataClient.getFinalizedBlockSlot().orElse(UInt64.ZERO);
 
     final SortedMap<UInt64, Bytes32> canonicalHotRoots;
@@ -166,38 +200,21 @@ public class DataColumnSidecarsByRangeMessageHandler
     final int maxRequestDataColumnSidecars =
         spec.atSlot(endSlot).miscHelpers().getMaxRequestDataColumnSidecars();
 
-    final int messageId = dataColumnSidecarArchiveReconstructor.onRequest();
-    final CompletionAwareResponseCallback<DataColumnSidecar> completionCallback =
-        new CompletionAwareResponseCallback<>(callbackWithLogging);
-    completionCallback.onCompletion(
-        () -> dataColumnSidecarArchiveReconstructor.onRequestCompleted(messageId));
     final RequestState initialState =
         new RequestState(
-            completionCallback,
+            callback,
             maxRequestDataColumnSidecars,
             startSlot,
             endSlot,
-            columns,
+            message.getColumns(),
             canonicalHotRoots,
             finalizedSlot,
             messageId);
 
-    final SafeFuture<RequestState> response;
     if (requestedCount == 0 || initialState.isComplete()) {
-      response = SafeFuture.completedFuture(initialState);
-    } else {
-      response = sendDataColumnSidecars(initialState);
+      return SafeFuture.completedFuture(initialState);
     }
-
-    response.finish(
-        requestState -> {
-          final int sentDataColumnSidecars = requestState.sentDataColumnSidecars.get();
-          if (sentDataColumnSidecars != requestedCount) {
-            peer.adjustDataColumnSidecarsRequest(maybeRequestKey.get(), sentDataColumnSidecars);
-          }
-          completionCallback.completeSuccessfully();
-        },
-        error -> handleError(error, completionCallback, "data column sidecars by range"));
+    return sendDataColumnSidecars(initialState);
   }
 
   private int calculateRequestedCount(final DataColumnSidecarsByRangeRequestMessage message) {
@@ -29,6 +29,7 @@ import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.eth2.peers.RequestKey;
+import tech.pegasys.teku.networking.eth2.rpc.core.InboundRequestScheduler;
 import tech.pegasys.teku.networking.eth2.rpc.core.PeerRequiredLocalMessageHandler;
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
@@ -57,6 +58,7 @@ public class DataColumnSidecarsByRootMessageHandler
   private final Spec spec;
   private final CombinedChainDataClient combinedChainDataClient;
   private final Supplier<CustodyGroupCountManager> custodyGroupCountManagerSupplier;
+  private final InboundRequestScheduler inboundRequestScheduler;
   private final LRUCache<Bytes32, UInt64> blockRootSlotCache =
       LRUCache.create(ROOT_SLOT_CACHE_SIZE);
 
@@ -70,11 +72,13 @@ public class DataColumnSidecarsByRootMessageHandler
       final MetricsSystem metricsSystem,
       final CombinedChainDataClient combinedChainDataClient,
       final Supplier<CustodyGroupCountManager> custodyGroupCountManagerSupplier,
+      final InboundRequestScheduler inboundRequestScheduler,
       final DataColumnSidecarArchiveReconstructor dataColumnSidecarArchiveReconstructor,
       final DasReqRespLogger dasLogger) {
     this.spec = spec;
     this.combinedChainDataClient = combinedChainDataClient;
     this.custodyGroupCountManagerSupplier = custodyGroupCountManagerSupplier;
+    this.inboundRequestScheduler = inboundRequestScheduler;
     this.dasLogger = dasLogger;
     this.dataColumnSidecarArchiveReconstructor = dataColumnSidecarArchiveReconstructor;
     this.requestCounter =
@@ -131,26 +135,33 @@ public class DataColumnSidecarsByRootMessageHandler
     completionCallback.onCompletion(
         () -> dataColumnSidecarArchiveReconstructor.onRequestCompleted(messageId));
 
-    SafeFuture.collectAll(
-            message.stream()
-                .map(
-                    byRootIdentifier -> {
-                      if (byRootIdentifier.getColumns().stream()
-                          .noneMatch(myCustodyColumns::contains)) {
-                        // we don't custody any of the requested columns
-                        return SafeFuture.completedFuture(0L);
-                      }
-                      return resolveBlockRootSlot(byRootIdentifier.getBlockRoot())
-                          .thenCompose(
-                              maybeSlot ->
-                                  retrieveAndRespondForBlockRoot(
-                                      byRootIdentifier.getBlockRoot(),
-                                      maybeSlot,
-                                      byRootIdentifier.getColumns(),
-                                      myCustodyColumns,
-                                      messageId,
-                                      completionCallback));
-                    }))
+    inboundRequestScheduler
+        .schedule(
+            protocolId,
+            peer,
+            requestedDataColumnSidecarsCount,
+            completionCallback,
+            scheduledCallback ->
+                SafeFuture.collectAll(
+                    message.stream()
+                        .map(
+                            byRootIdentifier -> {
+                              if (byRootIdentifier.getColumns().stream()
+                                  .noneMatch(myCustodyColumns::contains)) {
+                                // we don't custody any of the requested columns
+                                return SafeFuture.completedFuture(0L);
+                              }
+                              return resolveBlockRootSlot(byRootIdentifier.getBlockRoot())
+                                  .thenCompose(
+                                      maybeSlot ->
+                                          retrieveAndRespondForBlockRoot(
+                                              byRootIdentifier.getBlockRoot(),
+                                              maybeSlot,
+                                              byRootIdentifier.getColumns(),
+                                              myCustodyColumns,
+                                              messageId,
+                                              scheduledCallback));
+                            })))
         .thenAccept(
             counts -> {
               final long sent = counts.stream().mapToLong(Long::longValue).sum();
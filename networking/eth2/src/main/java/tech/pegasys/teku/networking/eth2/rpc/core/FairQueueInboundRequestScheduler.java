@@ -0,0 +1,353 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.rpc.core;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.Histogram;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue.QueueIsFullException;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.p2p.peer.NodeId;
+import tech.pegasys.teku.networking.p2p.peer.PeerDisconnectedException;
+
+/**
+ * Limits the number of inbound requests served concurrently and shares the available capacity
+ * between peers in proportion to the bytes served to them, rather than in arrival order.
+ *
+ * <p>Uses start-time fair queueing over each peer's oldest queued request. That request is tagged
+ * with a virtual start time of the later of the current virtual time and the peer's finish tag, and
+ * when it starts the peer's finish tag is advanced by the estimated cost of the request in bytes.
+ * The peer with the lowest start tag is served next, so a peer making a stream of large requests
+ * only delays other peers by its fair share. Once a request completes its estimate is replaced with
+ * the bytes actually served.
+ */
+public class FairQueueInboundRequestScheduler implements InboundRequestScheduler {
+  static final int MAX_QUEUED_REQUESTS_PER_PEER = 32;
+  static final long INITIAL_BYTES_PER_OBJECT_ESTIMATE = 64 * 1024;
+
+  private static final double[] QUEUE_WAIT_BUCKETS =
+      new double[] {0.001, 0.01, 0.05, 0.1, 0.25, 0.5, 1.0, 2.5, 5.0, 10.0, 30.0};
+  private static final double[] PEER_SERVED_BYTES_BUCKETS =
+      new double[] {0, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10};
+
+  private final int maxConcurrentRequests;
+  private final TimeProvider timeProvider;
+
+  private final Map<NodeId, PeerQueue> peerQueues = new HashMap<>();
+  private final PriorityQueue<PeerQueue> readyPeers =
+      new PriorityQueue<>(Comparator.comparingLong(peerQueue -> peerQueue.headStartTag));
+  private final Map<String, Long> bytesPerObjectByProtocol = new HashMap<>();
+  private final AtomicInteger pendingDispatches = new AtomicInteger();
+  private long virtualTime = 0;
+  private int queuedRequests = 0;
+  private int inflightRequests = 0;
+
+  private final Counter servedBytesCounter;
+  private final Counter rejectedRequestsCounter;
+  private final Histogram queueWaitHistogram;
+  private final Histogram peerServedBytesHistogram;
+
+  public FairQueueInboundRequestScheduler(
+      final int maxConcurrentRequests,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider) {
+    checkArgument(
+        maxConcurrentRequests > 0,
+        "Max concurrent requests must be positive but was %s",
+        maxConcurrentRequests);
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    this.timeProvider = timeProvider;
+    this.servedBytesCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.NETWORK,
+            "rpc_inbound_served_bytes_total",
+            "Total SSZ bytes served in response to scheduled inbound requests");
+    this.rejectedRequestsCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.NETWORK,
+            "rpc_inbound_rejected_requests_total",
+            "Total inbound requests rejected because the peer had too many requests queued");
+    this.queueWaitHistogram =
+        metricsSystem.createHistogram(
+            TekuMetricCategory.NETWORK,
+            "rpc_inbound_queue_wait_seconds",
+            "Time inbound requests spent queued before being served",
+            QUEUE_WAIT_BUCKETS);
+    this.peerServedBytesHistogram =
+        metricsSystem.createHistogram(
+            TekuMetricCategory.NETWORK,
+            "rpc_inbound_peer_served_bytes",
+            "SSZ bytes served to each peer over the lifetime of its connection",
+            PEER_SERVED_BYTES_BUCKETS);
+    metricsSystem.createIntegerGauge(
+        TekuMetricCategory.NETWORK,
+        "rpc_inbound_queued_requests",
+        "Number of inbound requests waiting to be served",
+        this::getQueuedRequestCount);
+    metricsSystem.createIntegerGauge(
+        TekuMetricCategory.NETWORK,
+        "rpc_inbound_inflight_requests",
+        "Number of inbound requests currently being served",
+        this::getInflightRequestCount);
+  }
+
+  @Override
+  public <TResponse extends SszData, TResult> SafeFuture<TResult> schedule(
+      final String protocolId,
+      final Eth2Peer peer,
+      final long requestedObjects,
+      final ResponseCallback<TResponse> callback,
+      final Function<ResponseCallback<TResponse>, SafeFuture<TResult>> request) {
+    if (!peer.isConnected()) {
+      return SafeFuture.failedFuture(new PeerDisconnectedException());
+    }
+    final QueuedRequest<TResponse, TResult> queuedRequest;
+    final boolean newPeer;
+    synchronized (this) {
+      PeerQueue peerQueue = peerQueues.get(peer.getId());
+      newPeer = peerQueue == null;
+      if (newPeer) {
+        peerQueue = new PeerQueue();
+        peerQueues.put(peer.getId(), peerQueue);
+      }
+      if (peerQueue.requests.size() >= MAX_QUEUED_REQUESTS_PER_PEER) {
+        rejectedRequestsCounter.inc();
+        return SafeFuture.failedFuture(new QueueIsFullException());
+      }
+      queuedRequest =
+          new QueuedRequest<>(
+              peerQueue,
+              protocolId,
+              requestedObjects,
+              timeProvider.getTimeInMillis(),
+              callback,
+              request);
+      peerQueue.requests.add(queuedRequest);
+      if (peerQueue.requests.size() == 1) {
+        peerQueue.headStartTag = Math.max(virtualTime, peerQueue.finishTag);
+        readyPeers.add(peerQueue);
+      }
+      queuedRequests++;
+    }
+    if (newPeer) {
+      peer.subscribeDisconnect((reason, locallyInitiated) -> onPeerDisconnected(peer.getId()));
+    }
+    processQueuedRequests();
+    return queuedRequest.result;
+  }
+
+  @VisibleForTesting
+  synchronized int getQueuedRequestCount() {
+    return queuedRequests;
+  }
+
+  @VisibleForTesting
+  synchronized int getInflightRequestCount() {
+    return inflightRequests;
+  }
+
+  private long getBytesPerObjectEstimate(final String protocolId) {
+    return bytesPerObjectByProtocol.getOrDefault(protocolId, INITIAL_BYTES_PER_OBJECT_ESTIMATE);
+  }
+
+  private void processQueuedRequests() {
+    // Requests may complete synchronously and trigger another dispatch, so only one caller
+    // dispatches at a time and others just ensure it makes another pass
+    if (pendingDispatches.getAndIncrement() != 0) {
+      return;
+    }
+    int dispatches = 1;
+    do {
+      QueuedRequest<?, ?> next = pollNextRequest();
+      while (next != null) {
+        next.run();
+        next = pollNextRequest();
+      }
+      dispatches = pendingDispatches.addAndGet(-dispatches);
+    } while (dispatches != 0);
+  }
+
+  private synchronized QueuedRequest<?, ?> pollNextRequest() {
+    if (inflightRequests >= maxConcurrentRequests) {
+      return null;
+    }
+    final PeerQueue peerQueue = readyPeers.poll();
+    if (peerQueue == null) {
+      return null;
+    }
+    final QueuedRequest<?, ?> next = peerQueue.requests.remove();
+    virtualTime = Math.max(virtualTime, peerQueue.headStartTag);
+    next.estimatedCost =
+        Math.max(1, next.requestedObjects) * getBytesPerObjectEstimate(next.protocolId);
+    peerQueue.finishTag = peerQueue.headStartTag + next.estimatedCost;
+    if (!peerQueue.requests.isEmpty()) {
+      peerQueue.headStartTag = Math.max(virtualTime, peerQueue.finishTag);
+      readyPeers.add(peerQueue);
+    }
+    queuedRequests--;
+    inflightRequests++;
+    return next;
+  }
+
+  private void onRequestCompleted(
+      final QueuedRequest<?, ?> request, final long servedBytes, final long servedObjects) {
+    synchronized (this) {
+      inflightRequests--;
+      final PeerQueue peerQueue = request.peerQueue;
+      peerQueue.servedBytes += servedBytes;
+      // Charge the peer for what was actually served rather than the estimate
+      peerQueue.finishTag =
+          Math.max(virtualTime, peerQueue.finishTag + servedBytes - request.estimatedCost);
+      if (!peerQueue.requests.isEmpty() && readyPeers.remove(peerQueue)) {
+        peerQueue.headStartTag = Math.max(virtualTime, peerQueue.finishTag);
+        readyPeers.add(peerQueue);
+      }
+      if (servedObjects > 0) {
+        final long previousEstimate = getBytesPerObjectEstimate(request.protocolId);
+        final long servedBytesPerObject = servedBytes / servedObjects;
+        bytesPerObjectByProtocol.put(
+            request.protocolId, (previousEstimate * 7 + servedBytesPerObject) / 8);
+      }
+    }
+    servedBytesCounter.inc(servedBytes);
+    processQueuedRequests();
+  }
+
+  private void onPeerDisconnected(final NodeId nodeId) {
+    final List<QueuedRequest<?, ?>> droppedRequests;
+    synchronized (this) {
+      final PeerQueue peerQueue = peerQueues.remove(nodeId);
+      if (peerQueue == null) {
+        return;
+      }
+      readyPeers.remove(peerQueue);
+      droppedRequests = new ArrayList<>(peerQueue.requests);
+      peerQueue.requests.clear();
+      queuedRequests -= droppedRequests.size();
+      peerServedBytesHistogram.observe(peerQueue.servedBytes);
+    }
+    droppedRequests.forEach(
+        request -> request.result.completeExceptionally(new PeerDisconnectedException()));
+  }
+
+  private static class PeerQueue {
+    private final Queue<QueuedRequest<?, ?>> requests = new ArrayDeque<>();
+    private long headStartTag = 0;
+    private long finishTag = 0;
+    private long servedBytes = 0;
+  }
+
+  private class QueuedRequest<TResponse extends SszData, TResult> {
+    private final PeerQueue peerQueue;
+    private final String protocolId;
+    private final long requestedObjects;
+    private final UInt64 queuedTimeMillis;
+    private final ResponseCallback<TResponse> callback;
+    private final Function<ResponseCallback<TResponse>, SafeFuture<TResult>> request;
+    private final SafeFuture<TResult> result = new SafeFuture<>();
+    private long estimatedCost;
+
+    private QueuedRequest(
+        final PeerQueue peerQueue,
+        final String protocolId,
+        final long requestedObjects,
+        final UInt64 queuedTimeMillis,
+        final ResponseCallback<TResponse> callback,
+        final Function<ResponseCallback<TResponse>, SafeFuture<TResult>> request) {
+      this.peerQueue = peerQueue;
+      this.protocolId = protocolId;
+      this.requestedObjects = requestedObjects;
+      this.queuedTimeMillis = queuedTimeMillis;
+      this.callback = callback;
+      this.request = request;
+    }
+
+    private void run() {
+      queueWaitHistogram.observe(
+          timeProvider.getTimeInMillis().minusMinZero(queuedTimeMillis).doubleValue() / 1000);
+      final ServedBytesTrackingCallback<TResponse> trackingCallback =
+          new ServedBytesTrackingCallback<>(callback);
+      SafeFuture.of(() -> request.apply(trackingCallback))
+          .alwaysRun(
+              () ->
+                  onRequestCompleted(
+                      this,
+                      trackingCallback.servedBytes.get(),
+                      trackingCallback.servedObjects.get()))
+          .propagateTo(result);
+    }
+  }
+
+  private static class ServedBytesTrackingCallback<T extends SszData>
+      implements ResponseCallback<T> {
+    private final ResponseCallback<T> delegate;
+    private final AtomicLong servedBytes = new AtomicLong();
+    private final AtomicLong servedObjects = new AtomicLong();
+
+    private ServedBytesTrackingCallback(final ResponseCallback<T> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public SafeFuture<Void> respond(final T data) {
+      recordServed(data);
+      return delegate.respond(data);
+    }
+
+    @Override
+    public void respondAndCompleteSuccessfully(final T data) {
+      recordServed(data);
+      delegate.respondAndCompleteSuccessfully(data);
+    }
+
+    @Override
+    public void completeSuccessfully() {
+      delegate.completeSuccessfully();
+    }
+
+    @Override
+    public void completeWithErrorResponse(final RpcException error) {
+      delegate.completeWithErrorResponse(error);
+    }
+
+    @Override
+    public void completeWithUnexpectedError(final Throwable error) {
+      delegate.completeWithUnexpectedError(error);
+    }
+
+    private void recordServed(final T data) {
+      servedBytes.addAndGet(data.getSchema().getSszSize(data.getBackingNode()));
+      servedObjects.incrementAndGet();
+    }
+  }
+}
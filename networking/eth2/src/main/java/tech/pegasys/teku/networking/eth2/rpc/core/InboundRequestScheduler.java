@@ -0,0 +1,59 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.rpc.core;
+
+import java.util.function.Function;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+
+/**
+ * Decides when the work to serve an inbound request starts, so that peers making expensive
+ * requests can't starve everyone else of storage reads and bandwidth.
+ */
+public interface InboundRequestScheduler {
+
+  InboundRequestScheduler NOOP =
+      new InboundRequestScheduler() {
+        @Override
+        public <TResponse extends SszData, TResult> SafeFuture<TResult> schedule(
+            final String protocolId,
+            final Eth2Peer peer,
+            final long requestedObjects,
+            final ResponseCallback<TResponse> callback,
+            final Function<ResponseCallback<TResponse>, SafeFuture<TResult>> request) {
+          return request.apply(callback);
+        }
+      };
+
+  /**
+   * Runs {@code request} once it is this request's turn to be served.
+   *
+   * @param protocolId the protocol the request was received on
+   * @param peer the peer making the request
+   * @param requestedObjects the maximum number of objects the response may contain, used to
+   *     estimate the cost of the request before it runs
+   * @param callback the callback for the request
+   * @param request starts serving the request, responding via the supplied callback which must be
+   *     used in place of {@code callback} so the response size can be measured
+   * @return a future completed with the result of {@code request}, or failed if the request could
+   *     not be scheduled
+   */
+  <TResponse extends SszData, TResult> SafeFuture<TResult> schedule(
+      String protocolId,
+      Eth2Peer peer,
+      long requestedObjects,
+      ResponseCallback<TResponse> callback,
+      Function<ResponseCallback<TResponse>, SafeFuture<TResult>> request);
+}
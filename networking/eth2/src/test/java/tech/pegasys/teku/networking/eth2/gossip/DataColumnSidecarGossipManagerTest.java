@@ -25,6 +25,7 @@ import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.safeJoin;
 
 import com.google.common.base.Supplier;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
@@ -125,7 +126,11 @@ public class DataColumnSidecarGossipManagerTest {
             forkDigest);
 
     dataColumnSidecarGossipManager =
-        new DataColumnSidecarGossipManager(subnetSubscriptions, dasGossipLogger, () -> false);
+        new DataColumnSidecarGossipManager(
+            subnetSubscriptions,
+            dasGossipLogger,
+            () -> false,
+            DataColumnSidecarPublishScheduler.NOOP);
     IntStream.range(0, spec.getNumberOfDataColumnSubnets().orElseThrow())
         .forEach(dataColumnSidecarGossipManager::subscribeToSubnetId);
   }
@@ -173,6 +178,29 @@ public class DataColumnSidecarGossipManagerTest {
         });
   }
 
+  @TestTemplate
+  public void testGossipingDataColumnSidecarsPublishesEachToCorrectSubnet() {
+    final SignedBeaconBlockHeader signedBeaconBlockHeader =
+        dataStructureUtil.randomSignedBeaconBlockHeader();
+    final DataColumnSidecar dataColumnSidecar1 =
+        dataStructureUtil.randomDataColumnSidecar(signedBeaconBlockHeader, UInt64.ONE);
+    final DataColumnSidecar dataColumnSidecar2 =
+        dataStructureUtil.randomDataColumnSidecar(signedBeaconBlockHeader, UInt64.valueOf(2));
+
+    dataColumnSidecarGossipManager.publish(List.of(dataColumnSidecar1, dataColumnSidecar2));
+
+    topicChannels.forEach(
+        (subnetId, channel) -> {
+          if (subnetId == 1) {
+            verify(channel).gossip(gossipEncoding.encode(dataColumnSidecar1));
+          } else if (subnetId == 2) {
+            verify(channel).gossip(gossipEncoding.encode(dataColumnSidecar2));
+          } else {
+            verifyNoInteractions(channel);
+          }
+        });
+  }
+
   @TestTemplate
   public void testUnsubscribingClosesAllChannels() {
     dataColumnSidecarGossipManager.unsubscribe();
@@ -267,7 +295,11 @@ public class DataColumnSidecarGossipManagerTest {
   @TestTemplate
   public void testIsEnabledDuringOptimisticSync_whenSuperNodeSupplierReturnsTrue() {
     final DataColumnSidecarGossipManager managerWithSuperNode =
-        new DataColumnSidecarGossipManager(subnetSubscriptions, dasGossipLogger, () -> true);
+        new DataColumnSidecarGossipManager(
+            subnetSubscriptions,
+            dasGossipLogger,
+            () -> true,
+            DataColumnSidecarPublishScheduler.NOOP);
 
     assertThat(managerWithSuperNode.isEnabledDuringOptimisticSync())
         .as(
@@ -278,7 +310,11 @@ public class DataColumnSidecarGossipManagerTest {
   @TestTemplate
   public void testIsDisabledDuringOptimisticSync_whenSuperNodeSupplierReturnsFalse() {
     final DataColumnSidecarGossipManager managerWithoutSuperNode =
-        new DataColumnSidecarGossipManager(subnetSubscriptions, dasGossipLogger, () -> false);
+        new DataColumnSidecarGossipManager(
+            subnetSubscriptions,
+            dasGossipLogger,
+            () -> false,
+            DataColumnSidecarPublishScheduler.NOOP);
 
     assertThat(managerWithoutSuperNode.isEnabledDuringOptimisticSync())
         .as(
@@ -291,7 +327,11 @@ public class DataColumnSidecarGossipManagerTest {
     // Create a mutable supplier that we can change
     final MutableSupplier<Boolean> mutableSupplier = new MutableSupplier<>(false);
     final DataColumnSidecarGossipManager managerWithDynamicSupplier =
-        new DataColumnSidecarGossipManager(subnetSubscriptions, dasGossipLogger, mutableSupplier);
+        new DataColumnSidecarGossipManager(
+            subnetSubscriptions,
+            dasGossipLogger,
+            mutableSupplier,
+            DataColumnSidecarPublishScheduler.NOOP);
 
     // Initially false
     assertThat(managerWithDynamicSupplier.isEnabledDuringOptimisticSync())
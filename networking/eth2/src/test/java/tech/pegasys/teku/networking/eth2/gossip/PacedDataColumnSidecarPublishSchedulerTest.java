@@ -0,0 +1,199 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blobs.DataColumnSidecar;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlockHeader;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class PacedDataColumnSidecarPublishSchedulerTest {
+  private static final int MESH_DEGREE = 8;
+  private static final long UPLOAD_MILLIS_PER_SIDECAR = 10;
+
+  private final Spec spec = TestSpecFactory.createMinimalFulu();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(0);
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner(timeProvider);
+  private final SignedBeaconBlockHeader header = dataStructureUtil.randomSignedBeaconBlockHeader();
+  private final List<DataColumnSidecar> sidecars =
+      IntStream.range(0, 16)
+          .mapToObj(
+              index ->
+                  dataStructureUtil.randomDataColumnSidecar(
+                      header,
+                      dataStructureUtil.randomBlobKzgCommitments(2),
+                      UInt64.valueOf(index)))
+          .toList();
+  private final long sidecarSize =
+      sidecars.getFirst().getSchema().getSszSize(sidecars.getFirst().getBackingNode());
+
+  // Sending a sidecar to a full mesh takes UPLOAD_MILLIS_PER_SIDECAR
+  private final PacedDataColumnSidecarPublishScheduler scheduler =
+      new PacedDataColumnSidecarPublishScheduler(
+          asyncRunner,
+          timeProvider,
+          sidecarSize * MESH_DEGREE * 1000 / UPLOAD_MILLIS_PER_SIDECAR,
+          MESH_DEGREE);
+
+  private final Map<DataColumnSidecar, Long> publishTimes = new LinkedHashMap<>();
+
+  @Test
+  void shouldPublishSidecarsOnSubnetsWithFewestPeersFirst() {
+    final Map<DataColumnSidecar, Integer> subscriberCounts = new HashMap<>();
+    subscriberCounts.put(sidecars.get(0), 5);
+    subscriberCounts.put(sidecars.get(1), 0);
+    subscriberCounts.put(sidecars.get(2), 2);
+    subscriberCounts.put(sidecars.get(3), 2);
+
+    scheduler.schedule(sidecars.subList(0, 4), subscriberCounts::get, this::recordPublish);
+    publishAll();
+
+    assertThat(publishTimes.keySet())
+        .containsExactly(sidecars.get(1), sidecars.get(2), sidecars.get(3), sidecars.get(0));
+  }
+
+  @Test
+  void shouldSpaceSidecarsByEstimatedUploadTime() {
+    scheduler.schedule(sidecars.subList(0, 3), sidecar -> MESH_DEGREE, this::recordPublish);
+
+    assertThat(publishTimes).containsOnlyKeys(sidecars.get(0));
+    assertThat(scheduler.getPendingPublishCount()).isEqualTo(2);
+
+    publishAll();
+
+    assertThat(publishTimes.values()).containsExactly(0L, 10L, 20L);
+  }
+
+  @Test
+  void shouldLimitUploadEstimateToMeshDegree() {
+    scheduler.schedule(sidecars.subList(0, 2), sidecar -> 100, this::recordPublish);
+    publishAll();
+
+    assertThat(publishTimes.values()).containsExactly(0L, UPLOAD_MILLIS_PER_SIDECAR);
+  }
+
+  @Test
+  void shouldPublishSidecarsWithoutSubscribersImmediately() {
+    scheduler.schedule(sidecars.subList(0, 3), sidecar -> 0, this::recordPublish);
+
+    assertThat(publishTimes.values()).containsExactly(0L, 0L, 0L);
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+  }
+
+  @Test
+  void shouldQueueLaterBatchesBehindEarlierOnes() {
+    scheduler.schedule(sidecars.subList(0, 2), sidecar -> MESH_DEGREE, this::recordPublish);
+    timeProvider.advanceTimeByMillis(5);
+    scheduler.schedule(sidecars.subList(2, 3), sidecar -> 0, this::recordPublish);
+
+    assertThat(publishTimes).containsOnlyKeys(sidecars.get(0));
+
+    publishAll();
+
+    assertThat(publishTimes.keySet())
+        .containsExactly(sidecars.get(0), sidecars.get(1), sidecars.get(2));
+    assertThat(publishTimes.values()).containsExactly(0L, 10L, 20L);
+  }
+
+  @Test
+  void shouldMakeAllColumnsAvailableSoonerThanPublishingAtOnce() {
+    final long reconstructionMillis = 20;
+
+    scheduler.schedule(sidecars, sidecar -> MESH_DEGREE, this::recordPublish);
+    publishAll();
+    final List<Long> pacedUploadTimes = simulateUplink(new ArrayList<>(publishTimes.values()));
+
+    publishTimes.clear();
+    DataColumnSidecarPublishScheduler.NOOP.schedule(
+        sidecars, sidecar -> MESH_DEGREE, this::recordPublish);
+    final List<Long> unpacedUploadTimes = simulateUplink(new ArrayList<>(publishTimes.values()));
+
+    // Every column shares the uplink so none of them is out until the end
+    assertThat(unpacedUploadTimes).containsOnly(sidecars.size() * UPLOAD_MILLIS_PER_SIDECAR);
+    // Once half the columns are out, peers can reconstruct the rest
+    final long pacedAvailableTime =
+        Math.min(
+            pacedUploadTimes.getLast(),
+            pacedUploadTimes.get(sidecars.size() / 2 - 1) + reconstructionMillis);
+    final long unpacedAvailableTime =
+        Math.min(
+            unpacedUploadTimes.getLast(),
+            unpacedUploadTimes.get(sidecars.size() / 2 - 1) + reconstructionMillis);
+
+    assertThat(pacedAvailableTime).isEqualTo(100);
+    assertThat(unpacedAvailableTime).isEqualTo(160);
+  }
+
+  private void recordPublish(final DataColumnSidecar sidecar) {
+    publishTimes.put(sidecar, timeProvider.getTimeInMillis().longValue());
+  }
+
+  private void publishAll() {
+    while (scheduler.getPendingPublishCount() > 0) {
+      timeProvider.advanceTimeByMillis(1);
+      asyncRunner.executeDueActions();
+    }
+  }
+
+  /**
+   * Simulates an uplink shared equally between all sidecars being uploaded, each of which takes
+   * {@link #UPLOAD_MILLIS_PER_SIDECAR} when uploaded on its own.
+   *
+   * @return the time each sidecar finishes uploading, in ascending order
+   */
+  private static List<Long> simulateUplink(final List<Long> publishTimes) {
+    final List<Long> arrivals = publishTimes.stream().sorted().toList();
+    final List<Double> remaining = new ArrayList<>();
+    final List<Long> completionTimes = new ArrayList<>();
+    double now = 0;
+    int nextArrival = 0;
+    while (nextArrival < arrivals.size() || !remaining.isEmpty()) {
+      if (remaining.isEmpty()) {
+        now = Math.max(now, arrivals.get(nextArrival));
+      }
+      while (nextArrival < arrivals.size() && arrivals.get(nextArrival) <= now) {
+        remaining.add((double) UPLOAD_MILLIS_PER_SIDECAR);
+        nextArrival++;
+      }
+      final double minRemaining = remaining.stream().min(Double::compare).orElseThrow();
+      final double untilCompletion = minRemaining * remaining.size();
+      final double untilArrival =
+          nextArrival < arrivals.size() ? arrivals.get(nextArrival) - now : Double.MAX_VALUE;
+      final double step = Math.min(untilCompletion, untilArrival);
+      final double progress = step / remaining.size();
+      now += step;
+      remaining.replaceAll(work -> work - progress);
+      final int before = remaining.size();
+      remaining.removeIf(work -> work <= 1e-9);
+      for (int i = remaining.size(); i < before; i++) {
+        completionTimes.add(Math.round(now));
+      }
+    }
+    return completionTimes;
+  }
+}
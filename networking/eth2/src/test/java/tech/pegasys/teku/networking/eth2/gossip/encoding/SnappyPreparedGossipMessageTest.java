@@ -19,9 +19,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +31,9 @@ import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding.ForkDigestToMilestone;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.SnappyPreparedGossipMessage.Uncompressor;
@@ -57,6 +62,8 @@ public class SnappyPreparedGossipMessageTest {
           Map.of(phase0ForkDigest, SpecMilestone.PHASE0, altairForkDigest, SpecMilestone.ALTAIR));
 
   final GossipEncoding gossipEncoding = GossipEncoding.SSZ_SNAPPY;
+  final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
   final Uncompressor validUncompressor = (bytes, bounds, maxLength) -> bytes;
   final Uncompressor invalidUncompressor =
       (bytes, bounds, maxLength) -> {
@@ -178,6 +185,127 @@ public class SnappyPreparedGossipMessageTest {
         .uncompress(eq(messageBytes), eq(schema.getSszLengthBounds()), eq(gossipMaxSize));
   }
 
+  @Test
+  public void create_withDecodeCache_shouldShareDecodedPayloadBetweenCopies()
+      throws DecodingException {
+    final GossipDecodeCache decodeCache = createDecodeCache();
+    final Uncompressor uncompressor = mock(Uncompressor.class);
+    when(uncompressor.uncompress(any(), any(), anyLong())).thenReturn(messageBytes);
+
+    final String topic = GossipTopics.getTopic(altairForkDigest, "test", gossipEncoding);
+    final SnappyPreparedGossipMessage message1 =
+        getCachedMessage(decodeCache, messageBytes, topic, uncompressor, UInt64.ONE);
+    final Bytes copiedBytes = Bytes.wrap(messageBytes.toArray());
+    final SnappyPreparedGossipMessage message2 =
+        getCachedMessage(decodeCache, copiedBytes, topic, uncompressor, UInt64.valueOf(2));
+
+    assertThat(message1.getMessageId()).isEqualTo(message2.getMessageId());
+    assertThat(message2.getDecodedMessage().getDecodedMessage()).contains(messageBytes);
+    assertThat(message1.getArrivalTimestamp()).contains(UInt64.ONE);
+    assertThat(message2.getArrivalTimestamp()).contains(UInt64.valueOf(2));
+    verify(uncompressor, times(1)).uncompress(any(), any(), anyLong());
+    assertThat(getMissCount()).isEqualTo(1);
+    assertThat(getHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void create_withDecodeCache_shouldNotSharePayloadOnceExpired() throws DecodingException {
+    final GossipDecodeCache decodeCache = createDecodeCache();
+    final Uncompressor uncompressor = mock(Uncompressor.class);
+    when(uncompressor.uncompress(any(), any(), anyLong())).thenReturn(messageBytes);
+
+    final String topic = GossipTopics.getTopic(altairForkDigest, "test", gossipEncoding);
+    final SnappyPreparedGossipMessage message1 =
+        getCachedMessage(decodeCache, messageBytes, topic, uncompressor, UInt64.ONE);
+    message1.getMessageId();
+    timeProvider.advanceTimeBy(Duration.ofSeconds(5));
+    final SnappyPreparedGossipMessage message2 =
+        getCachedMessage(decodeCache, messageBytes, topic, uncompressor, UInt64.ONE);
+    message2.getMessageId();
+
+    verify(uncompressor, times(2)).uncompress(any(), any(), anyLong());
+    assertThat(getMissCount()).isEqualTo(2);
+    assertThat(getHitCount()).isZero();
+    assertThat(decodeCache.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void create_withDecodeCache_shouldEvictOldestPayloadWhenFull() {
+    final GossipDecodeCache decodeCache =
+        new GossipDecodeCache(metricsSystem, timeProvider, 2, Duration.ofSeconds(5));
+    final String topic = GossipTopics.getTopic(altairForkDigest, "test", gossipEncoding);
+    final Bytes otherMessageBytes = Bytes.random(100);
+    getCachedMessage(decodeCache, messageBytes, topic, validUncompressor, UInt64.ONE);
+    getCachedMessage(decodeCache, otherMessageBytes, topic, validUncompressor, UInt64.ONE);
+    getCachedMessage(decodeCache, Bytes.random(100), topic, validUncompressor, UInt64.ONE);
+
+    getCachedMessage(decodeCache, otherMessageBytes, topic, validUncompressor, UInt64.ONE);
+    getCachedMessage(decodeCache, messageBytes, topic, validUncompressor, UInt64.ONE);
+
+    assertThat(getHitCount()).isEqualTo(1);
+    assertThat(getMissCount()).isEqualTo(4);
+    assertThat(decodeCache.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void create_withDecodeCache_shouldNotSharePayloadBetweenTopics() {
+    final GossipDecodeCache decodeCache = createDecodeCache();
+    final String topic1 = GossipTopics.getTopic(altairForkDigest, "test1", gossipEncoding);
+    final String topic2 = GossipTopics.getTopic(altairForkDigest, "test2", gossipEncoding);
+    final SnappyPreparedGossipMessage message1 =
+        getCachedMessage(decodeCache, messageBytes, topic1, validUncompressor, UInt64.ONE);
+    final SnappyPreparedGossipMessage message2 =
+        getCachedMessage(decodeCache, messageBytes, topic2, validUncompressor, UInt64.ONE);
+
+    assertThat(message1.getMessageId()).isNotEqualTo(message2.getMessageId());
+    assertThat(getMissCount()).isEqualTo(2);
+    assertThat(getHitCount()).isZero();
+  }
+
+  @Test
+  public void decodeValue_withDecodeCache_shouldReuseDecodedValue() throws DecodingException {
+    final GossipDecodeCache decodeCache = createDecodeCache();
+    final SszGossipCodec codec = new SszGossipCodec();
+    final String topic = GossipTopics.getTopic(altairForkDigest, "test", gossipEncoding);
+    final SnappyPreparedGossipMessage message1 =
+        getCachedMessage(decodeCache, messageBytes, topic, validUncompressor, UInt64.ONE);
+    final SnappyPreparedGossipMessage message2 =
+        getCachedMessage(decodeCache, messageBytes, topic, validUncompressor, UInt64.ONE);
+
+    assertThat(message2.decodeValue(schema, codec)).isSameAs(message1.decodeValue(schema, codec));
+  }
+
+  private GossipDecodeCache createDecodeCache() {
+    return GossipDecodeCache.create(metricsSystem, timeProvider);
+  }
+
+  private long getHitCount() {
+    return metricsSystem.getCounterValue(
+        TekuMetricCategory.NETWORK, "gossip_decode_cache_hits_total");
+  }
+
+  private long getMissCount() {
+    return metricsSystem.getCounterValue(
+        TekuMetricCategory.NETWORK, "gossip_decode_cache_misses_total");
+  }
+
+  private SnappyPreparedGossipMessage getCachedMessage(
+      final GossipDecodeCache decodeCache,
+      final Bytes rawMessage,
+      final String topic,
+      final Uncompressor uncompressor,
+      final UInt64 arrivalTimestamp) {
+    return SnappyPreparedGossipMessage.create(
+        decodeCache,
+        topic,
+        rawMessage,
+        forkDigestToMilestone,
+        schema,
+        uncompressor,
+        spec.getNetworkingConfig(),
+        Optional.of(arrivalTimestamp));
+  }
+
   private SnappyPreparedGossipMessage getPhase0Message(
       final Bytes rawMessage, final String topic, final Uncompressor uncompressor) {
     return SnappyPreparedGossipMessage.create(
@@ -24,6 +24,7 @@ import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.gossip.DataColumnSidecarPublishScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.ExecutionPayloadBidGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.ExecutionPayloadGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.PayloadAttestationMessageGossipManager;
@@ -104,6 +105,7 @@ public class GossipForkSubscriptionsGloasTest {
         DasGossipLogger.NOOP,
         noopOperationProcessor,
         false,
-        () -> false);
+        () -> false,
+        DataColumnSidecarPublishScheduler.NOOP);
   }
 }
@@ -30,6 +30,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,6 +38,7 @@ import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitvector;
 import tech.pegasys.teku.networking.eth2.SubnetSubscriptionService;
+import tech.pegasys.teku.networking.p2p.discovery.DiscoveryPeerQuery;
 import tech.pegasys.teku.networking.p2p.gossip.GossipNetwork;
 import tech.pegasys.teku.networking.p2p.mock.MockNodeId;
 import tech.pegasys.teku.networking.p2p.peer.NodeId;
@@ -190,6 +192,34 @@ class PeerSubnetSubscriptionsTest {
     assertThat(requiredPeers).isEqualTo(0);
   }
 
+  @Test
+  public void createDiscoveryPeerQuery_shouldIncludeSubnetsBelowTarget() {
+    syncnetSubscriptions.setSubscriptions(IntList.of(0, 1));
+    final Map<String, Collection<NodeId>> subscribersByTopic = new HashMap<>();
+    IntStream.range(0, spec.getNetworkingConfig().getAttestationSubnetCount())
+        .filter(subnetId -> subnetId != 3)
+        .forEach(
+            subnetId ->
+                subscribersByTopic.put(
+                    attestationTopicProvider.getTopicForSubnet(subnetId), Set.of(PEER1, PEER2)));
+    subscribersByTopic.put(
+        syncCommitteeTopicProvider.getTopicForSubnet(0), Set.of(PEER1, PEER2, PEER3));
+    subscribersByTopic.put(syncCommitteeTopicProvider.getTopicForSubnet(1), Set.of(PEER1));
+    when(gossipNetwork.getSubscribersByTopic()).thenReturn(subscribersByTopic);
+
+    assertThat(createPeerSubnetSubscriptions().createDiscoveryPeerQuery())
+        .contains(new DiscoveryPeerQuery(Set.of(3), Set.of(1), 0, TARGET_SUBSCRIBER_COUNT));
+  }
+
+  @Test
+  public void createDiscoveryPeerQuery_shouldBeEmptyWhenAllSubnetsHaveEnoughSubscribers() {
+    syncnetSubscriptions.setSubscriptions(IntList.of(0, 1));
+    withSubscriberCountForAllSubnets(TARGET_SUBSCRIBER_COUNT);
+
+    assertThat(createPeerSubnetSubscriptions().createDiscoveryPeerQuery())
+        .isEqualTo(Optional.empty());
+  }
+
   @Test
   public void isSyncCommitteeSubnetRelevant() {
     syncnetSubscriptions.setSubscriptions(IntList.of(1, 3));
@@ -0,0 +1,228 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.subnets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
+import tech.pegasys.teku.networking.eth2.SubnetSubscriptionService;
+import tech.pegasys.teku.networking.p2p.gossip.GossipNetwork;
+import tech.pegasys.teku.networking.p2p.mock.MockNodeId;
+import tech.pegasys.teku.networking.p2p.peer.NodeId;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+
+class PeerSubnetSubscriptionsTrackerTest {
+  private static final String ATTESTATION_SUBNET_TOPIC_PREFIX = "attestation_";
+  private static final String SYNC_COMMITTEE_SUBNET_TOPIC_PREFIX = "sync_committee_";
+  private static final String DATA_COLUMN_SIDECAR_SUBNET_TOPIC_PREFIX = "data_column_sidecar_";
+  private static final NodeId PEER1 = new MockNodeId(1);
+  private static final NodeId PEER2 = new MockNodeId(2);
+  private static final NodeId PEER3 = new MockNodeId(3);
+  private static final int TARGET_SUBSCRIBER_COUNT = 2;
+
+  private final Spec spec = TestSpecFactory.createMinimalFulu();
+  private final SettableLabelledGauge subnetPeerCountGauge = mock(SettableLabelledGauge.class);
+  private final GossipNetwork gossipNetwork = mock(GossipNetwork.class);
+  private final AttestationSubnetTopicProvider attestationTopicProvider =
+      mock(AttestationSubnetTopicProvider.class);
+  private final SyncCommitteeSubnetTopicProvider syncCommitteeTopicProvider =
+      mock(SyncCommitteeSubnetTopicProvider.class);
+  private final DataColumnSidecarSubnetTopicProvider dataColumnSidecarSubnetTopicProvider =
+      mock(DataColumnSidecarSubnetTopicProvider.class);
+  private final SubnetSubscriptionService syncnetSubscriptions = new SubnetSubscriptionService();
+  private final SubnetSubscriptionService dataColumnSubscriptions = new SubnetSubscriptionService();
+  private final Map<String, Collection<NodeId>> subscribersByTopic = new HashMap<>();
+
+  private final PeerSubnetSubscriptionsTracker tracker =
+      new PeerSubnetSubscriptionsTracker(
+          spec::getGenesisSpec,
+          NodeIdToDataColumnSidecarSubnetsCalculator.NOOP,
+          attestationTopicProvider,
+          syncCommitteeTopicProvider,
+          syncnetSubscriptions,
+          dataColumnSidecarSubnetTopicProvider,
+          dataColumnSubscriptions,
+          TARGET_SUBSCRIBER_COUNT,
+          subnetPeerCountGauge);
+
+  @BeforeEach
+  public void setUp() {
+    when(attestationTopicProvider.getTopicForSubnet(anyInt()))
+        .thenAnswer(invocation -> ATTESTATION_SUBNET_TOPIC_PREFIX + invocation.getArgument(0));
+    when(syncCommitteeTopicProvider.getTopicForSubnet(anyInt()))
+        .thenAnswer(invocation -> SYNC_COMMITTEE_SUBNET_TOPIC_PREFIX + invocation.getArgument(0));
+    when(dataColumnSidecarSubnetTopicProvider.getTopicForSubnet(anyInt()))
+        .thenAnswer(
+            invocation -> DATA_COLUMN_SIDECAR_SUBNET_TOPIC_PREFIX + invocation.getArgument(0));
+    when(gossipNetwork.getSubscribersByTopic()).thenAnswer(__ -> Map.copyOf(subscribersByTopic));
+    syncnetSubscriptions.setSubscriptions(IntList.of(0, 1));
+    dataColumnSubscriptions.setSubscriptions(IntList.of(2, 3));
+  }
+
+  @Test
+  void shouldMatchSubscriptionsCreatedFromScratch() {
+    subscribersByTopic.put(ATTESTATION_SUBNET_TOPIC_PREFIX + "0", Set.of(PEER1, PEER2, PEER3));
+    subscribersByTopic.put(ATTESTATION_SUBNET_TOPIC_PREFIX + "2", Set.of(PEER1, PEER3));
+    subscribersByTopic.put(SYNC_COMMITTEE_SUBNET_TOPIC_PREFIX + "1", Set.of(PEER2));
+    subscribersByTopic.put(DATA_COLUMN_SIDECAR_SUBNET_TOPIC_PREFIX + "3", Set.of(PEER1, PEER2));
+    subscribersByTopic.put("beacon_block", Set.of(PEER1, PEER2, PEER3));
+
+    assertMatchesSubscriptionsCreatedFromScratch(tracker.create(gossipNetwork));
+
+    // Change subscriptions and check the incremental update still matches
+    subscribersByTopic.put(ATTESTATION_SUBNET_TOPIC_PREFIX + "0", Set.of(PEER2));
+    subscribersByTopic.put(ATTESTATION_SUBNET_TOPIC_PREFIX + "5", Set.of(PEER1));
+    subscribersByTopic.remove(SYNC_COMMITTEE_SUBNET_TOPIC_PREFIX + "1");
+    subscribersByTopic.put(SYNC_COMMITTEE_SUBNET_TOPIC_PREFIX + "0", Set.of(PEER3));
+
+    assertMatchesSubscriptionsCreatedFromScratch(tracker.create(gossipNetwork));
+  }
+
+  @Test
+  void shouldReturnSameSnapshotWhenNothingChanged() {
+    subscribersByTopic.put(ATTESTATION_SUBNET_TOPIC_PREFIX + "0", Set.of(PEER1));
+
+    final PeerSubnetSubscriptions snapshot = tracker.create(gossipNetwork);
+
+    assertThat(tracker.create(gossipNetwork)).isSameAs(snapshot);
+  }
+
+  @Test
+  void shouldRemoveDisconnectedPeers() {
+    subscribersByTopic.put(ATTESTATION_SUBNET_TOPIC_PREFIX + "0", Set.of(PEER1, PEER2));
+    assertThat(tracker.create(gossipNetwork).getSubscriberCountForAttestationSubnet(0))
+        .isEqualTo(2);
+
+    subscribersByTopic.put(ATTESTATION_SUBNET_TOPIC_PREFIX + "0", Set.of(PEER2));
+    final PeerSubnetSubscriptions subscriptions = tracker.create(gossipNetwork);
+
+    assertThat(subscriptions.getSubscriberCountForAttestationSubnet(0)).isEqualTo(1);
+    assertThat(subscriptions.getAttestationSubnetSubscriptions(PEER1).getBitCount()).isZero();
+  }
+
+  @Test
+  void shouldCreateNewSnapshotWhenPeerMovesBetweenSubnetsWithSameCounts() {
+    subscribersByTopic.put(ATTESTATION_SUBNET_TOPIC_PREFIX + "0", Set.of(PEER1));
+    subscribersByTopic.put(ATTESTATION_SUBNET_TOPIC_PREFIX + "1", Set.of(PEER2));
+    tracker.create(gossipNetwork);
+
+    subscribersByTopic.put(ATTESTATION_SUBNET_TOPIC_PREFIX + "0", Set.of(PEER2));
+    subscribersByTopic.put(ATTESTATION_SUBNET_TOPIC_PREFIX + "1", Set.of(PEER1));
+    final PeerSubnetSubscriptions subscriptions = tracker.create(gossipNetwork);
+
+    assertThat(subscriptions.getAttestationSubnetSubscriptions(PEER1).getBit(1)).isTrue();
+    assertThat(subscriptions.getAttestationSubnetSubscriptions(PEER2).getBit(0)).isTrue();
+  }
+
+  @Test
+  void shouldUpdateRelevantSubnets() {
+    assertThat(tracker.create(gossipNetwork).isSyncCommitteeSubnetRelevant(2)).isFalse();
+
+    syncnetSubscriptions.addSubscription(2);
+
+    assertThat(tracker.create(gossipNetwork).isSyncCommitteeSubnetRelevant(2)).isTrue();
+  }
+
+  @Test
+  void shouldRebuildTopicIndexWhenForkDigestChanges() {
+    subscribersByTopic.put(ATTESTATION_SUBNET_TOPIC_PREFIX + "0", Set.of(PEER1));
+    tracker.create(gossipNetwork);
+
+    when(attestationTopicProvider.getTopicForSubnet(anyInt()))
+        .thenAnswer(
+            invocation -> "new_" + ATTESTATION_SUBNET_TOPIC_PREFIX + invocation.getArgument(0));
+    subscribersByTopic.put("new_" + ATTESTATION_SUBNET_TOPIC_PREFIX + "1", Set.of(PEER2));
+    final PeerSubnetSubscriptions subscriptions = tracker.create(gossipNetwork);
+
+    assertThat(subscriptions.getSubscriberCountForAttestationSubnet(0)).isZero();
+    assertThat(subscriptions.getSubscriberCountForAttestationSubnet(1)).isEqualTo(1);
+  }
+
+  @Test
+  void shouldOnlyUpdateMetricsForChangedSubnets() {
+    subscribersByTopic.put(ATTESTATION_SUBNET_TOPIC_PREFIX + "0", Set.of(PEER1));
+    tracker.create(gossipNetwork);
+    clearInvocations(subnetPeerCountGauge);
+
+    tracker.create(gossipNetwork);
+    verify(subnetPeerCountGauge, never()).set(anyDouble(), anyString());
+
+    subscribersByTopic.put(ATTESTATION_SUBNET_TOPIC_PREFIX + "4", Set.of(PEER1));
+    tracker.create(gossipNetwork);
+    verify(subnetPeerCountGauge).set(1, ATTESTATION_SUBNET_TOPIC_PREFIX + "4");
+    verify(subnetPeerCountGauge, never())
+        .set(anyDouble(), eq(ATTESTATION_SUBNET_TOPIC_PREFIX + "0"));
+  }
+
+  private void assertMatchesSubscriptionsCreatedFromScratch(
+      final PeerSubnetSubscriptions subscriptions) {
+    final PeerSubnetSubscriptions expected =
+        PeerSubnetSubscriptions.create(
+            spec.getGenesisSpec(),
+            NodeIdToDataColumnSidecarSubnetsCalculator.NOOP,
+            gossipNetwork,
+            attestationTopicProvider,
+            syncCommitteeTopicProvider,
+            syncnetSubscriptions,
+            dataColumnSidecarSubnetTopicProvider,
+            dataColumnSubscriptions,
+            TARGET_SUBSCRIBER_COUNT,
+            mock(SettableLabelledGauge.class));
+    IntStream.range(0, spec.getNetworkingConfig().getAttestationSubnetCount())
+        .forEach(
+            subnetId ->
+                assertThat(subscriptions.getSubscriberCountForAttestationSubnet(subnetId))
+                    .isEqualTo(expected.getSubscriberCountForAttestationSubnet(subnetId)));
+    IntStream.of(0, 1)
+        .forEach(
+            subnetId ->
+                assertThat(subscriptions.getSubscriberCountForSyncCommitteeSubnet(subnetId))
+                    .isEqualTo(expected.getSubscriberCountForSyncCommitteeSubnet(subnetId)));
+    IntStream.of(2, 3)
+        .forEach(
+            subnetId ->
+                assertThat(subscriptions.getSubscriberCountForDataColumnSidecarSubnet(subnetId))
+                    .isEqualTo(expected.getSubscriberCountForDataColumnSidecarSubnet(subnetId)));
+    for (NodeId peer : Set.of(PEER1, PEER2, PEER3)) {
+      assertThat(subscriptions.getAttestationSubnetSubscriptions(peer))
+          .isEqualTo(expected.getAttestationSubnetSubscriptions(peer));
+      assertThat(subscriptions.getSyncCommitteeSubscriptions(peer))
+          .isEqualTo(expected.getSyncCommitteeSubscriptions(peer));
+      assertThat(subscriptions.getDataColumnSidecarSubnetSubscriptions(peer))
+          .isEqualTo(expected.getDataColumnSidecarSubnetSubscriptions(peer));
+    }
+    assertThat(subscriptions.getSubscribersRequired())
+        .isEqualTo(expected.getSubscribersRequired());
+    assertThat(subscriptions.createScorer().scoreExistingPeer(PEER1))
+        .isEqualTo(expected.createScorer().scoreExistingPeer(PEER1));
+  }
+}
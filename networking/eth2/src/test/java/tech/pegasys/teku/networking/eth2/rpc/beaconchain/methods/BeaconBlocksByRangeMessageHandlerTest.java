@@ -42,10 +42,12 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.stream.AsyncStream;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.eth2.peers.RequestKey;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.BeaconChainMethodIds;
+import tech.pegasys.teku.networking.eth2.rpc.core.InboundRequestScheduler;
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
@@ -92,7 +94,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
   private final MetricsSystem metricsSystem = new NoOpMetricsSystem();
   private final String protocolId = BeaconChainMethodIds.getBlocksByRangeMethodId(2, RPC_ENCODING);
   private final BeaconBlocksByRangeMessageHandler handler =
-      new BeaconBlocksByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+      new BeaconBlocksByRangeMessageHandler(
+          spec, metricsSystem, combinedChainDataClient, InboundRequestScheduler.NOOP);
   private final Optional<RequestKey> maybeRequestKey = Optional.of(new RequestKey(ZERO, 0));
 
   @BeforeEach
@@ -117,7 +120,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
   public void validateRequest_altairSpec_v2RequestForPhase0Block() {
     final Spec spec = TestSpecFactory.createMinimalWithAltairForkEpoch(UInt64.valueOf(4));
     final BeaconBlocksByRangeMessageHandler handler =
-        new BeaconBlocksByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+        new BeaconBlocksByRangeMessageHandler(
+            spec, metricsSystem, combinedChainDataClient, InboundRequestScheduler.NOOP);
 
     final Optional<RpcException> result =
         handler.validateRequest(
@@ -130,7 +134,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
   public void validateRequest_altairSpec_v2RequestForAltairBlock() {
     final Spec spec = TestSpecFactory.createMinimalWithAltairForkEpoch(UInt64.valueOf(4));
     final BeaconBlocksByRangeMessageHandler handler =
-        new BeaconBlocksByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+        new BeaconBlocksByRangeMessageHandler(
+            spec, metricsSystem, combinedChainDataClient, InboundRequestScheduler.NOOP);
 
     final Optional<RpcException> result =
         handler.validateRequest(
@@ -143,7 +148,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
   public void validateRequest_altairSpec_v2RequestForRangeOfBlocksAcrossForkBoundary() {
     final Spec spec = TestSpecFactory.createMinimalWithAltairForkEpoch(UInt64.valueOf(4));
     final BeaconBlocksByRangeMessageHandler handler =
-        new BeaconBlocksByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+        new BeaconBlocksByRangeMessageHandler(
+            spec, metricsSystem, combinedChainDataClient, InboundRequestScheduler.NOOP);
 
     final Optional<RpcException> result =
         handler.validateRequest(
@@ -233,7 +239,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
     final Spec spec = TestSpecFactory.createMinimalWithDenebForkEpoch(ONE);
 
     final BeaconBlocksByRangeMessageHandler handler =
-        new BeaconBlocksByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+        new BeaconBlocksByRangeMessageHandler(
+            spec, metricsSystem, combinedChainDataClient, InboundRequestScheduler.NOOP);
 
     final SpecConfig config = spec.forMilestone(SpecMilestone.DENEB).getConfig();
     final SpecConfigDeneb specConfigDeneb = SpecConfigDeneb.required(config);
@@ -459,6 +466,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
 
     verifyBlocksReturned(1, 2, 3, 4, 5);
     verify(combinedChainDataClient, never()).getAncestorRoots(any(), any(), any());
+    verify(combinedChainDataClient).streamFinalizedBlocks(ONE, UInt64.valueOf(5));
+    verify(combinedChainDataClient, never()).getBlockAtSlotExact(any());
   }
 
   @Test
@@ -541,6 +550,20 @@ class BeaconBlocksByRangeMessageHandlerTest {
               when(combinedChainDataClient.getBlockAtSlotExact(block.getSlot())).thenReturn(result);
               when(combinedChainDataClient.isFinalized(block.getSlot())).thenReturn(true);
             });
+    when(combinedChainDataClient.streamFinalizedBlocks(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              final UInt64 startSlot = invocation.getArgument(0);
+              final UInt64 endSlot = invocation.getArgument(1);
+              return AsyncStream.createUnsafe(
+                  IntStream.of(slots)
+                      .mapToObj(blocks::get)
+                      .filter(
+                          block ->
+                              block.getSlot().isGreaterThanOrEqualTo(startSlot)
+                                  && block.getSlot().isLessThanOrEqualTo(endSlot))
+                      .iterator());
+            });
   }
 
   private void withCanonicalHeadBlock(final StateAndBlockSummary chainHead) {
@@ -48,6 +48,7 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.eth2.peers.RequestKey;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.BeaconChainMethodIds;
+import tech.pegasys.teku.networking.eth2.rpc.core.InboundRequestScheduler;
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
@@ -124,6 +125,7 @@ public class DataColumnSidecarsByRangeMessageHandlerTest {
             spec,
             metricsSystem,
             combinedChainDataClient,
+            InboundRequestScheduler.NOOP,
             dataColumnSidecarArchiveReconstructor,
             DasReqRespLogger.NOOP);
     final SchemaDefinitionsFulu schemaDefinitionsFulu =
@@ -49,6 +49,7 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.eth2.peers.RequestKey;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.BeaconChainMethodIds;
+import tech.pegasys.teku.networking.eth2.rpc.core.InboundRequestScheduler;
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
@@ -132,6 +133,7 @@ public class DataColumnSidecarsByRootMessageHandlerTest {
             metricsSystem,
             combinedChainDataClient,
             custodyGroupCountManagerSupplier,
+            InboundRequestScheduler.NOOP,
             dataColumnSidecarArchiveReconstructor,
             DasReqRespLogger.NOOP);
 
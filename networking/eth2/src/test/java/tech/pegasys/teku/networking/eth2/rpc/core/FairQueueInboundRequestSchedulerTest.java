@@ -0,0 +1,340 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.rpc.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+import static tech.pegasys.teku.networking.eth2.rpc.core.FairQueueInboundRequestScheduler.MAX_QUEUED_REQUESTS_PER_PEER;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue.QueueIsFullException;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszByteVector;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.p2p.mock.MockNodeId;
+import tech.pegasys.teku.networking.p2p.peer.PeerDisconnectedException;
+import tech.pegasys.teku.networking.p2p.peer.PeerDisconnectedSubscriber;
+
+class FairQueueInboundRequestSchedulerTest {
+  private static final String PROTOCOL_ID = "/eth2/beacon_chain/req/test/1/ssz_snappy";
+  private static final SszData SMALL_OBJECT = SszByteVector.fromBytes(Bytes.wrap(new byte[1024]));
+  private static final SszData LARGE_OBJECT =
+      SszByteVector.fromBytes(Bytes.wrap(new byte[256 * 1024]));
+
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(1000);
+
+  @SuppressWarnings("unchecked")
+  private final ResponseCallback<SszData> callback =
+      mock(ResponseCallback.class, withSettings().stubOnly());
+
+  private final Queue<TestRequest> startedRequests = new ArrayDeque<>();
+  private int completedRequests = 0;
+
+  @Test
+  void shouldStartRequestsImmediatelyWhenBelowConcurrencyLimit() {
+    final FairQueueInboundRequestScheduler scheduler = createScheduler(2);
+    final Eth2Peer peer = createPeer(1);
+
+    final TestRequest request1 = schedule(scheduler, peer, 1);
+    final TestRequest request2 = schedule(scheduler, peer, 1);
+
+    assertThat(startedRequests).containsExactly(request1, request2);
+    assertThat(scheduler.getInflightRequestCount()).isEqualTo(2);
+    assertThat(scheduler.getQueuedRequestCount()).isZero();
+  }
+
+  @Test
+  void shouldQueueRequestsOverConcurrencyLimitUntilCapacityIsAvailable() {
+    final FairQueueInboundRequestScheduler scheduler = createScheduler(1);
+    final Eth2Peer peer = createPeer(1);
+
+    final TestRequest request1 = schedule(scheduler, peer, 1);
+    final TestRequest request2 = schedule(scheduler, peer, 1);
+    assertThat(request2.isStarted()).isFalse();
+    assertThat(getGaugeValue("rpc_inbound_queued_requests")).isEqualTo(1);
+
+    completeNextRequest(1, SMALL_OBJECT);
+
+    assertThat(request1.result).isCompleted();
+    assertThat(request2.isStarted()).isTrue();
+    assertThat(getGaugeValue("rpc_inbound_queued_requests")).isZero();
+    assertThat(getGaugeValue("rpc_inbound_inflight_requests")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldServeLightPeerAheadOfHeavyPeersQueuedRequests() {
+    final FairQueueInboundRequestScheduler scheduler = createScheduler(1);
+    final Eth2Peer heavyPeer = createPeer(1);
+    final Eth2Peer lightPeer = createPeer(2);
+
+    final TestRequest heavyRequest1 = schedule(scheduler, heavyPeer, 64);
+    final TestRequest heavyRequest2 = schedule(scheduler, heavyPeer, 64);
+    schedule(scheduler, heavyPeer, 64);
+    final TestRequest lightRequest = schedule(scheduler, lightPeer, 1);
+
+    assertThat(startedRequests).containsExactly(heavyRequest1);
+    completeNextRequest(64, SMALL_OBJECT);
+
+    assertThat(startedRequests).containsExactly(lightRequest);
+    completeNextRequest(1, SMALL_OBJECT);
+
+    assertThat(startedRequests).containsExactly(heavyRequest2);
+  }
+
+  @Test
+  void shouldChargePeersForBytesActuallyServed() {
+    final FairQueueInboundRequestScheduler scheduler = createScheduler(1);
+    final Eth2Peer peerA = createPeer(1);
+    final Eth2Peer peerB = createPeer(2);
+    final Eth2Peer peerC = createPeer(3);
+
+    // Peer A requests a single object but it's far larger than estimated
+    schedule(scheduler, peerA, 1);
+    completeNextRequest(1, LARGE_OBJECT);
+
+    schedule(scheduler, peerC, 1);
+    final TestRequest requestA = schedule(scheduler, peerA, 1);
+    final TestRequest requestB1 = schedule(scheduler, peerB, 1);
+    final TestRequest requestB2 = schedule(scheduler, peerB, 1);
+    completeNextRequest(0, SMALL_OBJECT);
+
+    final List<TestRequest> startOrder = new ArrayList<>();
+    while (!startedRequests.isEmpty()) {
+      startOrder.add(startedRequests.element());
+      completeNextRequest(0, SMALL_OBJECT);
+    }
+    assertThat(startOrder).containsExactly(requestB1, requestB2, requestA);
+  }
+
+  @Test
+  void shouldKeepServingLightPeerPromptlyWhileHeavyPeersFloodRequests() {
+    final int maxConcurrentRequests = 4;
+    final int heavyRequestObjects = 128;
+    final int warmUpCompletions = 100;
+    final FairQueueInboundRequestScheduler scheduler = createScheduler(maxConcurrentRequests);
+    final List<Eth2Peer> heavyPeers = List.of(createPeer(1), createPeer(2), createPeer(3));
+    final Eth2Peer lightPeer = createPeer(4);
+    for (Eth2Peer heavyPeer : heavyPeers) {
+      for (int i = 0; i < MAX_QUEUED_REQUESTS_PER_PEER; i++) {
+        schedule(scheduler, heavyPeer, heavyRequestObjects);
+      }
+    }
+
+    final Map<Eth2Peer, Integer> heavyRequestsServedAfterWarmUp = new HashMap<>();
+    final List<Integer> lightRequestWaits = new ArrayList<>();
+    TestRequest lightRequest = null;
+    while (completedRequests < 500) {
+      if (lightRequest == null || lightRequest.result.isDone()) {
+        lightRequest = schedule(scheduler, lightPeer, 1);
+      }
+      final TestRequest next = startedRequests.element();
+      completeNextRequest(next.requestedObjects, SMALL_OBJECT);
+      if (next.peer == lightPeer) {
+        if (next.scheduledAt >= warmUpCompletions) {
+          lightRequestWaits.add(next.startedAt - next.scheduledAt);
+        }
+      } else {
+        assertThat(schedule(scheduler, next.peer, heavyRequestObjects).result)
+            .isNotCompletedExceptionally();
+        if (next.startedAt >= warmUpCompletions) {
+          heavyRequestsServedAfterWarmUp.merge(next.peer, 1, Integer::sum);
+        }
+      }
+    }
+
+    // The light peer only waits for the heavy requests already due ahead of it, never for the
+    // heavy peers' backlogs
+    assertThat(lightRequestWaits)
+        .hasSizeGreaterThan(50)
+        .allMatch(wait -> wait <= heavyPeers.size() + 1);
+    // Heavy peers making identical requests share the remaining capacity equally
+    final IntSummaryStatistics heavyCounts =
+        heavyRequestsServedAfterWarmUp.values().stream()
+            .mapToInt(Integer::intValue)
+            .summaryStatistics();
+    assertThat(heavyCounts.getCount()).isEqualTo(heavyPeers.size());
+    assertThat(heavyCounts.getMax() - heavyCounts.getMin()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void shouldRejectRequestsWhenPeerQueueIsFull() {
+    final FairQueueInboundRequestScheduler scheduler = createScheduler(1);
+    final Eth2Peer peer = createPeer(1);
+    final Eth2Peer otherPeer = createPeer(2);
+    schedule(scheduler, peer, 1);
+    for (int i = 0; i < MAX_QUEUED_REQUESTS_PER_PEER; i++) {
+      schedule(scheduler, peer, 1);
+    }
+
+    final TestRequest rejectedRequest = schedule(scheduler, peer, 1);
+    final TestRequest otherPeerRequest = schedule(scheduler, otherPeer, 1);
+
+    assertThatSafeFuture(rejectedRequest.result)
+        .isCompletedExceptionallyWith(QueueIsFullException.class);
+    assertThat(otherPeerRequest.result).isNotDone();
+    assertThat(
+            metricsSystem.getCounterValue(
+                TekuMetricCategory.NETWORK, "rpc_inbound_rejected_requests_total"))
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldFailQueuedRequestsWhenPeerDisconnects() {
+    final FairQueueInboundRequestScheduler scheduler = createScheduler(1);
+    final Eth2Peer peer = createPeer(1);
+    final Eth2Peer otherPeer = createPeer(2);
+    schedule(scheduler, otherPeer, 1);
+    final TestRequest queuedRequest = schedule(scheduler, peer, 1);
+
+    final ArgumentCaptor<PeerDisconnectedSubscriber> subscriber =
+        ArgumentCaptor.forClass(PeerDisconnectedSubscriber.class);
+    verify(peer).subscribeDisconnect(subscriber.capture());
+    subscriber.getValue().onDisconnected(Optional.empty(), false);
+
+    assertThatSafeFuture(queuedRequest.result)
+        .isCompletedExceptionallyWith(PeerDisconnectedException.class);
+    assertThat(scheduler.getQueuedRequestCount()).isZero();
+
+    completeNextRequest(1, SMALL_OBJECT);
+    assertThat(queuedRequest.isStarted()).isFalse();
+  }
+
+  @Test
+  void shouldRejectRequestsFromDisconnectedPeers() {
+    final FairQueueInboundRequestScheduler scheduler = createScheduler(1);
+    final Eth2Peer peer = createPeer(1);
+    when(peer.isConnected()).thenReturn(false);
+
+    final TestRequest request = schedule(scheduler, peer, 1);
+
+    assertThatSafeFuture(request.result)
+        .isCompletedExceptionallyWith(PeerDisconnectedException.class);
+    assertThat(request.isStarted()).isFalse();
+  }
+
+  @Test
+  void shouldReleaseCapacityWhenRequestFails() {
+    final FairQueueInboundRequestScheduler scheduler = createScheduler(1);
+    final Eth2Peer peer = createPeer(1);
+    final TestRequest request1 = schedule(scheduler, peer, 1);
+    final TestRequest request2 = schedule(scheduler, peer, 1);
+
+    startedRequests.remove().completion.completeExceptionally(new RuntimeException("Boom"));
+
+    assertThatSafeFuture(request1.result).isCompletedExceptionallyWith(RuntimeException.class);
+    assertThat(request2.isStarted()).isTrue();
+  }
+
+  @Test
+  void shouldCountServedBytes() {
+    final FairQueueInboundRequestScheduler scheduler = createScheduler(1);
+    final Eth2Peer peer = createPeer(1);
+    schedule(scheduler, peer, 3);
+
+    completeNextRequest(3, SMALL_OBJECT);
+
+    assertThat(
+            metricsSystem.getCounterValue(
+                TekuMetricCategory.NETWORK, "rpc_inbound_served_bytes_total"))
+        .isEqualTo(3 * 1024);
+  }
+
+  private FairQueueInboundRequestScheduler createScheduler(final int maxConcurrentRequests) {
+    return new FairQueueInboundRequestScheduler(
+        maxConcurrentRequests, metricsSystem, timeProvider);
+  }
+
+  private Eth2Peer createPeer(final int id) {
+    final Eth2Peer peer = mock(Eth2Peer.class);
+    when(peer.getId()).thenReturn(new MockNodeId(id));
+    when(peer.isConnected()).thenReturn(true);
+    return peer;
+  }
+
+  private double getGaugeValue(final String name) {
+    return metricsSystem.getGauge(TekuMetricCategory.NETWORK, name).getValue();
+  }
+
+  private TestRequest schedule(
+      final FairQueueInboundRequestScheduler scheduler,
+      final Eth2Peer peer,
+      final int requestedObjects) {
+    final TestRequest request = new TestRequest(peer, requestedObjects, completedRequests);
+    request.result =
+        scheduler.schedule(
+            PROTOCOL_ID,
+            peer,
+            requestedObjects,
+            callback,
+            scheduledCallback -> {
+              request.start(scheduledCallback, completedRequests);
+              startedRequests.add(request);
+              return request.completion;
+            });
+    return request;
+  }
+
+  private void completeNextRequest(final int objectsToServe, final SszData object) {
+    final TestRequest request = startedRequests.remove();
+    for (int i = 0; i < objectsToServe; i++) {
+      request.scheduledCallback.respond(object);
+    }
+    completedRequests++;
+    request.completion.complete(null);
+  }
+
+  private static class TestRequest {
+    private final Eth2Peer peer;
+    private final int requestedObjects;
+    private final int scheduledAt;
+    private final SafeFuture<Void> completion = new SafeFuture<>();
+    private SafeFuture<Void> result;
+    private ResponseCallback<SszData> scheduledCallback;
+    private int startedAt = -1;
+
+    private TestRequest(final Eth2Peer peer, final int requestedObjects, final int scheduledAt) {
+      this.peer = peer;
+      this.requestedObjects = requestedObjects;
+      this.scheduledAt = scheduledAt;
+    }
+
+    private void start(final ResponseCallback<SszData> scheduledCallback, final int startedAt) {
+      this.scheduledCallback = scheduledCallback;
+      this.startedAt = startedAt;
+    }
+
+    private boolean isStarted() {
+      return startedAt >= 0;
+    }
+  }
+}
@@ -19,6 +19,7 @@ import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.google.common.base.Supplier;
+import io.netty.channel.ChannelHandler;
 import java.net.BindException;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -51,7 +52,9 @@ import tech.pegasys.teku.infrastructure.subscribers.Subscribers;
 import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.network.p2p.jvmlibp2p.LinkConditioner;
 import tech.pegasys.teku.network.p2p.jvmlibp2p.PrivateKeyGenerator;
+import tech.pegasys.teku.networking.eth2.gossip.DataColumnSidecarPublishScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.config.GossipConfigurator;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
 import tech.pegasys.teku.networking.eth2.gossip.forks.GossipForkManager;
@@ -67,7 +70,7 @@ import tech.pegasys.teku.networking.eth2.gossip.forks.versions.GossipForkSubscri
 import tech.pegasys.teku.networking.eth2.gossip.subnets.AttestationSubnetTopicProvider;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.DataColumnSidecarSubnetTopicProvider;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.NodeIdToDataColumnSidecarSubnetsCalculator;
-import tech.pegasys.teku.networking.eth2.gossip.subnets.PeerSubnetSubscriptions;
+import tech.pegasys.teku.networking.eth2.gossip.subnets.PeerSubnetSubscriptionsTracker;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.SyncCommitteeSubnetTopicProvider;
 import tech.pegasys.teku.networking.eth2.gossip.topics.Eth2GossipTopicFilter;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
@@ -77,6 +80,7 @@ import tech.pegasys.teku.networking.eth2.peers.Eth2PeerManager;
 import tech.pegasys.teku.networking.eth2.peers.Eth2PeerSelectionStrategy;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.MetadataMessagesFactory;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.StatusMessageFactory;
+import tech.pegasys.teku.networking.eth2.rpc.core.InboundRequestScheduler;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
 import tech.pegasys.teku.networking.p2p.connection.PeerPools;
 import tech.pegasys.teku.networking.p2p.connection.TargetPeerRange;
@@ -88,6 +92,7 @@ import tech.pegasys.teku.networking.p2p.libp2p.gossip.GossipTopicFilter;
 import tech.pegasys.teku.networking.p2p.mock.MockDiscoveryNodeIdGenerator;
 import tech.pegasys.teku.networking.p2p.network.P2PNetwork;
 import tech.pegasys.teku.networking.p2p.network.PeerHandler;
+import tech.pegasys.teku.networking.p2p.network.config.NetworkConfig;
 import tech.pegasys.teku.networking.p2p.peer.NodeId;
 import tech.pegasys.teku.networking.p2p.reputation.DefaultReputationManager;
 import tech.pegasys.teku.networking.p2p.reputation.ReputationManager;
@@ -192,6 +197,9 @@ public class Eth2P2PNetworkFactory {
     protected Spec spec = TestSpecFactory.createMinimalPhase0();
     protected DebugDataDumper debugDataDumper;
     protected Supplier<Boolean> isSuperNodeSupplier;
+    protected Optional<LinkConditioner> linkConditioner = Optional.empty();
+    protected boolean pooledDirectBuffersEnabled =
+        NetworkConfig.DEFAULT_POOLED_DIRECT_BUFFERS_ENABLED;
 
     public Eth2P2PNetwork startNetwork() throws Exception {
       setDefaults();
@@ -267,6 +275,8 @@ public class Eth2P2PNetworkFactory {
       {
         // Setup eth2 handlers
         final TimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
+        final GossipEncoding gossipEncoding =
+            this.gossipEncoding.forNetwork(METRICS_SYSTEM, timeProvider);
         final SubnetSubscriptionService attestationSubnetService = new SubnetSubscriptionService();
         final SubnetSubscriptionService syncCommitteeSubnetService =
             new SubnetSubscriptionService();
@@ -343,7 +353,8 @@ public class Eth2P2PNetworkFactory {
                 spec,
                 __ -> Optional.of(discoveryNodeId),
                 DataColumnSidecarArchiveReconstructor.NOOP,
-                DasReqRespLogger.NOOP);
+                DasReqRespLogger.NOOP,
+                InboundRequestScheduler.NOOP);
 
         List<RpcMethod<?, ?, ?>> rpcMethods =
             eth2PeerManager.getBeaconChainMethods().all().stream()
@@ -407,24 +418,24 @@ public class Eth2P2PNetworkFactory {
                                 recentChainData::getMilestoneByForkDigest))
                         .gossipTopicFilter(gossipTopicsFilter)
                         .timeProvider(timeProvider)
+                        .beforeSecureHandlers(
+                            linkConditioner.<ChannelHandler>map(List::of).orElse(List.of()))
                         .build())
                 .peerPools(peerPools)
                 .peerSelectionStrategy(
                     new Eth2PeerSelectionStrategy(
                         targetPeerRange,
-                        gossipNetwork ->
-                            PeerSubnetSubscriptions.create(
-                                currentSpecVersionSupplier.get(),
-                                NodeIdToDataColumnSidecarSubnetsCalculator.create(
-                                    spec, currentSlotSupplier),
-                                gossipNetwork,
-                                attestationSubnetTopicProvider,
-                                syncCommitteeTopicProvider,
-                                syncCommitteeSubnetService,
-                                dataColumnSidecarSubnetTopicProvider,
-                                dataColumnSidecarSubnetService,
-                                config.getTargetSubnetSubscriberCount(),
-                                subnetPeerCountGauge),
+                        new PeerSubnetSubscriptionsTracker(
+                            currentSpecVersionSupplier,
+                            NodeIdToDataColumnSidecarSubnetsCalculator.create(
+                                spec, currentSlotSupplier),
+                            attestationSubnetTopicProvider,
+                            syncCommitteeTopicProvider,
+                            syncCommitteeSubnetService,
+                            dataColumnSidecarSubnetTopicProvider,
+                            dataColumnSidecarSubnetService,
+                            config.getTargetSubnetSubscriberCount(),
+                            subnetPeerCountGauge),
                         reputationManager,
                         Collections::shuffle))
                 .discoveryConfig(config.getDiscoveryConfig())
@@ -609,7 +620,8 @@ public class Eth2P2PNetworkFactory {
                 DasGossipLogger.NOOP,
                 executionProofOperationProcessor,
                 p2PConfig.isExecutionProofTopicEnabled(),
-                isSuperNodeSupplier);
+                isSuperNodeSupplier,
+                DataColumnSidecarPublishScheduler.NOOP);
         case GLOAS, HEZE ->
             new GossipForkSubscriptionsGloas(
                 forkAndSpecMilestone.getFork(),
@@ -638,7 +650,8 @@ public class Eth2P2PNetworkFactory {
                 DasGossipLogger.NOOP,
                 executionProofOperationProcessor,
                 p2PConfig.isExecutionProofTopicEnabled(),
-                isSuperNodeSupplier);
+                isSuperNodeSupplier,
+                DataColumnSidecarPublishScheduler.NOOP);
       };
     }
 
@@ -656,6 +669,7 @@ public class Eth2P2PNetworkFactory {
               b ->
                   b.listenPort(port)
                       .networkInterface("127.0.0.1")
+                      .pooledDirectBuffersEnabled(pooledDirectBuffersEnabled)
                       .wireLogs(w -> w.logWireMuxFrames(true)))
           .discovery(
               d ->
@@ -974,6 +988,18 @@ public class Eth2P2PNetworkFactory {
       return this;
     }
 
+    public Eth2P2PNetworkBuilder linkConditioner(final LinkConditioner linkConditioner) {
+      checkNotNull(linkConditioner);
+      this.linkConditioner = Optional.of(linkConditioner);
+      return this;
+    }
+
+    public Eth2P2PNetworkBuilder pooledDirectBuffersEnabled(
+        final boolean pooledDirectBuffersEnabled) {
+      this.pooledDirectBuffersEnabled = pooledDirectBuffersEnabled;
+      return this;
+    }
+
     public Eth2P2PNetworkBuilder isSuperNodeSupplier(final Supplier<Boolean> isSuperNodeSupplier) {
       checkNotNull(isSuperNodeSupplier);
       this.isSuperNodeSupplier = isSuperNodeSupplier;
@@ -144,13 +144,23 @@ public class ConnectionManager extends Service {
             network,
             peerPools,
             () ->
-                Stream.concat(
-                        additionalPeersToConsider.stream(), discoveryService.streamKnownPeers())
+                Stream.of(
+                        additionalPeersToConsider.stream(),
+                        findCachedPeers(),
+                        discoveryService.streamKnownPeers())
+                    .flatMap(peers -> peers)
                     .filter(this::isPeerValid)
                     .collect(Collectors.toSet()))
         .forEach(this::attemptConnection);
   }
 
+  private Stream<DiscoveryPeer> findCachedPeers() {
+    return peerSelectionStrategy
+        .createCachedPeerQuery(network)
+        .map(discoveryService::findCachedPeers)
+        .orElseGet(Stream::empty);
+  }
+
   private SafeFuture<Void> searchForPeers() {
     if (!isRunning()) {
       LOG.trace("Not running so not searching for peers");
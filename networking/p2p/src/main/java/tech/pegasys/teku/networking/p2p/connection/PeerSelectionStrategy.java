@@ -15,8 +15,10 @@ package tech.pegasys.teku.networking.p2p.connection;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryPeer;
+import tech.pegasys.teku.networking.p2p.discovery.DiscoveryPeerQuery;
 import tech.pegasys.teku.networking.p2p.network.P2PNetwork;
 import tech.pegasys.teku.networking.p2p.network.PeerAddress;
 import tech.pegasys.teku.networking.p2p.peer.Peer;
@@ -28,4 +30,12 @@ public interface PeerSelectionStrategy {
       Supplier<? extends Collection<DiscoveryPeer>> candidates);
 
   List<Peer> selectPeersToDisconnect(P2PNetwork<?> network, PeerPools peerPools);
+
+  /**
+   * Describes the peers currently needed so they can be looked up in the discovery cache before
+   * waiting for the next search to complete.
+   */
+  default Optional<DiscoveryPeerQuery> createCachedPeerQuery(final P2PNetwork<?> network) {
+    return Optional.empty();
+  }
 }
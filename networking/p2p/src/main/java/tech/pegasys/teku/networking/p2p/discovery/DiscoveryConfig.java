@@ -34,6 +34,7 @@ public class DiscoveryConfig {
   public static final int DEFAULT_P2P_PEERS_UPPER_BOUND_ALL_SUBNETS = 80;
   public static final int DEFAULT_RANDOMLY_SELECTED_PEER_COUNT_PERCENTAGE = 30;
   public static final boolean DEFAULT_SITE_LOCAL_ADDRESSES_ENABLED = false;
+  public static final int DEFAULT_ENR_CACHE_SIZE = 0;
 
   private final boolean isDiscoveryEnabled;
   private final int listenUdpPort;
@@ -46,6 +47,7 @@ public class DiscoveryConfig {
   private final int maxPeers;
   private final int minRandomlySelectedPeers;
   private final boolean siteLocalAddressesEnabled;
+  private final int enrCacheSize;
 
   private DiscoveryConfig(
       final boolean isDiscoveryEnabled,
@@ -58,7 +60,8 @@ public class DiscoveryConfig {
       final int minPeers,
       final int maxPeers,
       final int minRandomlySelectedPeers,
-      final boolean siteLocalAddressesEnabled) {
+      final boolean siteLocalAddressesEnabled,
+      final int enrCacheSize) {
     this.isDiscoveryEnabled = isDiscoveryEnabled;
     this.listenUdpPort = listenUdpPort;
     this.listenUpdPortIpv6 = listenUpdPortIpv6;
@@ -70,6 +73,7 @@ public class DiscoveryConfig {
     this.maxPeers = maxPeers;
     this.minRandomlySelectedPeers = minRandomlySelectedPeers;
     this.siteLocalAddressesEnabled = siteLocalAddressesEnabled;
+    this.enrCacheSize = enrCacheSize;
 
     LOG.debug("Peer limits - Minimum {}, Maximum {}", minPeers, maxPeers);
   }
@@ -122,6 +126,11 @@ public class DiscoveryConfig {
     return siteLocalAddressesEnabled;
   }
 
+  /** The maximum number of discovered node records to cache, or 0 to disable the cache. */
+  public int getEnrCacheSize() {
+    return enrCacheSize;
+  }
+
   public static class Builder {
     private Boolean isDiscoveryEnabled = DEFAULT_P2P_DISCOVERY_ENABLED;
     private List<String> staticPeers = Collections.emptyList();
@@ -134,6 +143,7 @@ public class DiscoveryConfig {
     private OptionalInt advertisedUdpPort = OptionalInt.empty();
     private OptionalInt advertisedUdpPortIpv6 = OptionalInt.empty();
     private boolean siteLocalAddressesEnabled = DEFAULT_SITE_LOCAL_ADDRESSES_ENABLED;
+    private int enrCacheSize = DEFAULT_ENR_CACHE_SIZE;
 
     private Builder() {}
 
@@ -152,7 +162,8 @@ public class DiscoveryConfig {
           minPeers.orElse(DEFAULT_P2P_PEERS_LOWER_BOUND),
           maxPeers.orElse(DEFAULT_P2P_PEERS_UPPER_BOUND),
           minRandomlySelectedPeers.orElseThrow(),
-          siteLocalAddressesEnabled);
+          siteLocalAddressesEnabled,
+          enrCacheSize);
     }
 
     private void initMissingDefaults() {
@@ -335,6 +346,16 @@ public class DiscoveryConfig {
       return this;
     }
 
+    public Builder enrCacheSize(final Integer enrCacheSize) {
+      checkNotNull(enrCacheSize);
+      if (enrCacheSize < 0) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid enrCacheSize: %d", enrCacheSize));
+      }
+      this.enrCacheSize = enrCacheSize;
+      return this;
+    }
+
     private void validatePort(final int port, final String cliOption) {
       if (!PortAvailability.isPortValid(port)) {
         throw new InvalidConfigurationException(String.format("Invalid %s: %d", cliOption, port));
@@ -116,6 +116,7 @@ public class DiscoveryNetworkBuilder {
           new DiscV5Service(
               metricsSystem,
               asyncRunner,
+              timeProvider,
               discoveryConfig,
               p2pConfig,
               kvStore,
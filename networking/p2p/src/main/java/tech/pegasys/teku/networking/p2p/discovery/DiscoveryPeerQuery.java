@@ -0,0 +1,48 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.p2p.discovery;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Set;
+
+/**
+ * Describes the subnets which need more peers so candidates can be looked up from previously seen
+ * node records instead of waiting for random discovery searches to find them.
+ *
+ * @param attestationSubnets attestation subnets which need more peers
+ * @param syncCommitteeSubnets sync committee subnets which need more peers
+ * @param dataColumnCustodians number of peers with the highest custody group counts to include,
+ *     used when data column sidecar subnets need more peers
+ * @param peersPerSubnet maximum number of candidates to return for each subnet
+ */
+public record DiscoveryPeerQuery(
+    Set<Integer> attestationSubnets,
+    Set<Integer> syncCommitteeSubnets,
+    int dataColumnCustodians,
+    int peersPerSubnet) {
+
+  public DiscoveryPeerQuery {
+    checkArgument(dataColumnCustodians >= 0, "Data column custodians must not be negative");
+    checkArgument(peersPerSubnet > 0, "Peers per subnet must be positive");
+    attestationSubnets = Set.copyOf(attestationSubnets);
+    syncCommitteeSubnets = Set.copyOf(syncCommitteeSubnets);
+  }
+
+  public boolean isEmpty() {
+    return attestationSubnets.isEmpty()
+        && syncCommitteeSubnets.isEmpty()
+        && dataColumnCustodians == 0;
+  }
+}
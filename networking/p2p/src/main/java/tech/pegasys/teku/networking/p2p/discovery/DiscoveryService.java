@@ -34,6 +34,14 @@ public interface DiscoveryService {
 
   SafeFuture<Collection<DiscoveryPeer>> searchForPeers();
 
+  /**
+   * Returns previously discovered peers matching {@code query} without performing a new search.
+   * Implementations that do not cache peers return an empty stream.
+   */
+  default Stream<DiscoveryPeer> findCachedPeers(final DiscoveryPeerQuery query) {
+    return Stream.empty();
+  }
+
   Optional<String> getEnr();
 
   Optional<Bytes> getNodeId();
@@ -14,6 +14,7 @@
 package tech.pegasys.teku.networking.p2p.discovery.discv5;
 
 import static java.util.Collections.emptyList;
+import static tech.pegasys.teku.networking.p2p.discovery.DiscoveryNetwork.ETH2_ENR_FIELD;
 
 import com.google.common.base.Preconditions;
 import java.net.InetSocketAddress;
@@ -42,15 +43,19 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.Cancellable;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.infrastructure.io.IPVersionResolver;
 import tech.pegasys.teku.infrastructure.io.IPVersionResolver.IPVersion;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryConfig;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryPeer;
+import tech.pegasys.teku.networking.p2p.discovery.DiscoveryPeerQuery;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryService;
 import tech.pegasys.teku.networking.p2p.libp2p.MultiaddrUtil;
 import tech.pegasys.teku.networking.p2p.network.config.NetworkConfig;
 import tech.pegasys.teku.service.serviceutils.Service;
+import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.EnrForkId;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitions;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitionsSupplier;
 import tech.pegasys.teku.storage.store.KeyValueStore;
@@ -58,7 +63,14 @@ import tech.pegasys.teku.storage.store.KeyValueStore;
 public class DiscV5Service extends Service implements DiscoveryService {
   private static final Logger LOG = LogManager.getLogger();
   private static final String SEQ_NO_STORE_KEY = "local-enr-seqno";
+  private static final String ENR_CACHE_STORE_KEY = "enr-cache";
   private static final Duration BOOTNODE_REFRESH_DELAY = Duration.ofMinutes(2);
+  // Cached records not seen for this long are no longer returned as candidates
+  private static final Duration CACHED_PEER_MAX_AGE = Duration.ofHours(1);
+  // Cached records not seen for this long are pinged to check they are still live
+  private static final Duration CACHED_PEER_REVALIDATE_AFTER = Duration.ofMinutes(10);
+  private static final Duration CACHED_PEER_REVALIDATION_INTERVAL = Duration.ofSeconds(30);
+  private static final int CACHED_PEER_REVALIDATION_BATCH_SIZE = 16;
   public static final NodeRecordConverter DEFAULT_NODE_RECORD_CONVERTER = new NodeRecordConverter();
 
   public static DiscoverySystemBuilder createDefaultDiscoverySystemBuilder() {
@@ -66,6 +78,7 @@ public class DiscV5Service extends Service implements DiscoveryService {
   }
 
   private final AsyncRunner asyncRunner;
+  private final TimeProvider timeProvider;
   private final Signer localNodeSigner;
   private final SchemaDefinitionsSupplier currentSchemaDefinitionsSupplier;
   private final NodeRecordConverter nodeRecordConverter;
@@ -74,11 +87,14 @@ public class DiscV5Service extends Service implements DiscoveryService {
   private final KeyValueStore<String, Bytes> kvStore;
   private final boolean supportsIpv6;
   private final List<NodeRecord> bootnodes;
+  private final Optional<EnrCache> enrCache;
   private volatile Cancellable bootnodeRefreshTask;
+  private volatile Cancellable enrCacheRevalidationTask;
 
   public DiscV5Service(
       final MetricsSystem metricsSystem,
       final AsyncRunner asyncRunner,
+      final TimeProvider timeProvider,
       final DiscoveryConfig discoConfig,
       final NetworkConfig p2pConfig,
       final KeyValueStore<String, Bytes> kvStore,
@@ -87,6 +103,7 @@ public class DiscV5Service extends Service implements DiscoveryService {
       final DiscoverySystemBuilder discoverySystemBuilder,
       final NodeRecordConverter nodeRecordConverter) {
     this.asyncRunner = asyncRunner;
+    this.timeProvider = timeProvider;
     this.localNodeSigner = new DefaultSigner(SecretKeyParser.fromLibP2pPrivKey(privateKey));
     this.currentSchemaDefinitionsSupplier = currentSchemaDefinitionsSupplier;
     this.nodeRecordConverter = nodeRecordConverter;
@@ -175,11 +192,22 @@ public class DiscV5Service extends Service implements DiscoveryService {
                     : address -> !address.getAddress().isSiteLocalAddress())
             .build();
     this.kvStore = kvStore;
+    this.enrCache =
+        discoConfig.getEnrCacheSize() > 0
+            ? Optional.of(new EnrCache(discoConfig.getEnrCacheSize()))
+            : Optional.empty();
     metricsSystem.createIntegerGauge(
         TekuMetricCategory.DISCOVERY,
         "live_nodes_current",
         "Current number of live nodes tracked by the discovery system",
         () -> discoverySystem.getBucketStats().getTotalLiveNodeCount());
+    enrCache.ifPresent(
+        cache ->
+            metricsSystem.createIntegerGauge(
+                TekuMetricCategory.DISCOVERY,
+                "enr_cache_size",
+                "Current number of node records held in the discovery ENR cache",
+                cache::size));
   }
 
   private NewAddressHandler maybeUpdateNodeRecord(final NetworkConfig p2pConfig) {
@@ -224,14 +252,56 @@ public class DiscV5Service extends Service implements DiscoveryService {
 
   @Override
   protected SafeFuture<?> doStart() {
+    enrCache.ifPresent(this::loadEnrCache);
     return SafeFuture.of(discoverySystem.start())
         .thenRun(
-            () ->
-                this.bootnodeRefreshTask =
-                    asyncRunner.runWithFixedDelay(
-                        this::pingBootnodes,
-                        BOOTNODE_REFRESH_DELAY,
-                        error -> LOG.error("Failed to contact discovery bootnodes", error)));
+            () -> {
+              this.bootnodeRefreshTask =
+                  asyncRunner.runWithFixedDelay(
+                      this::pingBootnodes,
+                      BOOTNODE_REFRESH_DELAY,
+                      error -> LOG.error("Failed to contact discovery bootnodes", error));
+              enrCache.ifPresent(
+                  cache ->
+                      this.enrCacheRevalidationTask =
+                          asyncRunner.runWithFixedDelay(
+                              () -> revalidateCachedRecords(cache),
+                              CACHED_PEER_REVALIDATION_INTERVAL,
+                              error -> LOG.debug("Failed to revalidate cached records", error)));
+            });
+  }
+
+  private void loadEnrCache(final EnrCache cache) {
+    final SchemaDefinitions schemaDefinitions =
+        currentSchemaDefinitionsSupplier.getSchemaDefinitions();
+    // Loaded records haven't been seen by this process yet so are due for revalidation
+    final long lastSeenMillis =
+        timeProvider.getTimeInMillis().longValue() - CACHED_PEER_REVALIDATE_AFTER.toMillis();
+    kvStore
+        .get(ENR_CACHE_STORE_KEY)
+        .map(EnrCache::deserialize)
+        .orElse(emptyList())
+        .forEach(
+            record ->
+                nodeRecordConverter
+                    .convertToDiscoveryPeer(record, supportsIpv6, schemaDefinitions)
+                    .ifPresent(peer -> cache.add(record, peer, lastSeenMillis)));
+    LOG.debug("Loaded {} node records into the discovery ENR cache", cache.size());
+  }
+
+  private void revalidateCachedRecords(final EnrCache cache) {
+    final long now = timeProvider.getTimeInMillis().longValue();
+    cache
+        .getRecordsLastSeenBefore(
+            now - CACHED_PEER_REVALIDATE_AFTER.toMillis(), CACHED_PEER_REVALIDATION_BATCH_SIZE)
+        .forEach(
+            record ->
+                SafeFuture.of(discoverySystem.ping(record))
+                    .finish(
+                        __ ->
+                            cache.markSeen(
+                                record.getNodeId(), timeProvider.getTimeInMillis().longValue()),
+                        error -> cache.remove(record.getNodeId())));
   }
 
   private void pingBootnodes() {
@@ -248,6 +318,13 @@ public class DiscV5Service extends Service implements DiscoveryService {
     if (refreshTask != null) {
       refreshTask.cancel();
     }
+    final Cancellable revalidationTask = this.enrCacheRevalidationTask;
+    this.enrCacheRevalidationTask = null;
+    if (revalidationTask != null) {
+      revalidationTask.cancel();
+    }
+    enrCache.ifPresent(
+        cache -> kvStore.put(ENR_CACHE_STORE_KEY, EnrCache.serialize(cache.getRecords())));
     discoverySystem.stop();
     return SafeFuture.completedFuture(null);
   }
@@ -256,14 +333,45 @@ public class DiscV5Service extends Service implements DiscoveryService {
   public Stream<DiscoveryPeer> streamKnownPeers() {
     final SchemaDefinitions schemaDefinitions =
         currentSchemaDefinitionsSupplier.getSchemaDefinitions();
+    final long now = timeProvider.getTimeInMillis().longValue();
     return activeNodes()
         .flatMap(
             node ->
                 nodeRecordConverter
                     .convertToDiscoveryPeer(node, supportsIpv6, schemaDefinitions)
+                    .map(
+                        peer -> {
+                          enrCache.ifPresent(cache -> cache.add(node, peer, now));
+                          return peer;
+                        })
                     .stream());
   }
 
+  @Override
+  public Stream<DiscoveryPeer> findCachedPeers(final DiscoveryPeerQuery query) {
+    return enrCache.stream()
+        .flatMap(
+            cache ->
+                cache
+                    .findPeers(
+                        query,
+                        getLocalForkDigest(),
+                        timeProvider.getTimeInMillis().longValue()
+                            - CACHED_PEER_MAX_AGE.toMillis())
+                    .stream());
+  }
+
+  private Optional<Bytes4> getLocalForkDigest() {
+    try {
+      return Optional.ofNullable((Bytes) discoverySystem.getLocalNodeRecord().get(ETH2_ENR_FIELD))
+          .map(EnrForkId.SSZ_SCHEMA::sszDeserialize)
+          .map(EnrForkId::getForkDigest);
+    } catch (final Exception e) {
+      LOG.debug("Failed to parse local ENR fork id", e);
+      return Optional.empty();
+    }
+  }
+
   @Override
   public SafeFuture<Collection<DiscoveryPeer>> searchForPeers() {
     return SafeFuture.of(discoverySystem.searchForNewPeers())
@@ -0,0 +1,286 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.p2p.discovery.discv5;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.ethereum.beacon.discovery.schema.NodeRecord;
+import org.ethereum.beacon.discovery.schema.NodeRecordFactory;
+import tech.pegasys.teku.infrastructure.bytes.Bytes4;
+import tech.pegasys.teku.networking.p2p.discovery.DiscoveryPeer;
+import tech.pegasys.teku.networking.p2p.discovery.DiscoveryPeerQuery;
+import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.EnrForkId;
+
+/**
+ * A bounded cache of every node record seen by discovery, indexed so that peers advertising a
+ * particular subnet can be found without another discovery search.
+ *
+ * <p>Each record is assigned a slot and every index is a {@link BitSet} of slots: one per
+ * attestation subnet, one per sync committee subnet, one per custody group count, one per fork
+ * digest and one per minute in which records were last seen. Lookups intersect and iterate those
+ * bitsets rather than scanning every record. When full, the least recently seen record is evicted.
+ */
+class EnrCache {
+  private static final Logger LOG = LogManager.getLogger();
+  static final long LAST_SEEN_BUCKET_MILLIS = 60_000;
+
+  private final int maxSize;
+  private final Entry[] entries;
+  private final BitSet occupiedSlots = new BitSet();
+  private final Map<Bytes, Integer> slotsByNodeId = new HashMap<>();
+  private final List<BitSet> attestationSubnetIndex = new ArrayList<>();
+  private final List<BitSet> syncCommitteeSubnetIndex = new ArrayList<>();
+  private final NavigableMap<Integer, BitSet> custodyGroupCountIndex = new TreeMap<>();
+  private final Map<Bytes4, BitSet> forkDigestIndex = new HashMap<>();
+  private final NavigableMap<Long, BitSet> lastSeenIndex = new TreeMap<>();
+
+  EnrCache(final int maxSize) {
+    checkArgument(maxSize > 0, "Max size must be positive");
+    this.maxSize = maxSize;
+    this.entries = new Entry[maxSize];
+  }
+
+  /**
+   * Adds or updates a record. If a record with the same or a higher sequence number is already
+   * cached, only the time it was last seen is updated and the indices are left untouched.
+   */
+  synchronized void add(final NodeRecord record, final DiscoveryPeer peer, final long nowMillis) {
+    final Integer existingSlot = slotsByNodeId.get(peer.getNodeId());
+    if (existingSlot != null) {
+      final Entry existing = entries[existingSlot];
+      if (existing.record().getSeq().compareTo(record.getSeq()) >= 0) {
+        updateLastSeen(existingSlot, nowMillis);
+        return;
+      }
+      removeSlot(existingSlot);
+    } else if (slotsByNodeId.size() >= maxSize) {
+      removeSlot(lastSeenIndex.firstEntry().getValue().nextSetBit(0));
+    }
+    final int slot = occupiedSlots.nextClearBit(0);
+    final Entry entry = new Entry(record, peer, bucket(nowMillis));
+    entries[slot] = entry;
+    occupiedSlots.set(slot);
+    slotsByNodeId.put(peer.getNodeId(), slot);
+    index(slot, entry);
+  }
+
+  /** Records that the node was found to be live without its record changing. */
+  synchronized void markSeen(final Bytes nodeId, final long nowMillis) {
+    final Integer slot = slotsByNodeId.get(nodeId);
+    if (slot != null) {
+      updateLastSeen(slot, nowMillis);
+    }
+  }
+
+  synchronized void remove(final Bytes nodeId) {
+    final Integer slot = slotsByNodeId.get(nodeId);
+    if (slot != null) {
+      removeSlot(slot);
+    }
+  }
+
+  synchronized int size() {
+    return slotsByNodeId.size();
+  }
+
+  /**
+   * Finds peers for the subnets in {@code query} among records last seen no earlier than {@code
+   * seenSinceMillis} and, if present, advertising {@code forkDigest}.
+   */
+  synchronized List<DiscoveryPeer> findPeers(
+      final DiscoveryPeerQuery query,
+      final Optional<Bytes4> forkDigest,
+      final long seenSinceMillis) {
+    final BitSet eligible = new BitSet();
+    lastSeenIndex.tailMap(bucket(seenSinceMillis), true).values().forEach(eligible::or);
+    forkDigest.ifPresent(
+        digest -> eligible.and(forkDigestIndex.getOrDefault(digest, new BitSet())));
+
+    final Set<Integer> selectedSlots = new LinkedHashSet<>();
+    query
+        .attestationSubnets()
+        .forEach(
+            subnet ->
+                selectSlots(
+                    getSubnetIndex(attestationSubnetIndex, subnet),
+                    eligible,
+                    query.peersPerSubnet(),
+                    selectedSlots::add));
+    query
+        .syncCommitteeSubnets()
+        .forEach(
+            subnet ->
+                selectSlots(
+                    getSubnetIndex(syncCommitteeSubnetIndex, subnet),
+                    eligible,
+                    query.peersPerSubnet(),
+                    selectedSlots::add));
+    int remainingCustodians = query.dataColumnCustodians();
+    for (BitSet custodians : custodyGroupCountIndex.descendingMap().values()) {
+      if (remainingCustodians <= 0) {
+        break;
+      }
+      remainingCustodians -=
+          selectSlots(custodians, eligible, remainingCustodians, selectedSlots::add);
+    }
+    return selectedSlots.stream().map(slot -> entries[slot].peer()).toList();
+  }
+
+  /** Returns up to {@code limit} records which were last seen before {@code seenBeforeMillis}. */
+  synchronized List<NodeRecord> getRecordsLastSeenBefore(
+      final long seenBeforeMillis, final int limit) {
+    final List<NodeRecord> records = new ArrayList<>();
+    for (BitSet slots : lastSeenIndex.headMap(bucket(seenBeforeMillis), false).values()) {
+      for (int slot = slots.nextSetBit(0);
+          slot >= 0 && records.size() < limit;
+          slot = slots.nextSetBit(slot + 1)) {
+        records.add(entries[slot].record());
+      }
+      if (records.size() >= limit) {
+        break;
+      }
+    }
+    return records;
+  }
+
+  synchronized List<NodeRecord> getRecords() {
+    return occupiedSlots.stream().mapToObj(slot -> entries[slot].record()).toList();
+  }
+
+  static Bytes serialize(final Collection<NodeRecord> records) {
+    return Bytes.wrap(
+        String.join("\n", records.stream().map(NodeRecord::asEnr).toList())
+            .getBytes(StandardCharsets.UTF_8));
+  }
+
+  static List<NodeRecord> deserialize(final Bytes data) {
+    final List<NodeRecord> records = new ArrayList<>();
+    for (String enr : new String(data.toArrayUnsafe(), StandardCharsets.UTF_8).split("\n")) {
+      if (enr.isBlank()) {
+        continue;
+      }
+      try {
+        records.add(NodeRecordFactory.DEFAULT.fromEnr(enr));
+      } catch (final RuntimeException e) {
+        LOG.debug("Ignoring invalid cached node record {}", enr, e);
+      }
+    }
+    return records;
+  }
+
+  private int selectSlots(
+      final BitSet candidates, final BitSet eligible, final int limit, final IntConsumer action) {
+    int selected = 0;
+    for (int slot = candidates.nextSetBit(0);
+        slot >= 0 && selected < limit;
+        slot = candidates.nextSetBit(slot + 1)) {
+      if (eligible.get(slot)) {
+        action.accept(slot);
+        selected++;
+      }
+    }
+    return selected;
+  }
+
+  private void updateLastSeen(final int slot, final long nowMillis) {
+    final Entry entry = entries[slot];
+    final long lastSeenBucket = bucket(nowMillis);
+    if (entry.lastSeenBucket() != lastSeenBucket) {
+      clearBit(lastSeenIndex, entry.lastSeenBucket(), slot);
+      lastSeenIndex.computeIfAbsent(lastSeenBucket, __ -> new BitSet()).set(slot);
+      entries[slot] = new Entry(entry.record(), entry.peer(), lastSeenBucket);
+    }
+  }
+
+  private void index(final int slot, final Entry entry) {
+    final DiscoveryPeer peer = entry.peer();
+    peer.getPersistentAttestationSubnets()
+        .streamAllSetBits()
+        .forEach(subnet -> getOrCreateSubnetIndex(attestationSubnetIndex, subnet).set(slot));
+    peer.getSyncCommitteeSubnets()
+        .streamAllSetBits()
+        .forEach(subnet -> getOrCreateSubnetIndex(syncCommitteeSubnetIndex, subnet).set(slot));
+    peer.getDasCustodySubnetCount()
+        .ifPresent(
+            count -> custodyGroupCountIndex.computeIfAbsent(count, __ -> new BitSet()).set(slot));
+    peer.getEnrForkId()
+        .map(EnrForkId::getForkDigest)
+        .ifPresent(
+            digest -> forkDigestIndex.computeIfAbsent(digest, __ -> new BitSet()).set(slot));
+    lastSeenIndex.computeIfAbsent(entry.lastSeenBucket(), __ -> new BitSet()).set(slot);
+  }
+
+  private void removeSlot(final int slot) {
+    final Entry entry = entries[slot];
+    final DiscoveryPeer peer = entry.peer();
+    peer.getPersistentAttestationSubnets()
+        .streamAllSetBits()
+        .forEach(subnet -> getSubnetIndex(attestationSubnetIndex, subnet).clear(slot));
+    peer.getSyncCommitteeSubnets()
+        .streamAllSetBits()
+        .forEach(subnet -> getSubnetIndex(syncCommitteeSubnetIndex, subnet).clear(slot));
+    peer.getDasCustodySubnetCount()
+        .ifPresent(count -> clearBit(custodyGroupCountIndex, count, slot));
+    peer.getEnrForkId()
+        .map(EnrForkId::getForkDigest)
+        .ifPresent(digest -> clearBit(forkDigestIndex, digest, slot));
+    clearBit(lastSeenIndex, entry.lastSeenBucket(), slot);
+    slotsByNodeId.remove(peer.getNodeId());
+    occupiedSlots.clear(slot);
+    entries[slot] = null;
+  }
+
+  private static <K> void clearBit(final Map<K, BitSet> index, final K key, final int slot) {
+    final BitSet slots = index.get(key);
+    if (slots != null) {
+      slots.clear(slot);
+      if (slots.isEmpty()) {
+        index.remove(key);
+      }
+    }
+  }
+
+  private static BitSet getSubnetIndex(final List<BitSet> index, final int subnet) {
+    return subnet < index.size() ? index.get(subnet) : new BitSet();
+  }
+
+  private static BitSet getOrCreateSubnetIndex(final List<BitSet> index, final int subnet) {
+    while (index.size() <= subnet) {
+      index.add(new BitSet());
+    }
+    return index.get(subnet);
+  }
+
+  private static long bucket(final long timeMillis) {
+    return timeMillis / LAST_SEEN_BUCKET_MILLIS;
+  }
+
+  private record Entry(NodeRecord record, DiscoveryPeer peer, long lastSeenBucket) {}
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.p2p.libp2p;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelHandler.Sharable;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+
+/**
+ * Switches each Libp2p connection to the given buffer allocator as soon as it is set up, so all
+ * reads and the buffers created by the secure channel and muxer come from that allocator. Removes
+ * itself from the pipeline once done.
+ */
+@Sharable
+public class ByteBufAllocatorHandler extends ChannelInboundHandlerAdapter {
+
+  private final ByteBufAllocator allocator;
+
+  public ByteBufAllocatorHandler(final ByteBufAllocator allocator) {
+    this.allocator = allocator;
+  }
+
+  @Override
+  public void handlerAdded(final ChannelHandlerContext ctx) {
+    ctx.channel().config().setAllocator(allocator);
+    ctx.pipeline().remove(this);
+  }
+}
@@ -34,6 +34,8 @@ import io.libp2p.protocol.Ping;
 import io.libp2p.security.noise.NoiseXXSecureChannel;
 import io.libp2p.transport.quic.QuicTransport;
 import io.libp2p.transport.tcp.TcpTransport;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.ChannelHandler;
 import io.netty.handler.logging.LogLevel;
 import java.net.InetSocketAddress;
 import java.time.Duration;
@@ -85,6 +87,7 @@ public class LibP2PNetworkBuilder {
   protected Firewall firewall = new Firewall(Duration.ofSeconds(30));
   protected MuxFirewall muxFirewall =
       new MuxFirewall(REMOTE_OPEN_STREAMS_RATE_LIMIT, REMOTE_PARALLEL_OPEN_STREAMS_COUNT_LIMIT);
+  protected List<ChannelHandler> beforeSecureHandlers = List.of();
 
   protected LibP2PGossipNetwork gossipNetwork;
 
@@ -329,6 +332,13 @@ public class LibP2PNetworkBuilder {
             b.getDebug().getBeforeSecureHandler().addLogger(LogLevel.DEBUG, "wire.ciphered");
           }
           b.getDebug().getBeforeSecureHandler().addNettyHandler(firewall);
+          if (config.isPooledDirectBuffersEnabled()) {
+            b.getDebug()
+                .getBeforeSecureHandler()
+                .addNettyHandler(new ByteBufAllocatorHandler(new PooledByteBufAllocator(true)));
+          }
+          beforeSecureHandlers.forEach(
+              handler -> b.getDebug().getBeforeSecureHandler().addNettyHandler(handler));
 
           if (config.getWireLogsConfig().isLogWirePlain()) {
             b.getDebug().getAfterSecureHandler().addLogger(LogLevel.DEBUG, "wire.plain");
@@ -431,6 +441,17 @@ public class LibP2PNetworkBuilder {
     return this;
   }
 
+  /**
+   * Additional Netty handlers added to each connection ahead of the secure channel, after the
+   * {@link Firewall}. Handlers are shared between connections so must be {@link
+   * ChannelHandler.Sharable}.
+   */
+  public LibP2PNetworkBuilder beforeSecureHandlers(
+      final List<ChannelHandler> beforeSecureHandlers) {
+    this.beforeSecureHandlers = beforeSecureHandlers;
+    return this;
+  }
+
   public LibP2PNetworkBuilder timeProvider(final TimeProvider timeProvider) {
     this.timeProvider = timeProvider;
     return this;
@@ -54,6 +54,7 @@ public class NetworkConfig {
   public static final boolean DEFAULT_STRICT_CONFIG_LOADING_ENABLED = false;
   public static final boolean DEFAULT_QUIC_ENABLED = false;
   public static final boolean DEFAULT_TCP_ENABLED = true;
+  public static final boolean DEFAULT_POOLED_DIRECT_BUFFERS_ENABLED = false;
 
   private final GossipConfig gossipConfig;
   private final WireLogsConfig wireLogsConfig;
@@ -73,6 +74,7 @@ public class NetworkConfig {
   private final boolean yamuxEnabled;
   private final boolean quicEnabled;
   private final boolean tcpEnabled;
+  private final boolean pooledDirectBuffersEnabled;
 
   private NetworkConfig(
       final boolean isEnabled,
@@ -91,7 +93,8 @@ public class NetworkConfig {
       final OptionalInt advertisedQuicPortIpv6,
       final boolean yamuxEnabled,
       final boolean quicEnabled,
-      final boolean tcpEnabled) {
+      final boolean tcpEnabled,
+      final boolean pooledDirectBuffersEnabled) {
     this.privateKeySource = privateKeySource;
     this.networkInterfaces = networkInterfaces;
     this.advertisedIps = advertisedIps;
@@ -109,6 +112,7 @@ public class NetworkConfig {
     this.wireLogsConfig = wireLogsConfig;
     this.quicEnabled = quicEnabled;
     this.tcpEnabled = tcpEnabled;
+    this.pooledDirectBuffersEnabled = pooledDirectBuffersEnabled;
   }
 
   public static Builder builder() {
@@ -181,6 +185,10 @@ public class NetworkConfig {
     return tcpEnabled;
   }
 
+  public boolean isPooledDirectBuffersEnabled() {
+    return pooledDirectBuffersEnabled;
+  }
+
   public GossipConfig getGossipConfig() {
     return gossipConfig;
   }
@@ -273,6 +281,7 @@ public class NetworkConfig {
     private boolean yamuxEnabled = DEFAULT_YAMUX_ENABLED;
     private boolean quicEnabled = DEFAULT_QUIC_ENABLED;
     private boolean tcpEnabled = DEFAULT_TCP_ENABLED;
+    private boolean pooledDirectBuffersEnabled = DEFAULT_POOLED_DIRECT_BUFFERS_ENABLED;
 
     private Builder() {}
 
@@ -304,7 +313,8 @@ public class NetworkConfig {
           advertisedQuicPortIpv6,
           yamuxEnabled,
           quicEnabled,
-          tcpEnabled);
+          tcpEnabled,
+          pooledDirectBuffersEnabled);
     }
 
     private Optional<PrivateKeySource> createFileKeySource() {
@@ -458,6 +468,11 @@ public class NetworkConfig {
       return this;
     }
 
+    public Builder pooledDirectBuffersEnabled(final boolean pooledDirectBuffersEnabled) {
+      this.pooledDirectBuffersEnabled = pooledDirectBuffersEnabled;
+      return this;
+    }
+
     public Builder directPeers(final List<NodeId> directPeers) {
       checkNotNull(directPeers);
       final DirectPeerManager directPeerManager = directPeers::contains;
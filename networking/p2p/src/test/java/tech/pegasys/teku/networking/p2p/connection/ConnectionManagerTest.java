@@ -32,6 +32,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes;
@@ -45,6 +46,7 @@ import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.network.p2p.peer.StubPeer;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryPeer;
+import tech.pegasys.teku.networking.p2p.discovery.DiscoveryPeerQuery;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryService;
 import tech.pegasys.teku.networking.p2p.mock.MockNodeId;
 import tech.pegasys.teku.networking.p2p.network.P2PNetwork;
@@ -270,6 +272,22 @@ class ConnectionManagerTest {
     verify(network).connect(PEER2);
   }
 
+  @Test
+  public void shouldConnectToCachedPeersMatchingQuery() {
+    final ConnectionManager manager = createManager();
+    final DiscoveryPeerQuery query = new DiscoveryPeerQuery(Set.of(1), Set.of(), 0, 2);
+    when(peerSelectionStrategy.createCachedPeerQuery(network)).thenReturn(Optional.of(query));
+    when(discoveryService.findCachedPeers(query)).thenReturn(Stream.of(DISCOVERY_PEER1));
+    when(discoveryService.streamKnownPeers()).thenReturn(Stream.of(DISCOVERY_PEER2));
+    when(network.connect(any(PeerAddress.class))).thenReturn(new SafeFuture<>());
+
+    manager.start().join();
+    asyncRunner.executeDueActionsRepeatedly();
+
+    verify(network).connect(PEER1);
+    verify(network).connect(PEER2);
+  }
+
   @Test
   public void shouldPeriodicallyTriggerNewDiscoverySearch() {
     final SafeFuture<Collection<DiscoveryPeer>> search1 = new SafeFuture<>();
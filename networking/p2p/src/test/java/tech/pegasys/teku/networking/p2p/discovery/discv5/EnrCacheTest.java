@@ -0,0 +1,353 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.p2p.discovery.discv5;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
+import org.ethereum.beacon.discovery.schema.EnrField;
+import org.ethereum.beacon.discovery.schema.IdentitySchema;
+import org.ethereum.beacon.discovery.schema.NodeRecord;
+import org.ethereum.beacon.discovery.schema.NodeRecordFactory;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.bytes.Bytes4;
+import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszBitvectorSchema;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.p2p.discovery.DiscoveryPeer;
+import tech.pegasys.teku.networking.p2p.discovery.DiscoveryPeerQuery;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.EnrForkId;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitions;
+
+class EnrCacheTest {
+  private static final Spec SPEC = TestSpecFactory.createMinimalAltair();
+  private static final SchemaDefinitions SCHEMA_DEFINITIONS = SPEC.getGenesisSchemaDefinitions();
+  private static final SszBitvectorSchema<?> ATTNETS_SCHEMA =
+      SCHEMA_DEFINITIONS.getAttnetsENRFieldSchema();
+  private static final SszBitvectorSchema<?> SYNCNETS_SCHEMA =
+      SCHEMA_DEFINITIONS.getSyncnetsENRFieldSchema();
+  private static final Bytes4 FORK_DIGEST = Bytes4.fromHexString("0x01020304");
+  private static final Bytes4 OTHER_FORK_DIGEST = Bytes4.fromHexString("0x05060708");
+  private static final long MINUTE = EnrCache.LAST_SEEN_BUCKET_MILLIS;
+  private static final int MAX_SEARCHES = 1000;
+
+  private final EnrCache cache = new EnrCache(100);
+
+  @Test
+  void shouldFindPeersByAttestationSubnet() {
+    final DiscoveryPeer peer1 = createPeer(1, List.of(1, 2), List.of(), Optional.empty());
+    final DiscoveryPeer peer2 = createPeer(2, List.of(2), List.of(), Optional.empty());
+    final DiscoveryPeer peer3 = createPeer(3, List.of(3), List.of(), Optional.empty());
+    add(peer1, peer2, peer3);
+
+    assertThat(findPeers(query(Set.of(2), Set.of(), 0, 10)))
+        .containsExactlyInAnyOrder(peer1, peer2);
+    assertThat(findPeers(query(Set.of(3), Set.of(), 0, 10))).containsExactly(peer3);
+    assertThat(findPeers(query(Set.of(4), Set.of(), 0, 10))).isEmpty();
+  }
+
+  @Test
+  void shouldFindPeersBySyncCommitteeSubnet() {
+    final DiscoveryPeer peer1 = createPeer(1, List.of(1), List.of(0), Optional.empty());
+    final DiscoveryPeer peer2 = createPeer(2, List.of(1), List.of(3), Optional.empty());
+    add(peer1, peer2);
+
+    assertThat(findPeers(query(Set.of(), Set.of(3), 0, 10))).containsExactly(peer2);
+  }
+
+  @Test
+  void shouldPreferPeersWithTheLargestCustodyGroupCount() {
+    final DiscoveryPeer peer1 = createPeer(1, List.of(), List.of(), Optional.of(4));
+    final DiscoveryPeer peer2 = createPeer(2, List.of(), List.of(), Optional.of(128));
+    final DiscoveryPeer peer3 = createPeer(3, List.of(), List.of(), Optional.of(8));
+    add(peer1, peer2, peer3);
+
+    assertThat(findPeers(query(Set.of(), Set.of(), 2, 1))).containsExactly(peer2, peer3);
+  }
+
+  @Test
+  void shouldLimitPeersPerSubnet() {
+    IntStream.range(0, 10)
+        .forEach(i -> add(createPeer(i, List.of(5), List.of(), Optional.empty())));
+
+    assertThat(findPeers(query(Set.of(5), Set.of(), 0, 3))).hasSize(3);
+  }
+
+  @Test
+  void shouldOnlyReturnPeersWithMatchingForkDigest() {
+    final DiscoveryPeer peer1 = createPeer(1, List.of(1), List.of(), Optional.empty());
+    final DiscoveryPeer peer2 =
+        createPeer(2, List.of(1), List.of(), Optional.empty(), OTHER_FORK_DIGEST);
+    add(peer1, peer2);
+
+    assertThat(cache.findPeers(query(Set.of(1), Set.of(), 0, 10), Optional.of(FORK_DIGEST), 0))
+        .containsExactly(peer1);
+    assertThat(cache.findPeers(query(Set.of(1), Set.of(), 0, 10), Optional.empty(), 0))
+        .containsExactlyInAnyOrder(peer1, peer2);
+  }
+
+  @Test
+  void shouldNotReturnPeersLastSeenBeforeCutoff() {
+    final DiscoveryPeer peer1 = createPeer(1, List.of(1), List.of(), Optional.empty());
+    final DiscoveryPeer peer2 = createPeer(2, List.of(1), List.of(), Optional.empty());
+    cache.add(createRecord(0), peer1, 0);
+    cache.add(createRecord(0), peer2, 10 * MINUTE);
+
+    assertThat(cache.findPeers(query(Set.of(1), Set.of(), 0, 10), Optional.empty(), 5 * MINUTE))
+        .containsExactly(peer2);
+
+    cache.markSeen(peer1.getNodeId(), 20 * MINUTE);
+    assertThat(cache.findPeers(query(Set.of(1), Set.of(), 0, 10), Optional.empty(), 15 * MINUTE))
+        .containsExactly(peer1);
+  }
+
+  @Test
+  void shouldReindexPeerWhenRecordIsUpdated() {
+    final DiscoveryPeer original = createPeer(1, List.of(1), List.of(), Optional.empty());
+    final DiscoveryPeer updated = createPeer(1, List.of(2), List.of(), Optional.empty());
+    cache.add(createRecord(1), original, 0);
+    cache.add(createRecord(2), updated, 0);
+
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(findPeers(query(Set.of(1), Set.of(), 0, 10))).isEmpty();
+    assertThat(findPeers(query(Set.of(2), Set.of(), 0, 10))).containsExactly(updated);
+  }
+
+  @Test
+  void shouldIgnoreRecordWithLowerSequenceNumber() {
+    final DiscoveryPeer current = createPeer(1, List.of(1), List.of(), Optional.empty());
+    final DiscoveryPeer stale = createPeer(1, List.of(2), List.of(), Optional.empty());
+    cache.add(createRecord(2), current, 0);
+    cache.add(createRecord(1), stale, 0);
+
+    assertThat(findPeers(query(Set.of(1), Set.of(), 0, 10))).containsExactly(current);
+    assertThat(findPeers(query(Set.of(2), Set.of(), 0, 10))).isEmpty();
+  }
+
+  @Test
+  void shouldOnlyUpdateLastSeenForRecordWithSameSequenceNumber() {
+    final DiscoveryPeer original = createPeer(1, List.of(1), List.of(), Optional.empty());
+    final DiscoveryPeer sameSeq = createPeer(1, List.of(2), List.of(), Optional.empty());
+    cache.add(createRecord(1), original, 0);
+    cache.add(createRecord(1), sameSeq, 10 * MINUTE);
+
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.findPeers(query(Set.of(1), Set.of(), 0, 10), Optional.empty(), 5 * MINUTE))
+        .containsExactly(original);
+    assertThat(cache.findPeers(query(Set.of(2), Set.of(), 0, 10), Optional.empty(), 0)).isEmpty();
+  }
+
+  @Test
+  void shouldEvictLeastRecentlySeenPeerWhenFull() {
+    final EnrCache smallCache = new EnrCache(2);
+    final DiscoveryPeer peer1 = createPeer(1, List.of(1), List.of(), Optional.empty());
+    final DiscoveryPeer peer2 = createPeer(2, List.of(1), List.of(), Optional.empty());
+    final DiscoveryPeer peer3 = createPeer(3, List.of(1), List.of(), Optional.empty());
+    smallCache.add(createRecord(0), peer1, MINUTE);
+    smallCache.add(createRecord(0), peer2, 0);
+    smallCache.add(createRecord(0), peer3, 2 * MINUTE);
+
+    assertThat(smallCache.size()).isEqualTo(2);
+    assertThat(smallCache.findPeers(query(Set.of(1), Set.of(), 0, 10), Optional.empty(), 0))
+        .containsExactlyInAnyOrder(peer1, peer3);
+  }
+
+  @Test
+  void shouldRemovePeerFromAllIndices() {
+    final DiscoveryPeer peer = createPeer(1, List.of(1), List.of(1), Optional.of(4));
+    add(peer);
+
+    cache.remove(peer.getNodeId());
+
+    assertThat(cache.size()).isZero();
+    assertThat(findPeers(query(Set.of(1), Set.of(1), 1, 10))).isEmpty();
+    assertThat(cache.getRecordsLastSeenBefore(Long.MAX_VALUE, 10)).isEmpty();
+  }
+
+  @Test
+  void shouldReturnRecordsDueForRevalidation() {
+    final NodeRecord record1 = createRecord(1);
+    final NodeRecord record2 = createRecord(2);
+    cache.add(record1, createPeer(1, List.of(), List.of(), Optional.empty()), 0);
+    cache.add(record2, createPeer(2, List.of(), List.of(), Optional.empty()), 10 * MINUTE);
+
+    assertThat(cache.getRecordsLastSeenBefore(5 * MINUTE, 10)).containsExactly(record1);
+    assertThat(cache.getRecordsLastSeenBefore(20 * MINUTE, 1)).hasSize(1);
+  }
+
+  @Test
+  void shouldRoundTripPersistedRecords() {
+    final NodeRecord record =
+        NodeRecordFactory.DEFAULT.fromEnr(
+            "enr:-Iu4QMmfe-EkDnVX6k5i2LFTiDQ-q4-Cb1I01iRI-wbCD_r4Z8eujNCgZDmZXb1ZOPi1LfJaNx3Bd0QUK9wqBjwUXJQBgmlkgnY0gmlwhH8AAAGJc2VjcDI1NmsxoQO4btn3R6f6mZY_OeOxdrRenoYxCKLRReo6TnbY0JNRlIN0Y3CCIyiDdWRwgiMo");
+
+    final Bytes serialized = EnrCache.serialize(List.of(record, record));
+
+    assertThat(EnrCache.deserialize(serialized)).containsExactly(record, record);
+  }
+
+  @Test
+  void shouldIgnoreInvalidPersistedRecords() {
+    assertThat(EnrCache.deserialize(Bytes.wrap("enr:-invalid\n\n".getBytes(StandardCharsets.UTF_8)))).isEmpty();
+  }
+
+  /**
+   * Simulates a node which has been running discovery for a while and then needs peers on every
+   * attestation subnet. Without the cache only the peers returned by the most recent search are
+   * candidates, so further searches are needed. With the cache every record seen so far is a
+   * candidate, so coverage is reached without any further searches.
+   */
+  @Test
+  void shouldReachSubnetCoverageWithFewerSearchesThanWithoutCache() {
+    final Random random = new Random(42);
+    final int subnetCount = ATTNETS_SCHEMA.getLength();
+    final int peersPerSearch = 16;
+    final int peersPerSubnet = 2;
+    final List<DiscoveryPeer> network =
+        IntStream.range(0, 2000)
+            .mapToObj(
+                i ->
+                    createPeer(
+                        i,
+                        List.of(random.nextInt(subnetCount), random.nextInt(subnetCount)),
+                        List.of(),
+                        Optional.empty()))
+            .toList();
+    final EnrCache enrCache = new EnrCache(network.size());
+    for (int search = 0; search < 100; search++) {
+      search(network, random, peersPerSearch)
+          .forEach(peer -> enrCache.add(createRecord(0), peer, 0));
+    }
+
+    final Set<Integer> allSubnets =
+        IntStream.range(0, subnetCount).boxed().collect(Collectors.toSet());
+    final DiscoveryPeerQuery query = query(allSubnets, Set.of(), 0, peersPerSubnet);
+
+    final int searchesWithCache =
+        countSearchesUntilCovered(
+            query, () -> enrCache.findPeers(query, Optional.empty(), 0), network, random);
+    final int searchesWithoutCache =
+        countSearchesUntilCovered(
+            query, () -> search(network, random, peersPerSearch), network, random);
+
+    assertThat(searchesWithCache).isZero();
+    assertThat(searchesWithoutCache).isGreaterThan(10);
+  }
+
+  private int countSearchesUntilCovered(
+      final DiscoveryPeerQuery query,
+      final Supplier<List<DiscoveryPeer>> candidates,
+      final List<DiscoveryPeer> network,
+      final Random random) {
+    final Set<DiscoveryPeer> connected = new HashSet<>();
+    List<DiscoveryPeer> available = candidates.get();
+    for (int searches = 0; searches < MAX_SEARCHES; searches++) {
+      for (DiscoveryPeer candidate : available) {
+        if (candidate
+            .getPersistentAttestationSubnets()
+            .streamAllSetBits()
+            .anyMatch(subnet -> countSubscribers(connected, subnet) < query.peersPerSubnet())) {
+          connected.add(candidate);
+        }
+      }
+      if (query.attestationSubnets().stream()
+          .allMatch(subnet -> countSubscribers(connected, subnet) >= query.peersPerSubnet())) {
+        return searches;
+      }
+      available = candidates.get();
+    }
+    return MAX_SEARCHES;
+  }
+
+  private long countSubscribers(final Set<DiscoveryPeer> peers, final int subnet) {
+    return peers.stream()
+        .filter(peer -> peer.getPersistentAttestationSubnets().getBit(subnet))
+        .count();
+  }
+
+  private List<DiscoveryPeer> search(
+      final List<DiscoveryPeer> network, final Random random, final int count) {
+    final List<DiscoveryPeer> found = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      found.add(network.get(random.nextInt(network.size())));
+    }
+    return found;
+  }
+
+  private void add(final DiscoveryPeer... peers) {
+    for (DiscoveryPeer peer : peers) {
+      cache.add(createRecord(0), peer, 0);
+    }
+  }
+
+  private List<DiscoveryPeer> findPeers(final DiscoveryPeerQuery query) {
+    return cache.findPeers(query, Optional.of(FORK_DIGEST), 0);
+  }
+
+  private static DiscoveryPeerQuery query(
+      final Set<Integer> attestationSubnets,
+      final Set<Integer> syncCommitteeSubnets,
+      final int dataColumnCustodians,
+      final int peersPerSubnet) {
+    return new DiscoveryPeerQuery(
+        attestationSubnets, syncCommitteeSubnets, dataColumnCustodians, peersPerSubnet);
+  }
+
+  private static NodeRecord createRecord(final long seq) {
+    return NodeRecordFactory.DEFAULT.createFromValues(
+        org.apache.tuweni.units.bigints.UInt64.valueOf(seq),
+        List.of(
+            new EnrField(EnrField.ID, IdentitySchema.V4),
+            new EnrField(EnrField.PKEY_SECP256K1, Bytes.random(33))));
+  }
+
+  private static DiscoveryPeer createPeer(
+      final int id,
+      final List<Integer> attestationSubnets,
+      final List<Integer> syncCommitteeSubnets,
+      final Optional<Integer> custodyGroupCount) {
+    return createPeer(id, attestationSubnets, syncCommitteeSubnets, custodyGroupCount, FORK_DIGEST);
+  }
+
+  private static DiscoveryPeer createPeer(
+      final int id,
+      final List<Integer> attestationSubnets,
+      final List<Integer> syncCommitteeSubnets,
+      final Optional<Integer> custodyGroupCount,
+      final Bytes4 forkDigest) {
+    return new DiscoveryPeer(
+        Bytes.random(33),
+        Bytes.ofUnsignedInt(id),
+        new InetSocketAddress("127.0.0.1", 9000 + id),
+        Optional.empty(),
+        Optional.of(
+            new EnrForkId(forkDigest, Bytes4.fromHexString("0x00000000"), UInt64.MAX_VALUE)),
+        ATTNETS_SCHEMA.ofBits(attestationSubnets),
+        SYNCNETS_SCHEMA.ofBits(syncCommitteeSubnets),
+        custodyGroupCount,
+        Optional.empty());
+  }
+}
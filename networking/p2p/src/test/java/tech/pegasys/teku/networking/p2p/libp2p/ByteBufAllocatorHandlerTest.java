@@ -0,0 +1,47 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.p2p.libp2p;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+public class ByteBufAllocatorHandlerTest {
+
+  private final PooledByteBufAllocator allocator = new PooledByteBufAllocator(true);
+
+  @Test
+  void shouldSetChannelAllocatorAndRemoveItself() {
+    final ByteBufAllocatorHandler handler = new ByteBufAllocatorHandler(allocator);
+    final EmbeddedChannel channel = new EmbeddedChannel(handler);
+
+    assertThat(channel.config().getAllocator()).isSameAs(allocator);
+    assertThat(channel.pipeline().get(ByteBufAllocatorHandler.class)).isNull();
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  void shouldBeSharedBetweenChannels() {
+    final ByteBufAllocatorHandler handler = new ByteBufAllocatorHandler(allocator);
+    final EmbeddedChannel channel1 = new EmbeddedChannel(handler);
+    final EmbeddedChannel channel2 = new EmbeddedChannel(handler);
+
+    assertThat(channel1.config().getAllocator()).isSameAs(allocator);
+    assertThat(channel2.config().getAllocator()).isSameAs(allocator);
+    channel1.finishAndReleaseAll();
+    channel2.finishAndReleaseAll();
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.network.p2p.jvmlibp2p;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.channel.ChannelHandler.Sharable;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates a network link on loopback connections by delaying every outbound write by a fixed
+ * one-way latency plus the time needed to transmit it at a limited bandwidth.
+ *
+ * <p>Writes on a connection are serialised, so a large message delays the messages queued behind
+ * it in the same way as a real link. Add to each connection with {@code
+ * LibP2PNetworkBuilder.beforeSecureHandlers} so the delay applies to the encrypted bytes.
+ */
+@Sharable
+public class LinkConditioner extends ChannelInboundHandlerAdapter {
+  public static final long UNLIMITED_BANDWIDTH = 0;
+
+  private final long latencyNanos;
+  private final long bandwidthBytesPerSecond;
+
+  public LinkConditioner(final Duration latency, final long bandwidthBytesPerSecond) {
+    checkArgument(!latency.isNegative(), "Latency must not be negative");
+    checkArgument(bandwidthBytesPerSecond >= 0, "Bandwidth must not be negative");
+    this.latencyNanos = latency.toNanos();
+    this.bandwidthBytesPerSecond = bandwidthBytesPerSecond;
+  }
+
+  @Override
+  public void handlerAdded(final ChannelHandlerContext ctx) {
+    // Closest to the socket so the delay applies after all other outbound handlers
+    ctx.pipeline().addFirst(new DelayingHandler());
+  }
+
+  private long transmissionNanos(final int bytes) {
+    if (bandwidthBytesPerSecond == UNLIMITED_BANDWIDTH) {
+      return 0;
+    }
+    return TimeUnit.SECONDS.toNanos(bytes) / bandwidthBytesPerSecond;
+  }
+
+  private static int sizeOf(final Object msg) {
+    if (msg instanceof ByteBuf buf) {
+      return buf.readableBytes();
+    } else if (msg instanceof ByteBufHolder holder) {
+      return holder.content().readableBytes();
+    }
+    return 0;
+  }
+
+  private class DelayingHandler extends ChannelOutboundHandlerAdapter {
+    // Only accessed from the channel's event loop
+    private long linkAvailableNanos;
+
+    @Override
+    public void write(
+        final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) {
+      if (latencyNanos == 0 && bandwidthBytesPerSecond == UNLIMITED_BANDWIDTH) {
+        ctx.writeAndFlush(msg, promise);
+        return;
+      }
+      final long now = System.nanoTime();
+      linkAvailableNanos = Math.max(now, linkAvailableNanos) + transmissionNanos(sizeOf(msg));
+      final long delayNanos = linkAvailableNanos + latencyNanos - now;
+      // Deadlines are non-decreasing and the event loop runs equal deadlines in submission order,
+      // so writes are never reordered.
+      ctx.executor()
+          .schedule(() -> ctx.writeAndFlush(msg, promise), delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void flush(final ChannelHandlerContext ctx) {
+      // Each write is flushed when it is released onto the link
+    }
+  }
+}
@@ -75,6 +75,7 @@ public class BootnodeService extends Service {
         new DiscV5Service(
             metricsSystem,
             asyncRunner,
+            serviceConfig.getTimeProvider(),
             p2PConfig.getDiscoveryConfig(),
             networkConfig,
             kvStore,
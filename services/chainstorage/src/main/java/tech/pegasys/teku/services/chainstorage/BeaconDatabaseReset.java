@@ -24,6 +24,7 @@ import static tech.pegasys.teku.storage.server.VersionedDatabaseFactory.STORAGE_
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
 import tech.pegasys.teku.service.serviceutils.ServiceConfig;
 import tech.pegasys.teku.storage.server.Database;
@@ -56,10 +57,15 @@ public class BeaconDatabaseReset {
   }
 
   public void clearBeaconDatabase(final ServiceConfig serviceConfig) {
+    clearBeaconDatabase(serviceConfig, Optional.empty());
+  }
+
+  public void clearBeaconDatabase(
+      final ServiceConfig serviceConfig, final Optional<Path> finalizedDataPath) {
     try {
       final Path beaconDataDir = serviceConfig.getDataDirLayout().getBeaconDataDirectory();
       deleteDirectoryRecursively(beaconDataDir.resolve(DB_PATH));
-      deleteDirectoryRecursively(beaconDataDir.resolve(ARCHIVE_PATH));
+      deleteDirectoryRecursively(finalizedDataPath.orElse(beaconDataDir.resolve(ARCHIVE_PATH)));
       deleteFileIfExists(beaconDataDir.resolve(NETWORK_FILENAME));
       deleteFileIfExists(beaconDataDir.resolve(METADATA_FILENAME));
       deleteFileIfExists(beaconDataDir.resolve(DB_VERSION_FILENAME));
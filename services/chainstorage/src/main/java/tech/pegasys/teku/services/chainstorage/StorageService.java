@@ -37,6 +37,7 @@ import tech.pegasys.teku.spec.networks.Eth2Network;
 import tech.pegasys.teku.storage.api.CombinedStorageChannel;
 import tech.pegasys.teku.storage.api.Eth1DepositStorageChannel;
 import tech.pegasys.teku.storage.api.SidecarUpdateChannel;
+import tech.pegasys.teku.storage.api.StorageUpdateChannel;
 import tech.pegasys.teku.storage.api.VoteUpdateChannel;
 import tech.pegasys.teku.storage.archive.BlobSidecarsArchiver;
 import tech.pegasys.teku.storage.archive.filesystem.FileSystemBlobSidecarsArchiver;
@@ -46,8 +47,11 @@ import tech.pegasys.teku.storage.server.CombinedStorageChannelSplitter;
 import tech.pegasys.teku.storage.server.Database;
 import tech.pegasys.teku.storage.server.DatabaseVersion;
 import tech.pegasys.teku.storage.server.DepositStorage;
+import tech.pegasys.teku.storage.server.GroupCommitStorageUpdateChannel;
 import tech.pegasys.teku.storage.server.RetryingStorageUpdateChannel;
 import tech.pegasys.teku.storage.server.StorageConfiguration;
+import tech.pegasys.teku.storage.server.StorageQueryMetrics;
+import tech.pegasys.teku.storage.server.StoreSnapshotFile;
 import tech.pegasys.teku.storage.server.VersionedDatabaseFactory;
 import tech.pegasys.teku.storage.server.network.EphemeryException;
 import tech.pegasys.teku.storage.server.pruner.BlobSidecarPruner;
@@ -62,6 +66,8 @@ public class StorageService extends Service implements StorageServiceFacade {
   private final ServiceConfig serviceConfig;
   private volatile Database database;
   private volatile BatchingVoteUpdateChannel batchingVoteUpdateChannel;
+  private volatile Optional<GroupCommitStorageUpdateChannel> groupCommitStorageUpdateChannel =
+      Optional.empty();
   private volatile Optional<BlockPruner> blockPruner = Optional.empty();
   private volatile Optional<BlobSidecarPruner> blobsPruner = Optional.empty();
   private volatile Optional<StatePruner> statePruner = Optional.empty();
@@ -108,7 +114,7 @@ public class StorageService extends Service implements StorageServiceFacade {
                     "Force clear database flag is set. Deleting all beacon chain database files. "
                         + "Validator slashing protection data will be preserved.");
                 final BeaconDatabaseReset databaseReset = new BeaconDatabaseReset();
-                databaseReset.clearBeaconDatabase(serviceConfig);
+                databaseReset.clearBeaconDatabase(serviceConfig, config.getFinalizedDataPath());
               }
               try {
                 database = dbFactory.createDatabase();
@@ -220,7 +226,13 @@ public class StorageService extends Service implements StorageServiceFacade {
                       config.getSpec(),
                       config.getDataStorageMode(),
                       config.getStateRebuildTimeoutSeconds(),
-                      blobSidecarsArchiver);
+                      blobSidecarsArchiver,
+                      config.isStoreSnapshotEnabled()
+                          ? Optional.of(
+                              new StoreSnapshotFile(
+                                  config.getSpec(),
+                                  serviceConfig.getDataDirLayout().getBeaconDataDirectory()))
+                          : Optional.empty());
 
               final EventChannels eventChannels = serviceConfig.getEventChannels();
 
@@ -236,14 +248,29 @@ public class StorageService extends Service implements StorageServiceFacade {
                       new AsyncRunnerEventThread(
                           "batch-vote-updater", serviceConfig.getAsyncRunnerFactory()));
 
+              StorageUpdateChannel storageUpdateChannel =
+                  new RetryingStorageUpdateChannel(chainStorage, serviceConfig.getTimeProvider());
+              if (config.isGroupCommitEnabled()) {
+                final GroupCommitStorageUpdateChannel groupCommitChannel =
+                    new GroupCommitStorageUpdateChannel(
+                        storageUpdateChannel,
+                        serviceConfig.createAsyncRunner("storage_writer", 1),
+                        config.getGroupCommitMaxBatchSize(),
+                        serviceConfig.getMetricsSystem());
+                groupCommitStorageUpdateChannel = Optional.of(groupCommitChannel);
+                storageUpdateChannel = groupCommitChannel;
+              }
+
               eventChannels.subscribe(
                   CombinedStorageChannel.class,
                   new CombinedStorageChannelSplitter(
                       serviceConfig.createAsyncRunner(
                           "storage_query", STORAGE_QUERY_CHANNEL_PARALLELISM),
-                      new RetryingStorageUpdateChannel(
-                          chainStorage, serviceConfig.getTimeProvider()),
-                      chainStorage));
+                      storageUpdateChannel,
+                      chainStorage,
+                      new StorageQueryMetrics(
+                          serviceConfig.getMetricsSystem(),
+                          config.getSlowQueryThresholdMillis())));
 
               eventChannels
                   .subscribe(Eth1DepositStorageChannel.class, depositStorage)
@@ -322,7 +349,20 @@ public class StorageService extends Service implements StorageServiceFacade {
                 .map(DataColumnSidecarPruner::stop)
                 .map(SafeFuture::toVoid)
                 .orElse(SafeFuture.COMPLETE))
-        .thenCompose(__ -> SafeFuture.fromRunnable(database::close));
+        .thenCompose(
+            __ ->
+                groupCommitStorageUpdateChannel
+                    .map(GroupCommitStorageUpdateChannel::flush)
+                    .orElse(SafeFuture.COMPLETE))
+        .thenCompose(
+            __ ->
+                SafeFuture.fromRunnable(
+                    () -> {
+                      if (chainStorage != null) {
+                        chainStorage.writeStoreSnapshot();
+                      }
+                      database.close();
+                    }));
   }
 
   @Override
@@ -36,6 +36,7 @@ import static tech.pegasys.teku.storage.server.VersionedDatabaseFactory.STORAGE_
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -178,6 +179,20 @@ class BeaconDatabaseResetTest {
     assertTrue(Files.exists(slashingProtectionFile));
   }
 
+  @Test
+  void clearBeaconDatabase_shouldDeleteCustomFinalizedDataPath() throws IOException {
+    final Path finalizedDataPath = createTempDirectory("finalized");
+    Files.createFile(finalizedDataPath.resolve("000001.sst"));
+
+    beaconDatabaseReset.clearBeaconDatabase(serviceConfig, Optional.of(finalizedDataPath));
+
+    verify(beaconDatabaseReset).deleteDirectoryRecursively(dbDataDir);
+    verify(beaconDatabaseReset).deleteDirectoryRecursively(finalizedDataPath);
+    verify(beaconDatabaseReset, never())
+        .deleteDirectoryRecursively(beaconDataDir.resolve(ARCHIVE_PATH));
+    assertFalse(Files.exists(finalizedDataPath));
+  }
+
   @Test
   void clearBeaconDatabase_shouldThrowExceptionOnError() throws IOException {
     doThrow(new IOException("Failed to delete directory"))
@@ -55,6 +55,13 @@ public interface StorageQueryChannel extends ChannelInterface {
 
   SafeFuture<Optional<SignedBeaconBlock>> getLatestFinalizedBlockAtSlot(UInt64 slot);
 
+  /**
+   * Returns up to {@code limit} finalized canonical blocks with slots in the range {@code
+   * startSlot} to {@code endSlot} (inclusive), in slot order.
+   */
+  SafeFuture<List<SignedBeaconBlock>> getFinalizedBlocksInRange(
+      UInt64 startSlot, UInt64 endSlot, int limit);
+
   SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(Bytes32 blockRoot);
 
   SafeFuture<Optional<SignedBlockAndState>> getHotBlockAndStateByBlockRoot(Bytes32 blockRoot);
@@ -89,6 +89,12 @@ public class ThrottlingStorageQueryChannel implements StorageQueryChannel {
     return taskQueue.queueTask(() -> delegate.getLatestFinalizedBlockAtSlot(slot));
   }
 
+  @Override
+  public SafeFuture<List<SignedBeaconBlock>> getFinalizedBlocksInRange(
+      final UInt64 startSlot, final UInt64 endSlot, final int limit) {
+    return taskQueue.queueTask(() -> delegate.getFinalizedBlocksInRange(startSlot, endSlot, limit));
+  }
+
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(final Bytes32 blockRoot) {
     return taskQueue.queueTask(() -> delegate.getBlockByBlockRoot(blockRoot));
@@ -108,6 +108,7 @@ import tech.pegasys.teku.storage.server.Database;
 import tech.pegasys.teku.storage.server.DatabaseContext;
 import tech.pegasys.teku.storage.server.ShuttingDownException;
 import tech.pegasys.teku.storage.server.StateStorageMode;
+import tech.pegasys.teku.storage.server.StoreSnapshot;
 import tech.pegasys.teku.storage.server.TestDatabaseContext;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao.FinalizedUpdater;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao.HotUpdater;
@@ -1988,6 +1989,52 @@ public class DatabaseTest {
     assertThat(store.getTimeSeconds()).isEqualTo(genesisTime);
   }
 
+  @TestTemplate
+  public void createMemoryStore_fromSnapshotShouldMatchDatabase(final DatabaseContext context)
+      throws Exception {
+    initialize(context);
+    initGenesis();
+    chainBuilder.generateBlocksUpToSlot(5);
+    addBlocks(chainBuilder.streamBlocksAndStates(1).collect(toList()));
+
+    final KvStoreDatabase kvStoreDatabase = (KvStoreDatabase) database;
+    final OnDiskStoreData expected = kvStoreDatabase.createMemoryStore(() -> 0L).orElseThrow();
+    final Optional<OnDiskStoreData> maybeData =
+        kvStoreDatabase.createMemoryStore(StoreSnapshot.create(expected), () -> 0L);
+    assertThat(maybeData).isNotEmpty();
+
+    final OnDiskStoreData data = maybeData.get();
+    assertThat(data.latestFinalized().getRoot()).isEqualTo(expected.latestFinalized().getRoot());
+    assertThat(data.justifiedCheckpoint()).isEqualTo(expected.justifiedCheckpoint());
+    assertThat(data.bestJustifiedCheckpoint()).isEqualTo(expected.bestJustifiedCheckpoint());
+    assertThat(data.blockInformation()).isEqualTo(expected.blockInformation());
+    assertThat(data.votes()).isEqualTo(expected.votes());
+    assertThat(data.time()).isEqualTo(expected.time());
+  }
+
+  @TestTemplate
+  public void createMemoryStore_shouldRejectSnapshotWithDifferentFinalizedCheckpoint(
+      final DatabaseContext context) throws Exception {
+    initialize(context);
+    initGenesis();
+
+    final KvStoreDatabase kvStoreDatabase = (KvStoreDatabase) database;
+    final StoreSnapshot snapshot =
+        StoreSnapshot.create(kvStoreDatabase.createMemoryStore(() -> 0L).orElseThrow());
+    final StoreSnapshot staleSnapshot =
+        new StoreSnapshot(
+            snapshot.genesisTime(),
+            snapshot.anchor(),
+            new Checkpoint(UInt64.ONE, dataStructureUtil.randomBytes32()),
+            snapshot.justifiedCheckpoint(),
+            snapshot.bestJustifiedCheckpoint(),
+            snapshot.latestCanonicalBlockRoot(),
+            snapshot.blockInformation(),
+            snapshot.votes());
+
+    assertThat(kvStoreDatabase.createMemoryStore(staleSnapshot, () -> 0L)).isEmpty();
+  }
+
   @TestTemplate
   public void shouldThrowIfClosedDatabaseIsRead_createMemoryStore(final DatabaseContext context)
       throws Exception {
@@ -0,0 +1,137 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.MockKvStoreInstance;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateStorageLogic.FinalizedStateUpdater;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedSnapshotState;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedSnapshot;
+
+/**
+ * Compares the space used and the time to load a state between storing full snapshots and storing
+ * layered diffs, for a range of storage frequencies.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Benchmark)
+public class FinalizedStateStorageBenchmark {
+  private static final int SLOT_COUNT = 1024;
+  private static final double BALANCE_CHANGE_RATIO = 0.05;
+
+  @Param({"SNAPSHOT", "DIFF"})
+  private String storage;
+
+  @Param({"8", "32", "128"})
+  private int stateStorageFrequency;
+
+  @Param({"16384"})
+  private int validatorCount;
+
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final V6SchemaCombinedSnapshot schema = V6SchemaCombinedSnapshot.createV6(spec);
+  private final Random random = new Random(42);
+  private MockKvStoreInstance db;
+  private V4FinalizedStateStorageLogic<SchemaCombinedSnapshotState> logic;
+  private List<UInt64> storedSlots;
+
+  @Setup
+  public void setup() {
+    db = MockKvStoreInstance.createEmpty(schema.getAllColumns(), schema.getAllVariables());
+    logic = createLogic();
+    BeaconState state =
+        new DataStructureUtil(spec)
+            .randomBeaconState(validatorCount)
+            .updated(mutableState -> mutableState.setSlot(UInt64.ZERO));
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      final FinalizedStateUpdater<SchemaCombinedSnapshotState> updater = logic.updater();
+      for (int slot = 0; slot < SLOT_COUNT; slot++) {
+        state = advance(state, slot);
+        updater.addFinalizedState(db, transaction, schema, state);
+      }
+      transaction.commit();
+    }
+    try (final Stream<UInt64> slots =
+        logic.streamFinalizedStateSlots(
+            db, schema, UInt64.ZERO, UInt64.valueOf(SLOT_COUNT))) {
+      storedSlots = slots.toList();
+    }
+    System.out.printf(
+        "%n%s storage every %d slots: %d states using %d bytes%n",
+        storage,
+        stateStorageFrequency,
+        storedSlots.size(),
+        getColumnSize(schema.getColumnFinalizedStatesBySlot())
+            + getColumnSize(schema.getColumnFinalizedStateDiffsBySlot()));
+  }
+
+  private V4FinalizedStateStorageLogic<SchemaCombinedSnapshotState> createLogic() {
+    return switch (storage) {
+      case "SNAPSHOT" -> new V4FinalizedStateSnapshotStorageLogic<>(stateStorageFrequency);
+      case "DIFF" -> new V4FinalizedStateDiffStorageLogic<>(stateStorageFrequency);
+      default -> throw new IllegalArgumentException("Unknown storage " + storage);
+    };
+  }
+
+  private BeaconState advance(final BeaconState state, final int slot) {
+    return state.updated(
+        mutableState -> {
+          mutableState.setSlot(UInt64.valueOf(slot));
+          final int changedBalances = (int) (validatorCount * BALANCE_CHANGE_RATIO);
+          for (int i = 0; i < changedBalances; i++) {
+            final int index = random.nextInt(validatorCount);
+            mutableState
+                .getBalances()
+                .setElement(index, UInt64.valueOf(random.nextLong(32_000_000_000L)));
+          }
+        });
+  }
+
+  private long getColumnSize(final KvStoreColumn<?, ?> column) {
+    try (final Stream<ColumnEntry<Bytes, Bytes>> entries = db.streamRaw(column)) {
+      return entries.mapToLong(entry -> entry.getValue().size()).sum();
+    }
+  }
+
+  @Benchmark
+  public BeaconState loadLatestState() {
+    return logic.getLatestAvailableFinalizedState(db, schema, storedSlots.getLast()).orElseThrow();
+  }
+
+  @Benchmark
+  public BeaconState loadRandomState() {
+    final UInt64 slot = storedSlots.get(random.nextInt(storedSlots.size()));
+    return logic.getLatestAvailableFinalizedState(db, schema, slot).orElseThrow();
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.rocksdb;
+
+import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.STORAGE;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES32_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.UINT64_SERIALIZER;
+
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
+
+/**
+ * Compares storing batches of historic blocks, as done during backfill, through a regular
+ * transaction against ingesting them as SST files. Batches are stored in descending slot order
+ * with the earliest block slot updated alongside each batch.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@State(Scope.Benchmark)
+public class BulkLoadBenchmark {
+  private static final int BLOCKS_PER_BATCH = 64;
+
+  @Param({"TRANSACTION", "BULK_LOAD"})
+  private String mode;
+
+  @Param({"65536"})
+  private int blockSize;
+
+  private final KvStoreColumn<UInt64, Bytes> blocksBySlot =
+      KvStoreColumn.create(1, UINT64_SERIALIZER, BYTES_SERIALIZER);
+  private final KvStoreColumn<Bytes32, UInt64> slotsByRoot =
+      KvStoreColumn.create(2, BYTES32_SERIALIZER, UINT64_SERIALIZER);
+  private final KvStoreVariable<UInt64> earliestBlockSlot =
+      KvStoreVariable.create(1, UINT64_SERIALIZER);
+  private final Random random = new Random(42);
+  private Path databaseDir;
+  private KvStoreAccessor db;
+  private long nextSlot = Long.MAX_VALUE;
+
+  @Setup
+  public void setup() throws IOException {
+    databaseDir = Files.createTempDirectory("bulk-load");
+    db =
+        RocksDbInstanceFactory.create(
+            new NoOpMetricsSystem(),
+            STORAGE,
+            KvStoreConfiguration.v6SingleDefaults()
+                .withDatabaseDir(databaseDir)
+                .withBulkLoadEnabled(mode.equals("BULK_LOAD")),
+            List.of(blocksBySlot, slotsByRoot),
+            List.of(),
+            List.of(earliestBlockSlot),
+            List.of());
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    db.close();
+    MoreFiles.deleteRecursively(databaseDir, RecursiveDeleteOption.ALLOW_INSECURE);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BLOCKS_PER_BATCH)
+  public void storeHistoricBlocks() {
+    try (final KvStoreTransaction transaction = db.startBulkLoadTransaction()) {
+      for (int i = 0; i < BLOCKS_PER_BATCH; i++) {
+        final UInt64 slot = UInt64.valueOf(--nextSlot);
+        transaction.put(blocksBySlot, slot, Bytes.random(blockSize, random));
+        transaction.put(slotsByRoot, Bytes32.random(random), slot);
+      }
+      transaction.put(earliestBlockSlot, UInt64.valueOf(nextSlot));
+      transaction.commit();
+    }
+  }
+}
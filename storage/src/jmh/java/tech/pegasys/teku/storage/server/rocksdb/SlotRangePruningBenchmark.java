@@ -0,0 +1,160 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.rocksdb;
+
+import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.STORAGE;
+import static tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao.MAX_BLOCK_ROOT;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.COLUMN_SLOT_AND_IDENTIFIER_KEY_SERIALIZER;
+
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.util.DataColumnSlotAndIdentifier;
+import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+
+/**
+ * Compares pruning slot-keyed data with a tombstone per key against a single range deletion, and
+ * the latency of seeking to the oldest retained entry once the pruned keys have been deleted.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Benchmark)
+public class SlotRangePruningBenchmark {
+  private static final int KEYS_PER_SLOT = 128;
+  private static final int VALUE_SIZE = 256;
+  private static final int SLOTS_PER_PRUNE = 32;
+
+  @Param({"POINT", "RANGE"})
+  private String deletion;
+
+  @Param({"2048"})
+  private int retainedSlots;
+
+  private final KvStoreColumn<DataColumnSlotAndIdentifier, Bytes> column =
+      KvStoreColumn.create(1, COLUMN_SLOT_AND_IDENTIFIER_KEY_SERIALIZER, BYTES_SERIALIZER);
+  private final Random random = new Random(42);
+  private Path databaseDir;
+  private KvStoreAccessor db;
+  private long firstSlot;
+  private long nextSlot;
+
+  @Setup
+  public void setup() throws IOException {
+    databaseDir = Files.createTempDirectory("slot-range-pruning");
+    db =
+        RocksDbInstanceFactory.create(
+            new NoOpMetricsSystem(),
+            STORAGE,
+            KvStoreConfiguration.v6SingleDefaults().withDatabaseDir(databaseDir),
+            List.of(column),
+            List.of(),
+            List.of(),
+            List.of());
+    // Store and then prune a full retention window so reads have to skip over the deleted keys.
+    for (int i = 0; i < retainedSlots * 2; i += SLOTS_PER_PRUNE) {
+      storeNextSlots();
+    }
+    while (nextSlot - firstSlot > retainedSlots) {
+      pruneOldestSlots();
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    db.close();
+    MoreFiles.deleteRecursively(databaseDir, RecursiveDeleteOption.ALLOW_INSECURE);
+  }
+
+  /** Keeps a constant retention window by storing and pruning the same number of slots. */
+  @Benchmark
+  public void storeAndPrune() {
+    storeNextSlots();
+    pruneOldestSlots();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Optional<ColumnEntry<DataColumnSlotAndIdentifier, Bytes>> readOldestRetainedEntry() {
+    return db.getFirstEntry(column);
+  }
+
+  private void storeNextSlots() {
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      for (int i = 0; i < SLOTS_PER_PRUNE; i++) {
+        final UInt64 slot = UInt64.valueOf(nextSlot++);
+        final Bytes32 blockRoot = Bytes32.random(random);
+        for (int columnIndex = 0; columnIndex < KEYS_PER_SLOT; columnIndex++) {
+          transaction.put(
+              column,
+              new DataColumnSlotAndIdentifier(slot, blockRoot, UInt64.valueOf(columnIndex)),
+              Bytes.random(VALUE_SIZE, random));
+        }
+      }
+      transaction.commit();
+    }
+  }
+
+  private void pruneOldestSlots() {
+    final UInt64 fromSlot = UInt64.valueOf(firstSlot);
+    final UInt64 toSlot = UInt64.valueOf(firstSlot + SLOTS_PER_PRUNE - 1);
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      if (deletion.equals("RANGE")) {
+        transaction.deleteRange(
+            column,
+            DataColumnSlotAndIdentifier.minimalComparableForSlot(fromSlot),
+            DataColumnSlotAndIdentifier.minimalComparableForSlot(toSlot.plus(1)));
+      } else {
+        try (final Stream<DataColumnSlotAndIdentifier> keys =
+            db.streamKeys(
+                column,
+                DataColumnSlotAndIdentifier.minimalComparableForSlot(fromSlot),
+                new DataColumnSlotAndIdentifier(toSlot, MAX_BLOCK_ROOT, UInt64.MAX_VALUE))) {
+          keys.forEach(key -> transaction.delete(column, key));
+        }
+      }
+      transaction.commit();
+    }
+    firstSlot += SLOTS_PER_PRUNE;
+  }
+}
@@ -28,6 +28,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.stream.AsyncStream;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -58,6 +59,7 @@ import tech.pegasys.teku.storage.store.UpdatableStore;
 
 public class CombinedChainDataClient {
   private static final Logger LOG = LogManager.getLogger();
+  static final int FINALIZED_BLOCKS_PAGE_SIZE = 32;
 
   private static final SafeFuture<Optional<BeaconState>> STATE_NOT_AVAILABLE =
       completedFuture(Optional.empty());
@@ -181,6 +183,25 @@ public class CombinedChainDataClient {
     return historicalChainData.getFinalizedBlockAtSlot(slot);
   }
 
+  /**
+   * Streams the finalized canonical blocks with slots from {@code startSlot} to {@code endSlot}
+   * (inclusive). Blocks are loaded from storage in pages, with the next page loaded while the
+   * current one is consumed, and loading stops if the consumer stops reading the stream.
+   */
+  public AsyncStream<SignedBeaconBlock> streamFinalizedBlocks(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return AsyncStream.createPaged(
+        lastBlock -> {
+          final UInt64 pageStartSlot =
+              lastBlock.map(block -> block.getSlot().increment()).orElse(startSlot);
+          if (pageStartSlot.isGreaterThan(endSlot)) {
+            return completedFuture(List.of());
+          }
+          return historicalChainData.getFinalizedBlocksInRange(
+              pageStartSlot, endSlot, FINALIZED_BLOCKS_PAGE_SIZE);
+        });
+  }
+
   public SafeFuture<Optional<SignedBeaconBlock>> getFinalizedBlockInEffectAtSlot(
       final UInt64 slot) {
     return historicalChainData.getLatestFinalizedBlockAtSlot(slot);
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.storage.server;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -68,18 +69,22 @@ public class ChainStorage
   private final FinalizedStateCache finalizedStateCache;
   private final StateStorageMode dataStorageMode;
   private final BlobSidecarsArchiver blobSidecarsArchiver;
+  private final Optional<StoreSnapshotFile> storeSnapshotFile;
 
   private Optional<OnDiskStoreData> cachedStoreData = Optional.empty();
+  private volatile boolean storeSnapshotWritten = false;
 
   private ChainStorage(
       final Database database,
       final FinalizedStateCache finalizedStateCache,
       final StateStorageMode dataStorageMode,
-      final BlobSidecarsArchiver blobSidecarsArchiver) {
+      final BlobSidecarsArchiver blobSidecarsArchiver,
+      final Optional<StoreSnapshotFile> storeSnapshotFile) {
     this.database = database;
     this.finalizedStateCache = finalizedStateCache;
     this.dataStorageMode = dataStorageMode;
     this.blobSidecarsArchiver = blobSidecarsArchiver;
+    this.storeSnapshotFile = storeSnapshotFile;
   }
 
   public static ChainStorage create(
@@ -87,17 +92,22 @@ public class ChainStorage
       final Spec spec,
       final StateStorageMode dataStorageMode,
       final int stateRebuildTimeoutSeconds,
-      final BlobSidecarsArchiver blobSidecarsArchiver) {
+      final BlobSidecarsArchiver blobSidecarsArchiver,
+      final Optional<StoreSnapshotFile> storeSnapshotFile) {
     final int finalizedStateCacheSize = spec.getSlotsPerEpoch(SpecConfig.GENESIS_EPOCH) * 3;
     return new ChainStorage(
         database,
         new FinalizedStateCache(
             spec, database, finalizedStateCacheSize, true, stateRebuildTimeoutSeconds),
         dataStorageMode,
-        blobSidecarsArchiver);
+        blobSidecarsArchiver,
+        storeSnapshotFile);
   }
 
   private synchronized Optional<OnDiskStoreData> getStore() {
+    if (cachedStoreData.isEmpty()) {
+      cachedStoreData = loadStoreFromSnapshot();
+    }
     if (cachedStoreData.isEmpty()) {
       // Create store from database
       cachedStoreData = database.createMemoryStore();
@@ -106,8 +116,48 @@ public class ChainStorage
     return cachedStoreData;
   }
 
+  private Optional<OnDiskStoreData> loadStoreFromSnapshot() {
+    final Optional<OnDiskStoreData> storeData =
+        storeSnapshotFile.flatMap(StoreSnapshotFile::load).flatMap(database::createMemoryStore);
+    storeData.ifPresent(
+        data ->
+            LOG.info(
+                "Loaded store from snapshot with {} blocks and {} votes",
+                data.blockInformation().size(),
+                data.votes().size()));
+    return storeData;
+  }
+
+  /**
+   * Writes a snapshot of the store for the next startup to load. Must only be called once no more
+   * updates are expected, as part of a clean shutdown.
+   */
+  public synchronized void writeStoreSnapshot() {
+    if (storeSnapshotFile.isEmpty()) {
+      return;
+    }
+    try {
+      final Optional<OnDiskStoreData> storeData = database.createMemoryStore();
+      if (storeData.isPresent()) {
+        storeSnapshotFile.get().write(StoreSnapshot.create(storeData.get()));
+        storeSnapshotWritten = true;
+        LOG.info("Wrote store snapshot for fast restart");
+      }
+    } catch (final IOException | RuntimeException e) {
+      LOG.warn("Failed to write store snapshot", e);
+    }
+  }
+
   private synchronized void handleStoreUpdate() {
     cachedStoreData = Optional.empty();
+    invalidateStoreSnapshot();
+  }
+
+  private void invalidateStoreSnapshot() {
+    if (storeSnapshotWritten) {
+      storeSnapshotWritten = false;
+      storeSnapshotFile.ifPresent(StoreSnapshotFile::delete);
+    }
   }
 
   @Override
@@ -190,6 +240,18 @@ public class ChainStorage
     return SafeFuture.of(() -> database.getLatestFinalizedBlockAtSlot(slot));
   }
 
+  @Override
+  public SafeFuture<List<SignedBeaconBlock>> getFinalizedBlocksInRange(
+      final UInt64 startSlot, final UInt64 endSlot, final int limit) {
+    return SafeFuture.of(
+        () -> {
+          try (final Stream<SignedBeaconBlock> blocks =
+              database.streamFinalizedBlocks(startSlot, endSlot)) {
+            return blocks.limit(limit).toList();
+          }
+        });
+  }
+
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(final Bytes32 blockRoot) {
     return SafeFuture.of(() -> database.getSignedBlock(blockRoot));
@@ -331,6 +393,7 @@ public class ChainStorage
   @Override
   public void onVotesUpdated(final Map<UInt64, VoteTracker> votes) {
     database.storeVotes(votes);
+    invalidateStoreSnapshot();
   }
 
   @Override
@@ -18,9 +18,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.ExceptionThrowingFutureSupplier;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.kzg.KZGProof;
@@ -51,25 +53,30 @@ import tech.pegasys.teku.storage.api.WeakSubjectivityUpdate;
  * synchronously and queries being run asynchronously.
  *
  * <p>This guarantees that queries are only ever processed after the updates that were sent before
- * them but without allowing queries to delay updates.
+ * them but without allowing queries to delay updates. When the update delegate completes updates
+ * asynchronously, queries wait for the updates sent before them to complete.
  */
 public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
   private final AsyncRunner asyncRunner;
   private final StorageQueryChannel queryDelegate;
   private final StorageUpdateChannel updateDelegate;
+  private final StorageQueryMetrics queryMetrics;
+  private SafeFuture<?> lastUpdate = SafeFuture.COMPLETE;
 
   public CombinedStorageChannelSplitter(
       final AsyncRunner asyncRunner,
       final StorageUpdateChannel updateDelegate,
-      final StorageQueryChannel queryDelegate) {
+      final StorageQueryChannel queryDelegate,
+      final StorageQueryMetrics queryMetrics) {
     this.asyncRunner = asyncRunner;
     this.queryDelegate = queryDelegate;
     this.updateDelegate = updateDelegate;
+    this.queryMetrics = queryMetrics;
   }
 
   @Override
   public SafeFuture<UpdateResult> onStorageUpdate(final StorageUpdate event) {
-    return updateDelegate.onStorageUpdate(event);
+    return trackUpdate(() -> updateDelegate.onStorageUpdate(event));
   }
 
   @Override
@@ -77,26 +84,29 @@ public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
       final Collection<SignedBeaconBlock> finalizedBlocks,
       final Map<SlotAndBlockRoot, List<BlobSidecar>> blobSidecarsBySlot,
       final Optional<UInt64> maybeEarliestBlobSidecarSlot) {
-    return updateDelegate.onFinalizedBlocks(
-        finalizedBlocks, blobSidecarsBySlot, maybeEarliestBlobSidecarSlot);
+    return trackUpdate(
+        () ->
+            updateDelegate.onFinalizedBlocks(
+                finalizedBlocks, blobSidecarsBySlot, maybeEarliestBlobSidecarSlot));
   }
 
   @Override
   public SafeFuture<Void> onReconstructedFinalizedState(
       final BeaconState finalizedState, final Bytes32 blockRoot) {
-    return updateDelegate.onReconstructedFinalizedState(finalizedState, blockRoot);
+    return trackUpdate(
+        () -> updateDelegate.onReconstructedFinalizedState(finalizedState, blockRoot));
   }
 
   @Override
   public SafeFuture<Void> onWeakSubjectivityUpdate(
       final WeakSubjectivityUpdate weakSubjectivityUpdate) {
-    return updateDelegate.onWeakSubjectivityUpdate(weakSubjectivityUpdate);
+    return trackUpdate(() -> updateDelegate.onWeakSubjectivityUpdate(weakSubjectivityUpdate));
   }
 
   @Override
   public SafeFuture<Void> onFinalizedDepositSnapshot(
       final DepositTreeSnapshot depositTreeSnapshot) {
-    return updateDelegate.onFinalizedDepositSnapshot(depositTreeSnapshot);
+    return trackUpdate(() -> updateDelegate.onFinalizedDepositSnapshot(depositTreeSnapshot));
   }
 
   @Override
@@ -104,232 +114,334 @@ public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
     updateDelegate.onChainInitialized(initialAnchor);
   }
 
+  private <T> SafeFuture<T> trackUpdate(final Supplier<SafeFuture<T>> update) {
+    // Sending the update may block on the update channel's backpressure so must not hold the lock
+    // queries need
+    final SafeFuture<T> result = update.get();
+    synchronized (this) {
+      // Concurrent updates may be sent in either order, so keep waiting for any earlier update
+      lastUpdate = lastUpdate.isDone() ? result : SafeFuture.allOf(lastUpdate, result);
+    }
+    return result;
+  }
+
+  private <T> SafeFuture<T> runQuery(
+      final String method, final ExceptionThrowingFutureSupplier<T> query, final Object... args) {
+    final long queuedTimeNanos = System.nanoTime();
+    final ExceptionThrowingFutureSupplier<T> measuredQuery =
+        () -> queryMetrics.measure(method, queuedTimeNanos, query, args);
+    final SafeFuture<?> pendingUpdate;
+    synchronized (this) {
+      pendingUpdate = lastUpdate;
+    }
+    if (pendingUpdate == null || pendingUpdate.isDone()) {
+      return asyncRunner.runAsync(measuredQuery);
+    }
+    return pendingUpdate.handleComposed((__, error) -> asyncRunner.runAsync(measuredQuery));
+  }
+
   @Override
   public SafeFuture<Optional<OnDiskStoreData>> onStoreRequest() {
-    return asyncRunner.runAsync(queryDelegate::onStoreRequest);
+    return runQuery("onStoreRequest", queryDelegate::onStoreRequest);
   }
 
   @Override
   public SafeFuture<WeakSubjectivityState> getWeakSubjectivityState() {
-    return asyncRunner.runAsync(queryDelegate::getWeakSubjectivityState);
+    return runQuery("getWeakSubjectivityState", queryDelegate::getWeakSubjectivityState);
   }
 
   @Override
   public SafeFuture<Optional<UInt64>> getEarliestAvailableBlockSlot() {
-    return asyncRunner.runAsync(queryDelegate::getEarliestAvailableBlockSlot);
+    return runQuery("getEarliestAvailableBlockSlot", queryDelegate::getEarliestAvailableBlockSlot);
   }
 
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getEarliestAvailableBlock() {
-    return asyncRunner.runAsync(queryDelegate::getEarliestAvailableBlock);
+    return runQuery("getEarliestAvailableBlock", queryDelegate::getEarliestAvailableBlock);
   }
 
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getFinalizedBlockAtSlot(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getFinalizedBlockAtSlot(slot));
+    return runQuery(
+        "getFinalizedBlockAtSlot", () -> queryDelegate.getFinalizedBlockAtSlot(slot), slot);
   }
 
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getLatestFinalizedBlockAtSlot(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getLatestFinalizedBlockAtSlot(slot));
+    return runQuery(
+        "getLatestFinalizedBlockAtSlot",
+        () -> queryDelegate.getLatestFinalizedBlockAtSlot(slot),
+        slot);
+  }
+
+  @Override
+  public SafeFuture<List<SignedBeaconBlock>> getFinalizedBlocksInRange(
+      final UInt64 startSlot, final UInt64 endSlot, final int limit) {
+    return runQuery(
+        "getFinalizedBlocksInRange",
+        () -> queryDelegate.getFinalizedBlocksInRange(startSlot, endSlot, limit),
+        startSlot,
+        endSlot,
+        limit);
   }
 
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(final Bytes32 blockRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getBlockByBlockRoot(blockRoot));
+    return runQuery(
+        "getBlockByBlockRoot", () -> queryDelegate.getBlockByBlockRoot(blockRoot), blockRoot);
   }
 
   @Override
   public SafeFuture<Optional<SignedBlockAndState>> getHotBlockAndStateByBlockRoot(
       final Bytes32 blockRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getHotBlockAndStateByBlockRoot(blockRoot));
+    return runQuery(
+        "getHotBlockAndStateByBlockRoot",
+        () -> queryDelegate.getHotBlockAndStateByBlockRoot(blockRoot),
+        blockRoot);
   }
 
   @Override
   public SafeFuture<Optional<StateAndBlockSummary>> getHotStateAndBlockSummaryByBlockRoot(
       final Bytes32 blockRoot) {
-    return asyncRunner.runAsync(
-        () -> queryDelegate.getHotStateAndBlockSummaryByBlockRoot(blockRoot));
+    return runQuery(
+        "getHotStateAndBlockSummaryByBlockRoot",
+        () -> queryDelegate.getHotStateAndBlockSummaryByBlockRoot(blockRoot),
+        blockRoot);
   }
 
   @Override
   public SafeFuture<Map<Bytes32, SignedBeaconBlock>> getHotBlocksByRoot(
       final Set<Bytes32> blockRoots) {
-    return asyncRunner.runAsync(() -> queryDelegate.getHotBlocksByRoot(blockRoots));
+    return runQuery(
+        "getHotBlocksByRoot", () -> queryDelegate.getHotBlocksByRoot(blockRoots), blockRoots);
   }
 
   @Override
   public SafeFuture<Map<Bytes32, SignedBlindedExecutionPayloadEnvelope>>
       getBlindedExecutionPayloadEnvelopesByBlockRoot(final Set<Bytes32> blockRoots) {
-    return asyncRunner.runAsync(
-        () -> queryDelegate.getBlindedExecutionPayloadEnvelopesByBlockRoot(blockRoots));
+    return runQuery(
+        "getBlindedExecutionPayloadEnvelopesByBlockRoot",
+        () -> queryDelegate.getBlindedExecutionPayloadEnvelopesByBlockRoot(blockRoots),
+        blockRoots);
   }
 
   @Override
   public SafeFuture<List<BlobSidecar>> getBlobSidecarsBySlotAndBlockRoot(
       final SlotAndBlockRoot slotAndBlockRoot) {
-    return asyncRunner.runAsync(
-        () -> queryDelegate.getBlobSidecarsBySlotAndBlockRoot(slotAndBlockRoot));
+    return runQuery(
+        "getBlobSidecarsBySlotAndBlockRoot",
+        () -> queryDelegate.getBlobSidecarsBySlotAndBlockRoot(slotAndBlockRoot),
+        slotAndBlockRoot);
   }
 
   @Override
   public SafeFuture<Optional<SlotAndBlockRoot>> getSlotAndBlockRootByStateRoot(
       final Bytes32 stateRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getSlotAndBlockRootByStateRoot(stateRoot));
+    return runQuery(
+        "getSlotAndBlockRootByStateRoot",
+        () -> queryDelegate.getSlotAndBlockRootByStateRoot(stateRoot),
+        stateRoot);
   }
 
   @Override
   public SafeFuture<Optional<BeaconState>> getLatestFinalizedStateAtSlot(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getLatestFinalizedStateAtSlot(slot));
+    return runQuery(
+        "getLatestFinalizedStateAtSlot",
+        () -> queryDelegate.getLatestFinalizedStateAtSlot(slot),
+        slot);
   }
 
   @Override
   public SafeFuture<Optional<BeaconState>> getLatestAvailableFinalizedState(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getLatestAvailableFinalizedState(slot));
+    return runQuery(
+        "getLatestAvailableFinalizedState",
+        () -> queryDelegate.getLatestAvailableFinalizedState(slot),
+        slot);
   }
 
   @Override
   public SafeFuture<Optional<UInt64>> getFinalizedSlotByBlockRoot(final Bytes32 blockRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getFinalizedSlotByBlockRoot(blockRoot));
+    return runQuery(
+        "getFinalizedSlotByBlockRoot",
+        () -> queryDelegate.getFinalizedSlotByBlockRoot(blockRoot),
+        blockRoot);
   }
 
   @Override
   public SafeFuture<Optional<BeaconState>> getFinalizedStateByBlockRoot(final Bytes32 blockRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getFinalizedStateByBlockRoot(blockRoot));
+    return runQuery(
+        "getFinalizedStateByBlockRoot",
+        () -> queryDelegate.getFinalizedStateByBlockRoot(blockRoot),
+        blockRoot);
   }
 
   @Override
   public SafeFuture<Optional<Bytes32>> getLatestCanonicalBlockRoot() {
-    return asyncRunner.runAsync(queryDelegate::getLatestCanonicalBlockRoot);
+    return runQuery("getLatestCanonicalBlockRoot", queryDelegate::getLatestCanonicalBlockRoot);
   }
 
   @Override
   public SafeFuture<Optional<UInt64>> getCustodyGroupCount() {
-    return asyncRunner.runAsync(queryDelegate::getCustodyGroupCount);
+    return runQuery("getCustodyGroupCount", queryDelegate::getCustodyGroupCount);
   }
 
   @Override
   public SafeFuture<Optional<UInt64>> getFinalizedSlotByStateRoot(final Bytes32 stateRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getFinalizedSlotByStateRoot(stateRoot));
+    return runQuery(
+        "getFinalizedSlotByStateRoot",
+        () -> queryDelegate.getFinalizedSlotByStateRoot(stateRoot),
+        stateRoot);
   }
 
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getNonCanonicalBlockByRoot(
       final Bytes32 blockRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getNonCanonicalBlockByRoot(blockRoot));
+    return runQuery(
+        "getNonCanonicalBlockByRoot",
+        () -> queryDelegate.getNonCanonicalBlockByRoot(blockRoot),
+        blockRoot);
   }
 
   @Override
   public SafeFuture<List<SignedBeaconBlock>> getNonCanonicalBlocksBySlot(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getNonCanonicalBlocksBySlot(slot));
+    return runQuery(
+        "getNonCanonicalBlocksBySlot", () -> queryDelegate.getNonCanonicalBlocksBySlot(slot), slot);
   }
 
   @Override
   public SafeFuture<Optional<Checkpoint>> getAnchor() {
-    return asyncRunner.runAsync(queryDelegate::getAnchor);
+    return runQuery("getAnchor", queryDelegate::getAnchor);
   }
 
   @Override
   public SafeFuture<Optional<DepositTreeSnapshot>> getFinalizedDepositSnapshot() {
-    return asyncRunner.runAsync(queryDelegate::getFinalizedDepositSnapshot);
+    return runQuery("getFinalizedDepositSnapshot", queryDelegate::getFinalizedDepositSnapshot);
   }
 
   @Override
   public SafeFuture<Optional<UInt64>> getEarliestAvailableBlobSidecarSlot() {
-    return asyncRunner.runAsync(queryDelegate::getEarliestAvailableBlobSidecarSlot);
+    return runQuery(
+        "getEarliestAvailableBlobSidecarSlot", queryDelegate::getEarliestAvailableBlobSidecarSlot);
   }
 
   @Override
   public SafeFuture<Optional<UInt64>> getEarliestAvailableDataColumnSlot() {
-    return asyncRunner.runAsync(queryDelegate::getEarliestAvailableDataColumnSlot);
+    return runQuery(
+        "getEarliestAvailableDataColumnSlot", queryDelegate::getEarliestAvailableDataColumnSlot);
   }
 
   @Override
   public SafeFuture<Optional<BlobSidecar>> getBlobSidecar(final SlotAndBlockRootAndBlobIndex key) {
-    return asyncRunner.runAsync(() -> queryDelegate.getBlobSidecar(key));
+    return runQuery("getBlobSidecar", () -> queryDelegate.getBlobSidecar(key), key);
   }
 
   @Override
   public SafeFuture<Optional<BlobSidecar>> getNonCanonicalBlobSidecar(
       final SlotAndBlockRootAndBlobIndex key) {
-    return asyncRunner.runAsync(() -> queryDelegate.getNonCanonicalBlobSidecar(key));
+    return runQuery(
+        "getNonCanonicalBlobSidecar", () -> queryDelegate.getNonCanonicalBlobSidecar(key), key);
   }
 
   @Override
   public SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getBlobSidecarKeys(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getBlobSidecarKeys(slot));
+    return runQuery("getBlobSidecarKeys", () -> queryDelegate.getBlobSidecarKeys(slot), slot);
   }
 
   @Override
   public SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getAllBlobSidecarKeys(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getAllBlobSidecarKeys(slot));
+    return runQuery("getAllBlobSidecarKeys", () -> queryDelegate.getAllBlobSidecarKeys(slot), slot);
   }
 
   @Override
   public SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getBlobSidecarKeys(
       final UInt64 startSlot, final UInt64 endSlot, final long limit) {
-    return asyncRunner.runAsync(() -> queryDelegate.getBlobSidecarKeys(startSlot, endSlot, limit));
+    return runQuery(
+        "getBlobSidecarKeys",
+        () -> queryDelegate.getBlobSidecarKeys(startSlot, endSlot, limit),
+        startSlot,
+        endSlot,
+        limit);
   }
 
   @Override
   public SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getBlobSidecarKeys(
       final SlotAndBlockRoot slotAndBlockRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getBlobSidecarKeys(slotAndBlockRoot));
+    return runQuery(
+        "getBlobSidecarKeys",
+        () -> queryDelegate.getBlobSidecarKeys(slotAndBlockRoot),
+        slotAndBlockRoot);
   }
 
   @Override
   public SafeFuture<List<BlobSidecar>> getArchivedBlobSidecars(
       final SlotAndBlockRoot slotAndBlockRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getArchivedBlobSidecars(slotAndBlockRoot));
+    return runQuery(
+        "getArchivedBlobSidecars",
+        () -> queryDelegate.getArchivedBlobSidecars(slotAndBlockRoot),
+        slotAndBlockRoot);
   }
 
   @Override
   public SafeFuture<List<BlobSidecar>> getArchivedBlobSidecars(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getArchivedBlobSidecars(slot));
+    return runQuery(
+        "getArchivedBlobSidecars", () -> queryDelegate.getArchivedBlobSidecars(slot), slot);
   }
 
   @Override
   public SafeFuture<Optional<UInt64>> getFirstCustodyIncompleteSlot() {
-    return asyncRunner.runAsync(queryDelegate::getFirstCustodyIncompleteSlot);
+    return runQuery("getFirstCustodyIncompleteSlot", queryDelegate::getFirstCustodyIncompleteSlot);
   }
 
   @Override
   public SafeFuture<Optional<DataColumnSidecar>> getSidecar(
       final DataColumnSlotAndIdentifier identifier) {
-    return asyncRunner.runAsync(() -> queryDelegate.getSidecar(identifier));
+    return runQuery("getSidecar", () -> queryDelegate.getSidecar(identifier), identifier);
   }
 
   @Override
   public SafeFuture<Optional<DataColumnSidecar>> getNonCanonicalSidecar(
       final DataColumnSlotAndIdentifier identifier) {
-    return asyncRunner.runAsync(() -> queryDelegate.getNonCanonicalSidecar(identifier));
+    return runQuery(
+        "getNonCanonicalSidecar",
+        () -> queryDelegate.getNonCanonicalSidecar(identifier),
+        identifier);
   }
 
   @Override
   public SafeFuture<List<DataColumnSlotAndIdentifier>> getDataColumnIdentifiers(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getDataColumnIdentifiers(slot));
+    return runQuery(
+        "getDataColumnIdentifiers", () -> queryDelegate.getDataColumnIdentifiers(slot), slot);
   }
 
   @Override
   public SafeFuture<List<DataColumnSlotAndIdentifier>> getNonCanonicalDataColumnIdentifiers(
       final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getNonCanonicalDataColumnIdentifiers(slot));
+    return runQuery(
+        "getNonCanonicalDataColumnIdentifiers",
+        () -> queryDelegate.getNonCanonicalDataColumnIdentifiers(slot),
+        slot);
   }
 
   @Override
   public SafeFuture<List<DataColumnSlotAndIdentifier>> getDataColumnIdentifiers(
       final UInt64 startSlot, final UInt64 endSlot, final UInt64 limit) {
-    return asyncRunner.runAsync(
-        () -> queryDelegate.getDataColumnIdentifiers(startSlot, endSlot, limit));
+    return runQuery(
+        "getDataColumnIdentifiers",
+        () -> queryDelegate.getDataColumnIdentifiers(startSlot, endSlot, limit),
+        startSlot,
+        endSlot,
+        limit);
   }
 
   @Override
   public SafeFuture<Optional<UInt64>> getEarliestDataColumnSidecarSlot() {
-    return asyncRunner.runAsync(queryDelegate::getEarliestDataColumnSidecarSlot);
+    return runQuery(
+        "getEarliestDataColumnSidecarSlot", queryDelegate::getEarliestDataColumnSidecarSlot);
   }
 
   @Override
   public SafeFuture<Optional<List<List<KZGProof>>>> getDataColumnSidecarsProofs(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getDataColumnSidecarsProofs(slot));
+    return runQuery(
+        "getDataColumnSidecarsProofs", () -> queryDelegate.getDataColumnSidecarsProofs(slot), slot);
   }
 }
@@ -114,6 +114,13 @@ public interface Database extends AutoCloseable {
 
   Optional<OnDiskStoreData> createMemoryStore();
 
+  /**
+   * Creates the store data from a snapshot written at the last clean shutdown.
+   *
+   * @return empty if the snapshot does not match the current database contents
+   */
+  Optional<OnDiskStoreData> createMemoryStore(StoreSnapshot snapshot);
+
   WeakSubjectivityState getWeakSubjectivityState();
 
   Map<UInt64, VoteTracker> getVotes();
@@ -0,0 +1,309 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.Histogram;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
+import tech.pegasys.teku.spec.datastructures.blocks.BlockAndCheckpoints;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.epbs.versions.gloas.SignedBlindedExecutionPayloadEnvelope;
+import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.api.StorageUpdate;
+import tech.pegasys.teku.storage.api.StorageUpdateChannel;
+import tech.pegasys.teku.storage.api.UpdateResult;
+import tech.pegasys.teku.storage.api.WeakSubjectivityUpdate;
+
+/**
+ * Writes storage updates from a single writer thread, combining consecutive updates which only
+ * touch hot data into one {@link StorageUpdate} so they are written in a single batch rather than
+ * one batch per store transaction.
+ *
+ * <p>Updates which finalize data, delete hot blocks or set the optimistic transition block, along
+ * with all other update types, are written on their own and are never reordered relative to other
+ * updates. The future returned for each update only completes once the batch containing it has
+ * been written, so each caller still gets its own acknowledgement.
+ *
+ * <p>Batches are bounded by {@code maxBatchSize}. The writer never waits for a batch to fill:
+ * updates which arrive while the previous batch is being written form the next batch, so batches
+ * grow with load and an idle node writes each update immediately. The number of queued operations
+ * is bounded, and publishers block once it is reached, which keeps the back pressure of writing
+ * updates synchronously.
+ */
+public class GroupCommitStorageUpdateChannel implements StorageUpdateChannel {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final int MAX_QUEUED_OPERATIONS = 256;
+  private static final double[] BATCH_SIZE_BUCKETS = {1, 2, 4, 8, 16, 32, 64, 128};
+
+  private final StorageUpdateChannel delegate;
+  private final AsyncRunner writerRunner;
+  private final int maxBatchSize;
+  private final Semaphore queueCapacity = new Semaphore(MAX_QUEUED_OPERATIONS);
+  private final Counter writeBatchCounter;
+  private final Histogram writeBatchSizeHistogram;
+
+  private final Queue<PendingOperation> queue = new ArrayDeque<>();
+  private boolean processingScheduled = false;
+
+  public GroupCommitStorageUpdateChannel(
+      final StorageUpdateChannel delegate,
+      final AsyncRunner writerRunner,
+      final int maxBatchSize,
+      final MetricsSystem metricsSystem) {
+    checkArgument(maxBatchSize > 0, "Max batch size must be positive but was %s", maxBatchSize);
+    this.delegate = delegate;
+    this.writerRunner = writerRunner;
+    this.maxBatchSize = maxBatchSize;
+    this.writeBatchCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.STORAGE,
+            "update_write_batches_total",
+            "Number of write batches used to apply storage updates");
+    this.writeBatchSizeHistogram =
+        metricsSystem.createHistogram(
+            TekuMetricCategory.STORAGE,
+            "update_write_batch_size",
+            "Number of storage updates combined into each write batch",
+            BATCH_SIZE_BUCKETS);
+  }
+
+  @Override
+  public SafeFuture<UpdateResult> onStorageUpdate(final StorageUpdate event) {
+    if (!isMergeable(event)) {
+      return enqueueWrite(() -> delegate.onStorageUpdate(event));
+    }
+    final SafeFuture<UpdateResult> result = new SafeFuture<>();
+    enqueue(new PendingHotUpdate(event, result), result);
+    return result;
+  }
+
+  @Override
+  public SafeFuture<Void> onFinalizedBlocks(
+      final Collection<SignedBeaconBlock> finalizedBlocks,
+      final Map<SlotAndBlockRoot, List<BlobSidecar>> blobSidecarsBySlot,
+      final Optional<UInt64> maybeEarliestBlobSidecarSlot) {
+    return enqueueWrite(
+        () ->
+            delegate.onFinalizedBlocks(
+                finalizedBlocks, blobSidecarsBySlot, maybeEarliestBlobSidecarSlot));
+  }
+
+  @Override
+  public SafeFuture<Void> onReconstructedFinalizedState(
+      final BeaconState finalizedState, final Bytes32 blockRoot) {
+    return enqueueWrite(() -> delegate.onReconstructedFinalizedState(finalizedState, blockRoot));
+  }
+
+  @Override
+  public SafeFuture<Void> onWeakSubjectivityUpdate(
+      final WeakSubjectivityUpdate weakSubjectivityUpdate) {
+    return enqueueWrite(() -> delegate.onWeakSubjectivityUpdate(weakSubjectivityUpdate));
+  }
+
+  @Override
+  public SafeFuture<Void> onFinalizedDepositSnapshot(
+      final DepositTreeSnapshot depositTreeSnapshot) {
+    return enqueueWrite(() -> delegate.onFinalizedDepositSnapshot(depositTreeSnapshot));
+  }
+
+  @Override
+  public void onChainInitialized(final AnchorPoint initialAnchor) {
+    // Callers expect the anchor to be stored when this returns
+    enqueueWrite(
+            () -> {
+              delegate.onChainInitialized(initialAnchor);
+              return SafeFuture.COMPLETE;
+            })
+        .join();
+  }
+
+  /** Returns a future which completes once all previously queued operations have been written. */
+  public SafeFuture<Void> flush() {
+    return enqueueWrite(() -> SafeFuture.COMPLETE);
+  }
+
+  private <T> SafeFuture<T> enqueueWrite(final Supplier<SafeFuture<T>> write) {
+    final SafeFuture<T> result = new SafeFuture<>();
+    enqueue(
+        new PendingWrite(
+            () -> {
+              final SafeFuture<T> writeResult = SafeFuture.of(write::get);
+              writeResult.propagateTo(result);
+              return writeResult;
+            }),
+        result);
+    return result;
+  }
+
+  private void enqueue(final PendingOperation operation, final SafeFuture<?> result) {
+    queueCapacity.acquireUninterruptibly();
+    result.always(queueCapacity::release);
+    synchronized (this) {
+      queue.add(operation);
+      if (processingScheduled) {
+        return;
+      }
+      processingScheduled = true;
+    }
+    writerRunner.runAsync(this::processQueue).finishStackTrace();
+  }
+
+  private void processQueue() {
+    List<PendingOperation> batch = takeNextBatch();
+    while (!batch.isEmpty()) {
+      try {
+        // Wait for each write so later operations are applied after it
+        if (batch.getFirst() instanceof PendingWrite write) {
+          write.write().get().join();
+        } else {
+          writeHotUpdates(batch.stream().map(PendingHotUpdate.class::cast).toList());
+        }
+      } catch (final RuntimeException e) {
+        // Failures are reported to the caller through the future for each operation
+        LOG.debug("Failed to write storage update batch", e);
+      }
+      batch = takeNextBatch();
+    }
+  }
+
+  private synchronized List<PendingOperation> takeNextBatch() {
+    final PendingOperation first = queue.poll();
+    if (first == null) {
+      processingScheduled = false;
+      return List.of();
+    }
+    writeBatchCounter.inc();
+    final List<PendingOperation> batch = new ArrayList<>();
+    batch.add(first);
+    while (first instanceof PendingHotUpdate
+        && batch.size() < maxBatchSize
+        && queue.peek() instanceof PendingHotUpdate) {
+      batch.add(queue.poll());
+    }
+    writeBatchSizeHistogram.observe(batch.size());
+    return batch;
+  }
+
+  private void writeHotUpdates(final List<PendingHotUpdate> updates) {
+    final StorageUpdate update =
+        updates.size() == 1
+            ? updates.getFirst().update()
+            : merge(updates.stream().map(PendingHotUpdate::update).toList());
+    final SafeFuture<UpdateResult> writeResult =
+        SafeFuture.of(() -> delegate.onStorageUpdate(update));
+    // Hot only updates never finalize data, so each caller gets the same empty result
+    updates.forEach(pending -> writeResult.propagateTo(pending.result()));
+    writeResult.join();
+  }
+
+  @VisibleForTesting
+  static boolean isMergeable(final StorageUpdate update) {
+    return update.getFinalizedCheckpoint().isEmpty()
+        && update.getDeletedHotBlocks().isEmpty()
+        && !update.isFinalizedOptimisticTransitionBlockRootSet();
+  }
+
+  /**
+   * Combines updates which only add hot data into a single update. Where more than one update sets
+   * the same value, the latest value wins, matching the result of applying them in order.
+   */
+  @VisibleForTesting
+  static StorageUpdate merge(final List<StorageUpdate> updates) {
+    Optional<UInt64> genesisTime = Optional.empty();
+    Optional<Checkpoint> justifiedCheckpoint = Optional.empty();
+    Optional<Checkpoint> bestJustifiedCheckpoint = Optional.empty();
+    Optional<UInt64> earliestBlobSidecarSlot = Optional.empty();
+    Optional<Bytes32> latestCanonicalBlockRoot = Optional.empty();
+    Optional<UInt64> custodyGroupCount = Optional.empty();
+    final Map<Bytes32, BlockAndCheckpoints> hotBlocks = new HashMap<>();
+    final Map<Bytes32, BeaconState> hotStates = new HashMap<>();
+    final Map<Bytes32, SignedBlindedExecutionPayloadEnvelope> blindedExecutionPayloads =
+        new HashMap<>();
+    final Map<SlotAndBlockRoot, List<BlobSidecar>> blobSidecars = new HashMap<>();
+    final Map<Bytes32, SlotAndBlockRoot> stateRoots = new HashMap<>();
+    for (final StorageUpdate update : updates) {
+      checkArgument(isMergeable(update), "Can't merge updates which modify finalized data");
+      genesisTime = latest(genesisTime, update.getGenesisTime());
+      justifiedCheckpoint = latest(justifiedCheckpoint, update.getJustifiedCheckpoint());
+      bestJustifiedCheckpoint =
+          latest(bestJustifiedCheckpoint, update.getBestJustifiedCheckpoint());
+      // The earliest blob sidecar slot is only stored if it isn't already set
+      earliestBlobSidecarSlot = earliestBlobSidecarSlot.or(update::getEarliestBlobSidecarSlot);
+      latestCanonicalBlockRoot =
+          latest(latestCanonicalBlockRoot, update.getLatestCanonicalBlockRoot());
+      custodyGroupCount = latest(custodyGroupCount, update.getCustodyGroupCount());
+      hotBlocks.putAll(update.getHotBlocks());
+      hotStates.putAll(update.getHotStates());
+      blindedExecutionPayloads.putAll(update.getBlindedExecutionPayloads());
+      blobSidecars.putAll(update.getBlobSidecars());
+      stateRoots.putAll(update.getStateRoots());
+    }
+    final StorageUpdate last = updates.getLast();
+    return new StorageUpdate(
+        genesisTime,
+        Optional.empty(),
+        justifiedCheckpoint,
+        bestJustifiedCheckpoint,
+        hotBlocks,
+        hotStates,
+        blindedExecutionPayloads,
+        blobSidecars,
+        earliestBlobSidecarSlot,
+        Map.of(),
+        stateRoots,
+        false,
+        Optional.empty(),
+        latestCanonicalBlockRoot,
+        custodyGroupCount,
+        last.isBlobSidecarsEnabled(),
+        last.isSidecarsEnabled(),
+        last.isExecutionPayloadEnvelopesEnabled());
+  }
+
+  private static <T> Optional<T> latest(final Optional<T> current, final Optional<T> next) {
+    return next.isPresent() ? next : current;
+  }
+
+  private sealed interface PendingOperation permits PendingHotUpdate, PendingWrite {}
+
+  private record PendingHotUpdate(StorageUpdate update, SafeFuture<UpdateResult> result)
+      implements PendingOperation {}
+
+  private record PendingWrite(Supplier<SafeFuture<?>> write) implements PendingOperation {}
+}
@@ -34,6 +34,12 @@ import tech.pegasys.teku.spec.Spec;
 public class StorageConfiguration {
   public static final boolean DEFAULT_STORE_NON_CANONICAL_BLOCKS_ENABLED = false;
   public static final boolean DEFAULT_ROCKSDB_BLOB_DB_ENABLED = false;
+  public static final boolean DEFAULT_ROCKSDB_BULK_LOAD_ENABLED = false;
+  public static final boolean DEFAULT_STATE_DIFFS_ENABLED = false;
+  public static final boolean DEFAULT_STORE_SNAPSHOT_ENABLED = false;
+  public static final boolean DEFAULT_GROUP_COMMIT_ENABLED = false;
+  public static final int DEFAULT_GROUP_COMMIT_MAX_BATCH_SIZE = 32;
+  public static final int DEFAULT_SLOW_QUERY_THRESHOLD_MILLIS = 0;
   public static final int DEFAULT_STATE_REBUILD_TIMEOUT_SECONDS = 120;
   public static final long DEFAULT_STORAGE_FREQUENCY = 2048L;
   public static final int DEFAULT_MAX_KNOWN_NODE_CACHE_SIZE = 100_000;
@@ -76,6 +82,13 @@ public class StorageConfiguration {
   private final int stateRebuildTimeoutSeconds;
   private final boolean forceClearDb;
   private final boolean rocksdbBlobDbEnabled;
+  private final boolean rocksdbBulkLoadEnabled;
+  private final boolean stateDiffsEnabled;
+  private final boolean storeSnapshotEnabled;
+  private final Path finalizedDataPath;
+  private final boolean groupCommitEnabled;
+  private final int groupCommitMaxBatchSize;
+  private final int slowQueryThresholdMillis;
 
   private StorageConfiguration(
       final Eth1Address eth1DepositContract,
@@ -97,7 +110,14 @@ public class StorageConfiguration {
       final int statePruningLimit,
       final Spec spec,
       final boolean forceClearDb,
-      final boolean rocksdbBlobDbEnabled) {
+      final boolean rocksdbBlobDbEnabled,
+      final boolean rocksdbBulkLoadEnabled,
+      final boolean stateDiffsEnabled,
+      final boolean storeSnapshotEnabled,
+      final Path finalizedDataPath,
+      final boolean groupCommitEnabled,
+      final int groupCommitMaxBatchSize,
+      final int slowQueryThresholdMillis) {
     this.eth1DepositContract = eth1DepositContract;
     this.dataStorageMode = dataStorageMode;
     this.dataStorageFrequency = dataStorageFrequency;
@@ -118,6 +138,13 @@ public class StorageConfiguration {
     this.spec = spec;
     this.forceClearDb = forceClearDb;
     this.rocksdbBlobDbEnabled = rocksdbBlobDbEnabled;
+    this.rocksdbBulkLoadEnabled = rocksdbBulkLoadEnabled;
+    this.stateDiffsEnabled = stateDiffsEnabled;
+    this.storeSnapshotEnabled = storeSnapshotEnabled;
+    this.finalizedDataPath = finalizedDataPath;
+    this.groupCommitEnabled = groupCommitEnabled;
+    this.groupCommitMaxBatchSize = groupCommitMaxBatchSize;
+    this.slowQueryThresholdMillis = slowQueryThresholdMillis;
   }
 
   public static Builder builder() {
@@ -204,6 +231,38 @@ public class StorageConfiguration {
     return rocksdbBlobDbEnabled;
   }
 
+  public boolean isRocksdbBulkLoadEnabled() {
+    return rocksdbBulkLoadEnabled;
+  }
+
+  public boolean isStateDiffsEnabled() {
+    return stateDiffsEnabled;
+  }
+
+  public boolean isStoreSnapshotEnabled() {
+    return storeSnapshotEnabled;
+  }
+
+  /**
+   * The directory for the finalized database when using a database version which stores hot and
+   * finalized data separately. Defaults to the archive directory within the beacon data directory.
+   */
+  public Optional<Path> getFinalizedDataPath() {
+    return Optional.ofNullable(finalizedDataPath);
+  }
+
+  public boolean isGroupCommitEnabled() {
+    return groupCommitEnabled;
+  }
+
+  public int getGroupCommitMaxBatchSize() {
+    return groupCommitMaxBatchSize;
+  }
+
+  public int getSlowQueryThresholdMillis() {
+    return slowQueryThresholdMillis;
+  }
+
   public static final class Builder {
     private static final Logger LOG = LogManager.getLogger();
     private Eth1Address eth1DepositContract;
@@ -227,6 +286,13 @@ public class StorageConfiguration {
     private int statePruningLimit = DEFAULT_STATE_PRUNING_LIMIT;
     private boolean forceClearDb = false;
     private boolean rocksdbBlobDbEnabled = DEFAULT_ROCKSDB_BLOB_DB_ENABLED;
+    private boolean rocksdbBulkLoadEnabled = DEFAULT_ROCKSDB_BULK_LOAD_ENABLED;
+    private boolean stateDiffsEnabled = DEFAULT_STATE_DIFFS_ENABLED;
+    private boolean storeSnapshotEnabled = DEFAULT_STORE_SNAPSHOT_ENABLED;
+    private Path finalizedDataPath = null;
+    private boolean groupCommitEnabled = DEFAULT_GROUP_COMMIT_ENABLED;
+    private int groupCommitMaxBatchSize = DEFAULT_GROUP_COMMIT_MAX_BATCH_SIZE;
+    private int slowQueryThresholdMillis = DEFAULT_SLOW_QUERY_THRESHOLD_MILLIS;
 
     private Builder() {}
 
@@ -390,6 +456,49 @@ public class StorageConfiguration {
       return this;
     }
 
+    public Builder rocksdbBulkLoadEnabled(final boolean rocksdbBulkLoadEnabled) {
+      this.rocksdbBulkLoadEnabled = rocksdbBulkLoadEnabled;
+      return this;
+    }
+
+    public Builder stateDiffsEnabled(final boolean stateDiffsEnabled) {
+      this.stateDiffsEnabled = stateDiffsEnabled;
+      return this;
+    }
+
+    public Builder storeSnapshotEnabled(final boolean storeSnapshotEnabled) {
+      this.storeSnapshotEnabled = storeSnapshotEnabled;
+      return this;
+    }
+
+    public Builder finalizedDataPath(final Path finalizedDataPath) {
+      this.finalizedDataPath = finalizedDataPath;
+      return this;
+    }
+
+    public Builder groupCommitEnabled(final boolean groupCommitEnabled) {
+      this.groupCommitEnabled = groupCommitEnabled;
+      return this;
+    }
+
+    public Builder groupCommitMaxBatchSize(final int groupCommitMaxBatchSize) {
+      if (groupCommitMaxBatchSize < 1) {
+        throw new InvalidConfigurationException(
+            "Invalid group commit max batch size: " + groupCommitMaxBatchSize);
+      }
+      this.groupCommitMaxBatchSize = groupCommitMaxBatchSize;
+      return this;
+    }
+
+    public Builder slowQueryThresholdMillis(final int slowQueryThresholdMillis) {
+      if (slowQueryThresholdMillis < 0) {
+        throw new InvalidConfigurationException(
+            "Invalid slow query threshold: " + slowQueryThresholdMillis);
+      }
+      this.slowQueryThresholdMillis = slowQueryThresholdMillis;
+      return this;
+    }
+
     public StorageConfiguration build() {
       determineDataStorageMode();
       validateStatePruningConfiguration();
@@ -413,7 +522,14 @@ public class StorageConfiguration {
           statePruningLimit,
           spec,
           forceClearDb,
-          rocksdbBlobDbEnabled);
+          rocksdbBlobDbEnabled,
+          rocksdbBulkLoadEnabled,
+          stateDiffsEnabled,
+          storeSnapshotEnabled,
+          finalizedDataPath,
+          groupCommitEnabled,
+          groupCommitMaxBatchSize,
+          slowQueryThresholdMillis);
     }
 
     private void determineDataStorageMode() {
@@ -0,0 +1,158 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server;
+
+import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.STORAGE;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.Histogram;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.async.ExceptionThrowingFutureSupplier;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreReadStats;
+
+/**
+ * Records where the time goes for each storage query method: waiting in the query queue, reading
+ * from the key-value store and deserializing the values read. Queries which take longer than the
+ * configured threshold are logged along with their arguments.
+ */
+public class StorageQueryMetrics {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final double[] DURATION_BUCKETS =
+      new double[] {0.0001, 0.0005, 0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1.0, 5.0, 10.0};
+  private static final double[] BYTES_BUCKETS =
+      new double[] {1_024, 16_384, 131_072, 1_048_576, 8_388_608, 67_108_864, 268_435_456};
+
+  private final long slowQueryThresholdNanos;
+  private final LabelledMetric<Histogram> queueWaitTime;
+  private final LabelledMetric<Histogram> queryDuration;
+  private final LabelledMetric<Histogram> readTime;
+  private final LabelledMetric<Histogram> deserializationTime;
+  private final LabelledMetric<Histogram> bytesRead;
+  private final LabelledMetric<Counter> slowQueries;
+
+  public StorageQueryMetrics(
+      final MetricsSystem metricsSystem, final int slowQueryThresholdMillis) {
+    this.slowQueryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryThresholdMillis);
+    this.queueWaitTime =
+        metricsSystem.createLabelledHistogram(
+            STORAGE,
+            "query_queue_wait_seconds",
+            "Time storage queries spent waiting to be processed",
+            DURATION_BUCKETS,
+            "method");
+    this.queryDuration =
+        metricsSystem.createLabelledHistogram(
+            STORAGE,
+            "query_duration_seconds",
+            "Time taken to process storage queries, excluding time spent queued",
+            DURATION_BUCKETS,
+            "method");
+    this.readTime =
+        metricsSystem.createLabelledHistogram(
+            STORAGE,
+            "query_kv_read_seconds",
+            "Time storage queries spent reading from the key-value store",
+            DURATION_BUCKETS,
+            "method");
+    this.deserializationTime =
+        metricsSystem.createLabelledHistogram(
+            STORAGE,
+            "query_deserialization_seconds",
+            "Time storage queries spent deserializing values read from the key-value store",
+            DURATION_BUCKETS,
+            "method");
+    this.bytesRead =
+        metricsSystem.createLabelledHistogram(
+            STORAGE,
+            "query_bytes_read",
+            "Number of bytes storage queries read from the key-value store",
+            BYTES_BUCKETS,
+            "method");
+    this.slowQueries =
+        metricsSystem.createLabelledCounter(
+            STORAGE,
+            "slow_queries_total",
+            "Number of storage queries which exceeded the slow query threshold",
+            "method");
+  }
+
+  public static StorageQueryMetrics createDisabled(final MetricsSystem metricsSystem) {
+    return new StorageQueryMetrics(metricsSystem, 0);
+  }
+
+  /**
+   * Runs a query on the current thread, attributing the key-value store reads it makes to {@code
+   * method}.
+   *
+   * @param queuedTimeNanos the {@link System#nanoTime()} when the query was submitted
+   */
+  public <T> SafeFuture<T> measure(
+      final String method,
+      final long queuedTimeNanos,
+      final ExceptionThrowingFutureSupplier<T> query,
+      final Object... args) {
+    final long startTimeNanos = System.nanoTime();
+    final KvStoreReadStats stats = KvStoreReadStats.startCollecting();
+    final SafeFuture<T> result;
+    try {
+      result = SafeFuture.of(query);
+    } finally {
+      KvStoreReadStats.stopCollecting();
+    }
+    return result.alwaysRun(
+        () -> record(method, queuedTimeNanos, startTimeNanos, System.nanoTime(), stats, args));
+  }
+
+  private void record(
+      final String method,
+      final long queuedTimeNanos,
+      final long startTimeNanos,
+      final long endTimeNanos,
+      final KvStoreReadStats stats,
+      final Object[] args) {
+    final long queueWaitNanos = startTimeNanos - queuedTimeNanos;
+    final long durationNanos = endTimeNanos - startTimeNanos;
+    queueWaitTime.labels(method).observe(toSeconds(queueWaitNanos));
+    queryDuration.labels(method).observe(toSeconds(durationNanos));
+    readTime.labels(method).observe(toSeconds(stats.getReadNanos()));
+    deserializationTime.labels(method).observe(toSeconds(stats.getDeserializationNanos()));
+    bytesRead.labels(method).observe(stats.getBytesRead());
+
+    if (slowQueryThresholdNanos > 0 && queueWaitNanos + durationNanos >= slowQueryThresholdNanos) {
+      slowQueries.labels(method).inc();
+      LOG.warn(
+          "Slow storage query {}{} took {} ms (queued {} ms, kv reads {} ms over {} reads, "
+              + "deserialization {} ms, {} bytes read)",
+          method,
+          Arrays.toString(args),
+          TimeUnit.NANOSECONDS.toMillis(queueWaitNanos + durationNanos),
+          TimeUnit.NANOSECONDS.toMillis(queueWaitNanos),
+          TimeUnit.NANOSECONDS.toMillis(stats.getReadNanos()),
+          stats.getReads(),
+          TimeUnit.NANOSECONDS.toMillis(stats.getDeserializationNanos()),
+          stats.getBytesRead());
+    }
+  }
+
+  private static double toSeconds(final long nanos) {
+    return nanos / 1_000_000_000d;
+  }
+}
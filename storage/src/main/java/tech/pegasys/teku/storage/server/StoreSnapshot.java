@@ -0,0 +1,51 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server;
+
+import java.util.Map;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.storage.api.OnDiskStoreData;
+import tech.pegasys.teku.storage.api.StoredBlockMetadata;
+
+/**
+ * The parts of {@link OnDiskStoreData} which are expensive to rebuild from the database on startup:
+ * the fork choice block metadata and the vote table, along with the anchors they were taken at so
+ * they can be validated against the database before use.
+ */
+public record StoreSnapshot(
+    UInt64 genesisTime,
+    Optional<Checkpoint> anchor,
+    Checkpoint finalizedCheckpoint,
+    Checkpoint justifiedCheckpoint,
+    Checkpoint bestJustifiedCheckpoint,
+    Optional<Bytes32> latestCanonicalBlockRoot,
+    Map<Bytes32, StoredBlockMetadata> blockInformation,
+    Map<UInt64, VoteTracker> votes) {
+
+  public static StoreSnapshot create(final OnDiskStoreData data) {
+    return new StoreSnapshot(
+        data.genesisTime(),
+        data.anchor(),
+        data.latestFinalized().getCheckpoint(),
+        data.justifiedCheckpoint(),
+        data.bestJustifiedCheckpoint(),
+        data.latestCanonicalBlockRoot(),
+        data.blockInformation(),
+        data.votes());
+  }
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server;
+
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.CHECKPOINT_EPOCHS_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.CHECKPOINT_SERIALIZER;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.storage.api.GloasForkChoiceRebuildData;
+import tech.pegasys.teku.storage.api.StoredBlockMetadata;
+import tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer;
+
+/**
+ * Reads and writes a {@link StoreSnapshot} to a single versioned and checksummed binary file.
+ *
+ * <p>The snapshot is written at clean shutdown and consumed on the next startup: the file is moved
+ * aside before it is read and deleted afterwards, so a snapshot is never used twice and a node
+ * which later stops uncleanly always falls back to rebuilding the store from the database.
+ */
+public class StoreSnapshotFile {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final String FILE_NAME = "store-snapshot.bin";
+  private static final String CONSUMED_FILE_NAME = FILE_NAME + ".consumed";
+  private static final String TEMP_FILE_NAME = FILE_NAME + ".tmp";
+
+  private static final int MAGIC = 0x544b5353;
+  static final int VERSION = 1;
+  private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES + Long.BYTES;
+
+  private final Path directory;
+  private final KvStoreSerializer<VoteTracker> voteTrackerSerializer;
+
+  public StoreSnapshotFile(final Spec spec, final Path directory) {
+    this.directory = directory;
+    this.voteTrackerSerializer = KvStoreSerializer.createVoteTrackerSerializer(spec);
+  }
+
+  public void write(final StoreSnapshot snapshot) throws IOException {
+    final byte[] payload = serialize(snapshot);
+    final CRC32 checksum = new CRC32();
+    checksum.update(payload);
+
+    final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    header.putInt(MAGIC).putInt(VERSION).putLong(payload.length).putLong(checksum.getValue());
+    header.flip();
+
+    final Path tempFile = directory.resolve(TEMP_FILE_NAME);
+    try (final FileChannel channel =
+        FileChannel.open(
+            tempFile,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      final ByteBuffer body = ByteBuffer.wrap(payload);
+      while (header.hasRemaining() || body.hasRemaining()) {
+        channel.write(new ByteBuffer[] {header, body});
+      }
+      channel.force(true);
+    }
+    Files.move(
+        tempFile,
+        directory.resolve(FILE_NAME),
+        StandardCopyOption.ATOMIC_MOVE,
+        StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  /**
+   * Loads and consumes the snapshot written at the last clean shutdown.
+   *
+   * @return empty if there is no snapshot or it could not be validated
+   */
+  public Optional<StoreSnapshot> load() {
+    final Path snapshotFile = directory.resolve(FILE_NAME);
+    final Path consumedFile = directory.resolve(CONSUMED_FILE_NAME);
+    try {
+      Files.deleteIfExists(consumedFile);
+      if (!Files.exists(snapshotFile)) {
+        return Optional.empty();
+      }
+      Files.move(snapshotFile, consumedFile, StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      LOG.warn("Unable to consume store snapshot, rebuilding store from database", e);
+      return Optional.empty();
+    }
+
+    try (final FileChannel channel = FileChannel.open(consumedFile, StandardOpenOption.READ)) {
+      final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      return Optional.of(read(buffer));
+    } catch (final IOException | RuntimeException e) {
+      LOG.warn("Ignoring invalid store snapshot, rebuilding store from database", e);
+      return Optional.empty();
+    } finally {
+      try {
+        Files.deleteIfExists(consumedFile);
+      } catch (final IOException e) {
+        LOG.debug("Failed to delete consumed store snapshot", e);
+      }
+    }
+  }
+
+  /** Removes any snapshot which has not yet been loaded. */
+  public void delete() {
+    try {
+      Files.deleteIfExists(directory.resolve(FILE_NAME));
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete store snapshot", e);
+    }
+  }
+
+  private StoreSnapshot read(final ByteBuffer buffer) {
+    if (buffer.remaining() < HEADER_SIZE) {
+      throw new IllegalArgumentException("Store snapshot is truncated");
+    }
+    final int magic = buffer.getInt();
+    if (magic != MAGIC) {
+      throw new IllegalArgumentException("Not a store snapshot file");
+    }
+    final int version = buffer.getInt();
+    if (version != VERSION) {
+      throw new IllegalArgumentException("Unsupported store snapshot version " + version);
+    }
+    final long payloadLength = buffer.getLong();
+    final long expectedChecksum = buffer.getLong();
+    if (payloadLength != buffer.remaining()) {
+      throw new IllegalArgumentException(
+          "Store snapshot payload length "
+              + buffer.remaining()
+              + " does not match recorded length "
+              + payloadLength);
+    }
+    final CRC32 checksum = new CRC32();
+    checksum.update(buffer.slice());
+    if (checksum.getValue() != expectedChecksum) {
+      throw new IllegalArgumentException("Store snapshot checksum does not match");
+    }
+    return deserialize(buffer);
+  }
+
+  private byte[] serialize(final StoreSnapshot snapshot) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final DataOutputStream out = new DataOutputStream(bytes);
+    out.writeLong(snapshot.genesisTime().longValue());
+    writeOptional(out, snapshot.anchor(), StoreSnapshotFile::writeCheckpoint);
+    writeCheckpoint(out, snapshot.finalizedCheckpoint());
+    writeCheckpoint(out, snapshot.justifiedCheckpoint());
+    writeCheckpoint(out, snapshot.bestJustifiedCheckpoint());
+    writeOptional(out, snapshot.latestCanonicalBlockRoot(), StoreSnapshotFile::writeBytes32);
+
+    out.writeInt(snapshot.blockInformation().size());
+    for (final StoredBlockMetadata block : snapshot.blockInformation().values()) {
+      out.writeLong(block.getBlockSlot().longValue());
+      writeBytes32(out, block.getBlockRoot());
+      writeBytes32(out, block.getParentRoot());
+      writeBytes32(out, block.getStateRoot());
+      writeOptional(out, block.getExecutionBlockNumber(), StoreSnapshotFile::writeUInt64);
+      writeOptional(out, block.getExecutionBlockHash(), StoreSnapshotFile::writeBytes32);
+      writeOptional(
+          out,
+          block.getCheckpointEpochs(),
+          (output, checkpoints) ->
+              writeBytes(output, CHECKPOINT_EPOCHS_SERIALIZER.serialize(checkpoints)));
+      writeOptional(
+          out,
+          block.getGloasForkChoiceRebuildData(),
+          (output, data) -> {
+            writeBytes32(output, data.payloadParentBlockHash());
+            writeBytes32(output, data.payloadBlockHash());
+            writeOptional(output, data.payloadBlockNumber(), StoreSnapshotFile::writeUInt64);
+          });
+    }
+
+    out.writeInt(snapshot.votes().size());
+    for (final Map.Entry<UInt64, VoteTracker> vote : snapshot.votes().entrySet()) {
+      out.writeLong(vote.getKey().longValue());
+      writeBytes(out, voteTrackerSerializer.serialize(vote.getValue()));
+    }
+    out.flush();
+    return bytes.toByteArray();
+  }
+
+  private StoreSnapshot deserialize(final ByteBuffer in) {
+    final UInt64 genesisTime = readUInt64(in);
+    final Optional<Checkpoint> anchor = readOptional(in, StoreSnapshotFile::readCheckpoint);
+    final Checkpoint finalizedCheckpoint = readCheckpoint(in);
+    final Checkpoint justifiedCheckpoint = readCheckpoint(in);
+    final Checkpoint bestJustifiedCheckpoint = readCheckpoint(in);
+    final Optional<Bytes32> latestCanonicalBlockRoot =
+        readOptional(in, StoreSnapshotFile::readBytes32);
+
+    final int blockCount = in.getInt();
+    final Map<Bytes32, StoredBlockMetadata> blockInformation = new HashMap<>(blockCount);
+    for (int i = 0; i < blockCount; i++) {
+      final StoredBlockMetadata block =
+          new StoredBlockMetadata(
+              readUInt64(in),
+              readBytes32(in),
+              readBytes32(in),
+              readBytes32(in),
+              readOptional(in, StoreSnapshotFile::readUInt64),
+              readOptional(in, StoreSnapshotFile::readBytes32),
+              readOptional(
+                  in, input -> CHECKPOINT_EPOCHS_SERIALIZER.deserialize(readBytes(input))),
+              readOptional(
+                  in,
+                  input ->
+                      new GloasForkChoiceRebuildData(
+                          readBytes32(input),
+                          readBytes32(input),
+                          readOptional(input, StoreSnapshotFile::readUInt64))));
+      blockInformation.put(block.getBlockRoot(), block);
+    }
+
+    final int voteCount = in.getInt();
+    final Map<UInt64, VoteTracker> votes = new HashMap<>(voteCount);
+    for (int i = 0; i < voteCount; i++) {
+      votes.put(readUInt64(in), voteTrackerSerializer.deserialize(readBytes(in)));
+    }
+
+    if (in.hasRemaining()) {
+      throw new IllegalArgumentException("Unexpected trailing data in store snapshot");
+    }
+    return new StoreSnapshot(
+        genesisTime,
+        anchor,
+        finalizedCheckpoint,
+        justifiedCheckpoint,
+        bestJustifiedCheckpoint,
+        latestCanonicalBlockRoot,
+        blockInformation,
+        votes);
+  }
+
+  private static void writeCheckpoint(final DataOutputStream out, final Checkpoint checkpoint)
+      throws IOException {
+    writeBytes(out, CHECKPOINT_SERIALIZER.serialize(checkpoint));
+  }
+
+  private static Checkpoint readCheckpoint(final ByteBuffer in) {
+    return CHECKPOINT_SERIALIZER.deserialize(readBytes(in));
+  }
+
+  private static void writeUInt64(final DataOutputStream out, final UInt64 value)
+      throws IOException {
+    out.writeLong(value.longValue());
+  }
+
+  private static UInt64 readUInt64(final ByteBuffer in) {
+    return UInt64.fromLongBits(in.getLong());
+  }
+
+  private static void writeBytes32(final DataOutputStream out, final Bytes32 value)
+      throws IOException {
+    out.write(value.toArrayUnsafe());
+  }
+
+  private static Bytes32 readBytes32(final ByteBuffer in) {
+    final byte[] value = new byte[Bytes32.SIZE];
+    in.get(value);
+    return Bytes32.wrap(value);
+  }
+
+  private static void writeBytes(final DataOutputStream out, final byte[] value)
+      throws IOException {
+    out.writeInt(value.length);
+    out.write(value);
+  }
+
+  private static byte[] readBytes(final ByteBuffer in) {
+    final int length = in.getInt();
+    if (length < 0 || length > in.remaining()) {
+      throw new IllegalArgumentException("Invalid length " + length + " in store snapshot");
+    }
+    final byte[] value = new byte[length];
+    in.get(value);
+    return value;
+  }
+
+  private static <T> void writeOptional(
+      final DataOutputStream out, final Optional<T> value, final FieldWriter<T> writer)
+      throws IOException {
+    out.writeBoolean(value.isPresent());
+    if (value.isPresent()) {
+      writer.write(out, value.get());
+    }
+  }
+
+  private static <T> Optional<T> readOptional(
+      final ByteBuffer in, final Function<ByteBuffer, T> reader) {
+    return in.get() != 0 ? Optional.of(reader.apply(in)) : Optional.empty();
+  }
+
+  @FunctionalInterface
+  private interface FieldWriter<T> {
+    void write(DataOutputStream out, T value) throws IOException;
+  }
+}
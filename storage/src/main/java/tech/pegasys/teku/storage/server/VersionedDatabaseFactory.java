@@ -59,6 +59,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
   private final int maxKnownNodeCacheSize;
   private final File dbDirectory;
   private final File v5ArchiveDirectory;
+  private final boolean customFinalizedDataPath;
   private final File dbVersionFile;
   private final File dbStorageModeFile;
   private final StateStorageMode stateStorageMode;
@@ -68,6 +69,8 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
   private final Spec spec;
   private final boolean storeNonCanonicalBlocks;
   private final boolean rocksdbBlobDbEnabled;
+  private final boolean rocksdbBulkLoadEnabled;
+  private final boolean stateDiffsEnabled;
   private final SyncDataAccessor dbSettingFileSyncDataAccessor;
   private final Optional<Eth2Network> maybeNetwork;
 
@@ -87,10 +90,17 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
     this.eth1Address = config.getEth1DepositContract();
     this.storeNonCanonicalBlocks = config.isStoreNonCanonicalBlocksEnabled();
     this.rocksdbBlobDbEnabled = config.isRocksdbBlobDbEnabled();
+    this.rocksdbBulkLoadEnabled = config.isRocksdbBulkLoadEnabled();
+    this.stateDiffsEnabled = config.isStateDiffsEnabled();
     this.spec = config.getSpec();
 
     this.dbDirectory = this.dataDirectory.toPath().resolve(DB_PATH).toFile();
-    this.v5ArchiveDirectory = this.dataDirectory.toPath().resolve(ARCHIVE_PATH).toFile();
+    this.v5ArchiveDirectory =
+        config
+            .getFinalizedDataPath()
+            .orElseGet(() -> this.dataDirectory.toPath().resolve(ARCHIVE_PATH))
+            .toFile();
+    this.customFinalizedDataPath = config.getFinalizedDataPath().isPresent();
     this.dbVersionFile = this.dataDirectory.toPath().resolve(DB_VERSION_FILENAME).toFile();
     this.dbStorageModeFile = this.dataDirectory.toPath().resolve(STORAGE_MODE_FILENAME).toFile();
 
@@ -199,7 +209,8 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           KvStoreConfiguration.v4Settings(dbDirectory.toPath())
               .withBlobDbEnabled(rocksdbBlobDbEnabled),
           KvStoreConfiguration.v4Settings(v5ArchiveDirectory.toPath())
-              .withBlobDbEnabled(rocksdbBlobDbEnabled),
+              .withBlobDbEnabled(rocksdbBlobDbEnabled)
+              .withBulkLoadEnabled(rocksdbBulkLoadEnabled),
           stateStorageMode,
           stateStorageFrequency,
           storeNonCanonicalBlocks,
@@ -233,7 +244,8 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           metaData
               .getArchiveDbConfiguration()
               .withDatabaseDir(v5ArchiveDirectory.toPath())
-              .withBlobDbEnabled(rocksdbBlobDbEnabled),
+              .withBlobDbEnabled(rocksdbBlobDbEnabled)
+              .withBulkLoadEnabled(rocksdbBulkLoadEnabled),
           stateStorageMode,
           stateStorageFrequency,
           storeNonCanonicalBlocks,
@@ -255,6 +267,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           schema,
           stateStorageMode,
           stateStorageFrequency,
+          stateDiffsEnabled,
           storeNonCanonicalBlocks,
           spec);
     } catch (final IOException e) {
@@ -299,6 +312,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           dbConfiguration.withDatabaseDir(dbDirectory.toPath()),
           stateStorageMode,
           stateStorageFrequency,
+          stateDiffsEnabled,
           storeNonCanonicalBlocks,
           spec);
     } catch (final IOException e) {
@@ -336,7 +350,8 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
     return metaData
         .getSingleDbConfiguration()
         .getConfiguration()
-        .withBlobDbEnabled(rocksdbBlobDbEnabled);
+        .withBlobDbEnabled(rocksdbBlobDbEnabled)
+        .withBulkLoadEnabled(rocksdbBulkLoadEnabled);
   }
 
   private File getMetadataFile() {
@@ -374,7 +389,13 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
         }
       }
       default -> {
-        // do nothing
+        if (customFinalizedDataPath) {
+          throw DatabaseStorageException.unrecoverable(
+              String.format(
+                  "A separate finalized data path (%s) is only supported by database versions "
+                      + "which store hot and finalized data separately, not version %s",
+                  v5ArchiveDirectory.getAbsolutePath(), dbVersion.getValue()));
+        }
       }
     }
   }
@@ -110,6 +110,20 @@ public interface KvStoreAccessor extends AutoCloseable {
 
   KvStoreTransaction startTransaction();
 
+  /**
+   * Starts a transaction for adding a large amount of data which is not expected to be modified
+   * again, such as historic blocks during backfill.
+   *
+   * <p>Implementations may write column data directly to storage files when the transaction is
+   * committed rather than through the write-ahead log and memtable. Variables are applied after
+   * the column data, so they only become visible once the data they describe is present. By
+   * default this is a regular transaction, which already writes all updates as a single batch.
+   */
+  @MustBeClosed
+  default KvStoreTransaction startBulkLoadTransaction() {
+    return startTransaction();
+  }
+
   /**
    * Triggers a full compaction of every column family, rewriting all levels and physically dropping
    * deleted keys and their tombstones. This reclaims disk space left behind by pruning that
@@ -118,6 +132,12 @@ public interface KvStoreAccessor extends AutoCloseable {
    */
   void compact();
 
+  /**
+   * Blocks until all committed transactions are durable on disk. Used to order commits across
+   * separate instances, each of which recovers independently after a crash.
+   */
+  void sync();
+
   interface KvStoreTransaction extends AutoCloseable {
 
     <T> void put(KvStoreVariable<T> variable, T value);
@@ -144,6 +164,16 @@ public interface KvStoreAccessor extends AutoCloseable {
 
     <T> void delete(KvStoreVariable<T> variable);
 
+    /**
+     * Delete all keys in a column from {@code fromKey} (inclusive) to {@code toKey} (exclusive),
+     * compared by their serialized bytes.
+     *
+     * <p>Intended for pruning columns whose keys start with a big-endian slot, where every key in
+     * the range is known to be removable. Implementations may apply the range deletion when the
+     * transaction is committed, ahead of the other updates in the transaction.
+     */
+    <K, V> void deleteRange(KvStoreColumn<K, V> column, K fromKey, K toKey);
+
     void commit();
 
     void rollback();
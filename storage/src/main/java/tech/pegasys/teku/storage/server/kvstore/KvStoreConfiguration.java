@@ -55,6 +55,7 @@ public class KvStoreConfiguration {
   public static final long DEFAULT_WRITE_BUFFER_CAPACITY = 128 << 20;
   private static final boolean DEFAULT_OPTIMISE_FOR_SMALL_DB = false;
   private static final boolean DEFAULT_BLOBDB_ENABLED = false;
+  private static final boolean DEFAULT_BULK_LOAD_ENABLED = false;
 
   /** RocksDb number of log files to keep on disk */
   public static final long NUMBER_OF_LOG_FILES_TO_KEEP = 5;
@@ -103,6 +104,9 @@ public class KvStoreConfiguration {
   @JsonProperty(value = "blobDbEnabled", access = Access.WRITE_ONLY)
   private boolean blobDbEnabled = DEFAULT_BLOBDB_ENABLED;
 
+  @JsonProperty(value = "bulkLoadEnabled", access = Access.WRITE_ONLY)
+  private boolean bulkLoadEnabled = DEFAULT_BULK_LOAD_ENABLED;
+
   /* ---------------     Fixed Properties     ------------ */
 
   @JsonProperty("compressionType")
@@ -141,6 +145,11 @@ public class KvStoreConfiguration {
     return this;
   }
 
+  public KvStoreConfiguration withBulkLoadEnabled(final boolean bulkLoadEnabled) {
+    this.bulkLoadEnabled = bulkLoadEnabled;
+    return this;
+  }
+
   public Path getDatabaseDir() {
     return databaseDir;
   }
@@ -193,6 +202,10 @@ public class KvStoreConfiguration {
     return blobDbEnabled;
   }
 
+  public boolean bulkLoadEnabled() {
+    return bulkLoadEnabled;
+  }
+
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(this)
@@ -205,6 +218,7 @@ public class KvStoreConfiguration {
         .add("bottomMostCompressionType", bottomMostCompressionType)
         .add("databaseDir", databaseDir)
         .add("blobDbEnabled", blobDbEnabled)
+        .add("bulkLoadEnabled", bulkLoadEnabled)
         .toString();
   }
 }
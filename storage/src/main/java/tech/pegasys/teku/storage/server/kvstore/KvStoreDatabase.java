@@ -78,14 +78,18 @@ import tech.pegasys.teku.storage.api.WeakSubjectivityState;
 import tech.pegasys.teku.storage.api.WeakSubjectivityUpdate;
 import tech.pegasys.teku.storage.archive.BlobSidecarsArchiver;
 import tech.pegasys.teku.storage.server.Database;
+import tech.pegasys.teku.storage.server.DatabaseStorageException;
 import tech.pegasys.teku.storage.server.StateStorageMode;
+import tech.pegasys.teku.storage.server.StoreSnapshot;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.CombinedKvStoreDao;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao.CombinedUpdater;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao.FinalizedUpdater;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao.HotUpdater;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDaoAdapter;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.MigrationCheckpoint;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedKvStoreDao;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateDiffStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateSnapshotStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateTreeStorageLogic;
@@ -153,7 +157,43 @@ public class KvStoreDatabase implements Database {
             hotDao,
             new V4FinalizedKvStoreDao(
                 metricsSystem, finalizedDb, schemaFinalized, finalizedStateStorageLogic));
-    return new KvStoreDatabase(dao, stateStorageMode, storeNonCanonicalBlocks, spec);
+    final KvStoreDatabase database =
+        new KvStoreDatabase(dao, stateStorageMode, storeNonCanonicalBlocks, spec);
+    database.checkFinalizedDataMatchesHotData();
+    return database;
+  }
+
+  /**
+   * When hot and finalized data are stored in separate instances, potentially on separate volumes,
+   * check the finalized instance has not fallen behind the hot instance, for example because it was
+   * restored from an older backup or lost writes in a crash. Starting from such a database would
+   * leave a gap in the finalized chain that cannot be recovered from the hot data.
+   */
+  private void checkFinalizedDataMatchesHotData() {
+    final Optional<Checkpoint> finalizedCheckpoint = dao.getFinalizedCheckpoint();
+    if (finalizedCheckpoint.isEmpty()) {
+      return;
+    }
+    final Bytes32 finalizedRoot = finalizedCheckpoint.get().getRoot();
+    final UInt64 finalizedSlot = finalizedCheckpoint.get().getEpochStartSlot(spec);
+    final boolean isAnchor =
+        dao.getAnchor().map(Checkpoint::getRoot).filter(finalizedRoot::equals).isPresent();
+    // Blocks before the earliest slot may have been pruned, so only expect the finalized block to
+    // be present if the earliest retained block is at or before it
+    final boolean finalizedBlocksCoverCheckpoint =
+        dao.getEarliestFinalizedBlockSlot()
+            .map(slot -> slot.isLessThanOrEqualTo(finalizedSlot))
+            .orElse(true);
+    if (!isAnchor
+        && finalizedBlocksCoverCheckpoint
+        && dao.getSlotForFinalizedBlockRoot(finalizedRoot).isEmpty()) {
+      throw DatabaseStorageException.unrecoverable(
+          String.format(
+              "Finalized database does not contain the latest finalized block %s recorded in the "
+                  + "hot database. Ensure the finalized data path points to the database created "
+                  + "with this hot database.",
+              finalizedRoot));
+    }
   }
 
   public static Database createWithStateSnapshots(
@@ -161,12 +201,14 @@ public class KvStoreDatabase implements Database {
       final SchemaCombinedSnapshotState schema,
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
+      final boolean storeStateDiffs,
       final boolean storeNonCanonicalBlocks,
       final Spec spec,
       final MetricsSystem metricsSystem) {
-    final V4FinalizedStateSnapshotStorageLogic<SchemaCombinedSnapshotState>
-        finalizedStateStorageLogic =
-            new V4FinalizedStateSnapshotStorageLogic<>(stateStorageFrequency);
+    final V4FinalizedStateStorageLogic<SchemaCombinedSnapshotState> finalizedStateStorageLogic =
+        storeStateDiffs
+            ? new V4FinalizedStateDiffStorageLogic<>(stateStorageFrequency)
+            : new V4FinalizedStateSnapshotStorageLogic<>(stateStorageFrequency);
     return create(
         db,
         schema,
@@ -225,6 +267,11 @@ public class KvStoreDatabase implements Database {
     return dao.finalizedUpdater();
   }
 
+  @MustBeClosed
+  protected FinalizedUpdater bulkFinalizedUpdater() {
+    return dao.bulkFinalizedUpdater();
+  }
+
   @Override
   public Optional<UInt64> getSlotForFinalizedBlockRoot(final Bytes32 blockRoot) {
     return dao.getSlotForFinalizedBlockRoot(blockRoot);
@@ -386,7 +433,7 @@ public class KvStoreDatabase implements Database {
       final Collection<SignedBeaconBlock> blocks,
       final Map<SlotAndBlockRoot, List<BlobSidecar>> finalizedBlobSidecarsBySlot,
       final Optional<UInt64> maybeEarliestBlobSidecar) {
-    try (final FinalizedUpdater updater = finalizedUpdater()) {
+    try (final FinalizedUpdater updater = bulkFinalizedUpdater()) {
       blocks.forEach(
           block -> {
             updater.addFinalizedBlock(block);
@@ -744,8 +791,12 @@ public class KvStoreDatabase implements Database {
   }
 
   public void ingestDatabase(
-      final KvStoreDatabase kvStoreDatabase, final int batchSize, final Consumer<String> logger) {
-    dao.ingest(kvStoreDatabase.dao, batchSize, logger);
+      final KvStoreDatabase kvStoreDatabase,
+      final int batchSize,
+      final int threads,
+      final MigrationCheckpoint checkpoint,
+      final Consumer<String> logger) {
+    dao.ingest(kvStoreDatabase.dao, batchSize, threads, checkpoint, logger);
   }
 
   @Override
@@ -833,7 +884,6 @@ public class KvStoreDatabase implements Database {
     final Checkpoint bestJustifiedCheckpoint = dao.getBestJustifiedCheckpoint().orElseThrow();
     final BeaconState finalizedState = dao.getLatestFinalizedState().orElseThrow();
     final Optional<Bytes32> latestCanonicalBlockRoot = dao.getLatestCanonicalBlockRoot();
-    final Optional<UInt64> custodyGroupCount = dao.getCustodyGroupCount();
 
     final Map<UInt64, VoteTracker> votes = dao.getVotes();
 
@@ -855,6 +905,91 @@ public class KvStoreDatabase implements Database {
           anchor.getRoot(), StoredBlockMetadata.fromBlockAndState(spec, latestFinalized));
     }
 
+    return Optional.of(
+        createOnDiskStoreData(
+            timeSupplier,
+            genesisTime,
+            maybeAnchor,
+            finalizedCheckpoint,
+            finalizedState,
+            justifiedCheckpoint,
+            bestJustifiedCheckpoint,
+            blockInformation,
+            votes,
+            latestCanonicalBlockRoot));
+  }
+
+  @Override
+  public Optional<OnDiskStoreData> createMemoryStore(final StoreSnapshot snapshot) {
+    return createMemoryStore(snapshot, () -> Instant.now().getEpochSecond());
+  }
+
+  /**
+   * Creates the store data from a snapshot taken at the last clean shutdown, reading only the
+   * latest finalized state and block from the database. Returns empty if the snapshot does not
+   * match the anchors currently recorded in the database.
+   */
+  @VisibleForTesting
+  Optional<OnDiskStoreData> createMemoryStore(
+      final StoreSnapshot snapshot, final Supplier<Long> timeSupplier) {
+    final Optional<String> mismatch = findStoreSnapshotMismatch(snapshot);
+    if (mismatch.isPresent()) {
+      LOG.warn(
+          "Ignoring store snapshot because its {} does not match the database", mismatch.get());
+      return Optional.empty();
+    }
+    final BeaconState finalizedState = dao.getLatestFinalizedState().orElseThrow();
+    return Optional.of(
+        createOnDiskStoreData(
+            timeSupplier,
+            snapshot.genesisTime(),
+            snapshot.anchor(),
+            snapshot.finalizedCheckpoint(),
+            finalizedState,
+            snapshot.justifiedCheckpoint(),
+            snapshot.bestJustifiedCheckpoint(),
+            new HashMap<>(snapshot.blockInformation()),
+            new HashMap<>(snapshot.votes()),
+            snapshot.latestCanonicalBlockRoot()));
+  }
+
+  private Optional<String> findStoreSnapshotMismatch(final StoreSnapshot snapshot) {
+    if (!dao.getGenesisTime().equals(Optional.of(snapshot.genesisTime()))) {
+      return Optional.of("genesis time");
+    }
+    if (!dao.getAnchor().equals(snapshot.anchor())) {
+      return Optional.of("anchor");
+    }
+    if (!dao.getFinalizedCheckpoint().equals(Optional.of(snapshot.finalizedCheckpoint()))) {
+      return Optional.of("finalized checkpoint");
+    }
+    if (!dao.getJustifiedCheckpoint().equals(Optional.of(snapshot.justifiedCheckpoint()))) {
+      return Optional.of("justified checkpoint");
+    }
+    if (!dao.getBestJustifiedCheckpoint()
+        .equals(Optional.of(snapshot.bestJustifiedCheckpoint()))) {
+      return Optional.of("best justified checkpoint");
+    }
+    if (!dao.getLatestCanonicalBlockRoot().equals(snapshot.latestCanonicalBlockRoot())) {
+      return Optional.of("latest canonical block root");
+    }
+    if (!snapshot.blockInformation().containsKey(snapshot.finalizedCheckpoint().getRoot())) {
+      return Optional.of("block information");
+    }
+    return Optional.empty();
+  }
+
+  private OnDiskStoreData createOnDiskStoreData(
+      final Supplier<Long> timeSupplier,
+      final UInt64 genesisTime,
+      final Optional<Checkpoint> maybeAnchor,
+      final Checkpoint finalizedCheckpoint,
+      final BeaconState finalizedState,
+      final Checkpoint justifiedCheckpoint,
+      final Checkpoint bestJustifiedCheckpoint,
+      final Map<Bytes32, StoredBlockMetadata> blockInformation,
+      final Map<UInt64, VoteTracker> votes,
+      final Optional<Bytes32> latestCanonicalBlockRoot) {
     final Optional<SignedBeaconBlock> finalizedBlock =
         getFinalizedBlock(finalizedCheckpoint.getRoot());
     final AnchorPoint latestFinalized =
@@ -870,19 +1005,18 @@ public class KvStoreDatabase implements Database {
     final UInt64 slotTime = spec.computeTimeAtSlot(finalizedState.getSlot(), genesisTime);
     final UInt64 time = slotTime.max(clockTime);
 
-    return Optional.of(
-        new OnDiskStoreData(
-            time,
-            maybeAnchor,
-            genesisTime,
-            latestFinalized,
-            finalizedOptimisticTransitionPayload,
-            justifiedCheckpoint,
-            bestJustifiedCheckpoint,
-            blockInformation,
-            votes,
-            latestCanonicalBlockRoot,
-            custodyGroupCount));
+    return new OnDiskStoreData(
+        time,
+        maybeAnchor,
+        genesisTime,
+        latestFinalized,
+        finalizedOptimisticTransitionPayload,
+        justifiedCheckpoint,
+        bestJustifiedCheckpoint,
+        blockInformation,
+        votes,
+        latestCanonicalBlockRoot,
+        dao.getCustodyGroupCount());
   }
 
   @Override
@@ -1093,21 +1227,22 @@ public class KvStoreDatabase implements Database {
           blobSidecarsArchiver.archive(slotAndBlockRoot, blobSidecars);
         }
 
-        // Remove the BlobSidecars from the database.
-        for (final SlotAndBlockRootAndBlobIndex key : keys) {
-          if (nonCanonicalBlobSidecars) {
-            updater.removeNonCanonicalBlobSidecar(key);
-          } else {
-            updater.removeBlobSidecar(key);
-            earliestBlobSidecarSlot = Optional.of(slot.plus(1));
-          }
+        if (!nonCanonicalBlobSidecars) {
+          earliestBlobSidecarSlot = Optional.of(slot.plus(1));
         }
 
         ++pruned;
       }
 
-      if (!nonCanonicalBlobSidecars) {
-        earliestBlobSidecarSlot.ifPresent(updater::setEarliestBlobSidecarSlot);
+      // Every key between the first and last pruned slot was streamed above, so remove them all
+      // with a single range deletion rather than a tombstone per BlobSidecar.
+      if (!slots.isEmpty()) {
+        if (nonCanonicalBlobSidecars) {
+          updater.removeNonCanonicalBlobSidecarsInSlotRange(slots.getFirst(), slots.getLast());
+        } else {
+          updater.removeBlobSidecarsInSlotRange(slots.getFirst(), slots.getLast());
+          earliestBlobSidecarSlot.ifPresent(updater::setEarliestBlobSidecarSlot);
+        }
       }
       updater.commit();
     }
@@ -1347,9 +1482,13 @@ public class KvStoreDatabase implements Database {
     }
 
     try (final FinalizedUpdater updater = finalizedUpdater()) {
-      for (final DataColumnSlotAndIdentifier key : toPrune.keys()) {
-        removeDataColumnSidecar(sidecarType, updater, key);
-      }
+      // The keys were collected by a forward scan, so every sidecar between the first and last
+      // collected slot is being pruned and can be removed with a single range deletion.
+      removeDataColumnSidecars(
+          sidecarType,
+          updater,
+          toPrune.keys().getFirst().slot(),
+          toPrune.keys().getLast().slot());
       // Persist the canonical prune watermark atomically with the deletions so the next run (and
       // any
       // run after a restart) can resume above the tombstones rather than rescanning from the first
@@ -1420,13 +1559,14 @@ public class KvStoreDatabase implements Database {
   private record DataColumnSidecarsToPrune(
       List<DataColumnSlotAndIdentifier> keys, int distinctSlots) {}
 
-  private void removeDataColumnSidecar(
+  private void removeDataColumnSidecars(
       final DataColumnSidecarType sidecarType,
       final FinalizedUpdater updater,
-      final DataColumnSlotAndIdentifier key) {
+      final UInt64 fromSlot,
+      final UInt64 toSlot) {
     switch (sidecarType) {
-      case CANONICAL -> updater.removeSidecar(key);
-      case NON_CANONICAL -> updater.removeNonCanonicalSidecar(key);
+      case CANONICAL -> updater.removeSidecarsInSlotRange(fromSlot, toSlot);
+      case NON_CANONICAL -> updater.removeNonCanonicalSidecarsInSlotRange(fromSlot, toSlot);
     }
   }
 
@@ -1477,6 +1617,11 @@ public class KvStoreDatabase implements Database {
       removeNonCanonicalSidecars(
           update.getDeletedHotBlocks(), update.getFinalizedChildToParentMap());
     }
+    if (!update.getFinalizedChildToParentMap().isEmpty()) {
+      // The hot copies of newly finalized blocks are deleted below, so the finalized copies must
+      // be durable first in case they are stored in a separate instance
+      dao.syncFinalizedData();
+    }
     long finalizedDataUpdatedTime = System.currentTimeMillis();
 
     LOG.trace("Applying hot updates");
@@ -0,0 +1,68 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore;
+
+/**
+ * Accumulates the cost of the key-value store reads made on a thread while it handles a storage
+ * query, so the read and deserialization time can be attributed to that query.
+ *
+ * <p>Reads made while no stats are being collected on the current thread are not recorded.
+ */
+public class KvStoreReadStats {
+  private static final ThreadLocal<KvStoreReadStats> CURRENT = new ThreadLocal<>();
+
+  private long reads;
+  private long readNanos;
+  private long bytesRead;
+  private long deserializationNanos;
+
+  /** Starts collecting stats for reads made on the current thread. */
+  public static KvStoreReadStats startCollecting() {
+    final KvStoreReadStats stats = new KvStoreReadStats();
+    CURRENT.set(stats);
+    return stats;
+  }
+
+  public static void stopCollecting() {
+    CURRENT.remove();
+  }
+
+  public static void recordRead(
+      final long readNanos, final int bytesRead, final long deserializationNanos) {
+    final KvStoreReadStats stats = CURRENT.get();
+    if (stats == null) {
+      return;
+    }
+    stats.reads++;
+    stats.readNanos += readNanos;
+    stats.bytesRead += bytesRead;
+    stats.deserializationNanos += deserializationNanos;
+  }
+
+  public long getReads() {
+    return reads;
+  }
+
+  public long getReadNanos() {
+    return readNanos;
+  }
+
+  public long getBytesRead() {
+    return bytesRead;
+  }
+
+  public long getDeserializationNanos() {
+    return deserializationNanos;
+  }
+}
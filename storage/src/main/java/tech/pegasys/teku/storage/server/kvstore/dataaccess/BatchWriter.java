@@ -32,27 +32,37 @@ class BatchWriter implements AutoCloseable {
   private long transactionCounter = 0;
   private long entryCounter = 0;
   private long bytes = 0;
+  private long totalBytes = 0;
+  private Bytes lastKey = null;
   private final Optional<UInt64> maybeExpectedCount;
+  private final String logPrefix;
+  private final Consumer<Bytes> onCommit;
 
   BatchWriter(final int targetBatchSize, final Consumer<String> logger, final KvStoreAccessor db) {
-    this(targetBatchSize, logger, db, Optional.empty());
+    this(targetBatchSize, logger, db, Optional.empty(), "", __ -> {});
   }
 
   /**
    * @param targetBatchSize target size (MB) for a batch
    * @param db database accessor object
    * @param maybeExpectedCount the expected number of objects across all objects
+   * @param logPrefix prefix for progress messages, identifying the data being written
+   * @param onCommit called with the last key written each time a batch is committed
    */
   BatchWriter(
       final int targetBatchSize,
       final Consumer<String> logger,
       final KvStoreAccessor db,
-      final Optional<UInt64> maybeExpectedCount) {
+      final Optional<UInt64> maybeExpectedCount,
+      final String logPrefix,
+      final Consumer<Bytes> onCommit) {
     // target batch size comes in MB, can store in Bytes to make life simpler for comparison
     this.targetBatchSize = targetBatchSize * 1_000_000L;
     this.logger = logger;
     this.db = db;
     this.maybeExpectedCount = maybeExpectedCount;
+    this.logPrefix = logPrefix;
+    this.onCommit = onCommit;
   }
 
   void startTransaction() {
@@ -70,14 +80,28 @@ class BatchWriter implements AutoCloseable {
       transaction.commit();
       transaction.close();
       transaction = null;
+      if (lastKey != null) {
+        onCommit.accept(lastKey);
+      }
     }
   }
 
+  long getEntryCount() {
+    return entryCounter;
+  }
+
+  long getTotalBytes() {
+    return totalBytes;
+  }
+
   void add(final KvStoreColumn<?, ?> column, final ColumnEntry<Bytes, Bytes> entry) {
     startTransaction();
 
-    bytes += entry.getKey().size() + entry.getValue().size();
+    final int entrySize = entry.getKey().size() + entry.getValue().size();
+    bytes += entrySize;
+    totalBytes += entrySize;
     getTransaction().putRaw(column, entry.getKey(), entry.getValue());
+    lastKey = entry.getKey();
     entryCounter++;
     if (bytes >= targetBatchSize) {
       commit();
@@ -88,9 +112,10 @@ class BatchWriter implements AutoCloseable {
             (expectedTotal) ->
                 logger.accept(
                     String.format(
-                        " -- %,d (%d %%)...",
+                        "%s -- %,d (%d %%)...",
+                        logPrefix,
                         entryCounter, (entryCounter * 100) / expectedTotal.longValue())),
-            () -> logger.accept(String.format(" -- %,d...", entryCounter)));
+            () -> logger.accept(String.format("%s -- %,d...", logPrefix, entryCounter)));
       }
     }
   }
@@ -100,7 +125,7 @@ class BatchWriter implements AutoCloseable {
     try {
       commit();
       if (entryCounter > 0) {
-        logger.accept(String.format(" => Inserted %,d entries...", entryCounter));
+        logger.accept(String.format("%s => Inserted %,d entries...", logPrefix, entryCounter));
       }
     } catch (Exception ex) {
       logger.accept("Failed to commit transaction on close: " + ex.getCause());
@@ -0,0 +1,137 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * Encodes a {@link BeaconState} as the difference from an earlier state with the same schema.
+ *
+ * <p>Only top level fields with a different hash tree root are included. Each is stored as the XOR
+ * of its SSZ encoding with the parent's encoding of the same field, so unchanged balances,
+ * validators and participation flags become runs of zero bytes which the deflate compression
+ * applied to the whole diff reduces to almost nothing.
+ *
+ * <p>The encoded form is a version byte and the parent slot, followed by the compressed field
+ * entries. The parent slot is readable without decompressing so dependencies between stored
+ * states can be found cheaply.
+ */
+class BeaconStateDiff {
+  private static final byte VERSION = 1;
+  private static final int HEADER_SIZE = Byte.BYTES + Long.BYTES;
+
+  private BeaconStateDiff() {}
+
+  static Bytes create(final UInt64 parentSlot, final BeaconState parent, final BeaconState state) {
+    if (!parent.getSchema().equals(state.getSchema())) {
+      throw new IllegalArgumentException(
+          "Cannot diff states with different schemas at slots "
+              + parent.getSlot()
+              + " and "
+              + state.getSlot());
+    }
+    final List<Integer> changedFields = new ArrayList<>();
+    for (int i = 0; i < state.getSchema().getFieldsCount(); i++) {
+      if (!parent.get(i).hashTreeRoot().equals(state.get(i).hashTreeRoot())) {
+        changedFields.add(i);
+      }
+    }
+
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (final DataOutputStream header = new DataOutputStream(output)) {
+      header.writeByte(VERSION);
+      header.writeLong(parentSlot.longValue());
+      header.flush();
+      final DataOutputStream body = new DataOutputStream(new DeflaterOutputStream(output));
+      body.writeInt(changedFields.size());
+      for (final int fieldIndex : changedFields) {
+        final byte[] field = xor(state.get(fieldIndex).sszSerialize(), parent.get(fieldIndex));
+        body.writeInt(fieldIndex);
+        body.writeInt(field.length);
+        body.write(field);
+      }
+      body.close();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return Bytes.wrap(output.toByteArray());
+  }
+
+  static UInt64 getParentSlot(final Bytes diff) {
+    checkVersion(diff);
+    return UInt64.fromLongBits(diff.getLong(Byte.BYTES));
+  }
+
+  static BeaconState apply(final BeaconState parent, final Bytes diff) {
+    checkVersion(diff);
+    final List<Integer> fieldIndices = new ArrayList<>();
+    final List<SszData> fieldValues = new ArrayList<>();
+    try (final DataInputStream body =
+        new DataInputStream(
+            new InflaterInputStream(
+                new ByteArrayInputStream(
+                    diff.toArrayUnsafe(), HEADER_SIZE, diff.size() - HEADER_SIZE)))) {
+      final int fieldCount = body.readInt();
+      for (int i = 0; i < fieldCount; i++) {
+        final int fieldIndex = body.readInt();
+        final byte[] field = new byte[body.readInt()];
+        body.readFully(field);
+        final Bytes ssz = Bytes.wrap(xor(Bytes.wrap(field), parent.get(fieldIndex)));
+        fieldIndices.add(fieldIndex);
+        fieldValues.add(parent.getSchema().getChildSchema(fieldIndex).sszDeserialize(ssz));
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return parent.updated(
+        state -> {
+          for (int i = 0; i < fieldIndices.size(); i++) {
+            state.set(fieldIndices.get(i), fieldValues.get(i));
+          }
+        });
+  }
+
+  private static void checkVersion(final Bytes diff) {
+    if (diff.size() < HEADER_SIZE || diff.get(0) != VERSION) {
+      throw new IllegalArgumentException("Unsupported state diff encoding");
+    }
+  }
+
+  /**
+   * XORs the value with the SSZ encoding of the base field. The result always has the length of
+   * the value, with bytes beyond the end of the base left unchanged.
+   */
+  private static byte[] xor(final Bytes value, final SszData baseField) {
+    final byte[] result = value.toArray();
+    final byte[] base = baseField.sszSerialize().toArrayUnsafe();
+    final int overlap = Math.min(result.length, base.length);
+    for (int i = 0; i < overlap; i++) {
+      result[i] ^= base[i];
+    }
+    return result;
+  }
+}
@@ -16,8 +16,12 @@ package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 import static com.google.common.base.Preconditions.checkArgument;
 import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.STORAGE;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.errorprone.annotations.MustBeClosed;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -27,6 +31,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes;
@@ -61,6 +69,8 @@ import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombined;
 
 public class CombinedKvStoreDao<S extends SchemaCombined>
     implements KvStoreCombinedDao, V4MigratableSourceDao {
+  private static final String VARIABLES_CHECKPOINT_NAME = "variables";
+
   // Persistent data
   private final KvStoreAccessor db;
   private final S schema;
@@ -241,16 +251,29 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     return new V4CombinedUpdater<>(db, schema, stateStorageLogic.updater());
   }
 
+  @Override
+  @MustBeClosed
+  public FinalizedUpdater bulkFinalizedUpdater() {
+    return new V4CombinedUpdater<>(
+        db, db.startBulkLoadTransaction(), schema, stateStorageLogic.updater());
+  }
+
   @Override
   public void ingest(
-      final KvStoreCombinedDao sourceDao, final int batchSize, final Consumer<String> logger) {
+      final KvStoreCombinedDao sourceDao,
+      final int batchSize,
+      final int threads,
+      final MigrationCheckpoint checkpoint,
+      final Consumer<String> logger) {
     checkArgument(batchSize > 1, "Batch size must be greater than 1 element");
+    checkArgument(threads > 0, "Must use at least one thread");
     checkArgument(
         sourceDao instanceof V4MigratableSourceDao, "Expected instance of V4FinalizedKvStoreDao");
     final V4MigratableSourceDao dao = (V4MigratableSourceDao) sourceDao;
+    checkSourceUnchanged(dao, checkpoint);
 
     final Map<String, KvStoreVariable<?>> newVariables = getVariableMap();
-    if (newVariables.size() > 0) {
+    if (newVariables.size() > 0 && !checkpoint.isComplete(VARIABLES_CHECKPOINT_NAME)) {
       final Map<String, KvStoreVariable<?>> oldVariables = dao.getVariableMap();
       checkArgument(
           oldVariables.keySet().equals(newVariables.keySet()),
@@ -263,6 +286,7 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
         }
         transaction.commit();
       }
+      checkpoint.markComplete(VARIABLES_CHECKPOINT_NAME);
     }
     final Map<String, KvStoreColumn<?, ?>> newColumns = schema.getColumnMap();
     if (newColumns.size() > 0) {
@@ -270,17 +294,117 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
       checkArgument(
           oldColumns.keySet().equals(newColumns.keySet()),
           "Cannot migrate database as source and target formats do not use the same columns");
-      for (String key : newColumns.keySet()) {
-        final Optional<UInt64> maybeCount = displayCopyColumnMessage(key, oldColumns, dao, logger);
-        try (final Stream<ColumnEntry<Bytes, Bytes>> oldEntryStream =
-                dao.streamRawColumn(oldColumns.get(key));
-            BatchWriter batchWriter = new BatchWriter(batchSize, logger, db, maybeCount)) {
-          oldEntryStream.forEach(entry -> batchWriter.add(newColumns.get(key), entry));
+      // Columns are independent so can be copied concurrently, each in its own sorted batches
+      final ExecutorService executor =
+          Executors.newFixedThreadPool(
+              threads,
+              new ThreadFactoryBuilder().setDaemon(true).setNameFormat("migrate-%d").build());
+      try {
+        final List<Future<?>> copies = new ArrayList<>();
+        for (String key : newColumns.keySet()) {
+          if (checkpoint.isComplete(key)) {
+            logger.accept(String.format("Column %s already copied", key));
+            continue;
+          }
+          final KvStoreColumn<?, ?> newColumn = newColumns.get(key);
+          copies.add(
+              executor.submit(
+                  () ->
+                      copyColumn(
+                          key, oldColumns, newColumn, dao, batchSize, checkpoint, logger)));
         }
+        for (Future<?> copy : copies) {
+          copy.get();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while migrating database", e);
+      } catch (ExecutionException e) {
+        Throwables.throwIfUnchecked(e.getCause());
+        throw new IllegalStateException("Failed to migrate database", e.getCause());
+      } finally {
+        executor.shutdownNow();
       }
     }
   }
 
+  /**
+   * Resumed progress is only valid if the source database is the same as when the checkpoint was
+   * written. If a node has run on it since then, entries may have been pruned or added and the
+   * already copied variables are stale, so the checkpoint is discarded and the migration has to
+   * start again.
+   */
+  private static void checkSourceUnchanged(
+      final V4MigratableSourceDao dao, final MigrationCheckpoint checkpoint) {
+    final Bytes sourceFingerprint = MigrationCheckpoint.calculateSourceFingerprint(dao);
+    if (checkpoint.isEmpty()) {
+      checkpoint.setSourceFingerprint(sourceFingerprint);
+      return;
+    }
+    if (!checkpoint.getSourceFingerprint().equals(Optional.of(sourceFingerprint))) {
+      checkpoint.invalidate();
+      throw new IllegalStateException(
+          "Source database has changed since the interrupted migration was checkpointed. Progress"
+              + " has been discarded, run the migration again to start from the beginning.");
+    }
+  }
+
+  private void copyColumn(
+      final String key,
+      final Map<String, KvStoreColumn<?, ?>> oldColumns,
+      final KvStoreColumn<?, ?> newColumn,
+      final V4MigratableSourceDao dao,
+      final int batchSize,
+      final MigrationCheckpoint checkpoint,
+      final Consumer<String> logger) {
+    final Optional<UInt64> maybeCount = displayCopyColumnMessage(key, oldColumns, dao, logger);
+    final Optional<Bytes> resumeAfterKey = checkpoint.getLastCopiedKey(key);
+    resumeAfterKey.ifPresent(
+        lastKey ->
+            logger.accept(String.format("Resuming copy of column %s after %s", key, lastKey)));
+    final long startTimeNanos = System.nanoTime();
+    try (final Stream<ColumnEntry<Bytes, Bytes>> oldEntryStream =
+            dao.streamRawColumn(oldColumns.get(key));
+        BatchWriter batchWriter =
+            new BatchWriter(
+                batchSize,
+                logger,
+                db,
+                maybeCount,
+                key,
+                lastKey -> checkpoint.recordLastCopiedKey(key, lastKey))) {
+      skipCopiedEntries(oldEntryStream, resumeAfterKey)
+          .forEach(entry -> batchWriter.add(newColumn, entry));
+      batchWriter.commit();
+      checkpoint.markComplete(key);
+      final double elapsedSeconds = (System.nanoTime() - startTimeNanos) / 1_000_000_000d;
+      final double megabytes = batchWriter.getTotalBytes() / 1_000_000d;
+      logger.accept(
+          String.format(
+              "%s => Copied %,d entries (%,.1f MB) in %,.1f seconds (%,.1f MB/s)",
+              key,
+              batchWriter.getEntryCount(),
+              megabytes,
+              elapsedSeconds,
+              elapsedSeconds > 0 ? megabytes / elapsedSeconds : 0));
+    }
+  }
+
+  /**
+   * Skips entries with keys up to and including the last key already copied. Columns are streamed
+   * in unsigned byte order of their keys, so this works even if the last copied key is no longer
+   * present in the source.
+   */
+  private static Stream<ColumnEntry<Bytes, Bytes>> skipCopiedEntries(
+      final Stream<ColumnEntry<Bytes, Bytes>> entries, final Optional<Bytes> resumeAfterKey) {
+    if (resumeAfterKey.isEmpty()) {
+      return entries;
+    }
+    final byte[] lastCopiedKey = resumeAfterKey.get().toArrayUnsafe();
+    return entries.dropWhile(
+        entry -> Arrays.compareUnsigned(entry.getKey().toArrayUnsafe(), lastCopiedKey) <= 0);
+  }
+
   @Override
   public Map<String, KvStoreColumn<?, ?>> getColumnMap() {
     return schema.getColumnMap();
@@ -318,6 +442,11 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     db.compact();
   }
 
+  @Override
+  public void syncFinalizedData() {
+    // Hot and finalized data share one instance so commits are already recovered in order
+  }
+
   @Override
   public Optional<SignedBeaconBlock> getFinalizedBlockAtSlot(final UInt64 slot) {
     try (final OperationTimer.TimingContext ignored =
@@ -657,6 +786,7 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
       final V4MigratableSourceDao dao) {
     switch (key) {
       case "FINALIZED_STATES_BY_SLOT",
+          "FINALIZED_STATE_DIFFS_BY_SLOT",
           "SLOTS_BY_FINALIZED_STATE_ROOT",
           "SLOTS_BY_FINALIZED_ROOT" -> {
         return getEntityCountFromColumn(oldColumns.get(key), dao);
@@ -763,7 +893,15 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
         final KvStoreAccessor db,
         final S schema,
         final FinalizedStateUpdater<S> stateStorageUpdater) {
-      this.transaction = db.startTransaction();
+      this(db, db.startTransaction(), schema, stateStorageUpdater);
+    }
+
+    V4CombinedUpdater(
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final S schema,
+        final FinalizedStateUpdater<S> stateStorageUpdater) {
+      this.transaction = transaction;
       this.db = db;
       this.schema = schema;
       this.stateStorageUpdater = stateStorageUpdater;
@@ -1000,7 +1138,7 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
 
     @Override
     public void deleteFinalizedState(final UInt64 slot) {
-      stateStorageUpdater.deleteFinalizedState(transaction, schema, slot);
+      stateStorageUpdater.deleteFinalizedState(db, transaction, schema, slot);
     }
 
     @Override
@@ -1069,6 +1207,23 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
       transaction.delete(schema.getColumnNonCanonicalBlobSidecarBySlotRootBlobIndex(), key);
     }
 
+    @Override
+    public void removeBlobSidecarsInSlotRange(final UInt64 fromSlot, final UInt64 toSlot) {
+      transaction.deleteRange(
+          schema.getColumnBlobSidecarBySlotRootBlobIndex(),
+          new SlotAndBlockRootAndBlobIndex(fromSlot, MIN_BLOCK_ROOT, UInt64.ZERO),
+          new SlotAndBlockRootAndBlobIndex(toSlot.plus(1), MIN_BLOCK_ROOT, UInt64.ZERO));
+    }
+
+    @Override
+    public void removeNonCanonicalBlobSidecarsInSlotRange(
+        final UInt64 fromSlot, final UInt64 toSlot) {
+      transaction.deleteRange(
+          schema.getColumnNonCanonicalBlobSidecarBySlotRootBlobIndex(),
+          new SlotAndBlockRootAndBlobIndex(fromSlot, MIN_BLOCK_ROOT, UInt64.ZERO),
+          new SlotAndBlockRootAndBlobIndex(toSlot.plus(1), MIN_BLOCK_ROOT, UInt64.ZERO));
+    }
+
     @Override
     public void setFirstCustodyIncompleteSlot(final UInt64 slot) {
       transaction.put(schema.getVariableFirstCustodyIncompleteSlot(), slot);
@@ -1103,6 +1258,22 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
           schema.getColumnNonCanonicalSidecarByColumnSlotAndIdentifier(), identifier);
     }
 
+    @Override
+    public void removeSidecarsInSlotRange(final UInt64 fromSlot, final UInt64 toSlot) {
+      transaction.deleteRange(
+          schema.getColumnSidecarByColumnSlotAndIdentifier(),
+          DataColumnSlotAndIdentifier.minimalComparableForSlot(fromSlot),
+          DataColumnSlotAndIdentifier.minimalComparableForSlot(toSlot.plus(1)));
+    }
+
+    @Override
+    public void removeNonCanonicalSidecarsInSlotRange(final UInt64 fromSlot, final UInt64 toSlot) {
+      transaction.deleteRange(
+          schema.getColumnNonCanonicalSidecarByColumnSlotAndIdentifier(),
+          DataColumnSlotAndIdentifier.minimalComparableForSlot(fromSlot),
+          DataColumnSlotAndIdentifier.minimalComparableForSlot(toSlot.plus(1)));
+    }
+
     @Override
     public void addDataColumnSidecarsProofs(
         final UInt64 slot, final List<List<KZGProof>> kzgProofs) {
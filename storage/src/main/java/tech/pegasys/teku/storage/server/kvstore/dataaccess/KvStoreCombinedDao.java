@@ -51,6 +51,16 @@ public interface KvStoreCombinedDao extends AutoCloseable {
   @MustBeClosed
   FinalizedUpdater finalizedUpdater();
 
+  /**
+   * Creates an updater for storing a large amount of finalized data in one go, such as historic
+   * blocks received during backfill. Only additions should be made through the returned updater as
+   * the underlying storage may not support deletions.
+   */
+  @MustBeClosed
+  default FinalizedUpdater bulkFinalizedUpdater() {
+    return finalizedUpdater();
+  }
+
   @MustBeClosed
   CombinedUpdater combinedUpdater();
 
@@ -90,7 +100,16 @@ public interface KvStoreCombinedDao extends AutoCloseable {
 
   Optional<SignedBeaconBlock> getNonCanonicalBlock(Bytes32 root);
 
-  void ingest(KvStoreCombinedDao dao, int batchSize, Consumer<String> logger);
+  /**
+   * Copies all data from {@code dao} into this database, copying up to {@code threads} columns
+   * concurrently and recording progress in {@code checkpoint} so an interrupted copy can resume.
+   */
+  void ingest(
+      KvStoreCombinedDao dao,
+      int batchSize,
+      int threads,
+      MigrationCheckpoint checkpoint,
+      Consumer<String> logger);
 
   Optional<UInt64> getGenesisTime();
 
@@ -203,6 +222,13 @@ public interface KvStoreCombinedDao extends AutoCloseable {
   /** Triggers a full, blocking compaction of the underlying storage to reclaim freed space. */
   void compact();
 
+  /**
+   * Ensures finalized data committed so far will survive a crash before hot data which depends on
+   * it is committed. Only has an effect when hot and finalized data are stored in separate
+   * instances, as a single instance already recovers commits in order.
+   */
+  void syncFinalizedData();
+
   interface CombinedUpdater extends HotUpdater, FinalizedUpdater {}
 
   interface HotUpdater extends AutoCloseable {
@@ -308,6 +334,14 @@ public interface KvStoreCombinedDao extends AutoCloseable {
 
     void removeNonCanonicalBlobSidecar(SlotAndBlockRootAndBlobIndex key);
 
+    /**
+     * Removes every blob sidecar with a slot from {@code fromSlot} to {@code toSlot} inclusive as a
+     * single range deletion.
+     */
+    void removeBlobSidecarsInSlotRange(UInt64 fromSlot, UInt64 toSlot);
+
+    void removeNonCanonicalBlobSidecarsInSlotRange(UInt64 fromSlot, UInt64 toSlot);
+
     void setEarliestBlobSidecarSlot(UInt64 slot);
 
     void setEarliestBlockSlot(UInt64 slot);
@@ -328,6 +362,14 @@ public interface KvStoreCombinedDao extends AutoCloseable {
 
     void removeNonCanonicalSidecar(DataColumnSlotAndIdentifier dataColumnSlotAndIdentifier);
 
+    /**
+     * Removes every data column sidecar with a slot from {@code fromSlot} to {@code toSlot}
+     * inclusive as a single range deletion.
+     */
+    void removeSidecarsInSlotRange(UInt64 fromSlot, UInt64 toSlot);
+
+    void removeNonCanonicalSidecarsInSlotRange(UInt64 fromSlot, UInt64 toSlot);
+
     void addDataColumnSidecarsProofs(UInt64 slot, List<List<KZGProof>> kzgProofs);
 
     void removeDataColumnSidecarsProofs(UInt64 slot);
@@ -172,6 +172,12 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
     return finalizedDao.finalizedUpdater();
   }
 
+  @Override
+  @MustBeClosed
+  public FinalizedUpdater bulkFinalizedUpdater() {
+    return finalizedDao.bulkFinalizedUpdater();
+  }
+
   @Override
   public Optional<SignedBeaconBlock> getFinalizedBlockAtSlot(final UInt64 slot) {
     return finalizedDao.getFinalizedBlockAtSlot(slot);
@@ -395,7 +401,11 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
 
   @Override
   public void ingest(
-      final KvStoreCombinedDao dao, final int batchSize, final Consumer<String> logger) {
+      final KvStoreCombinedDao dao,
+      final int batchSize,
+      final int threads,
+      final MigrationCheckpoint checkpoint,
+      final Consumer<String> logger) {
     throw new UnsupportedOperationException("Cannot migrate to a split database format");
   }
 
@@ -433,11 +443,17 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
     finalizedDao.compact();
   }
 
+  @Override
+  public void syncFinalizedData() {
+    finalizedDao.sync();
+  }
+
   @Override
   @MustBeClosed
   @SuppressWarnings("MustBeClosedChecker")
   public CombinedUpdater combinedUpdater() {
-    return new CombinedUpdaterAdapter(hotDao.hotUpdater(), finalizedDao.finalizedUpdater());
+    return new CombinedUpdaterAdapter(
+        hotDao.hotUpdater(), finalizedDao.finalizedUpdater(), finalizedDao::sync);
   }
 
   @Override
@@ -488,11 +504,15 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
   private static class CombinedUpdaterAdapter implements CombinedUpdater {
     private final V4HotUpdater hotUpdater;
     private final V4FinalizedUpdater finalizedUpdater;
+    private final Runnable syncFinalizedData;
 
     private CombinedUpdaterAdapter(
-        final V4HotUpdater hotUpdater, final V4FinalizedUpdater finalizedUpdater) {
+        final V4HotUpdater hotUpdater,
+        final V4FinalizedUpdater finalizedUpdater,
+        final Runnable syncFinalizedData) {
       this.hotUpdater = hotUpdater;
       this.finalizedUpdater = finalizedUpdater;
+      this.syncFinalizedData = syncFinalizedData;
     }
 
     @Override
@@ -576,6 +596,17 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
       finalizedUpdater.removeNonCanonicalBlobSidecar(key);
     }
 
+    @Override
+    public void removeBlobSidecarsInSlotRange(final UInt64 fromSlot, final UInt64 toSlot) {
+      finalizedUpdater.removeBlobSidecarsInSlotRange(fromSlot, toSlot);
+    }
+
+    @Override
+    public void removeNonCanonicalBlobSidecarsInSlotRange(
+        final UInt64 fromSlot, final UInt64 toSlot) {
+      finalizedUpdater.removeNonCanonicalBlobSidecarsInSlotRange(fromSlot, toSlot);
+    }
+
     @Override
     public void addHotState(final Bytes32 blockRoot, final BeaconState state) {
       hotUpdater.addHotState(blockRoot, state);
@@ -746,6 +777,16 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
       finalizedUpdater.removeNonCanonicalSidecar(identifier);
     }
 
+    @Override
+    public void removeSidecarsInSlotRange(final UInt64 fromSlot, final UInt64 toSlot) {
+      finalizedUpdater.removeSidecarsInSlotRange(fromSlot, toSlot);
+    }
+
+    @Override
+    public void removeNonCanonicalSidecarsInSlotRange(final UInt64 fromSlot, final UInt64 toSlot) {
+      finalizedUpdater.removeNonCanonicalSidecarsInSlotRange(fromSlot, toSlot);
+    }
+
     @Override
     public void addDataColumnSidecarsProofs(
         final UInt64 slot, final List<List<KZGProof>> kzgProofs) {
@@ -779,7 +820,9 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
 
     @Override
     public void commit() {
+      // Hot data may refer to the finalized data, so make it durable first
       finalizedUpdater.commit();
+      syncFinalizedData.run();
       hotUpdater.commit();
     }
 
@@ -0,0 +1,165 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Records how far a database migration has progressed so that an interrupted migration can resume
+ * rather than starting again.
+ *
+ * <p>Progress is tracked per column as either complete or the last key which has been committed to
+ * the target database. The file is replaced atomically each time progress is recorded so a crash
+ * never leaves it partially written.
+ *
+ * <p>A fingerprint of the source database is also recorded, so progress is not reused if the
+ * source has been modified, e.g. by running a node on it, since the checkpoint was written.
+ */
+public class MigrationCheckpoint {
+  private static final String COMPLETE = "complete";
+  private static final String DESCRIPTION_KEY = "migration";
+  private static final String SOURCE_FINGERPRINT_KEY = "source";
+  private static final String ENTRY_PREFIX = "entry.";
+
+  private final Optional<Path> file;
+  private final Properties properties;
+
+  private MigrationCheckpoint(final Optional<Path> file, final Properties properties) {
+    this.file = file;
+    this.properties = properties;
+  }
+
+  /** Creates a checkpoint which is not persisted, so the migration always starts from scratch. */
+  public static MigrationCheckpoint inMemory() {
+    return new MigrationCheckpoint(Optional.empty(), new Properties());
+  }
+
+  /** Loads the checkpoint stored in {@code file}, or an empty checkpoint if it does not exist. */
+  public static MigrationCheckpoint load(final Path file) {
+    final Properties properties = new Properties();
+    if (Files.exists(file)) {
+      try (final Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+        properties.load(reader);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to read migration checkpoint " + file, e);
+      }
+    }
+    return new MigrationCheckpoint(Optional.of(file), properties);
+  }
+
+  /** Describes the migration being performed, used to check a checkpoint applies when resuming. */
+  public synchronized Optional<String> getDescription() {
+    return Optional.ofNullable(properties.getProperty(DESCRIPTION_KEY));
+  }
+
+  public synchronized void setDescription(final String description) {
+    properties.setProperty(DESCRIPTION_KEY, description);
+    save();
+  }
+
+  /**
+   * Calculates a fingerprint of the source database from its variables, which change whenever a
+   * node runs on the database (e.g. the finalized checkpoint is updated before pruning).
+   */
+  public static Bytes calculateSourceFingerprint(final V4MigratableSourceDao sourceDao) {
+    final Hasher hasher = Hashing.sha256().newHasher();
+    new TreeMap<>(sourceDao.getVariableMap())
+        .forEach(
+            (name, variable) -> {
+              hasher.putString(name, StandardCharsets.UTF_8);
+              sourceDao
+                  .getRawVariable(variable)
+                  .ifPresentOrElse(
+                      value -> hasher.putInt(value.size()).putBytes(value.toArrayUnsafe()),
+                      () -> hasher.putInt(-1));
+            });
+    return Bytes.wrap(hasher.hash().asBytes());
+  }
+
+  public synchronized Optional<Bytes> getSourceFingerprint() {
+    return Optional.ofNullable(properties.getProperty(SOURCE_FINGERPRINT_KEY))
+        .map(Bytes::fromHexString);
+  }
+
+  public synchronized void setSourceFingerprint(final Bytes fingerprint) {
+    properties.setProperty(SOURCE_FINGERPRINT_KEY, fingerprint.toHexString());
+    save();
+  }
+
+  /**
+   * Discards all recorded progress, including the description, so a later run does not resume
+   * from this checkpoint.
+   */
+  public synchronized void invalidate() {
+    properties.clear();
+    save();
+  }
+
+  public synchronized boolean isEmpty() {
+    return properties.stringPropertyNames().stream().noneMatch(key -> key.startsWith(ENTRY_PREFIX));
+  }
+
+  public synchronized boolean isComplete(final String name) {
+    return COMPLETE.equals(properties.getProperty(ENTRY_PREFIX + name));
+  }
+
+  /** Returns the last key copied for a partially copied column. */
+  public synchronized Optional<Bytes> getLastCopiedKey(final String name) {
+    final String value = properties.getProperty(ENTRY_PREFIX + name);
+    if (value == null || value.equals(COMPLETE)) {
+      return Optional.empty();
+    }
+    return Optional.of(Bytes.fromHexString(value));
+  }
+
+  public synchronized void recordLastCopiedKey(final String name, final Bytes key) {
+    properties.setProperty(ENTRY_PREFIX + name, key.toHexString());
+    save();
+  }
+
+  public synchronized void markComplete(final String name) {
+    properties.setProperty(ENTRY_PREFIX + name, COMPLETE);
+    save();
+  }
+
+  private void save() {
+    if (file.isEmpty()) {
+      return;
+    }
+    final Path target = file.get();
+    final Path tempFile = target.resolveSibling(target.getFileName() + ".tmp");
+    try {
+      try (final Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+        properties.store(writer, "Database migration progress");
+      }
+      Files.move(
+          tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write migration checkpoint " + target, e);
+    }
+  }
+}
@@ -70,6 +70,10 @@ public class V4FinalizedKvStoreDao {
     db.compact();
   }
 
+  public void sync() {
+    db.sync();
+  }
+
   public Optional<SignedBeaconBlock> getFinalizedBlockAtSlot(final UInt64 slot) {
 
     return db.get(schema.getColumnFinalizedBlocksBySlot(), slot);
@@ -295,6 +299,12 @@ public class V4FinalizedKvStoreDao {
     return new V4FinalizedKvStoreDao.V4FinalizedUpdater(db, schema, stateStorageLogic.updater());
   }
 
+  @MustBeClosed
+  public V4FinalizedUpdater bulkFinalizedUpdater() {
+    return new V4FinalizedKvStoreDao.V4FinalizedUpdater(
+        db, db.startBulkLoadTransaction(), schema, stateStorageLogic.updater());
+  }
+
   public Map<String, KvStoreColumn<?, ?>> getColumnMap() {
     return schema.getColumnMap();
   }
@@ -375,7 +385,17 @@ public class V4FinalizedKvStoreDao {
         final V4FinalizedStateStorageLogic.FinalizedStateUpdater<
                 SchemaFinalizedSnapshotStateAdapter>
             stateStorageUpdater) {
-      this.transaction = db.startTransaction();
+      this(db, db.startTransaction(), schema, stateStorageUpdater);
+    }
+
+    V4FinalizedUpdater(
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final SchemaFinalizedSnapshotStateAdapter schema,
+        final V4FinalizedStateStorageLogic.FinalizedStateUpdater<
+                SchemaFinalizedSnapshotStateAdapter>
+            stateStorageUpdater) {
+      this.transaction = transaction;
       this.db = db;
       this.schema = schema;
       this.stateStorageUpdater = stateStorageUpdater;
@@ -511,6 +531,23 @@ public class V4FinalizedKvStoreDao {
       transaction.delete(schema.getColumnNonCanonicalBlobSidecarBySlotRootBlobIndex(), key);
     }
 
+    @Override
+    public void removeBlobSidecarsInSlotRange(final UInt64 fromSlot, final UInt64 toSlot) {
+      transaction.deleteRange(
+          schema.getColumnBlobSidecarBySlotRootBlobIndex(),
+          new SlotAndBlockRootAndBlobIndex(fromSlot, MIN_BLOCK_ROOT, UInt64.ZERO),
+          new SlotAndBlockRootAndBlobIndex(toSlot.plus(1), MIN_BLOCK_ROOT, UInt64.ZERO));
+    }
+
+    @Override
+    public void removeNonCanonicalBlobSidecarsInSlotRange(
+        final UInt64 fromSlot, final UInt64 toSlot) {
+      transaction.deleteRange(
+          schema.getColumnNonCanonicalBlobSidecarBySlotRootBlobIndex(),
+          new SlotAndBlockRootAndBlobIndex(fromSlot, MIN_BLOCK_ROOT, UInt64.ZERO),
+          new SlotAndBlockRootAndBlobIndex(toSlot.plus(1), MIN_BLOCK_ROOT, UInt64.ZERO));
+    }
+
     @Override
     public void setEarliestBlobSidecarSlot(final UInt64 slot) {
       transaction.put(schema.getVariableEarliestBlobSidecarSlot(), slot);
@@ -570,6 +607,22 @@ public class V4FinalizedKvStoreDao {
           schema.getColumnNonCanonicalSidecarByColumnSlotAndIdentifier(), identifier);
     }
 
+    @Override
+    public void removeSidecarsInSlotRange(final UInt64 fromSlot, final UInt64 toSlot) {
+      transaction.deleteRange(
+          schema.getColumnSidecarByColumnSlotAndIdentifier(),
+          DataColumnSlotAndIdentifier.minimalComparableForSlot(fromSlot),
+          DataColumnSlotAndIdentifier.minimalComparableForSlot(toSlot.plus(1)));
+    }
+
+    @Override
+    public void removeNonCanonicalSidecarsInSlotRange(final UInt64 fromSlot, final UInt64 toSlot) {
+      transaction.deleteRange(
+          schema.getColumnNonCanonicalSidecarByColumnSlotAndIdentifier(),
+          DataColumnSlotAndIdentifier.minimalComparableForSlot(fromSlot),
+          DataColumnSlotAndIdentifier.minimalComparableForSlot(toSlot.plus(1)));
+    }
+
     @Override
     public void addDataColumnSidecarsProofs(
         final UInt64 slot, final List<List<KZGProof>> kzgProofs) {
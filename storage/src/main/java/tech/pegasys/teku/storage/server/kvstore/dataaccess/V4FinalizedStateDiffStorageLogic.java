@@ -0,0 +1,343 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.errorprone.annotations.MustBeClosed;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.collections.LimitedMap;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.server.DatabaseStorageException;
+import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaFinalizedSnapshotState;
+
+/**
+ * Stores finalized states as a hierarchy of full snapshots and {@link BeaconStateDiff}s.
+ *
+ * <p>Slots are grouped into nested buckets, one size per layer. The first state stored in a
+ * layer 0 bucket is written as a full snapshot. Every other state is written as a diff against the
+ * first state stored in the smallest bucket which already contains an earlier stored state. A
+ * state is therefore never more than {@link #DIFF_LAYER_COUNT} diffs away from a full snapshot,
+ * while most diffs are taken against a nearby state and stay small.
+ *
+ * <p>Full snapshots share the column used by {@link V4FinalizedStateSnapshotStorageLogic}, so a
+ * database previously written in snapshot mode can be switched to diffs at any time with its
+ * existing snapshots serving as the base layer.
+ */
+public class V4FinalizedStateDiffStorageLogic<S extends SchemaFinalizedSnapshotState>
+    implements V4FinalizedStateStorageLogic<S> {
+
+  static final int DIFF_LAYER_COUNT = 3;
+  static final int LAYER_FAN_OUT = 8;
+
+  private final UInt64 stateStorageFrequency;
+  private final List<UInt64> layerPeriods;
+
+  // Anchor states are the parents of later diffs so loading a run of states reuses them
+  private final Map<UInt64, BeaconState> anchorStateCache =
+      LimitedMap.createSynchronizedLRU(DIFF_LAYER_COUNT);
+
+  public V4FinalizedStateDiffStorageLogic(final long stateStorageFrequency) {
+    this(stateStorageFrequency, createLayerPeriods(stateStorageFrequency));
+  }
+
+  @VisibleForTesting
+  V4FinalizedStateDiffStorageLogic(
+      final long stateStorageFrequency, final List<UInt64> layerPeriods) {
+    this.stateStorageFrequency = UInt64.valueOf(stateStorageFrequency);
+    this.layerPeriods = layerPeriods;
+  }
+
+  private static List<UInt64> createLayerPeriods(final long stateStorageFrequency) {
+    final List<UInt64> periods = new ArrayList<>();
+    UInt64 period = UInt64.valueOf(Math.max(stateStorageFrequency, 1));
+    for (int i = 0; i < DIFF_LAYER_COUNT; i++) {
+      period = period.times(LAYER_FAN_OUT);
+      periods.addFirst(period);
+    }
+    return periods;
+  }
+
+  @Override
+  public Optional<BeaconState> getLatestAvailableFinalizedState(
+      final KvStoreAccessor db, final S schema, final UInt64 maxSlot) {
+    final Optional<ColumnEntry<UInt64, Bytes>> latestDiff =
+        db.getFloorEntry(schema.getColumnFinalizedStateDiffsBySlot(), maxSlot);
+    if (latestDiff.isEmpty()
+        || hasStoredSnapshot(db, schema, latestDiff.get().getKey().plus(1), maxSlot)) {
+      return db.getFloorEntry(schema.getColumnFinalizedStatesBySlot(), maxSlot)
+          .map(ColumnEntry::getValue);
+    }
+    return Optional.of(applyDiff(db, schema, latestDiff.get().getValue(), Map.of()));
+  }
+
+  @Override
+  public Optional<UInt64> getEarliestAvailableFinalizedStateSlot(
+      final KvStoreAccessor db, final S schema) {
+    final Optional<UInt64> earliestSnapshot =
+        db.getFirstEntry(schema.getColumnFinalizedStatesBySlot()).map(ColumnEntry::getKey);
+    final Optional<UInt64> earliestDiff =
+        db.getFirstEntry(schema.getColumnFinalizedStateDiffsBySlot()).map(ColumnEntry::getKey);
+    return Stream.concat(earliestSnapshot.stream(), earliestDiff.stream()).min(UInt64::compareTo);
+  }
+
+  @Override
+  public FinalizedStateUpdater<S> updater() {
+    return new FinalizedStateDiffUpdater();
+  }
+
+  @Override
+  @MustBeClosed
+  public Stream<UInt64> streamFinalizedStateSlots(
+      final KvStoreAccessor db, final S schema, final UInt64 startSlot, final UInt64 endSlot) {
+    final List<UInt64> slots = new ArrayList<>();
+    try (final Stream<UInt64> snapshotSlots =
+            db.streamKeys(schema.getColumnFinalizedStatesBySlot(), startSlot, endSlot);
+        final Stream<UInt64> diffSlots =
+            db.streamKeys(schema.getColumnFinalizedStateDiffsBySlot(), startSlot, endSlot)) {
+      snapshotSlots.forEach(slots::add);
+      diffSlots.forEach(slots::add);
+    }
+    return slots.stream().sorted();
+  }
+
+  private boolean hasStoredSnapshot(
+      final KvStoreAccessor db, final S schema, final UInt64 fromSlot, final UInt64 toSlot) {
+    if (fromSlot.isGreaterThan(toSlot)) {
+      return false;
+    }
+    try (final Stream<UInt64> snapshotSlots =
+        db.streamKeys(schema.getColumnFinalizedStatesBySlot(), fromSlot, toSlot)) {
+      return snapshotSlots.findAny().isPresent();
+    }
+  }
+
+  private Optional<BeaconState> loadState(
+      final KvStoreAccessor db,
+      final S schema,
+      final UInt64 slot,
+      final Map<UInt64, BeaconState> pendingStates) {
+    final BeaconState pendingState = pendingStates.get(slot);
+    if (pendingState != null) {
+      return Optional.of(pendingState);
+    }
+    final BeaconState cachedState = anchorStateCache.get(slot);
+    if (cachedState != null) {
+      return Optional.of(cachedState);
+    }
+    final Optional<BeaconState> snapshot = db.get(schema.getColumnFinalizedStatesBySlot(), slot);
+    if (snapshot.isPresent()) {
+      return snapshot;
+    }
+    return db.get(schema.getColumnFinalizedStateDiffsBySlot(), slot)
+        .map(diff -> applyDiff(db, schema, diff, pendingStates));
+  }
+
+  private BeaconState applyDiff(
+      final KvStoreAccessor db,
+      final S schema,
+      final Bytes diff,
+      final Map<UInt64, BeaconState> pendingStates) {
+    final UInt64 parentSlot = BeaconStateDiff.getParentSlot(diff);
+    final BeaconState parent =
+        loadState(db, schema, parentSlot, pendingStates)
+            .orElseThrow(
+                () ->
+                    DatabaseStorageException.unrecoverable(
+                        "Missing parent state at slot " + parentSlot + " for state diff"));
+    anchorStateCache.put(parentSlot, parent);
+    return BeaconStateDiff.apply(parent, diff);
+  }
+
+  private Optional<UInt64> findFirstStoredSlot(
+      final KvStoreAccessor db,
+      final S schema,
+      final NavigableMap<UInt64, BeaconState> pendingStates,
+      final UInt64 fromSlot,
+      final UInt64 toSlot) {
+    if (fromSlot.isGreaterThan(toSlot)) {
+      return Optional.empty();
+    }
+    final Optional<UInt64> firstPending =
+        Optional.ofNullable(pendingStates.ceilingKey(fromSlot))
+            .filter(slot -> slot.isLessThanOrEqualTo(toSlot));
+    try (final Stream<UInt64> snapshotSlots =
+            db.streamKeys(schema.getColumnFinalizedStatesBySlot(), fromSlot, toSlot);
+        final Stream<UInt64> diffSlots =
+            db.streamKeys(schema.getColumnFinalizedStateDiffsBySlot(), fromSlot, toSlot)) {
+      return Stream.of(firstPending, snapshotSlots.findFirst(), diffSlots.findFirst())
+          .flatMap(Optional::stream)
+          .min(UInt64::compareTo);
+    }
+  }
+
+  private class FinalizedStateDiffUpdater implements FinalizedStateUpdater<S> {
+    private final NavigableMap<UInt64, BeaconState> pendingStates = new TreeMap<>();
+    private final Map<UInt64, BeaconState> newAnchorStates = new HashMap<>();
+    private final Set<UInt64> deletedSlots = new HashSet<>();
+
+    private Optional<UInt64> lastStateStoredSlot = Optional.empty();
+    private boolean loadedLastStoreState = false;
+
+    @Override
+    public void addFinalizedState(
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final S schema,
+        final BeaconState state) {
+      if (!loadedLastStoreState) {
+        lastStateStoredSlot =
+            Stream.concat(
+                    db.getLastKey(schema.getColumnFinalizedStatesBySlot()).stream(),
+                    db.getLastKey(schema.getColumnFinalizedStateDiffsBySlot()).stream())
+                .max(UInt64::compareTo);
+        loadedLastStoreState = true;
+      }
+      if (lastStateStoredSlot.isEmpty()
+          || state
+              .getSlot()
+              .isGreaterThanOrEqualTo(lastStateStoredSlot.get().plus(stateStorageFrequency))) {
+        storeState(db, transaction, schema, state);
+        lastStateStoredSlot = Optional.of(state.getSlot());
+      }
+    }
+
+    @Override
+    public void addReconstructedFinalizedState(
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final S schema,
+        final BeaconState state) {
+      final UInt64 slot = state.getSlot();
+      if (stateStorageFrequency.isZero()
+          || findFirstStoredSlot(
+                  db,
+                  schema,
+                  pendingStates,
+                  slot.minusMinZero(stateStorageFrequency.minus(1)),
+                  slot)
+              .isEmpty()) {
+        storeState(db, transaction, schema, state);
+      }
+    }
+
+    @Override
+    public void deleteFinalizedState(
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final S schema,
+        final UInt64 slot) {
+      promoteDependentStates(db, transaction, schema, slot);
+      transaction.delete(schema.getColumnFinalizedStatesBySlot(), slot);
+      transaction.delete(schema.getColumnFinalizedStateDiffsBySlot(), slot);
+      pendingStates.remove(slot);
+      newAnchorStates.remove(slot);
+      deletedSlots.add(slot);
+    }
+
+    @Override
+    public void commit() {
+      deletedSlots.forEach(anchorStateCache::remove);
+      anchorStateCache.putAll(newAnchorStates);
+    }
+
+    private void storeState(
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final S schema,
+        final BeaconState state) {
+      final UInt64 slot = state.getSlot();
+      int layer = 0;
+      Optional<UInt64> parentSlot = Optional.empty();
+      if (!slot.isZero()) {
+        for (int i = layerPeriods.size() - 1; i >= 0 && parentSlot.isEmpty(); i--) {
+          final UInt64 period = layerPeriods.get(i);
+          final UInt64 bucketStart = slot.dividedBy(period).times(period);
+          parentSlot = findFirstStoredSlot(db, schema, pendingStates, bucketStart, slot.minus(1));
+          layer = i + 1;
+        }
+      }
+      final Optional<BeaconState> parent =
+          parentSlot
+              .flatMap(ancestorSlot -> loadState(db, schema, ancestorSlot, pendingStates))
+              .filter(ancestor -> ancestor.getSchema().equals(state.getSchema()));
+
+      if (parent.isPresent()) {
+        transaction.put(
+            schema.getColumnFinalizedStateDiffsBySlot(),
+            slot,
+            BeaconStateDiff.create(parentSlot.orElseThrow(), parent.get(), state));
+      } else {
+        layer = 0;
+        transaction.put(schema.getColumnFinalizedStatesBySlot(), slot, state);
+      }
+      pendingStates.put(slot, state);
+      if (layer < layerPeriods.size()) {
+        newAnchorStates.put(slot, state);
+      }
+    }
+
+    /**
+     * Rewrites states stored as diffs against the state being deleted as full snapshots so they
+     * remain loadable.
+     */
+    private void promoteDependentStates(
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final S schema,
+        final UInt64 slot) {
+      final List<UInt64> dependentSlots;
+      try (final Stream<ColumnEntry<UInt64, Bytes>> diffs =
+          db.stream(
+              schema.getColumnFinalizedStateDiffsBySlot(),
+              slot.plus(1),
+              slot.plus(layerPeriods.getFirst()))) {
+        dependentSlots =
+            diffs
+                .filter(entry -> BeaconStateDiff.getParentSlot(entry.getValue()).equals(slot))
+                .map(ColumnEntry::getKey)
+                .filter(
+                    dependentSlot ->
+                        !pendingStates.containsKey(dependentSlot)
+                            && !deletedSlots.contains(dependentSlot))
+                .toList();
+      }
+      for (final UInt64 dependentSlot : dependentSlots) {
+        final BeaconState state =
+            loadState(db, schema, dependentSlot, pendingStates)
+                .orElseThrow(
+                    () ->
+                        DatabaseStorageException.unrecoverable(
+                            "Unable to load state at slot " + dependentSlot));
+        transaction.put(schema.getColumnFinalizedStatesBySlot(), dependentSlot, state);
+        transaction.delete(schema.getColumnFinalizedStateDiffsBySlot(), dependentSlot);
+        pendingStates.put(dependentSlot, state);
+        newAnchorStates.put(dependentSlot, state);
+      }
+    }
+  }
+}
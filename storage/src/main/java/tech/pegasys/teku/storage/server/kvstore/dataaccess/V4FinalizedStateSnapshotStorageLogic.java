@@ -119,7 +119,10 @@ public class V4FinalizedStateSnapshotStorageLogic<S extends SchemaFinalizedSnaps
 
     @Override
     public void deleteFinalizedState(
-        final KvStoreTransaction transaction, final S schema, final UInt64 slot) {
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final S schema,
+        final UInt64 slot) {
       transaction.delete(schema.getColumnFinalizedStatesBySlot(), slot);
     }
 
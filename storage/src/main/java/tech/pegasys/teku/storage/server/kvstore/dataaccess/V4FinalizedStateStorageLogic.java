@@ -40,7 +40,8 @@ public interface V4FinalizedStateStorageLogic<S> {
     void addReconstructedFinalizedState(
         KvStoreAccessor db, KvStoreTransaction transaction, S schema, BeaconState state);
 
-    void deleteFinalizedState(KvStoreTransaction transaction, S schema, UInt64 slot);
+    void deleteFinalizedState(
+        KvStoreAccessor db, KvStoreTransaction transaction, S schema, UInt64 slot);
 
     void commit();
   }
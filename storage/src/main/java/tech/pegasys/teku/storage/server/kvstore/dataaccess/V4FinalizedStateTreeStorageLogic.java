@@ -157,6 +157,7 @@ public class V4FinalizedStateTreeStorageLogic
 
     @Override
     public void deleteFinalizedState(
+        final KvStoreAccessor db,
         final KvStoreTransaction transaction,
         final SchemaCombinedTreeState schema,
         final UInt64 slot) {
@@ -13,10 +13,13 @@
 
 package tech.pegasys.teku.storage.server.kvstore.schema;
 
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 
 public interface SchemaFinalizedSnapshotState {
 
   KvStoreColumn<UInt64, BeaconState> getColumnFinalizedStatesBySlot();
+
+  KvStoreColumn<UInt64, Bytes> getColumnFinalizedStateDiffsBySlot();
 }
@@ -43,6 +43,11 @@ public class SchemaFinalizedSnapshotStateAdapter implements SchemaFinalizedSnaps
     return snapshotDelegate.getColumnFinalizedStatesBySlot();
   }
 
+  @Override
+  public KvStoreColumn<UInt64, Bytes> getColumnFinalizedStateDiffsBySlot() {
+    return snapshotDelegate.getColumnFinalizedStateDiffsBySlot();
+  }
+
   public KvStoreColumn<SlotAndBlockRootAndBlobIndex, Bytes>
       getColumnBlobSidecarBySlotRootBlobIndex() {
     return delegate.getColumnBlobSidecarBySlotRootBlobIndex();
@@ -75,6 +80,7 @@ public class SchemaFinalizedSnapshotStateAdapter implements SchemaFinalizedSnaps
             "BLINDED_EXECUTION_PAYLOAD_ENVELOPES_BY_ROOT",
             getColumnBlindedExecutionPayloadEnvelopesByRoot())
         .put("FINALIZED_STATES_BY_SLOT", getColumnFinalizedStatesBySlot())
+        .put("FINALIZED_STATE_DIFFS_BY_SLOT", getColumnFinalizedStateDiffsBySlot())
         .put("SLOTS_BY_FINALIZED_STATE_ROOT", getColumnSlotsByFinalizedStateRoot())
         .put("NON_CANONICAL_BLOCKS_BY_ROOT", getColumnNonCanonicalBlocksByRoot())
         .put("NON_CANONICAL_BLOCK_ROOTS_BY_SLOT", getColumnNonCanonicalRootsBySlot())
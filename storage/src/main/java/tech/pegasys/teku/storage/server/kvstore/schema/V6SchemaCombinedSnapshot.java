@@ -50,6 +50,7 @@ public class V6SchemaCombinedSnapshot extends V6SchemaCombined
   private final KvStoreColumn<Bytes32, UInt64> slotsByFinalizedStateRoot;
   private final KvStoreColumn<UInt64, Set<Bytes32>> nonCanonicalBlockRootsBySlot;
   private final KvStoreColumn<UInt64, BeaconState> finalizedStatesBySlot;
+  private final KvStoreColumn<UInt64, Bytes> finalizedStateDiffsBySlot;
 
   private final KvStoreColumn<SlotAndBlockRootAndBlobIndex, Bytes> blobSidecarBySlotRootBlobIndex;
   private final KvStoreColumn<SlotAndBlockRootAndBlobIndex, Bytes>
@@ -119,6 +120,9 @@ public class V6SchemaCombinedSnapshot extends V6SchemaCombined
             BYTES32_SERIALIZER,
             KvStoreSerializer.createSignedBlindedExecutionPayloadEnvelopeSerializer(spec));
 
+    finalizedStateDiffsBySlot =
+        KvStoreColumn.create(finalizedOffset + 19, UINT64_SERIALIZER, BYTES_SERIALIZER, true);
+
     deletedColumnIds =
         List.of(
             asColumnId(finalizedOffset + 7),
@@ -142,6 +146,11 @@ public class V6SchemaCombinedSnapshot extends V6SchemaCombined
     return finalizedStatesBySlot;
   }
 
+  @Override
+  public KvStoreColumn<UInt64, Bytes> getColumnFinalizedStateDiffsBySlot() {
+    return finalizedStateDiffsBySlot;
+  }
+
   @Override
   public KvStoreColumn<Bytes32, UInt64> getColumnSlotsByFinalizedRoot() {
     return slotsByFinalizedRoot;
@@ -218,6 +227,7 @@ public class V6SchemaCombinedSnapshot extends V6SchemaCombined
             "BLINDED_EXECUTION_PAYLOAD_ENVELOPES_BY_ROOT",
             getColumnBlindedExecutionPayloadEnvelopesByRoot())
         .put("FINALIZED_STATES_BY_SLOT", getColumnFinalizedStatesBySlot())
+        .put("FINALIZED_STATE_DIFFS_BY_SLOT", getColumnFinalizedStateDiffsBySlot())
         .put("SLOTS_BY_FINALIZED_STATE_ROOT", getColumnSlotsByFinalizedStateRoot())
         .put("NON_CANONICAL_BLOCKS_BY_ROOT", getColumnNonCanonicalBlocksByRoot())
         .put("NON_CANONICAL_BLOCK_ROOTS_BY_SLOT", getColumnNonCanonicalRootsBySlot())
@@ -77,6 +77,7 @@ public class LevelDbDatabaseFactory {
       final KvStoreConfiguration hotConfiguration,
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
+      final boolean storeStateDiffs,
       final boolean storeNonCanonicalBlocks,
       final Spec spec) {
     final V6SchemaCombinedSnapshot schema = V6SchemaCombinedSnapshot.createV6(spec);
@@ -95,6 +96,7 @@ public class LevelDbDatabaseFactory {
         schema,
         stateStorageMode,
         stateStorageFrequency,
+        storeStateDiffs,
         storeNonCanonicalBlocks,
         spec,
         metricsSystem);
@@ -23,6 +23,7 @@ import static tech.pegasys.teku.storage.server.leveldb.LevelDbUtils.isFromColumn
 
 import com.google.errorprone.annotations.MustBeClosed;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -32,6 +33,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
@@ -45,10 +47,12 @@ import org.iq80.leveldb.DBException;
 import org.iq80.leveldb.DBIterator;
 import org.iq80.leveldb.ReadOptions;
 import org.iq80.leveldb.WriteBatch;
+import org.iq80.leveldb.WriteOptions;
 import tech.pegasys.teku.storage.server.DatabaseStorageException;
 import tech.pegasys.teku.storage.server.ShuttingDownException;
 import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreReadStats;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
 
@@ -106,8 +110,16 @@ public class LevelDbInstance implements KvStoreAccessor {
   @Override
   public <K, V> Optional<V> get(final KvStoreColumn<K, V> column, final K key) {
     assertOpen();
-    return Optional.ofNullable(db.get(getColumnKey(column, key)))
-        .map(column.getValueSerializer()::deserialize);
+    final long readStart = System.nanoTime();
+    final byte[] data = db.get(getColumnKey(column, key));
+    final long deserializationStart = System.nanoTime();
+    final Optional<V> value =
+        Optional.ofNullable(data).map(column.getValueSerializer()::deserialize);
+    KvStoreReadStats.recordRead(
+        deserializationStart - readStart,
+        data == null ? 0 : data.length,
+        System.nanoTime() - deserializationStart);
+    return value;
   }
 
   @Override
@@ -314,6 +326,26 @@ public class LevelDbInstance implements KvStoreAccessor {
         .onClose(() -> closeIterator(iterator));
   }
 
+  /**
+   * Passes each database key from {@code fromKey} (inclusive) to {@code toKey} (exclusive) to
+   * {@code action}. LevelDB has no native range deletion so this is used to find the keys a range
+   * deletion needs to remove.
+   */
+  void forEachKeyInRange(final byte[] fromKey, final byte[] toKey, final Consumer<byte[]> action) {
+    withIterator(
+        iterator -> {
+          iterator.seek(fromKey);
+          while (iterator.hasNext()) {
+            final byte[] key = iterator.next().getKey();
+            if (Arrays.compareUnsigned(key, toKey) >= 0) {
+              break;
+            }
+            action.accept(key);
+          }
+          return null;
+        });
+  }
+
   @Override
   @MustBeClosed
   public synchronized KvStoreTransaction startTransaction() {
@@ -325,6 +357,18 @@ public class LevelDbInstance implements KvStoreAccessor {
     return transaction;
   }
 
+  @Override
+  public synchronized void sync() {
+    assertOpen();
+    // LevelDB has no explicit log sync, so write an empty batch with sync enabled, which flushes
+    // the log including all previously committed batches.
+    try (final WriteBatch emptyBatch = db.createWriteBatch()) {
+      db.write(emptyBatch, new WriteOptions().sync(true));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   @Override
   public void compact() {
     assertOpen();
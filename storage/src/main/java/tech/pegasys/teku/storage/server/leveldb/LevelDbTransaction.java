@@ -88,6 +88,14 @@ public class LevelDbTransaction implements KvStoreTransaction {
     applyUpdate(() -> writeBatch.delete(getVariableKey(variable)));
   }
 
+  @Override
+  public <K, V> void deleteRange(final KvStoreColumn<K, V> column, final K fromKey, final K toKey) {
+    applyUpdate(
+        () ->
+            dbInstance.forEachKeyInRange(
+                getColumnKey(column, fromKey), getColumnKey(column, toKey), writeBatch::delete));
+  }
+
   @Override
   public void commit() {
     applyUpdate(
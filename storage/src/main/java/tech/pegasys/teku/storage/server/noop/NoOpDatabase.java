@@ -49,6 +49,7 @@ import tech.pegasys.teku.storage.api.WeakSubjectivityState;
 import tech.pegasys.teku.storage.api.WeakSubjectivityUpdate;
 import tech.pegasys.teku.storage.archive.BlobSidecarsArchiver;
 import tech.pegasys.teku.storage.server.Database;
+import tech.pegasys.teku.storage.server.StoreSnapshot;
 
 public class NoOpDatabase implements Database {
 
@@ -77,6 +78,11 @@ public class NoOpDatabase implements Database {
     return Optional.empty();
   }
 
+  @Override
+  public Optional<OnDiskStoreData> createMemoryStore(final StoreSnapshot snapshot) {
+    return Optional.empty();
+  }
+
   @Override
   public WeakSubjectivityState getWeakSubjectivityState() {
     return WeakSubjectivityState.empty();
@@ -0,0 +1,263 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.rocksdb;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.EnvOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.SstFileWriter;
+import tech.pegasys.teku.storage.server.DatabaseStorageException;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
+
+/**
+ * A transaction which writes column data to a sorted SST file per column family on commit and
+ * ingests the files directly into the database, bypassing the write-ahead log, memtable and the
+ * compactions needed to flush them.
+ *
+ * <p>Column updates are buffered in key order until commit. Range deletions are written to the same
+ * file as range tombstones. Every entry in an ingested file shares one sequence number, so a
+ * tombstone only removes data already in the database; buffered updates in the range are dropped
+ * when the range is deleted, and updates made after it are kept.
+ *
+ * <p>Variable updates are applied through a regular transaction which is only committed once the
+ * column data has been ingested, so variables never refer to data which is not yet present. Each
+ * file is ingested atomically but files for different column families are not ingested together,
+ * so a failure part way through may leave column data without the variables which reference it. As
+ * with any other unreferenced data, it is overwritten when the same range is stored again.
+ */
+class RocksDbBulkLoadTransaction implements KvStoreTransaction {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final String FILE_PREFIX = "bulk-load-";
+  private static final String FILE_SUFFIX = ".sst";
+
+  private final Path directory;
+  private final Function<KvStoreColumn<?, ?>, ColumnFamilyHandle> columnHandleForWrite;
+  private final Consumer<Map<ColumnFamilyHandle, Path>> ingestFiles;
+  private final KvStoreTransaction variablesTransaction;
+
+  // An empty value records a deletion
+  private final Map<ColumnFamilyHandle, NavigableMap<byte[], Optional<byte[]>>> pendingUpdates =
+      new LinkedHashMap<>();
+  private final Map<ColumnFamilyHandle, List<KeyRange>> pendingRangeDeletions =
+      new LinkedHashMap<>();
+  private boolean closed = false;
+
+  RocksDbBulkLoadTransaction(
+      final Path directory,
+      final Function<KvStoreColumn<?, ?>, ColumnFamilyHandle> columnHandleForWrite,
+      final Consumer<Map<ColumnFamilyHandle, Path>> ingestFiles,
+      final KvStoreTransaction variablesTransaction) {
+    this.directory = directory;
+    this.columnHandleForWrite = columnHandleForWrite;
+    this.ingestFiles = ingestFiles;
+    this.variablesTransaction = variablesTransaction;
+  }
+
+  /** Removes files left behind by bulk loads which were interrupted before being ingested. */
+  static void deleteIncompleteFiles(final Path directory) {
+    if (!Files.isDirectory(directory)) {
+      return;
+    }
+    try (final DirectoryStream<Path> files =
+        Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+      for (final Path file : files) {
+        LOG.debug("Deleting incomplete bulk load file {}", file);
+        Files.deleteIfExists(file);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to clean up bulk load directory " + directory, e);
+    }
+  }
+
+  @Override
+  public synchronized <T> void put(final KvStoreVariable<T> variable, final T value) {
+    assertOpen();
+    variablesTransaction.put(variable, value);
+  }
+
+  @Override
+  public synchronized <T> void putRaw(final KvStoreVariable<T> variable, final Bytes value) {
+    assertOpen();
+    variablesTransaction.putRaw(variable, value);
+  }
+
+  @Override
+  public <K, V> void put(final KvStoreColumn<K, V> column, final K key, final V value) {
+    bufferUpdate(
+        column,
+        column.getKeySerializer().serialize(key),
+        Optional.of(column.getValueSerializer().serialize(value)));
+  }
+
+  @Override
+  public <K, V> void putRaw(
+      final KvStoreColumn<K, V> column, final Bytes keyBytes, final Bytes valueBytes) {
+    bufferUpdate(column, keyBytes.toArrayUnsafe(), Optional.of(valueBytes.toArrayUnsafe()));
+  }
+
+  @Override
+  public <K, V> void put(final KvStoreColumn<K, V> column, final Map<K, V> data) {
+    data.forEach((key, value) -> put(column, key, value));
+  }
+
+  @Override
+  public <K, V> void delete(final KvStoreColumn<K, V> column, final K key) {
+    bufferUpdate(column, column.getKeySerializer().serialize(key), Optional.empty());
+  }
+
+  @Override
+  public synchronized <T> void delete(final KvStoreVariable<T> variable) {
+    assertOpen();
+    variablesTransaction.delete(variable);
+  }
+
+  @Override
+  public synchronized <K, V> void deleteRange(
+      final KvStoreColumn<K, V> column, final K fromKey, final K toKey) {
+    assertOpen();
+    final ColumnFamilyHandle handle = columnHandleForWrite.apply(column);
+    final KeyRange range =
+        new KeyRange(
+            column.getKeySerializer().serialize(fromKey),
+            column.getKeySerializer().serialize(toKey));
+    final NavigableMap<byte[], Optional<byte[]>> updates = pendingUpdates.get(handle);
+    if (updates != null) {
+      updates.subMap(range.fromKey(), true, range.toKey(), false).clear();
+    }
+    pendingRangeDeletions.computeIfAbsent(handle, __ -> new ArrayList<>()).add(range);
+  }
+
+  @Override
+  public synchronized void commit() {
+    assertOpen();
+    final Map<ColumnFamilyHandle, Path> files = new LinkedHashMap<>();
+    try {
+      final Set<ColumnFamilyHandle> columns = new LinkedHashSet<>(pendingUpdates.keySet());
+      columns.addAll(pendingRangeDeletions.keySet());
+      for (final ColumnFamilyHandle column : columns) {
+        files.put(
+            column,
+            writeSstFile(
+                pendingUpdates.getOrDefault(column, new TreeMap<>(Arrays::compareUnsigned)),
+                pendingRangeDeletions.getOrDefault(column, List.of())));
+      }
+      if (!files.isEmpty()) {
+        ingestFiles.accept(files);
+      }
+      variablesTransaction.commit();
+    } catch (final RocksDBException e) {
+      throw RocksDbExceptionUtil.wrapException("Failed to write bulk load file", e);
+    } catch (final IOException e) {
+      throw DatabaseStorageException.unrecoverable("Failed to write bulk load file", e);
+    } finally {
+      files.values().forEach(this::deleteIfNotIngested);
+      close();
+    }
+  }
+
+  @Override
+  public synchronized void rollback() {
+    assertOpen();
+    try {
+      variablesTransaction.rollback();
+    } finally {
+      close();
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (!closed) {
+      closed = true;
+      pendingUpdates.clear();
+      pendingRangeDeletions.clear();
+      variablesTransaction.close();
+    }
+  }
+
+  private synchronized void bufferUpdate(
+      final KvStoreColumn<?, ?> column, final byte[] key, final Optional<byte[]> value) {
+    assertOpen();
+    pendingUpdates
+        .computeIfAbsent(
+            columnHandleForWrite.apply(column), __ -> new TreeMap<>(Arrays::compareUnsigned))
+        .put(key, value);
+  }
+
+  private Path writeSstFile(
+      final NavigableMap<byte[], Optional<byte[]>> entries, final List<KeyRange> rangeDeletions)
+      throws IOException, RocksDBException {
+    Files.createDirectories(directory);
+    final Path file = Files.createTempFile(directory, FILE_PREFIX, FILE_SUFFIX);
+    try (final EnvOptions envOptions = new EnvOptions();
+        final Options options = new Options();
+        final SstFileWriter writer = new SstFileWriter(envOptions, options)) {
+      writer.open(file.toString());
+      for (final Map.Entry<byte[], Optional<byte[]>> entry : entries.entrySet()) {
+        if (entry.getValue().isPresent()) {
+          writer.put(entry.getKey(), entry.getValue().get());
+        } else {
+          writer.delete(entry.getKey());
+        }
+      }
+      for (final KeyRange range : rangeDeletions) {
+        writer.deleteRange(range.fromKey(), range.toKey());
+      }
+      writer.finish();
+    } catch (final RocksDBException | RuntimeException e) {
+      deleteIfNotIngested(file);
+      throw e;
+    }
+    return file;
+  }
+
+  private void deleteIfNotIngested(final Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete bulk load file {}", file, e);
+    }
+  }
+
+  private void assertOpen() {
+    if (closed) {
+      throw new IllegalStateException("Attempt to update a closed transaction");
+    }
+  }
+
+  private record KeyRange(byte[] fromKey, byte[] toKey) {}
+}
@@ -79,6 +79,7 @@ public class RocksDbDatabaseFactory {
       final SchemaCombinedSnapshotState schema,
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
+      final boolean storeStateDiffs,
       final boolean storeNonCanonicalBlocks,
       final Spec spec) {
 
@@ -97,6 +98,7 @@ public class RocksDbDatabaseFactory {
         schema,
         stateStorageMode,
         stateStorageFrequency,
+        storeStateDiffs,
         storeNonCanonicalBlocks,
         spec,
         metricsSystem);
@@ -15,12 +15,13 @@ package tech.pegasys.teku.storage.server.rocksdb;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.errorprone.annotations.MustBeClosed;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -32,6 +33,7 @@ import org.apache.tuweni.bytes.Bytes;
 import org.rocksdb.AbstractRocksIterator;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.IngestExternalFileOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.TransactionDB;
@@ -39,6 +41,7 @@ import tech.pegasys.teku.storage.server.DatabaseStorageException;
 import tech.pegasys.teku.storage.server.ShuttingDownException;
 import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreReadStats;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
 
@@ -51,21 +54,33 @@ public class RocksDbInstance implements KvStoreAccessor {
   private volatile ImmutableMap<KvStoreColumn<?, ?>, ColumnFamilyHandle> columnHandles;
   private final Map<KvStoreColumn<?, ?>, ColumnFamilyDescriptor> columnDescriptors;
   private final List<AutoCloseable> resources;
-  private final Set<RocksDbTransaction> openTransactions = new HashSet<>();
+  private final RocksDbStats stats;
+  private final Optional<Path> bulkLoadDirectory;
+  private final Set<RocksDbTransaction> openTransactions = ConcurrentHashMap.newKeySet();
 
   private final AtomicBoolean closed = new AtomicBoolean(false);
 
+  /**
+   * Set once this database has rejected a native range deletion so later transactions go straight
+   * to deleting the keys in the range individually.
+   */
+  private final AtomicBoolean nativeDeleteRangeUnsupported = new AtomicBoolean(false);
+
   RocksDbInstance(
       final TransactionDB db,
       final ColumnFamilyHandle defaultHandle,
       final ImmutableMap<KvStoreColumn<?, ?>, ColumnFamilyHandle> columnHandles,
       final Map<KvStoreColumn<?, ?>, ColumnFamilyDescriptor> columnDescriptors,
-      final List<AutoCloseable> resources) {
+      final List<AutoCloseable> resources,
+      final RocksDbStats stats,
+      final Optional<Path> bulkLoadDirectory) {
     this.db = db;
     this.defaultHandle = defaultHandle;
     this.columnHandles = columnHandles;
     this.columnDescriptors = columnDescriptors;
     this.resources = resources;
+    this.stats = stats;
+    this.bulkLoadDirectory = bulkLoadDirectory;
   }
 
   @Override
@@ -93,8 +108,16 @@ public class RocksDbInstance implements KvStoreAccessor {
     }
     final byte[] keyBytes = column.getKeySerializer().serialize(key);
     try {
-      return Optional.ofNullable(db.get(handle, keyBytes))
-          .map(data -> column.getValueSerializer().deserialize(data));
+      final long readStart = System.nanoTime();
+      final byte[] data = db.get(handle, keyBytes);
+      final long deserializationStart = System.nanoTime();
+      final int bytesRead = data == null ? 0 : data.length;
+      final Optional<V> value =
+          Optional.ofNullable(data).map(column.getValueSerializer()::deserialize);
+      KvStoreReadStats.recordRead(
+          deserializationStart - readStart, bytesRead, System.nanoTime() - deserializationStart);
+      stats.recordColumnFamilyRead(handle, bytesRead);
+      return value;
     } catch (RocksDBException e) {
       throw RocksDbExceptionUtil.wrapException("Failed to get value", e);
     }
@@ -226,11 +249,41 @@ public class RocksDbInstance implements KvStoreAccessor {
             defaultHandle,
             this::getColumnHandleForWrite,
             this::getColumnHandle,
+            nativeDeleteRangeUnsupported,
             openTransactions::remove);
     openTransactions.add(tx);
     return tx;
   }
 
+  @Override
+  @MustBeClosed
+  public KvStoreTransaction startBulkLoadTransaction() {
+    if (bulkLoadDirectory.isEmpty()) {
+      return startTransaction();
+    }
+    return new RocksDbBulkLoadTransaction(
+        bulkLoadDirectory.get(),
+        this::getColumnHandleForWrite,
+        this::ingestExternalFiles,
+        startTransaction());
+  }
+
+  /**
+   * Ingests SST files into their column families. The files are moved rather than copied into the
+   * database and each file becomes visible atomically once ingested.
+   */
+  private synchronized void ingestExternalFiles(final Map<ColumnFamilyHandle, Path> files) {
+    assertOpen();
+    try (final IngestExternalFileOptions options =
+        new IngestExternalFileOptions().setMoveFiles(true)) {
+      for (final Map.Entry<ColumnFamilyHandle, Path> file : files.entrySet()) {
+        db.ingestExternalFile(file.getKey(), List.of(file.getValue().toString()), options);
+      }
+    } catch (final RocksDBException e) {
+      throw RocksDbExceptionUtil.wrapException("Failed to ingest bulk loaded data", e);
+    }
+  }
+
   @MustBeClosed
   private <K, V> Stream<ColumnEntry<K, V>> createStream(
       final KvStoreColumn<K, V> column, final Consumer<RocksIterator> setupIterator) {
@@ -299,6 +352,16 @@ public class RocksDbInstance implements KvStoreAccessor {
     return RocksDbKeyIterator.create(column, rocksDbIterator, continueTest, closed::get).toStream();
   }
 
+  @Override
+  public void sync() {
+    assertOpen();
+    try {
+      db.flushWal(true);
+    } catch (final RocksDBException e) {
+      throw RocksDbExceptionUtil.wrapException("Failed to sync RocksDB write-ahead log", e);
+    }
+  }
+
   // Compaction is a costly operation, so we run it sequentially for each column family
   // to avoid impacting read performance by blocking all access to the database while compaction is
   // running. Compaction is handled by rocksdb in general this is a method used for debug tools ONLY
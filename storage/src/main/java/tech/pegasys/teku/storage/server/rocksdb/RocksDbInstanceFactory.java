@@ -21,11 +21,13 @@ import static tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration.TIME
 import static tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration.WAL_MAX_TOTAL_SIZE;
 
 import com.google.common.collect.ImmutableMap;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -56,6 +58,8 @@ import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
 import tech.pegasys.teku.storage.server.kvstore.schema.Schema;
 
 public class RocksDbInstanceFactory {
+  static final String BULK_LOAD_DIRECTORY_NAME = "bulk-load";
+
   static {
     RocksDbUtil.loadNativeLibrary();
   }
@@ -140,9 +144,22 @@ public class RocksDbInstanceFactory {
       resources.add(db);
 
       rocksDbStats.registerMetrics(db);
+      rocksDbStats.registerColumnFamilyMetrics(db, columnHandlesMap.values());
+
+      final Optional<Path> bulkLoadDirectory =
+          configuration.bulkLoadEnabled()
+              ? Optional.of(configuration.getDatabaseDir().resolve(BULK_LOAD_DIRECTORY_NAME))
+              : Optional.empty();
+      bulkLoadDirectory.ifPresent(RocksDbBulkLoadTransaction::deleteIncompleteFiles);
 
       return new RocksDbInstance(
-          db, defaultHandle, columnHandlesMap, columnFamilyDescriptors.byColumn(), resources);
+          db,
+          defaultHandle,
+          columnHandlesMap,
+          columnFamilyDescriptors.byColumn(),
+          resources,
+          rocksDbStats,
+          bulkLoadDirectory);
     } catch (RocksDBException e) {
       throw RocksDbExceptionUtil.wrapException(
           "Failed to open database at path: " + configuration.getDatabaseDir(), e);
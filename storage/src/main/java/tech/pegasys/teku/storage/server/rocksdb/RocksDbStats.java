@@ -13,16 +13,24 @@
 
 package tech.pegasys.teku.storage.server.rocksdb;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.ExternalSummary;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedMetric;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.HistogramData;
 import org.rocksdb.HistogramType;
 import org.rocksdb.RocksDB;
@@ -173,6 +181,9 @@ public class RocksDbStats implements AutoCloseable {
   private final MetricsSystem metricsSystem;
   private final MetricCategory category;
   private final KvStoreConfiguration configuration;
+  private final LabelledMetric<Counter> columnFamilyReads;
+  private final LabelledMetric<Counter> columnFamilyReadBytes;
+  private final Map<ColumnFamilyHandle, String> columnFamilyLabels = new ConcurrentHashMap<>();
 
   public RocksDbStats(
       final MetricsSystem metricsSystem,
@@ -182,6 +193,18 @@ public class RocksDbStats implements AutoCloseable {
     this.metricsSystem = metricsSystem;
     this.category = category;
     this.configuration = configuration;
+    this.columnFamilyReads =
+        metricsSystem.createLabelledCounter(
+            category,
+            "column_family_reads_total",
+            "Number of point reads from each column family",
+            "column_family");
+    this.columnFamilyReadBytes =
+        metricsSystem.createLabelledCounter(
+            category,
+            "column_family_read_bytes_total",
+            "Number of value bytes returned by point reads from each column family",
+            "column_family");
   }
 
   public Statistics getStats() {
@@ -242,6 +265,74 @@ public class RocksDbStats implements AutoCloseable {
     }
   }
 
+  /**
+   * Registers size estimates for each column family, labelled with the same column family ids as
+   * the read counters so reads can be compared with the amount of data in each column.
+   */
+  public void registerColumnFamilyMetrics(
+      final RocksDB database, final Collection<ColumnFamilyHandle> columnHandles) {
+    final LabelledSuppliedMetric estimatedKeys =
+        metricsSystem.createLabelledSuppliedGauge(
+            category,
+            "column_family_estimated_keys",
+            "Estimated number of keys in each column family",
+            "column_family");
+    final LabelledSuppliedMetric liveDataSize =
+        metricsSystem.createLabelledSuppliedGauge(
+            category,
+            "column_family_estimated_live_data_size",
+            "Estimated size of the live data in each column family in bytes",
+            "column_family");
+    final LabelledSuppliedMetric sstFilesSize =
+        metricsSystem.createLabelledSuppliedGauge(
+            category,
+            "column_family_sst_files_size",
+            "Total size of the SST files for each column family in bytes",
+            "column_family");
+    for (final ColumnFamilyHandle columnHandle : columnHandles) {
+      final String label = getColumnFamilyLabel(columnHandle);
+      estimatedKeys.labels(
+          () -> getLongProperty(database, columnHandle, "rocksdb.estimate-num-keys"), label);
+      liveDataSize.labels(
+          () -> getLongProperty(database, columnHandle, "rocksdb.estimate-live-data-size"),
+          label);
+      sstFilesSize.labels(
+          () -> getLongProperty(database, columnHandle, "rocksdb.total-sst-files-size"), label);
+    }
+  }
+
+  void recordColumnFamilyRead(final ColumnFamilyHandle columnHandle, final int bytesRead) {
+    final String label = getColumnFamilyLabel(columnHandle);
+    columnFamilyReads.labels(label).inc();
+    columnFamilyReadBytes.labels(label).inc(bytesRead);
+  }
+
+  private String getColumnFamilyLabel(final ColumnFamilyHandle columnHandle) {
+    return columnFamilyLabels.computeIfAbsent(
+        columnHandle,
+        handle -> {
+          try {
+            return Bytes.wrap(handle.getName()).toHexString();
+          } catch (RocksDBException e) {
+            return "unknown";
+          }
+        });
+  }
+
+  private long getLongProperty(
+      final RocksDB database, final ColumnFamilyHandle columnHandle, final String name) {
+    return ifOpen(
+        () -> {
+          try {
+            return database.getLongProperty(columnHandle, name);
+          } catch (RocksDBException e) {
+            LOG.warn("Failed to load " + name + " property for RocksDB column family metrics");
+            return 0L;
+          }
+        },
+        0L);
+  }
+
   private ExternalSummary provideExternalSummary(final HistogramType histogramType) {
     return ifOpen(
         () -> {
@@ -13,16 +13,25 @@
 
 package tech.pegasys.teku.storage.server.rocksdb;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.Status;
 import org.rocksdb.Transaction;
 import org.rocksdb.TransactionDB;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import tech.pegasys.teku.storage.server.ShuttingDownException;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
@@ -30,11 +39,16 @@ import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
 
 public class RocksDbTransaction implements KvStoreTransaction {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final TransactionDB db;
   private final ColumnFamilyHandle defaultHandle;
   private final Function<KvStoreColumn<?, ?>, ColumnFamilyHandle> columnHandleForWrite;
   private final Function<KvStoreColumn<?, ?>, ColumnFamilyHandle> columnHandle;
   private final Transaction rocksDbTx;
   private final WriteOptions writeOptions;
+  private final AtomicBoolean nativeDeleteRangeUnsupported;
+  private final List<RangeDeletion> rangeDeletions = new ArrayList<>();
 
   private final ReentrantLock lock = new ReentrantLock();
   private final AtomicBoolean closedViaDatabase = new AtomicBoolean(false);
@@ -46,10 +60,13 @@ public class RocksDbTransaction implements KvStoreTransaction {
       final ColumnFamilyHandle defaultHandle,
       final Function<KvStoreColumn<?, ?>, ColumnFamilyHandle> columnHandleForWrite,
       final Function<KvStoreColumn<?, ?>, ColumnFamilyHandle> columnHandle,
+      final AtomicBoolean nativeDeleteRangeUnsupported,
       final Consumer<RocksDbTransaction> onClosed) {
+    this.db = db;
     this.defaultHandle = defaultHandle;
     this.columnHandleForWrite = columnHandleForWrite;
     this.columnHandle = columnHandle;
+    this.nativeDeleteRangeUnsupported = nativeDeleteRangeUnsupported;
     this.writeOptions = new WriteOptions();
     this.rocksDbTx = db.beginTransaction(writeOptions);
     this.onClosed = onClosed;
@@ -142,12 +159,32 @@ public class RocksDbTransaction implements KvStoreTransaction {
         });
   }
 
+  @Override
+  public <K, V> void deleteRange(final KvStoreColumn<K, V> column, final K fromKey, final K toKey) {
+    applyUpdate(
+        () -> {
+          final ColumnFamilyHandle handle = columnHandle.apply(column);
+          if (handle == null) {
+            return;
+          }
+          rangeDeletions.add(
+              new RangeDeletion(
+                  handle,
+                  column.getKeySerializer().serialize(fromKey),
+                  column.getKeySerializer().serialize(toKey)));
+        });
+  }
+
   @Override
   public void commit() {
     applyUpdate(
         () -> {
           try {
+            if (nativeDeleteRangeUnsupported.get()) {
+              deleteKeysInRangesWithinTransaction();
+            }
             this.rocksDbTx.commit();
+            applyRangeDeletions();
           } catch (RocksDBException e) {
             throw RocksDbExceptionUtil.wrapException("Failed to commit transaction", e);
           } finally {
@@ -170,6 +207,66 @@ public class RocksDbTransaction implements KvStoreTransaction {
         });
   }
 
+  private void deleteKeysInRangesWithinTransaction() throws RocksDBException {
+    for (final RangeDeletion range : rangeDeletions) {
+      try (final ReadOptions readOptions = new ReadOptions();
+          final RocksIterator iterator = rocksDbTx.getIterator(readOptions, range.handle())) {
+        deleteKeysInRange(range, iterator, key -> rocksDbTx.delete(range.handle(), key));
+      }
+    }
+    rangeDeletions.clear();
+  }
+
+  /**
+   * Range deletions are written directly to the database as a single tombstone per range, after the
+   * transaction has committed. They only ever remove data which is being pruned, and the metadata
+   * describing what has been pruned (e.g. the earliest available slot) is written by the
+   * transaction, so a crash between the two leaves unreachable data behind rather than metadata
+   * pointing at deleted data.
+   *
+   * <p>A pessimistic {@link TransactionDB} may not support native range deletion, in which case
+   * each key in the range is deleted in a single write batch instead and later transactions delete
+   * the keys within the transaction itself.
+   */
+  private void applyRangeDeletions() throws RocksDBException {
+    for (final RangeDeletion range : rangeDeletions) {
+      if (!nativeDeleteRangeUnsupported.get()) {
+        try {
+          db.deleteRange(range.handle(), writeOptions, range.fromKey(), range.toKey());
+          continue;
+        } catch (final RocksDBException e) {
+          if (e.getStatus() == null || e.getStatus().getCode() != Status.Code.NotSupported) {
+            throw e;
+          }
+          if (nativeDeleteRangeUnsupported.compareAndSet(false, true)) {
+            LOG.info("Native range deletion is not supported, deleting keys individually");
+          }
+        }
+      }
+      try (final ReadOptions readOptions = new ReadOptions();
+          final RocksIterator iterator = db.newIterator(range.handle(), readOptions);
+          final WriteBatch batch = new WriteBatch()) {
+        deleteKeysInRange(range, iterator, key -> batch.delete(range.handle(), key));
+        db.write(writeOptions, batch);
+      }
+    }
+    rangeDeletions.clear();
+  }
+
+  private void deleteKeysInRange(
+      final RangeDeletion range, final RocksIterator iterator, final KeyDeleter deleter)
+      throws RocksDBException {
+    iterator.seek(range.fromKey());
+    while (iterator.isValid()) {
+      final byte[] key = iterator.key();
+      if (Arrays.compareUnsigned(key, range.toKey()) >= 0) {
+        break;
+      }
+      deleter.delete(key);
+      iterator.next();
+    }
+  }
+
   private void applyUpdate(final Runnable operation) {
     lock.lock();
     try {
@@ -209,4 +306,11 @@ public class RocksDbTransaction implements KvStoreTransaction {
       lock.unlock();
     }
   }
+
+  @FunctionalInterface
+  private interface KeyDeleter {
+    void delete(byte[] key) throws RocksDBException;
+  }
+
+  private record RangeDeletion(ColumnFamilyHandle handle, byte[] fromKey, byte[] toKey) {}
 }
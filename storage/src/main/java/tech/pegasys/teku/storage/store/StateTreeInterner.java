@@ -0,0 +1,78 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszContainerSchema;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeInterner;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
+import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.MutableBeaconState;
+
+/**
+ * Deduplicates identical subtrees, such as the validator registry, across the states held in the
+ * store's caches. States built on top of a cached state already share its unchanged subtrees, but
+ * states loaded from disk or regenerated from an older state share nothing with the states that
+ * are already cached.
+ *
+ * <p>Each top level field of the state is interned separately and the interned fields are set on a
+ * copy of the state, so the copy keeps the transition caches of the original.
+ */
+class StateTreeInterner {
+  private final TreeNodeInterner interner = TreeNodeInterner.create();
+
+  StateAndBlockSummary intern(final StateAndBlockSummary stateAndBlockSummary) {
+    final BeaconState state = stateAndBlockSummary.getState();
+    final BeaconState internedState = intern(state);
+    if (internedState == state) {
+      return stateAndBlockSummary;
+    }
+    if (stateAndBlockSummary instanceof SignedBlockAndState blockAndState) {
+      return new SignedBlockAndState(blockAndState.getBlock(), internedState);
+    }
+    return StateAndBlockSummary.create(stateAndBlockSummary.getBlockSummary(), internedState);
+  }
+
+  BeaconState intern(final BeaconState state) {
+    final SszContainerSchema<?> schema = state.getSchema();
+    MutableBeaconState internedState = null;
+    for (int i = 0; i < schema.getFieldsCount(); i++) {
+      final TreeNode field = state.get(i).getBackingNode();
+      final TreeNode internedField = interner.intern(field);
+      if (internedField != field) {
+        if (internedState == null) {
+          internedState = state.createWritableCopy();
+        }
+        internedState.set(i, schema.getChildSchema(i).createFromBackingNode(internedField));
+      }
+    }
+    return internedState == null ? state : internedState.commitChanges();
+  }
+
+  void startMetrics(final MetricsSystem metricsSystem) {
+    metricsSystem.createLongGauge(
+        TekuMetricCategory.STORAGE,
+        "memory_state_tree_interned_nodes",
+        "Number of state subtrees available to be shared by states added to the in-memory store",
+        interner::getInternedNodeCount);
+    metricsSystem.createLongGauge(
+        TekuMetricCategory.STORAGE,
+        "memory_state_tree_deduplicated_subtrees",
+        "Total number of state subtrees replaced by an identical subtree already in memory",
+        interner::getDeduplicatedSubtreeCount);
+  }
+}
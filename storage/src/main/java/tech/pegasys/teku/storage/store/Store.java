@@ -114,6 +114,7 @@ class Store extends CacheableStore {
   private final CachingTaskQueue<Bytes32, StateAndBlockSummary> blockStates;
   private final Map<Bytes32, SignedBeaconBlock> blocks;
   private final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStates;
+  private final Optional<StateTreeInterner> stateTreeInterner;
   private final Map<SlotAndBlockRoot, List<BlobSidecar>> blobSidecars;
   private UInt64 timeMillis;
   private UInt64 genesisTime;
@@ -151,6 +152,7 @@ class Store extends CacheableStore {
       final Map<UInt64, VoteTracker> votes,
       final Map<Bytes32, SignedBeaconBlock> blocks,
       final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStates,
+      final Optional<StateTreeInterner> stateTreeInterner,
       final Optional<Map<Bytes32, StateAndBlockSummary>> maybeEpochStates,
       final Map<SlotAndBlockRoot, List<BlobSidecar>> blobSidecars,
       final Optional<UInt64> custodyGroupCount,
@@ -169,6 +171,7 @@ class Store extends CacheableStore {
     this.spec = spec;
     this.blockStates = blockStates;
     this.checkpointStates = checkpointStates;
+    this.stateTreeInterner = stateTreeInterner;
 
     // Store instance variables
     this.initialCheckpoint = initialCheckpoint;
@@ -290,15 +293,24 @@ class Store extends CacheableStore {
       final Optional<UInt64> custodyGroupCount) {
     final Map<Bytes32, SignedBeaconBlock> blocks =
         LimitedMap.createSynchronizedNatural(config.getBlockCacheSize());
+    final Optional<StateTreeInterner> stateTreeInterner =
+        config.isStateTreeInterningEnabled()
+            ? Optional.of(new StateTreeInterner())
+            : Optional.empty();
     final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStateTaskQueue =
         CachingTaskQueue.create(
             asyncRunner,
             metricsSystem,
             "memory_checkpoint_states",
-            config.getCheckpointStateCacheSize());
+            config.getCheckpointStateCacheSize(),
+            state -> stateTreeInterner.map(interner -> interner.intern(state)).orElse(state));
     final CachingTaskQueue<Bytes32, StateAndBlockSummary> blockStateTaskQueue =
         CachingTaskQueue.create(
-            asyncRunner, metricsSystem, "memory_states", config.getStateCacheSize());
+            asyncRunner,
+            metricsSystem,
+            "memory_states",
+            config.getStateCacheSize(),
+            state -> stateTreeInterner.map(interner -> interner.intern(state)).orElse(state));
     final Optional<Map<Bytes32, StateAndBlockSummary>> maybeEpochStates =
         config.getEpochStateCacheSize() > 0
             ? Optional.of(LimitedMap.createSynchronizedLRU(config.getEpochStateCacheSize()))
@@ -329,6 +341,7 @@ class Store extends CacheableStore {
         votes,
         blocks,
         checkpointStateTaskQueue,
+        stateTreeInterner,
         maybeEpochStates,
         blobSidecars,
         custodyGroupCount,
@@ -500,6 +513,7 @@ class Store extends CacheableStore {
                   "Number of execution payload envelopes held in the in-memory store"));
       blockStates.startMetrics();
       checkpointStates.startMetrics();
+      stateTreeInterner.ifPresent(interner -> interner.startMetrics(metricsSystem));
     } finally {
       votesLock.writeLock().unlock();
       lock.writeLock().unlock();
@@ -29,6 +29,7 @@ public class StoreConfig {
   public static final int DEFAULT_BLOCK_CACHE_SIZE = 32;
   public static final int DEFAULT_CHECKPOINT_STATE_CACHE_SIZE = 20;
   public static final int DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS = 2;
+  public static final boolean DEFAULT_STATE_TREE_INTERNING_ENABLED = false;
 
   private final int stateCacheSize;
 
@@ -37,6 +38,7 @@ public class StoreConfig {
   private final int checkpointStateCacheSize;
   private final int hotStatePersistenceFrequencyInEpochs;
   private final Optional<Bytes32> initialCanonicalBlockRoot;
+  private final boolean stateTreeInterningEnabled;
 
   private StoreConfig(
       final int stateCacheSize,
@@ -44,13 +46,15 @@ public class StoreConfig {
       final int checkpointStateCacheSize,
       final int hotStatePersistenceFrequencyInEpochs,
       final int epochStateCacheSize,
-      final Optional<Bytes32> initialCanonicalBlockRoot) {
+      final Optional<Bytes32> initialCanonicalBlockRoot,
+      final boolean stateTreeInterningEnabled) {
     this.stateCacheSize = stateCacheSize;
     this.blockCacheSize = blockCacheSize;
     this.checkpointStateCacheSize = checkpointStateCacheSize;
     this.hotStatePersistenceFrequencyInEpochs = hotStatePersistenceFrequencyInEpochs;
     this.epochStateCacheSize = epochStateCacheSize;
     this.initialCanonicalBlockRoot = initialCanonicalBlockRoot;
+    this.stateTreeInterningEnabled = stateTreeInterningEnabled;
   }
 
   public static Builder builder() {
@@ -85,6 +89,10 @@ public class StoreConfig {
     return initialCanonicalBlockRoot;
   }
 
+  public boolean isStateTreeInterningEnabled() {
+    return stateTreeInterningEnabled;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -99,7 +107,8 @@ public class StoreConfig {
         && blockCacheSize == that.blockCacheSize
         && checkpointStateCacheSize == that.checkpointStateCacheSize
         && hotStatePersistenceFrequencyInEpochs == that.hotStatePersistenceFrequencyInEpochs
-        && Objects.equals(initialCanonicalBlockRoot, that.initialCanonicalBlockRoot);
+        && Objects.equals(initialCanonicalBlockRoot, that.initialCanonicalBlockRoot)
+        && stateTreeInterningEnabled == that.stateTreeInterningEnabled;
   }
 
   @Override
@@ -110,7 +119,8 @@ public class StoreConfig {
         blockCacheSize,
         checkpointStateCacheSize,
         hotStatePersistenceFrequencyInEpochs,
-        initialCanonicalBlockRoot);
+        initialCanonicalBlockRoot,
+        stateTreeInterningEnabled);
   }
 
   public static class Builder {
@@ -122,6 +132,7 @@ public class StoreConfig {
     private int hotStatePersistenceFrequencyInEpochs =
         DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS;
     private Optional<Bytes32> initialCanonicalBlockRoot = Optional.empty();
+    private boolean stateTreeInterningEnabled = DEFAULT_STATE_TREE_INTERNING_ENABLED;
 
     private Builder() {}
 
@@ -132,7 +143,8 @@ public class StoreConfig {
           checkpointStateCacheSize,
           hotStatePersistenceFrequencyInEpochs,
           epochStateCacheSize,
-          initialCanonicalBlockRoot);
+          initialCanonicalBlockRoot,
+          stateTreeInterningEnabled);
     }
 
     public Builder stateCacheSize(final int stateCacheSize) {
@@ -179,6 +191,11 @@ public class StoreConfig {
       return this;
     }
 
+    public Builder stateTreeInterningEnabled(final boolean stateTreeInterningEnabled) {
+      this.stateTreeInterningEnabled = stateTreeInterningEnabled;
+      return this;
+    }
+
     private void validateCacheSize(final int cacheSize) {
       checkArgument(cacheSize >= 0, "Cache size cannot be negative");
       checkArgument(
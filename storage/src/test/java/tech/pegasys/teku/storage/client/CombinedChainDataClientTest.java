@@ -15,6 +15,7 @@ package tech.pegasys.teku.storage.client;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -327,6 +328,37 @@ class CombinedChainDataClientTest {
             });
   }
 
+  @Test
+  public void streamFinalizedBlocks_shouldLoadEachPageFromSlotAfterPreviousPage() {
+    final UInt64 endSlot = UInt64.valueOf(100);
+    final int pageSize = CombinedChainDataClient.FINALIZED_BLOCKS_PAGE_SIZE;
+    final SignedBeaconBlock block5 = dataStructureUtil.randomSignedBeaconBlock(5);
+    final SignedBeaconBlock block7 = dataStructureUtil.randomSignedBeaconBlock(7);
+    when(historicalChainData.getFinalizedBlocksInRange(UInt64.valueOf(5), endSlot, pageSize))
+        .thenReturn(SafeFuture.completedFuture(List.of(block5, block7)));
+    when(historicalChainData.getFinalizedBlocksInRange(UInt64.valueOf(8), endSlot, pageSize))
+        .thenReturn(SafeFuture.completedFuture(List.of()));
+
+    final SafeFuture<List<SignedBeaconBlock>> result =
+        client.streamFinalizedBlocks(UInt64.valueOf(5), endSlot).toList();
+
+    assertThat(result).isCompletedWithValue(List.of(block5, block7));
+  }
+
+  @Test
+  public void streamFinalizedBlocks_shouldNotQueryPastEndSlot() {
+    final UInt64 endSlot = UInt64.valueOf(7);
+    final SignedBeaconBlock block7 = dataStructureUtil.randomSignedBeaconBlock(7);
+    when(historicalChainData.getFinalizedBlocksInRange(any(), any(), anyInt()))
+        .thenReturn(SafeFuture.completedFuture(List.of(block7)));
+
+    final SafeFuture<List<SignedBeaconBlock>> result =
+        client.streamFinalizedBlocks(UInt64.valueOf(5), endSlot).toList();
+
+    assertThat(result).isCompletedWithValue(List.of(block7));
+    verify(historicalChainData, times(1)).getFinalizedBlocksInRange(any(), any(), anyInt());
+  }
+
   private void setupGetSlotForBlockRoot(final Bytes32 blockRoot, final UInt64 slot) {
     when(recentChainData.getSlotForBlockRoot(any()))
         .thenAnswer(
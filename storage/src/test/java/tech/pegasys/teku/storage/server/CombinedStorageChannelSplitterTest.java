@@ -13,20 +13,34 @@
 
 package tech.pegasys.teku.storage.server;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.storage.api.StorageQueryChannel;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
+import tech.pegasys.teku.storage.api.UpdateResult;
 
 class CombinedStorageChannelSplitterTest {
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
@@ -34,7 +48,11 @@ class CombinedStorageChannelSplitterTest {
   private final StorageUpdateChannel storageUpdateChannel = mock(StorageUpdateChannel.class);
 
   private final CombinedStorageChannelSplitter splitter =
-      new CombinedStorageChannelSplitter(asyncRunner, storageUpdateChannel, storageQueryChannel);
+      new CombinedStorageChannelSplitter(
+          asyncRunner,
+          storageUpdateChannel,
+          storageQueryChannel,
+          StorageQueryMetrics.createDisabled(new StubMetricsSystem()));
 
   @ParameterizedTest
   @MethodSource("updateChannelMethods")
@@ -61,6 +79,57 @@ class CombinedStorageChannelSplitterTest {
     method.invoke(verify(storageQueryChannel), args);
   }
 
+  @Test
+  void shouldNotBlockQueriesWhileSendingUpdateIsBlocked() throws Exception {
+    final CountDownLatch updateStarted = new CountDownLatch(1);
+    final CountDownLatch releaseUpdate = new CountDownLatch(1);
+    when(storageUpdateChannel.onStorageUpdate(any()))
+        .thenAnswer(
+            __ -> {
+              updateStarted.countDown();
+              releaseUpdate.await();
+              return SafeFuture.completedFuture(UpdateResult.EMPTY);
+            });
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final Future<SafeFuture<UpdateResult>> update =
+          executor.submit(() -> splitter.onStorageUpdate(null));
+      assertThat(updateStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+      // Queries must not wait for the lock held while the update is being sent
+      assertTimeoutPreemptively(
+          Duration.ofSeconds(5),
+          () -> {
+            splitter.getEarliestAvailableBlockSlot();
+          });
+
+      releaseUpdate.countDown();
+      assertThat(update.get(5, TimeUnit.SECONDS)).isCompleted();
+    } finally {
+      releaseUpdate.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void shouldRunQueriesAfterAllEarlierUpdatesComplete() {
+    final SafeFuture<UpdateResult> update1 = new SafeFuture<>();
+    final SafeFuture<UpdateResult> update2 = new SafeFuture<>();
+    when(storageUpdateChannel.onStorageUpdate(any())).thenReturn(update1, update2);
+
+    splitter.onStorageUpdate(null);
+    splitter.onStorageUpdate(null);
+    splitter.getEarliestAvailableBlockSlot();
+
+    update2.complete(UpdateResult.EMPTY);
+    asyncRunner.executeQueuedActions();
+    verify(storageQueryChannel, never()).getEarliestAvailableBlockSlot();
+
+    update1.complete(UpdateResult.EMPTY);
+    asyncRunner.executeQueuedActions();
+    verify(storageQueryChannel).getEarliestAvailableBlockSlot();
+  }
+
   private Object[] prepareArgs(final Method method) {
     return Arrays.stream(method.getParameters())
         .map(
@@ -0,0 +1,223 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blocks.BlockAndCheckpoints;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.storage.api.StorageUpdate;
+import tech.pegasys.teku.storage.api.StorageUpdateChannel;
+import tech.pegasys.teku.storage.api.UpdateResult;
+
+class GroupCommitStorageUpdateChannelTest {
+  private static final Bytes32 ROOT_1 = Bytes32.fromHexString("0x01");
+  private static final Bytes32 ROOT_2 = Bytes32.fromHexString("0x02");
+  private static final Bytes32 ROOT_3 = Bytes32.fromHexString("0x03");
+
+  private final StorageUpdateChannel delegate = mock(StorageUpdateChannel.class);
+  private final StubAsyncRunner writerRunner = new StubAsyncRunner();
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final GroupCommitStorageUpdateChannel channel =
+      new GroupCommitStorageUpdateChannel(delegate, writerRunner, 2, metricsSystem);
+
+  @BeforeEach
+  void setUp() {
+    when(delegate.onStorageUpdate(any())).thenReturn(UpdateResult.EMPTY_FUTURE);
+    when(delegate.onWeakSubjectivityUpdate(any())).thenReturn(SafeFuture.COMPLETE);
+  }
+
+  @Test
+  void shouldWriteSingleUpdateUnchanged() {
+    final StorageUpdate update = hotUpdate(ROOT_1);
+
+    final SafeFuture<UpdateResult> result = channel.onStorageUpdate(update);
+    assertThat(result).isNotDone();
+    verifyNoInteractions(delegate);
+
+    writerRunner.executeQueuedActions();
+
+    verify(delegate).onStorageUpdate(update);
+    assertThat(result).isCompletedWithValue(UpdateResult.EMPTY);
+    assertThat(getWriteBatchCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCombineHotUpdatesQueuedWhileWriting() {
+    final SafeFuture<UpdateResult> result1 = channel.onStorageUpdate(hotUpdate(ROOT_1));
+    final SafeFuture<UpdateResult> result2 = channel.onStorageUpdate(hotUpdate(ROOT_2));
+
+    writerRunner.executeQueuedActions();
+
+    final ArgumentCaptor<StorageUpdate> captor = ArgumentCaptor.forClass(StorageUpdate.class);
+    verify(delegate).onStorageUpdate(captor.capture());
+    assertThat(captor.getValue().getHotBlocks()).containsOnlyKeys(ROOT_1, ROOT_2);
+    assertThat(result1).isCompletedWithValue(UpdateResult.EMPTY);
+    assertThat(result2).isCompletedWithValue(UpdateResult.EMPTY);
+    assertThat(getWriteBatchCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldLimitNumberOfUpdatesInEachBatch() {
+    channel.onStorageUpdate(hotUpdate(ROOT_1));
+    channel.onStorageUpdate(hotUpdate(ROOT_2));
+    channel.onStorageUpdate(hotUpdate(ROOT_3));
+
+    writerRunner.executeQueuedActions();
+
+    final ArgumentCaptor<StorageUpdate> captor = ArgumentCaptor.forClass(StorageUpdate.class);
+    verify(delegate, times(2)).onStorageUpdate(captor.capture());
+    assertThat(captor.getAllValues().get(0).getHotBlocks()).containsOnlyKeys(ROOT_1, ROOT_2);
+    assertThat(captor.getAllValues().get(1).getHotBlocks()).containsOnlyKeys(ROOT_3);
+    assertThat(getWriteBatchCount()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotReorderUpdatesAroundUpdatesWhichCannotBeCombined() {
+    final StorageUpdate update1 = hotUpdate(ROOT_1);
+    final StorageUpdate deletingUpdate = deletingUpdate(ROOT_2);
+    final StorageUpdate update3 = hotUpdate(ROOT_3);
+    channel.onStorageUpdate(update1);
+    channel.onStorageUpdate(deletingUpdate);
+    channel.onWeakSubjectivityUpdate(null);
+    channel.onStorageUpdate(update3);
+
+    writerRunner.executeQueuedActions();
+
+    final InOrder inOrder = inOrder(delegate);
+    inOrder.verify(delegate).onStorageUpdate(update1);
+    inOrder.verify(delegate).onStorageUpdate(deletingUpdate);
+    inOrder.verify(delegate).onWeakSubjectivityUpdate(null);
+    inOrder.verify(delegate).onStorageUpdate(update3);
+    inOrder.verifyNoMoreInteractions();
+  }
+
+  @Test
+  void shouldFailEachCombinedUpdateAndContinueWhenWriteFails() {
+    final RuntimeException error = new RuntimeException("Nope");
+    when(delegate.onStorageUpdate(any()))
+        .thenReturn(SafeFuture.failedFuture(error))
+        .thenReturn(UpdateResult.EMPTY_FUTURE);
+    final SafeFuture<UpdateResult> result1 = channel.onStorageUpdate(hotUpdate(ROOT_1));
+    final SafeFuture<UpdateResult> result2 = channel.onStorageUpdate(hotUpdate(ROOT_2));
+    final SafeFuture<UpdateResult> result3 = channel.onStorageUpdate(hotUpdate(ROOT_3));
+
+    writerRunner.executeQueuedActions();
+
+    assertThatSafeFuture(result1).isCompletedExceptionallyWith(error);
+    assertThatSafeFuture(result2).isCompletedExceptionallyWith(error);
+    assertThat(result3).isCompletedWithValue(UpdateResult.EMPTY);
+  }
+
+  @Test
+  void flush_shouldCompleteOnceQueuedUpdatesAreWritten() {
+    channel.onStorageUpdate(hotUpdate(ROOT_1));
+    final SafeFuture<Void> flushed = channel.flush();
+    assertThat(flushed).isNotDone();
+
+    writerRunner.executeQueuedActions();
+
+    assertThat(flushed).isCompleted();
+  }
+
+  @Test
+  void merge_shouldUseLatestValues() {
+    final Checkpoint checkpoint1 = new Checkpoint(UInt64.ONE, ROOT_1);
+    final Checkpoint checkpoint2 = new Checkpoint(UInt64.valueOf(2), ROOT_2);
+    final StorageUpdate update1 =
+        update(
+            Optional.of(checkpoint1), Optional.of(UInt64.ONE), Map.of(ROOT_1, block()), Map.of());
+    final StorageUpdate update2 =
+        update(Optional.of(checkpoint2), Optional.of(UInt64.valueOf(2)), Map.of(), Map.of());
+    final StorageUpdate update3 = update(Optional.empty(), Optional.empty(), Map.of(), Map.of());
+
+    final StorageUpdate merged =
+        GroupCommitStorageUpdateChannel.merge(List.of(update1, update2, update3));
+
+    assertThat(merged.getJustifiedCheckpoint()).contains(checkpoint2);
+    assertThat(merged.getEarliestBlobSidecarSlot()).contains(UInt64.ONE);
+    assertThat(merged.getHotBlocks()).containsOnlyKeys(ROOT_1);
+    assertThat(merged.getFinalizedCheckpoint()).isEmpty();
+    assertThat(merged.getDeletedHotBlocks()).isEmpty();
+  }
+
+  @Test
+  void isMergeable_shouldRejectUpdatesWhichDeleteHotBlocks() {
+    assertThat(GroupCommitStorageUpdateChannel.isMergeable(hotUpdate(ROOT_1))).isTrue();
+    assertThat(GroupCommitStorageUpdateChannel.isMergeable(deletingUpdate(ROOT_1))).isFalse();
+  }
+
+  private long getWriteBatchCount() {
+    return metricsSystem.getCounterValue(TekuMetricCategory.STORAGE, "update_write_batches_total");
+  }
+
+  private static StorageUpdate hotUpdate(final Bytes32 blockRoot) {
+    return update(Optional.empty(), Optional.empty(), Map.of(blockRoot, block()), Map.of());
+  }
+
+  private static StorageUpdate deletingUpdate(final Bytes32 blockRoot) {
+    return update(Optional.empty(), Optional.empty(), Map.of(), Map.of(blockRoot, UInt64.ONE));
+  }
+
+  private static BlockAndCheckpoints block() {
+    return mock(BlockAndCheckpoints.class);
+  }
+
+  private static StorageUpdate update(
+      final Optional<Checkpoint> justifiedCheckpoint,
+      final Optional<UInt64> earliestBlobSidecarSlot,
+      final Map<Bytes32, BlockAndCheckpoints> hotBlocks,
+      final Map<Bytes32, UInt64> deletedHotBlocks) {
+    return new StorageUpdate(
+        Optional.empty(),
+        Optional.empty(),
+        justifiedCheckpoint,
+        Optional.empty(),
+        hotBlocks,
+        Map.of(),
+        Map.of(),
+        Map.of(),
+        earliestBlobSidecarSlot,
+        deletedHotBlocks,
+        Map.of(),
+        false,
+        Optional.empty(),
+        Optional.empty(),
+        Optional.empty(),
+        true,
+        true,
+        true);
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.STORAGE;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.infrastructure.logging.LogCaptor;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+
+class StorageQueryMetricsTest {
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final StorageQueryMetrics queryMetrics = new StorageQueryMetrics(metricsSystem, 100);
+
+  @Test
+  void shouldReturnQueryResult() {
+    final SafeFuture<String> result =
+        queryMetrics.measure(
+            "getValue", System.nanoTime(), () -> SafeFuture.completedFuture("value"), "arg");
+
+    assertThat(result).isCompletedWithValue("value");
+    assertThat(getSlowQueryCount("getValue")).isZero();
+  }
+
+  @Test
+  void shouldReturnFailedFutureWhenQueryThrows() {
+    final RuntimeException error = new RuntimeException("Nope");
+    final SafeFuture<String> result =
+        queryMetrics.measure(
+            "getValue",
+            System.nanoTime(),
+            () -> {
+              throw error;
+            });
+
+    assertThat(result).isCompletedExceptionally();
+  }
+
+  @Test
+  void shouldLogQueriesExceedingSlowQueryThreshold() {
+    final long queuedTimeNanos = System.nanoTime() - TimeUnit.SECONDS.toNanos(1);
+    try (final LogCaptor logCaptor = LogCaptor.forClass(StorageQueryMetrics.class)) {
+      queryMetrics.measure(
+          "getValue", queuedTimeNanos, () -> SafeFuture.completedFuture("value"), "arg1", 2);
+
+      assertThat(logCaptor.getWarnLogs())
+          .singleElement()
+          .asString()
+          .startsWith("Slow storage query getValue[arg1, 2] took ");
+    }
+    assertThat(getSlowQueryCount("getValue")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotLogSlowQueriesWhenDisabled() {
+    final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+    final StorageQueryMetrics disabledMetrics = StorageQueryMetrics.createDisabled(metricsSystem);
+    final long queuedTimeNanos = System.nanoTime() - TimeUnit.SECONDS.toNanos(1);
+    try (final LogCaptor logCaptor = LogCaptor.forClass(StorageQueryMetrics.class)) {
+      disabledMetrics.measure(
+          "getValue", queuedTimeNanos, () -> SafeFuture.completedFuture("value"));
+
+      assertThat(logCaptor.getWarnLogs()).isEmpty();
+    }
+    assertThat(metricsSystem.getLabelledCounterValue(STORAGE, "slow_queries_total", "getValue"))
+        .isZero();
+  }
+
+  private long getSlowQueryCount(final String method) {
+    return metricsSystem.getLabelledCounterValue(STORAGE, "slow_queries_total", method);
+  }
+}
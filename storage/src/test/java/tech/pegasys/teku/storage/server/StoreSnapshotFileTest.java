@@ -0,0 +1,150 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.api.GloasForkChoiceRebuildData;
+import tech.pegasys.teku.storage.api.StoredBlockMetadata;
+
+class StoreSnapshotFileTest {
+  private final Spec spec = TestSpecFactory.createMinimalDeneb();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+
+  @TempDir Path tempDir;
+
+  @Test
+  void shouldRoundTripSnapshot() throws IOException {
+    final StoreSnapshotFile file = new StoreSnapshotFile(spec, tempDir);
+    final StoreSnapshot snapshot = randomSnapshot();
+
+    file.write(snapshot);
+
+    assertThat(file.load()).contains(snapshot);
+  }
+
+  @Test
+  void shouldOnlyLoadSnapshotOnce() throws IOException {
+    final StoreSnapshotFile file = new StoreSnapshotFile(spec, tempDir);
+    file.write(randomSnapshot());
+
+    assertThat(file.load()).isPresent();
+    assertThat(file.load()).isEmpty();
+    assertThat(tempDir).isEmptyDirectory();
+  }
+
+  @Test
+  void shouldReturnEmptyWhenNoSnapshotExists() {
+    assertThat(new StoreSnapshotFile(spec, tempDir).load()).isEmpty();
+  }
+
+  @Test
+  void shouldReturnEmptyWhenSnapshotIsCorrupted() throws IOException {
+    final StoreSnapshotFile file = new StoreSnapshotFile(spec, tempDir);
+    file.write(randomSnapshot());
+
+    final Path path = tempDir.resolve(StoreSnapshotFile.FILE_NAME);
+    final byte[] bytes = Files.readAllBytes(path);
+    bytes[bytes.length - 1] ^= 1;
+    Files.write(path, bytes);
+
+    assertThat(file.load()).isEmpty();
+    assertThat(tempDir).isEmptyDirectory();
+  }
+
+  @Test
+  void shouldReturnEmptyWhenSnapshotVersionIsUnknown() throws IOException {
+    final StoreSnapshotFile file = new StoreSnapshotFile(spec, tempDir);
+    file.write(randomSnapshot());
+
+    final Path path = tempDir.resolve(StoreSnapshotFile.FILE_NAME);
+    final byte[] bytes = Files.readAllBytes(path);
+    ByteBuffer.wrap(bytes).putInt(Integer.BYTES, StoreSnapshotFile.VERSION + 1);
+    Files.write(path, bytes);
+
+    assertThat(file.load()).isEmpty();
+  }
+
+  @Test
+  void shouldDeleteSnapshot() throws IOException {
+    final StoreSnapshotFile file = new StoreSnapshotFile(spec, tempDir);
+    file.write(randomSnapshot());
+
+    file.delete();
+
+    assertThat(file.load()).isEmpty();
+    assertThat(tempDir).isEmptyDirectory();
+  }
+
+  private StoreSnapshot randomSnapshot() {
+    final StoredBlockMetadata withCheckpoints =
+        new StoredBlockMetadata(
+            dataStructureUtil.randomUInt64(),
+            dataStructureUtil.randomBytes32(),
+            dataStructureUtil.randomBytes32(),
+            dataStructureUtil.randomBytes32(),
+            Optional.of(dataStructureUtil.randomUInt64()),
+            Optional.of(dataStructureUtil.randomBytes32()),
+            Optional.of(
+                new BlockCheckpoints(
+                    dataStructureUtil.randomCheckpoint(),
+                    dataStructureUtil.randomCheckpoint(),
+                    dataStructureUtil.randomCheckpoint(),
+                    dataStructureUtil.randomCheckpoint())),
+            Optional.of(
+                new GloasForkChoiceRebuildData(
+                    dataStructureUtil.randomBytes32(),
+                    dataStructureUtil.randomBytes32(),
+                    Optional.of(dataStructureUtil.randomUInt64()))));
+    final StoredBlockMetadata minimal =
+        new StoredBlockMetadata(
+            dataStructureUtil.randomUInt64(),
+            dataStructureUtil.randomBytes32(),
+            dataStructureUtil.randomBytes32(),
+            dataStructureUtil.randomBytes32(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty());
+    final Map<Bytes32, StoredBlockMetadata> blockInformation =
+        Map.of(
+            withCheckpoints.getBlockRoot(), withCheckpoints, minimal.getBlockRoot(), minimal);
+    return new StoreSnapshot(
+        dataStructureUtil.randomUInt64(),
+        Optional.of(dataStructureUtil.randomCheckpoint()),
+        dataStructureUtil.randomCheckpoint(),
+        dataStructureUtil.randomCheckpoint(),
+        dataStructureUtil.randomCheckpoint(),
+        Optional.empty(),
+        blockInformation,
+        Map.of(
+            UInt64.ZERO,
+            dataStructureUtil.randomVoteTracker(),
+            UInt64.ONE,
+            dataStructureUtil.randomVoteTracker()));
+  }
+}
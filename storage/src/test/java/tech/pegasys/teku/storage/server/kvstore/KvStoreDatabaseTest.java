@@ -212,8 +212,10 @@ class KvStoreDatabaseTest {
 
   private FinalizedUpdater countingUpdater() {
     final FinalizedUpdater updater = mock(FinalizedUpdater.class);
-    doAnswer(this::recordRemovedSlot).when(updater).removeSidecar(any());
-    doAnswer(this::recordRemovedSlot).when(updater).removeNonCanonicalSidecar(any());
+    doAnswer(this::recordRemovedSlotRange).when(updater).removeSidecarsInSlotRange(any(), any());
+    doAnswer(this::recordRemovedSlotRange)
+        .when(updater)
+        .removeNonCanonicalSidecarsInSlotRange(any(), any());
     doAnswer(
             (final InvocationOnMock invocation) -> {
               prunedWatermark = Optional.of(invocation.getArgument(0));
@@ -231,10 +233,12 @@ class KvStoreDatabaseTest {
     return updater;
   }
 
-  private Void recordRemovedSlot(final InvocationOnMock invocation) {
-    final DataColumnSlotAndIdentifier key = invocation.getArgument(0);
-    removedSlots.add(key.slot());
-    populatedSlots.remove(key.slot());
+  private Void recordRemovedSlotRange(final InvocationOnMock invocation) {
+    final UInt64 fromSlot = invocation.getArgument(0);
+    final UInt64 toSlot = invocation.getArgument(1);
+    final NavigableSet<UInt64> removed = populatedSlots.subSet(fromSlot, true, toSlot, true);
+    removedSlots.addAll(removed);
+    removed.clear();
     return null;
   }
 
@@ -0,0 +1,98 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.generator.ChainBuilder;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.server.Database;
+import tech.pegasys.teku.storage.server.DatabaseStorageException;
+import tech.pegasys.teku.storage.server.StateStorageMode;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaFinalizedSnapshotStateAdapter;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaHotAdapter;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedSnapshot;
+
+class KvStoreDatabaseV4Test {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final ChainBuilder chainBuilder = ChainBuilder.create(spec);
+  private final V6SchemaCombinedSnapshot schema = V6SchemaCombinedSnapshot.createV4(spec);
+  private final SchemaHotAdapter schemaHot = schema.asSchemaHot();
+  private final SchemaFinalizedSnapshotStateAdapter schemaFinalized = schema.asSchemaFinalized();
+
+  private MockKvStoreInstance hotDb = createHotDb();
+  private MockKvStoreInstance finalizedDb = createFinalizedDb();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    final AnchorPoint genesis =
+        AnchorPoint.fromGenesisState(spec, chainBuilder.generateGenesis().getState());
+    try (final Database database = createDatabase()) {
+      database.storeInitialAnchor(genesis);
+    }
+    hotDb = hotDb.reopen();
+    finalizedDb = finalizedDb.reopen();
+  }
+
+  @Test
+  void shouldOpenWhenFinalizedDatabaseMatchesHotDatabase() {
+    assertThatNoException().isThrownBy(this::createDatabase);
+  }
+
+  @Test
+  void shouldRejectFinalizedDatabaseMissingLatestFinalizedBlock() {
+    setHotFinalizedCheckpoint(new Checkpoint(UInt64.ONE, dataStructureUtil.randomBytes32()));
+
+    assertThatThrownBy(this::createDatabase).isInstanceOf(DatabaseStorageException.class);
+  }
+
+  @Test
+  void shouldRejectEmptyFinalizedDatabaseWhenHotDatabaseHasFinalizedPastAnchor() {
+    setHotFinalizedCheckpoint(new Checkpoint(UInt64.ONE, dataStructureUtil.randomBytes32()));
+    finalizedDb = createFinalizedDb();
+
+    assertThatThrownBy(this::createDatabase).isInstanceOf(DatabaseStorageException.class);
+  }
+
+  private void setHotFinalizedCheckpoint(final Checkpoint checkpoint) {
+    try (final KvStoreTransaction transaction = hotDb.startTransaction()) {
+      transaction.put(schemaHot.getVariableFinalizedCheckpoint(), checkpoint);
+      transaction.commit();
+    }
+  }
+
+  private Database createDatabase() {
+    return InMemoryKvStoreDatabaseFactory.createV4(
+        hotDb, finalizedDb, StateStorageMode.PRUNE, 1, false, spec);
+  }
+
+  private MockKvStoreInstance createHotDb() {
+    return MockKvStoreInstance.createEmpty(schemaHot.getAllColumns(), schemaHot.getAllVariables());
+  }
+
+  private MockKvStoreInstance createFinalizedDb() {
+    return MockKvStoreInstance.createEmpty(
+        schemaFinalized.getAllColumns(), schemaFinalized.getAllVariables());
+  }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.MockKvStoreInstance;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateStorageLogic.FinalizedStateUpdater;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedSnapshotState;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedSnapshot;
+
+class V4FinalizedStateDiffStorageLogicTest {
+  private static final List<UInt64> LAYER_PERIODS =
+      List.of(UInt64.valueOf(64), UInt64.valueOf(16), UInt64.valueOf(4));
+
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final V6SchemaCombinedSnapshot schema = V6SchemaCombinedSnapshot.createV6(spec);
+  private final KvStoreAccessor db =
+      MockKvStoreInstance.createEmpty(schema.getAllColumns(), schema.getAllVariables());
+  private final BeaconState baseState = dataStructureUtil.randomBeaconState(UInt64.ZERO);
+
+  private final V4FinalizedStateDiffStorageLogic<SchemaCombinedSnapshotState> logic =
+      new V4FinalizedStateDiffStorageLogic<>(1, LAYER_PERIODS);
+
+  @Test
+  void shouldStoreFirstStateAsSnapshotAndLaterStatesAsDiffs() {
+    final BeaconState state0 = createState(0);
+    final BeaconState state4 = createState(4);
+    final BeaconState state5 = createState(5);
+    storeStates(state0, state4, state5);
+
+    assertThat(db.get(schema.getColumnFinalizedStatesBySlot(), UInt64.ZERO)).contains(state0);
+    assertThat(getDiffParentSlot(4)).isEqualTo(UInt64.ZERO);
+    assertThat(getDiffParentSlot(5)).isEqualTo(UInt64.valueOf(4));
+
+    assertStateReloads(state0);
+    assertStateReloads(state4);
+    assertStateReloads(state5);
+  }
+
+  @Test
+  void shouldDiffAgainstFirstStateInSmallestOccupiedBucket() {
+    final BeaconState state21 = createState(21);
+    storeStates(createState(0), createState(16), createState(20), state21);
+
+    assertThat(getDiffParentSlot(16)).isEqualTo(UInt64.ZERO);
+    assertThat(getDiffParentSlot(20)).isEqualTo(UInt64.valueOf(16));
+    assertThat(getDiffParentSlot(21)).isEqualTo(UInt64.valueOf(20));
+    assertStateReloads(state21);
+  }
+
+  @Test
+  void shouldStoreSnapshotAtStartOfNewTopLevelBucket() {
+    final BeaconState state64 = createState(64);
+    storeStates(createState(0), createState(60), state64);
+
+    assertThat(db.get(schema.getColumnFinalizedStatesBySlot(), UInt64.valueOf(64)))
+        .contains(state64);
+    assertThat(db.get(schema.getColumnFinalizedStateDiffsBySlot(), UInt64.valueOf(64))).isEmpty();
+  }
+
+  @Test
+  void shouldStoreDiffsAgainstSnapshotsWrittenBySnapshotStorage() {
+    final BeaconState state0 = createState(0);
+    final BeaconState state3 = createState(3);
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      new V4FinalizedStateSnapshotStorageLogic<SchemaCombinedSnapshotState>(1)
+          .updater()
+          .addFinalizedState(db, transaction, schema, state0);
+      transaction.commit();
+    }
+
+    storeStates(state3);
+
+    assertThat(getDiffParentSlot(3)).isEqualTo(UInt64.ZERO);
+    assertStateReloads(state3);
+  }
+
+  @Test
+  void getLatestAvailableFinalizedState_shouldUseMostRecentSnapshotOrDiff() {
+    final BeaconState state8 = createState(8);
+    final BeaconState state64 = createState(64);
+    storeStates(createState(0), createState(4), state8, state64);
+
+    assertStateReloads(state8, UInt64.valueOf(10));
+    assertStateReloads(state64, UInt64.valueOf(70));
+  }
+
+  @Test
+  void shouldNotStoreStatesCloserThanStorageFrequency() {
+    final V4FinalizedStateDiffStorageLogic<SchemaCombinedSnapshotState> frequencyLogic =
+        new V4FinalizedStateDiffStorageLogic<>(4, LAYER_PERIODS);
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      final FinalizedStateUpdater<SchemaCombinedSnapshotState> updater = frequencyLogic.updater();
+      updater.addFinalizedState(db, transaction, schema, createState(0));
+      updater.addFinalizedState(db, transaction, schema, createState(2));
+      updater.addFinalizedState(db, transaction, schema, createState(4));
+      transaction.commit();
+    }
+
+    assertThat(streamSlots()).containsExactly(UInt64.ZERO, UInt64.valueOf(4));
+  }
+
+  @Test
+  void streamFinalizedStateSlots_shouldIncludeSnapshotsAndDiffsInOrder() {
+    storeStates(createState(0), createState(4), createState(64), createState(65));
+
+    assertThat(streamSlots())
+        .containsExactly(UInt64.ZERO, UInt64.valueOf(4), UInt64.valueOf(64), UInt64.valueOf(65));
+  }
+
+  @Test
+  void deleteFinalizedState_shouldRewriteDependentDiffsAsSnapshots() {
+    final BeaconState state4 = createState(4);
+    final BeaconState state5 = createState(5);
+    storeStates(createState(0), state4, state5);
+
+    deleteStates(UInt64.ZERO);
+
+    assertThat(streamSlots()).containsExactly(UInt64.valueOf(4), UInt64.valueOf(5));
+    assertThat(db.get(schema.getColumnFinalizedStatesBySlot(), UInt64.valueOf(4)))
+        .contains(state4);
+    assertThat(getDiffParentSlot(5)).isEqualTo(UInt64.valueOf(4));
+    assertStateReloads(state4);
+    assertStateReloads(state5);
+  }
+
+  @Test
+  void deleteFinalizedState_shouldHandleDeletingChainOfStatesInOneUpdate() {
+    final BeaconState state6 = createState(6);
+    storeStates(createState(0), createState(4), createState(5), state6);
+
+    deleteStates(UInt64.ZERO, UInt64.valueOf(4), UInt64.valueOf(5));
+
+    assertThat(streamSlots()).containsExactly(UInt64.valueOf(6));
+    assertStateReloads(state6);
+  }
+
+  @Test
+  void addReconstructedFinalizedState_shouldStoreDiffBeforeExistingStates() {
+    final V4FinalizedStateDiffStorageLogic<SchemaCombinedSnapshotState> frequencyLogic =
+        new V4FinalizedStateDiffStorageLogic<>(4, LAYER_PERIODS);
+    final BeaconState state4 = createState(4);
+    final BeaconState state8 = createState(8);
+    storeStates(createState(0), state8);
+
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      final FinalizedStateUpdater<SchemaCombinedSnapshotState> updater = frequencyLogic.updater();
+      updater.addReconstructedFinalizedState(db, transaction, schema, state4);
+      updater.addReconstructedFinalizedState(db, transaction, schema, createState(6));
+      transaction.commit();
+    }
+
+    assertThat(streamSlots()).containsExactly(UInt64.ZERO, UInt64.valueOf(4), UInt64.valueOf(8));
+    assertThat(getDiffParentSlot(4)).isEqualTo(UInt64.ZERO);
+    assertStateReloads(state4);
+    assertStateReloads(state8);
+  }
+
+  private BeaconState createState(final long slot) {
+    return baseState.updated(
+        state -> {
+          state.setSlot(UInt64.valueOf(slot));
+          state.getBalances().setElement(0, UInt64.valueOf(slot));
+        });
+  }
+
+  private UInt64 getDiffParentSlot(final long slot) {
+    final Bytes diff =
+        db.get(schema.getColumnFinalizedStateDiffsBySlot(), UInt64.valueOf(slot)).orElseThrow();
+    return BeaconStateDiff.getParentSlot(diff);
+  }
+
+  private List<UInt64> streamSlots() {
+    try (final Stream<UInt64> slots =
+        logic.streamFinalizedStateSlots(db, schema, UInt64.ZERO, UInt64.MAX_VALUE)) {
+      return slots.toList();
+    }
+  }
+
+  private void assertStateReloads(final BeaconState state) {
+    assertStateReloads(state, state.getSlot());
+  }
+
+  private void assertStateReloads(final BeaconState expectedState, final UInt64 slot) {
+    // Use a fresh instance so states are rebuilt from the database rather than the anchor cache
+    final V4FinalizedStateDiffStorageLogic<SchemaCombinedSnapshotState> reloadLogic =
+        new V4FinalizedStateDiffStorageLogic<>(1, LAYER_PERIODS);
+    assertThat(reloadLogic.getLatestAvailableFinalizedState(db, schema, slot))
+        .contains(expectedState);
+  }
+
+  private void storeStates(final BeaconState... states) {
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      final FinalizedStateUpdater<SchemaCombinedSnapshotState> updater = logic.updater();
+      for (final BeaconState state : states) {
+        updater.addFinalizedState(db, transaction, schema, state);
+      }
+      transaction.commit();
+      updater.commit();
+    }
+  }
+
+  private void deleteStates(final UInt64... slots) {
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      final FinalizedStateUpdater<SchemaCombinedSnapshotState> updater = logic.updater();
+      for (final UInt64 slot : slots) {
+        updater.deleteFinalizedState(db, transaction, schema, slot);
+      }
+      transaction.commit();
+      updater.commit();
+    }
+  }
+}
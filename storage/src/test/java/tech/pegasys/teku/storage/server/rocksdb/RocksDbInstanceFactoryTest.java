@@ -14,10 +14,12 @@
 package tech.pegasys.teku.storage.server.rocksdb;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.STORAGE;
 import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn.asColumnId;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.UINT64_SERIALIZER;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Collection;
@@ -36,6 +38,7 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
 import tech.pegasys.teku.storage.server.kvstore.schema.Schema;
 
 class RocksDbInstanceFactoryTest {
@@ -44,6 +47,7 @@ class RocksDbInstanceFactoryTest {
       KvStoreColumn.create(1, UINT64_SERIALIZER, UINT64_SERIALIZER);
   private final KvStoreColumn<UInt64, UInt64> secondColumn =
       KvStoreColumn.create(2, UINT64_SERIALIZER, UINT64_SERIALIZER);
+  private final KvStoreVariable<UInt64> variable = KvStoreVariable.create(1, UINT64_SERIALIZER);
 
   @TempDir Path databaseDir;
 
@@ -87,14 +91,129 @@ class RocksDbInstanceFactoryTest {
     }
   }
 
+  @Test
+  void shouldDeleteKeysInRange() throws Exception {
+    try (final KvStoreAccessor db = createDatabase(List.of(firstColumn))) {
+      try (final KvStoreAccessor.KvStoreTransaction transaction = db.startTransaction()) {
+        for (int i = 1; i <= 5; i++) {
+          transaction.put(firstColumn, UInt64.valueOf(i), UInt64.valueOf(i));
+        }
+        transaction.commit();
+      }
+
+      try (final KvStoreAccessor.KvStoreTransaction transaction = db.startTransaction()) {
+        transaction.deleteRange(firstColumn, UInt64.valueOf(2), UInt64.valueOf(4));
+        transaction.commit();
+      }
+
+      assertThat(db.getAll(firstColumn).keySet())
+          .containsExactlyInAnyOrder(UInt64.ONE, UInt64.valueOf(4), UInt64.valueOf(5));
+    }
+  }
+
+  @Test
+  void shouldIngestBulkLoadedColumnsBeforeCommittingVariables() throws Exception {
+    try (final KvStoreAccessor db = createBulkLoadDatabase()) {
+      try (final KvStoreAccessor.KvStoreTransaction transaction = db.startTransaction()) {
+        transaction.put(firstColumn, UInt64.valueOf(3), UInt64.ZERO);
+        transaction.put(firstColumn, UInt64.valueOf(4), UInt64.ZERO);
+        transaction.commit();
+      }
+
+      try (final KvStoreAccessor.KvStoreTransaction transaction = db.startBulkLoadTransaction()) {
+        transaction.put(firstColumn, UInt64.valueOf(3), UInt64.valueOf(3));
+        transaction.put(firstColumn, UInt64.ONE, UInt64.ONE);
+        transaction.put(secondColumn, UInt64.valueOf(2), UInt64.valueOf(2));
+        transaction.delete(firstColumn, UInt64.valueOf(4));
+        transaction.put(variable, UInt64.ONE);
+
+        assertThat(db.get(firstColumn, UInt64.ONE)).isEmpty();
+        transaction.commit();
+      }
+
+      assertThat(db.getAll(firstColumn))
+          .containsOnly(entry(UInt64.ONE, UInt64.ONE), entry(UInt64.valueOf(3), UInt64.valueOf(3)));
+      assertThat(db.get(secondColumn, UInt64.valueOf(2))).contains(UInt64.valueOf(2));
+      assertThat(db.get(variable)).contains(UInt64.ONE);
+    }
+
+    assertThat(databaseDir.resolve(RocksDbInstanceFactory.BULK_LOAD_DIRECTORY_NAME))
+        .isEmptyDirectory();
+  }
+
+  @Test
+  void shouldDeleteKeysInRangeWhenBulkLoading() throws Exception {
+    try (final KvStoreAccessor db = createBulkLoadDatabase()) {
+      try (final KvStoreAccessor.KvStoreTransaction transaction = db.startTransaction()) {
+        for (int i = 1; i <= 5; i++) {
+          transaction.put(firstColumn, UInt64.valueOf(i), UInt64.valueOf(i));
+        }
+        transaction.commit();
+      }
+
+      try (final KvStoreAccessor.KvStoreTransaction transaction = db.startBulkLoadTransaction()) {
+        transaction.put(firstColumn, UInt64.valueOf(6), UInt64.valueOf(6));
+        transaction.put(firstColumn, UInt64.valueOf(7), UInt64.valueOf(7));
+        transaction.deleteRange(firstColumn, UInt64.valueOf(2), UInt64.valueOf(7));
+        transaction.put(firstColumn, UInt64.valueOf(3), UInt64.valueOf(30));
+        transaction.commit();
+      }
+
+      assertThat(db.getAll(firstColumn))
+          .containsOnly(
+              entry(UInt64.ONE, UInt64.ONE),
+              entry(UInt64.valueOf(3), UInt64.valueOf(30)),
+              entry(UInt64.valueOf(7), UInt64.valueOf(7)));
+    }
+  }
+
+  @Test
+  void shouldDiscardBulkLoadedDataOnRollback() throws Exception {
+    try (final KvStoreAccessor db = createBulkLoadDatabase()) {
+      try (final KvStoreAccessor.KvStoreTransaction transaction = db.startBulkLoadTransaction()) {
+        transaction.put(firstColumn, UInt64.ONE, UInt64.ONE);
+        transaction.put(variable, UInt64.ONE);
+        transaction.rollback();
+      }
+
+      assertThat(db.get(firstColumn, UInt64.ONE)).isEmpty();
+      assertThat(db.get(variable)).isEmpty();
+    }
+  }
+
+  @Test
+  void shouldDeleteIncompleteBulkLoadFilesOnOpen() throws Exception {
+    final Path bulkLoadDir = databaseDir.resolve(RocksDbInstanceFactory.BULK_LOAD_DIRECTORY_NAME);
+    Files.createDirectories(bulkLoadDir);
+    Files.writeString(bulkLoadDir.resolve("bulk-load-1.sst"), "partial");
+
+    try (final KvStoreAccessor ignored = createBulkLoadDatabase()) {
+      assertThat(bulkLoadDir).isEmptyDirectory();
+    }
+  }
+
   private KvStoreAccessor createDatabase(final Collection<KvStoreColumn<?, ?>> columns) {
+    return createDatabase(
+        KvStoreConfiguration.v6SingleDefaults().withDatabaseDir(databaseDir), columns);
+  }
+
+  private KvStoreAccessor createBulkLoadDatabase() {
+    return createDatabase(
+        KvStoreConfiguration.v6SingleDefaults()
+            .withDatabaseDir(databaseDir)
+            .withBulkLoadEnabled(true),
+        List.of(firstColumn, secondColumn));
+  }
+
+  private KvStoreAccessor createDatabase(
+      final KvStoreConfiguration configuration, final Collection<KvStoreColumn<?, ?>> columns) {
     return RocksDbInstanceFactory.create(
         new StubMetricsSystem(),
         STORAGE,
-        KvStoreConfiguration.v6SingleDefaults().withDatabaseDir(databaseDir),
+        configuration,
         columns,
         List.of(),
-        List.of(),
+        List.of(variable),
         List.of());
   }
 
@@ -27,6 +27,7 @@ import org.hyperledger.besu.metrics.Observation;
 import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
@@ -62,4 +63,40 @@ class RocksDbStatsTest {
       assertThat(metrics).isNotEmpty();
     }
   }
+
+  @Test
+  void shouldReportColumnFamilyMetricsLabelledByColumnId() throws Exception {
+    final ObservableMetricsSystem metricsSystem =
+        new PrometheusMetricsSystem(Set.of(TekuMetricCategory.STORAGE_HOT_DB), true);
+    final ColumnFamilyHandle columnHandle = mock(ColumnFamilyHandle.class);
+    when(columnHandle.getName()).thenReturn(new byte[] {0x05});
+    when(database.getLongProperty(columnHandle, "rocksdb.estimate-num-keys")).thenReturn(42L);
+
+    try (RocksDbStats stats =
+        new RocksDbStats(
+            metricsSystem,
+            TekuMetricCategory.STORAGE_HOT_DB,
+            KvStoreConfiguration.v6SingleDefaults())) {
+      stats.registerColumnFamilyMetrics(database, List.of(columnHandle));
+      stats.recordColumnFamilyRead(columnHandle, 100);
+      stats.recordColumnFamilyRead(columnHandle, 20);
+
+      assertThat(getColumnFamilyValue(metricsSystem, "column_family_estimated_keys"))
+          .isEqualTo(42d);
+      assertThat(getColumnFamilyValue(metricsSystem, "column_family_reads_total")).isEqualTo(2d);
+      assertThat(getColumnFamilyValue(metricsSystem, "column_family_read_bytes_total"))
+          .isEqualTo(120d);
+    }
+  }
+
+  private Object getColumnFamilyValue(
+      final ObservableMetricsSystem metricsSystem, final String metricName) {
+    return metricsSystem
+        .streamObservations(TekuMetricCategory.STORAGE_HOT_DB)
+        .filter(observation -> observation.metricName().equals(metricName))
+        .filter(observation -> observation.labels().equals(List.of("0x05")))
+        .map(Observation::value)
+        .findFirst()
+        .orElseThrow();
+  }
 }
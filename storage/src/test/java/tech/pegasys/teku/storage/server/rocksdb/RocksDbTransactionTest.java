@@ -0,0 +1,118 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.UINT64_SERIALIZER;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.Transaction;
+import org.rocksdb.TransactionDB;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.storage.server.DatabaseStorageException;
+import tech.pegasys.teku.storage.server.DatabaseVersion;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
+
+class RocksDbTransactionTest {
+
+  private final KvStoreColumn<UInt64, UInt64> column =
+      KvStoreColumn.create(1, UINT64_SERIALIZER, UINT64_SERIALIZER);
+  private final KvStoreVariable<UInt64> earliestSlot = KvStoreVariable.create(1, UINT64_SERIALIZER);
+
+  private final TransactionDB db = mock(TransactionDB.class);
+  private final Transaction rocksDbTx = mock(Transaction.class);
+  private final ColumnFamilyHandle defaultHandle = mock(ColumnFamilyHandle.class);
+  private final ColumnFamilyHandle columnHandle = mock(ColumnFamilyHandle.class);
+  private final RocksIterator iterator = mock(RocksIterator.class);
+
+  @BeforeAll
+  static void setUp() {
+    assumeThat(DatabaseVersion.tryLoadRocksdbLibrary())
+        .describedAs("RocksDB support required")
+        .isTrue();
+  }
+
+  @BeforeEach
+  void setUpMocks() {
+    when(db.beginTransaction(any(WriteOptions.class))).thenReturn(rocksDbTx);
+    when(rocksDbTx.getIterator(any(ReadOptions.class), any())).thenReturn(iterator);
+    when(db.newIterator(any(ColumnFamilyHandle.class), any(ReadOptions.class)))
+        .thenReturn(iterator);
+  }
+
+  @Test
+  void shouldNotDeleteRangeWhenCommitFails() throws Exception {
+    doThrow(new RocksDBException("Commit failed")).when(rocksDbTx).commit();
+
+    final RocksDbTransaction transaction = createTransaction();
+    transaction.deleteRange(column, UInt64.valueOf(2), UInt64.valueOf(4));
+    transaction.put(earliestSlot, UInt64.valueOf(4));
+
+    assertThatThrownBy(transaction::commit).isInstanceOf(DatabaseStorageException.class);
+
+    verify(db, never())
+        .deleteRange(
+            any(ColumnFamilyHandle.class), any(WriteOptions.class), any(byte[].class), any());
+    verify(db, never()).write(any(WriteOptions.class), any(WriteBatch.class));
+  }
+
+  @Test
+  void shouldDeleteRangeAfterCommit() throws Exception {
+    final RocksDbTransaction transaction = createTransaction();
+    transaction.deleteRange(column, UInt64.valueOf(2), UInt64.valueOf(4));
+    transaction.put(earliestSlot, UInt64.valueOf(4));
+
+    transaction.commit();
+
+    final InOrder inOrder = inOrder(rocksDbTx, db);
+    inOrder.verify(rocksDbTx).commit();
+    inOrder
+        .verify(db)
+        .deleteRange(
+            eq(columnHandle),
+            any(WriteOptions.class),
+            eq(UINT64_SERIALIZER.serialize(UInt64.valueOf(2))),
+            eq(UINT64_SERIALIZER.serialize(UInt64.valueOf(4))));
+  }
+
+  private RocksDbTransaction createTransaction() {
+    return new RocksDbTransaction(
+        db,
+        defaultHandle,
+        __ -> columnHandle,
+        __ -> columnHandle,
+        new AtomicBoolean(false),
+        __ -> {});
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
+import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class StateTreeInternerTest {
+  private final Spec spec = TestSpecFactory.createMinimalDeneb();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final StateTreeInterner interner = new StateTreeInterner();
+
+  @Test
+  void shouldShareFieldsWithPreviouslyInternedState() {
+    final BeaconState state = dataStructureUtil.randomBeaconState();
+    final BeaconState copy = reload(state);
+    assertThat(copy.getValidators().getBackingNode())
+        .isNotSameAs(state.getValidators().getBackingNode());
+
+    assertThat(interner.intern(state)).isSameAs(state);
+    final BeaconState internedCopy = interner.intern(copy);
+
+    assertThat(internedCopy).isEqualTo(state);
+    assertThat(internedCopy.getValidators().getBackingNode())
+        .isSameAs(state.getValidators().getBackingNode());
+    assertThat(internedCopy.getBalances().getBackingNode())
+        .isSameAs(state.getBalances().getBackingNode());
+  }
+
+  @Test
+  void shouldKeepBlockWhenInterningBlockAndState() {
+    final SignedBlockAndState blockAndState = dataStructureUtil.randomSignedBlockAndState(5);
+    interner.intern(blockAndState.getState());
+
+    final StateAndBlockSummary result =
+        interner.intern(
+            new SignedBlockAndState(blockAndState.getBlock(), reload(blockAndState.getState())));
+
+    assertThat(result).isInstanceOf(SignedBlockAndState.class);
+    assertThat(((SignedBlockAndState) result).getBlock()).isSameAs(blockAndState.getBlock());
+    assertThat(result.getState().getValidators().getBackingNode())
+        .isSameAs(blockAndState.getState().getValidators().getBackingNode());
+  }
+
+  private BeaconState reload(final BeaconState state) {
+    return state.getBeaconStateSchema().sszDeserialize(state.sszSerialize());
+  }
+}
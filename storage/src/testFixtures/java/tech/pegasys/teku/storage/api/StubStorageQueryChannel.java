@@ -68,6 +68,12 @@ public class StubStorageQueryChannel implements StorageQueryChannel {
     return SafeFuture.completedFuture(Optional.empty());
   }
 
+  @Override
+  public SafeFuture<List<SignedBeaconBlock>> getFinalizedBlocksInRange(
+      final UInt64 startSlot, final UInt64 endSlot, final int limit) {
+    return SafeFuture.completedFuture(List.of());
+  }
+
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(final Bytes32 blockRoot) {
     return SafeFuture.completedFuture(Optional.empty());
@@ -58,6 +58,7 @@ public class InMemoryKvStoreDatabaseFactory {
         combinedSchema,
         storageMode,
         stateStorageFrequency,
+        false,
         storeNonCanonicalBlocks,
         spec,
         new StubMetricsSystem());
@@ -16,9 +16,12 @@ package tech.pegasys.teku.storage.server.kvstore;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
@@ -242,6 +245,11 @@ public class MockKvStoreInstance implements KvStoreAccessor {
     // No-op for the in-memory mock instance.
   }
 
+  @Override
+  public void sync() {
+    // No-op for the in-memory mock instance.
+  }
+
   @Override
   public void close() {
     closed.set(true);
@@ -266,6 +274,7 @@ public class MockKvStoreInstance implements KvStoreAccessor {
     private final MockKvStoreInstance dbInstance;
     private final Map<KvStoreColumn<?, ?>, Map<Bytes, Bytes>> columnUpdates = new HashMap<>();
     private final Map<KvStoreColumn<?, ?>, Set<Bytes>> deletedColumnKeys = new HashMap<>();
+    private final List<RangeDeletion> rangeDeletions = new ArrayList<>();
     private final Map<KvStoreVariable<?>, Optional<Bytes>> variableUpdates = new HashMap<>();
     private boolean closed = false;
 
@@ -332,6 +341,16 @@ public class MockKvStoreInstance implements KvStoreAccessor {
       variableUpdates.put(variable, Optional.empty());
     }
 
+    @Override
+    public <K, V> void deleteRange(
+        final KvStoreColumn<K, V> column, final K fromKey, final K toKey) {
+      assertOpen();
+      dbInstance.assertValidColumn(column);
+      final Bytes fromKeyBytes = dbInstance.keyToBytes(column, fromKey);
+      final Bytes toKeyBytes = dbInstance.keyToBytes(column, toKey);
+      rangeDeletions.add(new RangeDeletion(column, fromKeyBytes, toKeyBytes));
+    }
+
     @Override
     public void commit() {
       assertOpen();
@@ -354,6 +373,8 @@ public class MockKvStoreInstance implements KvStoreAccessor {
             final NavigableMap<Bytes, Bytes> targetColumn = dbInstance.columnData.get(col);
             deletedKeys.forEach(targetColumn::remove);
           });
+      rangeDeletions.forEach(
+          range -> dbInstance.columnData.get(range.column()).keySet().removeIf(range::contains));
     }
 
     private void assertOpen() {
@@ -369,6 +390,7 @@ public class MockKvStoreInstance implements KvStoreAccessor {
       variableUpdates.clear();
       columnUpdates.clear();
       deletedColumnKeys.clear();
+      rangeDeletions.clear();
     }
 
     @Override
@@ -376,4 +398,11 @@ public class MockKvStoreInstance implements KvStoreAccessor {
       closed = true;
     }
   }
+
+  private record RangeDeletion(KvStoreColumn<?, ?> column, Bytes fromKey, Bytes toKey) {
+    boolean contains(final Bytes key) {
+      return Arrays.compareUnsigned(key.toArrayUnsafe(), fromKey.toArrayUnsafe()) >= 0
+          && Arrays.compareUnsigned(key.toArrayUnsafe(), toKey.toArrayUnsafe()) < 0;
+    }
+  }
 }
@@ -179,6 +179,7 @@ public class FileBackedStorageSystemBuilder {
         schema,
         storageMode,
         stateStorageFrequency,
+        false,
         storeNonCanonicalBlocks,
         spec);
   }
@@ -190,6 +191,7 @@ public class FileBackedStorageSystemBuilder {
         configDefault.withDatabaseDir(hotDir),
         storageMode,
         stateStorageFrequency,
+        false,
         storeNonCanonicalBlocks,
         spec);
   }
@@ -16,6 +16,7 @@ package tech.pegasys.teku.storage.storageSystem;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.safeJoin;
 import static tech.pegasys.teku.infrastructure.async.SyncAsyncRunner.SYNC_RUNNER;
 
+import java.util.Optional;
 import tech.pegasys.teku.beacon.pow.api.TrackingEth1EventsChannel;
 import tech.pegasys.teku.dataproviders.lookup.BlindedExecutionPayloadProvider;
 import tech.pegasys.teku.dataproviders.lookup.ExecutionPayloadProvider;
@@ -98,7 +99,12 @@ public class StorageSystem implements AutoCloseable {
     // Create and start storage server
     final ChainStorage chainStorageServer =
         ChainStorage.create(
-            database, spec, storageMode, stateRebuildTimeoutSeconds, BlobSidecarsArchiver.NOOP);
+            database,
+            spec,
+            storageMode,
+            stateRebuildTimeoutSeconds,
+            BlobSidecarsArchiver.NOOP,
+            Optional.empty());
 
     // Create recent chain data
     final FinalizedCheckpointChannel finalizedCheckpointChannel =
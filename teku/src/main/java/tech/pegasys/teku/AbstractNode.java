@@ -104,7 +104,8 @@ public abstract class AbstractNode implements Node {
         new EventChannels(
             subscriberExceptionHandler,
             metricsSystem,
-            tekuConfig.beaconNodeConfig().eventChannelVirtualThreadsEnabled());
+            tekuConfig.beaconNodeConfig().eventChannelVirtualThreadsEnabled(),
+            tekuConfig.beaconNodeConfig().eventChannelRingBufferConfigs());
 
     asyncRunnerFactory =
         AsyncRunnerFactory.createDefault(
@@ -14,8 +14,14 @@
 package tech.pegasys.teku.cli.options;
 
 import static tech.pegasys.teku.service.serviceutils.layout.DataConfig.DEFAULT_DEBUG_DATA_DUMPING_ENABLED;
+import static tech.pegasys.teku.storage.server.StorageConfiguration.DEFAULT_GROUP_COMMIT_ENABLED;
+import static tech.pegasys.teku.storage.server.StorageConfiguration.DEFAULT_GROUP_COMMIT_MAX_BATCH_SIZE;
 import static tech.pegasys.teku.storage.server.StorageConfiguration.DEFAULT_ROCKSDB_BLOB_DB_ENABLED;
+import static tech.pegasys.teku.storage.server.StorageConfiguration.DEFAULT_ROCKSDB_BULK_LOAD_ENABLED;
+import static tech.pegasys.teku.storage.server.StorageConfiguration.DEFAULT_SLOW_QUERY_THRESHOLD_MILLIS;
+import static tech.pegasys.teku.storage.server.StorageConfiguration.DEFAULT_STATE_DIFFS_ENABLED;
 import static tech.pegasys.teku.storage.server.StorageConfiguration.DEFAULT_STATE_REBUILD_TIMEOUT_SECONDS;
+import static tech.pegasys.teku.storage.server.StorageConfiguration.DEFAULT_STORE_SNAPSHOT_ENABLED;
 
 import java.nio.file.Path;
 import java.time.Duration;
@@ -236,6 +242,87 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
       arity = "0..1")
   private boolean rocksdbBlobDbEnabled = DEFAULT_ROCKSDB_BLOB_DB_ENABLED;
 
+  @CommandLine.Option(
+      names = {"--Xdata-storage-rocksdb-bulk-load-enabled"},
+      hidden = true,
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Write historic blocks stored during backfill to sorted files which are ingested directly "
+              + "into RocksDB, bypassing the write-ahead log and memtable.",
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean rocksdbBulkLoadEnabled = DEFAULT_ROCKSDB_BULK_LOAD_ENABLED;
+
+  @CommandLine.Option(
+      names = {"--Xdata-storage-state-diffs-enabled"},
+      hidden = true,
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Store finalized states as layered diffs against periodic full snapshots. "
+              + "Only applies to V6 and leveldb2 databases. "
+              + "Existing snapshots are kept as the base layer.",
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean stateDiffsEnabled = DEFAULT_STATE_DIFFS_ENABLED;
+
+  @CommandLine.Option(
+      names = {"--Xdata-storage-store-snapshot-enabled"},
+      hidden = true,
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Write a snapshot of the fork choice store on clean shutdown and load it on the next "
+              + "startup instead of rebuilding the store from the database.",
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean storeSnapshotEnabled = DEFAULT_STORE_SNAPSHOT_ENABLED;
+
+  @CommandLine.Option(
+      names = {"--Xdata-storage-finalized-path"},
+      hidden = true,
+      paramLabel = "<PATH>",
+      description =
+          "Path to store finalized blocks, states and sidecars, allowing them to be kept on a "
+              + "separate volume from hot data. Only applies to database versions which store hot "
+              + "and finalized data separately (4, 5 and leveldb1).\n"
+              + "  Default: <data-beacon-path>/archive",
+      arity = "1")
+  private Path finalizedDataPath = null;
+
+  @CommandLine.Option(
+      names = {"--Xdata-storage-group-commit-enabled"},
+      hidden = true,
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Write storage updates from a dedicated thread, combining consecutive updates to hot "
+              + "data into a single write batch.",
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean groupCommitEnabled = DEFAULT_GROUP_COMMIT_ENABLED;
+
+  @CommandLine.Option(
+      names = {"--Xdata-storage-group-commit-max-batch-size"},
+      hidden = true,
+      paramLabel = "<INTEGER>",
+      showDefaultValue = Visibility.ALWAYS,
+      description = "Maximum number of storage updates combined into a single write batch.",
+      arity = "1")
+  private int groupCommitMaxBatchSize = DEFAULT_GROUP_COMMIT_MAX_BATCH_SIZE;
+
+  @CommandLine.Option(
+      names = {"--Xdata-storage-slow-query-threshold"},
+      hidden = true,
+      paramLabel = "<INTEGER>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Log storage queries which take longer than this many milliseconds, including time "
+              + "spent queued. Set to 0 to disable.",
+      arity = "1")
+  private int slowQueryThresholdMillis = DEFAULT_SLOW_QUERY_THRESHOLD_MILLIS;
+
   @CommandLine.Option(
       names = {"--force-clear-db"},
       paramLabel = "<BOOLEAN>",
@@ -277,7 +364,14 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
                 .statePruningInterval(Duration.ofSeconds(statePruningIntervalSeconds))
                 .statePruningLimit(statePruningLimit)
                 .forceClearDb(forceClearDb)
-                .rocksdbBlobDbEnabled(rocksdbBlobDbEnabled));
+                .rocksdbBlobDbEnabled(rocksdbBlobDbEnabled)
+                .rocksdbBulkLoadEnabled(rocksdbBulkLoadEnabled)
+                .stateDiffsEnabled(stateDiffsEnabled)
+                .storeSnapshotEnabled(storeSnapshotEnabled)
+                .finalizedDataPath(finalizedDataPath)
+                .groupCommitEnabled(groupCommitEnabled)
+                .groupCommitMaxBatchSize(groupCommitMaxBatchSize)
+                .slowQueryThresholdMillis(slowQueryThresholdMillis));
     builder.sync(
         b ->
             b.fetchAllHistoricBlocks(dataStorageMode.storesAllBlocks())
@@ -13,9 +13,18 @@
 
 package tech.pegasys.teku.cli.options;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import picocli.CommandLine.Help.Visibility;
 import picocli.CommandLine.Option;
 import tech.pegasys.teku.config.TekuConfiguration;
+import tech.pegasys.teku.infrastructure.events.RingBufferDeliveryConfig;
+import tech.pegasys.teku.infrastructure.events.RingBufferDeliveryConfig.BackpressurePolicy;
+import tech.pegasys.teku.infrastructure.events.RingBufferDeliveryConfig.WaitStrategy;
+import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
 
 public class BeaconNodeOptions {
 
@@ -29,7 +38,68 @@ public class BeaconNodeOptions {
       arity = "0..1")
   private boolean eventChannelVirtualThreadsEnabled = false;
 
+  @Option(
+      names = {"--Xevent-channel-ring-buffer"},
+      description =
+          "Event channels which deliver events via lock-free ring buffers, as a comma separated list of channel names each with an optional backpressure policy (BLOCK, DROP_OLDEST or COALESCE), e.g. BlockImportChannel,ReceivedBlockEventsChannel:DROP_OLDEST",
+      paramLabel = "<CHANNEL[:POLICY]>",
+      split = ",",
+      hidden = true,
+      arity = "0..*")
+  private List<String> eventChannelRingBuffers = new ArrayList<>();
+
+  @Option(
+      names = {"--Xevent-channel-ring-buffer-wait-strategy"},
+      description =
+          "How subscribers to ring buffer event channels wait for events (BLOCKING, SLEEPING or YIELDING)",
+      paramLabel = "<STRATEGY>",
+      showDefaultValue = Visibility.ALWAYS,
+      hidden = true,
+      arity = "1")
+  private WaitStrategy eventChannelRingBufferWaitStrategy =
+      RingBufferDeliveryConfig.DEFAULT_WAIT_STRATEGY;
+
+  @Option(
+      names = {"--Xevent-channel-ring-buffer-capacity"},
+      description = "Number of pending events per subscriber to ring buffer event channels",
+      paramLabel = "<INTEGER>",
+      showDefaultValue = Visibility.ALWAYS,
+      hidden = true,
+      arity = "1")
+  private int eventChannelRingBufferCapacity = RingBufferDeliveryConfig.DEFAULT_CAPACITY;
+
   public void configure(final TekuConfiguration.Builder builder) {
-    builder.beaconNode(b -> b.eventChannelVirtualThreadsEnabled(eventChannelVirtualThreadsEnabled));
+    builder.beaconNode(
+        b ->
+            b.eventChannelVirtualThreadsEnabled(eventChannelVirtualThreadsEnabled)
+                .eventChannelRingBufferConfigs(createRingBufferConfigs()));
+  }
+
+  private Map<String, RingBufferDeliveryConfig> createRingBufferConfigs() {
+    final Map<String, RingBufferDeliveryConfig> configs = new HashMap<>();
+    for (final String entry : eventChannelRingBuffers) {
+      final String[] parts = entry.trim().split(":", 2);
+      final BackpressurePolicy policy =
+          parts.length > 1
+              ? parseBackpressurePolicy(parts[1])
+              : RingBufferDeliveryConfig.DEFAULT_BACKPRESSURE_POLICY;
+      configs.put(
+          parts[0],
+          RingBufferDeliveryConfig.builder()
+              .capacity(eventChannelRingBufferCapacity)
+              .waitStrategy(eventChannelRingBufferWaitStrategy)
+              .backpressurePolicy(policy)
+              .build());
+    }
+    return configs;
+  }
+
+  private BackpressurePolicy parseBackpressurePolicy(final String policy) {
+    try {
+      return BackpressurePolicy.valueOf(policy.trim().toUpperCase(Locale.ROOT));
+    } catch (final IllegalArgumentException e) {
+      throw new InvalidConfigurationException(
+          "Invalid event channel backpressure policy: " + policy);
+    }
   }
 }
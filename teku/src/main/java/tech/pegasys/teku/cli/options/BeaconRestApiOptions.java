@@ -94,6 +94,14 @@ public class BeaconRestApiOptions {
       hidden = true)
   private int maxPendingEvents = BeaconRestApiConfig.DEFAULT_MAX_EVENT_QUEUE_SIZE;
 
+  @Option(
+      names = {"--Xrest-api-max-pending-event-bytes"},
+      description =
+          "Maximum size in bytes of events queued for an event stream client before it is disconnected",
+      paramLabel = "<LONG>",
+      hidden = true)
+  private long maxPendingEventBytes = BeaconRestApiConfig.DEFAULT_MAX_PENDING_EVENT_BYTES;
+
   @Option(
       names = {"--Xrest-api-max-url-length"},
       description = "Set the maximum url length for rest api requests",
@@ -193,6 +201,7 @@ public class BeaconRestApiOptions {
                 .getBlobsSidecarsDownloadEnabled(getBlobsSidecarsDownloadEnabled)
                 .getBlobsSidecarsDownloadTimeoutSeconds(getBlobsSidecarsDownloadTimeoutSeconds)
                 .maxPendingEvents(maxPendingEvents)
+                .maxPendingEventBytes(maxPendingEventBytes)
                 .validatorThreads(Optional.ofNullable(validatorThreads))
                 .restApiVirtualThreadsEnabled(restApiVirtualThreadsEnabled)
                 .restApiVirtualThreadsMaxConcurrentTasks(restApiVirtualThreadsMaxConcurrentTasks));
@@ -357,6 +357,30 @@ public class P2POptions {
   private Integer forwardSyncMaxPendingBatches =
       SyncConfig.DEFAULT_FORWARD_SYNC_MAX_PENDING_BATCHES;
 
+  @Option(
+      names = {"--Xp2p-sync-execution-payload-look-ahead"},
+      paramLabel = "<NUMBER>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Number of upcoming blocks whose execution payloads are sent to the execution client "
+              + "while earlier blocks are imported, while syncing. 0 disables look-ahead.",
+      hidden = true,
+      arity = "1")
+  private Integer forwardSyncExecutionPayloadLookAhead =
+      SyncConfig.DEFAULT_FORWARD_SYNC_EXECUTION_PAYLOAD_LOOK_AHEAD;
+
+  @Option(
+      names = {"--Xp2p-sync-throughput-aware-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Select peers and size batches according to their measured throughput, while syncing.",
+      fallbackValue = "true",
+      hidden = true,
+      arity = "0..1")
+  private boolean forwardSyncThroughputAwareEnabled =
+      SyncConfig.DEFAULT_FORWARD_SYNC_THROUGHPUT_AWARE_ENABLED;
+
   @Option(
       names = {"--Xp2p-sync-blocks-rate-limit"},
       paramLabel = "<NUMBER>",
@@ -528,6 +552,18 @@ public class P2POptions {
       hidden = true)
   private Integer peerRequestLimit = P2PConfig.DEFAULT_PEER_REQUEST_LIMIT;
 
+  @Option(
+      names = {"--Xp2p-inbound-request-max-concurrency"},
+      paramLabel = "<NUMBER>",
+      description =
+          "Maximum number of inbound blocks and data column sidecars requests served concurrently."
+              + " Queued requests are shared fairly between peers based on the bytes served."
+              + " Set to 0 to serve requests as they arrive.",
+      arity = "1",
+      showDefaultValue = Visibility.ALWAYS,
+      hidden = true)
+  private int inboundRequestMaxConcurrency = P2PConfig.DEFAULT_INBOUND_REQUEST_MAX_CONCURRENCY;
+
   @Option(
       names = {"--Xp2p-batch-verify-signatures-max-threads"},
       paramLabel = "<NUMBER>",
@@ -576,6 +612,17 @@ public class P2POptions {
       fallbackValue = "true")
   private boolean siteLocalAddressesEnabled = DiscoveryConfig.DEFAULT_SITE_LOCAL_ADDRESSES_ENABLED;
 
+  @Option(
+      names = {"--Xp2p-discovery-enr-cache-size"},
+      paramLabel = "<NUMBER>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Maximum number of discovered node records to keep indexed by subnet so peers can be"
+              + " found without a new discovery search. 0 disables the cache.",
+      arity = "1",
+      hidden = true)
+  private int discoveryEnrCacheSize = DiscoveryConfig.DEFAULT_ENR_CACHE_SIZE;
+
   @Option(
       names = {"--Xp2p-yamux-enabled"},
       paramLabel = "<BOOLEAN>",
@@ -586,6 +633,18 @@ public class P2POptions {
       fallbackValue = "true")
   private boolean yamuxEnabled = NetworkConfig.DEFAULT_YAMUX_ENABLED;
 
+  @Option(
+      names = {"--Xp2p-pooled-direct-buffers-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Allocates libp2p connection buffers from a pooled off-heap allocator instead of"
+              + " Netty's default allocator",
+      arity = "0..1",
+      hidden = true,
+      fallbackValue = "true")
+  private boolean pooledDirectBuffersEnabled = NetworkConfig.DEFAULT_POOLED_DIRECT_BUFFERS_ENABLED;
+
   // More about flood publishing
   // https://github.com/libp2p/specs/blob/master/pubsub/gossipsub/gossipsub-v1.1.md#flood-publishing
   @Option(
@@ -620,6 +679,18 @@ public class P2POptions {
   private int dasPublishWithholdColumnsEverySlots =
       P2PConfig.DEFAULT_DAS_PUBLISH_WITHHOLD_COLUMNS_EVERY_SLOTS;
 
+  @Option(
+      names = {"--Xdas-publish-upload-bandwidth-mbps"},
+      paramLabel = "<NUMBER>",
+      description =
+          "Upload bandwidth in Mbps available for publishing locally produced data column sidecars."
+              + " Sidecars for subnets with the fewest peers are sent first and spaced so each"
+              + " completes before the next starts. Set to 0 to publish all sidecars at once.",
+      arity = "1",
+      showDefaultValue = Visibility.ALWAYS,
+      hidden = true)
+  private int dasPublishUploadBandwidthMbps = P2PConfig.DEFAULT_DAS_PUBLISH_UPLOAD_BANDWIDTH_MBPS;
+
   @Option(
       names = {"--Xdas-disable-el-recovery"},
       hidden = true,
@@ -763,10 +834,12 @@ public class P2POptions {
                   .peerBlobSidecarsRateLimit(peerBlobSidecarsRateLimit)
                   .allTopicsFilterEnabled(allTopicsFilterEnabled)
                   .peerRequestLimit(peerRequestLimit)
+                  .inboundRequestMaxConcurrency(inboundRequestMaxConcurrency)
                   .floodPublishMaxMessageSizeThreshold(floodPublishMaxMessageSizeThreshold)
                   .gossipBlobsAfterBlockEnabled(gossipBlobsAfterBlockEnabled)
                   .custodyGroupCountOverride(custodyGroupCountOverride)
                   .dasPublishWithholdColumnsEverySlots(dasPublishWithholdColumnsEverySlots)
+                  .dasPublishUploadBandwidthMbps(dasPublishUploadBandwidthMbps)
                   .dasDisableElRecovery(dasDisableElRecovery)
                   .historicalDataMaxConcurrentQueries(historicalDataMaxConcurrentQueries)
                   .historicalDataMaxQueryQueueSize(historicalDataMaxQueryQueueSize)
@@ -813,7 +886,8 @@ public class P2POptions {
               }
               d.isDiscoveryEnabled(p2pDiscoveryEnabled)
                   .staticPeers(getStaticPeersList())
-                  .siteLocalAddressesEnabled(siteLocalAddressesEnabled);
+                  .siteLocalAddressesEnabled(siteLocalAddressesEnabled)
+                  .enrCacheSize(discoveryEnrCacheSize);
             })
         .network(
             n -> {
@@ -855,7 +929,8 @@ public class P2POptions {
                   .advertisedIps(Optional.ofNullable(p2pAdvertisedIps))
                   .yamuxEnabled(yamuxEnabled)
                   .quicEnabled(p2pQuicEnabled)
-                  .tcpEnabled(p2pTcpEnabled);
+                  .tcpEnabled(p2pTcpEnabled)
+                  .pooledDirectBuffersEnabled(pooledDirectBuffersEnabled);
             })
         .sync(
             s ->
@@ -865,6 +940,8 @@ public class P2POptions {
                     .forwardSyncMaxBlobSidecarsPerMinute(forwardSyncBlobSidecarsRateLimit)
                     .forwardSyncBatchSize(forwardSyncBatchSize)
                     .forwardSyncMaxPendingBatches(forwardSyncMaxPendingBatches)
+                    .forwardSyncExecutionPayloadLookAhead(forwardSyncExecutionPayloadLookAhead)
+                    .forwardSyncThroughputAwareEnabled(forwardSyncThroughputAwareEnabled)
                     .forwardSyncMaxDistanceFromHead(forwardSyncMaxDistanceFromHead)
                     .maxRecentlySampledBlocks(maxConcurrentlySampledBlocks));
 
@@ -68,6 +68,17 @@ public class StoreOptions {
       arity = "1")
   private String initialCanonicalBlockRoot;
 
+  @Option(
+      hidden = true,
+      names = {"--Xstore-state-tree-interning-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Deduplicate identical parts of cached states, such as the validator registry, which were"
+              + " loaded or regenerated separately",
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean stateTreeInterningEnabled = StoreConfig.DEFAULT_STATE_TREE_INTERNING_ENABLED;
+
   public void configure(final TekuConfiguration.Builder builder) {
     builder.store(
         b ->
@@ -76,6 +87,7 @@ public class StoreOptions {
                 .stateCacheSize(stateCacheSize)
                 .epochStateCacheSize(epochStateCacheSize)
                 .checkpointStateCacheSize(checkpointStateCacheSize)
-                .initialCanonicalBlockRoot(initialCanonicalBlockRoot));
+                .initialCanonicalBlockRoot(initialCanonicalBlockRoot)
+                .stateTreeInterningEnabled(stateTreeInterningEnabled));
   }
 }
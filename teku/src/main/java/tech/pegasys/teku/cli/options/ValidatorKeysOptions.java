@@ -104,6 +104,18 @@ public class ValidatorKeysOptions {
   private int validatorExternalSignerConcurrentRequestLimit =
       ValidatorConfig.DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT;
 
+  @CommandLine.Option(
+      names = {"--Xvalidators-external-signer-bulk-signing-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Send all requests to the external signer through a prioritised queue over persistent HTTP/2 connections, adapting the number of concurrent requests (up to the concurrent limit) to the signer's response times.",
+      hidden = true,
+      showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
+      arity = "0..1",
+      fallbackValue = "true")
+  private boolean validatorExternalSignerBulkSigningEnabled =
+      ValidatorConfig.DEFAULT_VALIDATOR_EXTERNAL_SIGNER_BULK_SIGNING_ENABLED;
+
   public void configure(final TekuConfiguration.Builder builder) {
     builder.validator(
         config ->
@@ -113,6 +125,8 @@ public class ValidatorKeysOptions {
                 .validatorExternalSignerUrl(parseValidatorExternalSignerUrl())
                 .validatorExternalSignerConcurrentRequestLimit(
                     validatorExternalSignerConcurrentRequestLimit)
+                .validatorExternalSignerBulkSigningEnabled(
+                    validatorExternalSignerBulkSigningEnabled)
                 .validatorExternalSignerTimeout(Duration.ofMillis(validatorExternalSignerTimeout))
                 .validatorExternalSignerKeystore(convertToPath(validatorExternalSignerKeystore))
                 .validatorExternalSignerKeystorePasswordFile(
@@ -15,6 +15,7 @@ package tech.pegasys.teku.cli.options;
 
 import static tech.pegasys.teku.networks.Eth2NetworkConfiguration.DEFAULT_VALIDATOR_EXECUTOR_THREADS;
 import static tech.pegasys.teku.validator.api.ValidatorConfig.DEFAULT_DOPPELGANGER_DETECTION_ENABLED;
+import static tech.pegasys.teku.validator.api.ValidatorConfig.DEFAULT_LOCAL_SLASHING_PROTECTION_GROUP_COMMIT_ENABLED;
 import static tech.pegasys.teku.validator.api.ValidatorConfig.DEFAULT_SHUTDOWN_WHEN_VALIDATOR_SLASHED_ENABLED;
 import static tech.pegasys.teku.validator.api.ValidatorConfig.DEFAULT_VALIDATOR_IS_LOCAL_SLASHING_PROTECTION_SYNCHRONIZED_ENABLED;
 
@@ -179,6 +180,18 @@ public class ValidatorOptions {
   private boolean isLocalSlashingProtectionSynchronizedEnabled =
       DEFAULT_VALIDATOR_IS_LOCAL_SLASHING_PROTECTION_SYNCHRONIZED_ENABLED;
 
+  @Option(
+      names = {"--Xvalidator-local-slashing-protection-group-commit-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Store local slashing protection records in a single log file, flushing concurrent updates to disk together.",
+      showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
+      hidden = true,
+      arity = "0..1",
+      fallbackValue = "true")
+  private boolean localSlashingProtectionGroupCommitEnabled =
+      DEFAULT_LOCAL_SLASHING_PROTECTION_GROUP_COMMIT_ENABLED;
+
   @Option(
       names = {"--shut-down-when-validator-slashed-enabled"},
       paramLabel = "<BOOLEAN>",
@@ -199,6 +212,8 @@ public class ValidatorOptions {
                     validatorExternalSignerSlashingProtectionEnabled)
                 .isLocalSlashingProtectionSynchronizedModeEnabled(
                     isLocalSlashingProtectionSynchronizedEnabled)
+                .localSlashingProtectionGroupCommitEnabled(
+                    localSlashingProtectionGroupCommitEnabled)
                 .graffitiProvider(
                     new FileBackedGraffitiProvider(
                         Optional.ofNullable(graffiti), Optional.ofNullable(graffitiFile)))
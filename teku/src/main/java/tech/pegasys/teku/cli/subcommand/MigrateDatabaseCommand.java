@@ -103,6 +103,14 @@ public class MigrateDatabaseCommand implements Runnable {
       arity = "1")
   private Integer batchSize = 100;
 
+  @CommandLine.Option(
+      names = {"--Xthreads"},
+      paramLabel = "<integer>",
+      hidden = true,
+      description = "Number of columns to copy concurrently (Default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private Integer threads = DatabaseMigrater.DEFAULT_THREADS;
+
   private DataDirLayout dataDirLayout;
 
   // OVERVIEW
@@ -120,6 +128,8 @@ public class MigrateDatabaseCommand implements Runnable {
   // If the process fails to complete, may be left with 'beacon.new',
   // and 'beacon' will have the previous working database in it, so the user
   // could start teku again on the old working database.
+  // Progress is checkpointed in 'beacon.new', so running the same migration
+  // again resumes copying rather than starting over.
   @Override
   public void run() {
     // validate output format
@@ -152,6 +162,7 @@ public class MigrateDatabaseCommand implements Runnable {
             .network(network)
             .storageMode(dataStorageMode)
             .batchSize(batchSize)
+            .threads(threads)
             .statusUpdater(SUB_COMMAND_LOG::display)
             .build();
 
@@ -166,7 +177,9 @@ public class MigrateDatabaseCommand implements Runnable {
       SUB_COMMAND_LOG.error("FAILED to migrate database: " + error.getMessage());
       SUB_COMMAND_LOG.display(
           "There is a partially created database at: " + dbMigrater.getNewBeaconFolderPath());
-      SUB_COMMAND_LOG.display("This is not in use and could be cleaned up.");
+      SUB_COMMAND_LOG.display(
+          "Running the same migration again will resume from where it stopped, "
+              + "or it is not in use and could be cleaned up.");
       System.exit(1);
     }
   }
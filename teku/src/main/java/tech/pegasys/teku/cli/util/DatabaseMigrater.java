@@ -17,6 +17,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
@@ -37,11 +38,17 @@ import tech.pegasys.teku.storage.server.StateStorageMode;
 import tech.pegasys.teku.storage.server.StorageConfiguration;
 import tech.pegasys.teku.storage.server.VersionedDatabaseFactory;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreDatabase;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.MigrationCheckpoint;
 
 public class DatabaseMigrater {
+  public static final int DEFAULT_THREADS =
+      Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+  static final String CHECKPOINT_FILE_NAME = "migration-progress.properties";
+
   private final DataDirLayout dataDirLayout;
   private final Consumer<String> statusUpdater;
   private final int batchSize;
+  private final int threads;
   private final Spec spec;
   private final String network;
   private final StateStorageMode storageMode;
@@ -58,6 +65,7 @@ public class DatabaseMigrater {
   }
 
   private KvStoreDatabase newDatabase;
+  private MigrationCheckpoint checkpoint = MigrationCheckpoint.inMemory();
 
   private DatabaseMigrater(
       final DataDirLayout dataDirLayout,
@@ -65,12 +73,14 @@ public class DatabaseMigrater {
       final StateStorageMode storageMode,
       final Spec spec,
       final int batchSize,
+      final int threads,
       final Consumer<String> statusUpdater) {
     this.dataDirLayout = dataDirLayout;
     this.network = network;
     this.storageMode = storageMode;
     this.spec = spec;
     this.batchSize = batchSize;
+    this.threads = threads;
     this.statusUpdater = statusUpdater;
   }
 
@@ -81,9 +91,17 @@ public class DatabaseMigrater {
   public void migrateDatabase(
       final DatabaseVersion sourceDatabaseVersion, final DatabaseVersion targetDatabaseVersion)
       throws DatabaseMigraterError {
+    final String description =
+        String.format(
+            "%s -> %s (%s)",
+            sourceDatabaseVersion.getValue(), targetDatabaseVersion.getValue(), storageMode);
     try {
-      duplicateBeaconFolderContents();
-    } catch (IOException ex) {
+      if (!loadCheckpoint(description)) {
+        duplicateBeaconFolderContents();
+        checkpoint = MigrationCheckpoint.load(getCheckpointPath());
+        checkpoint.setDescription(description);
+      }
+    } catch (IOException | UncheckedIOException ex) {
       throw new DatabaseMigraterError(
           "Failed to create new database structure: " + ex.getMessage());
     }
@@ -94,10 +112,36 @@ public class DatabaseMigrater {
     migrateData();
 
     closeDatabases();
+    try {
+      Files.deleteIfExists(getCheckpointPath());
+    } catch (IOException ex) {
+      throw new DatabaseMigraterError("Failed to remove migration checkpoint: " + ex.getMessage());
+    }
     statusUpdater.accept("Swapping new database to be active");
     swapActiveDatabase();
   }
 
+  /**
+   * Loads the progress of an earlier, interrupted, run of the same migration so it can be resumed.
+   *
+   * @return true if the existing partially migrated database will be reused
+   */
+  @VisibleForTesting
+  boolean loadCheckpoint(final String description) {
+    final Path checkpointPath = getCheckpointPath();
+    if (!Files.exists(checkpointPath)) {
+      return false;
+    }
+    final MigrationCheckpoint existingCheckpoint = MigrationCheckpoint.load(checkpointPath);
+    if (!existingCheckpoint.getDescription().equals(Optional.of(description))) {
+      statusUpdater.accept("Discarding progress from a different incomplete migration");
+      return false;
+    }
+    statusUpdater.accept("Resuming incomplete migration into " + getNewBeaconFolderPath());
+    checkpoint = existingCheckpoint;
+    return true;
+  }
+
   @VisibleForTesting
   void openDatabases(
       final DatabaseVersion sourceDatabaseVersion, final DatabaseVersion targetDatabaseVersion)
@@ -169,7 +213,7 @@ public class DatabaseMigrater {
   @VisibleForTesting
   void migrateData() throws DatabaseMigraterError {
     try {
-      newDatabase.ingestDatabase(originalDatabase, batchSize, statusUpdater);
+      newDatabase.ingestDatabase(originalDatabase, batchSize, threads, checkpoint, statusUpdater);
     } catch (Exception ex) {
       throw new DatabaseMigraterError(
           "Failed to migrate data into the new database: " + ex.getCause(), ex);
@@ -210,8 +254,13 @@ public class DatabaseMigrater {
     return dataDirLayout.getBeaconDataDirectory().getParent().resolve("beacon.new");
   }
 
+  private Path getCheckpointPath() {
+    return getNewBeaconFolderPath().resolve(CHECKPOINT_FILE_NAME);
+  }
+
   public static class Builder {
     private int batchSize = 500;
+    private int threads = DEFAULT_THREADS;
     private DataDirLayout dataDirLayout;
     private Consumer<String> statusUpdater;
     private String network;
@@ -233,6 +282,14 @@ public class DatabaseMigrater {
       return this;
     }
 
+    public Builder threads(final int threads) {
+      if (threads < 1) {
+        throw new InvalidConfigurationException(String.format("Invalid threads: %d", threads));
+      }
+      this.threads = threads;
+      return this;
+    }
+
     public Builder dataDirLayout(final DataDirLayout dataDirLayout) {
       this.dataDirLayout = dataDirLayout;
       return this;
@@ -265,7 +322,7 @@ public class DatabaseMigrater {
       checkNotNull(dataDirLayout);
       checkNotNull(spec);
       return new DatabaseMigrater(
-          dataDirLayout, network, storageMode, spec, batchSize, statusUpdater);
+          dataDirLayout, network, storageMode, spec, batchSize, threads, statusUpdater);
     }
   }
 }
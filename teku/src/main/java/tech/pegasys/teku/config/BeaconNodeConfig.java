@@ -13,7 +13,12 @@
 
 package tech.pegasys.teku.config;
 
-public record BeaconNodeConfig(boolean eventChannelVirtualThreadsEnabled) {
+import java.util.Map;
+import tech.pegasys.teku.infrastructure.events.RingBufferDeliveryConfig;
+
+public record BeaconNodeConfig(
+    boolean eventChannelVirtualThreadsEnabled,
+    Map<String, RingBufferDeliveryConfig> eventChannelRingBufferConfigs) {
 
   public static final boolean DEFAULT_EVENT_CHANNEL_VIRTUAL_THREADS_ENABLED = false;
 
@@ -25,6 +30,7 @@ public record BeaconNodeConfig(boolean eventChannelVirtualThreadsEnabled) {
 
     private boolean eventChannelVirtualThreadsEnabled =
         DEFAULT_EVENT_CHANNEL_VIRTUAL_THREADS_ENABLED;
+    private Map<String, RingBufferDeliveryConfig> eventChannelRingBufferConfigs = Map.of();
 
     public Builder eventChannelVirtualThreadsEnabled(
         final boolean eventChannelVirtualThreadsEnabled) {
@@ -32,8 +38,15 @@ public record BeaconNodeConfig(boolean eventChannelVirtualThreadsEnabled) {
       return this;
     }
 
+    public Builder eventChannelRingBufferConfigs(
+        final Map<String, RingBufferDeliveryConfig> eventChannelRingBufferConfigs) {
+      this.eventChannelRingBufferConfigs = eventChannelRingBufferConfigs;
+      return this;
+    }
+
     public BeaconNodeConfig build() {
-      return new BeaconNodeConfig(eventChannelVirtualThreadsEnabled);
+      return new BeaconNodeConfig(
+          eventChannelVirtualThreadsEnabled, Map.copyOf(eventChannelRingBufferConfigs));
     }
   }
 }
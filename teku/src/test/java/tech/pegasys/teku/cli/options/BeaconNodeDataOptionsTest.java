@@ -254,6 +254,92 @@ public class BeaconNodeDataOptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(tekuConfig.storageConfiguration().isRocksdbBlobDbEnabled()).isEqualTo(true);
   }
 
+  @Test
+  void rocksdbBulkLoadEnabled_shouldDefaultToFalse() {
+    final TekuConfiguration tekuConfig = getTekuConfigurationFromArguments();
+    assertThat(tekuConfig.storageConfiguration().isRocksdbBulkLoadEnabled()).isEqualTo(false);
+  }
+
+  @Test
+  void rocksdbBulkLoadEnabled_shouldUseFallbackValue() {
+    final TekuConfiguration tekuConfig =
+        getTekuConfigurationFromArguments("--Xdata-storage-rocksdb-bulk-load-enabled");
+    assertThat(tekuConfig.storageConfiguration().isRocksdbBulkLoadEnabled()).isEqualTo(true);
+  }
+
+  @Test
+  void stateDiffsEnabled_shouldDefaultToFalse() {
+    final TekuConfiguration tekuConfig = getTekuConfigurationFromArguments();
+    assertThat(tekuConfig.storageConfiguration().isStateDiffsEnabled()).isEqualTo(false);
+  }
+
+  @Test
+  void stateDiffsEnabled_shouldUseFallbackValue() {
+    final TekuConfiguration tekuConfig =
+        getTekuConfigurationFromArguments("--Xdata-storage-state-diffs-enabled");
+    assertThat(tekuConfig.storageConfiguration().isStateDiffsEnabled()).isEqualTo(true);
+  }
+
+  @Test
+  void storeSnapshotEnabled_shouldDefaultToFalse() {
+    final TekuConfiguration tekuConfig = getTekuConfigurationFromArguments();
+    assertThat(tekuConfig.storageConfiguration().isStoreSnapshotEnabled()).isEqualTo(false);
+  }
+
+  @Test
+  void storeSnapshotEnabled_shouldUseFallbackValue() {
+    final TekuConfiguration tekuConfig =
+        getTekuConfigurationFromArguments("--Xdata-storage-store-snapshot-enabled");
+    assertThat(tekuConfig.storageConfiguration().isStoreSnapshotEnabled()).isEqualTo(true);
+  }
+
+  @Test
+  void finalizedDataPath_shouldDefaultToEmpty() {
+    final TekuConfiguration tekuConfig = getTekuConfigurationFromArguments();
+    assertThat(tekuConfig.storageConfiguration().getFinalizedDataPath()).isEmpty();
+  }
+
+  @Test
+  void finalizedDataPath_shouldBeSet() {
+    final TekuConfiguration tekuConfig =
+        getTekuConfigurationFromArguments("--Xdata-storage-finalized-path", "/mnt/cold/teku");
+    assertThat(tekuConfig.storageConfiguration().getFinalizedDataPath())
+        .contains(Path.of("/mnt/cold/teku"));
+  }
+
+  @Test
+  void groupCommitEnabled_shouldDefaultToFalse() {
+    final TekuConfiguration tekuConfig = getTekuConfigurationFromArguments();
+    assertThat(tekuConfig.storageConfiguration().isGroupCommitEnabled()).isEqualTo(false);
+  }
+
+  @Test
+  void groupCommitEnabled_shouldUseFallbackValue() {
+    final TekuConfiguration tekuConfig =
+        getTekuConfigurationFromArguments("--Xdata-storage-group-commit-enabled");
+    assertThat(tekuConfig.storageConfiguration().isGroupCommitEnabled()).isEqualTo(true);
+  }
+
+  @Test
+  void groupCommitMaxBatchSize_shouldBeSet() {
+    final TekuConfiguration tekuConfig =
+        getTekuConfigurationFromArguments("--Xdata-storage-group-commit-max-batch-size", "8");
+    assertThat(tekuConfig.storageConfiguration().getGroupCommitMaxBatchSize()).isEqualTo(8);
+  }
+
+  @Test
+  void slowQueryThreshold_shouldDefaultToDisabled() {
+    final TekuConfiguration tekuConfig = getTekuConfigurationFromArguments();
+    assertThat(tekuConfig.storageConfiguration().getSlowQueryThresholdMillis()).isZero();
+  }
+
+  @Test
+  void slowQueryThreshold_shouldBeSet() {
+    final TekuConfiguration tekuConfig =
+        getTekuConfigurationFromArguments("--Xdata-storage-slow-query-threshold", "250");
+    assertThat(tekuConfig.storageConfiguration().getSlowQueryThresholdMillis()).isEqualTo(250);
+  }
+
   @Test
   void forceClearDb_shouldDefaultToFalse() {
     final TekuConfiguration tekuConfig = getTekuConfigurationFromArguments();
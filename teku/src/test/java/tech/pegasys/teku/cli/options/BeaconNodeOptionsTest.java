@@ -14,10 +14,14 @@
 package tech.pegasys.teku.cli.options;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.cli.AbstractBeaconNodeCommandTest;
 import tech.pegasys.teku.config.TekuConfiguration;
+import tech.pegasys.teku.infrastructure.events.RingBufferDeliveryConfig;
+import tech.pegasys.teku.infrastructure.events.RingBufferDeliveryConfig.BackpressurePolicy;
+import tech.pegasys.teku.infrastructure.events.RingBufferDeliveryConfig.WaitStrategy;
 
 class BeaconNodeOptionsTest extends AbstractBeaconNodeCommandTest {
 
@@ -47,4 +51,41 @@ class BeaconNodeOptionsTest extends AbstractBeaconNodeCommandTest {
         getTekuConfigurationFromArguments("--Xevent-channel-virtual-threads-enabled=false");
     assertThat(config.beaconNodeConfig().eventChannelVirtualThreadsEnabled()).isFalse();
   }
+
+  @Test
+  void eventChannelRingBuffers_shouldDefaultToEmpty() {
+    final TekuConfiguration config = getTekuConfigurationFromArguments();
+    assertThat(config.beaconNodeConfig().eventChannelRingBufferConfigs()).isEmpty();
+  }
+
+  @Test
+  void eventChannelRingBuffers_shouldParseChannelsAndPolicies() {
+    final TekuConfiguration config =
+        getTekuConfigurationFromArguments(
+            "--Xevent-channel-ring-buffer=BlockImportChannel,ReceivedBlockEventsChannel:coalesce",
+            "--Xevent-channel-ring-buffer-wait-strategy=SLEEPING",
+            "--Xevent-channel-ring-buffer-capacity=256");
+    assertThat(config.beaconNodeConfig().eventChannelRingBufferConfigs())
+        .containsOnly(
+            entry(
+                "BlockImportChannel",
+                RingBufferDeliveryConfig.builder()
+                    .capacity(256)
+                    .waitStrategy(WaitStrategy.SLEEPING)
+                    .build()),
+            entry(
+                "ReceivedBlockEventsChannel",
+                RingBufferDeliveryConfig.builder()
+                    .capacity(256)
+                    .waitStrategy(WaitStrategy.SLEEPING)
+                    .backpressurePolicy(BackpressurePolicy.COALESCE)
+                    .build()));
+  }
+
+  @Test
+  void eventChannelRingBuffers_shouldRejectUnknownPolicy() {
+    beaconNodeCommand.parse(new String[] {"--Xevent-channel-ring-buffer=BlockImportChannel:LIFO"});
+    assertThat(getCommandLineOutput())
+        .contains("Invalid event channel backpressure policy: LIFO");
+  }
 }
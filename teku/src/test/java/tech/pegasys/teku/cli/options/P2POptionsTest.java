@@ -504,6 +504,88 @@ public class P2POptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(tekuConfiguration.sync().getForwardSyncMaxPendingBatches()).isEqualTo(10);
   }
 
+  @Test
+  public void forwardSyncExecutionPayloadLookAhead_shouldDefaultToDisabled() {
+    TekuConfiguration tekuConfiguration = getTekuConfigurationFromArguments();
+    assertThat(tekuConfiguration.sync().getForwardSyncExecutionPayloadLookAhead()).isZero();
+  }
+
+  @Test
+  public void forwardSyncExecutionPayloadLookAhead_shouldBeSettable() {
+    TekuConfiguration tekuConfiguration =
+        getTekuConfigurationFromArguments("--Xp2p-sync-execution-payload-look-ahead", "4");
+    assertThat(tekuConfiguration.sync().getForwardSyncExecutionPayloadLookAhead()).isEqualTo(4);
+  }
+
+  @Test
+  public void forwardSyncThroughputAwareEnabled_shouldDefaultToFalse() {
+    TekuConfiguration tekuConfiguration = getTekuConfigurationFromArguments();
+    assertThat(tekuConfiguration.sync().isForwardSyncThroughputAwareEnabled()).isFalse();
+  }
+
+  @Test
+  public void forwardSyncThroughputAwareEnabled_shouldBeSettable() {
+    TekuConfiguration tekuConfiguration =
+        getTekuConfigurationFromArguments("--Xp2p-sync-throughput-aware-enabled");
+    assertThat(tekuConfiguration.sync().isForwardSyncThroughputAwareEnabled()).isTrue();
+  }
+
+  @Test
+  public void discoveryEnrCacheSize_shouldDefaultToDisabled() {
+    TekuConfiguration tekuConfiguration = getTekuConfigurationFromArguments();
+    assertThat(tekuConfiguration.discovery().getEnrCacheSize()).isZero();
+  }
+
+  @Test
+  public void discoveryEnrCacheSize_shouldBeSettable() {
+    TekuConfiguration tekuConfiguration =
+        getTekuConfigurationFromArguments("--Xp2p-discovery-enr-cache-size", "10000");
+    assertThat(tekuConfiguration.discovery().getEnrCacheSize()).isEqualTo(10000);
+  }
+
+  @Test
+  public void inboundRequestMaxConcurrency_shouldBeDisabledByDefault() {
+    TekuConfiguration tekuConfiguration = getTekuConfigurationFromArguments();
+    assertThat(tekuConfiguration.p2p().getInboundRequestMaxConcurrency()).isZero();
+  }
+
+  @Test
+  public void inboundRequestMaxConcurrency_shouldBeSettable() {
+    TekuConfiguration tekuConfiguration =
+        getTekuConfigurationFromArguments("--Xp2p-inbound-request-max-concurrency", "8");
+    assertThat(tekuConfiguration.p2p().getInboundRequestMaxConcurrency()).isEqualTo(8);
+  }
+
+  @Test
+  public void inboundRequestMaxConcurrency_mustNotBeNegative() {
+    assertThatThrownBy(
+            () ->
+                getTekuConfigurationFromArguments("--Xp2p-inbound-request-max-concurrency", "-1"))
+        .isInstanceOf(AssertionError.class)
+        .hasMessageContaining("Invalid inboundRequestMaxConcurrency: -1");
+  }
+
+  @Test
+  public void dasPublishUploadBandwidthMbps_shouldBeDisabledByDefault() {
+    TekuConfiguration tekuConfiguration = getTekuConfigurationFromArguments();
+    assertThat(tekuConfiguration.p2p().getDasPublishUploadBandwidthMbps()).isZero();
+  }
+
+  @Test
+  public void dasPublishUploadBandwidthMbps_shouldBeSettable() {
+    TekuConfiguration tekuConfiguration =
+        getTekuConfigurationFromArguments("--Xdas-publish-upload-bandwidth-mbps", "100");
+    assertThat(tekuConfiguration.p2p().getDasPublishUploadBandwidthMbps()).isEqualTo(100);
+  }
+
+  @Test
+  public void dasPublishUploadBandwidthMbps_mustNotBeNegative() {
+    assertThatThrownBy(
+            () -> getTekuConfigurationFromArguments("--Xdas-publish-upload-bandwidth-mbps", "-1"))
+        .isInstanceOf(AssertionError.class)
+        .hasMessageContaining("Invalid dasPublishUploadBandwidthMbps: -1");
+  }
+
   @Test
   public void forwardSyncBlocksRateLimit_shouldBeSettable() {
     TekuConfiguration tekuConfiguration =
@@ -640,6 +722,19 @@ public class P2POptionsTest extends AbstractBeaconNodeCommandTest {
         .isEqualTo(1000);
   }
 
+  @Test
+  public void pooledDirectBuffersEnabled_shouldDefaultToFalse() {
+    final TekuConfiguration config = getTekuConfigurationFromArguments();
+    assertThat(config.network().isPooledDirectBuffersEnabled()).isFalse();
+  }
+
+  @Test
+  public void pooledDirectBuffersEnabled_shouldNotRequireAValue() {
+    final TekuConfiguration config =
+        getTekuConfigurationFromArguments("--Xp2p-pooled-direct-buffers-enabled");
+    assertThat(config.network().isPooledDirectBuffersEnabled()).isTrue();
+  }
+
   @Test
   public void gossipBlobsAfterBlockEnabled_defaultIsSetCorrectly() {
     final TekuConfiguration config = getTekuConfigurationFromArguments();
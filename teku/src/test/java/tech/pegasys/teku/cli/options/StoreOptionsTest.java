@@ -62,4 +62,20 @@ public class StoreOptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(output).isNotEmpty();
     assertThat(output).contains("Invalid value");
   }
+
+  @Test
+  public void stateTreeInterning_shouldBeDisabledByDefault() {
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments().beaconChain().storeConfig();
+    assertThat(globalConfiguration.isStateTreeInterningEnabled()).isFalse();
+  }
+
+  @Test
+  public void stateTreeInterning_shouldBeEnabledWithoutValue() {
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments("--Xstore-state-tree-interning-enabled")
+            .beaconChain()
+            .storeConfig();
+    assertThat(globalConfiguration.isStateTreeInterningEnabled()).isTrue();
+  }
 }
@@ -14,6 +14,7 @@
 package tech.pegasys.teku.cli.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assumptions.assumeThat;
 import static org.mockito.Mockito.mock;
 
@@ -22,8 +23,14 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.apache.commons.io.FileUtils;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -34,12 +41,19 @@ import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockAndState;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.storage.server.DatabaseVersion;
 import tech.pegasys.teku.storage.server.StateStorageMode;
+import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreDatabase;
 import tech.pegasys.teku.storage.server.kvstore.TestKvStoreDatabase;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao.HotUpdater;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.MigrationCheckpoint;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4MigratableSourceDao;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
 
 public class DatabaseMigraterTest {
 
@@ -167,6 +181,192 @@ public class DatabaseMigraterTest {
     migrater.closeDatabases();
   }
 
+  @Test
+  void shouldMigrateGeneratedDatabaseInParallel(@TempDir final Path tmpDir) throws Exception {
+    final DataDirLayout dataDirLayout = prepareTempDir(tmpDir, "5");
+    final DatabaseMigrater migrater = getDatabaseMigrater(dataDirLayout, 4);
+    migrater.openDatabases(DatabaseVersion.V5, DatabaseVersion.LEVELDB2);
+    final TestKvStoreDatabase originalDb = new TestKvStoreDatabase(migrater.getOriginalDatabase());
+    populateDatabase(originalDb);
+
+    migrater.migrateData();
+
+    final TestKvStoreDatabase newDb = new TestKvStoreDatabase(migrater.getNewDatabase());
+    assertColumnsMatch(originalDb, newDb);
+    migrater.closeDatabases();
+  }
+
+  @Test
+  void shouldResumeColumnCopyAfterLastCopiedKey(@TempDir final Path tmpDir) throws Exception {
+    final DataDirLayout dataDirLayout = prepareTempDir(tmpDir, "5");
+    final DatabaseMigrater migrater = getDatabaseMigrater(dataDirLayout, 2);
+    migrater.openDatabases(DatabaseVersion.V5, DatabaseVersion.LEVELDB2);
+    final TestKvStoreDatabase originalDb = new TestKvStoreDatabase(migrater.getOriginalDatabase());
+    populateDatabase(originalDb);
+    final V4MigratableSourceDao originalDao = (V4MigratableSourceDao) originalDb.getHotDao();
+    final List<ColumnEntry<Bytes, Bytes>> originalVotes =
+        getRawEntries(originalDao, originalDao.getColumnMap().get("VOTES"));
+
+    // Simulate an interrupted migration which had copied the variables, the first vote and every
+    // other column
+    final Path checkpointFile = tmpDir.resolve(DatabaseMigrater.CHECKPOINT_FILE_NAME);
+    final MigrationCheckpoint checkpoint =
+        createInterruptedVotesCheckpoint(
+            checkpointFile, originalDao, originalVotes.get(0).getKey());
+
+    final KvStoreDatabase newDatabase = migrater.getNewDatabase();
+    newDatabase.ingestDatabase(migrater.getOriginalDatabase(), 100, 2, checkpoint, logger);
+
+    final V4MigratableSourceDao newDao =
+        (V4MigratableSourceDao) new TestKvStoreDatabase(newDatabase).getHotDao();
+    assertThat(getRawEntries(newDao, newDao.getColumnMap().get("VOTES")))
+        .containsExactlyElementsOf(originalVotes.subList(1, originalVotes.size()));
+    assertThat(newDao.getRawVariable(newDao.getVariableMap().get("GENESIS_TIME"))).isEmpty();
+    assertThat(MigrationCheckpoint.load(checkpointFile).isComplete("VOTES")).isTrue();
+    migrater.closeDatabases();
+  }
+
+  @Test
+  void shouldResumeColumnCopyWhenLastCopiedKeyIsMissingFromSource(@TempDir final Path tmpDir)
+      throws Exception {
+    final DataDirLayout dataDirLayout = prepareTempDir(tmpDir, "5");
+    final DatabaseMigrater migrater = getDatabaseMigrater(dataDirLayout, 2);
+    migrater.openDatabases(DatabaseVersion.V5, DatabaseVersion.LEVELDB2);
+    final TestKvStoreDatabase originalDb = new TestKvStoreDatabase(migrater.getOriginalDatabase());
+    populateDatabase(originalDb);
+    final V4MigratableSourceDao originalDao = (V4MigratableSourceDao) originalDb.getHotDao();
+    final List<ColumnEntry<Bytes, Bytes>> originalVotes =
+        getRawEntries(originalDao, originalDao.getColumnMap().get("VOTES"));
+
+    // A key which sorts between the first and second votes but was never in the source
+    final Bytes missingKey = Bytes.concatenate(originalVotes.get(0).getKey(), Bytes.of(0));
+    final Path checkpointFile = tmpDir.resolve(DatabaseMigrater.CHECKPOINT_FILE_NAME);
+    final MigrationCheckpoint checkpoint =
+        createInterruptedVotesCheckpoint(checkpointFile, originalDao, missingKey);
+
+    final KvStoreDatabase newDatabase = migrater.getNewDatabase();
+    newDatabase.ingestDatabase(migrater.getOriginalDatabase(), 100, 2, checkpoint, logger);
+
+    final V4MigratableSourceDao newDao =
+        (V4MigratableSourceDao) new TestKvStoreDatabase(newDatabase).getHotDao();
+    assertThat(getRawEntries(newDao, newDao.getColumnMap().get("VOTES")))
+        .containsExactlyElementsOf(originalVotes.subList(1, originalVotes.size()));
+    migrater.closeDatabases();
+  }
+
+  @Test
+  void shouldDiscardCheckpointWhenSourceDatabaseHasChanged(@TempDir final Path tmpDir)
+      throws Exception {
+    final DataDirLayout dataDirLayout = prepareTempDir(tmpDir, "5");
+    final DatabaseMigrater migrater = getDatabaseMigrater(dataDirLayout, 2);
+    migrater.openDatabases(DatabaseVersion.V5, DatabaseVersion.LEVELDB2);
+    final TestKvStoreDatabase originalDb = new TestKvStoreDatabase(migrater.getOriginalDatabase());
+    populateDatabase(originalDb);
+    final V4MigratableSourceDao originalDao = (V4MigratableSourceDao) originalDb.getHotDao();
+    final List<ColumnEntry<Bytes, Bytes>> originalVotes =
+        getRawEntries(originalDao, originalDao.getColumnMap().get("VOTES"));
+    final Path checkpointFile = tmpDir.resolve(DatabaseMigrater.CHECKPOINT_FILE_NAME);
+    final MigrationCheckpoint checkpoint =
+        createInterruptedVotesCheckpoint(
+            checkpointFile, originalDao, originalVotes.get(0).getKey());
+    checkpoint.setDescription("5 -> leveldb2 (ARCHIVE)");
+
+    // A node ran on the source database after the migration was interrupted
+    try (final HotUpdater updater = originalDb.hotUpdater()) {
+      updater.setFinalizedCheckpoint(dataStructureUtil.randomCheckpoint());
+      updater.commit();
+    }
+
+    final KvStoreDatabase newDatabase = migrater.getNewDatabase();
+    assertThatThrownBy(
+            () ->
+                newDatabase.ingestDatabase(
+                    migrater.getOriginalDatabase(), 100, 2, checkpoint, logger))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("Source database has changed");
+    final MigrationCheckpoint reloaded = MigrationCheckpoint.load(checkpointFile);
+    assertThat(reloaded.isEmpty()).isTrue();
+    assertThat(reloaded.getDescription()).isEmpty();
+    migrater.closeDatabases();
+  }
+
+  @Test
+  void shouldOnlyResumeMatchingMigration(@TempDir final Path tmpDir) throws Exception {
+    final DataDirLayout dataDirLayout = prepareTempDir(tmpDir, "5");
+    final DatabaseMigrater migrater = getDatabaseMigrater(dataDirLayout, 2);
+    assertThat(migrater.loadCheckpoint("5 -> leveldb2 (ARCHIVE)")).isFalse();
+
+    migrater.duplicateBeaconFolderContents();
+    final Path checkpointFile =
+        migrater.getNewBeaconFolderPath().resolve(DatabaseMigrater.CHECKPOINT_FILE_NAME);
+    MigrationCheckpoint.load(checkpointFile).setDescription("5 -> leveldb2 (ARCHIVE)");
+
+    assertThat(migrater.loadCheckpoint("5 -> leveldb1 (ARCHIVE)")).isFalse();
+    assertThat(migrater.loadCheckpoint("5 -> leveldb2 (ARCHIVE)")).isTrue();
+  }
+
+  private MigrationCheckpoint createInterruptedVotesCheckpoint(
+      final Path checkpointFile,
+      final V4MigratableSourceDao originalDao,
+      final Bytes lastCopiedVoteKey) {
+    final MigrationCheckpoint checkpoint = MigrationCheckpoint.load(checkpointFile);
+    checkpoint.setSourceFingerprint(MigrationCheckpoint.calculateSourceFingerprint(originalDao));
+    checkpoint.markComplete("variables");
+    for (String name : originalDao.getColumnMap().keySet()) {
+      if (!name.equals("VOTES")) {
+        checkpoint.markComplete(name);
+      }
+    }
+    checkpoint.recordLastCopiedKey("VOTES", lastCopiedVoteKey);
+    return checkpoint;
+  }
+
+  private void populateDatabase(final TestKvStoreDatabase database) {
+    try (final HotUpdater updater = database.hotUpdater()) {
+      updater.setGenesisTime(dataStructureUtil.randomUInt64());
+      updater.setFinalizedCheckpoint(dataStructureUtil.randomCheckpoint());
+      final Map<UInt64, VoteTracker> votes = new HashMap<>();
+      final Map<Bytes32, SlotAndBlockRoot> stateRoots = new HashMap<>();
+      for (int i = 0; i < 500; i++) {
+        votes.put(UInt64.valueOf(i), dataStructureUtil.randomVoteTracker());
+        stateRoots.put(
+            dataStructureUtil.randomBytes32(), dataStructureUtil.randomSlotAndBlockRoot());
+      }
+      updater.addVotes(votes);
+      updater.addHotStateRoots(stateRoots);
+      for (int i = 0; i < 3; i++) {
+        final BeaconBlockAndState blockAndState = dataStructureUtil.randomBlockAndState(i);
+        updater.addHotState(blockAndState.getRoot(), blockAndState.getState());
+      }
+      updater.commit();
+    }
+  }
+
+  private void assertColumnsMatch(
+      final TestKvStoreDatabase originalDb, final TestKvStoreDatabase newDb) {
+    final V4MigratableSourceDao originalDao = (V4MigratableSourceDao) originalDb.getHotDao();
+    final V4MigratableSourceDao newDao = (V4MigratableSourceDao) newDb.getHotDao();
+    assertThat(newDao.getColumnMap().keySet()).isEqualTo(originalDao.getColumnMap().keySet());
+    for (String name : originalDao.getColumnMap().keySet()) {
+      assertThat(getRawEntries(newDao, newDao.getColumnMap().get(name)))
+          .describedAs("Column %s", name)
+          .containsExactlyElementsOf(
+              getRawEntries(originalDao, originalDao.getColumnMap().get(name)));
+    }
+    for (String name : originalDao.getVariableMap().keySet()) {
+      assertThat(newDao.getRawVariable(newDao.getVariableMap().get(name)))
+          .describedAs("Variable %s", name)
+          .isEqualTo(originalDao.getRawVariable(originalDao.getVariableMap().get(name)));
+    }
+  }
+
+  private List<ColumnEntry<Bytes, Bytes>> getRawEntries(
+      final V4MigratableSourceDao dao, final KvStoreColumn<?, ?> column) {
+    try (final Stream<ColumnEntry<Bytes, Bytes>> entries = dao.streamRawColumn(column)) {
+      return entries.toList();
+    }
+  }
+
   private DataDirLayout prepareTempDir(final Path tempDir, final String dbVersionString)
       throws IOException {
     final Path originalBeaconFolder = tempDir.resolve("beacon");
@@ -188,11 +388,17 @@ public class DatabaseMigraterTest {
   }
 
   private DatabaseMigrater getDatabaseMigrater(final DataDirLayout dataDirLayout) {
+    return getDatabaseMigrater(dataDirLayout, 1);
+  }
+
+  private DatabaseMigrater getDatabaseMigrater(
+      final DataDirLayout dataDirLayout, final int threads) {
     return DatabaseMigrater.builder()
         .dataDirLayout(dataDirLayout)
         .storageMode(StateStorageMode.ARCHIVE)
         .network("minimal")
         .spec(spec)
+        .threads(threads)
         .statusUpdater(logger)
         .build();
   }
@@ -54,10 +54,12 @@ public class ValidatorConfig {
   public static final boolean DEFAULT_SHUTDOWN_WHEN_VALIDATOR_SLASHED_ENABLED = false;
   public static final boolean DEFAULT_VALIDATOR_IS_LOCAL_SLASHING_PROTECTION_SYNCHRONIZED_ENABLED =
       true;
+  public static final boolean DEFAULT_LOCAL_SLASHING_PROTECTION_GROUP_COMMIT_ENABLED = false;
   public static final int DEFAULT_EXECUTOR_MAX_QUEUE_SIZE = 40_000;
   public static final int DEFAULT_EXECUTOR_MAX_QUEUE_SIZE_ALL_SUBNETS = 60_000;
   public static final Duration DEFAULT_VALIDATOR_EXTERNAL_SIGNER_TIMEOUT = Duration.ofSeconds(5);
   public static final int DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT = 32;
+  public static final boolean DEFAULT_VALIDATOR_EXTERNAL_SIGNER_BULK_SIGNING_ENABLED = false;
   public static final boolean DEFAULT_VALIDATOR_KEYSTORE_LOCKING_ENABLED = true;
   public static final boolean DEFAULT_VALIDATOR_EXTERNAL_SIGNER_SLASHING_PROTECTION_ENABLED = true;
   public static final boolean DEFAULT_GENERATE_EARLY_ATTESTATIONS = true;
@@ -87,6 +89,7 @@ public class ValidatorConfig {
   private final boolean validatorKeystoreLockingEnabled;
   private final Optional<List<URI>> beaconNodeApiEndpoints;
   private final int validatorExternalSignerConcurrentRequestLimit;
+  private final boolean validatorExternalSignerBulkSigningEnabled;
   private final boolean generateEarlyAttestations;
   private final Optional<Eth1Address> proposerDefaultFeeRecipient;
   private final Optional<String> proposerConfigSource;
@@ -112,6 +115,7 @@ public class ValidatorConfig {
   private final OptionalInt beaconApiReadinessExecutorThreads;
 
   private final boolean isLocalSlashingProtectionSynchronizedModeEnabled;
+  private final boolean localSlashingProtectionGroupCommitEnabled;
   private final boolean dvtSelectionsEndpointEnabled;
   private final boolean attestationsV2ApisEnabled;
 
@@ -132,6 +136,7 @@ public class ValidatorConfig {
       final boolean validatorKeystoreLockingEnabled,
       final boolean validatorExternalSignerSlashingProtectionEnabled,
       final int validatorExternalSignerConcurrentRequestLimit,
+      final boolean validatorExternalSignerBulkSigningEnabled,
       final boolean generateEarlyAttestations,
       final Optional<Eth1Address> proposerDefaultFeeRecipient,
       final Optional<String> proposerConfigSource,
@@ -154,6 +159,7 @@ public class ValidatorConfig {
       final OptionalInt beaconApiReadinessExecutorThreads,
       final Optional<String> sentryNodeConfigurationFile,
       final boolean isLocalSlashingProtectionSynchronizedModeEnabled,
+      final boolean localSlashingProtectionGroupCommitEnabled,
       final boolean dvtSelectionsEndpointEnabled,
       final boolean attestationsV2ApisEnabled) {
     this.validatorKeys = validatorKeys;
@@ -175,6 +181,7 @@ public class ValidatorConfig {
         validatorExternalSignerSlashingProtectionEnabled;
     this.validatorExternalSignerConcurrentRequestLimit =
         validatorExternalSignerConcurrentRequestLimit;
+    this.validatorExternalSignerBulkSigningEnabled = validatorExternalSignerBulkSigningEnabled;
     this.generateEarlyAttestations = generateEarlyAttestations;
     this.proposerDefaultFeeRecipient = proposerDefaultFeeRecipient;
     this.proposerConfigSource = proposerConfigSource;
@@ -199,6 +206,7 @@ public class ValidatorConfig {
     this.sentryNodeConfigurationFile = sentryNodeConfigurationFile;
     this.isLocalSlashingProtectionSynchronizedModeEnabled =
         isLocalSlashingProtectionSynchronizedModeEnabled;
+    this.localSlashingProtectionGroupCommitEnabled = localSlashingProtectionGroupCommitEnabled;
     this.dvtSelectionsEndpointEnabled = dvtSelectionsEndpointEnabled;
     this.attestationsV2ApisEnabled = attestationsV2ApisEnabled;
 
@@ -242,6 +250,10 @@ public class ValidatorConfig {
     return validatorExternalSignerConcurrentRequestLimit;
   }
 
+  public boolean isValidatorExternalSignerBulkSigningEnabled() {
+    return validatorExternalSignerBulkSigningEnabled;
+  }
+
   public Pair<Path, Path> getValidatorExternalSignerKeystorePasswordFilePair() {
     return Pair.of(validatorExternalSignerKeystore, validatorExternalSignerKeystorePasswordFile);
   }
@@ -370,6 +382,10 @@ public class ValidatorConfig {
     return isLocalSlashingProtectionSynchronizedModeEnabled;
   }
 
+  public boolean isLocalSlashingProtectionGroupCommitEnabled() {
+    return localSlashingProtectionGroupCommitEnabled;
+  }
+
   public boolean isDvtSelectionsEndpointEnabled() {
     return dvtSelectionsEndpointEnabled;
   }
@@ -385,6 +401,8 @@ public class ValidatorConfig {
     private Optional<String> validatorExternalSignerUserInfo = Optional.empty();
     private int validatorExternalSignerConcurrentRequestLimit =
         DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT;
+    private boolean validatorExternalSignerBulkSigningEnabled =
+        DEFAULT_VALIDATOR_EXTERNAL_SIGNER_BULK_SIGNING_ENABLED;
     private Duration validatorExternalSignerTimeout = DEFAULT_VALIDATOR_EXTERNAL_SIGNER_TIMEOUT;
     private Path validatorExternalSignerKeystore;
     private Path validatorExternalSignerKeystorePasswordFile;
@@ -430,6 +448,8 @@ public class ValidatorConfig {
     private int executorThreads = DEFAULT_VALIDATOR_EXECUTOR_THREADS;
     private boolean isLocalSlashingProtectionSynchronizedModeEnabled =
         DEFAULT_VALIDATOR_IS_LOCAL_SLASHING_PROTECTION_SYNCHRONIZED_ENABLED;
+    private boolean localSlashingProtectionGroupCommitEnabled =
+        DEFAULT_LOCAL_SLASHING_PROTECTION_GROUP_COMMIT_ENABLED;
     private boolean dvtSelectionsEndpointEnabled = DEFAULT_OBOL_DVT_SELECTIONS_ENDPOINT_ENABLED;
     private boolean attestationsV2ApisEnabled = DEFAULT_ATTESTATIONS_V2_APIS_ENABLED;
 
@@ -486,6 +506,12 @@ public class ValidatorConfig {
       return this;
     }
 
+    public Builder validatorExternalSignerBulkSigningEnabled(
+        final boolean validatorExternalSignerBulkSigningEnabled) {
+      this.validatorExternalSignerBulkSigningEnabled = validatorExternalSignerBulkSigningEnabled;
+      return this;
+    }
+
     public Builder validatorExternalSignerKeystore(final Path validatorExternalSignerKeystore) {
       this.validatorExternalSignerKeystore = validatorExternalSignerKeystore;
       return this;
@@ -686,6 +712,12 @@ public class ValidatorConfig {
       return this;
     }
 
+    public Builder localSlashingProtectionGroupCommitEnabled(
+        final boolean localSlashingProtectionGroupCommitEnabled) {
+      this.localSlashingProtectionGroupCommitEnabled = localSlashingProtectionGroupCommitEnabled;
+      return this;
+    }
+
     public Builder obolDvtSelectionsEndpointEnabled(final boolean dvtSelectionsEndpointEnabled) {
       this.dvtSelectionsEndpointEnabled = dvtSelectionsEndpointEnabled;
       return this;
@@ -718,6 +750,7 @@ public class ValidatorConfig {
           validatorKeystoreLockingEnabled,
           validatorExternalSignerSlashingProtectionEnabled,
           validatorExternalSignerConcurrentRequestLimit,
+          validatorExternalSignerBulkSigningEnabled,
           generateEarlyAttestations,
           proposerDefaultFeeRecipient,
           proposerConfigSource,
@@ -740,6 +773,7 @@ public class ValidatorConfig {
           beaconApiReadinessExecutorThreads,
           sentryNodeConfigurationFile,
           isLocalSlashingProtectionSynchronizedModeEnabled,
+          localSlashingProtectionGroupCommitEnabled,
           dvtSelectionsEndpointEnabled,
           attestationsV2ApisEnabled);
     }
@@ -0,0 +1,172 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue.DEFAULT_MAXIMUM_QUEUE_SIZE;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_PRECONDITION_FAILED;
+import static tech.pegasys.teku.validator.client.signer.ExternalSignerTestUtil.validateMetrics;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockserver.model.Delay;
+import org.mockserver.verify.VerificationTimes;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.time.SystemTimeProvider;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock;
+import tech.pegasys.teku.validator.api.ValidatorConfig;
+import tech.pegasys.teku.validator.client.loader.HttpClientExternalSignerFactory;
+
+public class ExternalSignerAdaptiveConcurrencyIntegrationTest
+    extends AbstractExternalSignerIntegrationTest {
+
+  private static final int MAXIMUM_CONCURRENT_REQUESTS = 8;
+  private static final BLSSignature SIGNATURE =
+      BLSSignature.fromBytesCompressed(
+          Bytes.fromBase64String(
+              "luIZGEgsjSbFo4MEPVeqaqqm1AnnTODcxFy9gPmdAywVmDIpqkzYed8DJ2l4zx5WAejUTox+NO5HQ4M2APMNovd7FuqnCSVUEftrL4WtJqegPrING2ZCtVTrcaUzFpUQ"));
+
+  private HttpClient httpClient;
+  private AdaptiveExternalSignerTaskQueue taskQueue;
+  private ExternalSigner bulkSigningExternalSigner;
+
+  @Override
+  public Spec getSpec() {
+    return TestSpecFactory.createMinimalPhase0();
+  }
+
+  @BeforeEach
+  void setupBulkSigning() throws MalformedURLException {
+    final ValidatorConfig config =
+        ValidatorConfig.builder()
+            .validatorExternalSignerPublicKeySources(List.of(KEYPAIR.getPublicKey().toString()))
+            .validatorExternalSignerUrl(
+                URI.create("http://127.0.0.1:" + client.getLocalPort()).toURL())
+            .validatorExternalSignerTimeout(TIMEOUT)
+            .validatorExternalSignerBulkSigningEnabled(true)
+            .build();
+    httpClient = HttpClientExternalSignerFactory.create(config).get();
+    taskQueue =
+        AdaptiveExternalSignerTaskQueue.create(
+            MAXIMUM_CONCURRENT_REQUESTS,
+            DEFAULT_MAXIMUM_QUEUE_SIZE,
+            TIMEOUT.dividedBy(2),
+            metricsSystem,
+            new SystemTimeProvider());
+    bulkSigningExternalSigner =
+        new ExternalSigner(
+            spec,
+            httpClient,
+            config.getValidatorExternalSignerUrl(),
+            KEYPAIR.getPublicKey(),
+            TIMEOUT,
+            taskQueue,
+            metricsSystem,
+            true);
+  }
+
+  @Test
+  void shouldSignConcurrentRequestsUsingHttp2Client() {
+    client.when(request()).respond(response().withBody(SIGNATURE.toString()));
+
+    final List<SafeFuture<BLSSignature>> signatures =
+        IntStream.range(0, MAXIMUM_CONCURRENT_REQUESTS * 2)
+            .mapToObj(
+                i ->
+                    bulkSigningExternalSigner.signBlock(
+                        dataStructureUtil.randomBeaconBlock(i), forkInfo))
+            .toList();
+
+    assertThat(httpClient.version()).isEqualTo(HttpClient.Version.HTTP_2);
+    assertThat(SafeFuture.collectAll(signatures.stream()).join())
+        .hasSize(MAXIMUM_CONCURRENT_REQUESTS * 2)
+        .containsOnly(SIGNATURE);
+    client.verify(
+        request().withPath(ExternalSigner.EXTERNAL_SIGNER_ENDPOINT + "/" + KEYPAIR.getPublicKey()),
+        VerificationTimes.exactly(MAXIMUM_CONCURRENT_REQUESTS * 2));
+    validateMetrics(metricsSystem, MAXIMUM_CONCURRENT_REQUESTS * 2, 0, 0);
+  }
+
+  @Test
+  void shouldReduceConcurrencyLimitWhileSignerIsSlowAndRecoverOnceItIsFast() {
+    // Slower than the latency threshold (half the timeout) but still within the timeout
+    final Delay delay = new Delay(MILLISECONDS, TIMEOUT.multipliedBy(3).dividedBy(4).toMillis());
+    client.when(request()).respond(response().withBody(SIGNATURE.toString()).withDelay(delay));
+
+    signBlocks(4);
+
+    final double reducedLimit = taskQueue.getConcurrencyLimit();
+    assertThat(reducedLimit).isLessThan(MAXIMUM_CONCURRENT_REQUESTS);
+    assertThat(taskQueue.getMaximumConcurrentTasks()).isLessThan(MAXIMUM_CONCURRENT_REQUESTS);
+
+    client.reset();
+    client.when(request()).respond(response().withBody(SIGNATURE.toString()));
+
+    signBlocks(8);
+
+    assertThat(taskQueue.getConcurrencyLimit()).isGreaterThan(reducedLimit);
+    validateMetrics(metricsSystem, 12, 0, 0);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {429, 500, 503})
+  void shouldReduceConcurrencyLimitWhenSignerIsOverloaded(final int statusCode) {
+    client.when(request()).respond(response().withStatusCode(statusCode));
+
+    final BeaconBlock block = dataStructureUtil.randomBeaconBlock(10);
+    assertThatThrownBy(() -> bulkSigningExternalSigner.signBlock(block, forkInfo).join())
+        .hasCauseInstanceOf(ExternalSignerOverloadedException.class)
+        .hasMessageEndingWith("Invalid response status code: " + statusCode);
+
+    assertThat(taskQueue.getConcurrencyLimit())
+        .isEqualTo(MAXIMUM_CONCURRENT_REQUESTS * AdaptiveExternalSignerTaskQueue.BACKOFF_RATIO);
+    validateMetrics(metricsSystem, 0, 1, 0);
+  }
+
+  @Test
+  void shouldNotReduceConcurrencyLimitWhenSignerRefusesToSign() {
+    client.when(request()).respond(response().withStatusCode(SC_PRECONDITION_FAILED));
+
+    final BeaconBlock block = dataStructureUtil.randomBeaconBlock(10);
+    assertThatThrownBy(() -> bulkSigningExternalSigner.signBlock(block, forkInfo).join())
+        .hasCauseInstanceOf(ExternalSignerException.class);
+
+    assertThat(taskQueue.getConcurrencyLimit()).isEqualTo(MAXIMUM_CONCURRENT_REQUESTS);
+  }
+
+  private void signBlocks(final int count) {
+    for (int i = 0; i < count; i++) {
+      assertThat(
+              bulkSigningExternalSigner
+                  .signBlock(dataStructureUtil.randomBeaconBlock(i), forkInfo)
+                  .join())
+          .isEqualTo(SIGNATURE);
+    }
+  }
+}
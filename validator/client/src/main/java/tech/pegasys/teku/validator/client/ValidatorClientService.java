@@ -17,6 +17,7 @@ import static tech.pegasys.teku.infrastructure.exceptions.ExitConstants.FATAL_EX
 import static tech.pegasys.teku.infrastructure.logging.StatusLogger.STATUS_LOG;
 import static tech.pegasys.teku.infrastructure.logging.ValidatorLogger.VALIDATOR_LOGGER;
 
+import java.io.IOException;
 import java.net.http.HttpClient;
 import java.nio.file.Path;
 import java.time.Duration;
@@ -52,6 +53,7 @@ import tech.pegasys.teku.service.serviceutils.ServiceConfig;
 import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.signatures.GroupCommitSlashingProtector;
 import tech.pegasys.teku.spec.signatures.LocalSlashingProtector;
 import tech.pegasys.teku.spec.signatures.LocalSlashingProtectorConcurrentAccess;
 import tech.pegasys.teku.spec.signatures.SlashingProtector;
@@ -429,11 +431,7 @@ public class ValidatorClientService extends Service {
       final Function<BLSPublicKey, Optional<Bytes32>> updatableGraffitiProvider) {
     final Path slashingProtectionPath = getSlashingProtectionPath(services.getDataDirLayout());
     final SlashingProtector slashingProtector =
-        config.getValidatorConfig().isLocalSlashingProtectionSynchronizedModeEnabled()
-            ? new LocalSlashingProtector(
-                SyncDataAccessor.create(slashingProtectionPath), slashingProtectionPath)
-            : new LocalSlashingProtectorConcurrentAccess(
-                SyncDataAccessor.create(slashingProtectionPath), slashingProtectionPath);
+        createSlashingProtector(config.getValidatorConfig(), slashingProtectionPath);
     final SlashingProtectionLogger slashingProtectionLogger =
         new SlashingProtectionLogger(
             slashingProtector, config.getSpec(), asyncRunner, VALIDATOR_LOGGER);
@@ -457,6 +455,26 @@ public class ValidatorClientService extends Service {
         updatableGraffitiProvider);
   }
 
+  private static SlashingProtector createSlashingProtector(
+      final ValidatorConfig validatorConfig, final Path slashingProtectionPath) {
+    final SyncDataAccessor dataAccessor = SyncDataAccessor.create(slashingProtectionPath);
+    if (validatorConfig.isLocalSlashingProtectionGroupCommitEnabled()) {
+      return GroupCommitSlashingProtector.create(dataAccessor, slashingProtectionPath);
+    }
+    try {
+      // Records written while group commit was enabled are only in its log
+      GroupCommitSlashingProtector.moveLogRecordsToFiles(dataAccessor, slashingProtectionPath);
+    } catch (final IOException e) {
+      throw new IllegalStateException(
+          "Unable to move slashing protection log records to per-validator files in "
+              + slashingProtectionPath,
+          e);
+    }
+    return validatorConfig.isLocalSlashingProtectionSynchronizedModeEnabled()
+        ? new LocalSlashingProtector(dataAccessor, slashingProtectionPath)
+        : new LocalSlashingProtectorConcurrentAccess(dataAccessor, slashingProtectionPath);
+  }
+
   private void initializeValidators(
       final ValidatorApiChannel validatorApiChannel, final AsyncRunner asyncRunner) {
     validatorLoader.loadValidators();
@@ -35,6 +35,7 @@ class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
   private final ThrottlingTaskQueueWithPriority externalSignerTaskQueue;
   private final MetricsSystem metricsSystem;
   private final boolean readOnly;
+  private final boolean bulkSigningEnabled;
 
   ExternalValidatorProvider(
       final Spec spec,
@@ -44,7 +45,8 @@ class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
       final Duration externalSignerTimeout,
       final ThrottlingTaskQueueWithPriority externalSignerTaskQueue,
       final MetricsSystem metricsSystem,
-      final boolean readOnly) {
+      final boolean readOnly,
+      final boolean bulkSigningEnabled) {
     this.spec = spec;
     this.externalSignerHttpClientFactory = externalSignerHttpClientFactory;
     this.externalSignerUrl = externalSignerUrl;
@@ -53,6 +55,7 @@ class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
     this.externalSignerTaskQueue = externalSignerTaskQueue;
     this.metricsSystem = metricsSystem;
     this.readOnly = readOnly;
+    this.bulkSigningEnabled = bulkSigningEnabled;
   }
 
   @Override
@@ -74,7 +77,8 @@ class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
         publicKey,
         externalSignerTimeout,
         externalSignerTaskQueue,
-        metricsSystem);
+        metricsSystem,
+        bulkSigningEnabled);
   }
 
   @VisibleForTesting
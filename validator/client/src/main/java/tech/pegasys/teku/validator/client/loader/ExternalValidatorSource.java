@@ -123,7 +123,8 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
                     config.getValidatorExternalSignerTimeout(),
                     externalSignerTaskQueue,
                     metricsSystem,
-                    readOnly))
+                    readOnly,
+                    config.isValidatorExternalSignerBulkSigningEnabled()))
         .toList();
   }
 
@@ -156,7 +157,8 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
           config.getValidatorExternalSignerTimeout(),
           externalSignerTaskQueue,
           metricsSystem,
-          readOnly);
+          readOnly,
+          config.isValidatorExternalSignerBulkSigningEnabled());
 
     } catch (IOException e) {
       throw new InvalidConfigurationException(e.getMessage(), e);
@@ -236,7 +238,8 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
               config.getValidatorExternalSignerTimeout(),
               externalSignerTaskQueue,
               metricsSystem,
-              readOnly);
+              readOnly,
+              config.isValidatorExternalSignerBulkSigningEnabled());
 
       externalValidatorSourceMap.put(publicKey, url);
       return new AddValidatorResult(PostKeyResult.success(), Optional.of(provider.createSigner()));
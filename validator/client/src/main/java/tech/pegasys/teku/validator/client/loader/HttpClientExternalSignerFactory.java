@@ -52,7 +52,14 @@ public class HttpClientExternalSignerFactory implements Supplier<HttpClient> {
 
   @Override
   public HttpClient get() {
-    final HttpClient.Builder builder = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1);
+    // HTTP/2 multiplexes concurrent signing requests over a single connection when the signer
+    // supports it, otherwise the client falls back to a pool of persistent HTTP/1.1 connections
+    final HttpClient.Builder builder =
+        HttpClient.newBuilder()
+            .version(
+                validatorConfig.isValidatorExternalSignerBulkSigningEnabled()
+                    ? HttpClient.Version.HTTP_2
+                    : HttpClient.Version.HTTP_1_1);
     if (isTLSEnabled()) {
       validatorConfig
           .getValidatorExternalSignerUserInfo()
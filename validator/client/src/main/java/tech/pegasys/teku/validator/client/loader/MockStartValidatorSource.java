@@ -88,7 +88,8 @@ public class MockStartValidatorSource implements ValidatorSource {
         config.getValidatorExternalSignerTimeout(),
         externalSignerTaskQueue,
         metricsSystem,
-        true);
+        true,
+        config.isValidatorExternalSignerBulkSigningEnabled());
   }
 
   @Override
@@ -27,6 +27,7 @@ import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
 import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueueWithPriority;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.SystemTimeProvider;
 import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.signatures.SlashingProtector;
@@ -34,6 +35,7 @@ import tech.pegasys.teku.validator.api.InteropConfig;
 import tech.pegasys.teku.validator.api.KeyStoreFilesLocator;
 import tech.pegasys.teku.validator.api.ValidatorConfig;
 import tech.pegasys.teku.validator.client.ValidatorClientService;
+import tech.pegasys.teku.validator.client.signer.AdaptiveExternalSignerTaskQueue;
 
 /**
  * ValidatorSourceFactory creates the validator sources that control loading, and sometimes removal,
@@ -237,7 +239,15 @@ public class ValidatorSourceFactory {
   }
 
   private ThrottlingTaskQueueWithPriority initializeExternalSignerTaskQueue() {
-    if (externalSignerTaskQueue == null) {
+    if (externalSignerTaskQueue == null && config.isValidatorExternalSignerBulkSigningEnabled()) {
+      externalSignerTaskQueue =
+          AdaptiveExternalSignerTaskQueue.create(
+              config.getValidatorExternalSignerConcurrentRequestLimit(),
+              ThrottlingTaskQueue.DEFAULT_MAXIMUM_QUEUE_SIZE,
+              config.getValidatorExternalSignerTimeout().dividedBy(2),
+              metricsSystem,
+              new SystemTimeProvider());
+    } else if (externalSignerTaskQueue == null) {
       externalSignerTaskQueue =
           ThrottlingTaskQueueWithPriority.create(
               config.getValidatorExternalSignerConcurrentRequestLimit(),
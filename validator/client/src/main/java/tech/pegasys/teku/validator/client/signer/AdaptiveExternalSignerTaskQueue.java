@@ -0,0 +1,157 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueueWithPriority;
+import tech.pegasys.teku.infrastructure.metrics.MetricsQuantileHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * A task queue for external signer requests which adjusts the number of concurrent requests based
+ * on how the signer is responding (additive increase, multiplicative decrease).
+ *
+ * <p>Each request completing within the latency threshold grows the limit by {@code 1 / limit} up
+ * to the configured maximum. A request which exceeds the threshold, fails with an I/O error
+ * (including timeouts) or is answered with 429 Too Many Requests or a server error shrinks the
+ * limit by {@link #BACKOFF_RATIO}, down to {@link #MINIMUM_CONCURRENT_TASKS}. Rejections from the
+ * signer, such as slashing protection refusals, do not affect the limit.
+ */
+public class AdaptiveExternalSignerTaskQueue extends ThrottlingTaskQueueWithPriority {
+  static final int MINIMUM_CONCURRENT_TASKS = 1;
+  static final double BACKOFF_RATIO = 0.9;
+
+  private final TimeProvider timeProvider;
+  private final int maximumConcurrentTasks;
+  private final long latencyThresholdMillis;
+  private final MetricsQuantileHistogram latencyHistogram;
+
+  private double concurrencyLimit;
+
+  private AdaptiveExternalSignerTaskQueue(
+      final int maximumConcurrentTasks,
+      final int maximumQueueSize,
+      final Duration latencyThreshold,
+      final MetricsQuantileHistogram latencyHistogram,
+      final TimeProvider timeProvider) {
+    super(maximumConcurrentTasks, maximumQueueSize);
+    this.maximumConcurrentTasks = maximumConcurrentTasks;
+    this.latencyThresholdMillis = latencyThreshold.toMillis();
+    this.latencyHistogram = latencyHistogram;
+    this.timeProvider = timeProvider;
+    this.concurrencyLimit = maximumConcurrentTasks;
+  }
+
+  public static AdaptiveExternalSignerTaskQueue create(
+      final int maximumConcurrentTasks,
+      final int maximumQueueSize,
+      final Duration latencyThreshold,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider) {
+    final MetricsQuantileHistogram latencyHistogram =
+        MetricsQuantileHistogram.create(
+            TekuMetricCategory.VALIDATOR,
+            metricsSystem,
+            "external_signer_request_latency_milliseconds",
+            "Time taken for the external signer to respond to a signing request",
+            3,
+            List.of("priority"));
+    final AdaptiveExternalSignerTaskQueue taskQueue =
+        registerMetrics(
+            new AdaptiveExternalSignerTaskQueue(
+                maximumConcurrentTasks,
+                maximumQueueSize,
+                latencyThreshold,
+                latencyHistogram,
+                timeProvider),
+            metricsSystem,
+            TekuMetricCategory.VALIDATOR,
+            "external_signer_request_queue_size",
+            "external_signer_request_queue_rejected");
+    metricsSystem.createIntegerGauge(
+        TekuMetricCategory.VALIDATOR,
+        "external_signer_concurrency_limit",
+        "Current limit on concurrent requests to the external signer",
+        taskQueue::getMaximumConcurrentTasks);
+    return taskQueue;
+  }
+
+  @Override
+  public <T> SafeFuture<T> queueTask(final Supplier<SafeFuture<T>> request) {
+    return super.queueTask(trackCompletion(request, "normal"));
+  }
+
+  @Override
+  public <T> SafeFuture<T> queueTask(
+      final Supplier<SafeFuture<T>> request, final boolean prioritize) {
+    if (!prioritize) {
+      return queueTask(request);
+    }
+    return super.queueTask(trackCompletion(request, "high"), true);
+  }
+
+  @Override
+  protected synchronized int getMaximumConcurrentTasks() {
+    return Math.max(MINIMUM_CONCURRENT_TASKS, (int) concurrencyLimit);
+  }
+
+  @VisibleForTesting
+  synchronized double getConcurrencyLimit() {
+    return concurrencyLimit;
+  }
+
+  private <T> Supplier<SafeFuture<T>> trackCompletion(
+      final Supplier<SafeFuture<T>> request, final String priority) {
+    return () -> {
+      final UInt64 startTime = timeProvider.getTimeInMillis();
+      return request
+          .get()
+          .whenComplete((__, error) -> onRequestComplete(startTime, priority, error));
+    };
+  }
+
+  private void onRequestComplete(
+      final UInt64 startTime, final String priority, final Throwable error) {
+    final long latencyMillis = timeProvider.getTimeInMillis().minusMinZero(startTime).longValue();
+    latencyHistogram.recordValue(latencyMillis, priority);
+    if (latencyMillis > latencyThresholdMillis || (error != null && isOverloadError(error))) {
+      decreaseLimit();
+    } else if (error == null) {
+      increaseLimit();
+    }
+  }
+
+  private synchronized void increaseLimit() {
+    concurrencyLimit = Math.min(maximumConcurrentTasks, concurrencyLimit + 1 / concurrencyLimit);
+  }
+
+  private synchronized void decreaseLimit() {
+    concurrencyLimit = Math.max(MINIMUM_CONCURRENT_TASKS, concurrencyLimit * BACKOFF_RATIO);
+  }
+
+  private static boolean isOverloadError(final Throwable error) {
+    return Throwables.getRootCause(error) instanceof IOException
+        || Throwables.getCausalChain(error).stream()
+            .anyMatch(ExternalSignerOverloadedException.class::isInstance);
+  }
+}
@@ -13,8 +13,10 @@
 
 package tech.pegasys.teku.validator.client.signer;
 
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_INTERNAL_SERVER_ERROR;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_PRECONDITION_FAILED;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_TOO_MANY_REQUESTS;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.annotations.VisibleForTesting;
@@ -29,8 +31,10 @@ import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandlers;
 import java.net.http.HttpTimeoutException;
 import java.time.Duration;
+import java.util.EnumSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import org.apache.tuweni.bytes.Bytes;
@@ -73,12 +77,26 @@ import tech.pegasys.teku.validator.api.signer.SyncCommitteeMessageWrapper;
 public class ExternalSigner implements Signer {
   public static final String EXTERNAL_SIGNER_ENDPOINT = "/api/v1/eth2/sign";
   public static final String FORK_INFO = "fork_info";
+
+  // Background requests which are always sent via the task queue
+  private static final Set<SignType> THROTTLED_SIGN_TYPES =
+      EnumSet.of(SignType.AGGREGATION_SLOT, SignType.VALIDATOR_REGISTRATION);
+  // Time-sensitive duties which are sent ahead of any other queued requests
+  private static final Set<SignType> PRIORITIZED_SIGN_TYPES =
+      EnumSet.of(
+          SignType.AGGREGATION_SLOT,
+          SignType.ATTESTATION,
+          SignType.BLOCK,
+          SignType.BLOCK_V2,
+          SignType.RANDAO_REVEAL);
+
   private final URL signingServiceUrl;
   private final URI uri;
   private final Duration timeout;
   private final Spec spec;
   private final HttpClient httpClient;
   private final ThrottlingTaskQueueWithPriority taskQueue;
+  private final boolean throttleAllRequests;
   private final SigningRootUtil signingRootUtil;
   private final SchemaDefinitionCache schemaDefinitionCache;
 
@@ -94,11 +112,36 @@ public class ExternalSigner implements Signer {
       final Duration timeout,
       final ThrottlingTaskQueueWithPriority taskQueue,
       final MetricsSystem metricsSystem) {
+    this(
+        spec,
+        httpClient,
+        signingServiceUrl,
+        blsPublicKey,
+        timeout,
+        taskQueue,
+        metricsSystem,
+        false);
+  }
+
+  /**
+   * @param throttleAllRequests when true every signing request is sent via the task queue, rather
+   *     than only background requests, so the queue can bound and prioritise the load on the signer
+   */
+  public ExternalSigner(
+      final Spec spec,
+      final HttpClient httpClient,
+      final URL signingServiceUrl,
+      final BLSPublicKey blsPublicKey,
+      final Duration timeout,
+      final ThrottlingTaskQueueWithPriority taskQueue,
+      final MetricsSystem metricsSystem,
+      final boolean throttleAllRequests) {
     this.spec = spec;
     this.httpClient = httpClient;
     this.signingServiceUrl = signingServiceUrl;
     this.timeout = timeout;
     this.taskQueue = taskQueue;
+    this.throttleAllRequests = throttleAllRequests;
     this.signingRootUtil = new SigningRootUtil(spec);
 
     final LabelledMetric<Counter> labelledCounter =
@@ -171,18 +214,15 @@ public class ExternalSigner implements Signer {
 
   @Override
   public SafeFuture<BLSSignature> signAggregationSlot(final UInt64 slot, final ForkInfo forkInfo) {
-    return taskQueue.queueTask(
-        () ->
-            sign(
-                signingRootUtil.signingRootForSignAggregationSlot(slot, forkInfo),
-                SignType.AGGREGATION_SLOT,
-                Map.of(
-                    SignType.AGGREGATION_SLOT.getName(),
-                    new AggregationSlotWrapper(slot),
-                    FORK_INFO,
-                    forkInfo),
-                slashableGenericMessage("aggregation slot")),
-        true);
+    return sign(
+        signingRootUtil.signingRootForSignAggregationSlot(slot, forkInfo),
+        SignType.AGGREGATION_SLOT,
+        Map.of(
+            SignType.AGGREGATION_SLOT.getName(),
+            new AggregationSlotWrapper(slot),
+            FORK_INFO,
+            forkInfo),
+        slashableGenericMessage("aggregation slot"));
   }
 
   @Override
@@ -268,13 +308,11 @@ public class ExternalSigner implements Signer {
   @Override
   public SafeFuture<BLSSignature> signValidatorRegistration(
       final ValidatorRegistration validatorRegistration) {
-    return taskQueue.queueTask(
-        () ->
-            sign(
-                signingRootUtil.signingRootForValidatorRegistration(validatorRegistration),
-                SignType.VALIDATOR_REGISTRATION,
-                Map.of(SignType.VALIDATOR_REGISTRATION.getName(), validatorRegistration),
-                slashableGenericMessage("validator registration")));
+    return sign(
+        signingRootUtil.signingRootForValidatorRegistration(validatorRegistration),
+        SignType.VALIDATOR_REGISTRATION,
+        Map.of(SignType.VALIDATOR_REGISTRATION.getName(), validatorRegistration),
+        slashableGenericMessage("validator registration"));
   }
 
   // TODO-GLOAS: https://github.com/ethereum/remote-signing-api/issues/23
@@ -317,6 +355,19 @@ public class ExternalSigner implements Signer {
       final SignType type,
       final Map<String, Object> metadata,
       final Supplier<String> slashableMessage) {
+    if (!throttleAllRequests && !THROTTLED_SIGN_TYPES.contains(type)) {
+      return sendSigningRequest(signingRoot, type, metadata, slashableMessage);
+    }
+    return taskQueue.queueTask(
+        () -> sendSigningRequest(signingRoot, type, metadata, slashableMessage),
+        PRIORITIZED_SIGN_TYPES.contains(type));
+  }
+
+  private SafeFuture<BLSSignature> sendSigningRequest(
+      final Bytes signingRoot,
+      final SignType type,
+      final Map<String, Object> metadata,
+      final Supplier<String> slashableMessage) {
 
     return SafeFuture.of(
             () -> {
@@ -381,6 +432,12 @@ public class ExternalSigner implements Signer {
       throw new ExternalSignerException(slashableMessage.get());
     }
 
+    if (response.statusCode() == SC_TOO_MANY_REQUESTS
+        || response.statusCode() >= SC_INTERNAL_SERVER_ERROR) {
+      throw new ExternalSignerOverloadedException(
+          url, type, "Invalid response status code: " + response.statusCode());
+    }
+
     if (response.statusCode() != SC_OK) {
       throw new ExternalSignerException(
           url, type, "Invalid response status code: " + response.statusCode());
@@ -0,0 +1,28 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import java.net.URI;
+import tech.pegasys.teku.validator.api.signer.SignType;
+
+/**
+ * Thrown when the external signer responds with a status indicating it could not handle the
+ * request, such as 429 Too Many Requests or a server error, rather than refusing to sign.
+ */
+class ExternalSignerOverloadedException extends ExternalSignerException {
+
+  ExternalSignerOverloadedException(final URI url, final SignType type, final String message) {
+    super(url, type, message);
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.validator.api.signer.SignType;
+
+class AdaptiveExternalSignerTaskQueueTest {
+  private static final int MAXIMUM_CONCURRENT_TASKS = 4;
+  private static final Duration LATENCY_THRESHOLD = Duration.ofMillis(100);
+
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(1000);
+  private final AdaptiveExternalSignerTaskQueue taskQueue =
+      AdaptiveExternalSignerTaskQueue.create(
+          MAXIMUM_CONCURRENT_TASKS, 100, LATENCY_THRESHOLD, new StubMetricsSystem(), timeProvider);
+
+  @Test
+  void shouldReduceLimitWhenRequestsAreSlow() {
+    final SafeFuture<Void> request = new SafeFuture<>();
+    taskQueue.queueTask(() -> request);
+
+    timeProvider.advanceTimeByMillis(LATENCY_THRESHOLD.toMillis() + 1);
+    request.complete(null);
+
+    assertThat(taskQueue.getConcurrencyLimit())
+        .isEqualTo(MAXIMUM_CONCURRENT_TASKS * AdaptiveExternalSignerTaskQueue.BACKOFF_RATIO);
+    assertThat(taskQueue.getMaximumConcurrentTasks()).isEqualTo(MAXIMUM_CONCURRENT_TASKS - 1);
+  }
+
+  @Test
+  void shouldReduceLimitWhenRequestsTimeOut() {
+    taskQueue.queueTask(() -> SafeFuture.failedFuture(new HttpTimeoutException("timeout")));
+
+    assertThat(taskQueue.getMaximumConcurrentTasks()).isEqualTo(MAXIMUM_CONCURRENT_TASKS - 1);
+  }
+
+  @Test
+  void shouldReduceLimitWhenSignerIsOverloaded() {
+    taskQueue.queueTask(
+        () ->
+            SafeFuture.failedFuture(
+                new ExternalSignerOverloadedException(
+                    URI.create("http://localhost"), SignType.BLOCK, "too many requests")));
+
+    assertThat(taskQueue.getMaximumConcurrentTasks()).isEqualTo(MAXIMUM_CONCURRENT_TASKS - 1);
+  }
+
+  @Test
+  void shouldNotReduceLimitWhenSignerRejectsRequest() {
+    taskQueue.queueTask(
+        () -> SafeFuture.failedFuture(new ExternalSignerException("slashing protection")));
+
+    assertThat(taskQueue.getConcurrencyLimit()).isEqualTo(MAXIMUM_CONCURRENT_TASKS);
+  }
+
+  @Test
+  void shouldNotReduceLimitBelowMinimum() {
+    for (int i = 0; i < 100; i++) {
+      taskQueue.queueTask(() -> SafeFuture.failedFuture(new HttpTimeoutException("timeout")));
+    }
+
+    assertThat(taskQueue.getMaximumConcurrentTasks())
+        .isEqualTo(AdaptiveExternalSignerTaskQueue.MINIMUM_CONCURRENT_TASKS);
+  }
+
+  @Test
+  void shouldRecoverLimitWhenRequestsAreFast() {
+    for (int i = 0; i < 10; i++) {
+      taskQueue.queueTask(() -> SafeFuture.failedFuture(new HttpTimeoutException("timeout")));
+    }
+    assertThat(taskQueue.getMaximumConcurrentTasks()).isLessThan(MAXIMUM_CONCURRENT_TASKS);
+
+    for (int i = 0; i < 100; i++) {
+      taskQueue.queueTask(() -> SafeFuture.COMPLETE);
+    }
+
+    assertThat(taskQueue.getConcurrencyLimit()).isEqualTo(MAXIMUM_CONCURRENT_TASKS);
+  }
+
+  @Test
+  void shouldOnlyStartRequestsUpToReducedLimit() {
+    taskQueue.queueTask(() -> SafeFuture.failedFuture(new HttpTimeoutException("timeout")));
+    taskQueue.queueTask(() -> SafeFuture.failedFuture(new HttpTimeoutException("timeout")));
+    final int limit = taskQueue.getMaximumConcurrentTasks();
+    assertThat(limit).isLessThan(MAXIMUM_CONCURRENT_TASKS);
+
+    final List<SafeFuture<Void>> requests = new ArrayList<>();
+    for (int i = 0; i < MAXIMUM_CONCURRENT_TASKS; i++) {
+      final SafeFuture<Void> request = new SafeFuture<>();
+      requests.add(request);
+      taskQueue.queueTask(() -> request);
+    }
+
+    assertThat(taskQueue.getInflightTaskCount()).isEqualTo(limit);
+    assertThat(taskQueue.getQueuedTasksCount()).isEqualTo(MAXIMUM_CONCURRENT_TASKS - limit);
+  }
+
+  @Test
+  void shouldRunPrioritizedRequestsFirst() {
+    final List<SafeFuture<Void>> blockingRequests = new ArrayList<>();
+    for (int i = 0; i < MAXIMUM_CONCURRENT_TASKS; i++) {
+      final SafeFuture<Void> request = new SafeFuture<>();
+      blockingRequests.add(request);
+      taskQueue.queueTask(() -> request);
+    }
+    final AtomicBoolean normalRequestStarted = new AtomicBoolean();
+    final AtomicBoolean prioritizedRequestStarted = new AtomicBoolean();
+    taskQueue.queueTask(() -> startRequest(normalRequestStarted));
+    taskQueue.queueTask(() -> startRequest(prioritizedRequestStarted), true);
+
+    blockingRequests.getFirst().complete(null);
+
+    assertThat(prioritizedRequestStarted).isTrue();
+    assertThat(normalRequestStarted).isFalse();
+  }
+
+  private SafeFuture<Void> startRequest(final AtomicBoolean started) {
+    started.set(true);
+    return new SafeFuture<>();
+  }
+}